@@ -177,8 +177,14 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
     }
 
     public AppEngine buildAppEngine() {
-        init();
-        return new AppEngineImpl(this);
+        timeInitPhase("init", this::init);
+
+        long startTime = System.nanoTime();
+        AppEngine appEngine = new AppEngineImpl(this);
+        addInitPhaseDuration("engine creation", startTime);
+
+        logInitPhaseDurations();
+        return appEngine;
     }
 
     protected void init() {
@@ -214,6 +220,7 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
         initEntityManagers();
         initDeployers();
         initAppDefinitionCache();
+        initLatestDefinitionCache();
         initAppResourceConverter();
         initDeploymentManager();
         initClock();
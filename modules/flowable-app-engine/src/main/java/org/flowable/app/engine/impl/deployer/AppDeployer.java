@@ -26,6 +26,7 @@ import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.impl.EngineDeployer;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -77,6 +78,11 @@ public class AppDeployer implements EngineDeployer {
                     newAppDefinition.setResourceName(resourceName);
                     appDefinitionEntityManager.insert(newAppDefinition, false);
                     updateCachingAndArtifacts(newAppDefinition, appResourceModel, deploymentEntity);
+
+                    LatestDefinitionCache latestDefinitionCache = appEngineConfiguration.getLatestDefinitionCache();
+                    if (latestDefinitionCache != null) {
+                        latestDefinitionCache.putOnCommit(newAppDefinition.getKey(), newAppDefinition.getTenantId(), newAppDefinition.getId(), version);
+                    }
                     
                 } else {
                     AppDefinitionEntity appDefinitionEntity = getPersistedInstanceOfAppDefinition(appResourceModel.getKey(), deployment.getId(), deployment.getTenantId());
@@ -91,6 +97,13 @@ public class AppDeployer implements EngineDeployer {
     
     protected AppDefinitionEntity getMostRecentVersionOfAppDefinition(AppModel appModel, String tenantId) {
         AppDefinitionEntityManager appDefinitionEntityManager = CommandContextUtil.getAppDefinitionEntityManager();
+
+        // The version of the new app definition is always calculated from the database
+        LatestDefinitionCache latestDefinitionCache = CommandContextUtil.getAppEngineConfiguration().getLatestDefinitionCache();
+        if (latestDefinitionCache != null) {
+            latestDefinitionCache.evict(appModel.getKey(), tenantId);
+        }
+
         AppDefinitionEntity existingAppDefinition = null;
         if (tenantId != null && !tenantId.equals(AppEngineConfiguration.NO_TENANT_ID)) {
             existingAppDefinition = appDefinitionEntityManager.findLatestAppDefinitionByKeyAndTenantId(appModel.getKey(), tenantId);
@@ -14,12 +14,15 @@
 package org.flowable.app.engine.impl.persistence.entity;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.flowable.app.api.repository.AppDefinition;
 import org.flowable.app.api.repository.AppDefinitionQuery;
 import org.flowable.app.engine.AppEngineConfiguration;
 import org.flowable.app.engine.impl.persistence.entity.data.AppDefinitionDataManager;
+import org.flowable.app.engine.impl.persistence.entity.deploy.AppDefinitionCacheEntry;
 import org.flowable.app.engine.impl.repository.AppDefinitionQueryImpl;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 
 
@@ -42,12 +45,42 @@ public class AppDefinitionEntityManagerImpl extends AbstractAppEntityManager<App
 
     @Override
     public AppDefinitionEntity findLatestAppDefinitionByKey(String appDefinitionKey) {
-        return appDefinitionDataManager.findLatestAppDefinitionByKey(appDefinitionKey);
+        return findLatestAppDefinition(appDefinitionKey, null,
+                () -> appDefinitionDataManager.findLatestAppDefinitionByKey(appDefinitionKey));
     }
 
     @Override
     public AppDefinitionEntity findLatestAppDefinitionByKeyAndTenantId(String appDefinitionKey, String tenantId) {
-        return appDefinitionDataManager.findLatestAppDefinitionByKeyAndTenantId(appDefinitionKey, tenantId);
+        return findLatestAppDefinition(appDefinitionKey, tenantId,
+                () -> appDefinitionDataManager.findLatestAppDefinitionByKeyAndTenantId(appDefinitionKey, tenantId));
+    }
+
+    protected AppDefinitionEntity findLatestAppDefinition(String appDefinitionKey, String tenantId, Supplier<AppDefinitionEntity> query) {
+        LatestDefinitionCache latestDefinitionCache = appEngineConfiguration.getLatestDefinitionCache();
+        if (latestDefinitionCache == null) {
+            return query.get();
+        }
+
+        String appDefinitionId = latestDefinitionCache.getDefinitionId(appDefinitionKey, tenantId);
+        if (appDefinitionId != null) {
+            AppDefinitionCacheEntry cacheEntry = appEngineConfiguration.getAppDefinitionCache().get(appDefinitionId);
+            if (cacheEntry != null) {
+                return (AppDefinitionEntity) cacheEntry.getAppDefinition();
+            }
+
+            AppDefinitionEntity latestAppDefinition = findById(appDefinitionId);
+            if (latestAppDefinition != null) {
+                return latestAppDefinition;
+            }
+
+            latestDefinitionCache.remove(appDefinitionKey, tenantId);
+        }
+
+        AppDefinitionEntity appDefinition = query.get();
+        if (appDefinition != null) {
+            latestDefinitionCache.put(appDefinitionKey, tenantId, appDefinition.getId(), appDefinition.getVersion());
+        }
+        return appDefinition;
     }
 
     @Override
@@ -22,6 +22,7 @@ import org.flowable.app.engine.AppEngineConfiguration;
 import org.flowable.app.engine.impl.persistence.entity.data.AppDeploymentDataManager;
 import org.flowable.app.engine.impl.repository.AppDeploymentQueryImpl;
 import org.flowable.common.engine.api.repository.EngineResource;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 
 /**
@@ -55,7 +56,12 @@ public class AppDeploymentEntityManagerImpl extends AbstractAppEntityManager<App
     public void deleteDeploymentAndRelatedData(String deploymentId, boolean cascade) {
         AppDefinitionEntityManager appDefinitionEntityManager = getAppDefinitionEntityManager();
         List<AppDefinition> appDefinitions = appDefinitionEntityManager.createAppDefinitionQuery().deploymentId(deploymentId).list();
+        LatestDefinitionCache latestDefinitionCache = appEngineConfiguration.getLatestDefinitionCache();
         for (AppDefinition appDefinition : appDefinitions) {
+            if (latestDefinitionCache != null) {
+                latestDefinitionCache.evict(appDefinition.getKey(), appDefinition.getTenantId());
+            }
+
             if (cascade) {
                 appDefinitionEntityManager.deleteAppDefinitionAndRelatedData(appDefinition.getId());
             } else {
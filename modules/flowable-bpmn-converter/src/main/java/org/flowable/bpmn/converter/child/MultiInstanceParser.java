@@ -17,7 +17,9 @@ import java.util.Map;
 
 import javax.xml.stream.XMLStreamReader;
 
+import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.converter.util.BpmnXMLUtil;
+import org.flowable.bpmn.exceptions.XMLException;
 import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.BaseElement;
 import org.flowable.bpmn.model.BpmnModel;
@@ -46,6 +48,10 @@ public class MultiInstanceParser extends BaseChildElementParser {
         multiInstanceDef.setInputDataItem(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_COLLECTION, xtr));
         multiInstanceDef.setElementVariable(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_VARIABLE, xtr));
         multiInstanceDef.setElementIndexVariable(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_INDEX_VARIABLE, xtr));
+        String partitionSize = BpmnXMLUtil.getAttributeValue(ATTRIBUTE_MULTIINSTANCE_PARTITION_SIZE, xtr);
+        if (StringUtils.isNotEmpty(partitionSize)) {
+            multiInstanceDef.setPartitionSize(parsePartitionSize(partitionSize, parentElement));
+        }
 
         boolean readyWithMultiInstance = false;
         try {
@@ -82,4 +88,17 @@ public class MultiInstanceParser extends BaseChildElementParser {
 
         ((Activity) parentElement).setLoopCharacteristics(multiInstanceDef);
     }
+
+    protected int parsePartitionSize(String partitionSize, BaseElement parentElement) {
+        int value;
+        try {
+            value = Integer.parseInt(partitionSize.trim());
+        } catch (NumberFormatException e) {
+            throw new XMLException("'" + partitionSize + "' is not a valid partitionSize for multi instance activity " + parentElement.getId() + ", it must be a positive number");
+        }
+        if (value <= 0) {
+            throw new XMLException("'" + partitionSize + "' is not a valid partitionSize for multi instance activity " + parentElement.getId() + ", it must be a positive number");
+        }
+        return value;
+    }
 }
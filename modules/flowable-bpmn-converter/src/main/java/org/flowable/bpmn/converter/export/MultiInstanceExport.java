@@ -46,6 +46,9 @@ public class MultiInstanceExport implements BpmnXMLConstants {
                 if (StringUtils.isNotEmpty(multiInstanceObject.getElementVariable())) {
                     BpmnXMLUtil.writeQualifiedAttribute(ATTRIBUTE_MULTIINSTANCE_VARIABLE, multiInstanceObject.getElementVariable(), xtw);
                 }
+                if (multiInstanceObject.getPartitionSize() > 0) {
+                    BpmnXMLUtil.writeQualifiedAttribute(ATTRIBUTE_MULTIINSTANCE_PARTITION_SIZE, String.valueOf(multiInstanceObject.getPartitionSize()), xtw);
+                }
 
                 // check for collection element handler extension first since process validation is order-dependent
                 if (handler != null) {
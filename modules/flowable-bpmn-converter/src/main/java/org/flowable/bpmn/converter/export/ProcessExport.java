@@ -33,7 +33,8 @@ public class ProcessExport implements BpmnXMLConstants {
             new ExtensionAttribute(ATTRIBUTE_PROCESS_EXECUTABLE),
             new ExtensionAttribute(ATTRIBUTE_PROCESS_CANDIDATE_USERS),
             new ExtensionAttribute(ATTRIBUTE_PROCESS_CANDIDATE_GROUPS),
-            new ExtensionAttribute(ATTRIBUTE_PROCESS_EAGER_EXECUTION_FETCHING));
+            new ExtensionAttribute(ATTRIBUTE_PROCESS_EAGER_EXECUTION_FETCHING),
+            new ExtensionAttribute(ATTRIBUTE_PROCESS_STRAIGHT_THROUGH));
 
     @SuppressWarnings("unchecked")
     public static void writeProcess(Process process, XMLStreamWriter xtw) throws Exception {
@@ -59,6 +60,10 @@ public class ProcessExport implements BpmnXMLConstants {
             xtw.writeAttribute(FLOWABLE_EXTENSIONS_PREFIX, FLOWABLE_EXTENSIONS_NAMESPACE, ATTRIBUTE_PROCESS_EAGER_EXECUTION_FETCHING, "true");
         }
 
+        if (process.isStraightThrough()) {
+            xtw.writeAttribute(FLOWABLE_EXTENSIONS_PREFIX, FLOWABLE_EXTENSIONS_NAMESPACE, ATTRIBUTE_PROCESS_STRAIGHT_THROUGH, "true");
+        }
+
         // write custom attributes
         BpmnXMLUtil.writeCustomAttributes(process.getAttributes().values(), xtw, defaultProcessAttributes);
 
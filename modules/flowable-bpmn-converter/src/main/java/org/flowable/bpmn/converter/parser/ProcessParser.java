@@ -56,6 +56,10 @@ public class ProcessParser implements BpmnXMLConstants {
                 process.setEnableEagerExecutionTreeFetching(
                         Boolean.parseBoolean(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_PROCESS_EAGER_EXECUTION_FETCHING, xtr)));
             }
+
+            if (StringUtils.isNotEmpty(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_PROCESS_STRAIGHT_THROUGH, xtr))) {
+                process.setStraightThrough(Boolean.parseBoolean(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_PROCESS_STRAIGHT_THROUGH, xtr)));
+            }
             
             BpmnXMLUtil.addCustomAttributes(xtr, process, ProcessExport.defaultProcessAttributes);
 
@@ -0,0 +1,80 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.xml;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.flowable.bpmn.exceptions.XMLException;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.UserTask;
+import org.junit.Test;
+
+public class MultiInstancePartitionSizeConverterTest extends AbstractConverterTest {
+
+    @Override
+    protected String getResource() {
+        return null;
+    }
+
+    @Test
+    public void testPartitionSize() throws Exception {
+        BpmnModel bpmnModel = readXMLFile(createProcess("25"));
+        UserTask userTask = (UserTask) bpmnModel.getMainProcess().getFlowElement("miTasks");
+        assertEquals(25, userTask.getLoopCharacteristics().getPartitionSize());
+
+        BpmnModel parsedModel = exportAndReadXMLFile(bpmnModel);
+        userTask = (UserTask) parsedModel.getMainProcess().getFlowElement("miTasks");
+        assertEquals(25, userTask.getLoopCharacteristics().getPartitionSize());
+    }
+
+    @Test
+    public void testInvalidPartitionSize() throws Exception {
+        assertInvalidPartitionSize("many");
+        assertInvalidPartitionSize("0");
+        assertInvalidPartitionSize("-5");
+    }
+
+    protected void assertInvalidPartitionSize(String partitionSize) throws Exception {
+        try {
+            readXMLFile(createProcess(partitionSize));
+            fail("No exception is thrown for partitionSize " + partitionSize);
+        } catch (XMLException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("is not a valid partitionSize for multi instance activity miTasks"));
+        }
+    }
+
+    protected ByteArrayInputStream createProcess(String partitionSize) {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\" xmlns:flowable=\"http://flowable.org/bpmn\""
+                + " targetNamespace=\"http://flowable.org/test\">"
+                + "<process id=\"partitionedProcess\">"
+                + "<startEvent id=\"start\"/>"
+                + "<sequenceFlow id=\"flow1\" sourceRef=\"start\" targetRef=\"miTasks\"/>"
+                + "<userTask id=\"miTasks\">"
+                + "<multiInstanceLoopCharacteristics isSequential=\"false\" flowable:partitionSize=\"" + partitionSize + "\">"
+                + "<loopCardinality>10</loopCardinality>"
+                + "</multiInstanceLoopCharacteristics>"
+                + "</userTask>"
+                + "<sequenceFlow id=\"flow2\" sourceRef=\"miTasks\" targetRef=\"end\"/>"
+                + "<endEvent id=\"end\"/>"
+                + "</process>"
+                + "</definitions>";
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
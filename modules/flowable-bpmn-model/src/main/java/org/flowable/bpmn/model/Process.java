@@ -45,6 +45,7 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
     
     // Performance settings
     protected boolean enableEagerExecutionTreeFetching;
+    protected boolean straightThrough;
 
     public Process() {
 
@@ -392,6 +393,7 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
         }
         
         enableEagerExecutionTreeFetching = otherElement.enableEagerExecutionTreeFetching;
+        straightThrough = otherElement.straightThrough;
 
         eventListeners = new ArrayList<>();
         if (otherElement.getEventListeners() != null && !otherElement.getEventListeners().isEmpty()) {
@@ -456,4 +458,12 @@ public class Process extends BaseElement implements FlowElementsContainer, HasEx
         this.enableEagerExecutionTreeFetching = enableEagerExecutionTreeFetching;
     }
 
+    public boolean isStraightThrough() {
+        return straightThrough;
+    }
+
+    public void setStraightThrough(boolean straightThrough) {
+        this.straightThrough = straightThrough;
+    }
+
 }
@@ -61,6 +61,7 @@ import org.flowable.cmmn.engine.impl.deployer.CmmnDeploymentManager;
 import org.flowable.cmmn.engine.impl.el.CmmnExpressionManager;
 import org.flowable.cmmn.engine.impl.form.DefaultFormFieldHandler;
 import org.flowable.cmmn.engine.impl.function.IsStageCompletableExpressionFunction;
+import org.flowable.cmmn.engine.impl.history.CmmnHistoryCleaningManager;
 import org.flowable.cmmn.engine.impl.history.CmmnHistoryManager;
 import org.flowable.cmmn.engine.impl.history.CmmnHistoryTaskManager;
 import org.flowable.cmmn.engine.impl.history.CmmnHistoryVariableManager;
@@ -98,6 +99,7 @@ import org.flowable.cmmn.engine.impl.idm.DefaultCandidateManager;
 import org.flowable.cmmn.engine.impl.interceptor.CmmnCommandInvoker;
 import org.flowable.cmmn.engine.impl.job.AsyncActivatePlanItemInstanceJobHandler;
 import org.flowable.cmmn.engine.impl.job.AsyncInitializePlanModelJobHandler;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
 import org.flowable.cmmn.engine.impl.job.TriggerTimerEventJobHandler;
 import org.flowable.cmmn.engine.impl.listener.CmmnListenerFactory;
 import org.flowable.cmmn.engine.impl.listener.CmmnListenerNotificationHelper;
@@ -271,6 +273,8 @@ import org.flowable.variable.service.impl.types.IntegerType;
 import org.flowable.variable.service.impl.types.JodaDateTimeType;
 import org.flowable.variable.service.impl.types.JodaDateType;
 import org.flowable.variable.service.impl.types.JsonType;
+import org.flowable.variable.service.impl.types.LargeObjectStore;
+import org.flowable.variable.service.impl.types.LargeObjectType;
 import org.flowable.variable.service.impl.types.LongJsonType;
 import org.flowable.variable.service.impl.types.LongStringType;
 import org.flowable.variable.service.impl.types.LongType;
@@ -387,6 +391,11 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected CaseDiagramGenerator caseDiagramGenerator;
 
+    /**
+     * Keeps the generated case diagrams per deployed CmmnModel. Only applies to the DefaultCaseDiagramGenerator.
+     */
+    protected boolean enableCaseDiagramCache;
+
     protected boolean isCreateDiagramOnDeploy = true;
 
     protected String activityFontName = "Arial";
@@ -420,6 +429,11 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected VariableServiceConfiguration variableServiceConfiguration;
     protected InternalHistoryVariableManager internalHistoryVariableManager;
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+
+    /**
+     * When set, a {@link LargeObjectType} backed by this store is registered, which allows streams to be stored as variables without keeping their content in memory.
+     */
+    protected LargeObjectStore largeObjectStore;
     protected ObjectMapper objectMapper = new ObjectMapper();
 
     // Set Http Client config defaults
@@ -726,8 +740,14 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     }
 
     public CmmnEngine buildCmmnEngine() {
-        init();
-        return new CmmnEngineImpl(this);
+        timeInitPhase("init", this::init);
+
+        long startTime = System.nanoTime();
+        CmmnEngine cmmnEngine = new CmmnEngineImpl(this);
+        addInitPhaseDuration("engine creation", startTime);
+
+        logInitPhaseDurations();
+        return cmmnEngine;
     }
 
     protected void init() {
@@ -772,6 +792,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         initListenerNotificationHelper();
         initDeployers();
         initCaseDefinitionCache();
+        initLatestDefinitionCache();
         initDeploymentManager();
         initCaseInstanceHelper();
         initCandidateManager();
@@ -788,6 +809,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         initBusinessCalendarManager();
         initJobHandlers();
         initHistoryJobHandlers();
+        initHistoryCleaningManager();
         initFailedJobCommandFactory();
         initJobServiceConfiguration();
         initAsyncExecutor();
@@ -799,6 +821,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         if (caseDiagramGenerator == null) {
             caseDiagramGenerator = new DefaultCaseDiagramGenerator();
         }
+        if (enableCaseDiagramCache && caseDiagramGenerator instanceof DefaultCaseDiagramGenerator) {
+            ((DefaultCaseDiagramGenerator) caseDiagramGenerator).setDiagramCacheEnabled(true);
+        }
     }
 
     @Override
@@ -1105,6 +1130,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         cmmnDeployer.setCmmnParser(cmmnParser);
         cmmnDeployer.setCaseDefinitionDiagramHelper(caseDefinitionDiagramHelper);
         cmmnDeployer.setUsePrefixId(usePrefixId);
+        initDeploymentExecutorService();
+        cmmnDeployer.setExecutorService(deploymentExecutorService);
 
         defaultDeployers.add(cmmnDeployer);
         return defaultDeployers;
@@ -1311,6 +1338,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper));
             variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, objectMapper));
             variableTypes.addType(new ByteArrayType());
+            if (largeObjectStore != null) {
+                variableTypes.addType(createLargeObjectType());
+            }
             variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
             if (customPostVariableTypes != null) {
                 for (VariableType customVariableType : customPostVariableTypes) {
@@ -1448,6 +1478,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         jobHandlers.put(TriggerTimerEventJobHandler.TYPE, new TriggerTimerEventJobHandler());
         jobHandlers.put(AsyncActivatePlanItemInstanceJobHandler.TYPE, new AsyncActivatePlanItemInstanceJobHandler());
         jobHandlers.put(AsyncInitializePlanModelJobHandler.TYPE, new AsyncInitializePlanModelJobHandler());
+        jobHandlers.put(CmmnHistoryCleanupJobHandler.TYPE, new CmmnHistoryCleanupJobHandler());
 
         // if we have custom job handlers, register them
         if (customJobHandlers != null) {
@@ -1484,6 +1515,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         }
     }
     
+    protected void initHistoryCleaningManager() {
+        if (historyCleaningManager == null && enableHistoryCleaning) {
+            historyCleaningManager = new CmmnHistoryCleaningManager(this);
+        }
+    }
+    
     protected List<HistoryJsonTransformer> initDefaultHistoryJsonTransformers() {
         List<HistoryJsonTransformer> historyJsonTransformers = new ArrayList<>();
         
@@ -1541,6 +1578,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             this.jobServiceConfiguration = instantiateJobServiceConfiguration();
             this.jobServiceConfiguration.setHistoryLevel(this.historyLevel);
             this.jobServiceConfiguration.setClock(this.clock);
+            this.jobServiceConfiguration.setEngineMetrics(this.engineMetrics);
             this.jobServiceConfiguration.setObjectMapper(this.objectMapper);
             this.jobServiceConfiguration.setEventDispatcher(this.eventDispatcher);
             this.jobServiceConfiguration.setCommandExecutor(this.commandExecutor);
@@ -2534,6 +2572,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    protected LargeObjectType createLargeObjectType() {
+        LargeObjectType largeObjectType = new LargeObjectType(largeObjectStore);
+        if (!isDbHistoryUsed) {
+            largeObjectType.getReferenceInUseStatements().remove("selectHistoricVariableInstanceLargeObjectReferencesInUse");
+        }
+        largeObjectType.setKeepReleasedRuntimeReferences(isAsyncHistoryEnabled);
+        return largeObjectType;
+    }
+
+    public LargeObjectStore getLargeObjectStore() {
+        return largeObjectStore;
+    }
+
+    public CmmnEngineConfiguration setLargeObjectStore(LargeObjectStore largeObjectStore) {
+        this.largeObjectStore = largeObjectStore;
+        return this;
+    }
+
     public CaseDiagramGenerator getCaseDiagramGenerator() {
         return caseDiagramGenerator;
     }
@@ -2543,6 +2599,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableCaseDiagramCache() {
+        return enableCaseDiagramCache;
+    }
+
+    public CmmnEngineConfiguration setEnableCaseDiagramCache(boolean enableCaseDiagramCache) {
+        this.enableCaseDiagramCache = enableCaseDiagramCache;
+        return this;
+    }
+
     public boolean isCreateDiagramOnDeploy() {
         return isCreateDiagramOnDeploy;
     }
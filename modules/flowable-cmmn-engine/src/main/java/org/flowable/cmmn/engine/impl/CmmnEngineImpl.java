@@ -20,8 +20,11 @@ import org.flowable.cmmn.api.CmmnTaskService;
 import org.flowable.cmmn.engine.CmmnEngine;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.CmmnEngines;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.cmd.HandleHistoryCleanupTimerJobCmd;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,6 +63,11 @@ public class CmmnEngineImpl implements CmmnEngine {
             commandExecutor.execute(cmmnEngineConfiguration.getSchemaCommandConfig(), cmmnEngineConfiguration.getSchemaManagementCmd());
         }
 
+        if (cmmnEngineConfiguration.isUsingRelationalDatabase()) {
+            String historyCleaningTimeCycleConfig = cmmnEngineConfiguration.isEnableHistoryCleaning() ? cmmnEngineConfiguration.getHistoryCleaningTimeCycleConfig() : null;
+            cmmnEngineConfiguration.getCommandExecutor().execute(new HandleHistoryCleanupTimerJobCmd(CmmnHistoryCleanupJobHandler.TYPE, ScopeTypes.CMMN, historyCleaningTimeCycleConfig));
+        }
+
         if (asyncExecutor != null && asyncExecutor.isAutoActivate()) {
             asyncExecutor.start();
         }
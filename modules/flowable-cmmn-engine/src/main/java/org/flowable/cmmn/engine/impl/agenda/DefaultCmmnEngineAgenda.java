@@ -68,6 +68,7 @@ public class DefaultCmmnEngineAgenda extends AbstractAgenda implements CmmnEngin
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Planned {}", operation);
         }
+        recordPlannedOperation(operation);
         
         if (caseInstanceId != null) {
             CommandContextUtil.addInvolvedCaseInstanceId(commandContext, caseInstanceId);
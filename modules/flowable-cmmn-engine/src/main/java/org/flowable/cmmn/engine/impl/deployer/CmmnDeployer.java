@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.deployer;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -19,6 +20,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -39,6 +41,8 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.EngineDeployer;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
+import org.flowable.common.engine.impl.persistence.deploy.ParallelDeploymentUtil;
 import org.flowable.identitylink.api.IdentityLinkType;
 import org.flowable.identitylink.service.IdentityLinkService;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
@@ -60,19 +64,27 @@ public class CmmnDeployer implements EngineDeployer {
     protected CmmnParser cmmnParser;
     protected CaseDefinitionDiagramHelper caseDefinitionDiagramHelper;
     protected boolean usePrefixId;
+    protected ExecutorService executorService;
 
     @Override
     public void deploy(EngineDeployment deployment, Map<String, Object> deploymentSettings) {
         LOGGER.debug("Processing deployment {}", deployment.getName());
 
-        CmmnParseResult parseResult = new CmmnParseResult(deployment);
+        List<EngineResource> cmmnResources = new ArrayList<>();
         for (EngineResource resource : deployment.getResources().values()) {
             if (isCmmnResource(resource.getName())) {
                 LOGGER.debug("Processing CMMN resource {}", resource.getName());
-                parseResult.merge(cmmnParser.parse(resource));
+                cmmnResources.add(resource);
             }
         }
 
+        // Parsing doesn't need the database, so multiple resources can be parsed at the same time.
+        // The results are merged in the order of the resources, which keeps the order of the case definitions.
+        CmmnParseResult parseResult = new CmmnParseResult(deployment);
+        for (CmmnParseResult resourceParseResult : ParallelDeploymentUtil.process(cmmnResources, executorService, cmmnParser::parse)) {
+            parseResult.merge(resourceParseResult);
+        }
+
         verifyCaseDefinitionsDoNotShareKeys(parseResult.getAllCaseDefinitions());
         copyDeploymentValuesToCaseDefinitions(parseResult.getDeployment(), parseResult.getAllCaseDefinitions());
         setResourceNamesOnCaseDefinitions(parseResult);
@@ -106,14 +118,22 @@ public class CmmnDeployer implements EngineDeployer {
      * When this method creates a new diagram, it also persists it via the ResourceEntityManager and adds it to the resources of the deployment.
      */
     protected void createAndPersistNewDiagramsIfNeeded(CmmnParseResult parseResult) {
+        List<CaseDefinitionEntity> caseDefinitionsNeedingDiagram = new ArrayList<>();
         for (CaseDefinitionEntity caseDefinition : parseResult.getAllCaseDefinitions()) {
             if (caseDefinitionDiagramHelper.shouldCreateDiagram(caseDefinition, parseResult.getDeployment())) {
-                CmmnResourceEntity resource = caseDefinitionDiagramHelper.createDiagramForCaseDefinition(
-                                caseDefinition, parseResult.getCmmnModelForCaseDefinition(caseDefinition));
-                if (resource != null) {
-                    CommandContextUtil.getCmmnResourceEntityManager().insert(resource, false);
-                    ((CmmnDeploymentEntity) parseResult.getDeployment()).addResource(resource); // now we'll find it if we look for the diagram name later.
-                }
+                caseDefinitionsNeedingDiagram.add(caseDefinition);
+            }
+        }
+
+        // Only the generation of the diagrams can be done at the same time, they are persisted one after the other in the deployment order
+        List<CmmnResourceEntity> diagramResources = ParallelDeploymentUtil.process(caseDefinitionsNeedingDiagram, executorService,
+                caseDefinition -> caseDefinitionDiagramHelper.createDiagramForCaseDefinition(
+                        caseDefinition, parseResult.getCmmnModelForCaseDefinition(caseDefinition)));
+
+        for (CmmnResourceEntity resource : diagramResources) {
+            if (resource != null) {
+                CommandContextUtil.getCmmnResourceEntityManager().insert(resource, false);
+                ((CmmnDeploymentEntity) parseResult.getDeployment()).addResource(resource); // now we'll find it if we look for the diagram name later.
             }
         }
     }
@@ -165,9 +185,14 @@ public class CmmnDeployer implements EngineDeployer {
 
     protected void persistCaseDefinitions(CmmnParseResult parseResult) {
         CaseDefinitionEntityManager caseDefinitionManager = CommandContextUtil.getCaseDefinitionEntityManager();
+        LatestDefinitionCache latestDefinitionCache = CommandContextUtil.getCmmnEngineConfiguration().getLatestDefinitionCache();
         for (CaseDefinitionEntity caseDefinition : parseResult.getAllCaseDefinitions()) {
             caseDefinitionManager.insert(caseDefinition, false);
             addAuthorizationsForNewCaseDefinition(parseResult.getCmmnCaseForCaseDefinition(caseDefinition), caseDefinition);
+
+            if (latestDefinitionCache != null) {
+                latestDefinitionCache.putOnCommit(caseDefinition.getKey(), caseDefinition.getTenantId(), caseDefinition.getId(), caseDefinition.getVersion());
+            }
         }
     }
 
@@ -216,6 +241,13 @@ public class CmmnDeployer implements EngineDeployer {
         String key = caseDefinitionEntity.getKey();
         String tenantId = caseDefinitionEntity.getTenantId();
         CaseDefinitionEntityManager caseDefinitionEntityManager = CommandContextUtil.getCaseDefinitionEntityManager();
+
+        // The version of the new definition is always calculated from the database
+        LatestDefinitionCache latestDefinitionCache = CommandContextUtil.getCmmnEngineConfiguration().getLatestDefinitionCache();
+        if (latestDefinitionCache != null) {
+            latestDefinitionCache.evict(key, tenantId);
+        }
+
         CaseDefinitionEntity existingCaseDefinition = null;
         if (tenantId != null && !tenantId.equals(CmmnEngineConfiguration.NO_TENANT_ID)) {
             existingCaseDefinition = caseDefinitionEntityManager.findLatestCaseDefinitionByKeyAndTenantId(key, tenantId);
@@ -317,4 +349,12 @@ public class CmmnDeployer implements EngineDeployer {
     public void setUsePrefixId(boolean usePrefixId) {
         this.usePrefixId = usePrefixId;
     }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
 }
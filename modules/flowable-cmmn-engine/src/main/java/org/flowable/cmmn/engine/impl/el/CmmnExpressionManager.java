@@ -34,5 +34,12 @@ public class CmmnExpressionManager extends VariableScopeExpressionManager {
     protected ELResolver createVariableElResolver(VariableContainer variableContainer) {
         return new CmmnVariableScopeELResolver(variableContainer);
     }
+
+    @Override
+    protected boolean isCompilableIdentifier(String identifier) {
+        return !CmmnVariableScopeELResolver.CASE_INSTANCE_KEY.equals(identifier)
+                && !CmmnVariableScopeELResolver.PLAN_ITEM_INSTANCE_KEY.equals(identifier)
+                && !CmmnVariableScopeELResolver.TASK_KEY.equals(identifier);
+    }
     
 }
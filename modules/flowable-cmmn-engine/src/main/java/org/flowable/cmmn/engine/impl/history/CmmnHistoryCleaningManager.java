@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEntityManager;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.history.ExpiredHistoryCriteria;
+import org.flowable.common.engine.impl.history.HistoryCleaningManager;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.task.service.HistoricTaskService;
+
+/**
+ * Deletes the history of ended root case instances of which the time to live has expired, together with the history of
+ * their child case instances.
+ *
+ * The time to live is the configured number of days for the key of the case definition, see
+ * {@link CmmnEngineConfiguration#getHistoryTimeToLiveByDefinitionKey()}, or the default number of days otherwise.
+ */
+public class CmmnHistoryCleaningManager implements HistoryCleaningManager {
+
+    protected CmmnEngineConfiguration cmmnEngineConfiguration;
+
+    public CmmnHistoryCleaningManager(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        this.cmmnEngineConfiguration = cmmnEngineConfiguration;
+    }
+
+    @Override
+    public String getScopeType() {
+        return ScopeTypes.CMMN;
+    }
+
+    @Override
+    public int deleteExpiredHistory(int batchSize) {
+        return cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> deleteExpiredHistory(batchSize, commandContext));
+    }
+
+    protected int deleteExpiredHistory(int batchSize, CommandContext commandContext) {
+        ExpiredHistoryCriteria expiredHistoryCriteria = new ExpiredHistoryCriteria(cmmnEngineConfiguration.getClock().getCurrentTime(),
+                cmmnEngineConfiguration.getCleanInstancesEndedAfterNumberOfDays(), cmmnEngineConfiguration.getHistoryTimeToLiveByDefinitionKey());
+
+        HistoricCaseInstanceEntityManager historicCaseInstanceEntityManager = CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext);
+        List<String> rootCaseInstanceIds = historicCaseInstanceEntityManager.findExpiredHistoricCaseInstanceIds(expiredHistoryCriteria, batchSize);
+        if (rootCaseInstanceIds.isEmpty()) {
+            return 0;
+        }
+
+        List<String> caseInstanceIds = new ArrayList<>(rootCaseInstanceIds);
+        List<String> parentIds = rootCaseInstanceIds;
+        while (!parentIds.isEmpty()) {
+            parentIds = historicCaseInstanceEntityManager.findHistoricCaseInstanceIdsForParentIds(parentIds);
+            caseInstanceIds.addAll(parentIds);
+        }
+
+        deleteHistoricCaseInstances(caseInstanceIds, commandContext);
+
+        return rootCaseInstanceIds.size();
+    }
+
+    protected void deleteHistoricCaseInstances(List<String> caseInstanceIds, CommandContext commandContext) {
+        HistoricTaskService historicTaskService = CommandContextUtil.getHistoricTaskService(commandContext);
+        List<String> taskIds = historicTaskService.findHistoricTaskIdsForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+
+        // Task variables of a case are stored with the case instance as scope, so they are deleted together with the case variables
+        CommandContextUtil.getHistoricVariableService(commandContext).deleteHistoricVariableInstancesForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+
+        CommandContextUtil.getHistoricIdentityLinkService(commandContext).deleteHistoricIdentityLinksForTaskIds(taskIds);
+        historicTaskService.deleteHistoricTaskLogEntriesForTaskIds(taskIds);
+        historicTaskService.deleteHistoricTaskInstancesForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+
+        CommandContextUtil.getHistoricIdentityLinkService(commandContext).deleteHistoricIdentityLinksForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+        if (cmmnEngineConfiguration.isEnableEntityLinks()) {
+            CommandContextUtil.getHistoricEntityLinkService(commandContext).deleteHistoricEntityLinksForScopeIdsAndScopeType(caseInstanceIds, ScopeTypes.CMMN);
+        }
+
+        CommandContextUtil.getHistoricMilestoneInstanceEntityManager(commandContext).deleteHistoricMilestoneInstancesForCaseInstanceIds(caseInstanceIds);
+        CommandContextUtil.getHistoricPlanItemInstanceEntityManager(commandContext).deleteHistoricPlanItemInstancesForCaseInstanceIds(caseInstanceIds);
+
+        CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext).deleteHistoricCaseInstancesForIds(caseInstanceIds);
+    }
+
+}
@@ -22,6 +22,8 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
+import org.flowable.common.engine.impl.tracing.CommandTrace;
+import org.flowable.common.engine.impl.tracing.CommandTraceEntryType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,12 +58,19 @@ public class CmmnCommandInvoker extends AbstractCommandInterceptor {
 
     protected void executeOperations(final CommandContext commandContext) {
         CmmnEngineAgenda agenda = CommandContextUtil.getAgenda(commandContext); 
+        CommandTrace commandTrace = commandContext.getCommandTrace();
         while (!agenda.isEmpty()) {
             Runnable runnable = agenda.getNextOperation();
             if (logger.isDebugEnabled()) {
                 logger.debug("Executing agenda operation {}", runnable);
             }
-            runnable.run();
+            if (commandTrace != null) {
+                long startTime = System.nanoTime();
+                runnable.run();
+                commandTrace.record(CommandTraceEntryType.OPERATION, runnable.getClass().getSimpleName(), startTime);
+            } else {
+                runnable.run();
+            }
         }
     }
 
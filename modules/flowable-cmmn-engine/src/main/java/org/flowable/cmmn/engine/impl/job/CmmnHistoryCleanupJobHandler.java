@@ -0,0 +1,57 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.job;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.history.HistoryCleaningManager;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.job.service.impl.history.HistoryCleanupJobHandler;
+
+/**
+ * Deletes the expired history of case instances and, when a dmn engine with history cleaning is configured and no process engine
+ * is taking care of it already, of decision executions.
+ */
+public class CmmnHistoryCleanupJobHandler extends HistoryCleanupJobHandler {
+
+    public static final String TYPE = "cmmn-history-cleanup";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    protected List<HistoryCleaningManager> getHistoryCleaningManagers(CommandContext commandContext) {
+        List<HistoryCleaningManager> historyCleaningManagers = new ArrayList<>(2);
+        historyCleaningManagers.add(CommandContextUtil.getCmmnEngineConfiguration(commandContext).getHistoryCleaningManager());
+
+        AbstractEngineConfiguration processEngineConfiguration = commandContext.getEngineConfigurations().get(EngineConfigurationConstants.KEY_PROCESS_ENGINE_CONFIG);
+        AbstractEngineConfiguration dmnEngineConfiguration = commandContext.getEngineConfigurations().get(EngineConfigurationConstants.KEY_DMN_ENGINE_CONFIG);
+        if (processEngineConfiguration == null && dmnEngineConfiguration != null && dmnEngineConfiguration.getHistoryCleaningManager() != null) {
+            historyCleaningManagers.add(dmnEngineConfiguration.getHistoryCleaningManager());
+        }
+        return historyCleaningManagers;
+    }
+
+    @Override
+    protected String getJobScopeType() {
+        return ScopeTypes.CMMN;
+    }
+
+}
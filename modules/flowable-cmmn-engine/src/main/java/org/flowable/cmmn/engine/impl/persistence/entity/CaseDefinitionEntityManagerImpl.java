@@ -14,6 +14,7 @@
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
@@ -25,11 +26,13 @@ import org.flowable.cmmn.engine.impl.history.CmmnHistoryHelper;
 import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.history.HistoricMilestoneInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.CaseDefinitionDataManager;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
 import org.flowable.cmmn.engine.impl.repository.CaseDefinitionQueryImpl;
 import org.flowable.cmmn.engine.impl.runtime.CaseInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.task.TaskHelper;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntityManager;
 import org.flowable.task.api.history.HistoricTaskInstance;
@@ -56,12 +59,42 @@ public class CaseDefinitionEntityManagerImpl extends AbstractCmmnEntityManager<C
 
     @Override
     public CaseDefinitionEntity findLatestCaseDefinitionByKey(String caseDefinitionKey) {
-        return caseDefinitionDataManager.findLatestCaseDefinitionByKey(caseDefinitionKey);
+        return findLatestCaseDefinition(caseDefinitionKey, null,
+                () -> caseDefinitionDataManager.findLatestCaseDefinitionByKey(caseDefinitionKey));
     }
 
     @Override
     public CaseDefinitionEntity findLatestCaseDefinitionByKeyAndTenantId(String caseDefinitionKey, String tenantId) {
-        return caseDefinitionDataManager.findLatestCaseDefinitionByKeyAndTenantId(caseDefinitionKey, tenantId);
+        return findLatestCaseDefinition(caseDefinitionKey, tenantId,
+                () -> caseDefinitionDataManager.findLatestCaseDefinitionByKeyAndTenantId(caseDefinitionKey, tenantId));
+    }
+
+    protected CaseDefinitionEntity findLatestCaseDefinition(String caseDefinitionKey, String tenantId, Supplier<CaseDefinitionEntity> query) {
+        LatestDefinitionCache latestDefinitionCache = getCmmnEngineConfiguration().getLatestDefinitionCache();
+        if (latestDefinitionCache == null) {
+            return query.get();
+        }
+
+        String caseDefinitionId = latestDefinitionCache.getDefinitionId(caseDefinitionKey, tenantId);
+        if (caseDefinitionId != null) {
+            CaseDefinitionCacheEntry cacheEntry = getCmmnEngineConfiguration().getCaseDefinitionCache().get(caseDefinitionId);
+            if (cacheEntry != null) {
+                return (CaseDefinitionEntity) cacheEntry.getCaseDefinition();
+            }
+
+            CaseDefinitionEntity latestCaseDefinition = findById(caseDefinitionId);
+            if (latestCaseDefinition != null) {
+                return latestCaseDefinition;
+            }
+
+            latestDefinitionCache.remove(caseDefinitionKey, tenantId);
+        }
+
+        CaseDefinitionEntity caseDefinition = query.get();
+        if (caseDefinition != null) {
+            latestDefinitionCache.put(caseDefinitionKey, tenantId, caseDefinition.getId(), caseDefinition.getVersion());
+        }
+        return caseDefinition;
     }
 
     @Override
@@ -24,6 +24,7 @@ import org.flowable.cmmn.engine.impl.repository.CmmnDeploymentQueryImpl;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 
 /**
@@ -57,7 +58,12 @@ public class CmmnDeploymentEntityManagerImpl extends AbstractCmmnEntityManager<C
     public void deleteDeploymentAndRelatedData(String deploymentId, boolean cascade) {
         CaseDefinitionEntityManager caseDefinitionEntityManager = getCaseDefinitionEntityManager();
         List<CaseDefinition> caseDefinitions = caseDefinitionEntityManager.createCaseDefinitionQuery().deploymentId(deploymentId).list();
+        LatestDefinitionCache latestDefinitionCache = getCmmnEngineConfiguration().getLatestDefinitionCache();
         for (CaseDefinition caseDefinition : caseDefinitions) {
+            if (latestDefinitionCache != null) {
+                latestDefinitionCache.evict(caseDefinition.getKey(), caseDefinition.getTenantId());
+            }
+
             CommandContextUtil.getIdentityLinkService().deleteIdentityLinksByScopeDefinitionIdAndType(caseDefinition.getId(), ScopeTypes.CMMN);
             
             if (cascade) {
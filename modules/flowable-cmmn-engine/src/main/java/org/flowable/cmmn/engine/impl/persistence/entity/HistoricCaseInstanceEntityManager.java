@@ -12,10 +12,12 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
+import org.flowable.common.engine.impl.history.ExpiredHistoryCriteria;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 
 /**
@@ -34,4 +36,10 @@ public interface HistoricCaseInstanceEntityManager extends EntityManager<Histori
 
     long countByCriteria(HistoricCaseInstanceQuery query);
     
+    List<String> findExpiredHistoricCaseInstanceIds(ExpiredHistoryCriteria expiredHistoryCriteria, int maxResults);
+    
+    List<String> findHistoricCaseInstanceIdsForParentIds(Collection<String> parentIds);
+    
+    void deleteHistoricCaseInstancesForIds(Collection<String> historicCaseInstanceIds);
+    
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
@@ -20,6 +21,7 @@ import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.HistoricCaseInstanceDataManager;
+import org.flowable.common.engine.impl.history.ExpiredHistoryCriteria;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 
 /**
@@ -66,4 +68,19 @@ public class HistoricCaseInstanceEntityManagerImpl extends AbstractCmmnEntityMan
         return historicCaseInstanceDataManager.countByCriteria((HistoricCaseInstanceQueryImpl) query);
     }
     
+    @Override
+    public List<String> findExpiredHistoricCaseInstanceIds(ExpiredHistoryCriteria expiredHistoryCriteria, int maxResults) {
+        return historicCaseInstanceDataManager.findExpiredHistoricCaseInstanceIds(expiredHistoryCriteria, maxResults);
+    }
+    
+    @Override
+    public List<String> findHistoricCaseInstanceIdsForParentIds(Collection<String> parentIds) {
+        return historicCaseInstanceDataManager.findHistoricCaseInstanceIdsForParentIds(parentIds);
+    }
+    
+    @Override
+    public void deleteHistoricCaseInstancesForIds(Collection<String> historicCaseInstanceIds) {
+        historicCaseInstanceDataManager.deleteHistoricCaseInstancesForIds(historicCaseInstanceIds);
+    }
+    
 }
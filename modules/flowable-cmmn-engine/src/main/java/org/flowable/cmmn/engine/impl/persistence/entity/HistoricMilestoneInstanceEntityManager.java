@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
@@ -29,4 +30,6 @@ public interface HistoricMilestoneInstanceEntityManager extends EntityManager<Hi
 
     long findHistoricMilestoneInstanceCountByQueryCriteria(HistoricMilestoneInstanceQuery query);
     
+    void deleteHistoricMilestoneInstancesForCaseInstanceIds(Collection<String> caseInstanceIds);
+    
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
@@ -53,6 +54,11 @@ public class HistoricMilestoneInstanceEntityManagerImpl extends AbstractCmmnEnti
     public long findHistoricMilestoneInstanceCountByQueryCriteria(HistoricMilestoneInstanceQuery query) {
         return historicMilestoneInstanceDataManager.findHistoricMilestoneInstancesCountByQueryCriteria((HistoricMilestoneInstanceQueryImpl) query);
     }
+
+    @Override
+    public void deleteHistoricMilestoneInstancesForCaseInstanceIds(Collection<String> caseInstanceIds) {
+        historicMilestoneInstanceDataManager.deleteHistoricMilestoneInstancesForCaseInstanceIds(caseInstanceIds);
+    }
     
     public HistoricMilestoneInstanceDataManager getHistoricMilestoneInstanceDataManager() {
         return historicMilestoneInstanceDataManager;
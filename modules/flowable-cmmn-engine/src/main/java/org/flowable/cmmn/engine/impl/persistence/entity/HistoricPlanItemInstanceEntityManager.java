@@ -16,6 +16,7 @@ import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
 import org.flowable.cmmn.api.history.HistoricPlanItemInstanceQuery;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -31,4 +32,6 @@ public interface HistoricPlanItemInstanceEntityManager extends EntityManager<His
 
     long countByCriteria(HistoricPlanItemInstanceQuery query);
 
+    void deleteHistoricPlanItemInstancesForCaseInstanceIds(Collection<String> caseInstanceIds);
+
 }
\ No newline at end of file
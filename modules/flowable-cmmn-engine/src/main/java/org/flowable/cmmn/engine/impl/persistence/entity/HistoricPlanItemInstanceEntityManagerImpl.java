@@ -20,6 +20,7 @@ import org.flowable.cmmn.engine.impl.history.HistoricPlanItemInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.HistoricPlanItemInstanceDataManager;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -58,4 +59,9 @@ public class HistoricPlanItemInstanceEntityManagerImpl extends AbstractCmmnEntit
     public long countByCriteria(HistoricPlanItemInstanceQuery query) {
         return historicPlanItemInstanceDataManager.countByCriteria((HistoricPlanItemInstanceQueryImpl) query);
     }
+
+    @Override
+    public void deleteHistoricPlanItemInstancesForCaseInstanceIds(Collection<String> caseInstanceIds) {
+        historicPlanItemInstanceDataManager.deleteHistoricPlanItemInstancesForCaseInstanceIds(caseInstanceIds);
+    }
 }
@@ -12,11 +12,13 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEntity;
+import org.flowable.common.engine.impl.history.ExpiredHistoryCriteria;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 
 /**
@@ -34,4 +36,10 @@ public interface HistoricCaseInstanceDataManager extends DataManager<HistoricCas
 
     void deleteByCaseDefinitionId(String caseDefinitionId);
     
+    List<String> findExpiredHistoricCaseInstanceIds(ExpiredHistoryCriteria expiredHistoryCriteria, int maxResults);
+    
+    List<String> findHistoricCaseInstanceIdsForParentIds(Collection<String> parentIds);
+    
+    void deleteHistoricCaseInstancesForIds(Collection<String> historicCaseInstanceIds);
+    
 }
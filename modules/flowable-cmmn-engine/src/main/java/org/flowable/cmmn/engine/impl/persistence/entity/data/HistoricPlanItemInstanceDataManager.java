@@ -17,6 +17,7 @@ import org.flowable.cmmn.engine.impl.history.HistoricPlanItemInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.HistoricPlanItemInstanceEntity;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -32,4 +33,6 @@ public interface HistoricPlanItemInstanceDataManager extends DataManager<Histori
 
     void deleteByCaseDefinitionId(String caseDefinitionId);
 
+    void deleteHistoricPlanItemInstancesForCaseInstanceIds(Collection<String> caseInstanceIds);
+
 }
@@ -114,7 +114,7 @@ public class MybatisCaseDefinitionDataManager extends AbstractCmmnDataManager<Ca
         HashMap<String, Object> params = new HashMap<>();
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
-        getDbSqlSession().update("updateCaseDefinitionTenantIdForDeploymentId", params);
+        getDbSqlSession().update("updateCaseDefinitionTenantIdForDeploymentId", params, getManagedEntityClass());
     }
 
     @Override
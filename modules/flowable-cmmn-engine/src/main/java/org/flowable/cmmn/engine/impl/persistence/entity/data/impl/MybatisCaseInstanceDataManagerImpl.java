@@ -212,7 +212,7 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
         params.put("lockTime", lockDate);
         params.put("expirationTime", expirationTime);
 
-        int result = getDbSqlSession().update("updateCaseInstanceLockTime", params);
+        int result = getDbSqlSession().update("updateCaseInstanceLockTime", params, getManagedEntityClass());
         if (result == 0) {
             throw new FlowableOptimisticLockingException("Could not lock case instance");
         }
@@ -222,7 +222,7 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
     public void clearLockTime(String caseInstanceId) {
         HashMap<String, Object> params = new HashMap<>();
         params.put("id", caseInstanceId);
-        getDbSqlSession().update("clearCaseInstanceLockTime", params);
+        getDbSqlSession().update("clearCaseInstanceLockTime", params, getManagedEntityClass());
     }
 
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -23,6 +24,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEnti
 import org.flowable.cmmn.engine.impl.persistence.entity.data.AbstractCmmnDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.HistoricCaseInstanceDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.matcher.HistoricCaseInstanceByCaseDefinitionIdMatcher;
+import org.flowable.common.engine.impl.history.ExpiredHistoryCriteria;
 
 /**
  * @author Joram Barrez
@@ -103,4 +105,20 @@ public class MybatisHistoricCaseInstanceDataManagerImpl extends AbstractCmmnData
         getDbSqlSession().delete("deleteHistoricCaseInstanceByCaseDefinitionId", caseDefinitionId, getManagedEntityClass());
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findExpiredHistoricCaseInstanceIds(ExpiredHistoryCriteria expiredHistoryCriteria, int maxResults) {
+        return getDbSqlSession().selectList("selectExpiredHistoricCaseInstanceIds", expiredHistoryCriteria, 0, maxResults);
+    }
+
+    @Override
+    public List<String> findHistoricCaseInstanceIdsForParentIds(Collection<String> parentIds) {
+        return selectIdsForIds("selectHistoricCaseInstanceIdsForParentIds", parentIds, null);
+    }
+
+    @Override
+    public void deleteHistoricCaseInstancesForIds(Collection<String> historicCaseInstanceIds) {
+        bulkDeleteForIds("deleteHistoricCaseInstancesForIds", historicCaseInstanceIds, null);
+    }
+
 }
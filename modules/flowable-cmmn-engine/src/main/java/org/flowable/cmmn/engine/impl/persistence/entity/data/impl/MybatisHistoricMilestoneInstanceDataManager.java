@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
@@ -52,4 +53,9 @@ public class MybatisHistoricMilestoneInstanceDataManager extends AbstractCmmnDat
         return (Long) getDbSqlSession().selectOne("selectHistoricMilestoneInstanceCountByQueryCriteria", query);
     }
     
+    @Override
+    public void deleteHistoricMilestoneInstancesForCaseInstanceIds(Collection<String> caseInstanceIds) {
+        bulkDeleteForIds("deleteHistoricMilestoneInstancesForCaseInstanceIds", caseInstanceIds, null);
+    }
+    
 }
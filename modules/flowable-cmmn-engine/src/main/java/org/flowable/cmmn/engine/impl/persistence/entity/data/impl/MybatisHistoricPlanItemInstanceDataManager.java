@@ -21,6 +21,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.data.AbstractCmmnDataMan
 import org.flowable.cmmn.engine.impl.persistence.entity.data.HistoricPlanItemInstanceDataManager;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -62,6 +63,11 @@ public class MybatisHistoricPlanItemInstanceDataManager extends AbstractCmmnData
         getDbSqlSession().delete("deleteHistoricPlanItemInstanceByCaseDefinitionId", caseDefinitionId, getManagedEntityClass());
     }
 
+    @Override
+    public void deleteHistoricPlanItemInstancesForCaseInstanceIds(Collection<String> caseInstanceIds) {
+        bulkDeleteForIds("deleteHistoricPlanItemInstancesForCaseInstanceIds", caseInstanceIds, null);
+    }
+
     @Override
     public Class<? extends HistoricPlanItemInstanceEntity> getManagedEntityClass() {
         return HistoricPlanItemInstanceEntityImpl.class;
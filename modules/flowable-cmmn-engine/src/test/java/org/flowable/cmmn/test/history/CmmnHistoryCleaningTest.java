@@ -0,0 +1,133 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Date;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
+import org.flowable.cmmn.test.impl.CustomCmmnConfigurationFlowableTestCase;
+import org.flowable.common.engine.impl.history.HistoryCleaningManager;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.After;
+import org.junit.Test;
+
+public class CmmnHistoryCleaningTest extends CustomCmmnConfigurationFlowableTestCase {
+
+    @Override
+    protected String getEngineName() {
+        return "cmmnHistoryCleaningTest";
+    }
+
+    @Override
+    protected void configureConfiguration(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        cmmnEngineConfiguration.setEnableHistoryCleaning(true);
+        cmmnEngineConfiguration.setCleanInstancesEndedAfterNumberOfDays(30);
+    }
+
+    @After
+    public void deleteCleanupTimerJob() {
+        cmmnEngineConfiguration.setHistoryTimeToLiveByDefinitionKey(Collections.emptyMap());
+        cmmnEngineConfiguration.getClock().reset();
+
+        // the repeating cleanup timer is created when the engine is built
+        for (Job timerJob : cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).list()) {
+            cmmnManagementService.deleteTimerJob(timerJob.getId());
+        }
+    }
+
+    @Test
+    public void testCleanupTimerJobIsCreated() {
+        assertThat(cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testExpiredHistoryIsDeleted() {
+        deployOneHumanTaskCaseModel();
+        Instant now = Instant.now();
+        setClockTo(Date.from(now));
+
+        String caseInstanceId = completeOneHumanTaskCase();
+        String otherCaseInstanceId = completeOneHumanTaskCase();
+        assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().finished().count()).isEqualTo(2);
+
+        HistoryCleaningManager historyCleaningManager = cmmnEngineConfiguration.getHistoryCleaningManager();
+        setClockTo(Date.from(now.plus(29, ChronoUnit.DAYS)));
+        assertThat(historyCleaningManager.deleteExpiredHistory(10)).isZero();
+        assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isEqualTo(2);
+
+        setClockTo(Date.from(now.plus(31, ChronoUnit.DAYS)));
+        assertThat(historyCleaningManager.deleteExpiredHistory(1)).isEqualTo(1);
+        assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isEqualTo(1);
+        assertThat(historyCleaningManager.deleteExpiredHistory(10)).isEqualTo(1);
+        assertThat(historyCleaningManager.deleteExpiredHistory(10)).isZero();
+
+        for (String id : new String[] { caseInstanceId, otherCaseInstanceId }) {
+            assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceId(id).count()).isZero();
+            assertThat(cmmnHistoryService.createHistoricPlanItemInstanceQuery().planItemInstanceCaseInstanceId(id).count()).isZero();
+            assertThat(cmmnHistoryService.createHistoricTaskInstanceQuery().caseInstanceId(id).count()).isZero();
+            assertThat(cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(id).count()).isZero();
+            assertThat(cmmnHistoryService.getHistoricIdentityLinksForCaseInstance(id)).isEmpty();
+        }
+    }
+
+    @Test
+    public void testTimeToLivePerDefinitionKey() {
+        deployOneHumanTaskCaseModel();
+        cmmnEngineConfiguration.setHistoryTimeToLiveByDefinitionKey(Collections.singletonMap("oneTaskCase", 60));
+        Instant now = Instant.now();
+        setClockTo(Date.from(now));
+
+        completeOneHumanTaskCase();
+
+        HistoryCleaningManager historyCleaningManager = cmmnEngineConfiguration.getHistoryCleaningManager();
+        setClockTo(Date.from(now.plus(31, ChronoUnit.DAYS)));
+        assertThat(historyCleaningManager.deleteExpiredHistory(10)).isZero();
+        assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isEqualTo(1);
+
+        setClockTo(Date.from(now.plus(61, ChronoUnit.DAYS)));
+        assertThat(historyCleaningManager.deleteExpiredHistory(10)).isEqualTo(1);
+        assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().count()).isZero();
+    }
+
+    @Test
+    public void testRunningCaseInstanceIsNotDeleted() {
+        deployOneHumanTaskCaseModel();
+        Instant now = Instant.now();
+        setClockTo(Date.from(now));
+
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+
+        setClockTo(Date.from(now.plus(31, ChronoUnit.DAYS)));
+        assertThat(cmmnEngineConfiguration.getHistoryCleaningManager().deleteExpiredHistory(10)).isZero();
+        assertThat(cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceId(caseInstance.getId()).count()).isEqualTo(1);
+    }
+
+    protected String completeOneHumanTaskCase() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("oneTaskCase")
+                .variable("var", "value")
+                .start();
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        cmmnTaskService.complete(task.getId());
+        return caseInstance.getId();
+    }
+
+}
@@ -0,0 +1,288 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.image.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import org.flowable.cmmn.image.exception.FlowableImageException;
+import org.flowable.cmmn.model.Association;
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.EventListener;
+import org.flowable.cmmn.model.GraphicInfo;
+import org.flowable.cmmn.model.Milestone;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.PlanItemDefinition;
+import org.flowable.cmmn.model.Stage;
+
+/**
+ * Writes a case diagram as SVG directly to a stream, without rendering it to a raster image first.
+ * The output uses plain CMMN shapes, without task type icons.
+ * 
+ * Like the raster image, the document is cropped to the diagram with a small margin, and its size is multiplied by the scale factor.
+ */
+public class CaseDiagramSvgWriter {
+
+    protected static final int FONT_SIZE = 11;
+    protected static final int AVERAGE_CHARACTER_WIDTH = 6;
+    protected static final int MARGIN = 5;
+
+    protected String activityFontName = "Arial";
+    protected double scaleFactor = 1.0;
+
+    public CaseDiagramSvgWriter() {
+    }
+
+    public CaseDiagramSvgWriter(String activityFontName) {
+        this(activityFontName, 1.0);
+    }
+
+    public CaseDiagramSvgWriter(String activityFontName, double scaleFactor) {
+        if (activityFontName != null) {
+            this.activityFontName = activityFontName;
+        }
+        if (scaleFactor > 0) {
+            this.scaleFactor = scaleFactor;
+        }
+    }
+
+    public void writeDiagram(CmmnModel cmmnModel, OutputStream outputStream) {
+        Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        try {
+            writeDocument(cmmnModel, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new FlowableImageException("Error while writing case diagram as SVG", e);
+        }
+    }
+
+    protected void writeDocument(CmmnModel cmmnModel, Writer writer) throws IOException {
+        double[] bounds = calculateBounds(cmmnModel);
+        double originX = bounds[0] - MARGIN;
+        double originY = bounds[1] - MARGIN;
+        double viewWidth = bounds[2] - originX + 2 * MARGIN;
+        double viewHeight = bounds[3] - originY + 2 * MARGIN;
+
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        writer.write("<svg xmlns=\"http://www.w3.org/2000/svg\" version=\"1.1\" width=\"" + (int) Math.ceil(viewWidth * scaleFactor)
+                + "\" height=\"" + (int) Math.ceil(viewHeight * scaleFactor) + "\" viewBox=\"" + format(originX) + " " + format(originY) + " "
+                + format(viewWidth) + " " + format(viewHeight) + "\">\n");
+        writer.write("<defs><style type=\"text/css\"><![CDATA[\n");
+        writer.write("text { font-family: " + cssString(activityFontName) + "; font-size: " + FONT_SIZE + "px; fill: #000000; }\n");
+        writer.write(".stage { fill: #ffffff; stroke: #000000; stroke-width: 1; }\n");
+        writer.write(".task { fill: #f9f9f9; stroke: #bbbbbb; stroke-width: 1; }\n");
+        writer.write(".milestone { fill: #f9f9f9; stroke: #bbbbbb; stroke-width: 1; }\n");
+        writer.write(".event-listener { fill: #ffffff; stroke: #585858; stroke-width: 1; }\n");
+        writer.write(".entry-criterion { fill: #ffffff; stroke: #000000; stroke-width: 1; }\n");
+        writer.write(".exit-criterion { fill: #000000; stroke: #000000; stroke-width: 1; }\n");
+        writer.write(".association { fill: none; stroke: #585858; stroke-width: 2; stroke-dasharray: 2,2; }\n");
+        writer.write("]]></style></defs>\n");
+
+        for (Case caseModel : cmmnModel.getCases()) {
+            Stage planModel = caseModel.getPlanModel();
+            GraphicInfo graphicInfo = cmmnModel.getGraphicInfo(planModel.getId());
+            if (graphicInfo != null) {
+                writer.write("<rect class=\"stage\"" + bounds(graphicInfo) + "/>");
+                writeText(planModel.getName(), graphicInfo.getX() + 5, graphicInfo.getY() + FONT_SIZE + 3, graphicInfo.getWidth() - 10, false, writer);
+                writer.write("\n");
+            }
+            writeCriteria(cmmnModel, planModel.getExitCriteria(), writer);
+
+            for (PlanItem planItem : planModel.getPlanItems()) {
+                writePlanItem(cmmnModel, planItem, writer);
+            }
+        }
+
+        for (Association association : cmmnModel.getAssociations()) {
+            List<GraphicInfo> graphicInfoList = cmmnModel.getFlowLocationGraphicInfo(association.getId());
+            if (graphicInfoList != null && graphicInfoList.size() > 1) {
+                writer.write("<polyline class=\"association\" points=\"");
+                for (int i = 0; i < graphicInfoList.size(); i++) {
+                    if (i > 0) {
+                        writer.write(' ');
+                    }
+                    writer.write(format(graphicInfoList.get(i).getX()) + "," + format(graphicInfoList.get(i).getY()));
+                }
+                writer.write("\"/>\n");
+            }
+        }
+
+        writer.write("</svg>\n");
+    }
+
+    protected void writePlanItem(CmmnModel cmmnModel, PlanItem planItem, Writer writer) throws IOException {
+        GraphicInfo graphicInfo = cmmnModel.getGraphicInfo(planItem.getId());
+        PlanItemDefinition planItemDefinition = planItem.getPlanItemDefinition();
+        if (graphicInfo != null) {
+            writer.write("<g id=\"" + escape(planItem.getId()) + "\">");
+            String name = planItem.getName();
+            if (planItemDefinition instanceof EventListener) {
+                double radius = graphicInfo.getWidth() / 2;
+                writer.write("<circle class=\"event-listener\" cx=\"" + format(graphicInfo.getX() + radius) + "\" cy=\"" + format(graphicInfo.getY() + radius)
+                        + "\" r=\"" + format(radius) + "\"/>");
+                writer.write("<circle class=\"event-listener\" cx=\"" + format(graphicInfo.getX() + radius) + "\" cy=\"" + format(graphicInfo.getY() + radius)
+                        + "\" r=\"" + format(radius - 3) + "\"/>");
+
+            } else if (planItemDefinition instanceof Stage) {
+                writer.write("<rect class=\"stage\"" + bounds(graphicInfo) + " rx=\"10\" ry=\"10\"/>");
+                writeText(name, graphicInfo.getX() + 5, graphicInfo.getY() + FONT_SIZE + 3, graphicInfo.getWidth() - 10, false, writer);
+
+            } else {
+                double radius = planItemDefinition instanceof Milestone ? graphicInfo.getHeight() / 2 : 10;
+                String styleClass = planItemDefinition instanceof Milestone ? "milestone" : "task";
+                writer.write("<rect class=\"" + styleClass + "\"" + bounds(graphicInfo) + " rx=\"" + format(radius) + "\" ry=\"" + format(radius) + "\"/>");
+                writeText(name, graphicInfo.getX() + graphicInfo.getWidth() / 2, graphicInfo.getY() + graphicInfo.getHeight() / 2,
+                        graphicInfo.getWidth() - 6, true, writer);
+            }
+            writer.write("</g>\n");
+        }
+
+        if (planItemDefinition instanceof Stage) {
+            for (PlanItem childPlanItem : ((Stage) planItemDefinition).getPlanItems()) {
+                writePlanItem(cmmnModel, childPlanItem, writer);
+            }
+        }
+
+        writeCriteria(cmmnModel, planItem.getEntryCriteria(), writer);
+        writeCriteria(cmmnModel, planItem.getExitCriteria(), writer);
+    }
+
+    protected void writeCriteria(CmmnModel cmmnModel, List<Criterion> criteria, Writer writer) throws IOException {
+        for (Criterion criterion : criteria) {
+            GraphicInfo graphicInfo = cmmnModel.getGraphicInfo(criterion.getId());
+            if (graphicInfo == null) {
+                continue;
+            }
+            double x = graphicInfo.getX();
+            double y = graphicInfo.getY();
+            double w = graphicInfo.getWidth();
+            double h = graphicInfo.getHeight();
+            writer.write("<polygon class=\"" + (criterion.isExitCriterion() ? "exit-criterion" : "entry-criterion") + "\" points=\""
+                    + format(x) + "," + format(y + h / 2) + " " + format(x + w / 2) + "," + format(y) + " "
+                    + format(x + w) + "," + format(y + h / 2) + " " + format(x + w / 2) + "," + format(y + h) + "\"/>\n");
+        }
+    }
+
+    /**
+     * Writes the text, broken into lines that approximately fit the given width.
+     */
+    protected void writeText(String text, double x, double y, double maxWidth, boolean centered, Writer writer) throws IOException {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        int maxCharacters = Math.max(1, (int) (maxWidth / AVERAGE_CHARACTER_WIDTH));
+        StringBuilder lines = new StringBuilder();
+        StringBuilder line = new StringBuilder();
+        int lineCount = 0;
+        int lineHeight = FONT_SIZE + 2;
+        for (String word : text.split("\\s+")) {
+            if (line.length() > 0 && line.length() + 1 + word.length() > maxCharacters) {
+                appendLine(lines, line, x, lineCount++ > 0 ? lineHeight : 0);
+                line.setLength(0);
+            }
+            if (line.length() > 0) {
+                line.append(' ');
+            }
+            line.append(word);
+        }
+        if (line.length() > 0) {
+            appendLine(lines, line, x, lineCount++ > 0 ? lineHeight : 0);
+        }
+
+        double startY = centered ? y - (lineCount * lineHeight) / 2.0 + FONT_SIZE : y;
+        writer.write("<text x=\"" + format(x) + "\" y=\"" + format(startY) + "\"" + (centered ? " text-anchor=\"middle\"" : "") + ">");
+        writer.write(lines.toString());
+        writer.write("</text>");
+    }
+
+    protected void appendLine(StringBuilder lines, CharSequence line, double x, int dy) {
+        lines.append("<tspan x=\"").append(format(x)).append('"');
+        if (dy > 0) {
+            lines.append(" dy=\"").append(dy).append('"');
+        }
+        lines.append('>').append(escape(line.toString())).append("</tspan>");
+    }
+
+    /**
+     * @return minX, minY, maxX and maxY of all shapes and associations of the model
+     */
+    protected double[] calculateBounds(CmmnModel cmmnModel) {
+        double minX = Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE;
+        double maxY = -Double.MAX_VALUE;
+        for (GraphicInfo graphicInfo : cmmnModel.getLocationMap().values()) {
+            minX = Math.min(minX, graphicInfo.getX());
+            minY = Math.min(minY, graphicInfo.getY());
+            maxX = Math.max(maxX, graphicInfo.getX() + graphicInfo.getWidth());
+            maxY = Math.max(maxY, graphicInfo.getY() + graphicInfo.getHeight());
+        }
+        for (List<GraphicInfo> graphicInfoList : cmmnModel.getFlowLocationMap().values()) {
+            for (GraphicInfo graphicInfo : graphicInfoList) {
+                minX = Math.min(minX, graphicInfo.getX());
+                minY = Math.min(minY, graphicInfo.getY());
+                maxX = Math.max(maxX, graphicInfo.getX());
+                maxY = Math.max(maxY, graphicInfo.getY());
+            }
+        }
+        if (minX > maxX || minY > maxY) {
+            // nothing to show
+            return new double[] { 0, 0, 0, 0 };
+        }
+        return new double[] { minX, minY, maxX, maxY };
+    }
+
+    protected String bounds(GraphicInfo graphicInfo) {
+        return " x=\"" + format(graphicInfo.getX()) + "\" y=\"" + format(graphicInfo.getY()) + "\" width=\"" + format(graphicInfo.getWidth())
+                + "\" height=\"" + format(graphicInfo.getHeight()) + "\"";
+    }
+
+    protected String format(double value) {
+        if (value == Math.rint(value)) {
+            return Long.toString((long) value);
+        }
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    /**
+     * Quotes the value as a CSS string. Characters that could end the string or the surrounding CDATA section are written as CSS escapes.
+     */
+    protected String cssString(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\'' || c == '\\' || c == '<' || c == '>' || c == '&' || c < ' ') {
+                quoted.append('\\').append(Integer.toHexString(c)).append(' ');
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    protected String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;").replace("'", "&#39;");
+    }
+
+}
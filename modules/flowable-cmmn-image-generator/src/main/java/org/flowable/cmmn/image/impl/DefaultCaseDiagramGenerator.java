@@ -14,14 +14,21 @@
 package org.flowable.cmmn.image.impl;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.EventListener;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
 
 import org.flowable.cmmn.image.CaseDiagramGenerator;
+import org.flowable.cmmn.image.exception.FlowableImageException;
 import org.flowable.cmmn.model.Association;
 import org.flowable.cmmn.model.BaseElement;
 import org.flowable.cmmn.model.Case;
@@ -50,8 +57,18 @@ import org.flowable.cmmn.model.UserEventListener;
  */
 public class DefaultCaseDiagramGenerator implements CaseDiagramGenerator {
 
+    public static final String SVG_IMAGE_TYPE = "svg";
+
     protected Map<Class<? extends CmmnElement>, ActivityDrawInstruction> activityDrawInstructions = new HashMap<>();
 
+    /**
+     * When enabled, the generated image is kept per {@link CmmnModel} instance and rendering options, so repeated requests for
+     * the diagram of the same case definition don't render it again.
+     * The cache is keyed on the model instance, so the model must not be changed after it has been rendered.
+     */
+    protected boolean diagramCacheEnabled;
+    protected final Map<CmmnModel, Map<DiagramKey, byte[]>> diagramCache = new WeakHashMap<>();
+
     public DefaultCaseDiagramGenerator() {
         this(1.0);
     }
@@ -187,7 +204,55 @@ public class DefaultCaseDiagramGenerator implements CaseDiagramGenerator {
     public InputStream generateDiagram(CmmnModel cmmnModel, String imageType,
             String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
 
-        return generateCaseDiagram(cmmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor).generateImage(imageType);
+        if (!diagramCacheEnabled) {
+            return new ByteArrayInputStream(renderDiagram(cmmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor));
+        }
+
+        DiagramKey key = new DiagramKey(imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+        byte[] diagram;
+        synchronized (diagramCache) {
+            Map<DiagramKey, byte[]> diagrams = diagramCache.get(cmmnModel);
+            diagram = diagrams != null ? diagrams.get(key) : null;
+        }
+
+        if (diagram == null) {
+            diagram = renderDiagram(cmmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+            synchronized (diagramCache) {
+                diagramCache.computeIfAbsent(cmmnModel, model -> new HashMap<>()).put(key, diagram);
+            }
+        }
+        return new ByteArrayInputStream(diagram);
+    }
+
+    protected byte[] renderDiagram(CmmnModel cmmnModel, String imageType,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (SVG_IMAGE_TYPE.equalsIgnoreCase(imageType)) {
+            writeSvgDiagram(cmmnModel, activityFontName, scaleFactor, out);
+            return out.toByteArray();
+        }
+
+        InputStream image = generateCaseDiagram(cmmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor)
+                .generateImage(imageType);
+        try {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = image.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new FlowableImageException("Error while generating case image", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Streams the diagram as SVG to the given output stream, without creating a raster image.
+     */
+    public void writeSvgDiagram(CmmnModel cmmnModel, String activityFontName, double scaleFactor, OutputStream outputStream) {
+        prepareCmmnModel(cmmnModel);
+        new CaseDiagramSvgWriter(activityFontName, scaleFactor).writeDiagram(cmmnModel, outputStream);
     }
 
     @Override
@@ -528,6 +593,63 @@ public class DefaultCaseDiagramGenerator implements CaseDiagramGenerator {
         this.activityDrawInstructions = activityDrawInstructions;
     }
 
+    public boolean isDiagramCacheEnabled() {
+        return diagramCacheEnabled;
+    }
+
+    public DefaultCaseDiagramGenerator setDiagramCacheEnabled(boolean diagramCacheEnabled) {
+        this.diagramCacheEnabled = diagramCacheEnabled;
+        return this;
+    }
+
+    public void clearDiagramCache() {
+        synchronized (diagramCache) {
+            diagramCache.clear();
+        }
+    }
+
+    protected static class DiagramKey {
+
+        protected final String imageType;
+        protected final String activityFontName;
+        protected final String labelFontName;
+        protected final String annotationFontName;
+        protected final ClassLoader customClassLoader;
+        protected final double scaleFactor;
+
+        public DiagramKey(String imageType, String activityFontName, String labelFontName, String annotationFontName,
+                ClassLoader customClassLoader, double scaleFactor) {
+            this.imageType = imageType != null ? imageType.toLowerCase() : null;
+            this.activityFontName = activityFontName;
+            this.labelFontName = labelFontName;
+            this.annotationFontName = annotationFontName;
+            this.customClassLoader = customClassLoader;
+            this.scaleFactor = scaleFactor;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            DiagramKey that = (DiagramKey) o;
+            return Double.compare(that.scaleFactor, scaleFactor) == 0
+                    && Objects.equals(imageType, that.imageType)
+                    && Objects.equals(activityFontName, that.activityFontName)
+                    && Objects.equals(labelFontName, that.labelFontName)
+                    && Objects.equals(annotationFontName, that.annotationFontName)
+                    && customClassLoader == that.customClassLoader;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(imageType, activityFontName, labelFontName, annotationFontName, scaleFactor);
+        }
+    }
+
     protected interface ActivityDrawInstruction {
         void draw(DefaultCaseDiagramCanvas caseDiagramCanvas, CmmnModel cmmnModel, CaseElement caseElement);
     }
@@ -0,0 +1,112 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.image.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.cmmn.model.GraphicInfo;
+import org.flowable.cmmn.model.HumanTask;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.Stage;
+import org.junit.Test;
+import org.w3c.dom.Element;
+
+public class CaseDiagramSvgWriterTest {
+
+    @Test
+    public void testWriteDiagram() throws Exception {
+        Element svg = writeDiagram(createModel(0, 0), new CaseDiagramSvgWriter());
+
+        assertEquals("95 45 415 315", svg.getAttribute("viewBox"));
+        assertEquals("415", svg.getAttribute("width"));
+        assertEquals("315", svg.getAttribute("height"));
+    }
+
+    @Test
+    public void testWriteDiagramWithNegativeCoordinates() throws Exception {
+        Element svg = writeDiagram(createModel(-200, -100), new CaseDiagramSvgWriter());
+
+        assertEquals("-105 -55 415 315", svg.getAttribute("viewBox"));
+    }
+
+    @Test
+    public void testWriteDiagramWithScaleFactor() throws Exception {
+        Element svg = writeDiagram(createModel(0, 0), new CaseDiagramSvgWriter(null, 0.5));
+
+        assertEquals("95 45 415 315", svg.getAttribute("viewBox"));
+        assertEquals("208", svg.getAttribute("width"));
+        assertEquals("158", svg.getAttribute("height"));
+    }
+
+    @Test
+    public void testWriteDiagramWithQuotesInFontName() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new CaseDiagramSvgWriter("Font's ]]>").writeDiagram(createModel(0, 0), out);
+        String svg = new String(out.toByteArray(), StandardCharsets.UTF_8);
+
+        assertFalse(svg.contains("&apos;"));
+        assertTrue(svg.contains("font-family: \"Font\\27 s ]]\\3e \";"));
+        DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    protected CmmnModel createModel(double offsetX, double offsetY) {
+        CmmnModel cmmnModel = new CmmnModel();
+        Case caseModel = new Case();
+        caseModel.setId("case");
+        Stage planModel = new Stage();
+        planModel.setId("planModel");
+        planModel.setName("Plan model");
+        planModel.setPlanModel(true);
+        caseModel.setPlanModel(planModel);
+        cmmnModel.addCase(caseModel);
+
+        HumanTask humanTask = new HumanTask();
+        humanTask.setId("humanTask");
+        planModel.addPlanItemDefinition(humanTask);
+        PlanItem planItem = new PlanItem();
+        planItem.setId("planItem1");
+        planItem.setName("User's task");
+        planItem.setPlanItemDefinition(humanTask);
+        planModel.addPlanItem(planItem);
+
+        cmmnModel.addGraphicInfo("planModel", createGraphicInfo(offsetX + 100, offsetY + 50, 400, 300));
+        cmmnModel.addGraphicInfo("planItem1", createGraphicInfo(offsetX + 150, offsetY + 100, 100, 80));
+        return cmmnModel;
+    }
+
+    protected GraphicInfo createGraphicInfo(double x, double y, double width, double height) {
+        GraphicInfo graphicInfo = new GraphicInfo();
+        graphicInfo.setX(x);
+        graphicInfo.setY(y);
+        graphicInfo.setWidth(width);
+        graphicInfo.setHeight(height);
+        return graphicInfo;
+    }
+
+    protected Element writeDiagram(CmmnModel cmmnModel, CaseDiagramSvgWriter writer) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeDiagram(cmmnModel, out);
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(out.toByteArray())).getDocumentElement();
+    }
+
+}
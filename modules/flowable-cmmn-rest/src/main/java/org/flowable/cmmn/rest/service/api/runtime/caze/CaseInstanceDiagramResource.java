@@ -23,6 +23,7 @@ import org.flowable.cmmn.api.repository.CaseDefinition;
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.image.CaseDiagramGenerator;
+import org.flowable.cmmn.image.impl.DefaultCaseDiagramGenerator;
 import org.flowable.cmmn.model.CmmnModel;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +32,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.annotations.Api;
@@ -60,7 +62,9 @@ public class CaseInstanceDiagramResource extends BaseCaseInstanceResource {
             @ApiResponse(code = 404, message = "Indicates the requested case instance was not found.")
     })
     @GetMapping(value = "/cmmn-runtime/case-instances/{caseInstanceId}/diagram")
-    public ResponseEntity<byte[]> getCaseInstanceDiagram(@ApiParam(name = "caseInstanceId") @PathVariable String caseInstanceId, HttpServletResponse response) {
+    public ResponseEntity<byte[]> getCaseInstanceDiagram(@ApiParam(name = "caseInstanceId") @PathVariable String caseInstanceId,
+            @ApiParam(name = "format", value = "The image format: png (default) or svg.") @RequestParam(value = "format", required = false) String format,
+            HttpServletResponse response) {
         CaseInstance caseInstance = getCaseInstanceFromRequest(caseInstanceId);
 
         CaseDefinition caseDef = repositoryService.getCaseDefinition(caseInstance.getCaseDefinitionId());
@@ -68,6 +72,26 @@ public class CaseInstanceDiagramResource extends BaseCaseInstanceResource {
         if (caseDef != null && caseDef.hasGraphicalNotation()) {
             CmmnModel cmmnModel = repositoryService.getCmmnModel(caseDef.getId());
             CaseDiagramGenerator diagramGenerator = cmmnEngineConfiguration.getCaseDiagramGenerator();
+
+            if (DefaultCaseDiagramGenerator.SVG_IMAGE_TYPE.equalsIgnoreCase(format)) {
+                response.setContentType("image/svg+xml");
+                try {
+                    if (diagramGenerator instanceof DefaultCaseDiagramGenerator && !((DefaultCaseDiagramGenerator) diagramGenerator).isDiagramCacheEnabled()) {
+                        ((DefaultCaseDiagramGenerator) diagramGenerator).writeSvgDiagram(cmmnModel, cmmnEngineConfiguration.getActivityFontName(), 1.0,
+                                response.getOutputStream());
+                    } else {
+                        IOUtils.copy(diagramGenerator.generateDiagram(cmmnModel, DefaultCaseDiagramGenerator.SVG_IMAGE_TYPE, cmmnEngineConfiguration.getActivityFontName(),
+                                cmmnEngineConfiguration.getLabelFontName(), cmmnEngineConfiguration.getAnnotationFontName(), cmmnEngineConfiguration.getClassLoader(), 1.0),
+                                response.getOutputStream());
+                    }
+                    response.flushBuffer();
+                } catch (Exception e) {
+                    throw new FlowableIllegalArgumentException("Error exporting diagram", e);
+                }
+                // the diagram is already written to the response
+                return null;
+            }
+
             InputStream resource = diagramGenerator.generateDiagram(cmmnModel, "png", cmmnEngineConfiguration.getActivityFontName(), cmmnEngineConfiguration.getLabelFontName(),
                             cmmnEngineConfiguration.getAnnotationFontName(), cmmnEngineConfiguration.getClassLoader(), 1.0);
 
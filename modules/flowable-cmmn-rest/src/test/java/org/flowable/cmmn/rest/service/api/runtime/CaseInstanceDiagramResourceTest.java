@@ -13,6 +13,9 @@
 
 package org.flowable.cmmn.rest.service.api.runtime;
 
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -37,6 +40,17 @@ public class CaseInstanceDiagramResourceTest extends BaseSpringRestTestCase {
         closeResponse(response);
     }
 
+    @CmmnDeployment(resources = { "org/flowable/cmmn/rest/service/api/repository/repeatingStage.cmmn" })
+    public void testGetCaseDiagramAsSvg() throws Exception {
+        CaseInstance caseInstance = runtimeService.createCaseInstanceBuilder().caseDefinitionKey("testRepeatingStage").start();
+
+        CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX
+                + CmmnRestUrls.createRelativeResourceUrl(CmmnRestUrls.URL_CASE_INSTANCE_DIAGRAM, caseInstance.getId()) + "?format=svg"), HttpStatus.SC_OK);
+        assertTrue(response.getEntity().getContentType().getValue().startsWith("image/svg+xml"));
+        assertTrue(IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8).contains("<svg "));
+        closeResponse(response);
+    }
+
     @CmmnDeployment(resources = { "org/flowable/cmmn/rest/service/api/repository/oneHumanTaskCase.cmmn" })
     public void testGetCaseDiagramWithoutDiagram() throws Exception {
         CaseInstance caseInstance = runtimeService.createCaseInstanceBuilder().caseDefinitionKey("oneHumanTaskCase").start();
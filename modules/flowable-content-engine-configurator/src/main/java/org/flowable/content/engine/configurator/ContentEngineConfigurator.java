@@ -37,6 +37,11 @@ public class ContentEngineConfigurator extends AbstractEngineConfigurator {
     public int getPriority() {
         return EngineConfigurationConstants.PRIORITY_ENGINE_CONTENT;
     }
+
+    @Override
+    public boolean isParallelInitSupported() {
+        return true;
+    }
     
     @Override
     protected List<EngineDeployer> getCustomDeployers() {
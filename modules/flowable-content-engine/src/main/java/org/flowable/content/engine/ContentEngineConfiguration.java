@@ -110,8 +110,14 @@ public class ContentEngineConfiguration extends AbstractEngineConfiguration impl
     // ///////////////////////////////////////////////////////
 
     public ContentEngine buildContentEngine() {
-        init();
-        return new ContentEngineImpl(this);
+        timeInitPhase("init", this::init);
+
+        long startTime = System.nanoTime();
+        ContentEngine contentEngine = new ContentEngineImpl(this);
+        addInitPhaseDuration("engine creation", startTime);
+
+        logInitPhaseDurations();
+        return contentEngine;
     }
 
     // init
@@ -245,6 +251,7 @@ public class ContentEngineConfiguration extends AbstractEngineConfiguration impl
         initDefaultCommandConfig();
         initSchemaCommandConfig();
         initCommandInvoker();
+        initCommandTracer();
         initCommandInterceptors();
         initCommandExecutor();
     }
@@ -44,6 +44,11 @@ public class SimulationExpressionManager extends ProcessExpressionManager {
         return compositeElResolver;
     }
 
+    @Override
+    protected boolean isCompilableIdentifier(String identifier) {
+        return !SimulationScopeElResolver.EVENT_CALENDAR_KEY.equals(identifier) && super.isCompilableIdentifier(identifier);
+    }
+
     private class SimulationScopeElResolver extends ELResolver {
 
         public static final String EVENT_CALENDAR_KEY = "eventCalendar";
@@ -56,17 +56,24 @@ public class DecisionExecutionAuditContainer {
     public DecisionExecutionAuditContainer(String decisionKey, String decisionName, int decisionVersion, HitPolicy hitPolicy, 
                     Boolean strictMode, Map<String, Object> inputVariables) {
         
+        this(decisionKey, decisionName, decisionVersion, hitPolicy, strictMode);
+
+        this.inputVariableTypes = getVariablesTypeMap(inputVariables);
+
+        // create defensive copy of input variables
+        this.inputVariables = createDefensiveCopyInputVariables(inputVariables);
+    }
+
+    /**
+     * Creates a container without the input variables, for executions that don't keep an audit of their inputs.
+     */
+    public DecisionExecutionAuditContainer(String decisionKey, String decisionName, int decisionVersion, HitPolicy hitPolicy, Boolean strictMode) {
         this.startTime = new Date();
         this.decisionKey = decisionKey;
         this.decisionName = decisionName;
         this.decisionVersion = decisionVersion;
         this.hitPolicy = hitPolicy.getValue();
         this.strictMode = strictMode;
-
-        this.inputVariableTypes = getVariablesTypeMap(inputVariables);
-
-        // create defensive copy of input variables
-        this.inputVariables = createDefensiveCopyInputVariables(inputVariables);
     }
 
     protected Map<String, String> getVariablesTypeMap(Map<String, Object> variableValuesMap) {
@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+/**
+ * The amount of detail kept in the {@link DecisionExecutionAuditContainer} of a decision execution and in its historic decision execution.
+ */
+public enum DecisionExecutionAuditLevel {
+
+    /**
+     * No audit is kept and no historic decision execution is written. Only the decision result is available.
+     */
+    NONE,
+
+    /**
+     * The input variables and the decision result are kept, without any rule executions.
+     */
+    OUTCOME,
+
+    /**
+     * Like {@link #OUTCOME}, together with the rule executions of the rules that matched, including their input and output entries.
+     */
+    MATCHED_RULES,
+
+    /**
+     * Like {@link #MATCHED_RULES}, together with the rule executions of all evaluated rules.
+     */
+    FULL
+
+}
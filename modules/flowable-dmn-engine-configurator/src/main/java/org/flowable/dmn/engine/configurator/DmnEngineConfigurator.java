@@ -39,6 +39,11 @@ public class DmnEngineConfigurator extends AbstractEngineConfigurator {
     public int getPriority() {
         return EngineConfigurationConstants.PRIORITY_ENGINE_DMN;
     }
+
+    @Override
+    public boolean isParallelInitSupported() {
+        return true;
+    }
     
     @Override
     protected List<EngineDeployer> getCustomDeployers() {
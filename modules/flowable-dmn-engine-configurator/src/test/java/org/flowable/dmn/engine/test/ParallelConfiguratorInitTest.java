@@ -0,0 +1,178 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.configurator.DmnEngineConfigurator;
+import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.form.api.FormDefinition;
+import org.flowable.form.api.FormDeployment;
+import org.flowable.form.engine.FormEngineConfiguration;
+import org.flowable.form.engine.configurator.FormEngineConfigurator;
+import org.flowable.form.engine.impl.cfg.StandaloneInMemFormEngineConfiguration;
+import org.flowable.idm.api.User;
+import org.flowable.idm.engine.IdmEngineConfiguration;
+import org.flowable.idm.engine.configurator.IdmEngineConfigurator;
+import org.flowable.idm.engine.impl.cfg.StandaloneInMemIdmEngineConfiguration;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.junit.Test;
+
+/**
+ * Boots a process engine with the IDM, DMN and Form engines built in parallel and checks that all of them are usable afterwards.
+ */
+public class ParallelConfiguratorInitTest {
+
+    protected static final String ENGINE_NAME = "parallelConfiguratorInitTest";
+
+    protected Map<String, Thread> configureThreads = new ConcurrentHashMap<>();
+
+    @Test
+    public void testEnginesAreUsableAfterParallelConfiguratorInit() {
+        StandaloneInMemProcessEngineConfiguration processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setEngineName(ENGINE_NAME);
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-parallel-configurator-init;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setEnableParallelConfiguratorInit(true);
+
+        IdmEngineConfiguration idmEngineConfiguration = new StandaloneInMemIdmEngineConfiguration();
+        idmEngineConfiguration.setEngineName(ENGINE_NAME);
+        IdmEngineConfigurator idmEngineConfigurator = new IdmEngineConfigurator() {
+
+            @Override
+            public void configure(AbstractEngineConfiguration engineConfiguration) {
+                configureThreads.put("idm", Thread.currentThread());
+                super.configure(engineConfiguration);
+            }
+        };
+        idmEngineConfigurator.setIdmEngineConfiguration(idmEngineConfiguration);
+        processEngineConfiguration.setIdmEngineConfigurator(idmEngineConfigurator);
+
+        DmnEngineConfiguration dmnEngineConfiguration = new StandaloneInMemDmnEngineConfiguration();
+        dmnEngineConfiguration.setEngineName(ENGINE_NAME);
+        dmnEngineConfiguration.setHistoryEnabled(true);
+        DmnEngineConfigurator dmnEngineConfigurator = new DmnEngineConfigurator() {
+
+            @Override
+            public void configure(AbstractEngineConfiguration engineConfiguration) {
+                configureThreads.put("dmn", Thread.currentThread());
+                super.configure(engineConfiguration);
+            }
+        };
+        dmnEngineConfigurator.setDmnEngineConfiguration(dmnEngineConfiguration);
+        processEngineConfiguration.addConfigurator(dmnEngineConfigurator);
+
+        FormEngineConfiguration formEngineConfiguration = new StandaloneInMemFormEngineConfiguration();
+        formEngineConfiguration.setEngineName(ENGINE_NAME);
+        FormEngineConfigurator formEngineConfigurator = new FormEngineConfigurator() {
+
+            @Override
+            public void configure(AbstractEngineConfiguration engineConfiguration) {
+                configureThreads.put("form", Thread.currentThread());
+                super.configure(engineConfiguration);
+            }
+        };
+        formEngineConfigurator.setFormEngineConfiguration(formEngineConfiguration);
+        processEngineConfiguration.addConfigurator(formEngineConfigurator);
+
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+        try {
+            assertEquals(3, configureThreads.size());
+            for (Thread configureThread : configureThreads.values()) {
+                assertNotEquals(Thread.currentThread(), configureThread);
+            }
+
+            assertEquals(idmEngineConfiguration, processEngineConfiguration.getEngineConfigurations().get(EngineConfigurationConstants.KEY_IDM_ENGINE_CONFIG));
+            assertEquals(dmnEngineConfiguration, processEngineConfiguration.getEngineConfigurations().get(EngineConfigurationConstants.KEY_DMN_ENGINE_CONFIG));
+            assertEquals(formEngineConfiguration, processEngineConfiguration.getEngineConfigurations().get(EngineConfigurationConstants.KEY_FORM_ENGINE_CONFIG));
+
+            assertIdmEngineIsUsable(processEngine);
+            assertDmnEngineIsUsable(processEngine, dmnEngineConfiguration);
+            assertFormEngineIsUsable(formEngineConfiguration);
+
+        } finally {
+            processEngine.close();
+        }
+    }
+
+    protected void assertIdmEngineIsUsable(ProcessEngine processEngine) {
+        User user = processEngine.getIdentityService().newUser("kermit");
+        user.setFirstName("Kermit");
+        processEngine.getIdentityService().saveUser(user);
+        try {
+            User savedUser = processEngine.getIdentityService().createUserQuery().userId("kermit").singleResult();
+            assertNotNull(savedUser);
+            assertEquals("Kermit", savedUser.getFirstName());
+
+        } finally {
+            processEngine.getIdentityService().deleteUser("kermit");
+        }
+    }
+
+    protected void assertDmnEngineIsUsable(ProcessEngine processEngine, DmnEngineConfiguration dmnEngineConfiguration) {
+        String deploymentId = processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/dmn/engine/test/deployment/oneDecisionTaskProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/dmn/engine/test/deployment/simple.dmn")
+                .deploy()
+                .getId();
+        try {
+            ProcessInstance processInstance = processEngine.getRuntimeService().startProcessInstanceByKey("oneDecisionTaskProcess",
+                    Collections.singletonMap("inputVariable1", (Object) 1));
+
+            HistoricVariableInstance outputVariable = processEngine.getHistoryService().createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId())
+                    .variableName("outputVariable1")
+                    .singleResult();
+            assertNotNull(outputVariable);
+            assertEquals("result1", outputVariable.getValue());
+
+            assertEquals(1, dmnEngineConfiguration.getDmnHistoryService().createHistoricDecisionExecutionQuery()
+                    .instanceId(processInstance.getId())
+                    .count());
+
+        } finally {
+            processEngine.getRepositoryService().deleteDeployment(deploymentId, true);
+            for (DmnDeployment dmnDeployment : dmnEngineConfiguration.getDmnRepositoryService().createDeploymentQuery().list()) {
+                dmnEngineConfiguration.getDmnRepositoryService().deleteDeployment(dmnDeployment.getId());
+            }
+        }
+    }
+
+    protected void assertFormEngineIsUsable(FormEngineConfiguration formEngineConfiguration) {
+        FormDeployment formDeployment = formEngineConfiguration.getFormRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/dmn/engine/test/deployment/simple.form")
+                .deploy();
+        try {
+            FormDefinition formDefinition = formEngineConfiguration.getFormRepositoryService().createFormDefinitionQuery()
+                    .formDefinitionKey("form1")
+                    .singleResult();
+            assertNotNull(formDefinition);
+            assertEquals(formDeployment.getId(), formDefinition.getDeploymentId());
+
+        } finally {
+            formEngineConfiguration.getFormRepositoryService().deleteDeployment(formDeployment.getId());
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import javax.sql.DataSource;
 
@@ -37,6 +38,7 @@ import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
 import org.flowable.dmn.api.DmnEngineConfigurationApi;
 import org.flowable.dmn.api.DmnHistoryService;
 import org.flowable.dmn.api.DmnManagementService;
@@ -69,6 +71,7 @@ import org.flowable.dmn.engine.impl.el.FlowableNotContainsAnyFunctionDelegate;
 import org.flowable.dmn.engine.impl.el.FlowableNotContainsFunctionDelegate;
 import org.flowable.dmn.engine.impl.el.FlowableSubtractDateFunctionDelegate;
 import org.flowable.dmn.engine.impl.el.FlowableToDateFunctionDelegate;
+import org.flowable.dmn.engine.impl.history.DmnHistoryCleaningManager;
 import org.flowable.dmn.engine.impl.hitpolicy.AbstractHitPolicy;
 import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyAny;
 import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyCollect;
@@ -78,6 +81,7 @@ import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyPriority;
 import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyRuleOrder;
 import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyUnique;
 import org.flowable.dmn.engine.impl.parser.DmnParseFactory;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionResultCache;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.deploy.Deployer;
 import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentManager;
@@ -155,9 +159,50 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
     protected boolean historyEnabled;
 
+    /**
+     * The amount of detail kept in the audit of a decision execution and its historic decision execution.
+     * Lower levels skip the creation of the corresponding audit objects while evaluating the decision.
+     */
+    protected DecisionExecutionAuditLevel decisionExecutionAuditLevel = DecisionExecutionAuditLevel.FULL;
+
+    /**
+     * The fraction (between 0 and 1) of decision executions that are audited with the {@link #decisionExecutionAuditLevel}.
+     * The other decision executions are executed with {@link DecisionExecutionAuditLevel#NONE}.
+     */
+    protected double decisionExecutionAuditSampleRate = 1.0;
+
+    /**
+     * Set this to true to write the historic decision executions in a separate transaction once the calling transaction has committed,
+     * instead of inside the calling transaction. The execution json is then also serialized after the commit.
+     */
+    protected boolean asyncHistoryEnabled;
+
+    /**
+     * The executor used to write the historic decision executions when async history is enabled.
+     * When none is set, they are written by the calling thread right after its transaction has committed.
+     */
+    protected Executor asyncHistoryExecutor;
+
     protected int decisionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<DecisionTableCacheEntry> decisionCache;
 
+    /**
+     * The maximum number of cached decision results of the decisions that have opted in with flowable:cacheResults="true".
+     */
+    protected int decisionResultCacheLimit = 1000;
+
+    /**
+     * The time in milliseconds a cached decision result stays valid.
+     */
+    protected long decisionResultCacheTimeToLive = 5 * 60 * 1000L;
+    protected DecisionResultCache decisionResultCache;
+
+    /**
+     * The functions that don't always return the same value for the same arguments.
+     * Decisions using any of these functions never have their results cached.
+     */
+    protected List<FlowableFunctionDelegate> nonDeterministicFunctionDelegates;
+
     protected ObjectMapper objectMapper = new ObjectMapper();
 
     // HIT POLICIES
@@ -213,8 +258,14 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
     // ///////////////////////////////////////////////////////
 
     public DmnEngine buildDmnEngine() {
-        init();
-        return new DmnEngineImpl(this);
+        timeInitPhase("init", this::init);
+
+        long startTime = System.nanoTime();
+        DmnEngine dmnEngine = new DmnEngineImpl(this);
+        addInitPhaseDuration("engine creation", startTime);
+
+        logInitPhaseDurations();
+        return dmnEngine;
     }
 
     // init
@@ -252,9 +303,12 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         initDataManagers();
         initEntityManagers();
         initDeployers();
+        initLatestDefinitionCache();
         initClock();
+        initDecisionResultCache();
         initHitPolicyBehaviors();
         initRuleEngineExecutor();
+        initHistoryCleaningManager();
     }
 
     // services
@@ -356,6 +410,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         initDefaultCommandConfig();
         initSchemaCommandConfig();
         initCommandInvoker();
+        initCommandTracer();
         initCommandInterceptors();
         initCommandExecutor();
     }
@@ -393,6 +448,11 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         if (this.customFlowableFunctionDelegates != null) {
             this.flowableFunctionDelegates.addAll(this.customFlowableFunctionDelegates);
         }
+
+        if (this.nonDeterministicFunctionDelegates == null) {
+            this.nonDeterministicFunctionDelegates = new ArrayList<>();
+            this.nonDeterministicFunctionDelegates.add(new FlowableCurrentDateFunctionDelegate());
+        }
     }
 
     public void initExpressionManager() {
@@ -437,6 +497,12 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         deploymentManager.setDecisionTableEntityManager(decisionTableEntityManager);
     }
 
+    public void initDecisionResultCache() {
+        if (decisionResultCache == null) {
+            decisionResultCache = new DecisionResultCache(decisionResultCacheLimit, decisionResultCacheTimeToLive, clock);
+        }
+    }
+
     public Collection<? extends Deployer> getDefaultDeployers() {
         List<Deployer> defaultDeployers = new ArrayList<>();
 
@@ -549,6 +615,12 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
     	}
     }
 
+    public void initHistoryCleaningManager() {
+        if (historyCleaningManager == null && enableHistoryCleaning) {
+            historyCleaningManager = new DmnHistoryCleaningManager(this);
+        }
+    }
+
 
     // getters and setters
     // //////////////////////////////////////////////////////
@@ -766,6 +838,42 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public DecisionExecutionAuditLevel getDecisionExecutionAuditLevel() {
+        return decisionExecutionAuditLevel;
+    }
+
+    public DmnEngineConfiguration setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel decisionExecutionAuditLevel) {
+        this.decisionExecutionAuditLevel = decisionExecutionAuditLevel;
+        return this;
+    }
+
+    public double getDecisionExecutionAuditSampleRate() {
+        return decisionExecutionAuditSampleRate;
+    }
+
+    public DmnEngineConfiguration setDecisionExecutionAuditSampleRate(double decisionExecutionAuditSampleRate) {
+        this.decisionExecutionAuditSampleRate = decisionExecutionAuditSampleRate;
+        return this;
+    }
+
+    public boolean isAsyncHistoryEnabled() {
+        return asyncHistoryEnabled;
+    }
+
+    public DmnEngineConfiguration setAsyncHistoryEnabled(boolean asyncHistoryEnabled) {
+        this.asyncHistoryEnabled = asyncHistoryEnabled;
+        return this;
+    }
+
+    public Executor getAsyncHistoryExecutor() {
+        return asyncHistoryExecutor;
+    }
+
+    public DmnEngineConfiguration setAsyncHistoryExecutor(Executor asyncHistoryExecutor) {
+        this.asyncHistoryExecutor = asyncHistoryExecutor;
+        return this;
+    }
+
     public int getDecisionCacheLimit() {
         return decisionCacheLimit;
     }
@@ -784,6 +892,42 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public int getDecisionResultCacheLimit() {
+        return decisionResultCacheLimit;
+    }
+
+    public DmnEngineConfiguration setDecisionResultCacheLimit(int decisionResultCacheLimit) {
+        this.decisionResultCacheLimit = decisionResultCacheLimit;
+        return this;
+    }
+
+    public long getDecisionResultCacheTimeToLive() {
+        return decisionResultCacheTimeToLive;
+    }
+
+    public DmnEngineConfiguration setDecisionResultCacheTimeToLive(long decisionResultCacheTimeToLive) {
+        this.decisionResultCacheTimeToLive = decisionResultCacheTimeToLive;
+        return this;
+    }
+
+    public DecisionResultCache getDecisionResultCache() {
+        return decisionResultCache;
+    }
+
+    public DmnEngineConfiguration setDecisionResultCache(DecisionResultCache decisionResultCache) {
+        this.decisionResultCache = decisionResultCache;
+        return this;
+    }
+
+    public List<FlowableFunctionDelegate> getNonDeterministicFunctionDelegates() {
+        return nonDeterministicFunctionDelegates;
+    }
+
+    public DmnEngineConfiguration setNonDeterministicFunctionDelegates(List<FlowableFunctionDelegate> nonDeterministicFunctionDelegates) {
+        this.nonDeterministicFunctionDelegates = nonDeterministicFunctionDelegates;
+        return this;
+    }
+
     public DmnDeploymentDataManager getDeploymentDataManager() {
         return deploymentDataManager;
     }
@@ -952,6 +1096,9 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
     @Override
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
+        if (decisionResultCache != null) {
+            decisionResultCache.setClock(clock);
+        }
         return this;
     }
 
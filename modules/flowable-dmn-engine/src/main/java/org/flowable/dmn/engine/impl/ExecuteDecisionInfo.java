@@ -12,8 +12,12 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
+
 public class ExecuteDecisionInfo {
 
     protected String decisionKey;
@@ -28,6 +32,9 @@ public class ExecuteDecisionInfo {
     protected Map<String, Object> variables;
     protected String tenantId;
     protected boolean fallbackToDefaultTenant;
+    protected DecisionExecutionAuditLevel auditLevel;
+    protected boolean resultCacheable;
+    protected List<String> resultCacheKeyVariables = Collections.emptyList();
     
     public String getDecisionKey() {
         return decisionKey;
@@ -101,4 +108,22 @@ public class ExecuteDecisionInfo {
     public void setFallbackToDefaultTenant(boolean fallbackToDefaultTenant) {
         this.fallbackToDefaultTenant = fallbackToDefaultTenant;
     }
+    public DecisionExecutionAuditLevel getAuditLevel() {
+        return auditLevel;
+    }
+    public void setAuditLevel(DecisionExecutionAuditLevel auditLevel) {
+        this.auditLevel = auditLevel;
+    }
+    public boolean isResultCacheable() {
+        return resultCacheable;
+    }
+    public void setResultCacheable(boolean resultCacheable) {
+        this.resultCacheable = resultCacheable;
+    }
+    public List<String> getResultCacheKeyVariables() {
+        return resultCacheKeyVariables;
+    }
+    public void setResultCacheKeyVariables(List<String> resultCacheKeyVariables) {
+        this.resultCacheKeyVariables = resultCacheKeyVariables;
+    }
 }
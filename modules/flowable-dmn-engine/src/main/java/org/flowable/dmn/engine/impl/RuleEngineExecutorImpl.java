@@ -12,26 +12,42 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.RuleEngineExecutor;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 import org.flowable.dmn.engine.impl.el.ELExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.el.ELExpressionExecutor;
 import org.flowable.dmn.engine.impl.el.ExecutionVariableFactory;
+import org.flowable.dmn.engine.impl.el.RuleExpressionOutput;
 import org.flowable.dmn.engine.impl.hitpolicy.AbstractHitPolicy;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeDecisionResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionResultCache;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionResultCache.CachedDecisionResult;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
@@ -39,6 +55,7 @@ import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionRule;
 import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.HitPolicy;
+import org.flowable.dmn.model.InputClause;
 import org.flowable.dmn.model.LiteralExpression;
 import org.flowable.dmn.model.RuleInputClauseContainer;
 import org.flowable.dmn.model.RuleOutputClauseContainer;
@@ -83,15 +100,42 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         }
 
         DecisionTable currentDecisionTable = (DecisionTable) decision.getExpression();
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+        DecisionExecutionAuditLevel auditLevel = getAuditLevel(executeDecisionInfo, dmnEngineConfiguration);
 
         // create execution context and audit trail
-        ELExecutionContext executionContext = ELExecutionContextBuilder.build(decision, executeDecisionInfo);
+        ELExecutionContext executionContext = ELExecutionContextBuilder.build(decision, executeDecisionInfo, auditLevel);
+
+        DecisionResultCache decisionResultCache = dmnEngineConfiguration.getDecisionResultCache();
+        List<Object> cacheInputValues = null;
+        if (isUseDecisionResultCache(executeDecisionInfo, auditLevel, decisionResultCache)) {
+            cacheInputValues = getCacheInputValues(currentDecisionTable, executeDecisionInfo, executionContext);
+        }
 
         try {
             sanityCheckDecisionTable(currentDecisionTable);
 
-            // evaluate decision table
-            evaluateDecisionTable(currentDecisionTable, executionContext);
+            CachedDecisionResult cachedDecisionResult = null;
+            if (cacheInputValues != null) {
+                cachedDecisionResult = decisionResultCache.get(executeDecisionInfo.getDecisionKey(), executeDecisionInfo.getDecisionDefinitionId(), cacheInputValues);
+            }
+
+            if (cachedDecisionResult != null) {
+                LOGGER.debug("Using cached result for decision table {}", currentDecisionTable.getId());
+                executionContext.getAuditContainer().setDecisionResult(cachedDecisionResult.getDecisionResult());
+                for (Map.Entry<String, String> resultType : cachedDecisionResult.getDecisionResultTypes().entrySet()) {
+                    executionContext.getAuditContainer().addDecisionResultType(resultType.getKey(), resultType.getValue());
+                }
+
+            } else {
+                // evaluate decision table
+                evaluateDecisionTable(currentDecisionTable, executionContext);
+
+                if (cacheInputValues != null && !BooleanUtils.isTrue(executionContext.getAuditContainer().isFailed())) {
+                    decisionResultCache.add(executeDecisionInfo.getDecisionKey(), executeDecisionInfo.getDecisionDefinitionId(), cacheInputValues,
+                            executionContext.getAuditContainer().getDecisionResult(), executionContext.getAuditContainer().getDecisionResultTypes());
+                }
+            }
 
         } catch (FlowableException fe) {
             LOGGER.error("decision table execution sanity check failed", fe);
@@ -102,36 +146,198 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             // end audit trail
             executionContext.getAuditContainer().stopAudit();
 
-            DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
-            if (dmnEngineConfiguration.isHistoryEnabled()) {
-                HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = dmnEngineConfiguration.getHistoricDecisionExecutionEntityManager();
-                HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
-                decisionExecutionEntity.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
-                decisionExecutionEntity.setDeploymentId(executeDecisionInfo.getDeploymentId());
-                decisionExecutionEntity.setStartTime(executionContext.getAuditContainer().getStartTime());
-                decisionExecutionEntity.setEndTime(executionContext.getAuditContainer().getEndTime());
-                decisionExecutionEntity.setInstanceId(executeDecisionInfo.getInstanceId());
-                decisionExecutionEntity.setExecutionId(executeDecisionInfo.getExecutionId());
-                decisionExecutionEntity.setActivityId(executeDecisionInfo.getActivityId());
-                decisionExecutionEntity.setScopeType(executeDecisionInfo.getScopeType());
-                decisionExecutionEntity.setTenantId(executeDecisionInfo.getTenantId());
-
-                Boolean failed = executionContext.getAuditContainer().isFailed();
-                if (BooleanUtils.isTrue(failed)) {
-                    decisionExecutionEntity.setFailed(failed.booleanValue());
-                }
+            if (auditLevel == DecisionExecutionAuditLevel.NONE || auditLevel == DecisionExecutionAuditLevel.OUTCOME) {
+                // the valid rules were only registered for the hit policy checks
+                executionContext.getAuditContainer().getRuleExecutions().clear();
+            }
 
+            if (dmnEngineConfiguration.isHistoryEnabled() && auditLevel != DecisionExecutionAuditLevel.NONE) {
+                recordDecisionExecution(executeDecisionInfo, executionContext.getAuditContainer(), dmnEngineConfiguration);
+            }
+        }
+
+        return executionContext.getAuditContainer();
+    }
+
+    /**
+     * The result cache is only used for decisions that are marked as cacheable when deployed,
+     * and never when a full audit trail is recorded (requested or configured) because a cached result doesn't have any rule executions.
+     */
+    protected boolean isUseDecisionResultCache(ExecuteDecisionInfo executeDecisionInfo, DecisionExecutionAuditLevel auditLevel,
+            DecisionResultCache decisionResultCache) {
+        return decisionResultCache != null && executeDecisionInfo.isResultCacheable() && executeDecisionInfo.getDecisionDefinitionId() != null
+                && auditLevel != DecisionExecutionAuditLevel.FULL;
+    }
+
+    /**
+     * Returns the normalized values of the input clauses of the decision table, in the order of the input clauses,
+     * followed by the values of the other variables used by the rules (see {@link ExecuteDecisionInfo#getResultCacheKeyVariables()}).
+     * Returns null when a value can't be determined or isn't a simple value, in which case the result is not cached.
+     */
+    protected List<Object> getCacheInputValues(DecisionTable decisionTable, ExecuteDecisionInfo executeDecisionInfo, ELExecutionContext executionContext) {
+        List<Object> inputValues = new ArrayList<>(decisionTable.getInputs().size());
+        for (InputClause inputClause : decisionTable.getInputs()) {
+            String inputExpression = inputClause.getInputExpression().getText();
+            if (StringUtils.isEmpty(inputExpression)) {
+                return null;
+            }
+
+            Object inputValue;
+            if (executionContext.getStackVariables().containsKey(inputExpression)) {
+                inputValue = executionContext.getStackVariables().get(inputExpression);
+
+            } else {
                 try {
-                    decisionExecutionEntity.setExecutionJson(objectMapper.writeValueAsString(executionContext.getAuditContainer()));
+                    Expression expression = expressionManager.createExpression("${" + inputExpression + "}");
+                    inputValue = new RuleExpressionOutput(expression).getValue(executionContext.getStackVariables());
                 } catch (Exception e) {
-                    throw new FlowableException("Error writing execution json", e);
+                    // the decision table evaluation reports the error
+                    LOGGER.debug("Could not determine the value of input expression {}, not using the decision result cache", inputExpression, e);
+                    return null;
                 }
+            }
 
-                historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
+            if (!isCacheableInputValue(inputValue)) {
+                return null;
             }
+            inputValues.add(normalizeInputValue(inputValue));
         }
 
-        return executionContext.getAuditContainer();
+        for (String variableName : executeDecisionInfo.getResultCacheKeyVariables()) {
+            Object variableValue = executionContext.getStackVariables().get(variableName);
+            if (!isCacheableInputValue(variableValue)) {
+                return null;
+            }
+            inputValues.add(normalizeInputValue(variableValue));
+        }
+        return inputValues;
+    }
+
+    protected boolean isCacheableInputValue(Object value) {
+        if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                if (!isCacheableInputValue(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return value == null || value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof Date || value instanceof Character || value instanceof Enum;
+    }
+
+    /**
+     * Makes sure that equal input values give the same cache key, for example 10 and 10.0.
+     */
+    protected Object normalizeInputValue(Object value) {
+        if (value instanceof Collection) {
+            List<Object> normalizedValues = new ArrayList<>(((Collection<?>) value).size());
+            for (Object element : (Collection<?>) value) {
+                normalizedValues.add(normalizeInputValue(element));
+            }
+            return normalizedValues;
+
+        } else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).stripTrailingZeros();
+
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value).stripTrailingZeros();
+
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue()).stripTrailingZeros();
+
+        } else if ((value instanceof Double || value instanceof Float) && !Double.isNaN(((Number) value).doubleValue())
+                && !Double.isInfinite(((Number) value).doubleValue())) {
+            return new BigDecimal(value.toString()).stripTrailingZeros();
+
+        } else if (value instanceof Date) {
+            return new Date(((Date) value).getTime());
+        }
+        return value;
+    }
+
+    /**
+     * Returns the audit level of the given decision execution: the level requested for the execution itself,
+     * or otherwise the configured level when the execution is part of the sampled executions.
+     */
+    protected DecisionExecutionAuditLevel getAuditLevel(ExecuteDecisionInfo executeDecisionInfo, DmnEngineConfiguration dmnEngineConfiguration) {
+        if (executeDecisionInfo.getAuditLevel() != null) {
+            return executeDecisionInfo.getAuditLevel();
+        }
+
+        DecisionExecutionAuditLevel auditLevel = dmnEngineConfiguration.getDecisionExecutionAuditLevel();
+        double sampleRate = dmnEngineConfiguration.getDecisionExecutionAuditSampleRate();
+        if (auditLevel != DecisionExecutionAuditLevel.NONE && sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return DecisionExecutionAuditLevel.NONE;
+        }
+        return auditLevel;
+    }
+
+    protected void recordDecisionExecution(ExecuteDecisionInfo executeDecisionInfo, DecisionExecutionAuditContainer auditContainer,
+            DmnEngineConfiguration dmnEngineConfiguration) {
+
+        HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = dmnEngineConfiguration.getHistoricDecisionExecutionEntityManager();
+        HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
+        decisionExecutionEntity.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
+        decisionExecutionEntity.setDeploymentId(executeDecisionInfo.getDeploymentId());
+        decisionExecutionEntity.setStartTime(auditContainer.getStartTime());
+        decisionExecutionEntity.setEndTime(auditContainer.getEndTime());
+        decisionExecutionEntity.setInstanceId(executeDecisionInfo.getInstanceId());
+        decisionExecutionEntity.setExecutionId(executeDecisionInfo.getExecutionId());
+        decisionExecutionEntity.setActivityId(executeDecisionInfo.getActivityId());
+        decisionExecutionEntity.setScopeType(executeDecisionInfo.getScopeType());
+        decisionExecutionEntity.setTenantId(executeDecisionInfo.getTenantId());
+
+        Boolean failed = auditContainer.isFailed();
+        if (BooleanUtils.isTrue(failed)) {
+            decisionExecutionEntity.setFailed(failed.booleanValue());
+        }
+
+        if (dmnEngineConfiguration.isAsyncHistoryEnabled()) {
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                        commandContext -> writeDecisionExecutionAfterCommit(decisionExecutionEntity, auditContainer, dmnEngineConfiguration));
+                return;
+            }
+        }
+
+        decisionExecutionEntity.setExecutionJson(writeExecutionJson(auditContainer));
+        historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
+    }
+
+    protected void writeDecisionExecutionAfterCommit(HistoricDecisionExecutionEntity decisionExecutionEntity, DecisionExecutionAuditContainer auditContainer,
+            DmnEngineConfiguration dmnEngineConfiguration) {
+
+        CommandExecutor commandExecutor = dmnEngineConfiguration.getCommandExecutor();
+        Runnable historyWriter = () -> {
+            try {
+                commandExecutor.execute(commandExecutor.getDefaultConfig().transactionRequiresNew(), commandContext -> {
+                    decisionExecutionEntity.setExecutionJson(writeExecutionJson(auditContainer));
+                    CommandContextUtil.getHistoricDecisionExecutionEntityManager(commandContext).insert(decisionExecutionEntity);
+                    return null;
+                });
+
+            } catch (RuntimeException e) {
+                // the decision execution itself is already committed, so the failure can only be reported
+                LOGGER.error("Error writing historic decision execution for decision definition {}", decisionExecutionEntity.getDecisionDefinitionId(), e);
+            }
+        };
+
+        Executor asyncHistoryExecutor = dmnEngineConfiguration.getAsyncHistoryExecutor();
+        if (asyncHistoryExecutor != null) {
+            asyncHistoryExecutor.execute(historyWriter);
+        } else {
+            historyWriter.run();
+        }
+    }
+
+    protected String writeExecutionJson(DecisionExecutionAuditContainer auditContainer) {
+        try {
+            return objectMapper.writeValueAsString(auditContainer);
+        } catch (Exception e) {
+            throw new FlowableException("Error writing execution json", e);
+        }
     }
 
     protected void evaluateDecisionTable(DecisionTable decisionTable, ELExecutionContext executionContext) {
@@ -198,8 +404,11 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
         LOGGER.debug("Start rule {} evaluation", rule.getRuleNumber());
 
-        // add audit entry
-        executionContext.getAuditContainer().addRuleEntry(rule);
+        // add audit entry, with lower audit levels only for valid rules once the conditions have been evaluated
+        DecisionExecutionAuditLevel auditLevel = executionContext.getAuditLevel();
+        if (auditLevel == DecisionExecutionAuditLevel.FULL) {
+            executionContext.getAuditContainer().addRuleEntry(rule);
+        }
 
         boolean conditionResult = false;
 
@@ -220,7 +429,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 }
 
                 // add audit entry
-                executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, conditionResult);
+                if (auditLevel == DecisionExecutionAuditLevel.FULL) {
+                    executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, conditionResult);
+                }
 
                 LOGGER.debug("input entry {} ( {} {} ): {}", inputEntryId,
                         conditionContainer.getInputClause().getInputExpression().getText(),
@@ -228,12 +439,12 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
             } catch (FlowableException ade) {
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, getExceptionMessage(ade), null);
+                addFailedInputEntry(rule, inputEntryId, getExceptionMessage(ade), executionContext);
                 throw ade;
 
             } catch (Exception e) {
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, getExceptionMessage(e), null);
+                addFailedInputEntry(rule, inputEntryId, getExceptionMessage(e), executionContext);
                 throw new FlowableException(getExceptionMessage(e), e);
             }
 
@@ -244,17 +455,41 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         }
 
         if (conditionResult) {
+            if (auditLevel != DecisionExecutionAuditLevel.FULL) {
+                // the hit policies need the valid rules, whatever the audit level
+                executionContext.getAuditContainer().addRuleEntry(rule);
+                if (auditLevel == DecisionExecutionAuditLevel.MATCHED_RULES) {
+                    // all conditions of a valid rule were evaluated to true
+                    for (RuleInputClauseContainer conditionContainer : rule.getInputEntries()) {
+                        executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), conditionContainer.getInputEntry().getId(), Boolean.TRUE);
+                    }
+                }
+            }
+
             // mark rule valid
             executionContext.getAuditContainer().markRuleValid(rule.getRuleNumber());
         }
 
         // mark rule end
-        executionContext.getAuditContainer().markRuleEnd(rule.getRuleNumber());
+        if (executionContext.getAuditContainer().getRuleExecutions().containsKey(rule.getRuleNumber())) {
+            executionContext.getAuditContainer().markRuleEnd(rule.getRuleNumber());
+        }
 
         LOGGER.debug("End rule {} evaluation", rule.getRuleNumber());
         return conditionResult;
     }
 
+    protected void addFailedInputEntry(DecisionRule rule, String inputEntryId, String exceptionMessage, ELExecutionContext executionContext) {
+        DecisionExecutionAuditLevel auditLevel = executionContext.getAuditLevel();
+        if (auditLevel == DecisionExecutionAuditLevel.MATCHED_RULES) {
+            // failing rules are kept together with the matched rules
+            executionContext.getAuditContainer().addRuleEntry(rule);
+        }
+        if (auditLevel == DecisionExecutionAuditLevel.FULL || auditLevel == DecisionExecutionAuditLevel.MATCHED_RULES) {
+            executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, exceptionMessage, null);
+        }
+    }
+
     protected Boolean executeInputExpressionEvaluation(RuleInputClauseContainer ruleContainer, ELExecutionContext executionContext) {
         return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), expressionManager, executionContext);
     }
@@ -292,7 +527,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 }
 
                 // add audit entry
-                executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), executionVariable);
+                if (isAuditOutputEntries(executionContext)) {
+                    executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), executionVariable);
+                }
                 executionContext.getAuditContainer().addDecisionResultType(outputVariableId, outputVariableType);
 
                 if (executionVariable != null) {
@@ -306,7 +543,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 executionContext.getRuleResults().clear();
 
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(ade), executionVariable);
+                if (isAuditOutputEntries(executionContext)) {
+                    executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(ade), executionVariable);
+                }
                 throw ade;
 
             } catch (Exception e) {
@@ -314,7 +553,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 executionContext.getRuleResults().clear();
 
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(e), executionVariable);
+                if (isAuditOutputEntries(executionContext)) {
+                    executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(e), executionVariable);
+                }
                 throw new FlowableException(getExceptionMessage(e), e);
             }
 
@@ -322,12 +563,19 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             LOGGER.debug("Expression is empty");
 
             // add empty audit entry
-            executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), null);
+            if (isAuditOutputEntries(executionContext)) {
+                executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), null);
+            }
         }
 
         LOGGER.debug("End evaluation conclusion {} of valid rule {}", ruleClauseContainer.getOutputClause().getOutputNumber(), ruleNumber);
     }
 
+    protected boolean isAuditOutputEntries(ELExecutionContext executionContext) {
+        DecisionExecutionAuditLevel auditLevel = executionContext.getAuditLevel();
+        return auditLevel == DecisionExecutionAuditLevel.FULL || auditLevel == DecisionExecutionAuditLevel.MATCHED_RULES;
+    }
+
     protected String getExceptionMessage(Exception exception) {
         String exceptionMessage;
         if (exception.getCause() != null && exception.getCause().getMessage() != null) {
@@ -13,6 +13,7 @@
 package org.flowable.dmn.engine.impl.audit;
 
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
 import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
@@ -28,6 +29,10 @@ public class DecisionExecutionAuditUtil {
     private static final Logger LOGGER = LoggerFactory.getLogger(DecisionExecutionAuditUtil.class);
 
     public static DecisionExecutionAuditContainer initializeRuleExecutionAudit(Decision decision, ExecuteDecisionInfo executeDecisionInfo) {
+        return initializeRuleExecutionAudit(decision, executeDecisionInfo, DecisionExecutionAuditLevel.FULL);
+    }
+
+    public static DecisionExecutionAuditContainer initializeRuleExecutionAudit(Decision decision, ExecuteDecisionInfo executeDecisionInfo, DecisionExecutionAuditLevel auditLevel) {
 
         if (decision == null || decision.getId() == null) {
             LOGGER.error("decision does not contain key");
@@ -41,8 +46,15 @@ public class DecisionExecutionAuditUtil {
             throw new IllegalArgumentException("decision table does not contain a hit policy");
         }
 
+        boolean strictMode = CommandContextUtil.getDmnEngineConfiguration().isStrictMode();
+        if (auditLevel == DecisionExecutionAuditLevel.NONE) {
+            // avoid copying the input variables when no audit is kept
+            return new DecisionExecutionAuditContainer(decision.getId(), decision.getName(), executeDecisionInfo.getDecisionVersion(),
+                            decisionTable.getHitPolicy(), strictMode);
+        }
+
         return new DecisionExecutionAuditContainer(decision.getId(), decision.getName(), executeDecisionInfo.getDecisionVersion(), 
-                        decisionTable.getHitPolicy(), CommandContextUtil.getDmnEngineConfiguration().isStrictMode(), executeDecisionInfo.getVariables());
+                        decisionTable.getHitPolicy(), strictMode, executeDecisionInfo.getVariables());
     }
 
 }
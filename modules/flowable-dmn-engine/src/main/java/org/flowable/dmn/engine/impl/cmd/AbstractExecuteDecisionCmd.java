@@ -178,6 +178,8 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable {
 
         DecisionTableCacheEntry decisionTableCacheEntry = CommandContextUtil.getDmnEngineConfiguration().getDeploymentManager().resolveDecisionTable(decisionTable);
         Decision decision = decisionTableCacheEntry.getDecision();
+        executeDecisionInfo.setResultCacheable(decisionTableCacheEntry.isResultCacheable());
+        executeDecisionInfo.setResultCacheKeyVariables(decisionTableCacheEntry.getResultCacheKeyVariables());
 
         return decision;
     }
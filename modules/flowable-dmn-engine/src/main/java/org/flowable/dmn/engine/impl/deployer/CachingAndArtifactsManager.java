@@ -12,36 +12,207 @@
  */
 package org.flowable.dmn.engine.impl.deployer;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.flowable.common.engine.api.delegate.FlowableFunctionDelegate;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionResultCache;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.DmnDefinition;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
 
 /**
  * Updates caches and artifacts for a deployment and its decision tables
  */
 public class CachingAndArtifactsManager {
 
+    protected static final Set<String> EXPRESSION_KEYWORDS = new HashSet<>(Arrays.asList("true", "false", "null", "empty", "not", "and", "or",
+            "eq", "ne", "lt", "gt", "le", "ge", "div", "mod", "instanceof"));
+
     /**
      * Ensures that the decision table is cached in the appropriate places, including the deployment's collection of deployed artifacts and the deployment manager's cache.
      */
     public void updateCachingAndArtifacts(ParsedDeployment parsedDeployment) {
         final DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
         DeploymentCache<DecisionTableCacheEntry> decisionTableCache = dmnEngineConfiguration.getDeploymentManager().getDecisionCache();
+        DecisionResultCache decisionResultCache = dmnEngineConfiguration.getDecisionResultCache();
         DmnDeploymentEntity deployment = parsedDeployment.getDeployment();
 
         for (DecisionTableEntity decisionTable : parsedDeployment.getAllDecisionTables()) {
             DmnDefinition dmnDefinition = parsedDeployment.getDmnDefinitionForDecisionTable(decisionTable);
             Decision decision = parsedDeployment.getDecisionForDecisionTable(decisionTable);
             DecisionTableCacheEntry cacheEntry = new DecisionTableCacheEntry(decisionTable, dmnDefinition, decision);
+            cacheEntry.setResultCacheable(isResultCacheable(decision, dmnEngineConfiguration.getNonDeterministicFunctionDelegates()));
+            if (cacheEntry.isResultCacheable()) {
+                cacheEntry.setResultCacheKeyVariables(getResultCacheKeyVariables((DecisionTable) decision.getExpression()));
+            }
             decisionTableCache.add(decisionTable.getId(), cacheEntry);
 
+            // Results of previous versions of the decision are no longer valid
+            if (deployment.isNew() && decisionResultCache != null) {
+                decisionResultCache.removeByDecisionKey(decisionTable.getKey());
+            }
+
             // Add to deployment for further usage
             deployment.addDeployedArtifact(decisionTable);
         }
     }
+
+    /**
+     * Returns whether the results of the decision can be cached: the decision should have opted in with flowable:cacheResults
+     * and none of its expressions can use a non-deterministic function, because then the same input values can give a different result.
+     */
+    protected boolean isResultCacheable(Decision decision, List<FlowableFunctionDelegate> nonDeterministicFunctionDelegates) {
+        if (!decision.isCacheResults() || !(decision.getExpression() instanceof DecisionTable)) {
+            return false;
+        }
+
+        DecisionTable decisionTable = (DecisionTable) decision.getExpression();
+        for (InputClause inputClause : decisionTable.getInputs()) {
+            if (usesNonDeterministicFunction(inputClause.getInputExpression() != null ? inputClause.getInputExpression().getText() : null, nonDeterministicFunctionDelegates)) {
+                return false;
+            }
+        }
+
+        for (DecisionRule rule : decisionTable.getRules()) {
+            for (RuleInputClauseContainer inputEntry : rule.getInputEntries()) {
+                if (usesNonDeterministicFunction(inputEntry.getInputEntry() != null ? inputEntry.getInputEntry().getText() : null, nonDeterministicFunctionDelegates)) {
+                    return false;
+                }
+            }
+            for (RuleOutputClauseContainer outputEntry : rule.getOutputEntries()) {
+                if (usesNonDeterministicFunction(outputEntry.getOutputEntry() != null ? outputEntry.getOutputEntry().getText() : null, nonDeterministicFunctionDelegates)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the names of the variables that the rule input and output entries use besides the input expressions of the decision table.
+     * The result of the decision also depends on those variables, so their values are part of the key of a cached result.
+     */
+    protected List<String> getResultCacheKeyVariables(DecisionTable decisionTable) {
+        Set<String> inputExpressions = new HashSet<>();
+        for (InputClause inputClause : decisionTable.getInputs()) {
+            if (inputClause.getInputExpression() != null && inputClause.getInputExpression().getText() != null) {
+                inputExpressions.add(inputClause.getInputExpression().getText().trim());
+            }
+        }
+
+        Set<String> identifiers = new TreeSet<>();
+        for (DecisionRule rule : decisionTable.getRules()) {
+            for (RuleInputClauseContainer inputEntry : rule.getInputEntries()) {
+                collectIdentifiers(inputEntry.getInputEntry() != null ? inputEntry.getInputEntry().getText() : null, identifiers);
+            }
+            for (RuleOutputClauseContainer outputEntry : rule.getOutputEntries()) {
+                collectIdentifiers(outputEntry.getOutputEntry() != null ? outputEntry.getOutputEntry().getText() : null, identifiers);
+            }
+        }
+        identifiers.removeAll(inputExpressions);
+        return new ArrayList<>(identifiers);
+    }
+
+    /**
+     * Collects the root identifiers of the given expression text: identifiers that aren't a property or method of another value,
+     * a function (prefix) or a keyword of the expression language. String literals are skipped.
+     */
+    protected void collectIdentifiers(String text, Set<String> identifiers) {
+        if (text == null) {
+            return;
+        }
+
+        int length = text.length();
+        int index = 0;
+        while (index < length) {
+            char c = text.charAt(index);
+            if (c == '\'' || c == '"') {
+                index = skipStringLiteral(text, index);
+
+            } else if (Character.isDigit(c)) {
+                // numbers, including exponents like 1e5
+                while (index < length && (Character.isLetterOrDigit(text.charAt(index)) || text.charAt(index) == '.')) {
+                    index++;
+                }
+
+            } else if (Character.isJavaIdentifierStart(c) && !(c == '$' && index + 1 < length && text.charAt(index + 1) == '{')) {
+                int start = index;
+                while (index < length && Character.isJavaIdentifierPart(text.charAt(index))) {
+                    index++;
+                }
+                String identifier = text.substring(start, index);
+                char previous = previousNonWhitespace(text, start);
+                char next = nextNonWhitespace(text, index);
+                boolean functionPrefix = index < length && text.charAt(index) == ':' && index + 1 < length
+                        && Character.isJavaIdentifierStart(text.charAt(index + 1));
+                if (previous != '.' && next != '(' && !functionPrefix && !EXPRESSION_KEYWORDS.contains(identifier)) {
+                    identifiers.add(identifier);
+                }
+
+            } else {
+                index++;
+            }
+        }
+    }
+
+    protected int skipStringLiteral(String text, int start) {
+        char quote = text.charAt(start);
+        int index = start + 1;
+        while (index < text.length() && text.charAt(index) != quote) {
+            if (text.charAt(index) == '\\') {
+                index++;
+            }
+            index++;
+        }
+        return index + 1;
+    }
+
+    protected char previousNonWhitespace(String text, int index) {
+        for (int i = index - 1; i >= 0; i--) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return text.charAt(i);
+            }
+        }
+        return 0;
+    }
+
+    protected char nextNonWhitespace(String text, int index) {
+        for (int i = index; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return text.charAt(i);
+            }
+        }
+        return 0;
+    }
+
+    protected boolean usesNonDeterministicFunction(String text, List<FlowableFunctionDelegate> nonDeterministicFunctionDelegates) {
+        if (text == null || nonDeterministicFunctionDelegates == null) {
+            return false;
+        }
+
+        for (FlowableFunctionDelegate functionDelegate : nonDeterministicFunctionDelegates) {
+            // the short fn_ notation is replaced by the prefixed function name when the expression is parsed
+            if (text.contains(functionDelegate.prefix() + ":" + functionDelegate.localName())
+                    || text.contains("fn_" + functionDelegate.localName())) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -16,6 +16,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.cfg.IdGenerator;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.flowable.dmn.engine.impl.persistence.deploy.Deployer;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntityManager;
@@ -108,9 +109,14 @@ public class DmnDeployer implements Deployer {
      */
     protected void persistDecisionTables(ParsedDeployment parsedDeployment) {
         DecisionTableEntityManager decisionTableEntityManager = CommandContextUtil.getDecisionTableEntityManager();
+        LatestDefinitionCache latestDefinitionCache = CommandContextUtil.getDmnEngineConfiguration().getLatestDefinitionCache();
 
         for (DecisionTableEntity decisionTable : parsedDeployment.getAllDecisionTables()) {
             decisionTableEntityManager.insert(decisionTable);
+
+            if (latestDefinitionCache != null) {
+                latestDefinitionCache.putOnCommit(decisionTable.getKey(), decisionTable.getTenantId(), decisionTable.getId(), decisionTable.getVersion());
+            }
         }
     }
 
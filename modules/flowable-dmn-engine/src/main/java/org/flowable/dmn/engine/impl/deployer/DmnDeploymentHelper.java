@@ -20,6 +20,7 @@ import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntityManager;
@@ -84,7 +85,14 @@ public class DmnDeploymentHelper {
     public DecisionTableEntity getMostRecentVersionOfDecisionTable(DecisionTableEntity decisionTable) {
         String key = decisionTable.getKey();
         String tenantId = decisionTable.getTenantId();
-        DecisionTableEntityManager decisionTableEntityManager = CommandContextUtil.getDmnEngineConfiguration().getDecisionTableEntityManager();
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+        DecisionTableEntityManager decisionTableEntityManager = dmnEngineConfiguration.getDecisionTableEntityManager();
+
+        // The version of the new decision table is always calculated from the database
+        LatestDefinitionCache latestDefinitionCache = dmnEngineConfiguration.getLatestDefinitionCache();
+        if (latestDefinitionCache != null) {
+            latestDefinitionCache.evict(key, tenantId);
+        }
 
         DecisionTableEntity existingDefinition = null;
 
@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
 import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
 import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditUtil;
 import org.flowable.dmn.model.Decision;
@@ -37,12 +38,17 @@ public class ELExecutionContextBuilder {
     private static final Logger LOGGER = LoggerFactory.getLogger(ELExecutionContextBuilder.class);
 
     public static ELExecutionContext build(Decision decision, ExecuteDecisionInfo executeDecisionInfo) {
+        return build(decision, executeDecisionInfo, DecisionExecutionAuditLevel.FULL);
+    }
+
+    public static ELExecutionContext build(Decision decision, ExecuteDecisionInfo executeDecisionInfo, DecisionExecutionAuditLevel auditLevel) {
 
         ELExecutionContext executionContext = new ELExecutionContext();
         Map<String, Object> inputVariables = executeDecisionInfo.getVariables();
 
         // initialize audit trail
-        executionContext.setAuditContainer(DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision, executeDecisionInfo));
+        executionContext.setAuditLevel(auditLevel);
+        executionContext.setAuditContainer(DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision, executeDecisionInfo, auditLevel));
 
         DecisionTable decisionTable = (DecisionTable) decision.getExpression();
 
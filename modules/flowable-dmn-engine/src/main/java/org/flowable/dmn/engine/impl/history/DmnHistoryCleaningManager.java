@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.history;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.history.ExpiredHistoryCriteria;
+import org.flowable.common.engine.impl.history.HistoryCleaningManager;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
+
+/**
+ * Deletes the historic decision executions of which the time to live has expired.
+ *
+ * The time to live is the configured number of days for the key of the decision, see
+ * {@link DmnEngineConfiguration#getHistoryTimeToLiveByDefinitionKey()}, or the default number of days otherwise.
+ */
+public class DmnHistoryCleaningManager implements HistoryCleaningManager {
+
+    protected DmnEngineConfiguration dmnEngineConfiguration;
+
+    public DmnHistoryCleaningManager(DmnEngineConfiguration dmnEngineConfiguration) {
+        this.dmnEngineConfiguration = dmnEngineConfiguration;
+    }
+
+    @Override
+    public String getScopeType() {
+        return ScopeTypes.DMN;
+    }
+
+    @Override
+    public int deleteExpiredHistory(int batchSize) {
+        return dmnEngineConfiguration.getCommandExecutor().execute(commandContext -> deleteExpiredHistory(batchSize, commandContext));
+    }
+
+    protected int deleteExpiredHistory(int batchSize, CommandContext commandContext) {
+        ExpiredHistoryCriteria expiredHistoryCriteria = new ExpiredHistoryCriteria(dmnEngineConfiguration.getClock().getCurrentTime(),
+                dmnEngineConfiguration.getCleanInstancesEndedAfterNumberOfDays(), dmnEngineConfiguration.getHistoryTimeToLiveByDefinitionKey());
+
+        HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = CommandContextUtil.getHistoricDecisionExecutionEntityManager(commandContext);
+        List<String> historicDecisionExecutionIds = historicDecisionExecutionEntityManager.findExpiredHistoricDecisionExecutionIds(expiredHistoryCriteria, batchSize);
+        if (!historicDecisionExecutionIds.isEmpty()) {
+            historicDecisionExecutionEntityManager.deleteHistoricDecisionExecutionsForIds(historicDecisionExecutionIds);
+        }
+        return historicDecisionExecutionIds.size();
+    }
+
+}
@@ -0,0 +1,183 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.flowable.common.engine.impl.runtime.Clock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the results of deterministic decisions in memory, keyed by the decision definition and the values of its input clauses.
+ * The cache is bounded by a maximum number of entries, evicting the least recently used entry first,
+ * and every entry expires after the configured time to live.
+ */
+public class DecisionResultCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DecisionResultCache.class);
+
+    protected Map<CacheKey, CachedDecisionResult> cache;
+    protected long timeToLive;
+    protected Clock clock;
+
+    /**
+     * @param limit the maximum number of cached results
+     * @param timeToLive the time in milliseconds a cached result stays valid
+     * @param clock the clock used to determine the expiry of the cached results
+     */
+    public DecisionResultCache(final int limit, long timeToLive, Clock clock) {
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<CacheKey, CachedDecisionResult>(limit + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedDecisionResult> eldest) {
+                boolean removeEldest = size() > limit;
+                if (removeEldest && LOGGER.isTraceEnabled()) {
+                    LOGGER.trace("Decision result cache limit is reached, result of decision {} will be evicted", eldest.getKey().decisionDefinitionId);
+                }
+                return removeEldest;
+            }
+        });
+    }
+
+    /**
+     * Returns the cached result of the given decision definition for the given input values, or null when there is no valid cached result.
+     */
+    public CachedDecisionResult get(String decisionKey, String decisionDefinitionId, List<Object> inputValues) {
+        CacheKey cacheKey = new CacheKey(decisionKey, decisionDefinitionId, inputValues);
+        CachedDecisionResult cachedResult = cache.get(cacheKey);
+        if (cachedResult != null && cachedResult.expiryTime <= clock.getCurrentTime().getTime()) {
+            cache.remove(cacheKey);
+            return null;
+        }
+        return cachedResult;
+    }
+
+    public void add(String decisionKey, String decisionDefinitionId, List<Object> inputValues,
+            List<Map<String, Object>> decisionResult, Map<String, String> decisionResultTypes) {
+
+        long expiryTime = clock.getCurrentTime().getTime() + timeToLive;
+        cache.put(new CacheKey(decisionKey, decisionDefinitionId, inputValues), new CachedDecisionResult(decisionResult, decisionResultTypes, expiryTime));
+    }
+
+    /**
+     * Removes the cached results of all versions of the decision with the given key.
+     */
+    public void removeByDecisionKey(String decisionKey) {
+        synchronized (cache) {
+            cache.keySet().removeIf(cacheKey -> cacheKey.decisionKey.equals(decisionKey));
+        }
+    }
+
+    public void removeByDecisionDefinitionId(String decisionDefinitionId) {
+        synchronized (cache) {
+            cache.keySet().removeIf(cacheKey -> cacheKey.decisionDefinitionId.equals(decisionDefinitionId));
+        }
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    protected static class CacheKey {
+
+        protected String decisionKey;
+        protected String decisionDefinitionId;
+        protected List<Object> inputValues;
+
+        public CacheKey(String decisionKey, String decisionDefinitionId, List<Object> inputValues) {
+            this.decisionKey = decisionKey;
+            this.decisionDefinitionId = decisionDefinitionId;
+            this.inputValues = inputValues;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey otherKey = (CacheKey) other;
+            return decisionDefinitionId.equals(otherKey.decisionDefinitionId) && inputValues.equals(otherKey.inputValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(decisionDefinitionId, inputValues);
+        }
+    }
+
+    /**
+     * A cached decision result. The result is copied when it is added and again when it is read, so callers can't change the cached values.
+     */
+    public static class CachedDecisionResult {
+
+        protected List<Map<String, Object>> decisionResult;
+        protected Map<String, String> decisionResultTypes;
+        protected long expiryTime;
+
+        public CachedDecisionResult(List<Map<String, Object>> decisionResult, Map<String, String> decisionResultTypes, long expiryTime) {
+            this.decisionResult = copyDecisionResult(decisionResult);
+            this.decisionResultTypes = new HashMap<>(decisionResultTypes);
+            this.expiryTime = expiryTime;
+        }
+
+        public List<Map<String, Object>> getDecisionResult() {
+            return copyDecisionResult(decisionResult);
+        }
+
+        public Map<String, String> getDecisionResultTypes() {
+            return new HashMap<>(decisionResultTypes);
+        }
+
+        public long getExpiryTime() {
+            return expiryTime;
+        }
+
+        protected static List<Map<String, Object>> copyDecisionResult(List<Map<String, Object>> decisionResult) {
+            List<Map<String, Object>> copy = new ArrayList<>(decisionResult.size());
+            for (Map<String, Object> resultObject : decisionResult) {
+                copy.add(new LinkedHashMap<>(resultObject));
+            }
+            return copy;
+        }
+    }
+}
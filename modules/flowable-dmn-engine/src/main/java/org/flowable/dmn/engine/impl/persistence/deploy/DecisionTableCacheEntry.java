@@ -13,6 +13,8 @@
 package org.flowable.dmn.engine.impl.persistence.deploy;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
 import org.flowable.dmn.model.Decision;
@@ -28,6 +30,8 @@ public class DecisionTableCacheEntry implements Serializable {
     protected DecisionTableEntity decisionTableEntity;
     protected DmnDefinition dmnDefinition;
     protected Decision decision;
+    protected boolean resultCacheable;
+    protected List<String> resultCacheKeyVariables = Collections.emptyList();
 
     public DecisionTableCacheEntry(DecisionTableEntity decisionTableEntity, DmnDefinition dmnDefinition, Decision decision) {
         this.decisionTableEntity = decisionTableEntity;
@@ -58,4 +62,27 @@ public class DecisionTableCacheEntry implements Serializable {
     public void setDecision(Decision decision) {
         this.decision = decision;
     }
+
+    /**
+     * Whether the results of the decision can be kept in the {@link DecisionResultCache}:
+     * the decision has opted in and doesn't use any non-deterministic function.
+     */
+    public boolean isResultCacheable() {
+        return resultCacheable;
+    }
+
+    public void setResultCacheable(boolean resultCacheable) {
+        this.resultCacheable = resultCacheable;
+    }
+
+    /**
+     * The variables used by the rule entries besides the input expressions, of which the values are part of the key of a cached result.
+     */
+    public List<String> getResultCacheKeyVariables() {
+        return resultCacheKeyVariables;
+    }
+
+    public void setResultCacheKeyVariables(List<String> resultCacheKeyVariables) {
+        this.resultCacheKeyVariables = resultCacheKeyVariables;
+    }
 }
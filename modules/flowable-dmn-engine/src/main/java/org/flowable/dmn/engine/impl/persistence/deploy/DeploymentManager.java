@@ -171,8 +171,12 @@ public class DeploymentManager {
         // Delete data
         deploymentEntityManager.deleteDeployment(deploymentId);
 
+        DecisionResultCache decisionResultCache = engineConfig.getDecisionResultCache();
         for (DmnDecisionTable decisionTable : decisionTables) {
             decisionCache.remove(decisionTable.getId());
+            if (decisionResultCache != null) {
+                decisionResultCache.removeByDecisionDefinitionId(decisionTable.getId());
+            }
         }
     }
 
@@ -15,11 +15,14 @@ package org.flowable.dmn.engine.impl.persistence.entity;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.DecisionTableQueryImpl;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.data.DecisionTableDataManager;
 
 /**
@@ -42,12 +45,42 @@ public class DecisionTableEntityManagerImpl extends AbstractEntityManager<Decisi
 
     @Override
     public DecisionTableEntity findLatestDecisionTableByKey(String decisionTableKey) {
-        return decisionTableDataManager.findLatestDecisionTableByKey(decisionTableKey);
+        return findLatestDecisionTable(decisionTableKey, null,
+                () -> decisionTableDataManager.findLatestDecisionTableByKey(decisionTableKey));
     }
 
     @Override
     public DecisionTableEntity findLatestDecisionTableByKeyAndTenantId(String decisionTableKey, String tenantId) {
-        return decisionTableDataManager.findLatestDecisionTableByKeyAndTenantId(decisionTableKey, tenantId);
+        return findLatestDecisionTable(decisionTableKey, tenantId,
+                () -> decisionTableDataManager.findLatestDecisionTableByKeyAndTenantId(decisionTableKey, tenantId));
+    }
+
+    protected DecisionTableEntity findLatestDecisionTable(String decisionTableKey, String tenantId, Supplier<DecisionTableEntity> query) {
+        LatestDefinitionCache latestDefinitionCache = getDmnEngineConfiguration().getLatestDefinitionCache();
+        if (latestDefinitionCache == null) {
+            return query.get();
+        }
+
+        String decisionTableId = latestDefinitionCache.getDefinitionId(decisionTableKey, tenantId);
+        if (decisionTableId != null) {
+            DecisionTableCacheEntry cacheEntry = getDmnEngineConfiguration().getDecisionCache().get(decisionTableId);
+            if (cacheEntry != null) {
+                return cacheEntry.getDecisionTableEntity();
+            }
+
+            DecisionTableEntity latestDecisionTable = findById(decisionTableId);
+            if (latestDecisionTable != null) {
+                return latestDecisionTable;
+            }
+
+            latestDefinitionCache.remove(decisionTableKey, tenantId);
+        }
+
+        DecisionTableEntity decisionTable = query.get();
+        if (decisionTable != null) {
+            latestDefinitionCache.put(decisionTableKey, tenantId, decisionTable.getId(), decisionTable.getVersion());
+        }
+        return decisionTable;
     }
 
     @Override
@@ -17,10 +17,12 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.repository.EngineResource;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.api.DmnDeployment;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.DecisionTableQueryImpl;
 import org.flowable.dmn.engine.impl.DmnDeploymentQueryImpl;
 import org.flowable.dmn.engine.impl.persistence.entity.data.DmnDeploymentDataManager;
 
@@ -54,6 +56,14 @@ public class DmnDeploymentEntityManagerImpl extends AbstractEntityManager<DmnDep
 
     @Override
     public void deleteDeployment(String deploymentId) {
+        LatestDefinitionCache latestDefinitionCache = getDmnEngineConfiguration().getLatestDefinitionCache();
+        if (latestDefinitionCache != null) {
+            List<DmnDecisionTable> decisionTables = getDecisionTableEntityManager().findDecisionTablesByQueryCriteria(new DecisionTableQueryImpl().deploymentId(deploymentId));
+            for (DmnDecisionTable decisionTable : decisionTables) {
+                latestDefinitionCache.evict(decisionTable.getKey(), decisionTable.getTenantId());
+            }
+        }
+
         getHistoricDecisionExecutionEntityManager().deleteHistoricDecisionExecutionsByDeploymentId(deploymentId);
         getDecisionTableEntityManager().deleteDecisionTablesByDeploymentId(deploymentId);
         getResourceEntityManager().deleteResourcesByDeploymentId(deploymentId);
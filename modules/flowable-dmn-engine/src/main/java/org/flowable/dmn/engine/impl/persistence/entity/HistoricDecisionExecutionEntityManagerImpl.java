@@ -13,9 +13,11 @@
 
 package org.flowable.dmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.history.ExpiredHistoryCriteria;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.dmn.api.DmnHistoricDecisionExecution;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
@@ -66,6 +68,16 @@ public class HistoricDecisionExecutionEntityManagerImpl extends AbstractEntityMa
     public long findHistoricDecisionExecutionCountByNativeQuery(Map<String, Object> parameterMap) {
         return historicDecisionExecutionDataManager.findHistoricDecisionExecutionCountByNativeQuery(parameterMap);
     }
+    
+    @Override
+    public List<String> findExpiredHistoricDecisionExecutionIds(ExpiredHistoryCriteria expiredHistoryCriteria, int maxResults) {
+        return historicDecisionExecutionDataManager.findExpiredHistoricDecisionExecutionIds(expiredHistoryCriteria, maxResults);
+    }
+    
+    @Override
+    public void deleteHistoricDecisionExecutionsForIds(Collection<String> historicDecisionExecutionIds) {
+        historicDecisionExecutionDataManager.deleteHistoricDecisionExecutionsForIds(historicDecisionExecutionIds);
+    }
 
     public HistoricDecisionExecutionDataManager getHistoricDecisionExecutionDataManager() {
         return historicDecisionExecutionDataManager;
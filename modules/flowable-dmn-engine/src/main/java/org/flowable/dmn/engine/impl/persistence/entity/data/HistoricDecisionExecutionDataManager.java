@@ -12,9 +12,11 @@
  */
 package org.flowable.dmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.history.ExpiredHistoryCriteria;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.dmn.api.DmnHistoricDecisionExecution;
 import org.flowable.dmn.engine.impl.HistoricDecisionExecutionQueryImpl;
@@ -34,4 +36,8 @@ public interface HistoricDecisionExecutionDataManager extends DataManager<Histor
     List<DmnHistoricDecisionExecution> findHistoricDecisionExecutionsByNativeQuery(Map<String, Object> parameterMap);
 
     long findHistoricDecisionExecutionCountByNativeQuery(Map<String, Object> parameterMap);
+
+    List<String> findExpiredHistoricDecisionExecutionIds(ExpiredHistoryCriteria expiredHistoryCriteria, int maxResults);
+
+    void deleteHistoricDecisionExecutionsForIds(Collection<String> historicDecisionExecutionIds);
 }
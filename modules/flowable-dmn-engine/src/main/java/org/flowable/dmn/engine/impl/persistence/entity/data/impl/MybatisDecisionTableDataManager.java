@@ -153,7 +153,7 @@ public class MybatisDecisionTableDataManager extends AbstractDmnDataManager<Deci
         HashMap<String, Object> params = new HashMap<>();
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
-        getDbSqlSession().update("updateDecisionTableTenantIdForDeploymentId", params);
+        getDbSqlSession().update("updateDecisionTableTenantIdForDeploymentId", params, getManagedEntityClass());
     }
 
 }
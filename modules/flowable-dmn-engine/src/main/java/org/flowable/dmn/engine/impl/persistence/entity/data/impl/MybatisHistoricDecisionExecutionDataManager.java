@@ -12,9 +12,11 @@
  */
 package org.flowable.dmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.history.ExpiredHistoryCriteria;
 import org.flowable.dmn.api.DmnHistoricDecisionExecution;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.HistoricDecisionExecutionQueryImpl;
@@ -68,4 +70,15 @@ public class MybatisHistoricDecisionExecutionDataManager extends AbstractDmnData
     public long findHistoricDecisionExecutionCountByNativeQuery(Map<String, Object> parameterMap) {
         return (Long) getDbSqlSession().selectOne("selectHistoricDecisionExecutionCountByNativeQuery", parameterMap);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findExpiredHistoricDecisionExecutionIds(ExpiredHistoryCriteria expiredHistoryCriteria, int maxResults) {
+        return getDbSqlSession().selectList("selectExpiredHistoricDecisionExecutionIds", expiredHistoryCriteria, 0, maxResults);
+    }
+
+    @Override
+    public void deleteHistoricDecisionExecutionsForIds(Collection<String> historicDecisionExecutionIds) {
+        bulkDeleteForIds("deleteHistoricDecisionExecutionsForIds", historicDecisionExecutionIds, null);
+    }
 }
@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.history;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.history.HistoryCleaningManager;
+import org.flowable.dmn.engine.impl.history.DmnHistoryCleaningManager;
+import org.flowable.dmn.engine.impl.test.PluggableFlowableDmnTestCase;
+import org.flowable.dmn.engine.test.DmnDeployment;
+
+public class DmnHistoryCleaningTest extends PluggableFlowableDmnTestCase {
+
+    protected int originalCleanInstancesEndedAfterNumberOfDays;
+    protected Map<String, Integer> originalHistoryTimeToLiveByDefinitionKey;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        originalCleanInstancesEndedAfterNumberOfDays = dmnEngineConfiguration.getCleanInstancesEndedAfterNumberOfDays();
+        originalHistoryTimeToLiveByDefinitionKey = dmnEngineConfiguration.getHistoryTimeToLiveByDefinitionKey();
+        dmnEngineConfiguration.setCleanInstancesEndedAfterNumberOfDays(30);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        dmnEngineConfiguration.setCleanInstancesEndedAfterNumberOfDays(originalCleanInstancesEndedAfterNumberOfDays);
+        dmnEngineConfiguration.setHistoryTimeToLiveByDefinitionKey(originalHistoryTimeToLiveByDefinitionKey);
+        dmnEngineConfiguration.getClock().reset();
+        super.tearDown();
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/history/HistoryTest.testFirstHitPolicy.dmn")
+    public void testExpiredHistoryIsDeleted() {
+        Instant now = Instant.now();
+        executeDecision();
+        executeDecision();
+        assertEquals(2, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+
+        HistoryCleaningManager historyCleaningManager = new DmnHistoryCleaningManager(dmnEngineConfiguration);
+        dmnEngineConfiguration.getClock().setCurrentTime(Date.from(now.plus(29, ChronoUnit.DAYS)));
+        assertEquals(0, historyCleaningManager.deleteExpiredHistory(10));
+        assertEquals(2, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+
+        dmnEngineConfiguration.getClock().setCurrentTime(Date.from(now.plus(31, ChronoUnit.DAYS)));
+        assertEquals(1, historyCleaningManager.deleteExpiredHistory(1));
+        assertEquals(1, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+        assertEquals(1, historyCleaningManager.deleteExpiredHistory(10));
+        assertEquals(0, historyCleaningManager.deleteExpiredHistory(10));
+        assertEquals(0, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/history/HistoryTest.testFirstHitPolicy.dmn")
+    public void testTimeToLivePerDefinitionKey() {
+        dmnEngineConfiguration.setHistoryTimeToLiveByDefinitionKey(Collections.singletonMap("decision1", 60));
+        Instant now = Instant.now();
+        executeDecision();
+
+        HistoryCleaningManager historyCleaningManager = new DmnHistoryCleaningManager(dmnEngineConfiguration);
+        dmnEngineConfiguration.getClock().setCurrentTime(Date.from(now.plus(31, ChronoUnit.DAYS)));
+        assertEquals(0, historyCleaningManager.deleteExpiredHistory(10));
+        assertEquals(1, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+
+        dmnEngineConfiguration.getClock().setCurrentTime(Date.from(now.plus(61, ChronoUnit.DAYS)));
+        assertEquals(1, historyCleaningManager.deleteExpiredHistory(10));
+        assertEquals(0, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+    }
+
+    protected void executeDecision() {
+        ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("inputVariable1", 11)
+                .executeWithSingleResult();
+    }
+
+}
@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.history;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
+import org.flowable.dmn.api.DmnHistoricDecisionExecution;
+import org.flowable.dmn.engine.impl.test.PluggableFlowableDmnTestCase;
+import org.flowable.dmn.engine.test.DmnDeployment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class HistoryAuditLevelTest extends PluggableFlowableDmnTestCase {
+
+    protected static final String DECISION_RESOURCE = "org/flowable/dmn/engine/test/history/HistoryTest.testFirstHitPolicy.dmn";
+
+    @Override
+    protected void tearDown() throws Exception {
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.FULL);
+        dmnEngineConfiguration.setDecisionExecutionAuditSampleRate(1.0);
+        dmnEngineConfiguration.setAsyncHistoryEnabled(false);
+        super.tearDown();
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testMatchedRulesAuditLevel() throws Exception {
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.MATCHED_RULES);
+        executeDecision();
+
+        JsonNode executionNode = getExecutionNode();
+        assertEquals("gt 10", executionNode.get("decisionResult").get(0).get("outputVariable1").asText());
+        assertEquals(11, executionNode.get("inputVariables").get("inputVariable1").asLong());
+
+        JsonNode ruleExecutions = executionNode.get("ruleExecutions");
+        assertEquals(1, ruleExecutions.size());
+        assertTrue(ruleExecutions.get("2").get("valid").asBoolean());
+        assertEquals(1, ruleExecutions.get("2").get("conditionResults").size());
+        assertEquals(2, ruleExecutions.get("2").get("conclusionResults").size());
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testOutcomeAuditLevel() throws Exception {
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.OUTCOME);
+        executeDecision();
+
+        JsonNode executionNode = getExecutionNode();
+        assertEquals("gt 10", executionNode.get("decisionResult").get(0).get("outputVariable1").asText());
+        assertEquals(11, executionNode.get("inputVariables").get("inputVariable1").asLong());
+        assertEquals(0, executionNode.get("ruleExecutions").size());
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testNoneAuditLevel() {
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.NONE);
+        assertEquals("gt 10", executeDecision());
+        assertEquals(0, historyService.createHistoricDecisionExecutionQuery().count());
+
+        // an explicitly requested audit trail is always complete
+        DecisionExecutionAuditContainer auditContainer = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("inputVariable1", 11)
+                .executeWithAuditTrail();
+        assertEquals(2, auditContainer.getRuleExecutions().size());
+        assertEquals(1, historyService.createHistoricDecisionExecutionQuery().count());
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testAuditSampling() {
+        dmnEngineConfiguration.setDecisionExecutionAuditSampleRate(0.0);
+        assertEquals("gt 10", executeDecision());
+        assertEquals(0, historyService.createHistoricDecisionExecutionQuery().count());
+    }
+
+    @DmnDeployment(resources = DECISION_RESOURCE)
+    public void testAsyncHistory() throws Exception {
+        dmnEngineConfiguration.setAsyncHistoryEnabled(true);
+        assertEquals("gt 10", executeDecision());
+
+        DmnHistoricDecisionExecution decisionExecution = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").singleResult();
+        assertNotNull(decisionExecution);
+        assertFalse(decisionExecution.isFailed());
+        assertEquals(2, getExecutionNode().get("ruleExecutions").size());
+    }
+
+    protected Object executeDecision() {
+        return ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("inputVariable1", 11)
+                .executeWithSingleResult()
+                .get("outputVariable1");
+    }
+
+    protected JsonNode getExecutionNode() throws Exception {
+        DmnHistoricDecisionExecution decisionExecution = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").singleResult();
+        return dmnEngineConfiguration.getObjectMapper().readTree(decisionExecution.getExecutionJson());
+    }
+
+}
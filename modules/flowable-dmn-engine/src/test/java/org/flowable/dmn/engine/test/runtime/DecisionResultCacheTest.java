@@ -0,0 +1,197 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditLevel;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.DmnRepositoryService;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionResultCache;
+import org.flowable.dmn.engine.test.DmnDeployment;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class DecisionResultCacheTest {
+
+    protected static final String CACHEABLE_RESOURCE = "org/flowable/dmn/engine/test/runtime/DecisionResultCacheTest.cacheable.dmn";
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    @After
+    public void clearDecisionResultCache() {
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+        dmnEngineConfiguration.getDecisionResultCache().clear();
+        dmnEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    @DmnDeployment(resources = CACHEABLE_RESOURCE)
+    public void cachedResultForSameInput() {
+        DecisionResultCache decisionResultCache = getDecisionResultCache();
+
+        Map<String, Object> result = executeDecision(11);
+        assertEquals("gt 10", result.get("outputVariable1"));
+        assertEquals("result2", result.get("outputVariable2"));
+        assertEquals(1, decisionResultCache.size());
+
+        // changing a returned result doesn't change the cached result
+        result.put("outputVariable1", "changed");
+
+        // 11 and 11.0 are the same input value
+        result = executeDecision(11.0);
+        assertEquals("gt 10", result.get("outputVariable1"));
+        assertEquals("result2", result.get("outputVariable2"));
+        assertEquals(1, decisionResultCache.size());
+
+        result = executeDecision(5);
+        assertEquals("lt 10", result.get("outputVariable1"));
+        assertEquals(2, decisionResultCache.size());
+    }
+
+    @Test
+    @DmnDeployment(resources = CACHEABLE_RESOURCE)
+    public void cachedResultExpires() {
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+        DecisionResultCache decisionResultCache = getDecisionResultCache();
+        DmnDecisionTable decisionTable = flowableDmnRule.getDmnEngine().getDmnRepositoryService().createDecisionTableQuery().singleResult();
+
+        executeDecision(11);
+        List<Object> inputValues = Collections.<Object>singletonList(new BigDecimal("11").stripTrailingZeros());
+        assertNotNull(decisionResultCache.get("decision1", decisionTable.getId(), inputValues));
+
+        Date now = dmnEngineConfiguration.getClock().getCurrentTime();
+        dmnEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + dmnEngineConfiguration.getDecisionResultCacheTimeToLive() + 1));
+        assertNull(decisionResultCache.get("decision1", decisionTable.getId(), inputValues));
+        assertEquals(0, decisionResultCache.size());
+    }
+
+    @Test
+    @DmnDeployment(resources = CACHEABLE_RESOURCE)
+    public void cachedResultsRemovedOnNewVersion() {
+        DmnRepositoryService repositoryService = flowableDmnRule.getDmnEngine().getDmnRepositoryService();
+        DecisionResultCache decisionResultCache = getDecisionResultCache();
+
+        executeDecision(11);
+        assertEquals(1, decisionResultCache.size());
+
+        org.flowable.dmn.api.DmnDeployment deployment = repositoryService.createDeployment().addClasspathResource(CACHEABLE_RESOURCE).deploy();
+        try {
+            assertEquals(0, decisionResultCache.size());
+
+            assertEquals("gt 10", executeDecision(11).get("outputVariable1"));
+            assertEquals(1, decisionResultCache.size());
+
+        } finally {
+            repositoryService.deleteDeployment(deployment.getId());
+        }
+
+        assertEquals(0, decisionResultCache.size());
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/history/HistoryTest.testFirstHitPolicy.dmn")
+    public void noCachedResultWithoutOptIn() {
+        assertEquals("gt 10", executeDecision(11).get("outputVariable1"));
+        assertEquals(0, getDecisionResultCache().size());
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/DecisionResultCacheTest.nonDeterministic.dmn")
+    public void noCachedResultForNonDeterministicDecision() {
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+        DmnDecisionTable decisionTable = flowableDmnRule.getDmnEngine().getDmnRepositoryService().createDecisionTableQuery().singleResult();
+        assertFalse(dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decisionTable.getId()).isResultCacheable());
+
+        assertEquals("result2", executeDecision(11).get("outputVariable2"));
+        assertEquals(0, getDecisionResultCache().size());
+    }
+
+    @Test
+    @DmnDeployment(resources = CACHEABLE_RESOURCE)
+    public void cacheableDecision() {
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+        DmnDecisionTable decisionTable = flowableDmnRule.getDmnEngine().getDmnRepositoryService().createDecisionTableQuery().singleResult();
+        assertTrue(dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decisionTable.getId()).isResultCacheable());
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/DecisionResultCacheTest.ruleVariables.dmn")
+    public void ruleVariablesArePartOfTheCacheKey() {
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+        DmnDecisionTable decisionTable = flowableDmnRule.getDmnEngine().getDmnRepositoryService().createDecisionTableQuery().singleResult();
+        assertEquals(Arrays.asList("factor", "minimum"),
+                dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decisionTable.getId()).getResultCacheKeyVariables());
+
+        assertEquals(10.0, ((Number) executeDecision(5, 1, 2).get("outputVariable1")).doubleValue(), 0.0);
+        assertEquals(15.0, ((Number) executeDecision(5, 1, 3).get("outputVariable1")).doubleValue(), 0.0);
+        assertEquals(0.0, ((Number) executeDecision(5, 10, 3).get("outputVariable1")).doubleValue(), 0.0);
+        assertEquals(3, getDecisionResultCache().size());
+
+        assertEquals(15.0, ((Number) executeDecision(5, 1, 3).get("outputVariable1")).doubleValue(), 0.0);
+        assertEquals(3, getDecisionResultCache().size());
+    }
+
+    @Test
+    @DmnDeployment(resources = CACHEABLE_RESOURCE)
+    public void noCachedResultWithConfiguredFullAuditLevel() {
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+        DecisionExecutionAuditLevel originalAuditLevel = dmnEngineConfiguration.getDecisionExecutionAuditLevel();
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.FULL);
+        try {
+            assertEquals("gt 10", executeDecision(11).get("outputVariable1"));
+            assertEquals(0, getDecisionResultCache().size());
+
+        } finally {
+            dmnEngineConfiguration.setDecisionExecutionAuditLevel(originalAuditLevel);
+        }
+    }
+
+    protected Map<String, Object> executeDecision(Object inputValue, Object minimum, Object factor) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("inputVariable1", inputValue);
+        variables.put("minimum", minimum);
+        variables.put("factor", factor);
+        return flowableDmnRule.getDmnEngine().getDmnRuleService().createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variables(variables)
+                .executeWithSingleResult();
+    }
+
+    protected Map<String, Object> executeDecision(Object inputValue) {
+        return flowableDmnRule.getDmnEngine().getDmnRuleService().createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("inputVariable1", inputValue)
+                .executeWithSingleResult();
+    }
+
+    protected DecisionResultCache getDecisionResultCache() {
+        return flowableDmnRule.getDmnEngine().getDmnEngineConfiguration().getDecisionResultCache();
+    }
+}
@@ -20,6 +20,7 @@ public class Decision extends NamedElement {
     protected String question;
     protected String allowedAnswers;
     protected Expression expression;
+    protected boolean cacheResults;
 
     public String getQuestion() {
         return question;
@@ -44,4 +45,15 @@ public class Decision extends NamedElement {
     public void setExpression(Expression expression) {
         this.expression = expression;
     }
+
+    /**
+     * Whether the results of this decision can be cached, keyed by the values of its input clauses (flowable:cacheResults).
+     */
+    public boolean isCacheResults() {
+        return cacheResults;
+    }
+
+    public void setCacheResults(boolean cacheResults) {
+        this.cacheResults = cacheResults;
+    }
 }
@@ -34,6 +34,7 @@ public interface DmnXMLConstants {
     public static final String ATTRIBUTE_HIT_POLICY = "hitPolicy";
     public static final String ATTRIBUTE_NAMESPACE = "namespace";
     public static final String ATTRIBUTE_AGGREGATION = "aggregation";
+    public static final String ATTRIBUTE_CACHE_RESULTS = "cacheResults";
     
     public static final String ELEMENT_DEFINITIONS = "definitions";
     public static final String ELEMENT_DECISION = "decision";
@@ -245,6 +245,7 @@ public class DmnXMLConverter implements DmnXMLConstants {
                     model.addDecision(decision);
                     decision.setId(xtr.getAttributeValue(null, ATTRIBUTE_ID));
                     decision.setName(xtr.getAttributeValue(null, ATTRIBUTE_NAME));
+                    decision.setCacheResults(Boolean.parseBoolean(xtr.getAttributeValue(FLOWABLE_EXTENSIONS_NAMESPACE, ATTRIBUTE_CACHE_RESULTS)));
                     parentElement = decision;
                 } else if (ELEMENT_DECISION_TABLE.equals(xtr.getLocalName())) {
                     currentDecisionTable = new DecisionTable();
@@ -315,6 +316,12 @@ public class DmnXMLConverter implements DmnXMLConstants {
                 xtw.writeAttribute(ATTRIBUTE_NAME, model.getName());
             }
             xtw.writeAttribute(ATTRIBUTE_NAMESPACE, MODEL_NAMESPACE);
+            for (Decision decision : model.getDecisions()) {
+                if (decision.isCacheResults()) {
+                    xtw.writeNamespace(FLOWABLE_EXTENSIONS_PREFIX, FLOWABLE_EXTENSIONS_NAMESPACE);
+                    break;
+                }
+            }
 
             DmnXMLUtil.writeElementDescription(model, xtw);
             DmnXMLUtil.writeExtensionElements(model, xtw);
@@ -342,6 +349,9 @@ public class DmnXMLConverter implements DmnXMLConstants {
                 if (StringUtils.isNotEmpty(decision.getName())) {
                     xtw.writeAttribute(ATTRIBUTE_NAME, decision.getName());
                 }
+                if (decision.isCacheResults()) {
+                    DmnXMLUtil.writeQualifiedAttribute(ATTRIBUTE_CACHE_RESULTS, "true", xtw);
+                }
 
                 DmnXMLUtil.writeElementDescription(decision, xtw);
                 DmnXMLUtil.writeExtensionElements(decision, xtw);
@@ -0,0 +1,24 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.delegate.event;
+
+/**
+ * Marks a {@link FlowableEventListener} that may be notified after the transaction has been committed, on the async event listener executor
+ * of the process engine configuration, instead of within the transaction that dispatched the event.
+ * 
+ * Such a listener is called without a command context, so it must not use engine internals that need one. When no executor is configured,
+ * when the listener fails on exception or when it fires on a transaction lifecycle event, it is notified like any other listener.
+ */
+public interface FlowableAsyncEventListener extends FlowableEventListener {
+
+}
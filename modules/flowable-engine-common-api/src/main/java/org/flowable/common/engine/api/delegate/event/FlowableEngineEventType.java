@@ -303,7 +303,17 @@ public enum FlowableEngineEventType implements FlowableEventType {
      * 
      * Note that history (minimum level ACTIVITY) must be enabled to receive this event.
      */
-    HISTORIC_PROCESS_INSTANCE_ENDED;
+    HISTORIC_PROCESS_INSTANCE_ENDED,
+
+    /**
+     * A chunk of a background batch operation (e.g. suspending all process instances of a process definition) has been processed.
+     */
+    BATCH_PROGRESSED,
+
+    /**
+     * A background batch operation has processed all its chunks and is completed.
+     */
+    BATCH_COMPLETED;
 
     public static final FlowableEngineEventType[] EMPTY_ARRAY = new FlowableEngineEventType[] {};
 
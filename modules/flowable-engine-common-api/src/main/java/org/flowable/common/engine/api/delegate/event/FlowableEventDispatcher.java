@@ -53,6 +53,19 @@ public interface FlowableEventDispatcher {
      */
     void dispatchEvent(FlowableEvent event);
 
+    /**
+     * Allows callers to skip creating an event when nobody would be notified of it.
+     * Note that listeners defined in a process definition are not known by the dispatcher and are not taken into account.
+     * The default implementation can't inspect the listeners and assumes there is one whenever the dispatcher is enabled.
+     *
+     * @param type
+     *            type of the event
+     * @return true, if the dispatcher is enabled and at least one registered listener would be notified of an event of the given type.
+     */
+    default boolean hasListeners(FlowableEventType type) {
+        return isEnabled();
+    }
+
     /**
      * @param enabled
      *            true, if event dispatching should be enabled.
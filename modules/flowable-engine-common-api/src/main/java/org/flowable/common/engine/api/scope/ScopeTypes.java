@@ -21,4 +21,20 @@ public interface ScopeTypes {
     String BPMN = "bpmn";
     String CMMN = "cmmn";
     String TASK = "task";
+    String DMN = "dmn";
+
+    /**
+     * The jobs of an event broadcast of the process engine, the scope id is the id of the broadcast.
+     */
+    String BPMN_EVENT_BROADCAST = "bpmnEventBroadcast";
+
+    /**
+     * The jobs that create the instances of a partitioned parallel multi instance activity, the scope id is the id of the multi instance root execution.
+     */
+    String BPMN_MULTI_INSTANCE_PARTITION = "bpmnMultiInstancePartition";
+
+    /**
+     * The jobs of a background batch over the process instances of process definitions, the scope id is the id of the batch.
+     */
+    String BPMN_BATCH = "bpmnBatch";
 }
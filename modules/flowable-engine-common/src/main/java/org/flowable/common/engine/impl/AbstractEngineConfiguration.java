@@ -23,15 +23,25 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.naming.InitialContext;
 import javax.sql.DataSource;
 
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.ibatis.builder.xml.XMLConfigBuilder;
 import org.apache.ibatis.builder.xml.XMLMapperBuilder;
 import org.apache.ibatis.datasource.pooled.PooledDataSource;
@@ -57,6 +67,8 @@ import org.flowable.common.engine.impl.db.MybatisTypeAliasConfigurator;
 import org.flowable.common.engine.impl.db.MybatisTypeHandlerConfigurator;
 import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.event.EventDispatchAction;
+import org.flowable.common.engine.impl.history.HistoryCleaningManager;
+import org.flowable.common.engine.impl.interceptor.AsyncCommandExecutor;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContextFactory;
@@ -71,9 +83,19 @@ import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+import org.flowable.common.engine.impl.metrics.MetricsCommandInterceptor;
+import org.flowable.common.engine.impl.persistence.cache.SecondLevelEntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SecondLevelEntityCacheInvalidationChannel;
+import org.flowable.common.engine.impl.persistence.cache.SecondLevelEntityCachePolicy;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
+import org.flowable.common.engine.impl.tracing.CommandTraceSink;
+import org.flowable.common.engine.impl.tracing.CommandTracer;
+import org.flowable.common.engine.impl.tracing.LoggingCommandTraceSink;
+import org.flowable.common.engine.impl.tracing.TracingCommandInterceptor;
 import org.flowable.common.engine.impl.util.DefaultClockImpl;
 import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.common.engine.impl.util.ReflectUtil;
@@ -142,7 +164,28 @@ public abstract class AbstractEngineConfiguration {
     protected List<CommandInterceptor> customPostCommandInterceptors;
     protected List<CommandInterceptor> commandInterceptors;
 
-    protected Map<String, AbstractEngineConfiguration> engineConfigurations = new HashMap<>();
+    /**
+     * If true, an {@link AsyncCommandExecutor} is created that executes commands and service calls on a dedicated, bounded thread pool
+     * and returns a {@link java.util.concurrent.CompletableFuture}, for callers that must not block on the database.
+     */
+    protected boolean enableAsyncCommandExecutor;
+    protected int asyncCommandExecutorPoolSize = 8;
+    protected int asyncCommandExecutorQueueSize = 100;
+    protected AsyncCommandExecutor asyncCommandExecutor;
+
+    /**
+     * The maximum number of resources of one deployment that are parsed, validated and get a generated diagram at the same time.
+     * The resulting definitions are still persisted one after the other, in the order of the deployment resources.
+     * By default (1), the resources of a deployment are handled one after the other.
+     * <p>
+     * When higher than 1, the deployers run on the {@link #deploymentExecutorService}, which is shared by all deployments of the engine
+     * and shut down when the engine is closed. The code that runs on it (e.g. custom BPMN parse handlers) must be thread-safe and must not use
+     * the database: it only gets a read-only command context, see {@link org.flowable.common.engine.impl.persistence.deploy.ParallelDeploymentUtil}.
+     */
+    protected int deploymentParallelism = 1;
+    protected ExecutorService deploymentExecutorService;
+
+    protected Map<String, AbstractEngineConfiguration> engineConfigurations = new ConcurrentHashMap<>();
     protected Map<String, AbstractServiceConfiguration> serviceConfigurations = new HashMap<>();
 
     protected ClassLoader classLoader;
@@ -184,6 +227,53 @@ public abstract class AbstractEngineConfiguration {
     protected List<MybatisTypeAliasConfigurator> dependentEngineMybatisTypeAliasConfigs;
     protected List<MybatisTypeHandlerConfigurator> dependentEngineMybatisTypeHandlerConfigs;
 
+    /**
+     * The entity types that are cached across commands (by default none), e.g. deployments and process definitions.
+     * Only types of which all changes go through the entity managers of the engine should be declared here.
+     */
+    protected Map<Class<? extends Entity>, SecondLevelEntityCachePolicy> secondLevelEntityCachePolicies;
+    protected SecondLevelEntityCacheInvalidationChannel secondLevelEntityCacheInvalidationChannel;
+    protected SecondLevelEntityCache secondLevelEntityCache;
+
+    /**
+     * Receives the performance telemetry of the engine (command latency, flushes, entity cache lookups, ...). Null by default, meaning no metrics are recorded.
+     */
+    protected EngineMetrics engineMetrics;
+
+    /**
+     * When enabled, each command records its agenda operations, sql statements, expression evaluations and delegate invocations in a preallocated per-thread buffer.
+     * The trace of commands taking longer than the threshold (in milliseconds) is handed to the {@link CommandTraceSink}, by default the log.
+     */
+    protected boolean enableCommandTracing;
+    protected long commandTracingThreshold = 1000L;
+    protected int commandTraceBufferSize = 1024;
+    protected CommandTraceSink commandTraceSink;
+    protected CommandTracer commandTracer;
+
+    /**
+     * When enabled, lookups of the latest definition version by key resolve the cached definition id from the deployment cache instead of
+     * querying the maximum version. Versions deployed or deleted by other nodes of a cluster are picked up once the entry is older than
+     * {@link #latestDefinitionCacheTimeToLive} milliseconds (60 seconds by default, 0 keeps entries until they are evicted on this node).
+     */
+    protected boolean enableLatestDefinitionCache;
+    protected long latestDefinitionCacheTimeToLive = 60000L;
+    protected LatestDefinitionCache latestDefinitionCache;
+
+    /**
+     * When enabled, the history of instances that ended longer than their time to live ago is deleted by a repeating timer job
+     * following {@link #historyCleaningTimeCycleConfig}, in chunks of {@link #historyCleaningBatchSize} root instances each in their own transaction.
+     * A run stops when its maintenance window has passed; the remaining expired history is deleted by the next run.
+     * The time to live is the number of days configured for the definition key in {@link #historyTimeToLiveByDefinitionKey},
+     * or {@link #cleanInstancesEndedAfterNumberOfDays} otherwise (a negative number means the history of other definitions is kept).
+     */
+    protected boolean enableHistoryCleaning;
+    protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
+    protected int cleanInstancesEndedAfterNumberOfDays = 365;
+    protected Map<String, Integer> historyTimeToLiveByDefinitionKey = new HashMap<>();
+    protected int historyCleaningBatchSize = 1000;
+    protected int historyCleaningWindowInMinutes = 240;
+    protected HistoryCleaningManager historyCleaningManager;
+
     // SESSION FACTORIES ///////////////////////////////////////////////
     protected List<SessionFactory> customSessionFactories;
     protected Map<Class<?>, SessionFactory> sessionFactories;
@@ -279,6 +369,18 @@ public abstract class AbstractEngineConfiguration {
     protected List<EngineConfigurator> allConfigurators; // Including auto-discovered configurators
     protected EngineConfigurator idmEngineConfigurator;
 
+    /**
+     * Set this to true to build the engines of consecutive configurators that support it (see {@link AbstractEngineConfigurator#isParallelInitSupported()})
+     * in parallel. Those engines only need the resources they share with this engine, like the datasource and the MyBatis configuration.
+     * All other configurators still run one by one in priority order.
+     */
+    protected boolean enableParallelConfiguratorInit;
+
+    /**
+     * The durations in milliseconds of the timed init phases of this engine, in the order they finished.
+     */
+    protected Map<String, Long> initPhaseDurations = Collections.synchronizedMap(new LinkedHashMap<>());
+
     public static final String DATABASE_TYPE_H2 = "h2";
     public static final String DATABASE_TYPE_HSQL = "hsql";
     public static final String DATABASE_TYPE_MYSQL = "mysql";
@@ -459,8 +561,10 @@ public abstract class AbstractEngineConfiguration {
         initDefaultCommandConfig();
         initSchemaCommandConfig();
         initCommandInvoker();
+        initCommandTracer();
         initCommandInterceptors();
         initCommandExecutor();
+        initAsyncCommandExecutor();
     }
 
 
@@ -482,6 +586,15 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    public void initCommandTracer() {
+        if (commandTracer == null && enableCommandTracing) {
+            if (commandTraceSink == null) {
+                commandTraceSink = new LoggingCommandTraceSink();
+            }
+            commandTracer = new CommandTracer(commandTracingThreshold, commandTraceBufferSize, commandTraceSink);
+        }
+    }
+
     public void initCommandInterceptors() {
         if (commandInterceptors == null) {
             commandInterceptors = new ArrayList<>();
@@ -499,6 +612,12 @@ public abstract class AbstractEngineConfiguration {
     public Collection<? extends CommandInterceptor> getDefaultCommandInterceptors() {
         if (defaultCommandInterceptors == null) {
             List<CommandInterceptor> interceptors = new ArrayList<>();
+            if (engineMetrics != null) {
+                interceptors.add(new MetricsCommandInterceptor(engineMetrics));
+            }
+            if (commandTracer != null) {
+                interceptors.add(new TracingCommandInterceptor(commandTracer));
+            }
             interceptors.add(new LogInterceptor());
 
             CommandInterceptor transactionInterceptor = createTransactionInterceptor();
@@ -513,6 +632,7 @@ public abstract class AbstractEngineConfiguration {
                 commandContextInterceptor.setEngineConfigurations(engineConfigurations);
                 commandContextInterceptor.setServiceConfigurations(serviceConfigurations);
                 commandContextInterceptor.setCurrentEngineConfigurationKey(engineCfgKey);
+                commandContextInterceptor.setCommandTracer(commandTracer);
                 interceptors.add(commandContextInterceptor);
             }
 
@@ -543,6 +663,23 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    public void initAsyncCommandExecutor() {
+        if (enableAsyncCommandExecutor && asyncCommandExecutor == null) {
+            asyncCommandExecutor = new AsyncCommandExecutor(commandExecutor, asyncCommandExecutorPoolSize, asyncCommandExecutorQueueSize,
+                    "flowable-async-command-%d");
+        }
+    }
+
+    public void initDeploymentExecutorService() {
+        if (deploymentParallelism > 1 && deploymentExecutorService == null) {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(deploymentParallelism, deploymentParallelism, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), new BasicThreadFactory.Builder().namingPattern("flowable-deployment-%d").daemon(true).build());
+            // the pool is only busy while deploying, so its threads don't need to stay around
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            deploymentExecutorService = threadPoolExecutor;
+        }
+    }
+
     public CommandInterceptor initInterceptorChain(List<CommandInterceptor> chain) {
         if (chain == null || chain.isEmpty()) {
             throw new FlowableException("invalid command interceptor chain configuration: " + chain);
@@ -591,7 +728,7 @@ public abstract class AbstractEngineConfiguration {
 
     public void initSessionFactories() {
         if (sessionFactories == null) {
-            sessionFactories = new HashMap<>();
+            sessionFactories = new ConcurrentHashMap<>();
 
             if (usingRelationalDatabase) {
                 initDbSqlSessionFactory();
@@ -621,11 +758,28 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
 
+        initSecondLevelEntityCache();
+        dbSqlSessionFactory.setSecondLevelEntityCache(secondLevelEntityCache);
+        dbSqlSessionFactory.setEngineMetrics(engineMetrics);
+
         initDbSqlSessionFactoryEntitySettings();
 
         addSessionFactory(dbSqlSessionFactory);
     }
 
+    public void initSecondLevelEntityCache() {
+        if (secondLevelEntityCache == null && secondLevelEntityCachePolicies != null && !secondLevelEntityCachePolicies.isEmpty()) {
+            secondLevelEntityCache = new SecondLevelEntityCache(secondLevelEntityCachePolicies, secondLevelEntityCacheInvalidationChannel);
+        }
+    }
+
+    public void initLatestDefinitionCache() {
+        if (latestDefinitionCache == null && enableLatestDefinitionCache) {
+            latestDefinitionCache = new LatestDefinitionCache();
+            latestDefinitionCache.setTimeToLive(latestDefinitionCacheTimeToLive);
+        }
+    }
+
     public DbSqlSessionFactory createDbSqlSessionFactory() {
         return new DbSqlSessionFactory(usePrefixId);
     }
@@ -665,42 +819,46 @@ public abstract class AbstractEngineConfiguration {
 
     public void initSqlSessionFactory() {
         if (sqlSessionFactory == null) {
-            InputStream inputStream = null;
-            try {
-                inputStream = getMyBatisXmlConfigurationStream();
-
-                Environment environment = new Environment("default", transactionFactory, dataSource);
-                Reader reader = new InputStreamReader(inputStream);
-                Properties properties = new Properties();
-                properties.put("prefix", databaseTablePrefix);
+            timeInitPhase("MyBatis configuration", this::buildSqlSessionFactory);
+        }
+    }
 
-                String wildcardEscapeClause = "";
-                if ((databaseWildcardEscapeCharacter != null) && (databaseWildcardEscapeCharacter.length() != 0)) {
-                    wildcardEscapeClause = " escape '" + databaseWildcardEscapeCharacter + "'";
-                }
-                properties.put("wildcardEscapeClause", wildcardEscapeClause);
-
-                // set default properties
-                properties.put("limitBefore", "");
-                properties.put("limitAfter", "");
-                properties.put("limitBetween", "");
-                properties.put("limitOuterJoinBetween", "");
-                properties.put("limitBeforeNativeQuery", "");
-                properties.put("blobType", "BLOB");
-                properties.put("boolValue", "TRUE");
-
-                if (databaseType != null) {
-                    properties.load(getResourceAsStream(pathToEngineDbProperties()));
-                }
+    protected void buildSqlSessionFactory() {
+        InputStream inputStream = null;
+        try {
+            inputStream = getMyBatisXmlConfigurationStream();
 
-                Configuration configuration = initMybatisConfiguration(environment, reader, properties);
-                sqlSessionFactory = new DefaultSqlSessionFactory(configuration);
+            Environment environment = new Environment("default", transactionFactory, dataSource);
+            Reader reader = new InputStreamReader(inputStream);
+            Properties properties = new Properties();
+            properties.put("prefix", databaseTablePrefix);
 
-            } catch (Exception e) {
-                throw new FlowableException("Error while building ibatis SqlSessionFactory: " + e.getMessage(), e);
-            } finally {
-                IoUtil.closeSilently(inputStream);
+            String wildcardEscapeClause = "";
+            if ((databaseWildcardEscapeCharacter != null) && (databaseWildcardEscapeCharacter.length() != 0)) {
+                wildcardEscapeClause = " escape '" + databaseWildcardEscapeCharacter + "'";
+            }
+            properties.put("wildcardEscapeClause", wildcardEscapeClause);
+
+            // set default properties
+            properties.put("limitBefore", "");
+            properties.put("limitAfter", "");
+            properties.put("limitBetween", "");
+            properties.put("limitOuterJoinBetween", "");
+            properties.put("limitBeforeNativeQuery", "");
+            properties.put("blobType", "BLOB");
+            properties.put("boolValue", "TRUE");
+
+            if (databaseType != null) {
+                properties.load(getResourceAsStream(pathToEngineDbProperties()));
             }
+
+            Configuration configuration = initMybatisConfiguration(environment, reader, properties);
+            sqlSessionFactory = new DefaultSqlSessionFactory(configuration);
+
+        } catch (Exception e) {
+            throw new FlowableException("Error while building ibatis SqlSessionFactory: " + e.getMessage(), e);
+        } finally {
+            IoUtil.closeSilently(inputStream);
         }
     }
 
@@ -789,6 +947,11 @@ public abstract class AbstractEngineConfiguration {
     }
 
     protected void parseMybatisXmlMapping(Configuration configuration, String resource) {
+        if (configuration.isResourceLoaded(resource)) {
+            // the shared service mappers are often listed by multiple engines, there's no need to read them again
+            return;
+        }
+
         // see XMLConfigBuilder.mapperElement()
         XMLMapperBuilder mapperParser = new XMLMapperBuilder(getResourceAsStream(resource), configuration, resource, configuration.getSqlFragments());
         mapperParser.parse();
@@ -864,6 +1027,14 @@ public abstract class AbstractEngineConfiguration {
     }
 
     public void close() {
+        if (asyncCommandExecutor != null) {
+            asyncCommandExecutor.shutdown();
+        }
+
+        if (deploymentExecutorService != null) {
+            deploymentExecutorService.shutdownNow();
+        }
+
         if (forceCloseMybatisConnectionPool && dataSource instanceof PooledDataSource) {
             /*
              * When the datasource is created by a Flowable engine (i.e. it's an instance of PooledDataSource),
@@ -880,18 +1051,96 @@ public abstract class AbstractEngineConfiguration {
     }
 
     public void configuratorsBeforeInit() {
+        long startTime = System.nanoTime();
         for (EngineConfigurator configurator : allConfigurators) {
             logger.info("Executing beforeInit() of {} (priority:{})", configurator.getClass(), configurator.getPriority());
             configurator.beforeInit(this);
         }
+        addInitPhaseDuration("configurators beforeInit", startTime);
     }
     
     public void configuratorsAfterInit() {
+        List<EngineConfigurator> parallelConfigurators = new ArrayList<>();
         for (EngineConfigurator configurator : allConfigurators) {
-            logger.info("Executing configure() of {} (priority:{})", configurator.getClass(), configurator.getPriority());
-            configurator.configure(this);
+            if (enableParallelConfiguratorInit && configurator instanceof AbstractEngineConfigurator
+                    && ((AbstractEngineConfigurator) configurator).isParallelInitSupported()) {
+                parallelConfigurators.add(configurator);
+
+            } else {
+                // the configurators that were collected before can't depend on this one, as they have a lower priority
+                configureInParallel(parallelConfigurators);
+                parallelConfigurators.clear();
+                configure(configurator);
+            }
+        }
+        configureInParallel(parallelConfigurators);
+    }
+
+    protected void configure(EngineConfigurator configurator) {
+        logger.info("Executing configure() of {} (priority:{})", configurator.getClass(), configurator.getPriority());
+        timeInitPhase("configure " + configurator.getClass().getSimpleName(), () -> configurator.configure(this));
+    }
+
+    protected void configureInParallel(List<EngineConfigurator> configurators) {
+        if (configurators.size() <= 1) {
+            for (EngineConfigurator configurator : configurators) {
+                configure(configurator);
+            }
+            return;
         }
-    }    
+
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(configurators.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<?>> futures = new ArrayList<>(configurators.size());
+            for (EngineConfigurator configurator : configurators) {
+                futures.add(executorService.submit(() -> configure(configurator)));
+            }
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new FlowableException("Error while executing configurator: " + e.getCause().getMessage(), e.getCause());
+
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new FlowableException("Interrupted while waiting for the configurators", e);
+                }
+            }
+
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Runs the given init phase and keeps its duration for the startup report of {@link #logInitPhaseDurations()}.
+     */
+    protected void timeInitPhase(String phaseName, Runnable initPhase) {
+        long startTime = System.nanoTime();
+        initPhase.run();
+        addInitPhaseDuration(phaseName, startTime);
+    }
+
+    protected void addInitPhaseDuration(String phaseName, long startNanoTime) {
+        initPhaseDurations.put(phaseName, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanoTime));
+    }
+
+    protected void logInitPhaseDurations() {
+        if (logger.isInfoEnabled()) {
+            StringBuilder report = new StringBuilder();
+            synchronized (initPhaseDurations) {
+                for (Map.Entry<String, Long> phaseDuration : initPhaseDurations.entrySet()) {
+                    report.append(System.lineSeparator()).append("  ").append(phaseDuration.getKey()).append(": ").append(phaseDuration.getValue()).append(" ms");
+                }
+            }
+            logger.info("Startup of {} took:{}", getEngineName(), report);
+        }
+    }
 
     // getters and setters
     // //////////////////////////////////////////////////////
@@ -1150,6 +1399,60 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isEnableAsyncCommandExecutor() {
+        return enableAsyncCommandExecutor;
+    }
+
+    public AbstractEngineConfiguration setEnableAsyncCommandExecutor(boolean enableAsyncCommandExecutor) {
+        this.enableAsyncCommandExecutor = enableAsyncCommandExecutor;
+        return this;
+    }
+
+    public int getAsyncCommandExecutorPoolSize() {
+        return asyncCommandExecutorPoolSize;
+    }
+
+    public AbstractEngineConfiguration setAsyncCommandExecutorPoolSize(int asyncCommandExecutorPoolSize) {
+        this.asyncCommandExecutorPoolSize = asyncCommandExecutorPoolSize;
+        return this;
+    }
+
+    public int getAsyncCommandExecutorQueueSize() {
+        return asyncCommandExecutorQueueSize;
+    }
+
+    public AbstractEngineConfiguration setAsyncCommandExecutorQueueSize(int asyncCommandExecutorQueueSize) {
+        this.asyncCommandExecutorQueueSize = asyncCommandExecutorQueueSize;
+        return this;
+    }
+
+    public AsyncCommandExecutor getAsyncCommandExecutor() {
+        return asyncCommandExecutor;
+    }
+
+    public AbstractEngineConfiguration setAsyncCommandExecutor(AsyncCommandExecutor asyncCommandExecutor) {
+        this.asyncCommandExecutor = asyncCommandExecutor;
+        return this;
+    }
+
+    public int getDeploymentParallelism() {
+        return deploymentParallelism;
+    }
+
+    public AbstractEngineConfiguration setDeploymentParallelism(int deploymentParallelism) {
+        this.deploymentParallelism = deploymentParallelism;
+        return this;
+    }
+
+    public ExecutorService getDeploymentExecutorService() {
+        return deploymentExecutorService;
+    }
+
+    public AbstractEngineConfiguration setDeploymentExecutorService(ExecutorService deploymentExecutorService) {
+        this.deploymentExecutorService = deploymentExecutorService;
+        return this;
+    }
+
     public CommandContextFactory getCommandContextFactory() {
         return commandContextFactory;
     }
@@ -1206,7 +1509,7 @@ public abstract class AbstractEngineConfiguration {
 
     public void addEngineConfiguration(String key, AbstractEngineConfiguration engineConfiguration) {
         if (engineConfigurations == null) {
-            engineConfigurations = new HashMap<>();
+            engineConfigurations = new ConcurrentHashMap<>();
         }
         engineConfigurations.put(key, engineConfiguration);
     }
@@ -1258,6 +1561,185 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public Map<Class<? extends Entity>, SecondLevelEntityCachePolicy> getSecondLevelEntityCachePolicies() {
+        return secondLevelEntityCachePolicies;
+    }
+
+    public AbstractEngineConfiguration setSecondLevelEntityCachePolicies(Map<Class<? extends Entity>, SecondLevelEntityCachePolicy> secondLevelEntityCachePolicies) {
+        this.secondLevelEntityCachePolicies = secondLevelEntityCachePolicies;
+        return this;
+    }
+
+    public AbstractEngineConfiguration addSecondLevelEntityCachePolicy(Class<? extends Entity> entityClass, SecondLevelEntityCachePolicy policy) {
+        if (this.secondLevelEntityCachePolicies == null) {
+            this.secondLevelEntityCachePolicies = new HashMap<>();
+        }
+        this.secondLevelEntityCachePolicies.put(entityClass, policy);
+        return this;
+    }
+
+    public SecondLevelEntityCacheInvalidationChannel getSecondLevelEntityCacheInvalidationChannel() {
+        return secondLevelEntityCacheInvalidationChannel;
+    }
+
+    public AbstractEngineConfiguration setSecondLevelEntityCacheInvalidationChannel(SecondLevelEntityCacheInvalidationChannel secondLevelEntityCacheInvalidationChannel) {
+        this.secondLevelEntityCacheInvalidationChannel = secondLevelEntityCacheInvalidationChannel;
+        return this;
+    }
+
+    public SecondLevelEntityCache getSecondLevelEntityCache() {
+        return secondLevelEntityCache;
+    }
+
+    public AbstractEngineConfiguration setSecondLevelEntityCache(SecondLevelEntityCache secondLevelEntityCache) {
+        this.secondLevelEntityCache = secondLevelEntityCache;
+        return this;
+    }
+
+    public EngineMetrics getEngineMetrics() {
+        return engineMetrics;
+    }
+
+    public AbstractEngineConfiguration setEngineMetrics(EngineMetrics engineMetrics) {
+        this.engineMetrics = engineMetrics;
+        return this;
+    }
+
+    public boolean isEnableCommandTracing() {
+        return enableCommandTracing;
+    }
+
+    public AbstractEngineConfiguration setEnableCommandTracing(boolean enableCommandTracing) {
+        this.enableCommandTracing = enableCommandTracing;
+        return this;
+    }
+
+    public long getCommandTracingThreshold() {
+        return commandTracingThreshold;
+    }
+
+    public AbstractEngineConfiguration setCommandTracingThreshold(long commandTracingThreshold) {
+        this.commandTracingThreshold = commandTracingThreshold;
+        return this;
+    }
+
+    public int getCommandTraceBufferSize() {
+        return commandTraceBufferSize;
+    }
+
+    public AbstractEngineConfiguration setCommandTraceBufferSize(int commandTraceBufferSize) {
+        this.commandTraceBufferSize = commandTraceBufferSize;
+        return this;
+    }
+
+    public CommandTraceSink getCommandTraceSink() {
+        return commandTraceSink;
+    }
+
+    public AbstractEngineConfiguration setCommandTraceSink(CommandTraceSink commandTraceSink) {
+        this.commandTraceSink = commandTraceSink;
+        return this;
+    }
+
+    public CommandTracer getCommandTracer() {
+        return commandTracer;
+    }
+
+    public AbstractEngineConfiguration setCommandTracer(CommandTracer commandTracer) {
+        this.commandTracer = commandTracer;
+        return this;
+    }
+
+    public boolean isEnableLatestDefinitionCache() {
+        return enableLatestDefinitionCache;
+    }
+
+    public AbstractEngineConfiguration setEnableLatestDefinitionCache(boolean enableLatestDefinitionCache) {
+        this.enableLatestDefinitionCache = enableLatestDefinitionCache;
+        return this;
+    }
+
+    public long getLatestDefinitionCacheTimeToLive() {
+        return latestDefinitionCacheTimeToLive;
+    }
+
+    public AbstractEngineConfiguration setLatestDefinitionCacheTimeToLive(long latestDefinitionCacheTimeToLive) {
+        this.latestDefinitionCacheTimeToLive = latestDefinitionCacheTimeToLive;
+        return this;
+    }
+
+    public LatestDefinitionCache getLatestDefinitionCache() {
+        return latestDefinitionCache;
+    }
+
+    public AbstractEngineConfiguration setLatestDefinitionCache(LatestDefinitionCache latestDefinitionCache) {
+        this.latestDefinitionCache = latestDefinitionCache;
+        return this;
+    }
+
+    public boolean isEnableHistoryCleaning() {
+        return enableHistoryCleaning;
+    }
+
+    public AbstractEngineConfiguration setEnableHistoryCleaning(boolean enableHistoryCleaning) {
+        this.enableHistoryCleaning = enableHistoryCleaning;
+        return this;
+    }
+
+    public String getHistoryCleaningTimeCycleConfig() {
+        return historyCleaningTimeCycleConfig;
+    }
+
+    public AbstractEngineConfiguration setHistoryCleaningTimeCycleConfig(String historyCleaningTimeCycleConfig) {
+        this.historyCleaningTimeCycleConfig = historyCleaningTimeCycleConfig;
+        return this;
+    }
+
+    public int getCleanInstancesEndedAfterNumberOfDays() {
+        return cleanInstancesEndedAfterNumberOfDays;
+    }
+
+    public AbstractEngineConfiguration setCleanInstancesEndedAfterNumberOfDays(int cleanInstancesEndedAfterNumberOfDays) {
+        this.cleanInstancesEndedAfterNumberOfDays = cleanInstancesEndedAfterNumberOfDays;
+        return this;
+    }
+
+    public Map<String, Integer> getHistoryTimeToLiveByDefinitionKey() {
+        return historyTimeToLiveByDefinitionKey;
+    }
+
+    public AbstractEngineConfiguration setHistoryTimeToLiveByDefinitionKey(Map<String, Integer> historyTimeToLiveByDefinitionKey) {
+        this.historyTimeToLiveByDefinitionKey = historyTimeToLiveByDefinitionKey;
+        return this;
+    }
+
+    public int getHistoryCleaningBatchSize() {
+        return historyCleaningBatchSize;
+    }
+
+    public AbstractEngineConfiguration setHistoryCleaningBatchSize(int historyCleaningBatchSize) {
+        this.historyCleaningBatchSize = historyCleaningBatchSize;
+        return this;
+    }
+
+    public int getHistoryCleaningWindowInMinutes() {
+        return historyCleaningWindowInMinutes;
+    }
+
+    public AbstractEngineConfiguration setHistoryCleaningWindowInMinutes(int historyCleaningWindowInMinutes) {
+        this.historyCleaningWindowInMinutes = historyCleaningWindowInMinutes;
+        return this;
+    }
+
+    public HistoryCleaningManager getHistoryCleaningManager() {
+        return historyCleaningManager;
+    }
+
+    public AbstractEngineConfiguration setHistoryCleaningManager(HistoryCleaningManager historyCleaningManager) {
+        this.historyCleaningManager = historyCleaningManager;
+        return this;
+    }
+
     public TransactionFactory getTransactionFactory() {
         return transactionFactory;
     }
@@ -1592,6 +2074,19 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isEnableParallelConfiguratorInit() {
+        return enableParallelConfiguratorInit;
+    }
+
+    public AbstractEngineConfiguration setEnableParallelConfiguratorInit(boolean enableParallelConfiguratorInit) {
+        this.enableParallelConfiguratorInit = enableParallelConfiguratorInit;
+        return this;
+    }
+
+    public Map<String, Long> getInitPhaseDurations() {
+        return initPhaseDurations;
+    }
+
     public List<EngineConfigurator> getConfigurators() {
         return configurators;
     }
@@ -204,21 +204,33 @@ public abstract class AbstractEngineConfigurator implements EngineConfigurator {
         return null;
     }
 
+    /**
+     * Whether the engine of this configurator can be built at the same time as the engines of other configurators,
+     * when {@link AbstractEngineConfiguration#isEnableParallelConfiguratorInit()} is enabled.
+     * This is only the case when the engine doesn't need any other engine while it's being built.
+     */
+    public boolean isParallelInitSupported() {
+        return false;
+    }
+
     protected void initialiseCommonProperties(AbstractEngineConfiguration engineConfiguration, AbstractEngineConfiguration targetEngineConfiguration) {
-        initEngineConfigurations(engineConfiguration, targetEngineConfiguration);
-        initCommandContextFactory(engineConfiguration, targetEngineConfiguration);
-        initIdGenerator(engineConfiguration, targetEngineConfiguration);
-
-        if (targetEngineConfiguration.isUsingRelationalDatabase()) {
-            initDataSource(engineConfiguration, targetEngineConfiguration);
-            initDbSqlSessionFactory(engineConfiguration, targetEngineConfiguration);
-            initDbProperties(engineConfiguration, targetEngineConfiguration);
-        }
+        // the shared resources are changed here, which can happen for multiple configurators at the same time with parallel configurator init
+        synchronized (engineConfiguration) {
+            initEngineConfigurations(engineConfiguration, targetEngineConfiguration);
+            initCommandContextFactory(engineConfiguration, targetEngineConfiguration);
+            initIdGenerator(engineConfiguration, targetEngineConfiguration);
+
+            if (targetEngineConfiguration.isUsingRelationalDatabase()) {
+                initDataSource(engineConfiguration, targetEngineConfiguration);
+                initDbSqlSessionFactory(engineConfiguration, targetEngineConfiguration);
+                initDbProperties(engineConfiguration, targetEngineConfiguration);
+            }
 
-        initSessionFactories(engineConfiguration, targetEngineConfiguration);
-        initEventDispatcher(engineConfiguration, targetEngineConfiguration);
-        initClock(engineConfiguration, targetEngineConfiguration);
-        initVariableTypes(engineConfiguration, targetEngineConfiguration);
+            initSessionFactories(engineConfiguration, targetEngineConfiguration);
+            initEventDispatcher(engineConfiguration, targetEngineConfiguration);
+            initClock(engineConfiguration, targetEngineConfiguration);
+            initVariableTypes(engineConfiguration, targetEngineConfiguration);
+        }
     }
 
     protected void initEngineConfigurations(AbstractEngineConfiguration engineConfiguration, AbstractEngineConfiguration targetEngineConfiguration) {
@@ -37,6 +37,12 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     protected transient CommandExecutor commandExecutor;
     protected transient CommandContext commandContext;
 
+    /**
+     * When set, only results with an id larger than this id are returned (keyset paging).
+     * Only used by queries for which {@link #isKeysetPagingSupported()} returns true.
+     */
+    protected String afterId;
+
     protected AbstractQuery() {
         parameter = this;
     }
@@ -150,6 +156,22 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         }
     }
 
+    /**
+     * Whether the statement of this query supports the {@link #setAfterId(String) afterId} criterion,
+     * i.e. whether the results can be paged on their id instead of with an offset.
+     */
+    public boolean isKeysetPagingSupported() {
+        return false;
+    }
+
+    public String getAfterId() {
+        return afterId;
+    }
+
+    public void setAfterId(String afterId) {
+        this.afterId = afterId;
+    }
+
     public abstract long executeCount(CommandContext commandContext);
 
     /**
@@ -19,6 +19,7 @@ import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,6 +47,8 @@ public abstract class AbstractServiceConfiguration {
     protected ObjectMapper objectMapper;
 
     protected Clock clock;
+
+    protected EngineMetrics engineMetrics;
     
     public boolean isHistoryLevelAtLeast(HistoryLevel level) {
         if (logger.isDebugEnabled()) {
@@ -133,4 +136,13 @@ public abstract class AbstractServiceConfiguration {
         this.clock = clock;
         return this;
     }
+
+    public EngineMetrics getEngineMetrics() {
+        return engineMetrics;
+    }
+
+    public AbstractServiceConfiguration setEngineMetrics(EngineMetrics engineMetrics) {
+        this.engineMetrics = engineMetrics;
+        return this;
+    }
 }
@@ -16,6 +16,7 @@ import java.util.LinkedList;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,6 +66,16 @@ public abstract class AbstractAgenda implements Agenda {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Operation {} added to agenda", operation.getClass());
         }
+        recordPlannedOperation(operation);
+    }
+
+    protected void recordPlannedOperation(Runnable operation) {
+        if (commandContext != null) {
+            EngineMetrics engineMetrics = commandContext.getCurrentEngineConfiguration().getEngineMetrics();
+            if (engineMetrics != null) {
+                engineMetrics.recordAgendaOperation(operation.getClass().getSimpleName());
+            }
+        }
     }
 
     public LinkedList<Runnable> getOperations() {
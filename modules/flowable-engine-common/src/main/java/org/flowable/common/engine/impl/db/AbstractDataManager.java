@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -25,6 +26,7 @@ import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 
 /**
  * @author Joram Barrez
@@ -32,6 +34,11 @@ import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
  */
 public abstract class AbstractDataManager<EntityImpl extends Entity> implements DataManager<EntityImpl> {
 
+    /**
+     * The maximum number of values used in one in clause, as some databases (e.g. Oracle) don't support more.
+     */
+    protected static final int MAX_IN_CLAUSE_SIZE = 1000;
+
     public abstract Class<? extends EntityImpl> getManagedEntityClass();
 
     public List<Class<? extends EntityImpl>> getManagedEntitySubClasses() {
@@ -60,14 +67,8 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
             return null;
         }
 
-        // Cache
-        EntityImpl cachedEntity = getEntityCache().findInCache(getManagedEntityClass(), entityId);
-        if (cachedEntity != null) {
-            return cachedEntity;
-        }
-
-        // Database
-        return getDbSqlSession().selectById(getManagedEntityClass(), entityId, false);
+        // Entity cache, second level cache (when configured) and database
+        return getDbSqlSession().selectById(getManagedEntityClass(), entityId, true);
     }
 
     @Override
@@ -92,6 +93,42 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         getDbSqlSession().delete(entity);
     }
 
+    /**
+     * Executes a bulk delete having an in clause on the 'ids' parameter, once for every partition of the given ids.
+     * The optional scope type is passed as the 'scopeType' parameter.
+     */
+    protected void bulkDeleteForIds(String deleteStatement, Collection<String> ids, String scopeType) {
+        bulkDeleteForIds(deleteStatement, ids, scopeType, getManagedEntityClass());
+    }
+
+    protected void bulkDeleteForIds(String deleteStatement, Collection<String> ids, String scopeType, Class<? extends Entity> entityClass) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (List<String> partition : CollectionUtil.partition(ids, MAX_IN_CLAUSE_SIZE)) {
+            dbSqlSession.delete(deleteStatement, createIdsParameters(partition, scopeType), entityClass);
+        }
+    }
+
+    /**
+     * Executes a select having an in clause on the 'ids' parameter, once for every partition of the given ids, and returns all the selected ids.
+     * The optional scope type is passed as the 'scopeType' parameter.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<String> selectIdsForIds(String selectStatement, Collection<String> ids, String scopeType) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        List<String> selectedIds = new ArrayList<>();
+        for (List<String> partition : CollectionUtil.partition(ids, MAX_IN_CLAUSE_SIZE)) {
+            selectedIds.addAll(dbSqlSession.selectListWithRawParameterNoCacheCheck(selectStatement, createIdsParameters(partition, scopeType)));
+        }
+        return selectedIds;
+    }
+
+    protected Map<String, Object> createIdsParameters(List<String> ids, String scopeType) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("ids", ids);
+        parameters.put("scopeType", scopeType);
+        return parameters;
+    }
+
     @SuppressWarnings("unchecked")
     protected EntityImpl findByQuery(String selectQuery, Object parameter) {
         return (EntityImpl) getDbSqlSession().selectOne(selectQuery, parameter);
@@ -30,10 +30,15 @@ import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Session;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SecondLevelEntityCacheRegion;
+import org.flowable.common.engine.impl.persistence.cache.SecondLevelEntityCacheSynchronization;
 import org.flowable.common.engine.impl.persistence.entity.AlwaysUpdatedPersistentObject;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.flowable.common.engine.impl.tracing.CommandTrace;
+import org.flowable.common.engine.impl.tracing.CommandTraceEntryType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -58,10 +63,19 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
 
+    protected SecondLevelEntityCacheSynchronization secondLevelEntityCacheSynchronization;
+
+    protected EngineMetrics engineMetrics;
+    protected int flushedStatements;
+
+    protected CommandTrace commandTrace;
+
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
         this.sqlSession = dbSqlSessionFactory.getSqlSessionFactory().openSession();
+        this.engineMetrics = dbSqlSessionFactory.getEngineMetrics();
+        initSecondLevelEntityCacheSynchronization();
     }
 
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache, Connection connection, String catalog, String schema) {
@@ -70,6 +84,14 @@ public class DbSqlSession implements Session {
         this.sqlSession = dbSqlSessionFactory.getSqlSessionFactory().openSession(connection); // Note the use of connection param here, different from other constructor
         this.connectionMetadataDefaultCatalog = catalog;
         this.connectionMetadataDefaultSchema = schema;
+        this.engineMetrics = dbSqlSessionFactory.getEngineMetrics();
+        initSecondLevelEntityCacheSynchronization();
+    }
+
+    protected void initSecondLevelEntityCacheSynchronization() {
+        if (dbSqlSessionFactory.getSecondLevelEntityCache() != null) {
+            this.secondLevelEntityCacheSynchronization = new SecondLevelEntityCacheSynchronization(dbSqlSessionFactory.getSecondLevelEntityCache());
+        }
     }
 
     // insert ///////////////////////////////////////////////////////////////////
@@ -101,9 +123,33 @@ public class DbSqlSession implements Session {
         entity.setUpdated(true);
     }
 
+    /**
+     * Executes an update statement that changes rows of an unknown entity type, which invalidates the whole second level entity cache.
+     * Use {@link #update(String, Object, Class)} when the changed entity type is known.
+     */
     public int update(String statement, Object parameters) {
+        if (secondLevelEntityCacheSynchronization != null) {
+            secondLevelEntityCacheSynchronization.allEntitiesChanged();
+        }
+        return executeUpdate(statement, parameters);
+    }
+
+    /**
+     * Executes an update statement that only changes rows of the given entity type, so only that type is invalidated in the second level entity cache.
+     */
+    public int update(String statement, Object parameters, Class<? extends Entity> entityClass) {
+        if (secondLevelEntityCacheSynchronization != null) {
+            secondLevelEntityCacheSynchronization.entitiesChanged(entityClass);
+        }
+        return executeUpdate(statement, parameters);
+    }
+
+    protected int executeUpdate(String statement, Object parameters) {
         String updateStatement = dbSqlSessionFactory.mapStatement(statement);
-        return getSqlSession().update(updateStatement, parameters);
+        long startTime = traceStartTime();
+        int updatedRecords = getSqlSession().update(updateStatement, parameters);
+        traceStatement(updateStatement, startTime);
+        return updatedRecords;
     }
 
     // delete
@@ -198,7 +244,9 @@ public class DbSqlSession implements Session {
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public List selectListWithRawParameter(String statement, Object parameter, boolean useCache) {
         statement = dbSqlSessionFactory.mapStatement(statement);
+        long startTime = traceStartTime();
         List loadedObjects = sqlSession.selectList(statement, parameter);
+        traceStatement(statement, startTime);
         if (useCache) {
             return cacheLoadOrStore(loadedObjects);
         } else {
@@ -207,10 +255,28 @@ public class DbSqlSession implements Session {
     }
 
     public Object selectOne(String statement, Object parameter) {
-        statement = dbSqlSessionFactory.mapStatement(statement);
-        Object result = sqlSession.selectOne(statement, parameter);
+        SecondLevelEntityCacheRegion secondLevelCacheRegion = getSecondLevelEntityCacheQueryRegion(statement, parameter);
+        long secondLevelCacheVersion = 0L;
+        if (secondLevelCacheRegion != null) {
+            String cachedEntityId = secondLevelCacheRegion.getQueryResult(statement, parameter);
+            if (cachedEntityId != null) {
+                Entity cachedEntity = selectById(secondLevelCacheRegion.getEntityClass(), cachedEntityId);
+                if (cachedEntity != null) {
+                    return cachedEntity;
+                }
+            }
+            secondLevelCacheVersion = secondLevelCacheRegion.getVersion();
+        }
+
+        String selectStatement = dbSqlSessionFactory.mapStatement(statement);
+        long startTime = traceStartTime();
+        Object result = sqlSession.selectOne(selectStatement, parameter);
+        traceStatement(selectStatement, startTime);
         if (result instanceof Entity) {
             Entity loadedObject = (Entity) result;
+            if (secondLevelCacheRegion != null && secondLevelCacheRegion.getEntityClass() == loadedObject.getClass()) {
+                secondLevelEntityCacheSynchronization.queryResultLoaded(secondLevelCacheRegion, statement, parameter, loadedObject, secondLevelCacheVersion);
+            }
             result = cacheLoadOrStore(loadedObject);
         }
         return result;
@@ -220,28 +286,86 @@ public class DbSqlSession implements Session {
         return selectById(entityClass, id, true);
     }
 
+    /**
+     * @param useCache whether the entity cache and the second level cache may be used. When false, the entity is always read from the database.
+     */
     @SuppressWarnings("unchecked")
     public <T extends Entity> T selectById(Class<T> entityClass, String id, boolean useCache) {
         T entity = null;
 
         if (useCache) {
             entity = entityCache.findInCache(entityClass, id);
+            if (engineMetrics != null) {
+                engineMetrics.recordEntityCacheLookup(entityClass, entity != null);
+            }
+            if (entity != null) {
+                return entity;
+            }
+        }
+
+        SecondLevelEntityCacheRegion secondLevelCacheRegion = useCache ? getSecondLevelEntityCacheRegion(entityClass) : null;
+        long secondLevelCacheVersion = 0L;
+        if (secondLevelCacheRegion != null) {
+            entity = (T) secondLevelCacheRegion.get(id);
             if (entity != null) {
+                entityCache.put(entity, true);
                 return entity;
             }
+            secondLevelCacheVersion = secondLevelCacheRegion.getVersion();
         }
 
         String selectStatement = dbSqlSessionFactory.getSelectStatement(entityClass);
         selectStatement = dbSqlSessionFactory.mapStatement(selectStatement);
+        long startTime = traceStartTime();
         entity = (T) sqlSession.selectOne(selectStatement, id);
+        traceStatement(selectStatement, startTime);
         if (entity == null) {
             return null;
         }
 
+        if (secondLevelCacheRegion != null) {
+            secondLevelEntityCacheSynchronization.entityLoaded(secondLevelCacheRegion, entity, secondLevelCacheVersion);
+        }
+
         entityCache.put(entity, true); // true -> store state so we can see later if it is updated later on
         return entity;
     }
 
+    // second level cache
+    // ///////////////////////////////////////////////////
+
+    protected SecondLevelEntityCacheRegion getSecondLevelEntityCacheRegion(Class<?> entityClass) {
+        if (secondLevelEntityCacheSynchronization == null) {
+            return null;
+        }
+        return dbSqlSessionFactory.getSecondLevelEntityCache().getRegion(entityClass);
+    }
+
+    protected SecondLevelEntityCacheRegion getSecondLevelEntityCacheQueryRegion(String statement, Object parameter) {
+        if (secondLevelEntityCacheSynchronization == null) {
+            return null;
+        }
+        SecondLevelEntityCacheRegion region = dbSqlSessionFactory.getSecondLevelEntityCache().getQueryRegion(statement);
+        return region != null && region.isCacheableQuery(statement, parameter) ? region : null;
+    }
+
+    protected void invalidateSecondLevelEntityCache() {
+        for (Class<? extends Entity> entityClass : insertedObjects.keySet()) {
+            secondLevelEntityCacheSynchronization.entityInserted(entityClass);
+        }
+        for (Entity updatedObject : updatedObjects) {
+            secondLevelEntityCacheSynchronization.entityChanged(updatedObject.getClass(), updatedObject.getId());
+        }
+        for (Map<String, Entity> deletedEntities : deletedObjects.values()) {
+            for (Entity deletedEntity : deletedEntities.values()) {
+                secondLevelEntityCacheSynchronization.entityChanged(deletedEntity.getClass(), deletedEntity.getId());
+            }
+        }
+        for (Class<? extends Entity> entityClass : bulkDeleteOperations.keySet()) {
+            secondLevelEntityCacheSynchronization.entitiesChanged(entityClass);
+        }
+    }
+
     // internal session cache
     // ///////////////////////////////////////////////////
 
@@ -287,9 +411,41 @@ public class DbSqlSession implements Session {
             debugFlush();
         }
 
+        if (secondLevelEntityCacheSynchronization != null) {
+            invalidateSecondLevelEntityCache();
+        }
+
+        if (engineMetrics != null) {
+            flushAndRecordMetrics();
+            return;
+        }
+
+        flushInserts();
+        flushUpdates();
+        flushDeletes();
+    }
+
+    protected void flushAndRecordMetrics() {
+        int insertedEntities = countEntities(insertedObjects);
+        int updatedEntities = updatedObjects.size();
+        int deletedEntities = countEntities(deletedObjects);
+
+        flushedStatements = 0;
+        long startTime = System.nanoTime();
+
         flushInserts();
         flushUpdates();
         flushDeletes();
+
+        engineMetrics.recordFlush(insertedEntities, updatedEntities, deletedEntities, flushedStatements, System.nanoTime() - startTime);
+    }
+
+    protected int countEntities(Map<Class<? extends Entity>, Map<String, Entity>> entities) {
+        int count = 0;
+        for (Map<String, Entity> entitiesOfType : entities.values()) {
+            count += entitiesOfType.size();
+        }
+        return count;
     }
 
     /**
@@ -438,7 +594,10 @@ public class DbSqlSession implements Session {
         }
 
         LOGGER.debug("inserting: {}", entity);
+        long startTime = traceStartTime();
         sqlSession.insert(insertStatement, entity);
+        traceStatement(insertStatement, startTime);
+        flushedStatements++;
 
         // See https://activiti.atlassian.net/browse/ACT-1290
         if (entity instanceof HasRevision) {
@@ -469,7 +628,10 @@ public class DbSqlSession implements Session {
                 }
                 index++;
             }
+            long startTime = traceStartTime();
             sqlSession.insert(insertStatement, subList);
+            traceStatement(insertStatement, startTime);
+            flushedStatements++;
         }
 
         if (hasRevision != null && hasRevision) {
@@ -499,9 +661,12 @@ public class DbSqlSession implements Session {
 
             LOGGER.debug("updating: {}", updatedObject);
 
+            long startTime = traceStartTime();
             int updatedRecords = sqlSession.update(updateStatement, updatedObject);
+            traceStatement(updateStatement, startTime);
+            flushedStatements++;
             if (updatedRecords == 0) {
-                throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+                throw createOptimisticLockingException(updatedObject);
             }
 
             // See https://activiti.atlassian.net/browse/ACT-1290
@@ -549,7 +714,10 @@ public class DbSqlSession implements Session {
         // Bulk deletes
         if (deleteOperations != null) {
             for (BulkDeleteOperation bulkDeleteOperation : deleteOperations) {
+                long startTime = traceStartTime();
                 bulkDeleteOperation.execute(sqlSession, entityClass);
+                traceStatement(bulkDeleteOperation.getStatement(), startTime);
+                flushedStatements++;
             }
         }
     }
@@ -564,17 +732,37 @@ public class DbSqlSession implements Session {
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
+            long startTime = traceStartTime();
             if (entity instanceof HasRevision) {
                 int nrOfRowsDeleted = sqlSession.delete(deleteStatement, entity);
                 if (nrOfRowsDeleted == 0) {
-                    throw new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
+                    throw createOptimisticLockingException(entity);
                 }
             } else {
                 sqlSession.delete(deleteStatement, entity);
             }
+            traceStatement(deleteStatement, startTime);
+            flushedStatements++;
+        }
+    }
+
+    protected long traceStartTime() {
+        return commandTrace != null ? System.nanoTime() : 0L;
+    }
+
+    protected void traceStatement(String statement, long startTime) {
+        if (commandTrace != null) {
+            commandTrace.record(CommandTraceEntryType.SQL, statement, startTime);
         }
     }
 
+    protected FlowableOptimisticLockingException createOptimisticLockingException(Entity entity) {
+        if (engineMetrics != null) {
+            engineMetrics.recordOptimisticLockingFailure(entity.getClass());
+        }
+        return new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
+    }
+
     @Override
     public void close() {
         sqlSession.close();
@@ -599,6 +787,18 @@ public class DbSqlSession implements Session {
         return sqlSession;
     }
 
+    public EngineMetrics getEngineMetrics() {
+        return engineMetrics;
+    }
+
+    public CommandTrace getCommandTrace() {
+        return commandTrace;
+    }
+
+    public void setCommandTrace(CommandTrace commandTrace) {
+        this.commandTrace = commandTrace;
+    }
+
     public DbSqlSessionFactory getDbSqlSessionFactory() {
         return dbSqlSessionFactory;
     }
@@ -28,7 +28,9 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SecondLevelEntityCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -66,6 +68,10 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
     protected boolean usePrefixId;
+
+    protected SecondLevelEntityCache secondLevelEntityCache;
+
+    protected EngineMetrics engineMetrics;
     
     public DbSqlSessionFactory(boolean usePrefixId) {
         this.usePrefixId = usePrefixId;
@@ -96,6 +102,7 @@ public class DbSqlSessionFactory implements SessionFactory {
         if (dbSqlSession.getSqlSession().getConnection() == null) {
             throw new FlowableException("Invalid dbSqlSession: no active connection found");
         }
+        dbSqlSession.setCommandTrace(commandContext.getCommandTrace());
         return dbSqlSession;
     }
 
@@ -346,4 +353,20 @@ public class DbSqlSessionFactory implements SessionFactory {
     public void setUsePrefixId(boolean usePrefixId) {
         this.usePrefixId = usePrefixId;
     }
+
+    public SecondLevelEntityCache getSecondLevelEntityCache() {
+        return secondLevelEntityCache;
+    }
+
+    public void setSecondLevelEntityCache(SecondLevelEntityCache secondLevelEntityCache) {
+        this.secondLevelEntityCache = secondLevelEntityCache;
+    }
+
+    public EngineMetrics getEngineMetrics() {
+        return engineMetrics;
+    }
+
+    public void setEngineMetrics(EngineMetrics engineMetrics) {
+        this.engineMetrics = engineMetrics;
+    }
 }
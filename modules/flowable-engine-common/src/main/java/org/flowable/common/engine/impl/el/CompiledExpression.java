@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.javax.el.ELException;
+import org.flowable.common.engine.impl.tracing.CommandTrace;
+import org.flowable.common.engine.impl.tracing.CommandTraceEntryType;
+
+/**
+ * {@link Expression} that is evaluated through a {@link CompiledExpressionNode} tree, without creating an ELContext.
+ * Whenever the compiled nodes can't produce the same result as JUEL (unknown variable, a bean property, a coercion error, ...),
+ * the evaluation is delegated to the wrapped JUEL expression.
+ * Like the JUEL expression, a compiled evaluation is recorded in the {@link CommandTrace} and unexpected errors are wrapped in a {@link FlowableException}.
+ */
+public class CompiledExpression implements Expression {
+
+    private static final long serialVersionUID = 1L;
+
+    protected CompiledExpressionNode node;
+    protected Expression juelExpression;
+
+    public CompiledExpression(CompiledExpressionNode node, Expression juelExpression) {
+        this.node = node;
+        this.juelExpression = juelExpression;
+    }
+
+    @Override
+    public Object getValue(VariableContainer variableContainer) {
+        CommandTrace commandTrace = getCommandTrace();
+        long startTime = commandTrace != null ? System.nanoTime() : 0L;
+
+        Object value = evaluateCompiled(variableContainer);
+        if (value == CompiledExpressionNode.UNRESOLVED) {
+            // The JUEL expression records its own trace entry
+            return juelExpression.getValue(variableContainer);
+        }
+
+        if (commandTrace != null) {
+            commandTrace.record(CommandTraceEntryType.EXPRESSION, getExpressionText(), startTime);
+        }
+        return value;
+    }
+
+    protected Object evaluateCompiled(VariableContainer variableContainer) {
+        try {
+            return node.eval(variableContainer);
+        } catch (ELException e) {
+            // Let JUEL produce the error, so the exception is the same as without compilation
+            return CompiledExpressionNode.UNRESOLVED;
+        } catch (FlowableException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FlowableException("Error while evaluating expression: " + getExpressionText(), e);
+        }
+    }
+
+    protected CommandTrace getCommandTrace() {
+        CommandContext commandContext = Context.getCommandContext();
+        return commandContext != null ? commandContext.getCommandTrace() : null;
+    }
+
+    @Override
+    public void setValue(Object value, VariableContainer variableContainer) {
+        juelExpression.setValue(value, variableContainer);
+    }
+
+    @Override
+    public String getExpressionText() {
+        return juelExpression.getExpressionText();
+    }
+
+    @Override
+    public String toString() {
+        return juelExpression.toString();
+    }
+
+    public Expression getJuelExpression() {
+        return juelExpression;
+    }
+
+}
@@ -0,0 +1,276 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.BooleanOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
+
+/**
+ * Node of an expression that was compiled by the {@link ExpressionCompiler}. Nodes are evaluated directly
+ * against a {@link VariableContainer}, without an ELContext. When a node can't be evaluated in the same way
+ * as JUEL would do it (e.g. because a variable doesn't exist), it returns {@link #UNRESOLVED}.
+ */
+public abstract class CompiledExpressionNode implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Returned when the node can't be evaluated without the full JUEL resolution.
+     */
+    public static final Object UNRESOLVED = new Object();
+
+    public abstract Object eval(VariableContainer variableContainer);
+
+    public static class Literal extends CompiledExpressionNode {
+
+        private static final long serialVersionUID = 1L;
+
+        protected Object value;
+
+        public Literal(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object eval(VariableContainer variableContainer) {
+            return value;
+        }
+    }
+
+    public static class Variable extends CompiledExpressionNode {
+
+        private static final long serialVersionUID = 1L;
+
+        protected String name;
+
+        public Variable(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Object eval(VariableContainer variableContainer) {
+            // Anything else than a variable (e.g. a bean) is left to the ELResolver chain
+            if (variableContainer != null && variableContainer.hasVariable(name)) {
+                return variableContainer.getVariable(name);
+            }
+            return UNRESOLVED;
+        }
+    }
+
+    public static class MapProperty extends CompiledExpressionNode {
+
+        private static final long serialVersionUID = 1L;
+
+        protected CompiledExpressionNode base;
+        protected String property;
+
+        public MapProperty(CompiledExpressionNode base, String property) {
+            this.base = base;
+            this.property = property;
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Object eval(VariableContainer variableContainer) {
+            Object baseValue = base.eval(variableContainer);
+            if (baseValue == null) {
+                return null;
+            } else if (baseValue instanceof Map) {
+                return ((Map) baseValue).get(property);
+            }
+            // Beans, JSON nodes, ... : left to the ELResolver chain
+            return UNRESOLVED;
+        }
+    }
+
+    public static class Comparison extends CompiledExpressionNode {
+
+        private static final long serialVersionUID = 1L;
+
+        public enum Operator { EQ, NE, LT, LE, GT, GE }
+
+        protected Operator operator;
+        protected CompiledExpressionNode left;
+        protected CompiledExpressionNode right;
+        protected TypeConverter converter;
+
+        public Comparison(Operator operator, CompiledExpressionNode left, CompiledExpressionNode right, TypeConverter converter) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+            this.converter = converter;
+        }
+
+        @Override
+        public Object eval(VariableContainer variableContainer) {
+            Object leftValue = left.eval(variableContainer);
+            if (leftValue == UNRESOLVED) {
+                return UNRESOLVED;
+            }
+            Object rightValue = right.eval(variableContainer);
+            if (rightValue == UNRESOLVED) {
+                return UNRESOLVED;
+            }
+
+            switch (operator) {
+            case EQ:
+                return BooleanOperations.eq(converter, leftValue, rightValue);
+            case NE:
+                return BooleanOperations.ne(converter, leftValue, rightValue);
+            case LT:
+                return BooleanOperations.lt(converter, leftValue, rightValue);
+            case LE:
+                return BooleanOperations.le(converter, leftValue, rightValue);
+            case GT:
+                return BooleanOperations.gt(converter, leftValue, rightValue);
+            default:
+                return BooleanOperations.ge(converter, leftValue, rightValue);
+            }
+        }
+    }
+
+    public static class And extends CompiledExpressionNode {
+
+        private static final long serialVersionUID = 1L;
+
+        protected CompiledExpressionNode left;
+        protected CompiledExpressionNode right;
+        protected TypeConverter converter;
+
+        public And(CompiledExpressionNode left, CompiledExpressionNode right, TypeConverter converter) {
+            this.left = left;
+            this.right = right;
+            this.converter = converter;
+        }
+
+        @Override
+        public Object eval(VariableContainer variableContainer) {
+            Object leftValue = left.eval(variableContainer);
+            if (leftValue == UNRESOLVED) {
+                return UNRESOLVED;
+            }
+
+            if (!Boolean.TRUE.equals(converter.convert(leftValue, Boolean.class))) {
+                return Boolean.FALSE;
+            }
+
+            Object rightValue = right.eval(variableContainer);
+            return rightValue == UNRESOLVED ? UNRESOLVED : converter.convert(rightValue, Boolean.class);
+        }
+    }
+
+    public static class Or extends CompiledExpressionNode {
+
+        private static final long serialVersionUID = 1L;
+
+        protected CompiledExpressionNode left;
+        protected CompiledExpressionNode right;
+        protected TypeConverter converter;
+
+        public Or(CompiledExpressionNode left, CompiledExpressionNode right, TypeConverter converter) {
+            this.left = left;
+            this.right = right;
+            this.converter = converter;
+        }
+
+        @Override
+        public Object eval(VariableContainer variableContainer) {
+            Object leftValue = left.eval(variableContainer);
+            if (leftValue == UNRESOLVED) {
+                return UNRESOLVED;
+            }
+
+            if (Boolean.TRUE.equals(converter.convert(leftValue, Boolean.class))) {
+                return Boolean.TRUE;
+            }
+
+            Object rightValue = right.eval(variableContainer);
+            return rightValue == UNRESOLVED ? UNRESOLVED : converter.convert(rightValue, Boolean.class);
+        }
+    }
+
+    public static class Not extends CompiledExpressionNode {
+
+        private static final long serialVersionUID = 1L;
+
+        protected CompiledExpressionNode child;
+        protected TypeConverter converter;
+
+        public Not(CompiledExpressionNode child, TypeConverter converter) {
+            this.child = child;
+            this.converter = converter;
+        }
+
+        @Override
+        public Object eval(VariableContainer variableContainer) {
+            Object value = child.eval(variableContainer);
+            if (value == UNRESOLVED) {
+                return UNRESOLVED;
+            }
+            return !converter.convert(value, Boolean.class);
+        }
+    }
+
+    public static class Empty extends CompiledExpressionNode {
+
+        private static final long serialVersionUID = 1L;
+
+        protected CompiledExpressionNode child;
+        protected TypeConverter converter;
+
+        public Empty(CompiledExpressionNode child, TypeConverter converter) {
+            this.child = child;
+            this.converter = converter;
+        }
+
+        @Override
+        public Object eval(VariableContainer variableContainer) {
+            Object value = child.eval(variableContainer);
+            if (value == UNRESOLVED) {
+                return UNRESOLVED;
+            }
+            return BooleanOperations.empty(converter, value);
+        }
+    }
+
+    public static class Choice extends CompiledExpressionNode {
+
+        private static final long serialVersionUID = 1L;
+
+        protected CompiledExpressionNode question;
+        protected CompiledExpressionNode yes;
+        protected CompiledExpressionNode no;
+        protected TypeConverter converter;
+
+        public Choice(CompiledExpressionNode question, CompiledExpressionNode yes, CompiledExpressionNode no, TypeConverter converter) {
+            this.question = question;
+            this.yes = yes;
+            this.no = no;
+            this.converter = converter;
+        }
+
+        @Override
+        public Object eval(VariableContainer variableContainer) {
+            Object value = question.eval(variableContainer);
+            if (value == UNRESOLVED) {
+                return UNRESOLVED;
+            }
+            return converter.convert(value, Boolean.class) ? yes.eval(variableContainer) : no.eval(variableContainer);
+        }
+    }
+
+}
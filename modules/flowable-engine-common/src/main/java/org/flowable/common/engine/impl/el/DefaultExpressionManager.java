@@ -20,6 +20,8 @@ import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.delegate.FlowableExpressionEnhancer;
 import org.flowable.common.engine.api.delegate.FlowableFunctionDelegate;
 import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.de.odysseus.el.ExpressionFactoryImpl;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
 import org.flowable.common.engine.impl.javax.el.ArrayELResolver;
 import org.flowable.common.engine.impl.javax.el.BeanELResolver;
 import org.flowable.common.engine.impl.javax.el.CompositeELResolver;
@@ -52,6 +54,15 @@ public class DefaultExpressionManager implements ExpressionManager {
     
     protected DeploymentCache<Expression> expressionCache;
     protected int expressionTextLengthCacheLimit = -1;
+
+    protected boolean expressionCompilationEnabled = true;
+    protected ExpressionCompiler expressionCompiler;
+
+    /**
+     * The part of the {@link ELResolver} chain that doesn't depend on the {@link VariableContainer}.
+     * It is created once and shared by all {@link ELContext}s, which also allows the {@link BeanELResolver} to reuse its introspection cache.
+     */
+    protected volatile ELResolver sharedElResolver;
     
     public DefaultExpressionManager() {
         this(null);
@@ -87,6 +98,11 @@ public class DefaultExpressionManager implements ExpressionManager {
         
         ValueExpression valueExpression = expressionFactory.createValueExpression(parsingElContext, expressionText, Object.class);
         Expression expression = createJuelExpression(text, valueExpression);
+
+        CompiledExpressionNode compiledExpressionNode = compileExpression(expressionText);
+        if (compiledExpressionNode != null) {
+            expression = createCompiledExpression(compiledExpressionNode, expression);
+        }
         
         if (isCacheEnabled(text)) {
             expressionCache.add(text, expression);
@@ -103,9 +119,44 @@ public class DefaultExpressionManager implements ExpressionManager {
         return new JuelExpression(this, valueExpression, expression);
     }
 
+    /**
+     * @return the compiled form of the expression, or null when the expression can only be evaluated by JUEL.
+     */
+    protected CompiledExpressionNode compileExpression(String expressionText) {
+        // The compiled nodes use the default JUEL type conversion, which is only guaranteed with the default factory
+        if (!expressionCompilationEnabled || expressionFactory == null || expressionFactory.getClass() != ExpressionFactoryImpl.class) {
+            return null;
+        }
+
+        if (expressionCompiler == null) {
+            expressionCompiler = new ExpressionCompiler(TypeConverter.DEFAULT, this::isCompilableIdentifier);
+        }
+        return expressionCompiler.compile(expressionText);
+    }
+
+    protected Expression createCompiledExpression(CompiledExpressionNode compiledExpressionNode, Expression juelExpression) {
+        return new CompiledExpression(compiledExpressionNode, juelExpression);
+    }
+
+    /**
+     * Whether a top level identifier in an expression can be compiled to a plain variable lookup.
+     * Subclasses whose variable {@link ELResolver} gives a special meaning to some identifiers must exclude them here.
+     */
+    protected boolean isCompilableIdentifier(String identifier) {
+        return true;
+    }
+
     public void setExpressionFactory(ExpressionFactory expressionFactory) {
         this.expressionFactory = expressionFactory;
     }
+
+    public boolean isExpressionCompilationEnabled() {
+        return expressionCompilationEnabled;
+    }
+
+    public void setExpressionCompilationEnabled(boolean expressionCompilationEnabled) {
+        this.expressionCompilationEnabled = expressionCompilationEnabled;
+    }
     
     @Override
     public ELContext getElContext(VariableContainer variableContainer) {
@@ -114,8 +165,23 @@ public class DefaultExpressionManager implements ExpressionManager {
     }
     
     protected ELResolver createElResolver(VariableContainer variableContainer) {
+        CompositeELResolver compositeELResolver = new CompositeELResolver();
+        compositeELResolver.add(createVariableElResolver(variableContainer));
+        compositeELResolver.add(getSharedElResolver());
+        return compositeELResolver;
+    }
+
+    protected ELResolver getSharedElResolver() {
+        ELResolver elResolver = sharedElResolver;
+        if (elResolver == null) {
+            elResolver = createSharedElResolver();
+            sharedElResolver = elResolver;
+        }
+        return elResolver;
+    }
+
+    protected ELResolver createSharedElResolver() {
         List<ELResolver> elResolvers = new ArrayList<>();
-        elResolvers.add(createVariableElResolver(variableContainer));
         if (beans != null) {
             elResolvers.add(new ReadOnlyMapELResolver(beans));
         }
@@ -158,6 +224,7 @@ public class DefaultExpressionManager implements ExpressionManager {
     @Override
     public void setBeans(Map<Object, Object> beans) {
         this.beans = beans;
+        this.sharedElResolver = null;
     }
 
     @Override
@@ -0,0 +1,159 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import java.util.function.Predicate;
+
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Tree;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeBuilder;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Builder;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBinary;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstBoolean;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstChoice;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstDot;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstEval;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstIdentifier;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNested;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNull;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstNumber;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstString;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstText;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstUnary;
+import org.flowable.common.engine.impl.javax.el.ELException;
+
+/**
+ * Compiles the simple subset of expressions that make up most conditions and assignments into {@link CompiledExpressionNode}s:
+ * variable reads, property paths on maps, literals, comparisons, boolean logic, empty checks and the choice operator.
+ * Expressions using anything else (functions, methods, brackets, arithmetic, ...) are not compiled.
+ */
+public class ExpressionCompiler {
+
+    protected TreeBuilder treeBuilder = new Builder(Builder.Feature.METHOD_INVOCATIONS, Builder.Feature.VARARGS);
+    protected TypeConverter typeConverter;
+    protected Predicate<String> compilableIdentifier;
+
+    /**
+     * @param typeConverter
+     *            the converter used for comparisons and boolean coercion, must be the same one used by the JUEL expression factory.
+     * @param compilableIdentifier
+     *            tests whether an identifier can be resolved as a plain variable read.
+     *            Identifiers with a special meaning for the ELResolver chain (e.g. 'execution') must be rejected.
+     */
+    public ExpressionCompiler(TypeConverter typeConverter, Predicate<String> compilableIdentifier) {
+        this.typeConverter = typeConverter;
+        this.compilableIdentifier = compilableIdentifier;
+    }
+
+    /**
+     * @return the compiled expression, or null if the expression is not part of the supported subset.
+     */
+    public CompiledExpressionNode compile(String expressionText) {
+        Tree tree;
+        try {
+            tree = treeBuilder.build(expressionText);
+        } catch (ELException e) {
+            return null;
+        }
+
+        if (tree.getFunctionNodes().iterator().hasNext() || !(tree.getRoot() instanceof AstNode)) {
+            return null;
+        }
+        return compileNode((AstNode) tree.getRoot());
+    }
+
+    protected CompiledExpressionNode compileNode(AstNode node) {
+        if (node instanceof AstEval || node instanceof AstNested) {
+            return compileNode(node.getChild(0));
+
+        } else if (node instanceof AstText || node instanceof AstString || node instanceof AstNumber
+                || node instanceof AstBoolean || node instanceof AstNull) {
+            // Literals don't use the bindings nor the context
+            return new CompiledExpressionNode.Literal(node.eval(null, null));
+
+        } else if (node instanceof AstIdentifier) {
+            String name = ((AstIdentifier) node).getName();
+            return compilableIdentifier.test(name) ? new CompiledExpressionNode.Variable(name) : null;
+
+        } else if (node instanceof AstDot) {
+            CompiledExpressionNode base = compileNode(node.getChild(0));
+            return base != null ? new CompiledExpressionNode.MapProperty(base, ((AstDot) node).getPropertyName()) : null;
+
+        } else if (node instanceof AstBinary) {
+            return compileBinary((AstBinary) node);
+
+        } else if (node instanceof AstUnary) {
+            return compileUnary((AstUnary) node);
+
+        } else if (node instanceof AstChoice) {
+            CompiledExpressionNode question = compileNode(node.getChild(0));
+            CompiledExpressionNode yes = compileNode(node.getChild(1));
+            CompiledExpressionNode no = compileNode(node.getChild(2));
+            if (question == null || yes == null || no == null) {
+                return null;
+            }
+            return new CompiledExpressionNode.Choice(question, yes, no, typeConverter);
+        }
+
+        return null;
+    }
+
+    protected CompiledExpressionNode compileBinary(AstBinary node) {
+        AstBinary.Operator operator = node.getOperator();
+        CompiledExpressionNode.Comparison.Operator comparisonOperator = null;
+        if (operator == AstBinary.EQ) {
+            comparisonOperator = CompiledExpressionNode.Comparison.Operator.EQ;
+        } else if (operator == AstBinary.NE) {
+            comparisonOperator = CompiledExpressionNode.Comparison.Operator.NE;
+        } else if (operator == AstBinary.LT) {
+            comparisonOperator = CompiledExpressionNode.Comparison.Operator.LT;
+        } else if (operator == AstBinary.LE) {
+            comparisonOperator = CompiledExpressionNode.Comparison.Operator.LE;
+        } else if (operator == AstBinary.GT) {
+            comparisonOperator = CompiledExpressionNode.Comparison.Operator.GT;
+        } else if (operator == AstBinary.GE) {
+            comparisonOperator = CompiledExpressionNode.Comparison.Operator.GE;
+        } else if (operator != AstBinary.AND && operator != AstBinary.OR) {
+            return null;
+        }
+
+        CompiledExpressionNode left = compileNode(node.getChild(0));
+        CompiledExpressionNode right = compileNode(node.getChild(1));
+        if (left == null || right == null) {
+            return null;
+        }
+
+        if (operator == AstBinary.AND) {
+            return new CompiledExpressionNode.And(left, right, typeConverter);
+        } else if (operator == AstBinary.OR) {
+            return new CompiledExpressionNode.Or(left, right, typeConverter);
+        }
+        return new CompiledExpressionNode.Comparison(comparisonOperator, left, right, typeConverter);
+    }
+
+    protected CompiledExpressionNode compileUnary(AstUnary node) {
+        CompiledExpressionNode child = compileNode(node.getChild(0));
+        if (child == null) {
+            return null;
+        }
+
+        if (node.getOperator() == AstUnary.NOT) {
+            return new CompiledExpressionNode.Not(child, typeConverter);
+        } else if (node.getOperator() == AstUnary.EMPTY) {
+            return new CompiledExpressionNode.Empty(child, typeConverter);
+        }
+        return null;
+    }
+
+}
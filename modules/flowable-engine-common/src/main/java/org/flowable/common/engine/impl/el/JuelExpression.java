@@ -16,10 +16,14 @@ package org.flowable.common.engine.impl.el;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.javax.el.ELContext;
 import org.flowable.common.engine.impl.javax.el.MethodNotFoundException;
 import org.flowable.common.engine.impl.javax.el.PropertyNotFoundException;
 import org.flowable.common.engine.impl.javax.el.ValueExpression;
+import org.flowable.common.engine.impl.tracing.CommandTrace;
+import org.flowable.common.engine.impl.tracing.CommandTraceEntryType;
 
 /**
  * Expression implementation backed by a JUEL {@link ValueExpression}.
@@ -43,6 +47,20 @@ public class JuelExpression implements Expression {
     
     @Override
     public Object getValue(VariableContainer variableContainer) {
+        CommandTrace commandTrace = getCommandTrace();
+        if (commandTrace == null) {
+            return doGetValue(variableContainer);
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            return doGetValue(variableContainer);
+        } finally {
+            commandTrace.record(CommandTraceEntryType.EXPRESSION, expressionText, startTime);
+        }
+    }
+
+    protected Object doGetValue(VariableContainer variableContainer) {
         ELContext elContext = expressionManager.getElContext(variableContainer);
         try {
             return resolveGetValueExpression(elContext);
@@ -63,14 +81,25 @@ public class JuelExpression implements Expression {
 
     @Override
     public void setValue(Object value, VariableContainer variableContainer) {
+        CommandTrace commandTrace = getCommandTrace();
+        long startTime = commandTrace != null ? System.nanoTime() : 0L;
         ELContext elContext = expressionManager.getElContext(variableContainer);
         try {
             resolveSetValueExpression(value, elContext);
         } catch (Exception e) {
             throw new FlowableException("Error while evaluating expression: " + expressionText, e);
+        } finally {
+            if (commandTrace != null) {
+                commandTrace.record(CommandTraceEntryType.EXPRESSION, expressionText, startTime);
+            }
         }
     }
 
+    protected CommandTrace getCommandTrace() {
+        CommandContext commandContext = Context.getCommandContext();
+        return commandContext != null ? commandContext.getCommandTrace() : null;
+    }
+
     protected void resolveSetValueExpression(Object value, ELContext elContext) {
         valueExpression.setValue(elContext, value);
     }
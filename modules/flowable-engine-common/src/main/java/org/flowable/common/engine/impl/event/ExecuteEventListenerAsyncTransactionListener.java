@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hands the event over to the given executor once the transaction has been committed.
+ * When the executor doesn't accept new work (e.g. its queue is full), the listener is called on the committing thread instead.
+ */
+public class ExecuteEventListenerAsyncTransactionListener implements TransactionListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteEventListenerAsyncTransactionListener.class);
+
+    protected FlowableEventListener listener;
+    protected FlowableEvent flowableEvent;
+    protected ExecutorService executorService;
+
+    public ExecuteEventListenerAsyncTransactionListener(FlowableEventListener listener, FlowableEvent flowableEvent, ExecutorService executorService) {
+        this.listener = listener;
+        this.flowableEvent = flowableEvent;
+        this.executorService = executorService;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        try {
+            executorService.execute(this::notifyListener);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Async event listener executor rejected event {}, notifying listener on the current thread", flowableEvent.getType());
+            notifyListener();
+        }
+    }
+
+    protected void notifyListener() {
+        try {
+            listener.onEvent(flowableEvent);
+        } catch (Throwable t) {
+            // The transaction is already committed, so there is nothing to fail anymore
+            LOGGER.warn("Exception while executing event-listener asynchronously, which was ignored", t);
+        }
+    }
+}
@@ -76,6 +76,11 @@ public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
         }
     }
 
+    @Override
+    public boolean hasListeners(FlowableEventType type) {
+        return enabled && eventSupport.hasListeners(type);
+    }
+
     public FlowableEventSupport getEventSupport() {
         return eventSupport;
     }
@@ -12,12 +12,17 @@
  */
 package org.flowable.common.engine.impl.event;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.FlowableAsyncEventListener;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.common.engine.api.delegate.event.FlowableEventType;
@@ -30,15 +35,29 @@ import org.slf4j.LoggerFactory;
 /**
  * Class that allows adding and removing event listeners and dispatching events to the appropriate listeners.
  * 
+ * For every event type, the listeners that need to be notified (global ones first, then the typed ones) are calculated once and kept
+ * in an array until a listener is added or removed, so dispatching doesn't need to look at listeners that are not interested in the event.
+ * 
  * @author Frederik Heremans
  */
 public class FlowableEventSupport {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FlowableEventSupport.class);
 
+    protected static final FlowableEventListener[] NO_LISTENERS = new FlowableEventListener[0];
+
     protected List<FlowableEventListener> eventListeners;
     protected Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
 
+    protected ConcurrentMap<FlowableEventType, FlowableEventListener[]> listenersByType = new ConcurrentHashMap<>();
+
+    /**
+     * When set, {@link FlowableAsyncEventListener}s that are neither transactional nor fail on exception are notified after the transaction
+     * has been committed, using this executor. This keeps slow listeners out of the transaction of the command. All other listeners,
+     * including the ones of the engine itself, are always notified within the transaction.
+     */
+    protected ExecutorService asyncListenerExecutor;
+
     public FlowableEventSupport() {
         eventListeners = new CopyOnWriteArrayList<>();
         typedListeners = new HashMap<>();
@@ -50,6 +69,7 @@ public class FlowableEventSupport {
         }
         if (!eventListeners.contains(listenerToAdd)) {
             eventListeners.add(listenerToAdd);
+            listenersByType.clear();
         }
     }
 
@@ -68,12 +88,21 @@ public class FlowableEventSupport {
         }
     }
 
-    public void removeEventListener(FlowableEventListener listenerToRemove) {
+    public synchronized void removeEventListener(FlowableEventListener listenerToRemove) {
         eventListeners.remove(listenerToRemove);
 
         for (List<FlowableEventListener> listeners : typedListeners.values()) {
             listeners.remove(listenerToRemove);
         }
+
+        listenersByType.clear();
+    }
+
+    /**
+     * @return whether there is at least one listener that would be notified of an event of the given type.
+     */
+    public boolean hasListeners(FlowableEventType type) {
+        return getListeners(type).length > 0;
     }
 
     public void dispatchEvent(FlowableEvent event) {
@@ -85,25 +114,40 @@ public class FlowableEventSupport {
             throw new FlowableIllegalArgumentException("Event type cannot be null.");
         }
 
-        // Call global listeners
-        if (!eventListeners.isEmpty()) {
-            for (FlowableEventListener listener : eventListeners) {
-                dispatchEvent(event, listener);
-            }
+        for (FlowableEventListener listener : getListeners(event.getType())) {
+            dispatchEvent(event, listener);
         }
+    }
 
-        // Call typed listeners, if any
-        List<FlowableEventListener> typed = typedListeners.get(event.getType());
-        if (typed != null && !typed.isEmpty()) {
-            for (FlowableEventListener listener : typed) {
-                dispatchEvent(event, listener);
+    protected FlowableEventListener[] getListeners(FlowableEventType type) {
+        FlowableEventListener[] listeners = listenersByType.get(type);
+        if (listeners == null) {
+            listeners = calculateListeners(type);
+        }
+        return listeners;
+    }
+
+    protected synchronized FlowableEventListener[] calculateListeners(FlowableEventType type) {
+        // Calculated while holding the lock, so a concurrent add or remove can't be overwritten by a stale array
+        FlowableEventListener[] listeners = listenersByType.get(type);
+        if (listeners == null) {
+            List<FlowableEventListener> interestedListeners = new ArrayList<>(eventListeners);
+            List<FlowableEventListener> typed = typedListeners.get(type);
+            if (typed != null) {
+                interestedListeners.addAll(typed);
             }
+
+            listeners = interestedListeners.isEmpty() ? NO_LISTENERS : interestedListeners.toArray(new FlowableEventListener[interestedListeners.size()]);
+            listenersByType.put(type, listeners);
         }
+        return listeners;
     }
 
     protected void dispatchEvent(FlowableEvent event, FlowableEventListener listener) {
         if (listener.isFireOnTransactionLifecycleEvent()) {
             dispatchTransactionEventListener(event, listener);
+        } else if (asyncListenerExecutor != null && listener instanceof FlowableAsyncEventListener && !listener.isFailOnException()) {
+            dispatchAsyncEventListener(event, listener);
         } else {
             dispatchNormalEventListener(event, listener);
         }
@@ -147,6 +191,16 @@ public class FlowableEventSupport {
         }
     }
 
+    protected void dispatchAsyncEventListener(FlowableEvent event, FlowableEventListener listener) {
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext == null) {
+            dispatchNormalEventListener(event, listener);
+            return;
+        }
+
+        transactionContext.addTransactionListener(TransactionState.COMMITTED, new ExecuteEventListenerAsyncTransactionListener(listener, event, asyncListenerExecutor));
+    }
+
     protected synchronized void addTypedEventListener(FlowableEventListener listener, FlowableEventType type) {
         List<FlowableEventListener> listeners = typedListeners.get(type);
         if (listeners == null) {
@@ -157,6 +211,15 @@ public class FlowableEventSupport {
 
         if (!listeners.contains(listener)) {
             listeners.add(listener);
+            listenersByType.remove(type);
         }
     }
+
+    public ExecutorService getAsyncListenerExecutor() {
+        return asyncListenerExecutor;
+    }
+
+    public void setAsyncListenerExecutor(ExecutorService asyncListenerExecutor) {
+        this.asyncListenerExecutor = asyncListenerExecutor;
+    }
 }
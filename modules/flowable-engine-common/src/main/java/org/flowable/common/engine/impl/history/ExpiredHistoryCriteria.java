@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The criteria to select instances of which the history has expired, used as query parameter.
+ *
+ * An instance of a definition with a specific time to live has expired when it ended before the cut-off date of its definition key.
+ * An instance of any other definition has expired when it ended before the default cut-off date.
+ * When the default time to live is negative, only instances of definitions with a specific time to live expire.
+ */
+public class ExpiredHistoryCriteria {
+
+    protected Date defaultEndedBefore;
+    protected List<DefinitionTimeToLive> definitionTimeToLives = new ArrayList<>();
+    protected Set<String> definitionKeys;
+
+    public ExpiredHistoryCriteria(Date now, int defaultTimeToLiveInDays, Map<String, Integer> timeToLiveByDefinitionKey) {
+        if (defaultTimeToLiveInDays >= 0) {
+            this.defaultEndedBefore = subtractDays(now, defaultTimeToLiveInDays);
+        }
+
+        for (Map.Entry<String, Integer> timeToLive : timeToLiveByDefinitionKey.entrySet()) {
+            definitionTimeToLives.add(new DefinitionTimeToLive(timeToLive.getKey(), subtractDays(now, timeToLive.getValue())));
+        }
+        this.definitionKeys = timeToLiveByDefinitionKey.keySet();
+    }
+
+    protected static Date subtractDays(Date date, int days) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        calendar.add(Calendar.DAY_OF_YEAR, -days);
+        return calendar.getTime();
+    }
+
+    public Date getDefaultEndedBefore() {
+        return defaultEndedBefore;
+    }
+
+    public List<DefinitionTimeToLive> getDefinitionTimeToLives() {
+        return definitionTimeToLives;
+    }
+
+    public Set<String> getDefinitionKeys() {
+        return definitionKeys;
+    }
+
+    public static class DefinitionTimeToLive {
+
+        protected String definitionKey;
+        protected Date endedBefore;
+
+        public DefinitionTimeToLive(String definitionKey, Date endedBefore) {
+            this.definitionKey = definitionKey;
+            this.endedBefore = endedBefore;
+        }
+
+        public String getDefinitionKey() {
+            return definitionKey;
+        }
+
+        public Date getEndedBefore() {
+            return endedBefore;
+        }
+    }
+
+}
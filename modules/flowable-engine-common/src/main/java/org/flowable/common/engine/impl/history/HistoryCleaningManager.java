@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history;
+
+/**
+ * Deletes the history of instances that ended longer ago than the time to live of their definition.
+ *
+ * A call handles a bounded chunk of expired root instances and deletes all their dependent history data (sub instances,
+ * activities, tasks, variables, ...) with set-based statements. This way the cleanup of a large backlog is spread over
+ * many short transactions.
+ */
+public interface HistoryCleaningManager {
+
+    /**
+     * @return the scope type of the history that is cleaned by this manager, e.g. bpmn, cmmn or dmn.
+     */
+    String getScopeType();
+
+    /**
+     * Deletes the history of at most the given number of expired root instances.
+     *
+     * @return the number of root instances of which the history was deleted.
+     *         When this is less than the batch size, no expired instances are left.
+     */
+    int deleteExpiredHistory(int batchSize);
+
+}
@@ -0,0 +1,151 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.interceptor;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.Query;
+import org.flowable.common.engine.impl.AbstractQuery;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Non-blocking facade over a {@link CommandExecutor}: commands and service calls are executed on a dedicated, bounded thread pool
+ * and the result is returned as a {@link CompletableFuture}. This allows callers that must not block (e.g. reactive web layers)
+ * to use the engine services without offloading every call themselves.
+ * 
+ * Every command is still executed by the regular command executor, so it runs in its own transaction on the pool thread,
+ * exactly as it would when called synchronously. It should therefore not be used from within a running command.
+ * 
+ * When all threads are busy and the queue is full, the returned future is completed exceptionally instead of blocking the caller,
+ * which gives the caller a backpressure signal.
+ */
+public class AsyncCommandExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncCommandExecutor.class);
+
+    protected CommandExecutor commandExecutor;
+    protected ExecutorService executorService;
+
+    public AsyncCommandExecutor(CommandExecutor commandExecutor, ExecutorService executorService) {
+        this.commandExecutor = commandExecutor;
+        this.executorService = executorService;
+    }
+
+    public AsyncCommandExecutor(CommandExecutor commandExecutor, int poolSize, int queueSize, String threadPoolNamingPattern) {
+        this(commandExecutor, new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+                new BasicThreadFactory.Builder().namingPattern(threadPoolNamingPattern).build()));
+    }
+
+    /**
+     * Executes the command with the default {@link CommandConfig} on the command execution pool.
+     */
+    public <T> CompletableFuture<T> execute(Command<T> command) {
+        return supply(() -> commandExecutor.execute(command));
+    }
+
+    /**
+     * Executes the command with the given {@link CommandConfig} on the command execution pool.
+     */
+    public <T> CompletableFuture<T> execute(CommandConfig config, Command<T> command) {
+        return supply(() -> commandExecutor.execute(config, command));
+    }
+
+    /**
+     * Executes the given call on the command execution pool. Typically used to call a service method,
+     * e.g. <code>supply(() -&gt; runtimeService.startProcessInstanceByKey("myProcess"))</code>.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, executorService);
+
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(new FlowableException("Could not execute command: the command execution queue is full", e));
+            return future;
+        }
+    }
+
+    /**
+     * Streams the results of the query to the consumer, fetching at most <code>pageSize</code> results at a time,
+     * so that the complete result is never materialized in memory. Each page is fetched in its own transaction.
+     * The consumer is called on the command execution pool, and the returned future completes with the number of results
+     * once all of them have been consumed.
+     * 
+     * The pages are fetched on the id of the results (keyset paging) rather than with an offset, so every page is an index range scan
+     * and results inserted or deleted while streaming don't shift the pages. As a consequence, the results are always streamed
+     * in id order: any ordering set on the query is replaced. Only queries that support keyset paging can be streamed
+     * (see {@link AbstractQuery#isKeysetPagingSupported()}).
+     */
+    public <U> CompletableFuture<Long> forEach(Query<?, U> query, int pageSize, Consumer<? super U> consumer) {
+        if (pageSize <= 0) {
+            throw new FlowableIllegalArgumentException("Page size must be larger than 0");
+        }
+        if (!(query instanceof AbstractQuery) || !((AbstractQuery<?, ?>) query).isKeysetPagingSupported()) {
+            throw new FlowableIllegalArgumentException("Query " + query.getClass().getName() + " does not support keyset paging");
+        }
+
+        AbstractQuery<?, U> keysetQuery = (AbstractQuery<?, U>) query;
+        keysetQuery.setOrderByColumns("RES.ID_ asc");
+
+        return supply(() -> {
+            long count = 0;
+            List<U> page;
+            do {
+                page = keysetQuery.listPage(0, pageSize);
+                for (U result : page) {
+                    consumer.accept(result);
+                }
+                count += page.size();
+                if (!page.isEmpty()) {
+                    keysetQuery.setAfterId(((Entity) page.get(page.size() - 1)).getId());
+                }
+            } while (page.size() == pageSize);
+
+            return count;
+        });
+    }
+
+    public void shutdown() {
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(60L, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timeout during shutdown of async command executor. The current running commands could not end within 60 seconds after shutdown operation.");
+            }
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while shutting down the async command executor.", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public CommandExecutor getCommandExecutor() {
+        return commandExecutor;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+}
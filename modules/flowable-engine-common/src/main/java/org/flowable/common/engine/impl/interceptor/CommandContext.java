@@ -21,6 +21,7 @@ import java.util.Map;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.tracing.CommandTrace;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +44,7 @@ public class CommandContext {
     protected Map<String, Object> attributes; // General-purpose storing of anything during the lifetime of a command context
     protected boolean reused;
     protected LinkedList<Object> resultStack = new LinkedList<>(); // needs to be a stack, as JavaDelegates can do api calls again
+    protected CommandTrace commandTrace; // only set when command tracing is enabled
 
     public CommandContext(Command<?> command) {
         this.command = command;
@@ -302,6 +304,14 @@ public class CommandContext {
     public void setReused(boolean reused) {
         this.reused = reused;
     }
+
+    public CommandTrace getCommandTrace() {
+        return commandTrace;
+    }
+
+    public void setCommandTrace(CommandTrace commandTrace) {
+        this.commandTrace = commandTrace;
+    }
     
     public Object getResult() {
         return resultStack.pollLast();
@@ -20,6 +20,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.tracing.CommandTracer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +36,7 @@ public class CommandContextInterceptor extends AbstractCommandInterceptor {
     protected String currentEngineConfigurationKey;
     protected Map<String, AbstractEngineConfiguration> engineConfigurations = new HashMap<>();
     protected Map<String, AbstractServiceConfiguration> serviceConfigurations = new HashMap<>();
+    protected CommandTracer commandTracer;
 
     public CommandContextInterceptor() {
     }
@@ -55,6 +57,9 @@ public class CommandContextInterceptor extends AbstractCommandInterceptor {
         if (!config.isContextReusePossible() || commandContext == null || commandContext.getException() != null) {
             commandContext = commandContextFactory.createCommandContext(command);
             commandContext.setEngineConfigurations(engineConfigurations);
+            if (commandTracer != null) {
+                commandContext.setCommandTrace(commandTracer.getCurrentTrace());
+            }
             
         } else {
             LOGGER.debug("Valid context found. Reusing it for the current command '{}'", command.getClass().getCanonicalName());
@@ -140,5 +145,13 @@ public class CommandContextInterceptor extends AbstractCommandInterceptor {
     public void setServiceConfigurations(Map<String, AbstractServiceConfiguration> serviceConfigurations) {
         this.serviceConfigurations = serviceConfigurations;
     }
+
+    public CommandTracer getCommandTracer() {
+        return commandTracer;
+    }
+
+    public void setCommandTracer(CommandTracer commandTracer) {
+        this.commandTracer = commandTracer;
+    }
     
 }
@@ -0,0 +1,77 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+import java.util.function.Supplier;
+
+/**
+ * SPI through which the engines report performance telemetry (command latency, agenda operations, flushes, entity cache
+ * lookups, job acquisition and execution, ...). Implementations bind these to a metrics library and must be thread-safe
+ * and cheap, as most methods are called on the hot path of every command.
+ *
+ * Metrics are only reported when an implementation is set on the engine configuration.
+ */
+public interface EngineMetrics {
+
+    /**
+     * Called when a {@link org.flowable.common.engine.impl.interceptor.Command} has finished (successfully or not).
+     */
+    void recordCommandExecution(Class<?> commandClass, long durationInNanos, boolean failed);
+
+    /**
+     * Called when an operation is planned on the agenda, the operation type being the simple class name of the operation.
+     */
+    void recordAgendaOperation(String operationType);
+
+    /**
+     * Called when a {@link org.flowable.common.engine.impl.db.DbSqlSession} has been flushed.
+     * The entity counts are the number of entities inserted, updated and deleted, the statement count the number of sql statements executed.
+     */
+    void recordFlush(int insertedEntities, int updatedEntities, int deletedEntities, int statements, long durationInNanos);
+
+    /**
+     * Called when an entity is looked up by id in the entity cache of the current command.
+     */
+    void recordEntityCacheLookup(Class<?> entityClass, boolean hit);
+
+    /**
+     * Called when a {@link org.flowable.common.engine.api.FlowableOptimisticLockingException} is thrown for an entity during a flush.
+     */
+    void recordOptimisticLockingFailure(Class<?> entityClass);
+
+    /**
+     * Called after an acquisition cycle of a job acquisition thread, with the name of that thread.
+     */
+    void recordJobAcquisition(String acquisitionName, int acquiredJobs);
+
+    /**
+     * Called when the async executor has executed a job, tagged with the handler type of the job.
+     */
+    void recordJobExecution(String jobHandlerType, long durationInNanos, boolean failed);
+
+    /**
+     * Called when an async history job is executed, with the time between the creation of the history job and its execution.
+     */
+    void recordAsyncHistoryLag(long lagInMillis);
+
+    /**
+     * Called when a chunk of the history cleanup has been executed, with the number of root instances of which the history was deleted.
+     */
+    void recordHistoryCleanup(String scopeType, int deletedInstances, long durationInNanos);
+
+    /**
+     * Registers the number of jobs queued in an async executor (waiting for a thread), which is sampled by the metrics implementation.
+     */
+    void registerJobQueueSize(String executorName, Supplier<Number> queueSizeSupplier);
+
+}
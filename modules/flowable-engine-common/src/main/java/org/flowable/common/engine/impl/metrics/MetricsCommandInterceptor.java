@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.metrics;
+
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+
+/**
+ * Reports the latency of every command to the {@link EngineMetrics}, per command class.
+ */
+public class MetricsCommandInterceptor extends AbstractCommandInterceptor {
+
+    protected EngineMetrics engineMetrics;
+
+    public MetricsCommandInterceptor(EngineMetrics engineMetrics) {
+        this.engineMetrics = engineMetrics;
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command) {
+        long startTime = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = next.execute(config, command);
+            failed = false;
+            return result;
+
+        } finally {
+            engineMetrics.recordCommandExecution(command.getClass(), System.nanoTime() - startTime, failed);
+        }
+    }
+
+    public EngineMetrics getEngineMetrics() {
+        return engineMetrics;
+    }
+
+}
@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * Engine wide cache of entities that are read much more often than they are written, e.g. deployments or process definitions.
+ * Contrary to the {@link EntityCache}, which lives as long as one command, it is shared by all commands of the engine.
+ * <p>
+ * Only the entity types for which a {@link SecondLevelEntityCachePolicy} is configured are cached. Lookups by id and the cacheable
+ * queries of the policy are served from the cache, changes done through the {@link org.flowable.common.engine.impl.db.DbSqlSession}
+ * invalidate the changed entities locally, and after commit on the other nodes of a cluster through the
+ * {@link SecondLevelEntityCacheInvalidationChannel}.
+ */
+public class SecondLevelEntityCache {
+
+    protected Map<Class<?>, SecondLevelEntityCacheRegion> regions = new HashMap<>();
+    protected Map<String, SecondLevelEntityCacheRegion> regionsByClassName = new HashMap<>();
+    protected Map<String, SecondLevelEntityCacheRegion> regionsByQuery = new HashMap<>();
+    protected SecondLevelEntityCacheInvalidationChannel invalidationChannel;
+
+    public SecondLevelEntityCache(Map<Class<? extends Entity>, SecondLevelEntityCachePolicy> policies, SecondLevelEntityCacheInvalidationChannel invalidationChannel) {
+        for (Map.Entry<Class<? extends Entity>, SecondLevelEntityCachePolicy> policy : policies.entrySet()) {
+            SecondLevelEntityCacheRegion region = new SecondLevelEntityCacheRegion(policy.getKey(), policy.getValue());
+            regions.put(policy.getKey(), region);
+            regionsByClassName.put(policy.getKey().getName(), region);
+            for (String statement : policy.getValue().getCacheableQueries()) {
+                regionsByQuery.put(statement, region);
+            }
+        }
+
+        this.invalidationChannel = invalidationChannel;
+        if (invalidationChannel != null) {
+            invalidationChannel.connect(this);
+        }
+    }
+
+    /**
+     * @return the region of the given entity type, or null if the type isn't cacheable
+     */
+    public SecondLevelEntityCacheRegion getRegion(Class<?> entityClass) {
+        return regions.get(entityClass);
+    }
+
+    /**
+     * @return the region caching the results of the given select statement, or null if the statement isn't cacheable
+     */
+    public SecondLevelEntityCacheRegion getQueryRegion(String statement) {
+        return regionsByQuery.get(statement);
+    }
+
+    public Collection<SecondLevelEntityCacheRegion> getRegions() {
+        return regions.values();
+    }
+
+    /**
+     * Invalidates the given entity (or all entities of the type if the id is null) in this cache and publishes the invalidation to the other nodes.
+     */
+    public void invalidate(Class<?> entityClass, String entityId) {
+        SecondLevelEntityCacheRegion region = regions.get(entityClass);
+        if (region != null) {
+            region.invalidate(entityId);
+            if (invalidationChannel != null) {
+                invalidationChannel.publishInvalidation(entityClass.getName(), entityId);
+            }
+        }
+    }
+
+    public void applyRemoteInvalidation(String entityClassName, String entityId) {
+        SecondLevelEntityCacheRegion region = regionsByClassName.get(entityClassName);
+        if (region != null) {
+            region.invalidate(entityId);
+        }
+    }
+
+    public void clear() {
+        for (SecondLevelEntityCacheRegion region : regions.values()) {
+            region.invalidate(null);
+        }
+    }
+
+    /**
+     * @return the statistics per cached entity type, keyed by the entity class name
+     */
+    public Map<String, SecondLevelEntityCacheStatistics> getStatistics() {
+        Map<String, SecondLevelEntityCacheStatistics> statistics = new LinkedHashMap<>();
+        for (SecondLevelEntityCacheRegion region : regions.values()) {
+            statistics.put(region.getEntityClass().getName(), region.getStatistics());
+        }
+        return statistics;
+    }
+
+    public SecondLevelEntityCacheInvalidationChannel getInvalidationChannel() {
+        return invalidationChannel;
+    }
+
+}
@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+/**
+ * Propagates the invalidations of a {@link SecondLevelEntityCache} to the other engines of a cluster,
+ * e.g. over a message broker or database notifications.
+ */
+public interface SecondLevelEntityCacheInvalidationChannel {
+
+    /**
+     * Called once when the cache is created. Invalidations received from other nodes must be passed to
+     * {@link SecondLevelEntityCache#applyRemoteInvalidation(String, String)}.
+     */
+    void connect(SecondLevelEntityCache secondLevelEntityCache);
+
+    /**
+     * Called after a transaction that changed cached entities has committed.
+     * 
+     * @param entityClassName
+     *            the name of the entity implementation class
+     * @param entityId
+     *            the id of the changed entity, or null when all cached entities of the type must be dropped
+     */
+    void publishInvalidation(String entityClassName, String entityId);
+
+}
@@ -0,0 +1,69 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Describes how the entities of one type are kept in the {@link SecondLevelEntityCache}.
+ */
+public class SecondLevelEntityCachePolicy {
+
+    protected int maxSize = 1000;
+
+    /**
+     * The time in milliseconds after which a cached entity is reloaded from the database, or 0 to keep entities until they are evicted or invalidated.
+     * Mostly useful when the entities can be changed by other nodes of a cluster and no invalidation channel is configured.
+     */
+    protected long timeToLive;
+
+    /**
+     * Names of select statements returning a single entity of this type, whose results (the entity ids) are cached as well.
+     * Only statements with a {@link String} or {@link java.util.Map} parameter can be cached.
+     */
+    protected Set<String> cacheableQueries = new HashSet<>();
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public SecondLevelEntityCachePolicy setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public SecondLevelEntityCachePolicy setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+        return this;
+    }
+
+    public Set<String> getCacheableQueries() {
+        return cacheableQueries;
+    }
+
+    public SecondLevelEntityCachePolicy setCacheableQueries(Set<String> cacheableQueries) {
+        this.cacheableQueries = cacheableQueries;
+        return this;
+    }
+
+    public SecondLevelEntityCachePolicy addCacheableQuery(String statement) {
+        this.cacheableQueries.add(statement);
+        return this;
+    }
+
+}
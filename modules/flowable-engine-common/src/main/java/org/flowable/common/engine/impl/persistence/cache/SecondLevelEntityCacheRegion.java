@@ -0,0 +1,247 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The cached entities of one type.
+ * <p>
+ * Entities are stored as serialized snapshots of their database state: every lookup returns a new instance,
+ * so an entity changed by one command is never seen by another one. Each invalidation increments the version of the region,
+ * which makes sure that entities loaded before the invalidation are not put in the cache afterwards.
+ */
+public class SecondLevelEntityCacheRegion {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SecondLevelEntityCacheRegion.class);
+
+    protected final Class<? extends Entity> entityClass;
+    protected final SecondLevelEntityCachePolicy policy;
+    protected final SecondLevelEntityCacheStatistics statistics = new SecondLevelEntityCacheStatistics();
+    protected final AtomicLong version = new AtomicLong();
+
+    protected final Map<String, CachedEntityState> entities;
+    protected final Map<Object, CachedEntityState> queryResults;
+
+    public SecondLevelEntityCacheRegion(Class<? extends Entity> entityClass, SecondLevelEntityCachePolicy policy) {
+        this.entityClass = entityClass;
+        this.policy = policy;
+        this.entities = createLruMap(policy.getMaxSize());
+        this.queryResults = createLruMap(policy.getMaxSize());
+    }
+
+    protected <K> Map<K, CachedEntityState> createLruMap(int limit) {
+        return Collections.synchronizedMap(new LinkedHashMap<K, CachedEntityState>(limit + 1, 0.75f, true) { // +1 is needed, because the entry is inserted first, before it is removed
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedEntityState> eldest) {
+                return size() > limit;
+            }
+        });
+    }
+
+    public Entity get(String id) {
+        CachedEntityState state = getValid(entities, id);
+        Entity entity = state != null ? state.restore(entityClass) : null;
+        if (entity != null) {
+            statistics.incrementHitCount();
+        } else {
+            statistics.incrementMissCount();
+        }
+        return entity;
+    }
+
+    public String getQueryResult(String statement, Object parameter) {
+        CachedEntityState state = getValid(queryResults, createQueryKey(statement, parameter));
+        if (state != null) {
+            statistics.incrementHitCount();
+            return state.getId();
+        }
+        statistics.incrementMissCount();
+        return null;
+    }
+
+    protected CachedEntityState getValid(Map<?, CachedEntityState> states, Object key) {
+        CachedEntityState state = states.get(key);
+        if (state != null && policy.getTimeToLive() > 0 && System.currentTimeMillis() - state.getCreateTime() > policy.getTimeToLive()) {
+            states.remove(key);
+            return null;
+        }
+        return state;
+    }
+
+    /**
+     * @return the snapshot of the current state of the entity, or null if the entity can't be cached
+     */
+    public CachedEntityState createState(Entity entity) {
+        if (!(entity instanceof Serializable)) {
+            return null;
+        }
+
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream(); ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(entity);
+            out.flush();
+            return new CachedEntityState(entity.getId(), entity instanceof HasRevision ? ((HasRevision) entity).getRevision() : 0, bytes.toByteArray());
+        } catch (IOException e) {
+            LOGGER.debug("Could not serialize {} for the second level cache", entity, e);
+            return null;
+        }
+    }
+
+    public CachedEntityState createQueryResultState(String id) {
+        return new CachedEntityState(id, 0, null);
+    }
+
+    /**
+     * Caches the given entity state, unless the region was invalidated since the version at which the entity was loaded.
+     */
+    public synchronized void put(CachedEntityState state, long loadVersion) {
+        if (version.get() == loadVersion) {
+            entities.put(state.getId(), state);
+            statistics.incrementPutCount();
+        }
+    }
+
+    public synchronized void putQueryResult(String statement, Object parameter, CachedEntityState state, long loadVersion) {
+        if (version.get() == loadVersion) {
+            queryResults.put(createQueryKey(statement, parameter), state);
+            statistics.incrementPutCount();
+        }
+    }
+
+    protected Object createQueryKey(String statement, Object parameter) {
+        return Arrays.asList(statement, parameter);
+    }
+
+    /**
+     * Drops the entity with the given id, or all entities if the id is null. Cached query results are always dropped,
+     * as they could be affected by any change.
+     */
+    public synchronized void invalidate(String id) {
+        version.incrementAndGet();
+        if (id != null) {
+            entities.remove(id);
+        } else {
+            entities.clear();
+        }
+        queryResults.clear();
+        statistics.incrementInvalidationCount();
+    }
+
+    public synchronized void invalidateQueryResults() {
+        version.incrementAndGet();
+        queryResults.clear();
+        statistics.incrementInvalidationCount();
+    }
+
+    public boolean isCacheableQuery(String statement, Object parameter) {
+        return policy.getCacheableQueries().contains(statement) && (parameter instanceof String || parameter instanceof Map);
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public int size() {
+        return entities.size();
+    }
+
+    public Class<? extends Entity> getEntityClass() {
+        return entityClass;
+    }
+
+    public SecondLevelEntityCachePolicy getPolicy() {
+        return policy;
+    }
+
+    public SecondLevelEntityCacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    public static class CachedEntityState {
+
+        protected final String id;
+        protected final int revision;
+        protected final byte[] serializedEntity;
+        protected final long createTime = System.currentTimeMillis();
+
+        public CachedEntityState(String id, int revision, byte[] serializedEntity) {
+            this.id = id;
+            this.revision = revision;
+            this.serializedEntity = serializedEntity;
+        }
+
+        public Entity restore(Class<? extends Entity> entityClass) {
+            try (ObjectInputStream in = new EntityObjectInputStream(new ByteArrayInputStream(serializedEntity), entityClass.getClassLoader())) {
+                Entity entity = (Entity) in.readObject();
+
+                // The fields of a non serializable superclass are not part of the snapshot
+                entity.setId(id);
+                if (entity instanceof HasRevision) {
+                    ((HasRevision) entity).setRevision(revision);
+                }
+                return entity;
+
+            } catch (IOException | ClassNotFoundException e) {
+                LOGGER.debug("Could not deserialize cached entity {} of type {}", id, entityClass, e);
+                return null;
+            }
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public long getCreateTime() {
+            return createTime;
+        }
+    }
+
+    protected static class EntityObjectInputStream extends ObjectInputStream {
+
+        protected ClassLoader classLoader;
+
+        public EntityObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of one entity type in the {@link SecondLevelEntityCache}.
+ */
+public class SecondLevelEntityCacheStatistics {
+
+    protected final AtomicLong hitCount = new AtomicLong();
+    protected final AtomicLong missCount = new AtomicLong();
+    protected final AtomicLong putCount = new AtomicLong();
+    protected final AtomicLong invalidationCount = new AtomicLong();
+
+    public void incrementHitCount() {
+        hitCount.incrementAndGet();
+    }
+
+    public void incrementMissCount() {
+        missCount.incrementAndGet();
+    }
+
+    public void incrementPutCount() {
+        putCount.incrementAndGet();
+    }
+
+    public void incrementInvalidationCount() {
+        invalidationCount.incrementAndGet();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getPutCount() {
+        return putCount.get();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long lookups = hits + getMissCount();
+        return lookups > 0 ? (double) hits / lookups : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return "SecondLevelEntityCacheStatistics[hits=" + getHitCount() + ", misses=" + getMissCount() + ", puts=" + getPutCount()
+                + ", invalidations=" + getInvalidationCount() + "]";
+    }
+
+}
@@ -0,0 +1,135 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.cache.SecondLevelEntityCacheRegion.CachedEntityState;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * Ties the {@link SecondLevelEntityCache} to the transaction of one {@link org.flowable.common.engine.impl.db.DbSqlSession}.
+ * <p>
+ * Loaded entities are only put in the cache once the transaction has committed, so uncommitted state never becomes visible to other transactions.
+ * Changed entities are invalidated when they are flushed, and again after commit, as other transactions could have loaded
+ * the previous state in between.
+ */
+public class SecondLevelEntityCacheSynchronization implements TransactionListener {
+
+    protected SecondLevelEntityCache secondLevelEntityCache;
+    protected boolean transactionListenerRegistered;
+
+    protected Map<Class<?>, Set<String>> invalidatedEntityIds = new HashMap<>();
+    protected Set<Class<?>> invalidatedEntityClasses = new HashSet<>();
+    protected List<Runnable> pendingPuts = new ArrayList<>();
+
+    public SecondLevelEntityCacheSynchronization(SecondLevelEntityCache secondLevelEntityCache) {
+        this.secondLevelEntityCache = secondLevelEntityCache;
+    }
+
+    public void entityLoaded(SecondLevelEntityCacheRegion region, Entity entity, long loadVersion) {
+        CachedEntityState state = region.createState(entity);
+        if (state != null && registerTransactionListener()) {
+            pendingPuts.add(() -> region.put(state, loadVersion));
+        }
+    }
+
+    public void queryResultLoaded(SecondLevelEntityCacheRegion region, String statement, Object parameter, Entity entity, long loadVersion) {
+        CachedEntityState state = region.createQueryResultState(entity.getId());
+        if (registerTransactionListener()) {
+            pendingPuts.add(() -> region.putQueryResult(statement, parameter, state, loadVersion));
+        }
+    }
+
+    public void entityInserted(Class<?> entityClass) {
+        SecondLevelEntityCacheRegion region = secondLevelEntityCache.getRegion(entityClass);
+        if (region != null) {
+            region.invalidateQueryResults();
+            invalidatedEntityClasses.add(entityClass);
+            registerTransactionListener();
+        }
+    }
+
+    public void entityChanged(Class<?> entityClass, String entityId) {
+        SecondLevelEntityCacheRegion region = secondLevelEntityCache.getRegion(entityClass);
+        if (region != null) {
+            region.invalidate(entityId);
+            invalidatedEntityIds.computeIfAbsent(entityClass, key -> new HashSet<>()).add(entityId);
+            registerTransactionListener();
+        }
+    }
+
+    public void entitiesChanged(Class<?> entityClass) {
+        SecondLevelEntityCacheRegion region = secondLevelEntityCache.getRegion(entityClass);
+        if (region != null) {
+            region.invalidate(null);
+            invalidatedEntityClasses.add(entityClass);
+            registerTransactionListener();
+        }
+    }
+
+    /**
+     * Used when a statement changed rows of an unknown entity type.
+     */
+    public void allEntitiesChanged() {
+        for (SecondLevelEntityCacheRegion region : secondLevelEntityCache.getRegions()) {
+            entitiesChanged(region.getEntityClass());
+        }
+    }
+
+    protected boolean registerTransactionListener() {
+        if (!transactionListenerRegistered) {
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext == null) {
+                return false;
+            }
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, this);
+            transactionListenerRegistered = true;
+        }
+        return true;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        for (Class<?> entityClass : invalidatedEntityClasses) {
+            secondLevelEntityCache.invalidate(entityClass, null);
+        }
+        for (Map.Entry<Class<?>, Set<String>> entityIds : invalidatedEntityIds.entrySet()) {
+            if (!invalidatedEntityClasses.contains(entityIds.getKey())) {
+                for (String entityId : entityIds.getValue()) {
+                    secondLevelEntityCache.invalidate(entityIds.getKey(), entityId);
+                }
+            }
+        }
+
+        // Entities loaded before one of the invalidations above are rejected by their region
+        for (Runnable pendingPut : pendingPuts) {
+            pendingPut.run();
+        }
+
+        invalidatedEntityIds.clear();
+        invalidatedEntityClasses.clear();
+        pendingPuts.clear();
+    }
+
+}
@@ -0,0 +1,129 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+
+/**
+ * Keeps the id of the latest version of each definition key per tenant, so that lookups of the latest definition
+ * (e.g. when starting a process instance by key) don't need to query the maximum version.
+ * The entity managers serve the definition with the cached id from the deployment cache, the same way definitions are resolved by id.
+ * Only when it isn't in the deployment cache (anymore) it is loaded by its id, which also detects a definition that was deleted in the meantime.
+ * <p>
+ * The deployers put new versions once their transaction has committed and deployment deletion evicts the deleted keys,
+ * together with the definitions that are removed from the deployment cache.
+ * A version is never replaced by a lower one, so a slow lookup that started before a new deployment can't overwrite it.
+ * <p>
+ * In a cluster, other nodes don't see these changes. A version deployed on another node is only picked up once the entry has expired,
+ * and until then a version deleted on another node can still be served from the deployment cache of this node.
+ * Both are bounded by the time to live, 60 seconds by default, see {@link #setTimeToLive(long)}.
+ */
+public class LatestDefinitionCache {
+
+    protected ConcurrentMap<String, LatestDefinition> latestDefinitions = new ConcurrentHashMap<>();
+
+    /**
+     * The time in milliseconds after which the latest version is queried again, or 0 to keep entries until they are evicted.
+     * Bounds the time it takes to pick up versions deployed by other nodes of a cluster.
+     */
+    protected long timeToLive = 60000L;
+
+    /**
+     * @return the id of the latest definition with the given key, or null if it isn't known
+     */
+    public String getDefinitionId(String key, String tenantId) {
+        String cacheKey = createCacheKey(key, tenantId);
+        LatestDefinition latestDefinition = latestDefinitions.get(cacheKey);
+        if (latestDefinition == null) {
+            return null;
+        }
+        if (timeToLive > 0 && System.currentTimeMillis() - latestDefinition.createTime > timeToLive) {
+            latestDefinitions.remove(cacheKey, latestDefinition);
+            return null;
+        }
+        return latestDefinition.definitionId;
+    }
+
+    public void put(String key, String tenantId, String definitionId, int version) {
+        LatestDefinition latestDefinition = new LatestDefinition(definitionId, version);
+        latestDefinitions.merge(createCacheKey(key, tenantId), latestDefinition,
+                (current, candidate) -> candidate.version >= current.version ? candidate : current);
+    }
+
+    /**
+     * Puts the given definition once the current transaction has committed.
+     */
+    public void putOnCommit(String key, String tenantId, String definitionId, int version) {
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> put(key, tenantId, definitionId, version));
+        } else {
+            remove(key, tenantId);
+        }
+    }
+
+    public void remove(String key, String tenantId) {
+        latestDefinitions.remove(createCacheKey(key, tenantId));
+    }
+
+    /**
+     * Removes the given key now and again once the current transaction has committed,
+     * as other transactions could put the definition being deleted in between.
+     */
+    public void evict(String key, String tenantId) {
+        remove(key, tenantId);
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> remove(key, tenantId));
+        }
+    }
+
+    public void clear() {
+        latestDefinitions.clear();
+    }
+
+    public int size() {
+        return latestDefinitions.size();
+    }
+
+    protected String createCacheKey(String key, String tenantId) {
+        // The definitions without tenant are stored with an empty tenant id
+        return (tenantId != null ? tenantId : "") + '\u0000' + key;
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    protected static class LatestDefinition {
+
+        protected final String definitionId;
+        protected final int version;
+        protected final long createTime = System.currentTimeMillis();
+
+        public LatestDefinition(String definitionId, int version) {
+            this.definitionId = definitionId;
+            this.version = version;
+        }
+    }
+
+}
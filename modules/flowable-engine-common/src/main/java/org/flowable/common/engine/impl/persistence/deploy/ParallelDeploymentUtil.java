@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Runs the CPU bound steps of a deployment (parsing, validation, diagram generation) for multiple resources of the same deployment
+ * at the same time, on the deployment executor service of the engine (see {@link org.flowable.common.engine.impl.AbstractEngineConfiguration#getDeploymentExecutorService()}).
+ * <p>
+ * The command context of the deploying thread is not thread-safe and is never shared with the worker threads. Each worker gets its own,
+ * read-only command context instead: it gives access to the engine configurations of the deploying command, but it has no session factories,
+ * so any attempt to open a database (or other) session in a worker fails. Attributes and close listeners of the deploying command context are not visible either.
+ * The context class loader of the deploying thread is used by the workers.
+ * <p>
+ * The results are returned in the order of the given items, and when multiple items fail, the exception of the first failing item
+ * in that order is thrown. The deployers can therefore merge and persist the results exactly as if the items were processed one after the other.
+ */
+public class ParallelDeploymentUtil {
+
+    public static <T, R> List<R> process(List<T> items, ExecutorService executorService, Function<T, R> function) {
+        List<R> results = new ArrayList<>(items.size());
+        if (executorService == null || items.size() <= 1) {
+            for (T item : items) {
+                results.add(function.apply(item));
+            }
+            return results;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        try {
+            for (T item : items) {
+                CommandContext workerCommandContext = commandContext != null ? createReadOnlyCommandContext(commandContext) : null;
+                futures.add(executorService.submit(() -> {
+                    Thread currentThread = Thread.currentThread();
+                    ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+                    currentThread.setContextClassLoader(contextClassLoader);
+                    if (workerCommandContext != null) {
+                        Context.setCommandContext(workerCommandContext);
+                    }
+                    try {
+                        return function.apply(item);
+                    } finally {
+                        if (workerCommandContext != null) {
+                            Context.removeCommandContext();
+                        }
+                        currentThread.setContextClassLoader(originalClassLoader);
+                    }
+                }));
+            }
+
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new FlowableException("Error while processing deployment resources", cause);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while processing deployment resources", e);
+
+        } finally {
+            // the pool is shared by the engine, only the remaining work of this deployment is cancelled
+            for (Future<R> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Creates a command context for a worker thread that only exposes the engine configurations of the given command context.
+     * It is created in the deploying thread, so the engine configurations are copied before any worker starts.
+     */
+    protected static CommandContext createReadOnlyCommandContext(CommandContext commandContext) {
+        CommandContext workerCommandContext = new CommandContext(commandContext.getCommand());
+        if (commandContext.getEngineConfigurations() != null) {
+            workerCommandContext.setEngineConfigurations(Collections.unmodifiableMap(new HashMap<>(commandContext.getEngineConfigurations())));
+        }
+        workerCommandContext.setCurrentEngineConfiguration(commandContext.getCurrentEngineConfiguration());
+        workerCommandContext.setSessionFactories(Collections.emptyMap());
+        return workerCommandContext;
+    }
+
+}
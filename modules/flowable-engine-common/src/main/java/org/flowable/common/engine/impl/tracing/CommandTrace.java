@@ -0,0 +1,136 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.tracing;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+
+/**
+ * Per-thread buffer holding the trace of the command that is currently executed on that thread.
+ *
+ * The entry arrays are allocated once, when the buffer is created, and reused for every command: recording an entry only
+ * stores a few values. When the buffer is full, further entries of the command are counted but not stored.
+ * Entries are stored in the order they complete, so nested work (e.g. the sql statements of an operation) comes before the enclosing entry.
+ *
+ * Nested commands executed on the same thread are part of the trace of the outermost command.
+ */
+public class CommandTrace {
+
+    protected final CommandTraceEntryType[] entryTypes;
+    protected final String[] entryNames;
+    protected final long[] entryStartTimes;
+    protected final long[] entryDurations;
+    protected int size;
+    protected int droppedEntries;
+
+    protected String commandName;
+    protected long startTime;
+    protected long duration;
+    protected int depth;
+
+    public CommandTrace(int capacity) {
+        this.entryTypes = new CommandTraceEntryType[capacity];
+        this.entryNames = new String[capacity];
+        this.entryStartTimes = new long[capacity];
+        this.entryDurations = new long[capacity];
+    }
+
+    /**
+     * Starts tracing the given command, unless it is nested in a command that is already traced.
+     */
+    public void begin(Command<?> command) {
+        if (depth++ == 0) {
+            commandName = command.getClass().getName();
+            startTime = System.nanoTime();
+            duration = 0L;
+            size = 0;
+            droppedEntries = 0;
+        }
+    }
+
+    /**
+     * @return true if the outermost command has ended, i.e. the trace is complete.
+     */
+    public boolean end() {
+        if (--depth == 0) {
+            duration = System.nanoTime() - startTime;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isActive() {
+        return depth > 0;
+    }
+
+    /**
+     * Records an entry that has started at the given time (as returned by {@link System#nanoTime()}) and ends now.
+     */
+    public void record(CommandTraceEntryType type, String name, long entryStartTime) {
+        if (depth == 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (size < entryTypes.length) {
+            entryTypes[size] = type;
+            entryNames[size] = name;
+            entryStartTimes[size] = entryStartTime;
+            entryDurations[size] = now - entryStartTime;
+            size++;
+        } else {
+            droppedEntries++;
+        }
+    }
+
+    public String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * @return the duration of the command in nanoseconds, only available once the command has ended.
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getDroppedEntries() {
+        return droppedEntries;
+    }
+
+    public CommandTraceEntryType getEntryType(int index) {
+        return entryTypes[index];
+    }
+
+    public String getEntryName(int index) {
+        return entryNames[index];
+    }
+
+    /**
+     * @return the start of the entry, in nanoseconds relative to the start of the command.
+     */
+    public long getEntryOffset(int index) {
+        return entryStartTimes[index] - startTime;
+    }
+
+    /**
+     * @return the duration of the entry in nanoseconds.
+     */
+    public long getEntryDuration(int index) {
+        return entryDurations[index];
+    }
+
+}
@@ -0,0 +1,24 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.tracing;
+
+/**
+ * Receives the traces of commands that took longer than the configured threshold.
+ *
+ * The {@link CommandTrace} is the reused buffer of the executing thread: it must be consumed (or copied) before this method returns.
+ */
+public interface CommandTraceSink {
+
+    void slowCommand(CommandTrace commandTrace);
+
+}
@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.tracing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the per-thread {@link CommandTrace} buffers and hands the traces of commands exceeding the threshold to the {@link CommandTraceSink}.
+ */
+public class CommandTracer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CommandTracer.class);
+
+    protected final long thresholdInNanos;
+    protected final CommandTraceSink commandTraceSink;
+    protected final ThreadLocal<CommandTrace> commandTraces;
+
+    public CommandTracer(long thresholdInMillis, int bufferSize, CommandTraceSink commandTraceSink) {
+        this.thresholdInNanos = TimeUnit.MILLISECONDS.toNanos(thresholdInMillis);
+        this.commandTraceSink = commandTraceSink;
+        this.commandTraces = ThreadLocal.withInitial(() -> new CommandTrace(bufferSize));
+    }
+
+    public CommandTrace getCurrentTrace() {
+        return commandTraces.get();
+    }
+
+    public void commandFinished(CommandTrace commandTrace) {
+        if (commandTrace.getDuration() < thresholdInNanos) {
+            return;
+        }
+
+        try {
+            commandTraceSink.slowCommand(commandTrace);
+        } catch (RuntimeException e) {
+            // A failing sink shouldn't make the command fail
+            LOGGER.warn("Could not emit the trace of slow command {}", commandTrace.getCommandName(), e);
+        }
+    }
+
+    public long getThresholdInNanos() {
+        return thresholdInNanos;
+    }
+
+    public CommandTraceSink getCommandTraceSink() {
+        return commandTraceSink;
+    }
+
+}
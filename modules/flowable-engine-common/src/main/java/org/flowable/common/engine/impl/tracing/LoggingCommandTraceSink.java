@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.tracing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link CommandTraceSink}, writing the trace of slow commands to the log as a warning.
+ */
+public class LoggingCommandTraceSink implements CommandTraceSink {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoggingCommandTraceSink.class);
+
+    @Override
+    public void slowCommand(CommandTrace commandTrace) {
+        if (!LOGGER.isWarnEnabled()) {
+            return;
+        }
+
+        StringBuilder strb = new StringBuilder();
+        strb.append("Slow command ").append(commandTrace.getCommandName())
+            .append(" took ").append(toMicros(commandTrace.getDuration())).append("us");
+
+        for (int i = 0; i < commandTrace.size(); i++) {
+            strb.append(System.lineSeparator())
+                .append("  +").append(toMicros(commandTrace.getEntryOffset(i))).append("us ")
+                .append(commandTrace.getEntryType(i)).append(' ')
+                .append(commandTrace.getEntryName(i)).append(' ')
+                .append(toMicros(commandTrace.getEntryDuration(i))).append("us");
+        }
+
+        if (commandTrace.getDroppedEntries() > 0) {
+            strb.append(System.lineSeparator()).append("  ").append(commandTrace.getDroppedEntries()).append(" more entries not recorded");
+        }
+
+        LOGGER.warn(strb.toString());
+    }
+
+    protected long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+}
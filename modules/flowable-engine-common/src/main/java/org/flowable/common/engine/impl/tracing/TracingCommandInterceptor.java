@@ -0,0 +1,49 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.tracing;
+
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+
+/**
+ * Starts and ends the {@link CommandTrace} of the current thread around the execution of a command.
+ * Placed before the interceptor creating the command context, so the flush and commit are part of the trace.
+ */
+public class TracingCommandInterceptor extends AbstractCommandInterceptor {
+
+    protected CommandTracer commandTracer;
+
+    public TracingCommandInterceptor(CommandTracer commandTracer) {
+        this.commandTracer = commandTracer;
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command) {
+        CommandTrace commandTrace = commandTracer.getCurrentTrace();
+        commandTrace.begin(command);
+        try {
+            return next.execute(config, command);
+
+        } finally {
+            if (commandTrace.end()) {
+                commandTracer.commandFinished(commandTrace);
+            }
+        }
+    }
+
+    public CommandTracer getCommandTracer() {
+        return commandTracer;
+    }
+
+}
@@ -0,0 +1,140 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.junit.jupiter.api.Test;
+
+class ExpressionCompilationTest {
+
+    @Test
+    void simpleExpressionsAreCompiled() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+
+        assertThat(expressionManager.createExpression("${approved}")).isInstanceOf(CompiledExpression.class);
+        assertThat(expressionManager.createExpression("${amount > 1000 && !rejected}")).isInstanceOf(CompiledExpression.class);
+        assertThat(expressionManager.createExpression("${order.customer.name == 'kermit' or empty order}")).isInstanceOf(CompiledExpression.class);
+        assertThat(expressionManager.createExpression("${initiator != null ? initiator : 'admin'}")).isInstanceOf(CompiledExpression.class);
+        assertThat(expressionManager.createExpression("kermit")).isInstanceOf(CompiledExpression.class);
+
+        assertThat(expressionManager.createExpression("${amount + 1}")).isInstanceOf(JuelExpression.class);
+        assertThat(expressionManager.createExpression("${bean.method()}")).isInstanceOf(JuelExpression.class);
+        assertThat(expressionManager.createExpression("${list[0]}")).isInstanceOf(JuelExpression.class);
+        assertThat(expressionManager.createExpression("Hello ${name}")).isInstanceOf(JuelExpression.class);
+    }
+
+    @Test
+    void compiledExpressionsEvaluateLikeJuel() {
+        DefaultExpressionManager compilingExpressionManager = new DefaultExpressionManager();
+        DefaultExpressionManager juelExpressionManager = new DefaultExpressionManager();
+        juelExpressionManager.setExpressionCompilationEnabled(false);
+
+        Map<String, Object> customer = new HashMap<>();
+        customer.put("name", "kermit");
+        Map<String, Object> order = new HashMap<>();
+        order.put("customer", customer);
+        order.put("amount", 1500);
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("approved", true);
+        variables.put("amount", 1500L);
+        variables.put("limit", "1000");
+        variables.put("initiator", null);
+        variables.put("order", order);
+        variables.put("emptyString", "");
+        VariableContainerWrapper variableContainer = new VariableContainerWrapper(variables);
+
+        String[] expressions = {
+            "${approved}",
+            "${!approved}",
+            "${amount > 1000}",
+            "${amount >= limit}",
+            "${amount == 1500.0}",
+            "${amount lt 10 || approved}",
+            "${approved and amount < 10}",
+            "${initiator == null}",
+            "${initiator}",
+            "${empty emptyString}",
+            "${order.customer.name}",
+            "${order.customer.name == 'kermit'}",
+            "${order.unknown}",
+            "${order.unknown.name}",
+            "${(order.amount > 1000) ? 'big' : 'small'}",
+            "kermit"
+        };
+
+        for (String expressionText : expressions) {
+            Expression compiledExpression = compilingExpressionManager.createExpression(expressionText);
+            Expression juelExpression = juelExpressionManager.createExpression(expressionText);
+            assertThat(compiledExpression.getValue(variableContainer))
+                    .as(expressionText)
+                    .isEqualTo(juelExpression.getValue(variableContainer));
+        }
+    }
+
+    @Test
+    void unresolvedVariablesFallBackToJuel() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(Collections.singletonMap("myBean", (Object) "beanValue"));
+        VariableContainerWrapper variableContainer = new VariableContainerWrapper(new HashMap<>());
+
+        assertThat(expressionManager.createExpression("${myBean}").getValue(variableContainer)).isEqualTo("beanValue");
+        assertThat(expressionManager.createExpression("${myBean == 'beanValue'}").getValue(variableContainer)).isEqualTo(true);
+
+        assertThatThrownBy(() -> expressionManager.createExpression("${unknown}").getValue(variableContainer))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("Unknown property used in expression");
+    }
+
+    @Test
+    void coercionErrorsAreReportedByJuel() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+        VariableContainerWrapper variableContainer = new VariableContainerWrapper(Collections.singletonMap("amount", (Object) "notANumber"));
+
+        assertThatThrownBy(() -> expressionManager.createExpression("${amount > 1000}").getValue(variableContainer))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("Error while evaluating expression");
+    }
+
+    @Test
+    void variableErrorsAreWrapped() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+        VariableContainerWrapper variableContainer = new VariableContainerWrapper(new HashMap<>()) {
+
+            @Override
+            public boolean hasVariable(String variableName) {
+                return true;
+            }
+
+            @Override
+            public Object getVariable(String variableName) {
+                throw new IllegalStateException("variable can't be read");
+            }
+        };
+
+        Expression expression = expressionManager.createExpression("${approved}");
+        assertThat(expression).isInstanceOf(CompiledExpression.class);
+        assertThatThrownBy(() -> expression.getValue(variableContainer))
+                .isInstanceOf(FlowableException.class)
+                .hasMessage("Error while evaluating expression: ${approved}")
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+}
@@ -0,0 +1,140 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.Session;
+import org.flowable.common.engine.impl.interceptor.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelDeploymentUtilTest {
+
+    protected ExecutorService executorService;
+    protected CommandContext commandContext;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(3);
+
+        Map<Class<?>, SessionFactory> sessionFactories = new HashMap<>();
+        sessionFactories.put(TestSession.class, new SessionFactory() {
+
+            @Override
+            public Class<?> getSessionType() {
+                return TestSession.class;
+            }
+
+            @Override
+            public Session openSession(CommandContext commandContext) {
+                return new TestSession();
+            }
+        });
+
+        commandContext = new CommandContext(context -> null);
+        commandContext.setEngineConfigurations(new HashMap<>());
+        commandContext.setSessionFactories(sessionFactories);
+        Context.setCommandContext(commandContext);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Context.removeCommandContext();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void resultsAreReturnedInTheOrderOfTheItems() {
+        List<String> results = ParallelDeploymentUtil.process(Arrays.asList(3, 1, 2, 5, 4), executorService, item -> {
+            sleep(item * 10L);
+            return "item" + item;
+        });
+
+        assertThat(results).containsExactly("item3", "item1", "item2", "item5", "item4");
+    }
+
+    @Test
+    void exceptionOfTheFirstFailingItemIsThrown() {
+        assertThatThrownBy(() -> ParallelDeploymentUtil.process(Arrays.asList(1, 2, 3), executorService, item -> {
+            if (item == 2) {
+                sleep(50L);
+                throw new FlowableException("failure of item 2");
+            } else if (item == 3) {
+                throw new FlowableException("failure of item 3");
+            }
+            return item;
+        }))
+                .isInstanceOf(FlowableException.class)
+                .hasMessage("failure of item 2");
+    }
+
+    @Test
+    void workersGetReadOnlyCommandContext() {
+        List<CommandContext> workerCommandContexts = ParallelDeploymentUtil.process(Arrays.asList(1, 2), executorService, item -> Context.getCommandContext());
+
+        assertThat(workerCommandContexts).doesNotContainNull().doesNotContain(commandContext);
+        assertThat(workerCommandContexts.get(0)).isNotSameAs(workerCommandContexts.get(1));
+
+        CommandContext workerCommandContext = workerCommandContexts.get(0);
+        assertThat(workerCommandContext.getCommand()).isSameAs(commandContext.getCommand());
+        assertThat(workerCommandContext.getEngineConfigurations()).isEqualTo(commandContext.getEngineConfigurations());
+        assertThatThrownBy(() -> workerCommandContext.getEngineConfigurations().put("test", null))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> workerCommandContext.getSession(TestSession.class))
+                .isInstanceOf(FlowableException.class);
+
+        // the command context of the deploying thread can still open sessions
+        assertThat(commandContext.getSession(TestSession.class)).isNotNull();
+    }
+
+    @Test
+    void itemsAreProcessedInTheCallingThreadWithoutExecutorService() {
+        List<CommandContext> commandContexts = ParallelDeploymentUtil.process(Collections.singletonList(1), null, item -> Context.getCommandContext());
+
+        assertThat(commandContexts).containsExactly(commandContext);
+    }
+
+    protected static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    protected static class TestSession implements Session {
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+}
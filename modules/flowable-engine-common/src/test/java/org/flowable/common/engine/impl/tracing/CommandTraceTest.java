@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.junit.jupiter.api.Test;
+
+class CommandTraceTest {
+
+    protected static final Command<Void> COMMAND = commandContext -> null;
+
+    @Test
+    void entriesAreRecordedUntilTheBufferIsFull() {
+        CommandTrace trace = new CommandTrace(2);
+
+        trace.begin(COMMAND);
+        trace.record(CommandTraceEntryType.SQL, "selectExecution", System.nanoTime());
+        trace.record(CommandTraceEntryType.OPERATION, "ContinueProcessOperation", System.nanoTime());
+        trace.record(CommandTraceEntryType.SQL, "insertExecution", System.nanoTime());
+        assertThat(trace.end()).isTrue();
+
+        assertThat(trace.size()).isEqualTo(2);
+        assertThat(trace.getDroppedEntries()).isEqualTo(1);
+        assertThat(trace.getEntryType(0)).isEqualTo(CommandTraceEntryType.SQL);
+        assertThat(trace.getEntryName(1)).isEqualTo("ContinueProcessOperation");
+        assertThat(trace.getEntryOffset(1)).isGreaterThanOrEqualTo(trace.getEntryOffset(0));
+    }
+
+    @Test
+    void nestedCommandsArePartOfTheOuterTrace() {
+        CommandTrace trace = new CommandTrace(8);
+
+        trace.begin(COMMAND);
+        trace.record(CommandTraceEntryType.SQL, "selectExecution", System.nanoTime());
+        trace.begin(COMMAND);
+        trace.record(CommandTraceEntryType.SQL, "selectTask", System.nanoTime());
+        assertThat(trace.end()).isFalse();
+        assertThat(trace.isActive()).isTrue();
+        assertThat(trace.end()).isTrue();
+
+        assertThat(trace.isActive()).isFalse();
+        assertThat(trace.size()).isEqualTo(2);
+
+        // entries outside of a command are ignored
+        trace.record(CommandTraceEntryType.SQL, "selectJob", System.nanoTime());
+        assertThat(trace.size()).isEqualTo(2);
+
+        // the buffer is reset for the next command
+        trace.begin(COMMAND);
+        assertThat(trace.size()).isZero();
+        assertThat(trace.end()).isTrue();
+    }
+}
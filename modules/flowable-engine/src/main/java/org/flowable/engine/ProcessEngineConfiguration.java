@@ -132,6 +132,12 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
      *  include the sequence flow name in case there's no Label DI, 
      */
     protected boolean drawSequenceFlowNameWithNoLabelDI = false;
+
+    /**
+     * Keeps the highlight-free rendering of a process diagram per deployed BpmnModel, so diagrams of running process instances
+     * only need to draw the highlights. Only applies to the DefaultProcessDiagramGenerator.
+     */
+    protected boolean enableProcessDiagramCache;
     
     protected String defaultCamelContext = "camelContext";
 
@@ -560,6 +566,15 @@ public abstract class ProcessEngineConfiguration extends AbstractEngineConfigura
         this.drawSequenceFlowNameWithNoLabelDI = drawSequenceFlowNameWithNoLabelDI;
         return this;
     }
+
+    public boolean isEnableProcessDiagramCache() {
+        return enableProcessDiagramCache;
+    }
+
+    public ProcessEngineConfiguration setEnableProcessDiagramCache(boolean enableProcessDiagramCache) {
+        this.enableProcessDiagramCache = enableProcessDiagramCache;
+        return this;
+    }
     
     public String getActivityFontName() {
         return activityFontName;
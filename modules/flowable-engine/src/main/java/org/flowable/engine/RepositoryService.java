@@ -69,6 +69,23 @@ public interface RepositoryService {
      */
     void deleteDeployment(String deploymentId, boolean cascade);
 
+    /**
+     * Deletes the given deployment and cascades the deletion to process instances, history process instances and jobs, like
+     * {@link #deleteDeployment(String, boolean)} with cascade, but deletes the process instances in chunks in the background.
+     * The process definitions of the deployment are suspended immediately, so no new process instances can be started for them.
+     * The deployment itself is deleted after its last process instance has been deleted. The progress of the batch can be followed
+     * with {@link org.flowable.common.engine.api.delegate.event.FlowableEngineEventType#BATCH_PROGRESSED} and
+     * {@link org.flowable.common.engine.api.delegate.event.FlowableEngineEventType#BATCH_COMPLETED} events. Note: The job executor needs
+     * to be active to use this!
+     * 
+     * @param deploymentId
+     *            id of the deployment, cannot be null.
+     * @return the id of the batch, which is also the scope id of the jobs of the batch.
+     * @throws FlowableObjectNotFoundException
+     *             if no such deployment can be found.
+     */
+    String batchDeleteDeployment(String deploymentId);
+
     /**
      * Sets the category of the deployment. Deployments can be queried by category: see {@link DeploymentQuery#deploymentCategory(String)}.
      * 
@@ -282,6 +299,54 @@ public interface RepositoryService {
      */
     void activateProcessDefinitionByKey(String processDefinitionKey, boolean activateProcessInstances, Date activationDate, String tenantId);
 
+    /**
+     * Suspends the process definition with the given id immediately and suspends all its process instances in chunks in the background.
+     * The progress of the batch can be followed with {@link org.flowable.common.engine.api.delegate.event.FlowableEngineEventType#BATCH_PROGRESSED}
+     * and {@link org.flowable.common.engine.api.delegate.event.FlowableEngineEventType#BATCH_COMPLETED} events. Note: The job executor needs
+     * to be active to use this!
+     * 
+     * @return the id of the batch, which is also the scope id of the jobs of the batch.
+     * @throws FlowableObjectNotFoundException
+     *             if no such processDefinition can be found.
+     * @throws FlowableException
+     *             if the process definition is already in state suspended.
+     */
+    String batchSuspendProcessDefinitionById(String processDefinitionId);
+
+    /**
+     * Similar to {@link #batchSuspendProcessDefinitionById(String)}, but for <strong>all</strong> process definitions with the given key.
+     */
+    String batchSuspendProcessDefinitionByKey(String processDefinitionKey);
+
+    /**
+     * Similar to {@link #batchSuspendProcessDefinitionByKey(String)}, but only applicable for the given tenant identifier.
+     */
+    String batchSuspendProcessDefinitionByKey(String processDefinitionKey, String tenantId);
+
+    /**
+     * Activates the process definition with the given id immediately and activates all its process instances in chunks in the background.
+     * The progress of the batch can be followed with {@link org.flowable.common.engine.api.delegate.event.FlowableEngineEventType#BATCH_PROGRESSED}
+     * and {@link org.flowable.common.engine.api.delegate.event.FlowableEngineEventType#BATCH_COMPLETED} events. Note: The job executor needs
+     * to be active to use this!
+     * 
+     * @return the id of the batch, which is also the scope id of the jobs of the batch.
+     * @throws FlowableObjectNotFoundException
+     *             if no such processDefinition can be found.
+     * @throws FlowableException
+     *             if the process definition is already in state active.
+     */
+    String batchActivateProcessDefinitionById(String processDefinitionId);
+
+    /**
+     * Similar to {@link #batchActivateProcessDefinitionById(String)}, but for <strong>all</strong> process definitions with the given key.
+     */
+    String batchActivateProcessDefinitionByKey(String processDefinitionKey);
+
+    /**
+     * Similar to {@link #batchActivateProcessDefinitionByKey(String)}, but only applicable for the given tenant identifier.
+     */
+    String batchActivateProcessDefinitionByKey(String processDefinitionKey, String tenantId);
+
     /**
      * Sets the category of the process definition. Process definitions can be queried by category: see {@link ProcessDefinitionQuery#processDefinitionCategory(String)}.
      * 
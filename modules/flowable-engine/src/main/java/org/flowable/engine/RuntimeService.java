@@ -26,6 +26,8 @@ import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationValidationResult;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatchPart;
 import org.flowable.engine.migration.ProcessInstanceMigrationBuilder;
 import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
 import org.flowable.engine.runtime.ActivityInstance;
@@ -1239,6 +1241,43 @@ public interface RuntimeService {
      */
     void messageEventReceivedAsync(String messageName, String executionId);
 
+    /**
+     * Notifies the process engine that a signal event of name 'signalName' has been received. The signal is delivered to all executions waiting on the signal
+     * <strong>asynchronously</strong>, in jobs that each handle a chunk of the subscriptions in one transaction (see the eventBroadcastChunkSize of the process engine configuration).
+     * This is meant for signals that reach a very large number of executions, as the jobs can be executed in parallel on all nodes of the cluster.
+     * <p/>
+     * All jobs of the broadcast get the returned id as scope id, so the progress can be followed with {@link ManagementService#createJobQuery()}.
+     * A chunk that keeps failing ends up as a dead letter job with the same scope id and can be moved back to continue the broadcast.
+     *
+     * @param signalName
+     *            the name of the signal event
+     * @return the id of the broadcast
+     */
+    String signalEventReceivedBroadcast(String signalName);
+
+    /**
+     * Similar to {@link #signalEventReceivedBroadcast(String)}, but within the context of one tenant.
+     */
+    String signalEventReceivedBroadcastWithTenantId(String signalName, String tenantId);
+
+    /**
+     * Notifies the process engine that a message event with name 'messageName' has been received for all process instances with the given business key.
+     * The message is delivered <strong>asynchronously</strong> to every execution of those process instances waiting on the message, in the same chunked way as
+     * {@link #signalEventReceivedBroadcast(String)}.
+     *
+     * @param messageName
+     *            the name of the message event
+     * @param businessKey
+     *            the business key of the process instances to deliver the message to, or null to deliver it to all executions waiting on the message
+     * @return the id of the broadcast
+     */
+    String messageEventReceivedBroadcast(String messageName, String businessKey);
+
+    /**
+     * Similar to {@link #messageEventReceivedBroadcast(String, String)}, but within the context of one tenant.
+     */
+    String messageEventReceivedBroadcastWithTenantId(String messageName, String businessKey, String tenantId);
+
     /**
      * Adds an event-listener which will be notified of ALL events by the dispatcher.
      *
@@ -1375,4 +1414,57 @@ public interface RuntimeService {
 
     void migrateProcessInstancesOfProcessDefinition(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId, ProcessInstanceMigrationDocument processInstanceMigrationDocument);
 
+    /**
+     * Validates the migration document and creates a batch that migrates all process instances of the given process definition asynchronously,
+     * in chunks of {@link org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl#getProcessInstanceMigrationBatchChunkSize()} process instances.
+     * Each process instance is migrated in its own transaction and its outcome is kept as a {@link ProcessInstanceMigrationBatchPart}.
+     *
+     * @throws FlowableObjectNotFoundException
+     *             when the process definition doesn't exist.
+     * @throws FlowableException
+     *             when the migration document is not valid for the process definition.
+     */
+    ProcessInstanceMigrationBatch batchMigrateProcessInstancesOfProcessDefinition(String processDefinitionId, ProcessInstanceMigrationDocument processInstanceMigrationDocument);
+
+    /**
+     * Same as {@link #batchMigrateProcessInstancesOfProcessDefinition(String, ProcessInstanceMigrationDocument)}, with the process definition identified
+     * by its key, version and tenant id.
+     */
+    ProcessInstanceMigrationBatch batchMigrateProcessInstancesOfProcessDefinition(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId, ProcessInstanceMigrationDocument processInstanceMigrationDocument);
+
+    /**
+     * Returns the batch migration with the given id, or null when it doesn't exist.
+     */
+    ProcessInstanceMigrationBatch getProcessInstanceMigrationBatch(String batchId);
+
+    /**
+     * Returns the parts of a batch migration, one per process instance, restricted to the given status when it is not null.
+     */
+    List<ProcessInstanceMigrationBatchPart> getProcessInstanceMigrationBatchParts(String batchId, String status);
+
+    /**
+     * Returns the number of parts of a batch migration, restricted to the given status when it is not null.
+     */
+    long getProcessInstanceMigrationBatchPartCount(String batchId, String status);
+
+    /**
+     * Pauses a batch migration. Process instances that are being migrated complete their migration, the others stay waiting until the batch is resumed.
+     */
+    void pauseProcessInstanceMigrationBatch(String batchId);
+
+    /**
+     * Resumes a paused batch migration.
+     */
+    void resumeProcessInstanceMigrationBatch(String batchId);
+
+    /**
+     * Migrates the process instances of the failed parts of a batch migration again, after the batch is resumed when it is paused.
+     */
+    void retryFailedProcessInstanceMigrationBatchParts(String batchId);
+
+    /**
+     * Deletes a batch migration and all its parts. Process instances that have been migrated already are not affected.
+     */
+    void deleteProcessInstanceMigrationBatch(String batchId);
+
 }
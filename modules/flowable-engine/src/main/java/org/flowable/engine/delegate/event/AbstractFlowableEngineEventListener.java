@@ -187,6 +187,12 @@ public abstract class AbstractFlowableEngineEventListener extends AbstractFlowab
                     case HISTORIC_PROCESS_INSTANCE_ENDED:
                         historicProcessInstanceEnded((FlowableEngineEntityEvent) flowableEngineEvent);
                         break;
+                    case BATCH_PROGRESSED:
+                        batchProgressed((FlowableBatchEvent) flowableEngineEvent);
+                        break;
+                    case BATCH_COMPLETED:
+                        batchCompleted((FlowableBatchEvent) flowableEngineEvent);
+                        break;
                 }
             }
         }
@@ -291,6 +297,10 @@ public abstract class AbstractFlowableEngineEventListener extends AbstractFlowab
 
     protected void historicProcessInstanceEnded(FlowableEngineEntityEvent event) {}
 
+    protected void batchProgressed(FlowableBatchEvent event) {}
+
+    protected void batchCompleted(FlowableBatchEvent event) {}
+
     protected DelegateExecution getExecution(FlowableEngineEvent event) {
         String executionId = event.getExecutionId();
 
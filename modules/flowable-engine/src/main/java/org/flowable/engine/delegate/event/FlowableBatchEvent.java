@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.delegate.event;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
+
+/**
+ * An event related to the progress of a background batch operation, like suspending all process instances of a process definition
+ * or deleting a deployment together with its process instances. The process definition id of the event is the process definition
+ * of which the process instances were processed last.
+ */
+public interface FlowableBatchEvent extends FlowableEngineEvent {
+
+    String BATCH_TYPE_SUSPEND_PROCESS_INSTANCES = "suspendProcessInstances";
+    String BATCH_TYPE_ACTIVATE_PROCESS_INSTANCES = "activateProcessInstances";
+    String BATCH_TYPE_DELETE_DEPLOYMENT = "deleteDeployment";
+
+    /**
+     * @return the id of the batch, as returned when the batch operation was started.
+     */
+    String getBatchId();
+
+    /**
+     * @return the type of the batch operation, one of the BATCH_TYPE constants.
+     */
+    String getBatchType();
+
+    /**
+     * @return the total number of process instances processed by the batch so far.
+     */
+    long getProcessedCount();
+
+}
@@ -25,6 +25,7 @@ import org.flowable.common.engine.impl.event.FlowableEngineEventImpl;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.event.FlowableActivityCancelledEvent;
 import org.flowable.engine.delegate.event.FlowableActivityEvent;
+import org.flowable.engine.delegate.event.FlowableBatchEvent;
 import org.flowable.engine.delegate.event.FlowableCancelledEvent;
 import org.flowable.engine.delegate.event.FlowableEntityWithVariablesEvent;
 import org.flowable.engine.delegate.event.FlowableErrorEvent;
@@ -338,6 +339,15 @@ public class FlowableEventBuilder {
         return newEvent;
     }
 
+    public static FlowableBatchEvent createBatchEvent(FlowableEngineEventType type, String batchId, String batchType, String processDefinitionId, long processedCount) {
+        FlowableBatchEventImpl newEvent = new FlowableBatchEventImpl(type);
+        newEvent.setBatchId(batchId);
+        newEvent.setBatchType(batchType);
+        newEvent.setProcessDefinitionId(processDefinitionId);
+        newEvent.setProcessedCount(processedCount);
+        return newEvent;
+    }
+
     public static FlowableProcessTerminatedEvent createTerminateEvent(ExecutionEntity execution, Object cause) {
         return new FlowableProcessTerminatedEventImpl(execution, cause);
     }
@@ -20,6 +20,7 @@ import org.flowable.common.engine.impl.AbstractQuery;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.RuntimePersistenceUtil;
 import org.flowable.engine.runtime.ActivityInstance;
 import org.flowable.engine.runtime.ActivityInstanceQuery;
 
@@ -59,12 +60,16 @@ public class ActivityInstanceQueryImpl extends AbstractQuery<ActivityInstanceQue
     @Override
     public long executeCount(CommandContext commandContext) {
         checkQueryOk();
+        RuntimePersistenceUtil.validateActivityInstanceQuerySupported(CommandContextUtil.getProcessEngineConfiguration(commandContext),
+                processDefinitionId, processInstanceId, executionId);
         return CommandContextUtil.getActivityInstanceEntityManager(commandContext).findActivityInstanceCountByQueryCriteria(this);
     }
 
     @Override
     public List<ActivityInstance> executeList(CommandContext commandContext) {
         checkQueryOk();
+        RuntimePersistenceUtil.validateActivityInstanceQuerySupported(CommandContextUtil.getProcessEngineConfiguration(commandContext),
+                processDefinitionId, processInstanceId, executionId);
         return CommandContextUtil.getActivityInstanceEntityManager(commandContext).findActivityInstancesByQueryCriteria(this);
     }
 
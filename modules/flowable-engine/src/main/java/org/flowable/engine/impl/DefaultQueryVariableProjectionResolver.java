@@ -0,0 +1,104 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.impl.persistence.entity.VariableProjectionEntityManagerImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.SearchableVariableUtil;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.variable.service.impl.QueryVariableProjectionResolver;
+import org.flowable.variable.service.impl.QueryVariableValue;
+
+/**
+ * Marks the process variable conditions of a query that can be evaluated against the searchable variable projection.
+ * <p>
+ * This is only the case when the query is restricted to a process definition (by id, or by key with every version of that key declaring the
+ * variable as searchable with the same type) and the condition compares a process level variable with a value of that declared type.
+ * All other conditions keep using the generic variable table.
+ * <p>
+ * Task queries don't use the projection: their process variable conditions match the variables of any execution of the process instance,
+ * while only the variables of the process instance itself are projected.
+ * <p>
+ * Projected text values are truncated to {@link VariableProjectionEntityManagerImpl#MAX_TEXT_LENGTH} characters. Text conditions that could give
+ * a different result on a truncated value (a value of that length or longer, or a like pattern that isn't a plain prefix search) therefore
+ * also use the generic variable table.
+ */
+public class DefaultQueryVariableProjectionResolver implements QueryVariableProjectionResolver {
+
+    @Override
+    public void resolveProjectedVariables(String definitionId, String definitionKey, List<QueryVariableValue> queryVariableValues) {
+        List<Map<String, String>> searchableVariablesPerDefinition = getSearchableVariablesPerDefinition(definitionId, definitionKey);
+        for (QueryVariableValue queryVariableValue : queryVariableValues) {
+            queryVariableValue.setProjected(isProjectable(queryVariableValue, searchableVariablesPerDefinition));
+        }
+    }
+
+    protected List<Map<String, String>> getSearchableVariablesPerDefinition(String definitionId, String definitionKey) {
+        List<Map<String, String>> searchableVariablesPerDefinition = new ArrayList<>();
+        if (definitionId != null) {
+            searchableVariablesPerDefinition.add(SearchableVariableUtil.getSearchableVariables(definitionId));
+
+        } else if (definitionKey != null) {
+            ProcessDefinitionQueryImpl processDefinitionQuery = new ProcessDefinitionQueryImpl();
+            processDefinitionQuery.processDefinitionKey(definitionKey);
+            List<ProcessDefinition> processDefinitions = CommandContextUtil.getProcessDefinitionEntityManager().findProcessDefinitionsByQueryCriteria(processDefinitionQuery);
+            for (ProcessDefinition processDefinition : processDefinitions) {
+                searchableVariablesPerDefinition.add(SearchableVariableUtil.getSearchableVariables(processDefinition.getId()));
+            }
+        }
+        return searchableVariablesPerDefinition;
+    }
+
+    protected boolean isProjectable(QueryVariableValue queryVariableValue, List<Map<String, String>> searchableVariablesPerDefinition) {
+        if (searchableVariablesPerDefinition.isEmpty() || queryVariableValue.isLocal() || queryVariableValue.getTextValue2() != null) {
+            return false;
+        }
+
+        String operator = queryVariableValue.getOperator();
+        if ("EXISTS".equals(operator) || "NOT_EXISTS".equals(operator)) {
+            return false;
+        }
+
+        String type = queryVariableValue.getType();
+        if (type == null || "null".equals(type)) {
+            return false;
+        }
+
+        for (Map<String, String> searchableVariables : searchableVariablesPerDefinition) {
+            if (!type.equals(searchableVariables.get(queryVariableValue.getName()))) {
+                return false;
+            }
+        }
+
+        String textValue = queryVariableValue.getTextValue();
+        return textValue == null || isTruncationSafe(operator, textValue);
+    }
+
+    protected boolean isTruncationSafe(String operator, String textValue) {
+        if (textValue.length() >= VariableProjectionEntityManagerImpl.MAX_TEXT_LENGTH) {
+            return false;
+        }
+
+        if ("LIKE".equals(operator) || "LIKE_IGNORE_CASE".equals(operator)) {
+            // Only a prefix search gives the same result on a truncated value
+            String prefix = textValue.endsWith("%") ? textValue.substring(0, textValue.length() - 1) : textValue;
+            return prefix.indexOf('%') < 0 && prefix.indexOf('_') < 0;
+        }
+        return true;
+    }
+
+}
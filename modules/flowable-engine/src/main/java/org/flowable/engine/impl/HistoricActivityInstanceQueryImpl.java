@@ -52,6 +52,7 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
     protected Date startedAfter;
     protected Date finishedBefore;
     protected Date finishedAfter;
+    protected boolean historyTablePartitioned;
     protected List<String> tenantIds;
 
     public HistoricActivityInstanceQueryImpl() {
@@ -68,12 +69,14 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
     @Override
     public long executeCount(CommandContext commandContext) {
         checkQueryOk();
+        historyTablePartitioned = CommandContextUtil.getProcessEngineConfiguration(commandContext).isEnableHistoryTablePartitioning();
         return CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).findHistoricActivityInstanceCountByQueryCriteria(this);
     }
 
     @Override
     public List<HistoricActivityInstance> executeList(CommandContext commandContext) {
         checkQueryOk();
+        historyTablePartitioned = CommandContextUtil.getProcessEngineConfiguration(commandContext).isEnableHistoryTablePartitioning();
         return CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).findHistoricActivityInstancesByQueryCriteria(this);
     }
 
@@ -358,6 +361,10 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
     public Date getFinishedBefore() {
         return finishedBefore;
     }
+
+    public boolean isHistoryTablePartitioned() {
+        return historyTablePartitioned;
+    }
     
     public List<String> getTenantIds() {
         return tenantIds;
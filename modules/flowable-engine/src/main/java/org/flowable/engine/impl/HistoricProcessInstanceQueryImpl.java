@@ -15,8 +15,10 @@ package org.flowable.engine.impl;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -64,6 +66,7 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     protected Date startedAfter;
     protected Date finishedBefore;
     protected Date finishedAfter;
+    protected boolean historyTablePartitioned;
     protected String processDefinitionKey;
     protected String processDefinitionCategory;
     protected String processDefinitionName;
@@ -681,11 +684,28 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return specialOrderBy;
     }
 
+    @Override
+    public boolean isKeysetPagingSupported() {
+        return true;
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         checkQueryOk();
         ensureVariablesInitialized();
-        
+        historyTablePartitioned = CommandContextUtil.getProcessEngineConfiguration(commandContext).isEnableHistoryTablePartitioning();
+        resolveProjectedVariables(processDefinitionId, processDefinitionKey);
+
+        Set<String> restrictedProcessInstanceIds = findRestrictedProcessInstanceIds();
+        if (restrictedProcessInstanceIds == null) {
+            return doExecuteCount(commandContext);
+        } else if (restrictedProcessInstanceIds.isEmpty()) {
+            return 0L;
+        }
+        return executeRestrictedToProcessInstances(restrictedProcessInstanceIds, () -> doExecuteCount(commandContext));
+    }
+
+    protected long doExecuteCount(CommandContext commandContext) {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
         if (processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor() != null) {
             processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor().beforeHistoricProcessInstanceQueryExecute(this);
@@ -698,6 +718,19 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     public List<HistoricProcessInstance> executeList(CommandContext commandContext) {
         checkQueryOk();
         ensureVariablesInitialized();
+        historyTablePartitioned = CommandContextUtil.getProcessEngineConfiguration(commandContext).isEnableHistoryTablePartitioning();
+        resolveProjectedVariables(processDefinitionId, processDefinitionKey);
+
+        Set<String> restrictedProcessInstanceIds = findRestrictedProcessInstanceIds();
+        if (restrictedProcessInstanceIds == null) {
+            return doExecuteList(commandContext);
+        } else if (restrictedProcessInstanceIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return executeRestrictedToProcessInstances(restrictedProcessInstanceIds, () -> doExecuteList(commandContext));
+    }
+
+    protected List<HistoricProcessInstance> doExecuteList(CommandContext commandContext) {
         List<HistoricProcessInstance> results = null;
         
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
@@ -724,6 +757,40 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return results;
     }
 
+    /**
+     * Lets the configured history query backend prefilter the process instances on the variable conditions of this query.
+     * 
+     * @return the candidate process instance ids the query is restricted to, next to its variable conditions,
+     *         or null when the query must be executed unchanged
+     */
+    protected Set<String> findRestrictedProcessInstanceIds() {
+        for (HistoricProcessInstanceQueryImpl orQueryObject : orQueryObjects) {
+            if (!orQueryObject.getQueryVariableValues().isEmpty()) {
+                return null;
+            }
+        }
+
+        Set<String> backendProcessInstanceIds = findProcessInstanceIdsInHistoryQueryBackend(false);
+        if (backendProcessInstanceIds == null || processInstanceIds == null || processInstanceIds.isEmpty()) {
+            return backendProcessInstanceIds;
+        }
+
+        Set<String> restrictedProcessInstanceIds = new HashSet<>(backendProcessInstanceIds);
+        restrictedProcessInstanceIds.retainAll(processInstanceIds);
+        return restrictedProcessInstanceIds;
+    }
+
+    protected <T> T executeRestrictedToProcessInstances(Set<String> restrictedProcessInstanceIds, Supplier<T> execution) {
+        // The variable conditions stay part of the query, the index of this engine may not have seen the latest history yet
+        Set<String> originalProcessInstanceIds = processInstanceIds;
+        processInstanceIds = restrictedProcessInstanceIds;
+        try {
+            return execution.get();
+        } finally {
+            processInstanceIds = originalProcessInstanceIds;
+        }
+    }
+
     protected void localize(HistoricProcessInstance processInstance, CommandContext commandContext) {
         HistoricProcessInstanceEntity processInstanceEntity = (HistoricProcessInstanceEntity) processInstance;
         processInstanceEntity.setLocalizedName(null);
@@ -842,6 +909,10 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return finishedBefore;
     }
 
+    public boolean isHistoryTablePartitioned() {
+        return historyTablePartitioned;
+    }
+
     public String getInvolvedUser() {
         return involvedUser;
     }
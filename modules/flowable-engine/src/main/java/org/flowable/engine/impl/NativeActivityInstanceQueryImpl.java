@@ -19,6 +19,7 @@ import org.flowable.common.engine.impl.AbstractNativeQuery;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.RuntimePersistenceUtil;
 import org.flowable.engine.runtime.ActivityInstance;
 import org.flowable.engine.runtime.NativeActivityInstanceQuery;
 
@@ -38,11 +39,15 @@ public class NativeActivityInstanceQueryImpl extends AbstractNativeQuery<NativeA
 
     @Override
     public List<ActivityInstance> executeList(CommandContext commandContext, Map<String, Object> parameterMap) {
+        // the parameters of a native query can't be mapped to a process definition, so only the engine history level is checked
+        RuntimePersistenceUtil.validateActivityInstanceQuerySupported(CommandContextUtil.getProcessEngineConfiguration(commandContext), null, null, null);
         return CommandContextUtil.getActivityInstanceEntityManager(commandContext).findActivityInstancesByNativeQuery(parameterMap);
     }
 
     @Override
     public long executeCount(CommandContext commandContext, Map<String, Object> parameterMap) {
+        // the parameters of a native query can't be mapped to a process definition, so only the engine history level is checked
+        RuntimePersistenceUtil.validateActivityInstanceQuerySupported(CommandContextUtil.getProcessEngineConfiguration(commandContext), null, null, null);
         return CommandContextUtil.getActivityInstanceEntityManager(commandContext).findActivityInstanceCountByNativeQuery(parameterMap);
     }
 
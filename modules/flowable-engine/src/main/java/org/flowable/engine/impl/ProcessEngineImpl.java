@@ -30,7 +30,11 @@ import org.flowable.engine.RuntimeService;
 import org.flowable.engine.TaskService;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.db.HistoryTablePartitionManager;
+import org.flowable.engine.impl.history.index.HistoryIndex;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.cmd.HandleHistoryCleanupTimerJobCmd;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,6 +82,24 @@ public class ProcessEngineImpl implements ProcessEngine {
             commandExecutor.execute(processEngineConfiguration.getSchemaCommandConfig(), processEngineConfiguration.getSchemaManagementCmd());
         }
 
+        HistoryTablePartitionManager historyTablePartitionManager = processEngineConfiguration.getHistoryTablePartitionManager();
+        if (historyTablePartitionManager != null && processEngineConfiguration.isDbHistoryUsed()) {
+            commandExecutor.execute(commandContext -> {
+                historyTablePartitionManager.initPartitionedTables(commandContext);
+                historyTablePartitionManager.createPartitions(commandContext);
+                return null;
+            });
+        }
+
+        if (processEngineConfiguration.getHistoryQueryBackend() instanceof HistoryIndex) {
+            ((HistoryIndex) processEngineConfiguration.getHistoryQueryBackend()).start(commandExecutor, asyncHistoryExecutor != null ? asyncHistoryExecutor.getLockOwner() : null);
+        }
+
+        if (processEngineConfiguration.isUsingRelationalDatabase()) {
+            String historyCleaningTimeCycleConfig = processEngineConfiguration.isEnableHistoryCleaning() ? processEngineConfiguration.getHistoryCleaningTimeCycleConfig() : null;
+            commandExecutor.execute(new HandleHistoryCleanupTimerJobCmd(BpmnHistoryCleanupJobHandler.TYPE, null, historyCleaningTimeCycleConfig));
+        }
+
         if (name == null) {
             LOGGER.info("default ProcessEngine created");
         } else {
@@ -109,6 +131,9 @@ public class ProcessEngineImpl implements ProcessEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isActive()) {
             asyncHistoryExecutor.shutdown();
         }
+        if (processEngineConfiguration.getHistoryQueryBackend() instanceof HistoryIndex) {
+            ((HistoryIndex) processEngineConfiguration.getHistoryQueryBackend()).shutdown();
+        }
 
         Runnable closeRunnable = processEngineConfiguration.getProcessEngineCloseRunnable();
         if (closeRunnable != null) {
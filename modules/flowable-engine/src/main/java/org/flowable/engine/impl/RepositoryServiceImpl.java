@@ -29,6 +29,8 @@ import org.flowable.engine.impl.cmd.ActivateProcessDefinitionCmd;
 import org.flowable.engine.impl.cmd.AddEditorSourceExtraForModelCmd;
 import org.flowable.engine.impl.cmd.AddEditorSourceForModelCmd;
 import org.flowable.engine.impl.cmd.AddIdentityLinkForProcessDefinitionCmd;
+import org.flowable.engine.impl.cmd.BatchDeleteDeploymentCmd;
+import org.flowable.engine.impl.cmd.BatchSetProcessDefinitionStateCmd;
 import org.flowable.engine.impl.cmd.ChangeDeploymentTenantIdCmd;
 import org.flowable.engine.impl.cmd.CreateModelCmd;
 import org.flowable.engine.impl.cmd.DeleteDeploymentCmd;
@@ -111,6 +113,11 @@ public class RepositoryServiceImpl extends CommonEngineServiceImpl<ProcessEngine
         commandExecutor.execute(new DeleteDeploymentCmd(deploymentId, cascade));
     }
 
+    @Override
+    public String batchDeleteDeployment(String deploymentId) {
+        return commandExecutor.execute(new BatchDeleteDeploymentCmd(deploymentId));
+    }
+
     @Override
     public void setDeploymentCategory(String deploymentId, String category) {
         commandExecutor.execute(new SetDeploymentCategoryCmd(deploymentId, category));
@@ -246,6 +253,36 @@ public class RepositoryServiceImpl extends CommonEngineServiceImpl<ProcessEngine
         commandExecutor.execute(new ActivateProcessDefinitionCmd(null, processDefinitionKey, activateProcessInstances, activationDate, tenantId));
     }
 
+    @Override
+    public String batchSuspendProcessDefinitionById(String processDefinitionId) {
+        return commandExecutor.execute(new BatchSetProcessDefinitionStateCmd(new SuspendProcessDefinitionCmd(processDefinitionId, null, false, null, null)));
+    }
+
+    @Override
+    public String batchSuspendProcessDefinitionByKey(String processDefinitionKey) {
+        return commandExecutor.execute(new BatchSetProcessDefinitionStateCmd(new SuspendProcessDefinitionCmd(null, processDefinitionKey, false, null, null)));
+    }
+
+    @Override
+    public String batchSuspendProcessDefinitionByKey(String processDefinitionKey, String tenantId) {
+        return commandExecutor.execute(new BatchSetProcessDefinitionStateCmd(new SuspendProcessDefinitionCmd(null, processDefinitionKey, false, null, tenantId)));
+    }
+
+    @Override
+    public String batchActivateProcessDefinitionById(String processDefinitionId) {
+        return commandExecutor.execute(new BatchSetProcessDefinitionStateCmd(new ActivateProcessDefinitionCmd(processDefinitionId, null, false, null, null)));
+    }
+
+    @Override
+    public String batchActivateProcessDefinitionByKey(String processDefinitionKey) {
+        return commandExecutor.execute(new BatchSetProcessDefinitionStateCmd(new ActivateProcessDefinitionCmd(null, processDefinitionKey, false, null, null)));
+    }
+
+    @Override
+    public String batchActivateProcessDefinitionByKey(String processDefinitionKey, String tenantId) {
+        return commandExecutor.execute(new BatchSetProcessDefinitionStateCmd(new ActivateProcessDefinitionCmd(null, processDefinitionKey, false, null, tenantId)));
+    }
+
     @Override
     public void setProcessDefinitionCategory(String processDefinitionId, String category) {
         commandExecutor.execute(new SetProcessDefinitionCategoryCmd(processDefinitionId, category));
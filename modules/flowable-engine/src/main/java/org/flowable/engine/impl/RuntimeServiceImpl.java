@@ -33,11 +33,14 @@ import org.flowable.engine.impl.cmd.ActivateProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.AddEventListenerCommand;
 import org.flowable.engine.impl.cmd.AddIdentityLinkForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.AddMultiInstanceExecutionCmd;
+import org.flowable.engine.impl.cmd.BatchMigrateProcessInstancesCmd;
+import org.flowable.engine.impl.cmd.BroadcastEventCmd;
 import org.flowable.engine.impl.cmd.ChangeActivityStateCmd;
 import org.flowable.engine.impl.cmd.CompleteAdhocSubProcessCmd;
 import org.flowable.engine.impl.cmd.DeleteIdentityLinkForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.DeleteMultiInstanceExecutionCmd;
 import org.flowable.engine.impl.cmd.DeleteProcessInstanceCmd;
+import org.flowable.engine.impl.cmd.DeleteProcessInstanceMigrationBatchCmd;
 import org.flowable.engine.impl.cmd.DispatchEventCommand;
 import org.flowable.engine.impl.cmd.ExecuteActivityForAdhocSubProcessCmd;
 import org.flowable.engine.impl.cmd.FindActiveActivityIdsCmd;
@@ -56,14 +59,20 @@ import org.flowable.engine.impl.cmd.GetExecutionVariablesCmd;
 import org.flowable.engine.impl.cmd.GetExecutionsVariablesCmd;
 import org.flowable.engine.impl.cmd.GetIdentityLinksForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.GetProcessInstanceEventsCmd;
+import org.flowable.engine.impl.cmd.GetProcessInstanceMigrationBatchCmd;
+import org.flowable.engine.impl.cmd.GetProcessInstanceMigrationBatchPartCountCmd;
+import org.flowable.engine.impl.cmd.GetProcessInstanceMigrationBatchPartsCmd;
 import org.flowable.engine.impl.cmd.GetStartFormCmd;
 import org.flowable.engine.impl.cmd.GetStartFormModelCmd;
 import org.flowable.engine.impl.cmd.HasExecutionVariableCmd;
 import org.flowable.engine.impl.cmd.MessageEventReceivedCmd;
+import org.flowable.engine.impl.cmd.PauseProcessInstanceMigrationBatchCmd;
 import org.flowable.engine.impl.cmd.ProcessInstanceMigrationCmd;
 import org.flowable.engine.impl.cmd.ProcessInstanceMigrationValidationCmd;
 import org.flowable.engine.impl.cmd.RemoveEventListenerCommand;
 import org.flowable.engine.impl.cmd.RemoveExecutionVariablesCmd;
+import org.flowable.engine.impl.cmd.ResumeProcessInstanceMigrationBatchCmd;
+import org.flowable.engine.impl.cmd.RetryFailedProcessInstanceMigrationBatchPartsCmd;
 import org.flowable.engine.impl.cmd.SetExecutionVariablesCmd;
 import org.flowable.engine.impl.cmd.SetProcessInstanceBusinessKeyCmd;
 import org.flowable.engine.impl.cmd.SetProcessInstanceNameCmd;
@@ -77,6 +86,8 @@ import org.flowable.engine.impl.migration.ProcessInstanceMigrationBuilderImpl;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationValidationResult;
 import org.flowable.engine.impl.runtime.ChangeActivityStateBuilderImpl;
 import org.flowable.engine.impl.runtime.ProcessInstanceBuilderImpl;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatchPart;
 import org.flowable.engine.migration.ProcessInstanceMigrationBuilder;
 import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
 import org.flowable.engine.runtime.ChangeActivityStateBuilder;
@@ -638,6 +649,26 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         commandExecutor.execute(new MessageEventReceivedCmd(messageName, executionId, true));
     }
 
+    @Override
+    public String signalEventReceivedBroadcast(String signalName) {
+        return commandExecutor.execute(BroadcastEventCmd.signal(signalName, null));
+    }
+
+    @Override
+    public String signalEventReceivedBroadcastWithTenantId(String signalName, String tenantId) {
+        return commandExecutor.execute(BroadcastEventCmd.signal(signalName, tenantId));
+    }
+
+    @Override
+    public String messageEventReceivedBroadcast(String messageName, String businessKey) {
+        return commandExecutor.execute(BroadcastEventCmd.message(messageName, businessKey, null));
+    }
+
+    @Override
+    public String messageEventReceivedBroadcastWithTenantId(String messageName, String businessKey, String tenantId) {
+        return commandExecutor.execute(BroadcastEventCmd.message(messageName, businessKey, tenantId));
+    }
+
     @Override
     public void addEventListener(FlowableEventListener listenerToAdd) {
         commandExecutor.execute(new AddEventListenerCommand(listenerToAdd));
@@ -770,4 +801,49 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         commandExecutor.execute(ProcessInstanceMigrationCmd.forProcessDefinition(processDefinitionKey, processDefinitionVersion, processDefinitionTenantId, processInstanceMigrationDocument));
     }
 
+    @Override
+    public ProcessInstanceMigrationBatch batchMigrateProcessInstancesOfProcessDefinition(String processDefinitionId, ProcessInstanceMigrationDocument processInstanceMigrationDocument) {
+        return commandExecutor.execute(BatchMigrateProcessInstancesCmd.forProcessDefinition(processDefinitionId, processInstanceMigrationDocument));
+    }
+
+    @Override
+    public ProcessInstanceMigrationBatch batchMigrateProcessInstancesOfProcessDefinition(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId, ProcessInstanceMigrationDocument processInstanceMigrationDocument) {
+        return commandExecutor.execute(BatchMigrateProcessInstancesCmd.forProcessDefinition(processDefinitionKey, processDefinitionVersion, processDefinitionTenantId, processInstanceMigrationDocument));
+    }
+
+    @Override
+    public ProcessInstanceMigrationBatch getProcessInstanceMigrationBatch(String batchId) {
+        return commandExecutor.execute(new GetProcessInstanceMigrationBatchCmd(batchId));
+    }
+
+    @Override
+    public List<ProcessInstanceMigrationBatchPart> getProcessInstanceMigrationBatchParts(String batchId, String status) {
+        return commandExecutor.execute(new GetProcessInstanceMigrationBatchPartsCmd(batchId, status));
+    }
+
+    @Override
+    public long getProcessInstanceMigrationBatchPartCount(String batchId, String status) {
+        return commandExecutor.execute(new GetProcessInstanceMigrationBatchPartCountCmd(batchId, status));
+    }
+
+    @Override
+    public void pauseProcessInstanceMigrationBatch(String batchId) {
+        commandExecutor.execute(new PauseProcessInstanceMigrationBatchCmd(batchId));
+    }
+
+    @Override
+    public void resumeProcessInstanceMigrationBatch(String batchId) {
+        commandExecutor.execute(new ResumeProcessInstanceMigrationBatchCmd(batchId));
+    }
+
+    @Override
+    public void retryFailedProcessInstanceMigrationBatchParts(String batchId) {
+        commandExecutor.execute(new RetryFailedProcessInstanceMigrationBatchPartsCmd(batchId));
+    }
+
+    @Override
+    public void deleteProcessInstanceMigrationBatch(String batchId) {
+        commandExecutor.execute(new DeleteProcessInstanceMigrationBatchCmd(batchId));
+    }
+
 }
@@ -49,6 +49,7 @@ public class DefaultFlowableEngineAgenda extends AbstractAgenda implements Flowa
     public void planOperation(Runnable operation, ExecutionEntity executionEntity) {
         operations.add(operation);
         LOGGER.debug("Operation {} added to agenda", operation.getClass());
+        recordPlannedOperation(operation);
 
         if (executionEntity != null) {
             CommandContextUtil.addInvolvedExecution(commandContext, executionEntity);
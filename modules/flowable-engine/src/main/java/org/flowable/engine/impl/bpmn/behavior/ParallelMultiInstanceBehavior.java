@@ -25,13 +25,17 @@ import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.SubProcess;
 import org.flowable.bpmn.model.Transaction;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.bpmn.helper.ScopeUtil;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstancePartitionJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
 
 /**
  * @author Joram Barrez
@@ -41,6 +45,12 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * When larger than zero, the instances are not created in the transaction that reaches the activity,
+     * but by asynchronous jobs that each create and start at most this number of instances.
+     */
+    protected int partitionSize;
+
     public ParallelMultiInstanceBehavior(Activity activity, AbstractBpmnActivityBehavior originalActivityBehavior) {
         super(activity, originalActivityBehavior);
     }
@@ -59,6 +69,10 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_COMPLETED_INSTANCES, 0);
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfInstances);
 
+        if (isPartitioned()) {
+            return schedulePartitions((ExecutionEntity) multiInstanceRootExecution, nrOfInstances);
+        }
+
         List<ExecutionEntity> concurrentExecutions = new ArrayList<>();
         for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
             ExecutionEntity concurrentExecution = CommandContextUtil.getExecutionEntityManager()
@@ -98,12 +112,98 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         return nrOfInstances;
     }
 
+    /**
+     * Schedules one job per partition of instances. The jobs are bound to the multi instance root execution like a regular
+     * async continuation, so they are removed together with it, but they are not exclusive, so the partitions can be executed in parallel.
+     */
+    protected int schedulePartitions(ExecutionEntity multiInstanceRootExecution, int nrOfInstances) {
+        if (nrOfInstances == 0) {
+            return 0;
+        }
+
+        JobService jobService = CommandContextUtil.getJobService();
+        for (int from = 0; from < nrOfInstances; from += partitionSize) {
+            int to = Math.min(from + partitionSize, nrOfInstances);
+
+            JobEntity job = jobService.createJob();
+            job.setExecutionId(multiInstanceRootExecution.getId());
+            job.setProcessInstanceId(multiInstanceRootExecution.getProcessInstanceId());
+            job.setProcessDefinitionId(multiInstanceRootExecution.getProcessDefinitionId());
+            job.setScopeId(multiInstanceRootExecution.getId());
+            job.setScopeType(ScopeTypes.BPMN_MULTI_INSTANCE_PARTITION);
+            job.setJobHandlerType(ParallelMultiInstancePartitionJobHandler.TYPE);
+            job.setJobHandlerConfiguration(ParallelMultiInstancePartitionJobHandler.createConfiguration(multiInstanceRootExecution.getId(), from, to));
+
+            // Inherit tenant id (if applicable)
+            if (multiInstanceRootExecution.getTenantId() != null) {
+                job.setTenantId(multiInstanceRootExecution.getTenantId());
+            }
+
+            multiInstanceRootExecution.getJobs().add(job);
+
+            jobService.createAsyncJob(job, false);
+            jobService.scheduleAsyncJob(job);
+        }
+
+        // See createInstances: the root must not show up in execution queries for the activity
+        multiInstanceRootExecution.setActive(false);
+
+        return nrOfInstances;
+    }
+
+    /**
+     * Creates and starts the instances with a loop counter in the range [from, to) of a partitioned multi instance activity.
+     */
+    @SuppressWarnings("rawtypes")
+    public void executePartition(ExecutionEntity multiInstanceRootExecution, int from, int to) {
+        int nrOfInstances = getLoopVariable(multiInstanceRootExecution, NUMBER_OF_INSTANCES);
+
+        List elements = null;
+        if (usesCollection() && collectionElementVariable != null) {
+            // Resolved once per partition instead of once per instance
+            elements = new ArrayList<>(resolveAndValidateCollection(multiInstanceRootExecution));
+        }
+
+        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager();
+        List<ExecutionEntity> concurrentExecutions = new ArrayList<>(to - from);
+        for (int loopCounter = from; loopCounter < to; loopCounter++) {
+            ExecutionEntity concurrentExecution = executionEntityManager.createChildExecution(multiInstanceRootExecution);
+            concurrentExecution.setCurrentFlowElement(activity);
+            concurrentExecution.setActive(true);
+            concurrentExecution.setScope(false);
+
+            concurrentExecutions.add(concurrentExecution);
+            logLoopDetails(concurrentExecution, "initialized", loopCounter, 0, nrOfInstances, nrOfInstances);
+        }
+
+        // Same as in createInstances: all executions of the partition MUST be created up front
+        for (int i = 0; i < concurrentExecutions.size(); i++) {
+            ExecutionEntity concurrentExecution = concurrentExecutions.get(i);
+            if (concurrentExecution.isActive()
+                    && !concurrentExecution.isEnded()
+                    && !concurrentExecution.getParent().isEnded()) {
+
+                int loopCounter = from + i;
+                if (elements != null) {
+                    setLoopVariable(concurrentExecution, collectionElementVariable, elements.get(loopCounter));
+                }
+                concurrentExecution.setCurrentFlowElement(activity);
+                CommandContextUtil.getAgenda().planContinueMultiInstanceOperation(concurrentExecution, multiInstanceRootExecution, loopCounter);
+            }
+        }
+    }
+
     /**
      * Called when the wrapped {@link ActivityBehavior} calls the {@link AbstractBpmnActivityBehavior#leave(DelegateExecution)} method. Handles the completion of one of the parallel instances
      */
     @Override
     public void leave(DelegateExecution execution) {
 
+        if (isPartitioned() && !execution.isMultiInstanceRoot()) {
+            leavePartitionedInstance(execution);
+            return;
+        }
+
         boolean zeroNrOfInstances = false;
         if (resolveNrOfInstances(execution) == 0) {
             // Empty collection, just leave.
@@ -153,18 +253,7 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
                 verifyCallActivity(leavingExecution, activity);
                 
                 if (isCompletionConditionSatisfied) {
-                    LinkedList<DelegateExecution> toVerify = new LinkedList<>(miRootExecution.getExecutions());
-                    while (!toVerify.isEmpty()) {
-                        DelegateExecution childExecution = toVerify.pop();
-                        if (((ExecutionEntity) childExecution).isInserted()) {
-                            childExecution.inactivate();
-                        }
-                        
-                        List<DelegateExecution> childExecutions = (List<DelegateExecution>) childExecution.getExecutions();
-                        if (childExecutions != null && !childExecutions.isEmpty()) {
-                            toVerify.addAll(childExecutions);
-                        }
-                    }
+                    inactivateInsertedChildExecutions(miRootExecution);
                     sendCompletedWithConditionEvent(leavingExecution);
                 }
                 else {
@@ -180,6 +269,62 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         }
     }
 
+    /**
+     * Completion of one instance of a partitioned multi instance activity. The loop variables of the multi instance root execution
+     * are updated like in the non partitioned case, so two instances that complete concurrently conflict on the optimistic lock
+     * of the loop variables and only one of them can see the last completed instance and leave the activity.
+     */
+    protected void leavePartitionedInstance(DelegateExecution execution) {
+        ExecutionEntity executionEntity = (ExecutionEntity) execution;
+        ExecutionEntity miRootExecution = (ExecutionEntity) getMultiInstanceRootExecution(execution);
+
+        int loopCounter = getLoopVariable(execution, getCollectionElementIndexVariable());
+        int nrOfInstances = getLoopVariable(miRootExecution, NUMBER_OF_INSTANCES);
+
+        CommandContextUtil.getActivityInstanceEntityManager().recordActivityEnd(executionEntity, null);
+        callActivityEndListeners(execution);
+        executionEntity.inactivate();
+
+        int nrOfCompletedInstances = getLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES) + 1;
+        int nrOfActiveInstances = getLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES) - 1;
+        setLoopVariable(miRootExecution, NUMBER_OF_COMPLETED_INSTANCES, nrOfCompletedInstances);
+        setLoopVariable(miRootExecution, NUMBER_OF_ACTIVE_INSTANCES, nrOfActiveInstances);
+
+        logLoopDetails(execution, "instance completed", loopCounter, nrOfCompletedInstances, nrOfActiveInstances, nrOfInstances);
+
+        boolean isCompletionConditionSatisfied = completionConditionSatisfied(miRootExecution);
+        if (nrOfCompletedInstances >= nrOfInstances || isCompletionConditionSatisfied) {
+            Activity activity = (Activity) execution.getCurrentFlowElement();
+            verifyCompensation(execution, miRootExecution, activity);
+            verifyCallActivity(miRootExecution, activity);
+
+            if (isCompletionConditionSatisfied) {
+                inactivateInsertedChildExecutions(miRootExecution);
+                sendCompletedWithConditionEvent(miRootExecution);
+            } else {
+                sendCompletedEvent(miRootExecution);
+            }
+
+            super.leave(miRootExecution);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void inactivateInsertedChildExecutions(DelegateExecution miRootExecution) {
+        LinkedList<DelegateExecution> toVerify = new LinkedList<>(miRootExecution.getExecutions());
+        while (!toVerify.isEmpty()) {
+            DelegateExecution childExecution = toVerify.pop();
+            if (((ExecutionEntity) childExecution).isInserted()) {
+                childExecution.inactivate();
+            }
+            
+            List<DelegateExecution> childExecutions = (List<DelegateExecution>) childExecution.getExecutions();
+            if (childExecutions != null && !childExecutions.isEmpty()) {
+                toVerify.addAll(childExecutions);
+            }
+        }
+    }
+
     protected Activity verifyCompensation(DelegateExecution execution, ExecutionEntity executionToUse, Activity activity) {
         boolean hasCompensation = false;
         if (activity instanceof Transaction) {
@@ -258,4 +403,16 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
 
         parentScopeExecution.forceUpdate();
     }
+
+    public boolean isPartitioned() {
+        return partitionSize > 0;
+    }
+
+    public int getPartitionSize() {
+        return partitionSize;
+    }
+
+    public void setPartitionSize(int partitionSize) {
+        this.partitionSize = partitionSize;
+    }
 }
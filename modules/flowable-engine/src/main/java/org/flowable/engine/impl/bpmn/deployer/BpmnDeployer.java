@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.bpmn.deployer;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -35,6 +36,8 @@ import org.flowable.common.engine.impl.EngineDeployer;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
+import org.flowable.common.engine.impl.persistence.deploy.ParallelDeploymentUtil;
 import org.flowable.engine.DynamicBpmnConstants;
 import org.flowable.engine.DynamicBpmnService;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
@@ -128,14 +131,23 @@ public class BpmnDeployer implements EngineDeployer {
 
         final ResourceEntityManager resourceEntityManager = processEngineConfiguration.getResourceEntityManager();
 
+        List<ProcessDefinitionEntity> processDefinitionsNeedingDiagram = new ArrayList<>();
         for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
             if (processDefinitionDiagramHelper.shouldCreateDiagram(processDefinition, deploymentEntity)) {
-                ResourceEntity resource = processDefinitionDiagramHelper.createDiagramForProcessDefinition(
-                        processDefinition, parsedDeployment.getBpmnParseForProcessDefinition(processDefinition));
-                if (resource != null) {
-                    resourceEntityManager.insert(resource, false);
-                    deploymentEntity.addResource(resource); // now we'll find it if we look for the diagram name later.
-                }
+                processDefinitionsNeedingDiagram.add(processDefinition);
+            }
+        }
+
+        // Only the generation of the diagrams can be done at the same time, they are persisted one after the other in the deployment order
+        List<ResourceEntity> diagramResources = ParallelDeploymentUtil.process(processDefinitionsNeedingDiagram,
+                processEngineConfiguration.getDeploymentExecutorService(),
+                processDefinition -> processDefinitionDiagramHelper.createDiagramForProcessDefinition(
+                        processDefinition, parsedDeployment.getBpmnParseForProcessDefinition(processDefinition)));
+
+        for (ResourceEntity resource : diagramResources) {
+            if (resource != null) {
+                resourceEntityManager.insert(resource, false);
+                deploymentEntity.addResource(resource); // now we'll find it if we look for the diagram name later.
             }
         }
     }
@@ -277,10 +289,15 @@ public class BpmnDeployer implements EngineDeployer {
     protected void persistProcessDefinitionsAndAuthorizations(ParsedDeployment parsedDeployment) {
         CommandContext commandContext = Context.getCommandContext();
         ProcessDefinitionEntityManager processDefinitionManager = CommandContextUtil.getProcessDefinitionEntityManager(commandContext);
+        LatestDefinitionCache latestDefinitionCache = CommandContextUtil.getProcessEngineConfiguration(commandContext).getLatestDefinitionCache();
 
         for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
             processDefinitionManager.insert(processDefinition, false);
             bpmnDeploymentHelper.addAuthorizationsForNewProcessDefinition(parsedDeployment.getProcessModelForProcessDefinition(processDefinition), processDefinition);
+
+            if (latestDefinitionCache != null && processDefinition.getDerivedFrom() == null) {
+                latestDefinitionCache.putOnCommit(processDefinition.getKey(), processDefinition.getTenantId(), processDefinition.getId(), processDefinition.getVersion());
+            }
         }
     }
 
@@ -17,9 +17,11 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.common.engine.api.repository.EngineResource;
+import org.flowable.common.engine.impl.persistence.deploy.ParallelDeploymentUtil;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.bpmn.parser.BpmnParser;
 import org.flowable.engine.impl.cmd.DeploymentSettings;
@@ -35,6 +37,7 @@ public class ParsedDeploymentBuilder {
     protected EngineDeployment deployment;
     protected BpmnParser bpmnParser;
     protected Map<String, Object> deploymentSettings;
+    protected ExecutorService executorService;
 
     public ParsedDeploymentBuilder(EngineDeployment deployment,
             BpmnParser bpmnParser, Map<String, Object> deploymentSettings) {
@@ -49,15 +52,24 @@ public class ParsedDeploymentBuilder {
         Map<ProcessDefinitionEntity, EngineResource> processDefinitionsToResourceMap = new LinkedHashMap<>();
 
         DeploymentEntity deploymentEntity = (DeploymentEntity) deployment;
+        List<EngineResource> bpmnResources = new ArrayList<>();
         for (EngineResource resource : deploymentEntity.getResources().values()) {
             if (isBpmnResource(resource.getName())) {
                 LOGGER.debug("Processing BPMN resource {}", resource.getName());
-                BpmnParse parse = createBpmnParseFromResource(resource);
-                for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
-                    processDefinitions.add(processDefinition);
-                    processDefinitionsToBpmnParseMap.put(processDefinition, parse);
-                    processDefinitionsToResourceMap.put(processDefinition, resource);
-                }
+                bpmnResources.add(resource);
+            }
+        }
+
+        // Parsing and validation don't need the database, so multiple resources can be parsed at the same time.
+        // The parses are returned in the order of the resources, which keeps the order of the process definitions.
+        List<BpmnParse> parses = ParallelDeploymentUtil.process(bpmnResources, executorService, this::createBpmnParseFromResource);
+        for (int i = 0; i < bpmnResources.size(); i++) {
+            EngineResource resource = bpmnResources.get(i);
+            BpmnParse parse = parses.get(i);
+            for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
+                processDefinitions.add(processDefinition);
+                processDefinitionsToBpmnParseMap.put(processDefinition, parse);
+                processDefinitionsToResourceMap.put(processDefinition, resource);
             }
         }
 
@@ -112,4 +124,16 @@ public class ParsedDeploymentBuilder {
         return false;
     }
 
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the executor service on which the BPMN resources are parsed and validated at the same time. Without one, they are parsed one after the other.
+     */
+    public ParsedDeploymentBuilder executorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
 }
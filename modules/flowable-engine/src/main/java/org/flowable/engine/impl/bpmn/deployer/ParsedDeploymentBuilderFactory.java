@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.bpmn.deployer;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.engine.impl.bpmn.parser.BpmnParser;
@@ -20,6 +21,7 @@ import org.flowable.engine.impl.bpmn.parser.BpmnParser;
 public class ParsedDeploymentBuilderFactory {
 
     protected BpmnParser bpmnParser;
+    protected ExecutorService executorService;
 
     public BpmnParser getBpmnParser() {
         return bpmnParser;
@@ -29,13 +31,21 @@ public class ParsedDeploymentBuilderFactory {
         this.bpmnParser = bpmnParser;
     }
 
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
     public ParsedDeploymentBuilder getBuilderForDeployment(EngineDeployment deployment) {
         return getBuilderForDeploymentAndSettings(deployment, null);
     }
 
     public ParsedDeploymentBuilder getBuilderForDeploymentAndSettings(EngineDeployment deployment,
             Map<String, Object> deploymentSettings) {
-        return new ParsedDeploymentBuilder(deployment, bpmnParser, deploymentSettings);
+        return new ParsedDeploymentBuilder(deployment, bpmnParser, deploymentSettings).executorService(executorService);
     }
 
 }
\ No newline at end of file
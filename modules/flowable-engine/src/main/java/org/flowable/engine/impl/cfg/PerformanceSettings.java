@@ -61,6 +61,16 @@ public class PerformanceSettings {
      */
     protected boolean enableLocalization = true;
 
+    /**
+     * If true, process instances whose effective history level is {@link org.flowable.common.engine.impl.history.HistoryLevel#NONE}
+     * (either the engine history level or the level set on the process definition) keep only the runtime data that is needed to execute them:
+     * no runtime activity instances are written and the relationship counts are not maintained on their executions.
+     * 
+     * This saves inserts and updates for every activity that is executed, at the cost of not being able to query the runtime activity instances
+     * of such process instances (those queries are rejected with an exception).
+     */
+    protected boolean enableLightweightRuntimePersistence = false;
+
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
@@ -109,4 +119,12 @@ public class PerformanceSettings {
         this.enableLocalization = enableLocalization;
     }
 
+    public boolean isEnableLightweightRuntimePersistence() {
+        return enableLightweightRuntimePersistence;
+    }
+
+    public void setEnableLightweightRuntimePersistence(boolean enableLightweightRuntimePersistence) {
+        this.enableLightweightRuntimePersistence = enableLightweightRuntimePersistence;
+    }
+
 }
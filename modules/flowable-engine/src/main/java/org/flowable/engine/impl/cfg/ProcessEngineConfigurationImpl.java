@@ -27,6 +27,7 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
 
 import javax.xml.namespace.QName;
 
@@ -115,6 +116,7 @@ import org.flowable.engine.delegate.event.impl.BpmnModelEventDispatchAction;
 import org.flowable.engine.dynamic.DynamicStateManager;
 import org.flowable.engine.form.AbstractFormType;
 import org.flowable.engine.impl.DefaultProcessJobParentStateResolver;
+import org.flowable.engine.impl.DefaultQueryVariableProjectionResolver;
 import org.flowable.engine.impl.DynamicBpmnServiceImpl;
 import org.flowable.engine.impl.FormServiceImpl;
 import org.flowable.engine.impl.HistoryServiceImpl;
@@ -186,6 +188,7 @@ import org.flowable.engine.impl.cmd.ValidateV5EntitiesCmd;
 import org.flowable.engine.impl.cmmn.CaseInstanceService;
 import org.flowable.engine.impl.db.DbIdGenerator;
 import org.flowable.engine.impl.db.EntityDependencyOrder;
+import org.flowable.engine.impl.db.HistoryTablePartitionManager;
 import org.flowable.engine.impl.db.ProcessDbSchemaManager;
 import org.flowable.engine.impl.delegate.invocation.DefaultDelegateInterceptor;
 import org.flowable.engine.impl.dynamic.DefaultDynamicStateManager;
@@ -206,6 +209,7 @@ import org.flowable.engine.impl.form.JuelFormEngine;
 import org.flowable.engine.impl.form.LongFormType;
 import org.flowable.engine.impl.form.StringFormType;
 import org.flowable.engine.impl.formhandler.DefaultFormFieldHandler;
+import org.flowable.engine.impl.history.BpmnHistoryCleaningManager;
 import org.flowable.engine.impl.history.DefaultHistoryManager;
 import org.flowable.engine.impl.history.DefaultHistoryTaskManager;
 import org.flowable.engine.impl.history.DefaultHistoryVariableManager;
@@ -240,6 +244,8 @@ import org.flowable.engine.impl.history.async.json.transformer.UpdateProcessDefi
 import org.flowable.engine.impl.history.async.json.transformer.VariableCreatedHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.VariableRemovedHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.VariableUpdatedHistoryJsonTransformer;
+import org.flowable.engine.impl.history.index.HistoryIndex;
+import org.flowable.engine.impl.history.index.HistoryIndexJsonTransformer;
 import org.flowable.engine.impl.interceptor.BpmnOverrideContextInterceptor;
 import org.flowable.engine.impl.interceptor.CommandInvoker;
 import org.flowable.engine.impl.interceptor.DelegateInterceptor;
@@ -247,8 +253,15 @@ import org.flowable.engine.impl.interceptor.LoggingExecutionTreeCommandInvoker;
 import org.flowable.engine.impl.jobexecutor.AsyncCompleteCallActivityJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
+import org.flowable.engine.impl.jobexecutor.EventBroadcastChunkJobHandler;
+import org.flowable.engine.impl.jobexecutor.EventBroadcastPlanJobHandler;
+import org.flowable.engine.impl.jobexecutor.ParallelMultiInstancePartitionJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessDefinitionInstancesBatchJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchChunkJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchPlanJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
@@ -286,12 +299,18 @@ import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManage
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchEntityManager;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchPartEntityManager;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchPartEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityManager;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ResourceEntityManager;
 import org.flowable.engine.impl.persistence.entity.ResourceEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.engine.impl.persistence.entity.TableDataManagerImpl;
+import org.flowable.engine.impl.persistence.entity.VariableProjectionEntityManager;
+import org.flowable.engine.impl.persistence.entity.VariableProjectionEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.data.ActivityInstanceDataManager;
 import org.flowable.engine.impl.persistence.entity.data.AttachmentDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ByteArrayDataManager;
@@ -306,8 +325,11 @@ import org.flowable.engine.impl.persistence.entity.data.HistoricProcessInstanceD
 import org.flowable.engine.impl.persistence.entity.data.ModelDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ProcessDefinitionDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ProcessDefinitionInfoDataManager;
+import org.flowable.engine.impl.persistence.entity.data.ProcessInstanceMigrationBatchDataManager;
+import org.flowable.engine.impl.persistence.entity.data.ProcessInstanceMigrationBatchPartDataManager;
 import org.flowable.engine.impl.persistence.entity.data.PropertyDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ResourceDataManager;
+import org.flowable.engine.impl.persistence.entity.data.VariableProjectionDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisActivityInstanceDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisAttachmentDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisByteArrayDataManager;
@@ -322,8 +344,11 @@ import org.flowable.engine.impl.persistence.entity.data.impl.MybatisHistoricProc
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisModelDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisProcessDefinitionDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisProcessDefinitionInfoDataManager;
+import org.flowable.engine.impl.persistence.entity.data.impl.MybatisProcessInstanceMigrationBatchDataManager;
+import org.flowable.engine.impl.persistence.entity.data.impl.MybatisProcessInstanceMigrationBatchPartDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisPropertyDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisResourceDataManager;
+import org.flowable.engine.impl.persistence.entity.data.impl.MybatisVariableProjectionDataManager;
 import org.flowable.engine.impl.scripting.VariableScopeResolverFactory;
 import org.flowable.engine.impl.util.ProcessInstanceHelper;
 import org.flowable.engine.migration.ProcessInstanceMigrationManager;
@@ -375,7 +400,9 @@ import org.flowable.validation.ProcessValidatorFactory;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.api.types.VariableTypes;
 import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.history.HistoryQueryBackend;
 import org.flowable.variable.service.history.InternalHistoryVariableManager;
+import org.flowable.variable.service.impl.QueryVariableProjectionResolver;
 import org.flowable.variable.service.impl.db.IbatisVariableTypeHandler;
 import org.flowable.variable.service.impl.db.VariableDbSchemaManager;
 import org.flowable.variable.service.impl.types.BooleanType;
@@ -391,6 +418,8 @@ import org.flowable.variable.service.impl.types.JPAEntityVariableType;
 import org.flowable.variable.service.impl.types.JodaDateTimeType;
 import org.flowable.variable.service.impl.types.JodaDateType;
 import org.flowable.variable.service.impl.types.JsonType;
+import org.flowable.variable.service.impl.types.LargeObjectStore;
+import org.flowable.variable.service.impl.types.LargeObjectType;
 import org.flowable.variable.service.impl.types.LongJsonType;
 import org.flowable.variable.service.impl.types.LongStringType;
 import org.flowable.variable.service.impl.types.LongType;
@@ -447,6 +476,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected ProcessDefinitionInfoDataManager processDefinitionInfoDataManager;
     protected PropertyDataManager propertyDataManager;
     protected ResourceDataManager resourceDataManager;
+    protected VariableProjectionDataManager variableProjectionDataManager;
+    protected ProcessInstanceMigrationBatchDataManager processInstanceMigrationBatchDataManager;
+    protected ProcessInstanceMigrationBatchPartDataManager processInstanceMigrationBatchPartDataManager;
 
     // ENTITY MANAGERS ///////////////////////////////////////////////////////////
 
@@ -466,6 +498,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected ProcessDefinitionInfoEntityManager processDefinitionInfoEntityManager;
     protected PropertyEntityManager propertyEntityManager;
     protected ResourceEntityManager resourceEntityManager;
+    protected VariableProjectionEntityManager variableProjectionEntityManager;
+    protected ProcessInstanceMigrationBatchEntityManager processInstanceMigrationBatchEntityManager;
+    protected ProcessInstanceMigrationBatchPartEntityManager processInstanceMigrationBatchPartEntityManager;
     protected TableDataManager tableDataManager;
 
     // Candidate Manager
@@ -482,6 +517,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int asyncHistoryJsonGroupingThreshold = 10;
     protected AsyncHistoryListener asyncHistoryListener;
 
+    /**
+     * When enabled (requires async history), historic process instance and task queries with variable conditions are narrowed down
+     * using an in-memory {@link HistoryIndex} that is fed by the async history jobs.
+     * Only for engines that are the only ones executing the history jobs of their database, the index disables itself otherwise.
+     */
+    protected boolean enableHistoryIndex;
+    protected HistoryQueryBackend historyQueryBackend;
+
+    /**
+     * When enabled (PostgreSQL, MySQL and Oracle only), ACT_HI_PROCINST, ACT_HI_ACTINST and ACT_HI_DETAIL are created as tables partitioned by month.
+     * Historic process instance and activity instance queries with a finished before condition then also restrict the start time, so that
+     * the database can skip the later partitions. With history cleaning enabled, the partitions of which all the process instances are cleaned are dropped.
+     * The engine checks at boot which tables really are partitioned. The tables that aren't (e.g. created before this was enabled) are logged and left alone.
+     */
+    protected boolean enableHistoryTablePartitioning;
+    protected int historyPartitionsCreatedAhead = 3;
+    protected HistoryTablePartitionManager historyTablePartitionManager;
+
     // Job Manager
 
     protected JobManager jobManager;
@@ -534,6 +587,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected List<AsyncRunnableExecutionExceptionHandler> customAsyncRunnableExecutionExceptionHandlers;
     protected boolean addDefaultExceptionHandler = true;
 
+    /**
+     * The number of subscriptions delivered in one transaction when broadcasting a signal or message
+     * with {@link org.flowable.engine.RuntimeService#signalEventReceivedBroadcast(String)} and related methods.
+     */
+    protected int eventBroadcastChunkSize = 100;
+
+    /**
+     * The number of process instances migrated in one transaction by a batch migration started
+     * with {@link org.flowable.engine.RuntimeService#batchMigrateProcessInstancesOfProcessDefinition(String, org.flowable.engine.migration.ProcessInstanceMigrationDocument)}.
+     */
+    protected int processInstanceMigrationBatchChunkSize = 100;
+
     protected Map<String, HistoryJobHandler> historyJobHandlers;
     protected List<HistoryJobHandler> customHistoryJobHandlers;
     protected List<HistoryJsonTransformer> customHistoryJsonTransformers;
@@ -689,6 +754,30 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      * expired jobs.
      */
     protected int asyncExecutorResetExpiredJobsPageSize = 3;
+
+    /**
+     * When true, the process instance lock of an exclusive job is taken in the same transaction as the job execution,
+     * instead of in a separate transaction before it. This saves a transaction per exclusive job, at the price of holding
+     * the database row lock of the process instance for the duration of the job: other transactions updating the process
+     * instance, like a lock attempt of another node or a user completing a task, block on the database until the job
+     * is done instead of failing fast. Leave this disabled (the default) when jobs are long running; it is best combined
+     * with {@link #setAsyncExecutorExclusiveJobAffinityEnabled(boolean)}.
+     */
+    protected boolean asyncExecutorLockExclusiveJobsInJobTransaction;
+
+    /**
+     * When true, the default async executor hands all exclusive jobs of the same process instance to the same serial executor,
+     * so they are executed one after the other on this node instead of competing for the process instance lock.
+     */
+    protected boolean asyncExecutorExclusiveJobAffinityEnabled;
+
+    /**
+     * When true, the default async executor doesn't use a separate acquisition thread. Worker threads lock a small batch of jobs
+     * themselves in one short transaction and then execute each of them on the same thread, in its own transaction as usual.
+     * This only saves the handoff to the thread pool. The number of worker threads defaults to the core pool size.
+     */
+    protected boolean asyncExecutorFusedJobAcquisitionEnabled;
+    protected int asyncExecutorFusedJobAcquisitionThreads = -1;
     
     /**
      * Flags to control which threads (when using the default threadpool-based async executor) are started.
@@ -746,6 +835,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     // BPMN PARSER //////////////////////////////////////////////////////////////
 
+    /**
+     * Note that with a deployment parallelism higher than 1 (see {@link #setDeploymentParallelism(int)}), BPMN resources are parsed
+     * on multiple threads at the same time. Custom parse handlers then must be thread-safe and must not use the database.
+     */
     protected List<BpmnParseHandler> preBpmnParseHandlers;
     protected List<BpmnParseHandler> postBpmnParseHandlers;
     protected List<BpmnParseHandler> customDefaultBpmnParseHandlers;
@@ -770,6 +863,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected VariableTypes variableTypes;
 
     protected InternalHistoryVariableManager internalHistoryVariableManager;
+    protected QueryVariableProjectionResolver queryVariableProjectionResolver;
     protected InternalTaskVariableScopeResolver internalTaskVariableScopeResolver;
     protected InternalHistoryTaskManager internalHistoryTaskManager;
     protected InternalTaskAssignmentManager internalTaskAssignmentManager;
@@ -791,6 +885,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * When set, a {@link LargeObjectType} backed by this store is registered, which allows streams to be stored as variables without keeping their content in memory.
+     */
+    protected LargeObjectStore largeObjectStore;
+
     protected ExpressionManager expressionManager;
     protected List<String> customScriptingEngineClasses;
     protected ScriptingEngines scriptingEngines;
@@ -843,6 +942,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int batchSizeProcessInstances = 25;
     protected int batchSizeTasks = 25;
 
+    /**
+     * Optional executor used to notify {@link org.flowable.common.engine.api.delegate.event.FlowableAsyncEventListener}s after the transaction
+     * has been committed, instead of notifying them within the transaction. Not set by default. The other engines only use it when they share
+     * the event dispatcher of the process engine.
+     */
+    protected ExecutorService asyncEventListenerExecutor;
+
     // Event logging to database
     protected boolean enableDatabaseEventLogging;
     protected boolean enableHistoricTaskLogging;
@@ -902,8 +1008,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     @Override
     public ProcessEngine buildProcessEngine() {
-        init();
+        timeInitPhase("init", this::init);
+
+        long startTime = System.nanoTime();
         ProcessEngineImpl processEngine = new ProcessEngineImpl(this);
+        addInitPhaseDuration("engine creation", startTime);
 
         // trigger build of Flowable 5 Engine
         if (flowable5CompatibilityEnabled && flowable5CompatibilityHandler != null) {
@@ -918,6 +1027,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         postProcessEngineInitialisation();
 
+        logInitPhaseDurations();
         return processEngine;
     }
 
@@ -966,11 +1076,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initListenerFactory();
         initBpmnParser();
         initProcessDefinitionCache();
+        initLatestDefinitionCache();
         initProcessDefinitionInfoCache();
         initAppResourceCache();
         initKnowledgeBaseCache();
         initJobHandlers();
+        initHistoryQueryBackend();
         initHistoryJobHandlers();
+        initHistoryCleaningManager();
+        initHistoryTablePartitionManager();
 
         initTransactionFactory();
 
@@ -1022,6 +1136,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initDefaultCommandConfig();
         initSchemaCommandConfig();
         initCommandInvoker();
+        initCommandTracer();
         initCommandInterceptors();
         initCommandExecutor();
     }
@@ -1197,6 +1312,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (resourceDataManager == null) {
             resourceDataManager = new MybatisResourceDataManager(this);
         }
+        if (variableProjectionDataManager == null) {
+            variableProjectionDataManager = new MybatisVariableProjectionDataManager(this);
+        }
+        if (processInstanceMigrationBatchDataManager == null) {
+            processInstanceMigrationBatchDataManager = new MybatisProcessInstanceMigrationBatchDataManager(this);
+        }
+        if (processInstanceMigrationBatchPartDataManager == null) {
+            processInstanceMigrationBatchPartDataManager = new MybatisProcessInstanceMigrationBatchPartDataManager(this);
+        }
     }
 
     // Entity managers //////////////////////////////////////////////////////////
@@ -1250,6 +1374,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (resourceEntityManager == null) {
             resourceEntityManager = new ResourceEntityManagerImpl(this, resourceDataManager);
         }
+        if (variableProjectionEntityManager == null) {
+            variableProjectionEntityManager = new VariableProjectionEntityManagerImpl(this, variableProjectionDataManager);
+        }
+        if (processInstanceMigrationBatchEntityManager == null) {
+            processInstanceMigrationBatchEntityManager = new ProcessInstanceMigrationBatchEntityManagerImpl(this, processInstanceMigrationBatchDataManager);
+        }
+        if (processInstanceMigrationBatchPartEntityManager == null) {
+            processInstanceMigrationBatchPartEntityManager = new ProcessInstanceMigrationBatchPartEntityManagerImpl(this, processInstanceMigrationBatchPartDataManager);
+        }
         if (tableDataManager == null) {
             tableDataManager = new TableDataManagerImpl(this);
         }
@@ -1294,7 +1427,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     @Override
     public void initSessionFactories() {
         if (sessionFactories == null) {
-            sessionFactories = new HashMap<>();
+            sessionFactories = new ConcurrentHashMap<>();
 
             if (usingRelationalDatabase) {
                 initDbSqlSessionFactory();
@@ -1376,6 +1509,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.variableServiceConfiguration.setInternalHistoryVariableManager(new DefaultHistoryVariableManager(this));
         }
 
+        if (this.queryVariableProjectionResolver != null) {
+            this.variableServiceConfiguration.setQueryVariableProjectionResolver(this.queryVariableProjectionResolver);
+        } else {
+            this.variableServiceConfiguration.setQueryVariableProjectionResolver(new DefaultQueryVariableProjectionResolver());
+        }
+
+        this.variableServiceConfiguration.setHistoryQueryBackend(this.historyQueryBackend);
+
         this.variableServiceConfiguration.setMaxLengthString(this.getMaxLengthString());
         this.variableServiceConfiguration.setSerializableVariableTypeTrackDeserializedObjects(this.isSerializableVariableTypeTrackDeserializedObjects());
 
@@ -1486,6 +1627,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.jobServiceConfiguration = instantiateJobServiceConfiguration();
             this.jobServiceConfiguration.setHistoryLevel(this.historyLevel);
             this.jobServiceConfiguration.setClock(this.clock);
+            this.jobServiceConfiguration.setEngineMetrics(this.engineMetrics);
             this.jobServiceConfiguration.setObjectMapper(this.objectMapper);
             this.jobServiceConfiguration.setEventDispatcher(this.eventDispatcher);
             this.jobServiceConfiguration.setCommandExecutor(this.commandExecutor);
@@ -1682,6 +1824,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (parsedDeploymentBuilderFactory.getBpmnParser() == null) {
             parsedDeploymentBuilderFactory.setBpmnParser(bpmnParser);
         }
+        initDeploymentExecutorService();
+        if (parsedDeploymentBuilderFactory.getExecutorService() == null) {
+            parsedDeploymentBuilderFactory.setExecutorService(deploymentExecutorService);
+        }
 
         if (timerManager == null) {
             timerManager = new TimerManager();
@@ -1866,6 +2012,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (processDiagramGenerator == null) {
             processDiagramGenerator = new DefaultProcessDiagramGenerator();
         }
+        if (enableProcessDiagramCache && processDiagramGenerator instanceof DefaultProcessDiagramGenerator) {
+            ((DefaultProcessDiagramGenerator) processDiagramGenerator).setStaticLayerCacheEnabled(true);
+        }
     }
 
     public void initJobHandlers() {
@@ -1895,6 +2044,27 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         AsyncCompleteCallActivityJobHandler asyncCompleteCallActivityJobHandler = new AsyncCompleteCallActivityJobHandler();
         jobHandlers.put(asyncCompleteCallActivityJobHandler.getType(), asyncCompleteCallActivityJobHandler);
 
+        EventBroadcastPlanJobHandler eventBroadcastPlanJobHandler = new EventBroadcastPlanJobHandler();
+        jobHandlers.put(eventBroadcastPlanJobHandler.getType(), eventBroadcastPlanJobHandler);
+
+        EventBroadcastChunkJobHandler eventBroadcastChunkJobHandler = new EventBroadcastChunkJobHandler();
+        jobHandlers.put(eventBroadcastChunkJobHandler.getType(), eventBroadcastChunkJobHandler);
+
+        ParallelMultiInstancePartitionJobHandler parallelMultiInstancePartitionJobHandler = new ParallelMultiInstancePartitionJobHandler();
+        jobHandlers.put(parallelMultiInstancePartitionJobHandler.getType(), parallelMultiInstancePartitionJobHandler);
+
+        BpmnHistoryCleanupJobHandler bpmnHistoryCleanupJobHandler = new BpmnHistoryCleanupJobHandler();
+        jobHandlers.put(bpmnHistoryCleanupJobHandler.getType(), bpmnHistoryCleanupJobHandler);
+
+        ProcessInstanceMigrationBatchPlanJobHandler processInstanceMigrationBatchPlanJobHandler = new ProcessInstanceMigrationBatchPlanJobHandler();
+        jobHandlers.put(processInstanceMigrationBatchPlanJobHandler.getType(), processInstanceMigrationBatchPlanJobHandler);
+
+        ProcessInstanceMigrationBatchChunkJobHandler processInstanceMigrationBatchChunkJobHandler = new ProcessInstanceMigrationBatchChunkJobHandler();
+        jobHandlers.put(processInstanceMigrationBatchChunkJobHandler.getType(), processInstanceMigrationBatchChunkJobHandler);
+
+        ProcessDefinitionInstancesBatchJobHandler processDefinitionInstancesBatchJobHandler = new ProcessDefinitionInstancesBatchJobHandler();
+        jobHandlers.put(processDefinitionInstancesBatchJobHandler.getType(), processDefinitionInstancesBatchJobHandler);
+
         // if we have custom job handlers, register them
         if (getCustomJobHandlers() != null) {
             for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -1903,6 +2073,30 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    protected void initHistoryCleaningManager() {
+        if (historyCleaningManager == null && enableHistoryCleaning) {
+            historyCleaningManager = new BpmnHistoryCleaningManager(this);
+        }
+    }
+
+    protected void initHistoryTablePartitionManager() {
+        if (historyTablePartitionManager == null && enableHistoryTablePartitioning) {
+            if (!HistoryTablePartitionManager.isSupportedDatabaseType(databaseType)) {
+                throw new FlowableException("History table partitioning is not supported for database type " + databaseType);
+            }
+            historyTablePartitionManager = new HistoryTablePartitionManager(this);
+        }
+    }
+
+    protected void initHistoryQueryBackend() {
+        if (historyQueryBackend == null && enableHistoryIndex) {
+            if (!isAsyncHistoryEnabled) {
+                throw new FlowableException("The history index is fed by async history, which is not enabled");
+            }
+            historyQueryBackend = new HistoryIndex();
+        }
+    }
+
     protected void initHistoryJobHandlers() {
         if (isAsyncHistoryEnabled) {
             historyJobHandlers = new HashMap<>();
@@ -1912,6 +2106,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 allHistoryJsonTransformers.addAll(customHistoryJsonTransformers);
             }
 
+            if (historyQueryBackend instanceof HistoryIndex) {
+                for (String type : HistoryIndexJsonTransformer.TYPES) {
+                    allHistoryJsonTransformers.add(new HistoryIndexJsonTransformer((HistoryIndex) historyQueryBackend, type));
+                }
+            }
+
             AsyncHistoryJobHandler asyncHistoryJobHandler = new AsyncHistoryJobHandler(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             allHistoryJsonTransformers.forEach(asyncHistoryJobHandler::addHistoryJsonTransformer);
             asyncHistoryJobHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
@@ -2013,6 +2213,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 defaultAsyncExecutor.setLockOwner(asyncExecutorLockOwner);
             }
 
+            // Exclusive jobs
+            defaultAsyncExecutor.setLockExclusiveJobsInJobTransaction(asyncExecutorLockExclusiveJobsInJobTransaction);
+            defaultAsyncExecutor.setExclusiveJobAffinityEnabled(asyncExecutorExclusiveJobAffinityEnabled);
+
+            // Fused acquisition and execution
+            defaultAsyncExecutor.setFusedJobAcquisitionEnabled(asyncExecutorFusedJobAcquisitionEnabled);
+            defaultAsyncExecutor.setFusedJobAcquisitionThreads(asyncExecutorFusedJobAcquisitionThreads);
+
             // Reset expired
             defaultAsyncExecutor.setResetExpiredJobsInterval(asyncExecutorResetExpiredJobsInterval);
             defaultAsyncExecutor.setResetExpiredJobsPageSize(asyncExecutorResetExpiredJobsPageSize);
@@ -2183,6 +2391,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             variableTypes.addType(new JsonType(getMaxLengthString(), objectMapper));
             variableTypes.addType(new LongJsonType(getMaxLengthString() + 1, objectMapper));
             variableTypes.addType(new ByteArrayType());
+            if (largeObjectStore != null) {
+                variableTypes.addType(createLargeObjectType());
+            }
             variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
             if (customPostVariableTypes != null) {
                 for (VariableType customVariableType : customPostVariableTypes) {
@@ -2336,6 +2547,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.eventDispatcher.setEnabled(enableEventDispatcher);
 
+        if (asyncEventListenerExecutor != null && this.eventDispatcher instanceof FlowableEventDispatcherImpl) {
+            ((FlowableEventDispatcherImpl) this.eventDispatcher).getEventSupport().setAsyncListenerExecutor(asyncEventListenerExecutor);
+        }
+
         if (eventListeners != null) {
             for (FlowableEventListener listenerToAdd : eventListeners) {
                 this.eventDispatcher.addEventListener(listenerToAdd);
@@ -2838,6 +3053,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public QueryVariableProjectionResolver getQueryVariableProjectionResolver() {
+        return queryVariableProjectionResolver;
+    }
+
+    public ProcessEngineConfigurationImpl setQueryVariableProjectionResolver(QueryVariableProjectionResolver queryVariableProjectionResolver) {
+        this.queryVariableProjectionResolver = queryVariableProjectionResolver;
+        return this;
+    }
+
     public InternalTaskVariableScopeResolver getInternalTaskVariableScopeResolver() {
         return internalTaskVariableScopeResolver;
     }
@@ -2909,6 +3133,26 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    protected LargeObjectType createLargeObjectType() {
+        LargeObjectType largeObjectType = new LargeObjectType(largeObjectStore);
+        if (isDbHistoryUsed) {
+            largeObjectType.getReferenceInUseStatements().add("selectHistoricDetailLargeObjectReferencesInUse");
+        } else {
+            largeObjectType.getReferenceInUseStatements().remove("selectHistoricVariableInstanceLargeObjectReferencesInUse");
+        }
+        largeObjectType.setKeepReleasedRuntimeReferences(isAsyncHistoryEnabled);
+        return largeObjectType;
+    }
+
+    public LargeObjectStore getLargeObjectStore() {
+        return largeObjectStore;
+    }
+
+    public ProcessEngineConfigurationImpl setLargeObjectStore(LargeObjectStore largeObjectStore) {
+        this.largeObjectStore = largeObjectStore;
+        return this;
+    }
+
     @Override
     public ExpressionManager getExpressionManager() {
         return expressionManager;
@@ -3141,6 +3385,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getEventBroadcastChunkSize() {
+        return eventBroadcastChunkSize;
+    }
+
+    public ProcessEngineConfigurationImpl setEventBroadcastChunkSize(int eventBroadcastChunkSize) {
+        this.eventBroadcastChunkSize = eventBroadcastChunkSize;
+        return this;
+    }
+
+    public int getProcessInstanceMigrationBatchChunkSize() {
+        return processInstanceMigrationBatchChunkSize;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstanceMigrationBatchChunkSize(int processInstanceMigrationBatchChunkSize) {
+        this.processInstanceMigrationBatchChunkSize = processInstanceMigrationBatchChunkSize;
+        return this;
+    }
+
     public List<HistoryJobHandler> getCustomHistoryJobHandlers() {
         return customHistoryJobHandlers;
     }
@@ -3430,6 +3692,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ExecutorService getAsyncEventListenerExecutor() {
+        return asyncEventListenerExecutor;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventListenerExecutor(ExecutorService asyncEventListenerExecutor) {
+        this.asyncEventListenerExecutor = asyncEventListenerExecutor;
+        return this;
+    }
+
     public ProcessValidator getProcessValidator() {
         return processValidator;
     }
@@ -3563,6 +3834,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableLightweightRuntimePersistence(boolean enableLightweightRuntimePersistence) {
+        this.performanceSettings.setEnableLightweightRuntimePersistence(enableLightweightRuntimePersistence);
+        return this;
+    }
+
     public AttachmentDataManager getAttachmentDataManager() {
         return attachmentDataManager;
     }
@@ -3707,6 +3983,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public VariableProjectionDataManager getVariableProjectionDataManager() {
+        return variableProjectionDataManager;
+    }
+
+    public ProcessEngineConfigurationImpl setVariableProjectionDataManager(VariableProjectionDataManager variableProjectionDataManager) {
+        this.variableProjectionDataManager = variableProjectionDataManager;
+        return this;
+    }
+
+    public ProcessInstanceMigrationBatchDataManager getProcessInstanceMigrationBatchDataManager() {
+        return processInstanceMigrationBatchDataManager;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstanceMigrationBatchDataManager(ProcessInstanceMigrationBatchDataManager processInstanceMigrationBatchDataManager) {
+        this.processInstanceMigrationBatchDataManager = processInstanceMigrationBatchDataManager;
+        return this;
+    }
+
+    public ProcessInstanceMigrationBatchPartDataManager getProcessInstanceMigrationBatchPartDataManager() {
+        return processInstanceMigrationBatchPartDataManager;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstanceMigrationBatchPartDataManager(ProcessInstanceMigrationBatchPartDataManager processInstanceMigrationBatchPartDataManager) {
+        this.processInstanceMigrationBatchPartDataManager = processInstanceMigrationBatchPartDataManager;
+        return this;
+    }
+
     public AttachmentEntityManager getAttachmentEntityManager() {
         return attachmentEntityManager;
     }
@@ -3851,6 +4154,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public VariableProjectionEntityManager getVariableProjectionEntityManager() {
+        return variableProjectionEntityManager;
+    }
+
+    public ProcessEngineConfigurationImpl setVariableProjectionEntityManager(VariableProjectionEntityManager variableProjectionEntityManager) {
+        this.variableProjectionEntityManager = variableProjectionEntityManager;
+        return this;
+    }
+
+    public ProcessInstanceMigrationBatchEntityManager getProcessInstanceMigrationBatchEntityManager() {
+        return processInstanceMigrationBatchEntityManager;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstanceMigrationBatchEntityManager(ProcessInstanceMigrationBatchEntityManager processInstanceMigrationBatchEntityManager) {
+        this.processInstanceMigrationBatchEntityManager = processInstanceMigrationBatchEntityManager;
+        return this;
+    }
+
+    public ProcessInstanceMigrationBatchPartEntityManager getProcessInstanceMigrationBatchPartEntityManager() {
+        return processInstanceMigrationBatchPartEntityManager;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstanceMigrationBatchPartEntityManager(ProcessInstanceMigrationBatchPartEntityManager processInstanceMigrationBatchPartEntityManager) {
+        this.processInstanceMigrationBatchPartEntityManager = processInstanceMigrationBatchPartEntityManager;
+        return this;
+    }
+
     public TableDataManager getTableDataManager() {
         return tableDataManager;
     }
@@ -3941,6 +4271,51 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableHistoryIndex() {
+        return enableHistoryIndex;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableHistoryIndex(boolean enableHistoryIndex) {
+        this.enableHistoryIndex = enableHistoryIndex;
+        return this;
+    }
+
+    public HistoryQueryBackend getHistoryQueryBackend() {
+        return historyQueryBackend;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryQueryBackend(HistoryQueryBackend historyQueryBackend) {
+        this.historyQueryBackend = historyQueryBackend;
+        return this;
+    }
+
+    public boolean isEnableHistoryTablePartitioning() {
+        return enableHistoryTablePartitioning;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableHistoryTablePartitioning(boolean enableHistoryTablePartitioning) {
+        this.enableHistoryTablePartitioning = enableHistoryTablePartitioning;
+        return this;
+    }
+
+    public int getHistoryPartitionsCreatedAhead() {
+        return historyPartitionsCreatedAhead;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryPartitionsCreatedAhead(int historyPartitionsCreatedAhead) {
+        this.historyPartitionsCreatedAhead = historyPartitionsCreatedAhead;
+        return this;
+    }
+
+    public HistoryTablePartitionManager getHistoryTablePartitionManager() {
+        return historyTablePartitionManager;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryTablePartitionManager(HistoryTablePartitionManager historyTablePartitionManager) {
+        this.historyTablePartitionManager = historyTablePartitionManager;
+        return this;
+    }
+
     public JobManager getJobManager() {
         return jobManager;
     }
@@ -4404,6 +4779,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorLockExclusiveJobsInJobTransaction() {
+        return asyncExecutorLockExclusiveJobsInJobTransaction;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorLockExclusiveJobsInJobTransaction(boolean asyncExecutorLockExclusiveJobsInJobTransaction) {
+        this.asyncExecutorLockExclusiveJobsInJobTransaction = asyncExecutorLockExclusiveJobsInJobTransaction;
+        return this;
+    }
+
+    public boolean isAsyncExecutorExclusiveJobAffinityEnabled() {
+        return asyncExecutorExclusiveJobAffinityEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorExclusiveJobAffinityEnabled(boolean asyncExecutorExclusiveJobAffinityEnabled) {
+        this.asyncExecutorExclusiveJobAffinityEnabled = asyncExecutorExclusiveJobAffinityEnabled;
+        return this;
+    }
+
+    public boolean isAsyncExecutorFusedJobAcquisitionEnabled() {
+        return asyncExecutorFusedJobAcquisitionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorFusedJobAcquisitionEnabled(boolean asyncExecutorFusedJobAcquisitionEnabled) {
+        this.asyncExecutorFusedJobAcquisitionEnabled = asyncExecutorFusedJobAcquisitionEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorFusedJobAcquisitionThreads() {
+        return asyncExecutorFusedJobAcquisitionThreads;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorFusedJobAcquisitionThreads(int asyncExecutorFusedJobAcquisitionThreads) {
+        this.asyncExecutorFusedJobAcquisitionThreads = asyncExecutorFusedJobAcquisitionThreads;
+        return this;
+    }
+
     public boolean isAsyncExecutorIsMessageQueueMode() {
         return asyncExecutorMessageQueueMode;
     }
@@ -0,0 +1,77 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.delegate.event.FlowableBatchEvent;
+import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.ProcessDefinitionInstancesBatchJobHandler;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+
+/**
+ * Starts a background batch that deletes the process instances of the process definitions of a deployment, followed by the deployment
+ * itself, and returns the id of that batch.
+ * 
+ * The process definitions of the deployment are suspended right away, in the calling transaction, so no new process instances can be
+ * started for them while the batch is deleting the existing ones.
+ */
+public class BatchDeleteDeploymentCmd implements Command<String> {
+
+    protected String deploymentId;
+
+    public BatchDeleteDeploymentCmd(String deploymentId) {
+        this.deploymentId = deploymentId;
+    }
+
+    @Override
+    public String execute(CommandContext commandContext) {
+        if (deploymentId == null) {
+            throw new FlowableIllegalArgumentException("deploymentId is null");
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        DeploymentEntity deployment = processEngineConfiguration.getDeploymentEntityManager().findById(deploymentId);
+        if (deployment == null) {
+            throw new FlowableObjectNotFoundException("Could not find a deployment with id '" + deploymentId + "'.", Deployment.class);
+        }
+        if (Flowable5Util.isFlowable5Deployment(deployment, processEngineConfiguration)) {
+            throw new FlowableException("Deleting a Flowable 5 deployment in a batch is not supported: " + deploymentId);
+        }
+
+        List<ProcessDefinition> processDefinitions = new ProcessDefinitionQueryImpl(commandContext).deploymentId(deploymentId).list();
+        List<String> processDefinitionIds = new ArrayList<>(processDefinitions.size());
+        for (ProcessDefinition processDefinition : processDefinitions) {
+            processDefinitionIds.add(processDefinition.getId());
+            if (!processDefinition.isSuspended()) {
+                new SuspendProcessDefinitionCmd((ProcessDefinitionEntity) processDefinition, false, null, processDefinition.getTenantId()).execute(commandContext);
+            }
+        }
+
+        return ProcessDefinitionInstancesBatchJobHandler.startBatch(FlowableBatchEvent.BATCH_TYPE_DELETE_DEPLOYMENT, processDefinitionIds,
+                deploymentId, deployment.getTenantId(), commandContext);
+    }
+
+}
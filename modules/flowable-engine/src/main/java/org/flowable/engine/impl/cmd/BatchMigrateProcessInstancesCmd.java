@@ -0,0 +1,124 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchPlanJobHandler;
+import org.flowable.engine.impl.migration.ProcessInstanceMigrationValidationResult;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
+import org.flowable.engine.migration.ProcessInstanceMigrationDocumentConverter;
+import org.flowable.engine.repository.ProcessDefinition;
+
+/**
+ * Validates a migration document once and creates a {@link ProcessInstanceMigrationBatch} for all process instances of a process definition.
+ * The process instances themselves are migrated asynchronously, see {@link ProcessInstanceMigrationBatchPlanJobHandler}.
+ */
+public class BatchMigrateProcessInstancesCmd implements Command<ProcessInstanceMigrationBatch> {
+
+    protected ProcessInstanceMigrationDocument processInstanceMigrationDocument;
+    protected String processDefinitionId;
+    protected String processDefinitionKey;
+    protected int processDefinitionVersion;
+    protected String processDefinitionTenantId;
+
+    public static BatchMigrateProcessInstancesCmd forProcessDefinition(String processDefinitionId, ProcessInstanceMigrationDocument processInstanceMigrationDocument) {
+        if (processDefinitionId == null) {
+            throw new FlowableException("Must specify a process definition id to migrate");
+        }
+        if (processInstanceMigrationDocument == null) {
+            throw new FlowableException("Must specify a process instance migration document");
+        }
+        BatchMigrateProcessInstancesCmd cmd = new BatchMigrateProcessInstancesCmd();
+        cmd.processDefinitionId = processDefinitionId;
+        cmd.processInstanceMigrationDocument = processInstanceMigrationDocument;
+        return cmd;
+    }
+
+    public static BatchMigrateProcessInstancesCmd forProcessDefinition(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId, ProcessInstanceMigrationDocument processInstanceMigrationDocument) {
+        if (processDefinitionKey == null) {
+            throw new FlowableException("Must specify the process definition key to migrate");
+        }
+        if (processDefinitionVersion < 0) {
+            throw new FlowableException("Must specify a positive definition version number to migrate");
+        }
+        if (processInstanceMigrationDocument == null) {
+            throw new FlowableException("Must specify a process instance migration document");
+        }
+        BatchMigrateProcessInstancesCmd cmd = new BatchMigrateProcessInstancesCmd();
+        cmd.processDefinitionKey = processDefinitionKey;
+        cmd.processDefinitionVersion = processDefinitionVersion;
+        cmd.processDefinitionTenantId = processDefinitionTenantId;
+        cmd.processInstanceMigrationDocument = processInstanceMigrationDocument;
+        return cmd;
+    }
+
+    @Override
+    public ProcessInstanceMigrationBatch execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ProcessDefinitionEntityManager processDefinitionEntityManager = processEngineConfiguration.getProcessDefinitionEntityManager();
+
+        ProcessDefinition sourceProcessDefinition;
+        if (processDefinitionId != null) {
+            sourceProcessDefinition = processDefinitionEntityManager.findById(processDefinitionId);
+        } else {
+            sourceProcessDefinition = processDefinitionEntityManager.findProcessDefinitionByKeyAndVersionAndTenantId(processDefinitionKey, processDefinitionVersion, processDefinitionTenantId);
+        }
+        if (sourceProcessDefinition == null) {
+            throw new FlowableObjectNotFoundException("Cannot find the process definition to migrate from", ProcessDefinition.class);
+        }
+
+        ProcessInstanceMigrationValidationResult validationResult = processEngineConfiguration.getProcessInstanceMigrationManager()
+                .validateMigrationDocument(sourceProcessDefinition.getId(), processInstanceMigrationDocument, commandContext);
+        if (validationResult.hasErrors()) {
+            throw new FlowableException("Invalid process instance migration document: " + String.join(", ", validationResult.getValidationMessages()));
+        }
+
+        ProcessDefinition targetProcessDefinition = resolveTargetProcessDefinition(processDefinitionEntityManager);
+
+        ProcessInstanceMigrationBatchEntityManager batchEntityManager = processEngineConfiguration.getProcessInstanceMigrationBatchEntityManager();
+        ProcessInstanceMigrationBatchEntity batch = batchEntityManager.create();
+        batch.setStatus(ProcessInstanceMigrationBatch.STATUS_EXECUTING);
+        batch.setSourceProcessDefinitionId(sourceProcessDefinition.getId());
+        batch.setTargetProcessDefinitionId(targetProcessDefinition.getId());
+        batch.setChunkSize(processEngineConfiguration.getProcessInstanceMigrationBatchChunkSize());
+        batch.setCreateTime(processEngineConfiguration.getClock().getCurrentTime());
+        if (sourceProcessDefinition.getTenantId() != null) {
+            batch.setTenantId(sourceProcessDefinition.getTenantId());
+        }
+        batchEntityManager.setMigrationDocumentJson(batch, ProcessInstanceMigrationDocumentConverter.convertToJsonString(processInstanceMigrationDocument));
+        batchEntityManager.insert(batch);
+
+        ProcessInstanceMigrationBatchPlanJobHandler.schedulePlanJob(batch, commandContext);
+
+        return batch;
+    }
+
+    protected ProcessDefinition resolveTargetProcessDefinition(ProcessDefinitionEntityManager processDefinitionEntityManager) {
+        // The validation made sure the target process definition exists
+        if (processInstanceMigrationDocument.getMigrateToProcessDefinitionId() != null) {
+            return processDefinitionEntityManager.findById(processInstanceMigrationDocument.getMigrateToProcessDefinitionId());
+        }
+        return processDefinitionEntityManager.findProcessDefinitionByKeyAndVersionAndTenantId(processInstanceMigrationDocument.getMigrateToProcessDefinitionKey(),
+                processInstanceMigrationDocument.getMigrateToProcessDefinitionVersion(), processInstanceMigrationDocument.getMigrateToProcessDefinitionTenantId());
+    }
+
+}
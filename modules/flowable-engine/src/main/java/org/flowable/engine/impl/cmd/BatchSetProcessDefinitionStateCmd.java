@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.SuspensionState;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.delegate.event.FlowableBatchEvent;
+import org.flowable.engine.impl.jobexecutor.ProcessDefinitionInstancesBatchJobHandler;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.util.Flowable5Util;
+
+/**
+ * Changes the state of the process definitions found by the given {@link AbstractSetProcessDefinitionStateCmd} immediately and
+ * changes the state of their process instances in a background batch, returning the id of that batch.
+ */
+public class BatchSetProcessDefinitionStateCmd implements Command<String> {
+
+    protected AbstractSetProcessDefinitionStateCmd setProcessDefinitionStateCmd;
+
+    public BatchSetProcessDefinitionStateCmd(AbstractSetProcessDefinitionStateCmd setProcessDefinitionStateCmd) {
+        this.setProcessDefinitionStateCmd = setProcessDefinitionStateCmd;
+    }
+
+    @Override
+    public String execute(CommandContext commandContext) {
+        List<ProcessDefinitionEntity> processDefinitions = setProcessDefinitionStateCmd.findProcessDefinition(commandContext);
+        List<String> processDefinitionIds = new ArrayList<>(processDefinitions.size());
+        String tenantId = null;
+        for (ProcessDefinitionEntity processDefinition : processDefinitions) {
+            if (Flowable5Util.isFlowable5ProcessDefinition(processDefinition, commandContext)) {
+                throw new FlowableException("Changing the state of the process instances of a Flowable 5 process definition in a batch is not supported: "
+                        + processDefinition.getId());
+            }
+            processDefinitionIds.add(processDefinition.getId());
+            tenantId = processDefinition.getTenantId();
+        }
+
+        // only the process definitions themselves change state in this transaction, new process instances can't be started from now on
+        setProcessDefinitionStateCmd.changeProcessDefinitionState(commandContext, processDefinitions);
+
+        String batchType = setProcessDefinitionStateCmd.getProcessDefinitionSuspensionState() == SuspensionState.SUSPENDED
+                ? FlowableBatchEvent.BATCH_TYPE_SUSPEND_PROCESS_INSTANCES : FlowableBatchEvent.BATCH_TYPE_ACTIVATE_PROCESS_INSTANCES;
+        return ProcessDefinitionInstancesBatchJobHandler.startBatch(batchType, processDefinitionIds, null, tenantId, commandContext);
+    }
+
+}
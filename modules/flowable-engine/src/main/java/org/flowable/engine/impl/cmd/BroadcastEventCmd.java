@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.event.MessageEventHandler;
+import org.flowable.engine.impl.event.SignalEventHandler;
+import org.flowable.engine.impl.jobexecutor.EventBroadcastConfiguration;
+import org.flowable.engine.impl.jobexecutor.EventBroadcastPlanJobHandler;
+import org.flowable.engine.impl.util.CommandContextUtil;
+
+/**
+ * Starts delivering a signal or message to all matching subscriptions in asynchronous chunks
+ * and returns the id of the broadcast, which is used as scope id of all its jobs. Only the subscriptions that exist when
+ * this command is executed receive the event.
+ */
+public class BroadcastEventCmd implements Command<String>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String eventType;
+    protected String eventName;
+    protected String businessKey;
+    protected String tenantId;
+
+    public BroadcastEventCmd(String eventType, String eventName, String businessKey, String tenantId) {
+        this.eventType = eventType;
+        this.eventName = eventName;
+        this.businessKey = businessKey;
+        this.tenantId = tenantId;
+    }
+
+    public static BroadcastEventCmd signal(String signalName, String tenantId) {
+        return new BroadcastEventCmd(SignalEventHandler.EVENT_HANDLER_TYPE, signalName, null, tenantId);
+    }
+
+    public static BroadcastEventCmd message(String messageName, String businessKey, String tenantId) {
+        return new BroadcastEventCmd(MessageEventHandler.EVENT_HANDLER_TYPE, messageName, businessKey, tenantId);
+    }
+
+    @Override
+    public String execute(CommandContext commandContext) {
+        if (eventName == null) {
+            throw new FlowableIllegalArgumentException("eventName is null");
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        int chunkSize = processEngineConfiguration.getEventBroadcastChunkSize();
+        if (chunkSize <= 0) {
+            throw new FlowableIllegalArgumentException("eventBroadcastChunkSize must be positive, but is " + chunkSize);
+        }
+
+        String broadcastId = processEngineConfiguration.getIdGenerator().getNextId();
+        new EventBroadcastConfiguration(eventType, eventName, businessKey, tenantId, chunkSize, processEngineConfiguration.getClock().getCurrentTime())
+                .scheduleJob(EventBroadcastPlanJobHandler.TYPE, broadcastId, commandContext);
+        return broadcastId;
+    }
+
+}
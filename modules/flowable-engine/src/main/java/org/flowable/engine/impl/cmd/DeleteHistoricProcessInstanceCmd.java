@@ -24,6 +24,7 @@ import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.impl.util.SearchableVariableUtil;
 
 /**
  * @author Frederik Heremans
@@ -58,6 +59,10 @@ public class DeleteHistoricProcessInstanceCmd implements Command<Object>, Serial
             return null;
         }
 
+        if (SearchableVariableUtil.hasSearchableVariables(instance.getProcessDefinitionId())) {
+            CommandContextUtil.getVariableProjectionEntityManager(commandContext).deleteVariableProjectionsByProcessInstanceId(processInstanceId);
+        }
+
         CommandContextUtil.getHistoryManager(commandContext).recordProcessInstanceDeleted(processInstanceId, instance.getProcessDefinitionId());
 
         return null;
@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+
+/**
+ * Deletes a batch migration with all its parts. Jobs of the batch that are still scheduled find no batch anymore and do nothing.
+ */
+public class DeleteProcessInstanceMigrationBatchCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String batchId;
+
+    public DeleteProcessInstanceMigrationBatchCmd(String batchId) {
+        if (batchId == null) {
+            throw new FlowableIllegalArgumentException("batchId is null");
+        }
+        this.batchId = batchId;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        ProcessInstanceMigrationBatchEntityManager batchEntityManager = CommandContextUtil.getProcessInstanceMigrationBatchEntityManager(commandContext);
+        ProcessInstanceMigrationBatchEntity batch = batchEntityManager.findById(batchId);
+        if (batch == null) {
+            throw new FlowableObjectNotFoundException("No process instance migration batch found for id '" + batchId + "'", ProcessInstanceMigrationBatch.class);
+        }
+
+        batchEntityManager.deleteBatch(batch);
+        return null;
+    }
+
+}
@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.migration.ProcessInstanceMigrationValidationResult;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchPartEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatchPart;
+import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
+import org.flowable.engine.migration.ProcessInstanceMigrationManager;
+import org.flowable.job.api.JobInfo;
+
+/**
+ * Migrates the process instance of one waiting part of a batch migration and records the outcome on the part.
+ * Returns false when the batch was paused or deleted, so the caller stops migrating the remaining parts of its chunk.
+ */
+public class MigrateProcessInstanceMigrationBatchPartCmd implements Command<Boolean> {
+
+    protected String batchPartId;
+    protected ProcessInstanceMigrationDocument processInstanceMigrationDocument;
+
+    public MigrateProcessInstanceMigrationBatchPartCmd(String batchPartId, ProcessInstanceMigrationDocument processInstanceMigrationDocument) {
+        this.batchPartId = batchPartId;
+        this.processInstanceMigrationDocument = processInstanceMigrationDocument;
+    }
+
+    @Override
+    public Boolean execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ProcessInstanceMigrationBatchPartEntity part = processEngineConfiguration.getProcessInstanceMigrationBatchPartEntityManager().findById(batchPartId);
+        if (part == null || !ProcessInstanceMigrationBatchPart.STATUS_WAITING.equals(part.getStatus())) {
+            // already handled by an earlier attempt of the chunk
+            return true;
+        }
+
+        ProcessInstanceMigrationBatchEntity batch = processEngineConfiguration.getProcessInstanceMigrationBatchEntityManager().findById(part.getBatchId());
+        if (batch == null || ProcessInstanceMigrationBatch.STATUS_PAUSED.equals(batch.getStatus())) {
+            return false;
+        }
+
+        ProcessInstanceMigrationManager migrationManager = processEngineConfiguration.getProcessInstanceMigrationManager();
+        ProcessInstanceMigrationValidationResult validationResult = migrationManager.validateMigrateProcessInstance(part.getProcessInstanceId(), processInstanceMigrationDocument, commandContext);
+        if (validationResult.hasErrors()) {
+            part.setStatus(ProcessInstanceMigrationBatchPart.STATUS_FAILED);
+            part.setErrorMessage(StringUtils.abbreviate(String.join(", ", validationResult.getValidationMessages()), JobInfo.MAX_EXCEPTION_MESSAGE_LENGTH));
+
+        } else {
+            migrationManager.migrateProcessInstance(part.getProcessInstanceId(), processInstanceMigrationDocument, commandContext);
+            part.setStatus(ProcessInstanceMigrationBatchPart.STATUS_SUCCESS);
+        }
+
+        part.setCompleteTime(processEngineConfiguration.getClock().getCurrentTime());
+        return true;
+    }
+
+}
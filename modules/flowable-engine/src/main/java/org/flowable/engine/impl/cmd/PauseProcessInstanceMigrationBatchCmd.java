@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+
+/**
+ * Pauses a batch migration. Chunk jobs that are already scheduled stop before migrating their next process instance,
+ * the waiting parts are picked up again by {@link ResumeProcessInstanceMigrationBatchCmd}.
+ */
+public class PauseProcessInstanceMigrationBatchCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String batchId;
+
+    public PauseProcessInstanceMigrationBatchCmd(String batchId) {
+        if (batchId == null) {
+            throw new FlowableIllegalArgumentException("batchId is null");
+        }
+        this.batchId = batchId;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        ProcessInstanceMigrationBatchEntity batch = CommandContextUtil.getProcessInstanceMigrationBatchEntityManager(commandContext).findById(batchId);
+        if (batch == null) {
+            throw new FlowableObjectNotFoundException("No process instance migration batch found for id '" + batchId + "'", ProcessInstanceMigrationBatch.class);
+        }
+
+        batch.setStatus(ProcessInstanceMigrationBatch.STATUS_PAUSED);
+        return null;
+    }
+
+}
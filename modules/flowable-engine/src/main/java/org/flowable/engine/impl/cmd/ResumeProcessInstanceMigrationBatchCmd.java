@@ -0,0 +1,69 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchChunkJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchPlanJobHandler;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatchPart;
+
+/**
+ * Resumes a paused batch migration by scheduling a chunk job for every chunk that still has waiting parts,
+ * and a plan job when not all process instances have been planned yet.
+ */
+public class ResumeProcessInstanceMigrationBatchCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String batchId;
+
+    public ResumeProcessInstanceMigrationBatchCmd(String batchId) {
+        if (batchId == null) {
+            throw new FlowableIllegalArgumentException("batchId is null");
+        }
+        this.batchId = batchId;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        ProcessInstanceMigrationBatchEntity batch = CommandContextUtil.getProcessInstanceMigrationBatchEntityManager(commandContext).findById(batchId);
+        if (batch == null) {
+            throw new FlowableObjectNotFoundException("No process instance migration batch found for id '" + batchId + "'", ProcessInstanceMigrationBatch.class);
+        }
+        if (!ProcessInstanceMigrationBatch.STATUS_PAUSED.equals(batch.getStatus())) {
+            return null;
+        }
+
+        batch.setStatus(ProcessInstanceMigrationBatch.STATUS_EXECUTING);
+
+        for (Integer chunk : CommandContextUtil.getProcessInstanceMigrationBatchPartEntityManager(commandContext)
+                .findChunksByBatchIdAndStatus(batchId, ProcessInstanceMigrationBatchPart.STATUS_WAITING)) {
+            ProcessInstanceMigrationBatchChunkJobHandler.scheduleChunkJob(batch, chunk, commandContext);
+        }
+
+        if (!batch.isPlanned()) {
+            ProcessInstanceMigrationBatchPlanJobHandler.schedulePlanJob(batch, commandContext);
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchChunkJobHandler;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchPartEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatchPart;
+
+/**
+ * Sets the failed parts of a batch migration back to waiting. When the batch is executing, the chunks of those parts are scheduled again,
+ * otherwise they are picked up when the batch is resumed.
+ */
+public class RetryFailedProcessInstanceMigrationBatchPartsCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String batchId;
+
+    public RetryFailedProcessInstanceMigrationBatchPartsCmd(String batchId) {
+        if (batchId == null) {
+            throw new FlowableIllegalArgumentException("batchId is null");
+        }
+        this.batchId = batchId;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        ProcessInstanceMigrationBatchEntity batch = CommandContextUtil.getProcessInstanceMigrationBatchEntityManager(commandContext).findById(batchId);
+        if (batch == null) {
+            throw new FlowableObjectNotFoundException("No process instance migration batch found for id '" + batchId + "'", ProcessInstanceMigrationBatch.class);
+        }
+
+        Set<Integer> chunks = new TreeSet<>();
+        for (ProcessInstanceMigrationBatchPartEntity part : CommandContextUtil.getProcessInstanceMigrationBatchPartEntityManager(commandContext)
+                .findBatchPartsByBatchIdAndStatus(batchId, ProcessInstanceMigrationBatchPart.STATUS_FAILED)) {
+            part.setStatus(ProcessInstanceMigrationBatchPart.STATUS_WAITING);
+            part.setErrorMessage(null);
+            part.setCompleteTime(null);
+            chunks.add(part.getChunk());
+        }
+
+        if (ProcessInstanceMigrationBatch.STATUS_EXECUTING.equals(batch.getStatus())) {
+            for (Integer chunk : chunks) {
+                ProcessInstanceMigrationBatchChunkJobHandler.scheduleChunkJob(batch, chunk, commandContext);
+            }
+        }
+
+        return null;
+    }
+
+}
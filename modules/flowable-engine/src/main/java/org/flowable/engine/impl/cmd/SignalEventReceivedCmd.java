@@ -28,6 +28,7 @@ import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntityManage
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.SignalEventSubscriptionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.EventUtil;
 import org.flowable.engine.impl.util.Flowable5Util;
 import org.flowable.engine.runtime.Execution;
 
@@ -107,10 +108,12 @@ public class SignalEventReceivedCmd implements Command<Void> {
                     compatibilityHandler.signalEventReceived(signalEventSubscriptionEntity, payload, async);
 
                 } else {
-                    CommandContextUtil.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(
-                            FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, signalEventSubscriptionEntity.getActivityId(), eventName,
-                                    payload, signalEventSubscriptionEntity.getExecutionId(), signalEventSubscriptionEntity.getProcessInstanceId(),
-                                    signalEventSubscriptionEntity.getProcessDefinitionId()));
+                    if (EventUtil.hasEventListeners(FlowableEngineEventType.ACTIVITY_SIGNALED, signalEventSubscriptionEntity.getProcessDefinitionId())) {
+                        CommandContextUtil.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(
+                                FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, signalEventSubscriptionEntity.getActivityId(), eventName,
+                                        payload, signalEventSubscriptionEntity.getExecutionId(), signalEventSubscriptionEntity.getProcessInstanceId(),
+                                        signalEventSubscriptionEntity.getProcessDefinitionId()));
+                    }
 
                     eventSubscriptionEntityManager.eventReceived(signalEventSubscriptionEntity, payload, async);
                 }
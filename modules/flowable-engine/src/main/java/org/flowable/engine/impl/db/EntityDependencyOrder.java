@@ -37,9 +37,12 @@ import org.flowable.engine.impl.persistence.entity.MessageEventSubscriptionEntit
 import org.flowable.engine.impl.persistence.entity.ModelEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchEntityImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchPartEntityImpl;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ResourceEntityImpl;
 import org.flowable.engine.impl.persistence.entity.SignalEventSubscriptionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.VariableProjectionEntityImpl;
 import org.flowable.entitylink.service.impl.persistence.entity.EntityLinkEntityImpl;
 import org.flowable.entitylink.service.impl.persistence.entity.HistoricEntityLinkEntityImpl;
 import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntityImpl;
@@ -175,6 +178,17 @@ public class EntityDependencyOrder {
          */
         DELETE_ORDER.add(ActivityInstanceEntityImpl.class);
 
+        /*
+         * No FK's, outlives the execution while the process instance has history
+         */
+        DELETE_ORDER.add(VariableProjectionEntityImpl.class);
+
+        /*
+         * No FK's, parts reference their batch by id only
+         */
+        DELETE_ORDER.add(ProcessInstanceMigrationBatchPartEntityImpl.class);
+        DELETE_ORDER.add(ProcessInstanceMigrationBatchEntityImpl.class);
+
         /*
          * FK from VariableInstance FK from EventSubscription FK from IdentityLink FK from Task
          *
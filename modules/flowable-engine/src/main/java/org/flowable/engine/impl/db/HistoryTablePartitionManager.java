@@ -0,0 +1,358 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maintains the monthly partitions of the history tables that are created partitioned when
+ * {@link ProcessEngineConfigurationImpl#isEnableHistoryTablePartitioning()} is enabled.
+ * <p>
+ * ACT_HI_PROCINST and ACT_HI_ACTINST are partitioned on the month of their start time, ACT_HI_DETAIL on the month of its time.
+ * On PostgreSQL and MySQL the partitions of the current and the coming months are created upfront, Oracle creates them itself through
+ * interval partitioning. A partition is dropped when it lies completely before the start of the oldest process instance that is still
+ * present in ACT_HI_PROCINST, which means that all the process instances it has history for have been cleaned already.
+ * <p>
+ * Which tables really are partitioned is detected when the engine boots (see {@link #initPartitionedTables(CommandContext)}).
+ * A table that isn't, e.g. because the schema was created before partitioning was enabled, is left alone and keeps its regular row based cleaning.
+ */
+public class HistoryTablePartitionManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistoryTablePartitionManager.class);
+
+    public static final List<String> SUPPORTED_DATABASE_TYPES = Arrays.asList(AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES,
+            AbstractEngineConfiguration.DATABASE_TYPE_MYSQL, AbstractEngineConfiguration.DATABASE_TYPE_ORACLE);
+
+    protected static final Pattern MONTH_PARTITION_NAME_PATTERN = Pattern.compile("P(\\d{4})(\\d{2})$", Pattern.CASE_INSENSITIVE);
+    protected static final Pattern HIGH_VALUE_PATTERN = Pattern.compile("(\\d{4})-(\\d{2})-\\d{2}");
+
+    protected static final Map<String, String> PARTITIONED_TABLES = new LinkedHashMap<>();
+
+    static {
+        PARTITIONED_TABLES.put("ACT_HI_PROCINST", "START_TIME_");
+        PARTITIONED_TABLES.put("ACT_HI_ACTINST", "START_TIME_");
+        PARTITIONED_TABLES.put("ACT_HI_DETAIL", "TIME_");
+    }
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected volatile Set<String> partitionedTables = Collections.emptySet();
+
+    public HistoryTablePartitionManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        this.processEngineConfiguration = processEngineConfiguration;
+    }
+
+    public static boolean isSupportedDatabaseType(String databaseType) {
+        return SUPPORTED_DATABASE_TYPES.contains(databaseType);
+    }
+
+    /**
+     * Detects which of the history tables are created partitioned. Only these tables get partitions created and dropped afterwards.
+     */
+    public void initPartitionedTables(CommandContext commandContext) {
+        DbSqlSession dbSqlSession = CommandContextUtil.getDbSqlSession(commandContext);
+        DbSqlSessionFactory dbSqlSessionFactory = dbSqlSession.getDbSqlSessionFactory();
+        Connection connection = dbSqlSession.getSqlSession().getConnection();
+
+        Set<String> tables = new LinkedHashSet<>();
+        try {
+            for (String tableName : PARTITIONED_TABLES.keySet()) {
+                if (isTablePartitioned(connection, dbSqlSessionFactory, tableName)) {
+                    tables.add(tableName);
+                } else {
+                    LOGGER.warn("History table partitioning is enabled, but table {} is not partitioned. Its history is deleted row by row only.", tableName);
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new FlowableException("Could not determine the partitioned history tables", e);
+        }
+
+        partitionedTables = Collections.unmodifiableSet(tables);
+    }
+
+    public Set<String> getPartitionedTables() {
+        return partitionedTables;
+    }
+
+    /**
+     * Creates the partitions for the current month and the number of months after it configured with
+     * {@link ProcessEngineConfigurationImpl#getHistoryPartitionsCreatedAhead()}, when they don't exist yet.
+     */
+    public void createPartitions(CommandContext commandContext) {
+        DbSqlSession dbSqlSession = CommandContextUtil.getDbSqlSession(commandContext);
+        String databaseType = dbSqlSession.getDbSqlSessionFactory().getDatabaseType();
+        if (AbstractEngineConfiguration.DATABASE_TYPE_ORACLE.equals(databaseType)) {
+            return; // interval partitioning creates the partitions when the first row for a month is inserted
+        }
+
+        Connection connection = dbSqlSession.getSqlSession().getConnection();
+        YearMonth currentMonth = getCurrentMonth();
+        try {
+            for (String tableName : partitionedTables) {
+                SortedMap<YearMonth, String> partitions = getMonthPartitions(connection, dbSqlSession.getDbSqlSessionFactory(), tableName);
+                for (int i = 0; i <= processEngineConfiguration.getHistoryPartitionsCreatedAhead(); i++) {
+                    YearMonth month = currentMonth.plusMonths(i);
+                    if (partitions.containsKey(month)) {
+                        continue;
+                    }
+
+                    if (AbstractEngineConfiguration.DATABASE_TYPE_MYSQL.equals(databaseType)) {
+                        // new partitions can only be split off the catch-all partition, which holds the months after the last partition
+                        if (partitions.isEmpty() || month.isAfter(partitions.lastKey())) {
+                            createMySqlPartition(connection, dbSqlSession.getDbSqlSessionFactory(), tableName, month);
+                        }
+                    } else {
+                        createPostgresPartition(connection, dbSqlSession.getDbSqlSessionFactory(), tableName, month);
+                    }
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new FlowableException("Could not create the history table partitions", e);
+        }
+    }
+
+    /**
+     * Drops the partitions of which the whole month lies before the start of the oldest remaining process instance.
+     *
+     * @return the number of dropped partitions
+     */
+    public int dropObsoletePartitions(CommandContext commandContext) {
+        DbSqlSession dbSqlSession = CommandContextUtil.getDbSqlSession(commandContext);
+        DbSqlSessionFactory dbSqlSessionFactory = dbSqlSession.getDbSqlSessionFactory();
+        String databaseType = dbSqlSessionFactory.getDatabaseType();
+        Connection connection = dbSqlSession.getSqlSession().getConnection();
+
+        int droppedPartitions = 0;
+        try {
+            if (partitionedTables.isEmpty()) {
+                return 0;
+            }
+
+            YearMonth firstRetainedMonth = getFirstRetainedMonth(findOldestProcessInstanceStartTime(connection, dbSqlSessionFactory));
+            for (String tableName : partitionedTables) {
+                SortedMap<YearMonth, String> obsoletePartitions = getMonthPartitions(connection, dbSqlSessionFactory, tableName).headMap(firstRetainedMonth);
+                for (String partitionName : obsoletePartitions.values()) {
+                    String sql;
+                    if (AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES.equals(databaseType)) {
+                        sql = "drop table " + dbSqlSessionFactory.getDatabaseTablePrefix() + partitionName;
+                    } else if (AbstractEngineConfiguration.DATABASE_TYPE_MYSQL.equals(databaseType)) {
+                        sql = "alter table " + dbSqlSessionFactory.getDatabaseTablePrefix() + tableName + " drop partition " + partitionName;
+                    } else {
+                        sql = "alter table " + dbSqlSessionFactory.getDatabaseTablePrefix() + tableName + " drop partition " + partitionName + " update global indexes";
+                    }
+
+                    LOGGER.info("Dropping history partition {} of table {}", partitionName, tableName);
+                    executeStatement(connection, sql);
+                    droppedPartitions++;
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new FlowableException("Could not drop the obsolete history table partitions", e);
+        }
+
+        return droppedPartitions;
+    }
+
+    protected boolean isTablePartitioned(Connection connection, DbSqlSessionFactory dbSqlSessionFactory, String tableName) throws SQLException {
+        String databaseType = dbSqlSessionFactory.getDatabaseType();
+
+        String sql;
+        String tableNameParameter;
+        if (AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES.equals(databaseType)) {
+            sql = "select count(*) from pg_partitioned_table where partrelid = cast(? as regclass)";
+            tableNameParameter = dbSqlSessionFactory.getDatabaseTablePrefix() + tableName;
+        } else if (AbstractEngineConfiguration.DATABASE_TYPE_MYSQL.equals(databaseType)) {
+            sql = "select count(*) from information_schema.PARTITIONS where TABLE_SCHEMA = database() and lower(TABLE_NAME) = lower(?) and PARTITION_NAME is not null";
+            tableNameParameter = getTableNameWithoutSchema(dbSqlSessionFactory, tableName);
+        } else {
+            sql = "select count(*) from USER_PART_TABLES where TABLE_NAME = ?";
+            tableNameParameter = getTableNameWithoutSchema(dbSqlSessionFactory, tableName).toUpperCase();
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, tableNameParameter);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getLong(1) > 0;
+            }
+        }
+    }
+
+    protected void createPostgresPartition(Connection connection, DbSqlSessionFactory dbSqlSessionFactory, String tableName, YearMonth month) throws SQLException {
+        String partitionName = tableName + "_" + getMonthPartitionSuffix(month);
+        String sql = "create table " + dbSqlSessionFactory.getDatabaseTablePrefix() + partitionName
+                + " partition of " + dbSqlSessionFactory.getDatabaseTablePrefix() + tableName
+                + " for values from ('" + month.atDay(1) + "') to ('" + month.plusMonths(1).atDay(1) + "')";
+
+        // The creation fails when the default partition already has rows for the month,
+        // these rows then stay in the default partition and are cleaned row by row.
+        Savepoint savepoint = connection.setSavepoint();
+        try {
+            executeStatement(connection, sql);
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            connection.rollback(savepoint);
+            LOGGER.warn("Could not create history partition {} of table {}", partitionName, tableName, e);
+        }
+    }
+
+    protected void createMySqlPartition(Connection connection, DbSqlSessionFactory dbSqlSessionFactory, String tableName, YearMonth month) throws SQLException {
+        executeStatement(connection, "alter table " + dbSqlSessionFactory.getDatabaseTablePrefix() + tableName + " reorganize partition P_MAX into ("
+                + "partition " + getMonthPartitionSuffix(month) + " values less than ('" + month.plusMonths(1).atDay(1) + "'), "
+                + "partition P_MAX values less than (MAXVALUE))");
+    }
+
+    /**
+     * Returns the partitions of the given table that hold a single month, sorted by month.
+     */
+    protected SortedMap<YearMonth, String> getMonthPartitions(Connection connection, DbSqlSessionFactory dbSqlSessionFactory, String tableName) throws SQLException {
+        SortedMap<YearMonth, String> partitions = new TreeMap<>();
+        String databaseType = dbSqlSessionFactory.getDatabaseType();
+
+        String sql;
+        String tableNameParameter;
+        if (AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES.equals(databaseType)) {
+            sql = "select c.relname from pg_inherits i inner join pg_class c on c.oid = i.inhrelid where i.inhparent = cast(? as regclass)";
+            tableNameParameter = dbSqlSessionFactory.getDatabaseTablePrefix() + tableName;
+        } else if (AbstractEngineConfiguration.DATABASE_TYPE_MYSQL.equals(databaseType)) {
+            sql = "select PARTITION_NAME from information_schema.PARTITIONS where TABLE_SCHEMA = database() and lower(TABLE_NAME) = lower(?) and PARTITION_NAME is not null";
+            tableNameParameter = getTableNameWithoutSchema(dbSqlSessionFactory, tableName);
+        } else {
+            sql = "select PARTITION_NAME, HIGH_VALUE from USER_TAB_PARTITIONS where TABLE_NAME = ?";
+            tableNameParameter = getTableNameWithoutSchema(dbSqlSessionFactory, tableName).toUpperCase();
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, tableNameParameter);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    String partitionName = resultSet.getString(1);
+                    String highValue = AbstractEngineConfiguration.DATABASE_TYPE_ORACLE.equals(databaseType) ? resultSet.getString(2) : null;
+                    YearMonth month = getPartitionMonth(databaseType, partitionName, highValue);
+                    if (month != null) {
+                        partitions.put(month, partitionName);
+                    }
+                }
+            }
+        }
+
+        return partitions;
+    }
+
+    /**
+     * Returns the month of a partition that holds a single month, or null for any other partition (e.g. the default or catch-all partition).
+     * On PostgreSQL and MySQL the month is part of the partition name. Oracle generates the names of interval partitions,
+     * so the month is derived from the exclusive upper bound of the partition (its high value) instead.
+     */
+    public YearMonth getPartitionMonth(String databaseType, String partitionName, String highValue) {
+        if (AbstractEngineConfiguration.DATABASE_TYPE_ORACLE.equals(databaseType)) {
+            if (highValue == null || "P_START".equalsIgnoreCase(partitionName)) {
+                return null;
+            }
+            Matcher matcher = HIGH_VALUE_PATTERN.matcher(highValue);
+            if (matcher.find()) {
+                return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))).minusMonths(1);
+            }
+
+        } else if (partitionName != null) {
+            Matcher matcher = MONTH_PARTITION_NAME_PATTERN.matcher(partitionName);
+            if (matcher.find()) {
+                return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the first month of which the partitions are kept: the month in which the oldest remaining process instance started,
+     * but never later than the current month. Without any process instance left, all the months before the current one can be dropped.
+     */
+    public YearMonth getFirstRetainedMonth(Date oldestStartTime) {
+        YearMonth currentMonth = getCurrentMonth();
+        if (oldestStartTime != null) {
+            YearMonth oldestStartMonth = YearMonth.from(oldestStartTime.toInstant().atZone(ZoneId.systemDefault()));
+            if (oldestStartMonth.isBefore(currentMonth)) {
+                return oldestStartMonth;
+            }
+        }
+        return currentMonth;
+    }
+
+    protected Date findOldestProcessInstanceStartTime(Connection connection, DbSqlSessionFactory dbSqlSessionFactory) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("select min(START_TIME_) from " + dbSqlSessionFactory.getDatabaseTablePrefix() + "ACT_HI_PROCINST")) {
+
+            if (resultSet.next()) {
+                Timestamp oldestStartTime = resultSet.getTimestamp(1);
+                if (oldestStartTime != null) {
+                    return new Date(oldestStartTime.getTime());
+                }
+            }
+        }
+        return null;
+    }
+
+    protected YearMonth getCurrentMonth() {
+        return YearMonth.from(processEngineConfiguration.getClock().getCurrentTime().toInstant().atZone(ZoneId.systemDefault()));
+    }
+
+    protected String getMonthPartitionSuffix(YearMonth month) {
+        return String.format("P%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    protected String getTableNameWithoutSchema(DbSqlSessionFactory dbSqlSessionFactory, String tableName) {
+        if (dbSqlSessionFactory.isTablePrefixIsSchema()) {
+            return tableName;
+        }
+        return dbSqlSessionFactory.getDatabaseTablePrefix() + tableName;
+    }
+
+    protected void executeStatement(Connection connection, String sql) throws SQLException {
+        LOGGER.debug("Executing history partition statement: {}", sql);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+}
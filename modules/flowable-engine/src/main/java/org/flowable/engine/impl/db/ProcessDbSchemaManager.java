@@ -105,7 +105,11 @@ public class ProcessDbSchemaManager extends AbstractSqlScriptBasedDbSchemaManage
     }
 
     protected void dbSchemaCreateHistory() {
-        executeMandatorySchemaResource("create", "history");
+        if (CommandContextUtil.getProcessEngineConfiguration().isEnableHistoryTablePartitioning()) {
+            executeMandatorySchemaResource("create", "history.partitioned");
+        } else {
+            executeMandatorySchemaResource("create", "history");
+        }
     }
 
     protected void dbSchemaCreateEngine() {
@@ -256,6 +260,10 @@ public class ProcessDbSchemaManager extends AbstractSqlScriptBasedDbSchemaManage
     }
 
     public boolean isHistoryTablePresent() {
+        if (CommandContextUtil.getProcessEngineConfiguration().isEnableHistoryTablePartitioning()) {
+            // not all JDBC drivers report partitioned tables as regular tables
+            return isTablePresent("ACT_HI_COMMENT");
+        }
         return isTablePresent("ACT_HI_PROCINST");
     }
 
@@ -12,6 +12,10 @@
  */
 package org.flowable.engine.impl.delegate.invocation;
 
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.tracing.CommandTrace;
+import org.flowable.common.engine.impl.tracing.CommandTraceEntryType;
 import org.flowable.engine.impl.interceptor.DelegateInterceptor;
 
 /**
@@ -32,11 +36,35 @@ public abstract class DelegateInvocation {
      *             the exception thrown by the user code
      */
     public void proceed() {
-        invoke();
+        CommandTrace commandTrace = isTraced() ? getCommandTrace() : null;
+        if (commandTrace == null) {
+            invoke();
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            invoke();
+        } finally {
+            Object target = getTarget();
+            commandTrace.record(CommandTraceEntryType.DELEGATE, target != null ? target.getClass().getName() : null, startTime);
+        }
     }
 
     protected abstract void invoke();
 
+    /**
+     * @return whether the invocation is recorded in the trace of the current command (when command tracing is enabled)
+     */
+    protected boolean isTraced() {
+        return true;
+    }
+
+    protected CommandTrace getCommandTrace() {
+        CommandContext commandContext = Context.getCommandContext();
+        return commandContext != null ? commandContext.getCommandTrace() : null;
+    }
+
     /**
      * @return the result of the invocation (can be null if the invocation does not return a result)
      */
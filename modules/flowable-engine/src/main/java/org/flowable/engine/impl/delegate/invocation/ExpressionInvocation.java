@@ -32,4 +32,10 @@ public abstract class ExpressionInvocation extends DelegateInvocation {
         return valueExpression;
     }
 
+    @Override
+    protected boolean isTraced() {
+        // the evaluation of the expression is traced by the expression itself
+        return false;
+    }
+
 }
@@ -17,6 +17,7 @@ import java.util.Map;
 
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.el.CompiledExpressionNode;
 import org.flowable.common.engine.impl.el.DynamicBeanPropertyELResolver;
 import org.flowable.common.engine.impl.javax.el.BeanELResolver;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
@@ -56,6 +57,22 @@ public class ProcessExpressionManager extends VariableScopeExpressionManager {
         return new ProcessVariableScopeELResolver(variableContainer);
     }
 
+    @Override
+    protected CompiledExpressionNode compileExpression(String expressionText) {
+        // A compiled expression is evaluated without an ExpressionGetInvocation, so a custom interceptor would never see it
+        if (delegateInterceptor != null && delegateInterceptor.getClass() != DefaultDelegateInterceptor.class) {
+            return null;
+        }
+        return super.compileExpression(expressionText);
+    }
+
+    @Override
+    protected boolean isCompilableIdentifier(String identifier) {
+        return !ProcessVariableScopeELResolver.EXECUTION_KEY.equals(identifier)
+                && !ProcessVariableScopeELResolver.TASK_KEY.equals(identifier)
+                && !ProcessVariableScopeELResolver.LOGGED_IN_USER_KEY.equals(identifier);
+    }
+
     @Override
     protected void configureResolvers(List<ELResolver> elResolvers) {
         int beanElResolverIndex = -1;
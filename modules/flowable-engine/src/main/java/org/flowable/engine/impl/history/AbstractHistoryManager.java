@@ -89,6 +89,22 @@ public abstract class AbstractHistoryManager extends AbstractManager implements
         }
     }
 
+    /**
+     * Activity history is not recorded for straight-through processes: only the historic process instance
+     * (and the variables, depending on the history level) are kept for them.
+     */
+    protected boolean isActivityHistoryEnabled(String processDefinitionId) {
+        return isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processDefinitionId) && !isStraightThroughProcess(processDefinitionId);
+    }
+
+    protected boolean isStraightThroughProcess(String processDefinitionId) {
+        if (processDefinitionId == null) {
+            return false;
+        }
+        Process process = ProcessDefinitionUtil.getProcess(processDefinitionId);
+        return process != null && process.isStraightThrough();
+    }
+
     @Override
     public boolean isHistoryEnabled() {
         if (LOGGER.isDebugEnabled()) {
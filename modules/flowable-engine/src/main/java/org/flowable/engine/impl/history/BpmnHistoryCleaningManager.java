@@ -0,0 +1,126 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.history.ExpiredHistoryCriteria;
+import org.flowable.common.engine.impl.history.HistoryCleaningManager;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.db.HistoryTablePartitionManager;
+import org.flowable.engine.impl.history.index.HistoryIndex;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.task.service.HistoricTaskService;
+
+/**
+ * Deletes the history of ended root process instances of which the time to live has expired, together with the history of
+ * their sub process instances (call activities).
+ *
+ * The time to live is the configured number of days for the key of the process definition, see
+ * {@link ProcessEngineConfigurationImpl#getHistoryTimeToLiveByDefinitionKey()}, or the default number of days otherwise.
+ *
+ * The history is always deleted row by row, also when the history tables are partitioned, so queries never return the history of cleaned instances.
+ * With partitioned history tables, the partitions are maintained after the last batch of a cleaning run: the partitions for the coming months are created
+ * and the partitions of which all the process instances have been cleaned are dropped, which gives their storage back at once.
+ */
+public class BpmnHistoryCleaningManager implements HistoryCleaningManager {
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    public BpmnHistoryCleaningManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        this.processEngineConfiguration = processEngineConfiguration;
+    }
+
+    @Override
+    public String getScopeType() {
+        return ScopeTypes.BPMN;
+    }
+
+    @Override
+    public int deleteExpiredHistory(int batchSize) {
+        int deletedInstances = processEngineConfiguration.getCommandExecutor().execute(commandContext -> deleteExpiredHistory(batchSize, commandContext));
+
+        HistoryTablePartitionManager historyTablePartitionManager = processEngineConfiguration.getHistoryTablePartitionManager();
+        if (deletedInstances == 0 && historyTablePartitionManager != null) {
+            // Partition statements can commit the ongoing transaction on some databases, so they get a transaction of their own
+            processEngineConfiguration.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(), commandContext -> {
+                historyTablePartitionManager.createPartitions(commandContext);
+                historyTablePartitionManager.dropObsoletePartitions(commandContext);
+                return null;
+            });
+        }
+
+        return deletedInstances;
+    }
+
+    protected int deleteExpiredHistory(int batchSize, CommandContext commandContext) {
+        ExpiredHistoryCriteria expiredHistoryCriteria = new ExpiredHistoryCriteria(processEngineConfiguration.getClock().getCurrentTime(),
+                processEngineConfiguration.getCleanInstancesEndedAfterNumberOfDays(), processEngineConfiguration.getHistoryTimeToLiveByDefinitionKey());
+
+        HistoricProcessInstanceEntityManager historicProcessInstanceEntityManager = CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext);
+        List<String> rootProcessInstanceIds = historicProcessInstanceEntityManager.findExpiredHistoricProcessInstanceIds(expiredHistoryCriteria, batchSize);
+        if (rootProcessInstanceIds.isEmpty()) {
+            return 0;
+        }
+
+        List<String> processInstanceIds = new ArrayList<>(rootProcessInstanceIds);
+        List<String> superProcessInstanceIds = rootProcessInstanceIds;
+        while (!superProcessInstanceIds.isEmpty()) {
+            superProcessInstanceIds = historicProcessInstanceEntityManager.findHistoricProcessInstanceIdsForSuperProcessInstanceIds(superProcessInstanceIds);
+            processInstanceIds.addAll(superProcessInstanceIds);
+        }
+
+        deleteHistoricProcessInstances(processInstanceIds, commandContext);
+
+        return rootProcessInstanceIds.size();
+    }
+
+    protected void deleteHistoricProcessInstances(List<String> processInstanceIds, CommandContext commandContext) {
+        HistoricTaskService historicTaskService = CommandContextUtil.getHistoricTaskService(commandContext);
+        List<String> taskIds = historicTaskService.findHistoricTaskIdsForProcessInstanceIds(processInstanceIds);
+
+        CommandContextUtil.getHistoricDetailEntityManager(commandContext).deleteHistoricDetailsForProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).deleteHistoricActivityInstancesForProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricVariableService().deleteHistoricVariableInstancesForProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getVariableProjectionEntityManager(commandContext).deleteVariableProjectionsForProcessInstanceIds(processInstanceIds);
+
+        CommandContextUtil.getHistoricIdentityLinkService().deleteHistoricIdentityLinksForTaskIds(taskIds);
+        historicTaskService.deleteHistoricTaskLogEntriesForTaskIds(taskIds);
+        historicTaskService.deleteHistoricTaskInstancesForProcessInstanceIds(processInstanceIds);
+
+        CommandContextUtil.getHistoricIdentityLinkService().deleteHistoricIdentityLinksForProcessInstanceIds(processInstanceIds);
+        if (processEngineConfiguration.isEnableEntityLinks()) {
+            CommandContextUtil.getHistoricEntityLinkService().deleteHistoricEntityLinksForScopeIdsAndScopeType(processInstanceIds, ScopeTypes.BPMN);
+        }
+        CommandContextUtil.getCommentEntityManager(commandContext).deleteCommentsForProcessInstanceIds(processInstanceIds);
+
+        CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).deleteHistoricProcessInstancesForIds(processInstanceIds);
+
+        if (processEngineConfiguration.getHistoryQueryBackend() instanceof HistoryIndex) {
+            HistoryIndex historyIndex = (HistoryIndex) processEngineConfiguration.getHistoryQueryBackend();
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, transactionCommandContext -> {
+                for (String processInstanceId : processInstanceIds) {
+                    historyIndex.removeProcessInstance(processInstanceId);
+                }
+            });
+        }
+    }
+
+}
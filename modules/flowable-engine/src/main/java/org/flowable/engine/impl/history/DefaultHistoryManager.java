@@ -33,6 +33,7 @@ import org.flowable.engine.impl.persistence.entity.HistoricDetailVariableInstanc
 import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.EventUtil;
 import org.flowable.engine.impl.util.TaskHelper;
 import org.flowable.engine.runtime.ActivityInstance;
 import org.flowable.entitylink.api.history.HistoricEntityLinkService;
@@ -79,7 +80,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
 
                 // Fire event
                 FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-                if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+                if (eventDispatcher != null && eventDispatcher.isEnabled() && EventUtil.hasEventListeners(FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_ENDED, processInstance.getProcessDefinitionId())) {
                     eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(
                             FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_ENDED, historicProcessInstance));
                 }
@@ -109,7 +110,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
 
             // Fire event
             FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-            if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+            if (eventDispatcher != null && eventDispatcher.isEnabled() && EventUtil.hasEventListeners(FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_CREATED, processInstance.getProcessDefinitionId())) {
                 eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(
                         FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_CREATED, historicProcessInstance));
             }
@@ -161,14 +162,14 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
 
     @Override
     public void recordActivityStart(ActivityInstance activityInstance) {
-        if (activityInstance != null && isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, activityInstance.getProcessDefinitionId())) {
+        if (activityInstance != null && isActivityHistoryEnabled(activityInstance.getProcessDefinitionId())) {
             if (activityInstance.getActivityId() != null) {
                 // Historic activity instance could have been created (but only in cache, never persisted)
                 // for example when submitting form properties
                 HistoricActivityInstanceEntity historicActivityInstanceEntity = createNewHistoricActivityInstance(activityInstance);
                 // Fire event
                 FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-                if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+                if (eventDispatcher != null && eventDispatcher.isEnabled() && EventUtil.hasEventListeners(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_CREATED, activityInstance.getProcessDefinitionId())) {
                     eventDispatcher.dispatchEvent(
                         FlowableEventBuilder
                             .createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_CREATED, historicActivityInstanceEntity));
@@ -179,7 +180,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
 
     @Override
     public void recordActivityEnd(ActivityInstance activityInstance) {
-        if (activityInstance != null && isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, activityInstance.getProcessDefinitionId())) {
+        if (activityInstance != null && isActivityHistoryEnabled(activityInstance.getProcessDefinitionId())) {
             HistoricActivityInstanceEntity historicActivityInstance = getHistoricActivityInstanceEntityManager().findById(activityInstance.getId());
             historicActivityInstance.setDeleteReason(activityInstance.getDeleteReason());
             historicActivityInstance.setEndTime(activityInstance.getEndTime());
@@ -187,7 +188,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
 
             // Fire event
             FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-            if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+            if (eventDispatcher != null && eventDispatcher.isEnabled() && EventUtil.hasEventListeners(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, activityInstance.getProcessDefinitionId())) {
                 eventDispatcher.dispatchEvent(
                     FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance));
             }
@@ -196,14 +197,14 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
 
     @Override
     public void recordActivityEnd(ExecutionEntity executionEntity, String deleteReason) {
-        if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, executionEntity.getProcessDefinitionId())) {
+        if (isActivityHistoryEnabled(executionEntity.getProcessDefinitionId())) {
             HistoricActivityInstanceEntity historicActivityInstance = findHistoricActivityInstance(executionEntity, true);
             if (historicActivityInstance != null) {
                 historicActivityInstance.markEnded(deleteReason);
 
                 // Fire event
                 FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-                if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+                if (eventDispatcher != null && eventDispatcher.isEnabled() && EventUtil.hasEventListeners(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, executionEntity.getProcessDefinitionId())) {
                     eventDispatcher.dispatchEvent(
                         FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance));
                 }
@@ -487,7 +488,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
 
     @Override
     public void updateHistoricActivityInstance(ActivityInstance activityInstance) {
-        if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, activityInstance.getProcessDefinitionId())) {
+        if (isActivityHistoryEnabled(activityInstance.getProcessDefinitionId())) {
             if (activityInstance.getExecutionId() != null) {
                 HistoricActivityInstanceEntity historicActivityInstance = getHistoricActivityInstanceEntityManager().findById(activityInstance.getId());
                 if (historicActivityInstance != null) {
@@ -511,7 +512,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
 
     @Override
     public void createHistoricActivityInstance(ActivityInstance activityInstance) {
-        if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, activityInstance.getProcessDefinitionId())) {
+        if (isActivityHistoryEnabled(activityInstance.getProcessDefinitionId())) {
             createNewHistoricActivityInstance(activityInstance);
         }
     }
@@ -107,7 +107,7 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
 
     @Override
     public void recordActivityStart(ActivityInstance activityInstance) {
-        if (activityInstance != null && isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, activityInstance.getProcessDefinitionId())) {
+        if (activityInstance != null && isActivityHistoryEnabled(activityInstance.getProcessDefinitionId())) {
             if (activityInstance.getActivityId() != null) {
 
                 ObjectNode data = processEngineConfiguration.getObjectMapper().createObjectNode();
@@ -122,7 +122,7 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
 
     @Override
     public void recordActivityEnd(ExecutionEntity executionEntity, String deleteReason) {
-        if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, executionEntity.getProcessDefinitionId())) {
+        if (isActivityHistoryEnabled(executionEntity.getProcessDefinitionId())) {
             String activityId = getActivityIdForExecution(executionEntity);
             if (StringUtils.isNotEmpty(activityId)) {
                 ObjectNode data = processEngineConfiguration.getObjectMapper().createObjectNode();
@@ -157,7 +157,7 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
 
     @Override
     public void recordActivityEnd(ActivityInstance activityInstance) {
-        if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, activityInstance.getProcessDefinitionId())) {
+        if (isActivityHistoryEnabled(activityInstance.getProcessDefinitionId())) {
             if (StringUtils.isNotEmpty(activityInstance.getActivityId())) {
                 ObjectNode data = processEngineConfiguration.getObjectMapper().createObjectNode();
 
@@ -473,7 +473,7 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
     @Override
     public void updateHistoricActivityInstance(ActivityInstance activityInstance) {
         // the update (in the new job) synchronizes changes with runtime activityInstance
-        if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, activityInstance.getProcessDefinitionId())) {
+        if (isActivityHistoryEnabled(activityInstance.getProcessDefinitionId())) {
             if (activityInstance.getExecutionId() != null) {
                 ObjectNode data = processEngineConfiguration.getObjectMapper().createObjectNode();
                 putIfNotNull(data, HistoryJsonConstants.RUNTIME_ACTIVITY_INSTANCE_ID, activityInstance.getId());
@@ -488,7 +488,7 @@ public class AsyncHistoryManager extends AbstractAsyncHistoryManager {
     @Override
     public void createHistoricActivityInstance(ActivityInstance activityInstance) {
         // create (in the new job) new historic activity instance from runtime activityInstance template
-        if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, activityInstance.getProcessDefinitionId())) {
+        if (isActivityHistoryEnabled(activityInstance.getProcessDefinitionId())) {
             if (activityInstance.getExecutionId() != null) {
                 ObjectNode data = processEngineConfiguration.getObjectMapper().createObjectNode();
                 addCommonActivityInstanceFields(activityInstance, data);
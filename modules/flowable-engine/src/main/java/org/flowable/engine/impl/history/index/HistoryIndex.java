@@ -0,0 +1,763 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.impl.HistoryJobQueryImpl;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.flowable.variable.service.history.HistoryQueryBackend;
+import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
+import org.flowable.variable.service.impl.QueryVariableValue;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An in-memory inverted index on the historic process instances and their variables.
+ * <p>
+ * The index is rebuilt from the history tables in the background once the process engine has booted and is kept up to date afterwards by the
+ * {@link HistoryIndexJsonTransformer}, i.e. it requires async history. Variable conditions are looked up in sorted postings
+ * per variable name to find the candidate process instances, to which the query on the history tables is then restricted. The query
+ * still evaluates the variable conditions itself, so a candidate the index holds a stale state for is filtered out. Conditions the index
+ * can't answer (e.g. infix like patterns or comparisons on text) make the query run on the history tables unrestricted, as do all
+ * queries until the rebuild has finished.
+ * <p>
+ * As the index lives in the memory of one engine, it only sees the history jobs executed by the async history executor of that engine.
+ * It therefore can't be used when several engines execute the history jobs of the same database: when history jobs locked by another
+ * executor are found, the index disables itself and all queries use the history tables. The index also disables itself when it would
+ * hold more than {@link #maxProcessInstances} process instances or {@link #maxVariables} variables.
+ */
+public class HistoryIndex implements HistoryQueryBackend {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistoryIndex.class);
+
+    public static final String FACET_PROCESS_DEFINITION_ID = "processDefinitionId";
+    public static final String FACET_PROCESS_DEFINITION_KEY = "processDefinitionKey";
+    public static final String FACET_TENANT_ID = "tenantId";
+    public static final String FACET_START_USER_ID = "startUserId";
+    public static final String FACET_STATE = "state";
+
+    public static final String STATE_ACTIVE = "active";
+    public static final String STATE_FINISHED = "finished";
+
+    protected static final String TEXT_VARIABLE_TYPE = "string";
+    protected static final String IGNORE_CASE_SUFFIX = "_IGNORE_CASE";
+    protected static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * Results larger than this are not returned, as the query would need to pass them as an in-clause to the database.
+     */
+    protected int maxResultSize = 1000;
+    protected int rebuildPageSize = 500;
+    protected int maxProcessInstances = 100000;
+    protected int maxVariables = 1000000;
+
+    /**
+     * The interval in milliseconds at which the history jobs are checked for jobs locked by the async history executor of another engine.
+     */
+    protected long otherExecutorCheckInterval = 60000L;
+
+    protected volatile boolean ready;
+    protected volatile boolean disabled;
+    protected String lockOwner;
+    protected ScheduledExecutorService executorService;
+    protected final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * The updates received while the index is being rebuilt. They are replayed once the rebuild has finished, so an update isn't overwritten
+     * by an older state read by the rebuild. Only accessed while holding the write lock, null when no rebuild is running.
+     */
+    protected List<Runnable> pendingUpdates;
+
+    protected Map<String, IndexedVariable> variables = new HashMap<>();
+    protected Map<String, Set<String>> variableIdsByProcessInstanceId = new HashMap<>();
+    protected Map<String, NavigableMap<String, Set<String>>> textPostings = new HashMap<>();
+    protected Map<String, NavigableMap<String, Set<String>>> lowerCaseTextPostings = new HashMap<>();
+    protected Map<String, NavigableMap<Long, Set<String>>> longPostings = new HashMap<>();
+    protected Map<String, NavigableMap<Double, Set<String>>> doublePostings = new HashMap<>();
+
+    protected Map<String, IndexedProcessInstance> processInstances = new HashMap<>();
+    protected Map<String, Map<String, Set<String>>> facetPostings = new HashMap<>();
+    protected Map<String, Set<String>> wordPostings = new HashMap<>();
+    protected Map<String, Set<String>> wordsByProcessInstanceId = new HashMap<>();
+
+    // Lifecycle
+
+    /**
+     * Rebuilds the index in the background and starts checking for other engines executing history jobs.
+     * 
+     * @param lockOwner
+     *            the lock owner of the async history executor of this engine
+     */
+    public void start(CommandExecutor commandExecutor, String lockOwner) {
+        this.lockOwner = lockOwner;
+        executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "flowable-history-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executorService.execute(() -> rebuild(commandExecutor));
+        executorService.scheduleWithFixedDelay(() -> checkOtherExecutors(commandExecutor), otherExecutorCheckInterval, otherExecutorCheckInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+            executorService = null;
+        }
+    }
+
+    public void checkOtherExecutors(CommandExecutor commandExecutor) {
+        if (disabled || lockOwner == null) {
+            return;
+        }
+
+        try {
+            for (HistoryJob historyJob : new HistoryJobQueryImpl(commandExecutor).locked().listPage(0, 100)) {
+                String jobLockOwner = ((HistoryJobEntity) historyJob).getLockOwner();
+                if (!lockOwner.equals(jobLockOwner)) {
+                    disable("history job " + historyJob.getId() + " is locked by another async history executor (" + jobLockOwner + ")");
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not check the history jobs for other async history executors", e);
+        }
+    }
+
+    /**
+     * Permanently disables the index: its memory is released and all queries use the history tables from now on.
+     */
+    public void disable(String reason) {
+        LOGGER.warn("Disabling the history index, queries use the history tables from now on: {}", reason);
+        disabled = true;
+        ready = false;
+        clear();
+    }
+
+    // Rebuild
+
+    public void rebuild(CommandExecutor commandExecutor) {
+        ready = false;
+        lock.writeLock().lock();
+        try {
+            clear();
+            if (disabled) {
+                return;
+            }
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            // Keyset paging, so process instances inserted or deleted during the rebuild don't shift the pages
+            String lastProcessInstanceId = null;
+            do {
+                final String afterProcessInstanceId = lastProcessInstanceId;
+                lastProcessInstanceId = commandExecutor.execute(commandContext -> indexProcessInstancePage(commandContext, afterProcessInstanceId));
+            } while (lastProcessInstanceId != null && !disabled);
+
+        } finally {
+            replayPendingUpdates();
+        }
+
+        checkOtherExecutors(commandExecutor);
+        if (disabled) {
+            return;
+        }
+
+        ready = true;
+        LOGGER.info("Indexed {} historic process instances and {} historic variables in {} ms", processInstances.size(), variables.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * @return the id of the last indexed process instance, or null when there are no more process instances to index
+     */
+    protected String indexProcessInstancePage(CommandContext commandContext, String afterProcessInstanceId) {
+        List<HistoricProcessInstance> historicProcessInstances = CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext)
+                .findHistoricProcessInstancesAfterId(afterProcessInstanceId, rebuildPageSize);
+
+        for (HistoricProcessInstance historicProcessInstance : historicProcessInstances) {
+            List<HistoricVariableInstance> historicVariables = new HistoricVariableInstanceQueryImpl(commandContext)
+                    .processInstanceId(historicProcessInstance.getId())
+                    .excludeVariableInitialization()
+                    .list();
+
+            // The rebuild writes directly to the index, the live updates received meanwhile are replayed afterwards
+            lock.writeLock().lock();
+            try {
+                doPutProcessInstance(historicProcessInstance.getId(), historicProcessInstance.getName(), historicProcessInstance.getBusinessKey(),
+                        historicProcessInstance.getProcessDefinitionId(), historicProcessInstance.getProcessDefinitionKey(),
+                        historicProcessInstance.getTenantId(), historicProcessInstance.getStartUserId(), historicProcessInstance.getEndTime() != null);
+
+                for (HistoricVariableInstance historicVariable : historicVariables) {
+                    HistoricVariableInstanceEntity variableEntity = (HistoricVariableInstanceEntity) historicVariable;
+                    IndexedVariable variable = new IndexedVariable(variableEntity.getId(), variableEntity.getProcessInstanceId(),
+                            variableEntity.getTaskId(), variableEntity.getName());
+                    variable.setTypeName(variableEntity.getVariableTypeName());
+                    variable.setTextValue(variableEntity.getTextValue());
+                    variable.setLongValue(variableEntity.getLongValue());
+                    variable.setDoubleValue(variableEntity.getDoubleValue());
+                    doPutVariable(variable);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        if (historicProcessInstances.size() < rebuildPageSize) {
+            return null;
+        }
+        return historicProcessInstances.get(historicProcessInstances.size() - 1).getId();
+    }
+
+    protected void replayPendingUpdates() {
+        lock.writeLock().lock();
+        try {
+            List<Runnable> updates = pendingUpdates;
+            pendingUpdates = null;
+            // The updates only set the indexed state, so replaying one the rebuild has already seen is harmless
+            for (Runnable update : updates) {
+                update.run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            variables.clear();
+            variableIdsByProcessInstanceId.clear();
+            textPostings.clear();
+            lowerCaseTextPostings.clear();
+            longPostings.clear();
+            doublePostings.clear();
+            processInstances.clear();
+            facetPostings.clear();
+            wordPostings.clear();
+            wordsByProcessInstanceId.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Updates
+
+    /**
+     * Applies the given update to the index, or keeps it to be replayed when the index is being rebuilt.
+     */
+    protected void applyUpdate(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            } else {
+                update.run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putProcessInstance(String processInstanceId, String name, String businessKey, String processDefinitionId,
+            String processDefinitionKey, String tenantId, String startUserId, boolean finished) {
+
+        applyUpdate(() -> doPutProcessInstance(processInstanceId, name, businessKey, processDefinitionId, processDefinitionKey, tenantId,
+                startUserId, finished));
+    }
+
+    protected void doPutProcessInstance(String processInstanceId, String name, String businessKey, String processDefinitionId,
+            String processDefinitionKey, String tenantId, String startUserId, boolean finished) {
+
+        if (disabled) {
+            return;
+        }
+        IndexedProcessInstance processInstance = processInstances.get(processInstanceId);
+        if (processInstance == null) {
+            if (processInstances.size() >= maxProcessInstances) {
+                disable("more than " + maxProcessInstances + " historic process instances");
+                return;
+            }
+            processInstance = new IndexedProcessInstance(processInstanceId);
+            processInstances.put(processInstanceId, processInstance);
+        }
+        processInstance.setName(name);
+        processInstance.setBusinessKey(businessKey);
+
+        setFacetValue(processInstance, FACET_PROCESS_DEFINITION_ID, processDefinitionId);
+        setFacetValue(processInstance, FACET_PROCESS_DEFINITION_KEY, processDefinitionKey);
+        setFacetValue(processInstance, FACET_TENANT_ID, tenantId);
+        setFacetValue(processInstance, FACET_START_USER_ID, startUserId);
+        setFacetValue(processInstance, FACET_STATE, finished ? STATE_FINISHED : STATE_ACTIVE);
+
+        indexWords(processInstanceId);
+    }
+
+    public void markProcessInstanceFinished(String processInstanceId) {
+        applyUpdate(() -> {
+            IndexedProcessInstance processInstance = processInstances.get(processInstanceId);
+            if (processInstance != null) {
+                setFacetValue(processInstance, FACET_STATE, STATE_FINISHED);
+            }
+        });
+    }
+
+    public void updateProcessInstanceName(String processInstanceId, String name) {
+        applyUpdate(() -> {
+            IndexedProcessInstance processInstance = processInstances.get(processInstanceId);
+            if (processInstance != null) {
+                processInstance.setName(name);
+                indexWords(processInstanceId);
+            }
+        });
+    }
+
+    public void updateProcessInstanceBusinessKey(String processInstanceId, String businessKey) {
+        applyUpdate(() -> {
+            IndexedProcessInstance processInstance = processInstances.get(processInstanceId);
+            if (processInstance != null) {
+                processInstance.setBusinessKey(businessKey);
+                indexWords(processInstanceId);
+            }
+        });
+    }
+
+    public void removeProcessInstance(String processInstanceId) {
+        applyUpdate(() -> doRemoveProcessInstance(processInstanceId));
+    }
+
+    public void removeProcessInstancesByProcessDefinitionId(String processDefinitionId) {
+        applyUpdate(() -> {
+            Map<String, Set<String>> processDefinitionPostings = facetPostings.get(FACET_PROCESS_DEFINITION_ID);
+            if (processDefinitionPostings != null && processDefinitionPostings.containsKey(processDefinitionId)) {
+                for (String processInstanceId : new ArrayList<>(processDefinitionPostings.get(processDefinitionId))) {
+                    doRemoveProcessInstance(processInstanceId);
+                }
+            }
+        });
+    }
+
+    protected void doRemoveProcessInstance(String processInstanceId) {
+        Set<String> variableIds = variableIdsByProcessInstanceId.get(processInstanceId);
+        if (variableIds != null) {
+            for (String variableId : new ArrayList<>(variableIds)) {
+                doRemoveVariable(variableId);
+            }
+        }
+
+        IndexedProcessInstance processInstance = processInstances.remove(processInstanceId);
+        if (processInstance != null) {
+            for (Map.Entry<String, String> facetValue : processInstance.getFacetValues().entrySet()) {
+                removePosting(facetPostings.get(facetValue.getKey()), facetValue.getValue(), processInstanceId);
+            }
+        }
+        indexWords(processInstanceId);
+    }
+
+    public void putVariable(IndexedVariable variable) {
+        applyUpdate(() -> doPutVariable(variable));
+    }
+
+    protected void doPutVariable(IndexedVariable variable) {
+        if (disabled) {
+            return;
+        }
+        doRemoveVariable(variable.getId());
+        if (variables.size() >= maxVariables) {
+            disable("more than " + maxVariables + " historic variables");
+            return;
+        }
+
+        variables.put(variable.getId(), variable);
+        if (variable.getProcessInstanceId() != null) {
+            variableIdsByProcessInstanceId.computeIfAbsent(variable.getProcessInstanceId(), key -> new HashSet<>()).add(variable.getId());
+        }
+        if (variable.getTextValue() != null) {
+            addPosting(textPostings.computeIfAbsent(variable.getName(), key -> new TreeMap<>()), variable.getTextValue(), variable.getId());
+            addPosting(lowerCaseTextPostings.computeIfAbsent(variable.getName(), key -> new TreeMap<>()), variable.getTextValue().toLowerCase(),
+                    variable.getId());
+        }
+        if (variable.getLongValue() != null) {
+            addPosting(longPostings.computeIfAbsent(variable.getName(), key -> new TreeMap<>()), variable.getLongValue(), variable.getId());
+        }
+        if (variable.getDoubleValue() != null) {
+            addPosting(doublePostings.computeIfAbsent(variable.getName(), key -> new TreeMap<>()), variable.getDoubleValue(), variable.getId());
+        }
+
+        if (variable.getProcessInstanceId() != null && TEXT_VARIABLE_TYPE.equals(variable.getTypeName())) {
+            indexWords(variable.getProcessInstanceId());
+        }
+    }
+
+    public void removeVariable(String variableId) {
+        applyUpdate(() -> {
+            IndexedVariable variable = doRemoveVariable(variableId);
+            if (variable != null && variable.getProcessInstanceId() != null && TEXT_VARIABLE_TYPE.equals(variable.getTypeName())) {
+                indexWords(variable.getProcessInstanceId());
+            }
+        });
+    }
+
+    protected IndexedVariable doRemoveVariable(String variableId) {
+        IndexedVariable variable = variables.remove(variableId);
+        if (variable == null) {
+            return null;
+        }
+
+        if (variable.getProcessInstanceId() != null) {
+            removePosting(variableIdsByProcessInstanceId, variable.getProcessInstanceId(), variableId);
+        }
+        if (variable.getTextValue() != null) {
+            removePosting(textPostings.get(variable.getName()), variable.getTextValue(), variableId);
+            removePosting(lowerCaseTextPostings.get(variable.getName()), variable.getTextValue().toLowerCase(), variableId);
+        }
+        if (variable.getLongValue() != null) {
+            removePosting(longPostings.get(variable.getName()), variable.getLongValue(), variableId);
+        }
+        if (variable.getDoubleValue() != null) {
+            removePosting(doublePostings.get(variable.getName()), variable.getDoubleValue(), variableId);
+        }
+        return variable;
+    }
+
+    protected void setFacetValue(IndexedProcessInstance processInstance, String field, String value) {
+        String previousValue = processInstance.getFacetValues().remove(field);
+        if (previousValue != null) {
+            removePosting(facetPostings.get(field), previousValue, processInstance.getId());
+        }
+        if (value != null) {
+            processInstance.getFacetValues().put(field, value);
+            addPosting(facetPostings.computeIfAbsent(field, key -> new HashMap<>()), value, processInstance.getId());
+        }
+    }
+
+    /**
+     * Recomputes the words of the given process instance from its name, business key and text variables.
+     */
+    protected void indexWords(String processInstanceId) {
+        Set<String> words = new HashSet<>();
+        IndexedProcessInstance processInstance = processInstances.get(processInstanceId);
+        if (processInstance != null) {
+            addWords(words, processInstance.getName());
+            addWords(words, processInstance.getBusinessKey());
+
+            Set<String> variableIds = variableIdsByProcessInstanceId.get(processInstanceId);
+            if (variableIds != null) {
+                for (String variableId : variableIds) {
+                    IndexedVariable variable = variables.get(variableId);
+                    if (TEXT_VARIABLE_TYPE.equals(variable.getTypeName())) {
+                        addWords(words, variable.getTextValue());
+                    }
+                }
+            }
+        }
+
+        Set<String> previousWords = wordsByProcessInstanceId.remove(processInstanceId);
+        if (previousWords != null) {
+            for (String word : previousWords) {
+                removePosting(wordPostings, word, processInstanceId);
+            }
+        }
+        if (!words.isEmpty()) {
+            wordsByProcessInstanceId.put(processInstanceId, words);
+            for (String word : words) {
+                addPosting(wordPostings, word, processInstanceId);
+            }
+        }
+    }
+
+    protected void addWords(Set<String> words, String text) {
+        if (text != null) {
+            for (String word : WORD_SEPARATOR.split(text.toLowerCase())) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+    }
+
+    protected <K> void addPosting(Map<K, Set<String>> postings, K key, String id) {
+        postings.computeIfAbsent(key, k -> new HashSet<>()).add(id);
+    }
+
+    protected <K> void removePosting(Map<K, Set<String>> postings, K key, String id) {
+        if (postings != null) {
+            Set<String> ids = postings.get(key);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+
+    // Queries
+
+    @Override
+    public Set<String> findProcessInstanceIds(List<QueryVariableValue> queryVariableValues, boolean excludeTaskVariables) {
+        if (!ready) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<String> processInstanceIds = null;
+            for (QueryVariableValue queryVariableValue : queryVariableValues) {
+                Collection<Set<String>> matchingVariableIds = findVariableIds(queryVariableValue);
+                if (matchingVariableIds == null) {
+                    return null;
+                }
+
+                Set<String> matchingProcessInstanceIds = new HashSet<>();
+                for (Set<String> variableIds : matchingVariableIds) {
+                    for (String variableId : variableIds) {
+                        IndexedVariable variable = variables.get(variableId);
+                        if (variable.getProcessInstanceId() != null && queryVariableValue.getType().equals(variable.getTypeName())
+                                && (!excludeTaskVariables || variable.getTaskId() == null)) {
+                            matchingProcessInstanceIds.add(variable.getProcessInstanceId());
+                        }
+                    }
+                }
+
+                if (processInstanceIds == null) {
+                    processInstanceIds = matchingProcessInstanceIds;
+                } else {
+                    processInstanceIds.retainAll(matchingProcessInstanceIds);
+                }
+                if (processInstanceIds.isEmpty()) {
+                    return processInstanceIds;
+                }
+            }
+
+            if (processInstanceIds == null || processInstanceIds.size() > maxResultSize) {
+                return null;
+            }
+            return processInstanceIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the postings of the variables matching the condition, or null when the condition can't be evaluated on the index
+     */
+    protected Collection<Set<String>> findVariableIds(QueryVariableValue queryVariableValue) {
+        String name = queryVariableValue.getName();
+        String type = queryVariableValue.getType();
+        String operator = queryVariableValue.getOperator();
+        if (name == null || type == null || "null".equals(type) || queryVariableValue.getTextValue2() != null) {
+            return null;
+        }
+
+        if (queryVariableValue.getLongValue() != null) {
+            return findPostings(longPostings.get(name), queryVariableValue.getLongValue(), operator);
+
+        } else if (queryVariableValue.getDoubleValue() != null) {
+            return findPostings(doublePostings.get(name), queryVariableValue.getDoubleValue(), operator);
+
+        } else if (queryVariableValue.getTextValue() != null) {
+            // The query already lower cases the value for the ignore case operators
+            NavigableMap<String, Set<String>> postings = textPostings.get(name);
+            if (operator.endsWith(IGNORE_CASE_SUFFIX)) {
+                postings = lowerCaseTextPostings.get(name);
+                operator = operator.substring(0, operator.length() - IGNORE_CASE_SUFFIX.length());
+            }
+
+            if ("LIKE".equals(operator)) {
+                return findPrefixPostings(postings, queryVariableValue.getTextValue());
+            } else if ("EQUALS".equals(operator) || "NOT_EQUALS".equals(operator)) {
+                // the database collation defines the order of text values, so only (in)equality is answered
+                return findPostings(postings, queryVariableValue.getTextValue(), operator);
+            }
+        }
+
+        return null;
+    }
+
+    protected <K> Collection<Set<String>> findPostings(NavigableMap<K, Set<String>> postings, K value, String operator) {
+        if (postings == null) {
+            return Collections.emptyList();
+        }
+
+        switch (operator) {
+        case "EQUALS":
+            Set<String> ids = postings.get(value);
+            return ids != null ? Collections.singletonList(ids) : Collections.emptyList();
+        case "NOT_EQUALS":
+            List<Set<String>> result = new ArrayList<>(postings.headMap(value, false).values());
+            result.addAll(postings.tailMap(value, false).values());
+            return result;
+        case "GREATER_THAN":
+            return postings.tailMap(value, false).values();
+        case "GREATER_THAN_OR_EQUAL":
+            return postings.tailMap(value, true).values();
+        case "LESS_THAN":
+            return postings.headMap(value, false).values();
+        case "LESS_THAN_OR_EQUAL":
+            return postings.headMap(value, true).values();
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Only patterns without wildcards or with a single trailing % can be answered from the sorted postings.
+     */
+    protected Collection<Set<String>> findPrefixPostings(NavigableMap<String, Set<String>> postings, String pattern) {
+        boolean prefixPattern = pattern.endsWith("%");
+        String prefix = prefixPattern ? pattern.substring(0, pattern.length() - 1) : pattern;
+        if (prefix.indexOf('%') >= 0 || prefix.indexOf('_') >= 0 || prefix.indexOf('\\') >= 0) {
+            return null;
+        }
+
+        if (postings == null) {
+            return Collections.emptyList();
+        }
+        if (!prefixPattern) {
+            Set<String> ids = postings.get(prefix);
+            return ids != null ? Collections.singletonList(ids) : Collections.emptyList();
+        }
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values();
+    }
+
+    @Override
+    public Set<String> searchProcessInstanceIds(String text) {
+        checkReady();
+        Set<String> words = new HashSet<>();
+        addWords(words, text);
+
+        lock.readLock().lock();
+        try {
+            Set<String> processInstanceIds = null;
+            for (String word : words) {
+                Set<String> wordProcessInstanceIds = wordPostings.getOrDefault(word, Collections.emptySet());
+                if (processInstanceIds == null) {
+                    processInstanceIds = new HashSet<>(wordProcessInstanceIds);
+                } else {
+                    processInstanceIds.retainAll(wordProcessInstanceIds);
+                }
+            }
+            return processInstanceIds != null ? processInstanceIds : Collections.emptySet();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<String, Long> getProcessInstanceFacetCounts(String field) {
+        checkReady();
+        lock.readLock().lock();
+        try {
+            Map<String, Long> counts = new HashMap<>();
+            Map<String, Set<String>> postings = facetPostings.get(field);
+            if (postings != null) {
+                for (Map.Entry<String, Set<String>> posting : postings.entrySet()) {
+                    counts.put(posting.getKey(), (long) posting.getValue().size());
+                }
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    protected void checkReady() {
+        if (!ready) {
+            throw new FlowableException(disabled ? "The history index is disabled" : "The history index is being rebuilt");
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isDisabled() {
+        return disabled;
+    }
+
+    public int getMaxResultSize() {
+        return maxResultSize;
+    }
+
+    public HistoryIndex setMaxResultSize(int maxResultSize) {
+        this.maxResultSize = maxResultSize;
+        return this;
+    }
+
+    public int getRebuildPageSize() {
+        return rebuildPageSize;
+    }
+
+    public HistoryIndex setRebuildPageSize(int rebuildPageSize) {
+        this.rebuildPageSize = rebuildPageSize;
+        return this;
+    }
+
+    public int getMaxProcessInstances() {
+        return maxProcessInstances;
+    }
+
+    public HistoryIndex setMaxProcessInstances(int maxProcessInstances) {
+        this.maxProcessInstances = maxProcessInstances;
+        return this;
+    }
+
+    public int getMaxVariables() {
+        return maxVariables;
+    }
+
+    public HistoryIndex setMaxVariables(int maxVariables) {
+        this.maxVariables = maxVariables;
+        return this;
+    }
+
+    public long getOtherExecutorCheckInterval() {
+        return otherExecutorCheckInterval;
+    }
+
+    public HistoryIndex setOtherExecutorCheckInterval(long otherExecutorCheckInterval) {
+        this.otherExecutorCheckInterval = otherExecutorCheckInterval;
+        return this;
+    }
+
+}
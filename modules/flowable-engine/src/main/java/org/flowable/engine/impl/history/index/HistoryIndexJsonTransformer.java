@@ -0,0 +1,138 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.index;
+
+import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.getDateFromJson;
+import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.getDoubleFromJson;
+import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.getLongFromJson;
+import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.getStringFromJson;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.impl.history.async.json.transformer.ProcessInstancePropertyChangedHistoryJsonTransformer;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Feeds the {@link HistoryIndex} with the async history data of process instances and their variables.
+ * The index is only updated once the transaction that writes the same data to the history tables has committed.
+ * <p>
+ * As a transformer doesn't get the type of the history data it is called for, one instance is registered per type in {@link #TYPES}.
+ */
+public class HistoryIndexJsonTransformer implements HistoryJsonTransformer {
+
+    public static final List<String> TYPES = Collections.unmodifiableList(Arrays.asList(
+            HistoryJsonConstants.TYPE_PROCESS_INSTANCE_START,
+            HistoryJsonConstants.TYPE_PROCESS_INSTANCE_END,
+            HistoryJsonConstants.TYPE_PROCESS_INSTANCE_PROPERTY_CHANGED,
+            HistoryJsonConstants.TYPE_PROCESS_INSTANCE_DELETED,
+            HistoryJsonConstants.TYPE_PROCESS_INSTANCE_DELETED_BY_PROCDEF_ID,
+            HistoryJsonConstants.TYPE_VARIABLE_CREATED,
+            HistoryJsonConstants.TYPE_VARIABLE_UPDATED,
+            HistoryJsonConstants.TYPE_VARIABLE_REMOVED));
+
+    protected HistoryIndex historyIndex;
+    protected String type;
+
+    public HistoryIndexJsonTransformer(HistoryIndex historyIndex, String type) {
+        this.historyIndex = historyIndex;
+        this.type = type;
+    }
+
+    @Override
+    public List<String> getTypes() {
+        return Collections.singletonList(type);
+    }
+
+    @Override
+    public boolean isApplicable(ObjectNode historicalData, CommandContext commandContext) {
+        return true;
+    }
+
+    @Override
+    public void transformJson(HistoryJobEntity job, ObjectNode historicalData, CommandContext commandContext) {
+        Runnable update = createUpdate(historicalData);
+        if (update != null) {
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, transactionCommandContext -> update.run());
+        }
+    }
+
+    protected Runnable createUpdate(ObjectNode historicalData) {
+        String processInstanceId = getStringFromJson(historicalData, HistoryJsonConstants.PROCESS_INSTANCE_ID);
+
+        if (HistoryJsonConstants.TYPE_PROCESS_INSTANCE_START.equals(type)) {
+            String name = getStringFromJson(historicalData, HistoryJsonConstants.NAME);
+            String businessKey = getStringFromJson(historicalData, HistoryJsonConstants.BUSINESS_KEY);
+            String processDefinitionId = getStringFromJson(historicalData, HistoryJsonConstants.PROCESS_DEFINITION_ID);
+            String processDefinitionKey = getStringFromJson(historicalData, HistoryJsonConstants.PROCESS_DEFINITION_KEY);
+            String tenantId = getStringFromJson(historicalData, HistoryJsonConstants.TENANT_ID);
+            String startUserId = getStringFromJson(historicalData, HistoryJsonConstants.START_USER_ID);
+            boolean finished = getDateFromJson(historicalData, HistoryJsonConstants.END_TIME) != null;
+            return () -> historyIndex.putProcessInstance(processInstanceId, name, businessKey, processDefinitionId, processDefinitionKey,
+                    tenantId, startUserId, finished);
+
+        } else if (HistoryJsonConstants.TYPE_PROCESS_INSTANCE_END.equals(type)) {
+            return () -> historyIndex.markProcessInstanceFinished(processInstanceId);
+
+        } else if (HistoryJsonConstants.TYPE_PROCESS_INSTANCE_PROPERTY_CHANGED.equals(type)) {
+            String property = getStringFromJson(historicalData, HistoryJsonConstants.PROPERTY);
+            if (ProcessInstancePropertyChangedHistoryJsonTransformer.PROPERTY_NAME.equals(property)) {
+                String name = getStringFromJson(historicalData, HistoryJsonConstants.NAME);
+                return () -> historyIndex.updateProcessInstanceName(processInstanceId, name);
+
+            } else if (ProcessInstancePropertyChangedHistoryJsonTransformer.PROPERTY_BUSINESS_KEY.equals(property)) {
+                String businessKey = getStringFromJson(historicalData, HistoryJsonConstants.BUSINESS_KEY);
+                return () -> historyIndex.updateProcessInstanceBusinessKey(processInstanceId, businessKey);
+            }
+
+        } else if (HistoryJsonConstants.TYPE_PROCESS_INSTANCE_DELETED.equals(type)) {
+            return () -> historyIndex.removeProcessInstance(processInstanceId);
+
+        } else if (HistoryJsonConstants.TYPE_PROCESS_INSTANCE_DELETED_BY_PROCDEF_ID.equals(type)) {
+            String processDefinitionId = getStringFromJson(historicalData, HistoryJsonConstants.PROCESS_DEFINITION_ID);
+            return () -> historyIndex.removeProcessInstancesByProcessDefinitionId(processDefinitionId);
+
+        } else if (HistoryJsonConstants.TYPE_VARIABLE_CREATED.equals(type) || HistoryJsonConstants.TYPE_VARIABLE_UPDATED.equals(type)) {
+            IndexedVariable variable = new IndexedVariable(getStringFromJson(historicalData, HistoryJsonConstants.ID), processInstanceId,
+                    getStringFromJson(historicalData, HistoryJsonConstants.TASK_ID), getStringFromJson(historicalData, HistoryJsonConstants.NAME));
+            variable.setTypeName(getStringFromJson(historicalData, HistoryJsonConstants.VARIABLE_TYPE));
+            variable.setTextValue(getStringFromJson(historicalData, HistoryJsonConstants.VARIABLE_TEXT_VALUE));
+            variable.setLongValue(getLongFromJson(historicalData, HistoryJsonConstants.VARIABLE_LONG_VALUE));
+            variable.setDoubleValue(getDoubleFromJson(historicalData, HistoryJsonConstants.VARIABLE_DOUBLE_VALUE));
+            return () -> historyIndex.putVariable(variable);
+
+        } else if (HistoryJsonConstants.TYPE_VARIABLE_REMOVED.equals(type)) {
+            String variableId = getStringFromJson(historicalData, HistoryJsonConstants.ID);
+            return () -> historyIndex.removeVariable(variableId);
+        }
+
+        return null;
+    }
+
+    public HistoryIndex getHistoryIndex() {
+        return historyIndex;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+}
@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.index;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The part of a historic process instance that is kept in the {@link HistoryIndex}: its searchable text and its facet values.
+ */
+public class IndexedProcessInstance {
+
+    protected String id;
+    protected String name;
+    protected String businessKey;
+    protected Map<String, String> facetValues = new HashMap<>();
+
+    public IndexedProcessInstance(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getBusinessKey() {
+        return businessKey;
+    }
+
+    public void setBusinessKey(String businessKey) {
+        this.businessKey = businessKey;
+    }
+
+    public Map<String, String> getFacetValues() {
+        return facetValues;
+    }
+
+}
@@ -18,6 +18,8 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
+import org.flowable.common.engine.impl.tracing.CommandTrace;
+import org.flowable.common.engine.impl.tracing.CommandTraceEntryType;
 import org.flowable.engine.FlowableEngineAgenda;
 import org.flowable.engine.impl.agenda.AbstractOperation;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -67,9 +69,16 @@ public class CommandInvoker extends AbstractCommandInterceptor {
     }
 
     protected void executeOperations(final CommandContext commandContext) {
+        CommandTrace commandTrace = commandContext.getCommandTrace();
         while (!CommandContextUtil.getAgenda(commandContext).isEmpty()) {
             Runnable runnable = CommandContextUtil.getAgenda(commandContext).getNextOperation();
-            executeOperation(runnable);
+            if (commandTrace != null) {
+                long startTime = System.nanoTime();
+                executeOperation(runnable);
+                commandTrace.record(CommandTraceEntryType.OPERATION, runnable.getClass().getSimpleName(), startTime);
+            } else {
+                executeOperation(runnable);
+            }
         }
     }
 
@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.history.HistoryCleaningManager;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.impl.history.HistoryCleanupJobHandler;
+
+/**
+ * Deletes the expired history of process instances and, when a dmn engine with history cleaning is configured, of decision executions.
+ */
+public class BpmnHistoryCleanupJobHandler extends HistoryCleanupJobHandler {
+
+    public static final String TYPE = "bpmn-history-cleanup";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    protected List<HistoryCleaningManager> getHistoryCleaningManagers(CommandContext commandContext) {
+        List<HistoryCleaningManager> historyCleaningManagers = new ArrayList<>(2);
+        historyCleaningManagers.add(CommandContextUtil.getProcessEngineConfiguration(commandContext).getHistoryCleaningManager());
+
+        AbstractEngineConfiguration dmnEngineConfiguration = commandContext.getEngineConfigurations().get(EngineConfigurationConstants.KEY_DMN_ENGINE_CONFIG);
+        if (dmnEngineConfiguration != null && dmnEngineConfiguration.getHistoryCleaningManager() != null) {
+            historyCleaningManagers.add(dmnEngineConfiguration.getHistoryCleaningManager());
+        }
+        return historyCleaningManagers;
+    }
+
+    @Override
+    protected String getJobScopeType() {
+        return null;
+    }
+
+}
@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.event.MessageEventHandler;
+import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
+import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntityManager;
+import org.flowable.engine.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.EventUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+/**
+ * Delivers a broadcast event to all subscriptions in the id range of the job configuration, within one transaction.
+ * A failing chunk is retried as a whole, without affecting the other chunks of the broadcast.
+ */
+public class EventBroadcastChunkJobHandler implements JobHandler {
+
+    public static final String TYPE = "event-broadcast-chunk";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        EventBroadcastConfiguration broadcastConfiguration = EventBroadcastConfiguration.fromJson(configuration, commandContext);
+
+        EventSubscriptionEntityManager eventSubscriptionEntityManager = CommandContextUtil.getEventSubscriptionEntityManager(commandContext);
+        List<EventSubscriptionEntity> eventSubscriptions = eventSubscriptionEntityManager.findEventSubscriptionsForBroadcastInRange(
+                broadcastConfiguration.getEventType(), broadcastConfiguration.getEventName(), broadcastConfiguration.getBusinessKey(),
+                broadcastConfiguration.getTenantId(), broadcastConfiguration.getBroadcastTime(), broadcastConfiguration.getFromId(),
+                broadcastConfiguration.getToId());
+
+        for (EventSubscriptionEntity eventSubscription : eventSubscriptions) {
+            if (MessageEventHandler.EVENT_HANDLER_TYPE.equals(eventSubscription.getEventType())) {
+                deliverMessage(eventSubscription, eventSubscriptionEntityManager, commandContext);
+
+            } else if (eventSubscription instanceof SignalEventSubscriptionEntity) {
+                deliverSignal((SignalEventSubscriptionEntity) eventSubscription, eventSubscriptionEntityManager, commandContext);
+            }
+        }
+    }
+
+    protected void deliverSignal(SignalEventSubscriptionEntity eventSubscription, EventSubscriptionEntityManager eventSubscriptionEntityManager, CommandContext commandContext) {
+        // Process instance scoped signals must be thrown within the process itself
+        if (!eventSubscription.isGlobalScoped()) {
+            return;
+        }
+
+        if (Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, eventSubscription.getProcessDefinitionId())) {
+            Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
+            compatibilityHandler.signalEventReceived(eventSubscription, null, false);
+            return;
+        }
+
+        if (EventUtil.hasEventListeners(FlowableEngineEventType.ACTIVITY_SIGNALED, eventSubscription.getProcessDefinitionId())) {
+            CommandContextUtil.getProcessEngineConfiguration(commandContext).getEventDispatcher().dispatchEvent(
+                    FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, eventSubscription.getActivityId(), eventSubscription.getEventName(),
+                            null, eventSubscription.getExecutionId(), eventSubscription.getProcessInstanceId(), eventSubscription.getProcessDefinitionId()));
+        }
+
+        eventSubscriptionEntityManager.eventReceived(eventSubscription, null, false);
+    }
+
+    protected void deliverMessage(EventSubscriptionEntity eventSubscription, EventSubscriptionEntityManager eventSubscriptionEntityManager, CommandContext commandContext) {
+        if (Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, eventSubscription.getProcessDefinitionId())) {
+            Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
+            compatibilityHandler.messageEventReceived(eventSubscription.getEventName(), eventSubscription.getExecutionId(), null, false);
+            return;
+        }
+
+        eventSubscriptionEntityManager.eventReceived(eventSubscription, null, false);
+    }
+
+}
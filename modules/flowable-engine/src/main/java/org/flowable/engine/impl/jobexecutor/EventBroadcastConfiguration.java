@@ -0,0 +1,194 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.io.IOException;
+import java.util.Date;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Job handler configuration of the jobs delivering an event to many subscriptions.
+ * All jobs of one broadcast share the broadcast id as scope id, with the {@link ScopeTypes#BPMN_EVENT_BROADCAST} scope type,
+ * so the progress of a broadcast can be followed with the job queries.
+ * <p>
+ * Only the subscriptions created before the broadcast time receive the event, so subscriptions created while the broadcast is
+ * being delivered, e.g. by a process instance that just received the event and waits for it again, don't receive it too.
+ */
+public class EventBroadcastConfiguration {
+
+    protected static final String PROPERTY_EVENT_TYPE = "eventType";
+    protected static final String PROPERTY_EVENT_NAME = "eventName";
+    protected static final String PROPERTY_BUSINESS_KEY = "businessKey";
+    protected static final String PROPERTY_TENANT_ID = "tenantId";
+    protected static final String PROPERTY_CHUNK_SIZE = "chunkSize";
+    protected static final String PROPERTY_AFTER_ID = "afterId";
+    protected static final String PROPERTY_FROM_ID = "fromId";
+    protected static final String PROPERTY_TO_ID = "toId";
+    protected static final String PROPERTY_BROADCAST_TIME = "broadcastTime";
+
+    protected String eventType;
+    protected String eventName;
+    protected String businessKey;
+    protected String tenantId;
+    protected int chunkSize;
+    protected Date broadcastTime;
+    protected String afterId;
+    protected String fromId;
+    protected String toId;
+
+    public EventBroadcastConfiguration() {
+    }
+
+    public EventBroadcastConfiguration(String eventType, String eventName, String businessKey, String tenantId, int chunkSize, Date broadcastTime) {
+        this.eventType = eventType;
+        this.eventName = eventName;
+        this.businessKey = businessKey;
+        this.tenantId = tenantId;
+        this.chunkSize = chunkSize;
+        this.broadcastTime = broadcastTime;
+    }
+
+    public EventBroadcastConfiguration copy() {
+        return new EventBroadcastConfiguration(eventType, eventName, businessKey, tenantId, chunkSize, broadcastTime);
+    }
+
+    public void scheduleJob(String jobHandlerType, String broadcastId, CommandContext commandContext) {
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        job.setJobType(JobEntity.JOB_TYPE_MESSAGE);
+        job.setJobHandlerType(jobHandlerType);
+        job.setJobHandlerConfiguration(toJson(commandContext));
+        job.setScopeId(broadcastId);
+        job.setScopeType(ScopeTypes.BPMN_EVENT_BROADCAST);
+        // chunks of the same broadcast don't share any execution, so they can run in parallel
+        job.setExclusive(false);
+        job.setTenantId(tenantId);
+        jobService.scheduleAsyncJob(job);
+    }
+
+    public String toJson(CommandContext commandContext) {
+        ObjectNode jsonNode = getObjectMapper(commandContext).createObjectNode();
+        jsonNode.put(PROPERTY_EVENT_TYPE, eventType);
+        jsonNode.put(PROPERTY_EVENT_NAME, eventName);
+        jsonNode.put(PROPERTY_CHUNK_SIZE, chunkSize);
+        if (broadcastTime != null) {
+            jsonNode.put(PROPERTY_BROADCAST_TIME, broadcastTime.getTime());
+        }
+        putIfNotNull(jsonNode, PROPERTY_BUSINESS_KEY, businessKey);
+        putIfNotNull(jsonNode, PROPERTY_TENANT_ID, tenantId);
+        putIfNotNull(jsonNode, PROPERTY_AFTER_ID, afterId);
+        putIfNotNull(jsonNode, PROPERTY_FROM_ID, fromId);
+        putIfNotNull(jsonNode, PROPERTY_TO_ID, toId);
+        return jsonNode.toString();
+    }
+
+    public static EventBroadcastConfiguration fromJson(String configuration, CommandContext commandContext) {
+        JsonNode jsonNode;
+        try {
+            jsonNode = getObjectMapper(commandContext).readTree(configuration);
+        } catch (IOException e) {
+            throw new FlowableException("Invalid event broadcast job configuration " + configuration, e);
+        }
+
+        EventBroadcastConfiguration broadcastConfiguration = new EventBroadcastConfiguration();
+        broadcastConfiguration.eventType = getString(jsonNode, PROPERTY_EVENT_TYPE);
+        broadcastConfiguration.eventName = getString(jsonNode, PROPERTY_EVENT_NAME);
+        broadcastConfiguration.businessKey = getString(jsonNode, PROPERTY_BUSINESS_KEY);
+        broadcastConfiguration.tenantId = getString(jsonNode, PROPERTY_TENANT_ID);
+        broadcastConfiguration.chunkSize = jsonNode.path(PROPERTY_CHUNK_SIZE).asInt();
+        JsonNode broadcastTimeNode = jsonNode.get(PROPERTY_BROADCAST_TIME);
+        if (broadcastTimeNode != null && !broadcastTimeNode.isNull()) {
+            broadcastConfiguration.broadcastTime = new Date(broadcastTimeNode.asLong());
+        }
+        broadcastConfiguration.afterId = getString(jsonNode, PROPERTY_AFTER_ID);
+        broadcastConfiguration.fromId = getString(jsonNode, PROPERTY_FROM_ID);
+        broadcastConfiguration.toId = getString(jsonNode, PROPERTY_TO_ID);
+        return broadcastConfiguration;
+    }
+
+    protected static ObjectMapper getObjectMapper(CommandContext commandContext) {
+        return CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
+    }
+
+    protected static void putIfNotNull(ObjectNode jsonNode, String property, String value) {
+        if (value != null) {
+            jsonNode.put(property, value);
+        }
+    }
+
+    protected static String getString(JsonNode jsonNode, String property) {
+        JsonNode valueNode = jsonNode.get(property);
+        if (valueNode != null && !valueNode.isNull()) {
+            return valueNode.asText();
+        }
+        return null;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    public String getBusinessKey() {
+        return businessKey;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public Date getBroadcastTime() {
+        return broadcastTime;
+    }
+
+    public String getAfterId() {
+        return afterId;
+    }
+
+    public void setAfterId(String afterId) {
+        this.afterId = afterId;
+    }
+
+    public String getFromId() {
+        return fromId;
+    }
+
+    public void setFromId(String fromId) {
+        this.fromId = fromId;
+    }
+
+    public String getToId() {
+        return toId;
+    }
+
+    public void setToId(String toId) {
+        this.toId = toId;
+    }
+}
@@ -0,0 +1,69 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+/**
+ * Pages through the subscriptions of a broadcast event, ordered by id, and creates an {@link EventBroadcastChunkJobHandler} job
+ * for every range of chunk size subscriptions. When more subscriptions may follow, a new plan job is created that continues after
+ * the last planned subscription, so a failing plan job is retried from the last completed page.
+ */
+public class EventBroadcastPlanJobHandler implements JobHandler {
+
+    public static final String TYPE = "event-broadcast-plan";
+
+    /**
+     * The number of chunk jobs that are created by one plan job.
+     */
+    protected static final int CHUNKS_PER_PAGE = 10;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        EventBroadcastConfiguration broadcastConfiguration = EventBroadcastConfiguration.fromJson(configuration, commandContext);
+        int chunkSize = broadcastConfiguration.getChunkSize();
+        int pageSize = chunkSize * CHUNKS_PER_PAGE;
+
+        List<EventSubscriptionEntity> eventSubscriptions = CommandContextUtil.getEventSubscriptionEntityManager(commandContext)
+                .findEventSubscriptionsForBroadcast(broadcastConfiguration.getEventType(), broadcastConfiguration.getEventName(),
+                        broadcastConfiguration.getBusinessKey(), broadcastConfiguration.getTenantId(), broadcastConfiguration.getBroadcastTime(),
+                        broadcastConfiguration.getAfterId(), pageSize);
+
+        for (int i = 0; i < eventSubscriptions.size(); i += chunkSize) {
+            int lastIndex = Math.min(i + chunkSize, eventSubscriptions.size()) - 1;
+            EventBroadcastConfiguration chunkConfiguration = broadcastConfiguration.copy();
+            chunkConfiguration.setFromId(eventSubscriptions.get(i).getId());
+            chunkConfiguration.setToId(eventSubscriptions.get(lastIndex).getId());
+            chunkConfiguration.scheduleJob(EventBroadcastChunkJobHandler.TYPE, job.getScopeId(), commandContext);
+        }
+
+        if (eventSubscriptions.size() == pageSize) {
+            EventBroadcastConfiguration nextPageConfiguration = broadcastConfiguration.copy();
+            nextPageConfiguration.setAfterId(eventSubscriptions.get(eventSubscriptions.size() - 1).getId());
+            nextPageConfiguration.scheduleJob(TYPE, job.getScopeId(), commandContext);
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.io.IOException;
+
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.bpmn.behavior.ParallelMultiInstanceBehavior;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Creates and starts one partition of the instances of a partitioned parallel multi instance activity.
+ * 
+ * @see ParallelMultiInstanceBehavior#executePartition(ExecutionEntity, int, int)
+ */
+public class ParallelMultiInstancePartitionJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelMultiInstancePartitionJobHandler.class);
+
+    public static final String TYPE = "parallel-multi-instance-partition";
+
+    public static final String PROPERTY_ROOT_EXECUTION_ID = "rootExecutionId";
+    public static final String PROPERTY_FROM = "from";
+    public static final String PROPERTY_TO = "to";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        JsonNode jsonNode = readConfiguration(configuration, commandContext);
+        String rootExecutionId = jsonNode.path(PROPERTY_ROOT_EXECUTION_ID).asText(null);
+
+        ExecutionEntity multiInstanceRootExecution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(rootExecutionId);
+        if (multiInstanceRootExecution == null || multiInstanceRootExecution.isEnded()) {
+            // The activity was already left, e.g. because the completion condition was satisfied or the process instance was deleted
+            LOGGER.debug("Multi instance root execution {} no longer exists, ignoring partition job {}", rootExecutionId, job.getId());
+            return;
+        }
+
+        FlowElement flowElement = multiInstanceRootExecution.getCurrentFlowElement();
+        if (!(flowElement instanceof Activity) || !(((Activity) flowElement).getBehavior() instanceof ParallelMultiInstanceBehavior)) {
+            throw new FlowableException("Execution " + rootExecutionId + " is not the root of a parallel multi instance activity");
+        }
+
+        ParallelMultiInstanceBehavior multiInstanceBehavior = (ParallelMultiInstanceBehavior) ((Activity) flowElement).getBehavior();
+        multiInstanceBehavior.executePartition(multiInstanceRootExecution, jsonNode.path(PROPERTY_FROM).asInt(), jsonNode.path(PROPERTY_TO).asInt());
+    }
+
+    public static String createConfiguration(String rootExecutionId, int from, int to) {
+        ObjectNode jsonNode = getObjectMapper(CommandContextUtil.getCommandContext()).createObjectNode();
+        jsonNode.put(PROPERTY_ROOT_EXECUTION_ID, rootExecutionId);
+        jsonNode.put(PROPERTY_FROM, from);
+        jsonNode.put(PROPERTY_TO, to);
+        return jsonNode.toString();
+    }
+
+    protected JsonNode readConfiguration(String configuration, CommandContext commandContext) {
+        try {
+            return getObjectMapper(commandContext).readTree(configuration);
+        } catch (IOException e) {
+            throw new FlowableException("Invalid parallel multi instance partition job configuration " + configuration, e);
+        }
+    }
+
+    protected static ObjectMapper getObjectMapper(CommandContext commandContext) {
+        return CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
+    }
+
+}
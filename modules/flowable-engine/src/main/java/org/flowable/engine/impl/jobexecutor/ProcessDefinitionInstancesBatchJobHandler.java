@@ -0,0 +1,228 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.db.SuspensionState;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.delegate.event.FlowableBatchEvent;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.AbstractSetProcessInstanceStateCmd;
+import org.flowable.engine.impl.cmd.ActivateProcessInstanceCmd;
+import org.flowable.engine.impl.cmd.SuspendProcessInstanceCmd;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Processes the process instances of one or more process definitions in the background, one chunk of
+ * {@link ProcessEngineConfigurationImpl#getBatchSizeProcessInstances()} process instances per job. The process instances are paged
+ * by id: every job processes the process instances following the last process instance of the previous job and schedules the job
+ * for the next chunk, so the whole batch only keeps one job at a time. The id of the batch is the scope id of its jobs, with the
+ * {@link ScopeTypes#BPMN_BATCH} scope type.
+ * 
+ * The ids of the process definitions can outgrow the handler configuration column, so they are kept in the custom values of the job
+ * (a byte array) and handed over from job to job. The handler configuration only holds the progress of the batch.
+ * 
+ * A {@link FlowableEngineEventType#BATCH_PROGRESSED} event is dispatched for every processed chunk and a
+ * {@link FlowableEngineEventType#BATCH_COMPLETED} event once all process instances have been processed. For a
+ * {@link FlowableBatchEvent#BATCH_TYPE_DELETE_DEPLOYMENT} batch, the last job deletes the deployment itself, which also removes the
+ * historic process instances of its process definitions with a single bulk delete.
+ */
+public class ProcessDefinitionInstancesBatchJobHandler implements JobHandler {
+
+    public static final String TYPE = "process-definition-instances-batch";
+
+    protected static final String PROPERTY_BATCH_TYPE = "batchType";
+    protected static final String PROPERTY_PROCESS_DEFINITION_INDEX = "processDefinitionIndex";
+    protected static final String PROPERTY_AFTER_ID = "afterId";
+    protected static final String PROPERTY_PROCESSED_COUNT = "processedCount";
+    protected static final String PROPERTY_DEPLOYMENT_ID = "deploymentId";
+
+    protected static final String DELETE_REASON_DEPLOYMENT_DELETED = "deleted deployment";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ObjectNode configurationNode = readConfiguration(configuration, processEngineConfiguration);
+        String batchId = job.getScopeId();
+        String batchType = configurationNode.path(PROPERTY_BATCH_TYPE).asText();
+        String processDefinitionIds = job.getCustomValues();
+        JsonNode processDefinitionIdsNode = readProcessDefinitionIds(processDefinitionIds, processEngineConfiguration);
+        int processDefinitionIndex = configurationNode.path(PROPERTY_PROCESS_DEFINITION_INDEX).asInt();
+        String afterId = configurationNode.path(PROPERTY_AFTER_ID).textValue();
+        long processedCount = configurationNode.path(PROPERTY_PROCESSED_COUNT).asLong();
+
+        String processDefinitionId = null;
+        if (processDefinitionIndex < processDefinitionIdsNode.size()) {
+            processDefinitionId = processDefinitionIdsNode.get(processDefinitionIndex).asText();
+            int chunkSize = processEngineConfiguration.getBatchSizeProcessInstances();
+            List<String> processInstanceIds = processChunk(batchType, processDefinitionId, afterId, chunkSize, commandContext);
+            processedCount += processInstanceIds.size();
+
+            if (processInstanceIds.size() == chunkSize) {
+                afterId = processInstanceIds.get(processInstanceIds.size() - 1);
+            } else {
+                processDefinitionIndex++;
+                afterId = null;
+            }
+
+            dispatchBatchEvent(FlowableEngineEventType.BATCH_PROGRESSED, batchId, batchType, processDefinitionId, processedCount, commandContext);
+
+            if (processDefinitionIndex < processDefinitionIdsNode.size()) {
+                configurationNode.put(PROPERTY_PROCESS_DEFINITION_INDEX, processDefinitionIndex);
+                configurationNode.put(PROPERTY_AFTER_ID, afterId);
+                configurationNode.put(PROPERTY_PROCESSED_COUNT, processedCount);
+                scheduleJob(batchId, configurationNode.toString(), processDefinitionIds, job.getTenantId(), commandContext);
+                return;
+            }
+        }
+
+        if (FlowableBatchEvent.BATCH_TYPE_DELETE_DEPLOYMENT.equals(batchType)) {
+            String deploymentId = configurationNode.path(PROPERTY_DEPLOYMENT_ID).asText();
+            if (processEngineConfiguration.getDeploymentEntityManager().findById(deploymentId) != null) {
+                processEngineConfiguration.getDeploymentManager().removeDeployment(deploymentId, true);
+            }
+        }
+
+        dispatchBatchEvent(FlowableEngineEventType.BATCH_COMPLETED, batchId, batchType, processDefinitionId, processedCount, commandContext);
+    }
+
+    /**
+     * Processes at most chunkSize process instances of the given process definition, following the process instance with the given id.
+     * 
+     * @return the ids of the process instances of the chunk
+     */
+    protected List<String> processChunk(String batchType, String processDefinitionId, String afterId, int chunkSize, CommandContext commandContext) {
+        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+        if (FlowableBatchEvent.BATCH_TYPE_DELETE_DEPLOYMENT.equals(batchType)) {
+            return executionEntityManager.deleteProcessInstancesByProcessDefinition(processDefinitionId, afterId, chunkSize, DELETE_REASON_DEPLOYMENT_DELETED, true);
+        }
+
+        SuspensionState suspensionState;
+        if (FlowableBatchEvent.BATCH_TYPE_SUSPEND_PROCESS_INSTANCES.equals(batchType)) {
+            suspensionState = SuspensionState.SUSPENDED;
+        } else if (FlowableBatchEvent.BATCH_TYPE_ACTIVATE_PROCESS_INSTANCES.equals(batchType)) {
+            suspensionState = SuspensionState.ACTIVE;
+        } else {
+            throw new FlowableException("Unsupported process definition batch type " + batchType);
+        }
+
+        List<String> processInstanceIds = executionEntityManager.findProcessInstanceIdsByProcessDefinitionId(processDefinitionId, afterId, chunkSize);
+        for (String processInstanceId : processInstanceIds) {
+            ExecutionEntity processInstance = executionEntityManager.findById(processInstanceId);
+            // process instances that are already in the wanted state (e.g. changed individually in the meantime) are skipped
+            if (processInstance != null && processInstance.getSuspensionState() != suspensionState.getStateCode()) {
+                createSetProcessInstanceStateCmd(processInstanceId, suspensionState).execute(commandContext);
+            }
+        }
+        return processInstanceIds;
+    }
+
+    protected AbstractSetProcessInstanceStateCmd createSetProcessInstanceStateCmd(String processInstanceId, SuspensionState suspensionState) {
+        if (suspensionState == SuspensionState.SUSPENDED) {
+            return new SuspendProcessInstanceCmd(processInstanceId);
+        } else {
+            return new ActivateProcessInstanceCmd(processInstanceId);
+        }
+    }
+
+    protected void dispatchBatchEvent(FlowableEngineEventType eventType, String batchId, String batchType, String processDefinitionId,
+            long processedCount, CommandContext commandContext) {
+
+        FlowableEventDispatcher eventDispatcher = CommandContextUtil.getProcessEngineConfiguration(commandContext).getEventDispatcher();
+        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+            eventDispatcher.dispatchEvent(FlowableEventBuilder.createBatchEvent(eventType, batchId, batchType, processDefinitionId, processedCount));
+        }
+    }
+
+    protected ObjectNode readConfiguration(String configuration, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
+            return (ObjectNode) processEngineConfiguration.getObjectMapper().readTree(configuration);
+        } catch (IOException e) {
+            throw new FlowableException("Invalid process definition batch job configuration " + configuration, e);
+        }
+    }
+
+    protected JsonNode readProcessDefinitionIds(String processDefinitionIds, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        if (processDefinitionIds == null) {
+            throw new FlowableException("No process definition ids found for process definition batch job");
+        }
+        try {
+            return processEngineConfiguration.getObjectMapper().readTree(processDefinitionIds);
+        } catch (IOException e) {
+            throw new FlowableException("Invalid process definition ids of process definition batch job " + processDefinitionIds, e);
+        }
+    }
+
+    /**
+     * Starts a batch processing the process instances of the given process definitions by scheduling the job for its first chunk.
+     * 
+     * @return the id of the batch
+     */
+    public static String startBatch(String batchType, List<String> processDefinitionIds, String deploymentId, String tenantId, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ObjectNode configurationNode = processEngineConfiguration.getObjectMapper().createObjectNode();
+        configurationNode.put(PROPERTY_BATCH_TYPE, batchType);
+        configurationNode.put(PROPERTY_PROCESS_DEFINITION_INDEX, 0);
+        configurationNode.put(PROPERTY_PROCESSED_COUNT, 0L);
+        if (deploymentId != null) {
+            configurationNode.put(PROPERTY_DEPLOYMENT_ID, deploymentId);
+        }
+
+        ArrayNode processDefinitionIdsNode = processEngineConfiguration.getObjectMapper().createArrayNode();
+        for (String processDefinitionId : processDefinitionIds) {
+            processDefinitionIdsNode.add(processDefinitionId);
+        }
+
+        String batchId = processEngineConfiguration.getIdGenerator().getNextId();
+        scheduleJob(batchId, configurationNode.toString(), processDefinitionIdsNode.toString(), tenantId, commandContext);
+        return batchId;
+    }
+
+    protected static void scheduleJob(String batchId, String jobHandlerConfiguration, String processDefinitionIds, String tenantId,
+            CommandContext commandContext) {
+
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        job.setJobType(JobEntity.JOB_TYPE_MESSAGE);
+        job.setJobHandlerType(TYPE);
+        job.setJobHandlerConfiguration(jobHandlerConfiguration);
+        job.setCustomValues(processDefinitionIds);
+        job.setScopeId(batchId);
+        job.setScopeType(ScopeTypes.BPMN_BATCH);
+        job.setTenantId(tenantId);
+        jobService.scheduleAsyncJob(job);
+    }
+
+}
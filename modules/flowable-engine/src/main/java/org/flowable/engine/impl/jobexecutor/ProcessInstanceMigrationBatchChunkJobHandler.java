@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.MigrateProcessInstanceMigrationBatchPartCmd;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchPartEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatchPart;
+import org.flowable.engine.migration.ProcessInstanceMigrationDocument;
+import org.flowable.engine.migration.ProcessInstanceMigrationDocumentConverter;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Migrates the waiting parts of one chunk of a batch migration. Every process instance is migrated in its own transaction,
+ * so a failing process instance is recorded on its part without affecting the other process instances of the chunk.
+ * An optimistic locking failure leaves the part waiting and fails the job, so the part is migrated again when the job is retried.
+ */
+public class ProcessInstanceMigrationBatchChunkJobHandler implements JobHandler {
+
+    public static final String TYPE = "process-migration-batch-chunk";
+
+    protected static final String PROPERTY_BATCH_ID = "batchId";
+    protected static final String PROPERTY_CHUNK = "chunk";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        JsonNode configurationNode = readConfiguration(configuration, processEngineConfiguration);
+        String batchId = configurationNode.path(PROPERTY_BATCH_ID).asText();
+        int chunk = configurationNode.path(PROPERTY_CHUNK).asInt();
+
+        ProcessInstanceMigrationBatchEntity batch = processEngineConfiguration.getProcessInstanceMigrationBatchEntityManager().findById(batchId);
+        if (batch == null || ProcessInstanceMigrationBatch.STATUS_PAUSED.equals(batch.getStatus())) {
+            return;
+        }
+
+        ProcessInstanceMigrationDocument document = ProcessInstanceMigrationDocumentConverter.convertFromJson(
+                processEngineConfiguration.getProcessInstanceMigrationBatchEntityManager().getMigrationDocumentJson(batch));
+        List<ProcessInstanceMigrationBatchPartEntity> parts = processEngineConfiguration.getProcessInstanceMigrationBatchPartEntityManager()
+                .findBatchPartsByBatchIdAndChunkAndStatus(batchId, chunk, ProcessInstanceMigrationBatchPart.STATUS_WAITING);
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        CommandConfig commandConfig = commandExecutor.getDefaultConfig().transactionRequiresNew();
+        FlowableOptimisticLockingException optimisticLockingException = null;
+        for (ProcessInstanceMigrationBatchPartEntity part : parts) {
+            try {
+                if (!commandExecutor.execute(commandConfig, new MigrateProcessInstanceMigrationBatchPartCmd(part.getId(), document))) {
+                    // the batch was paused or deleted
+                    break;
+                }
+
+            } catch (FlowableOptimisticLockingException e) {
+                optimisticLockingException = e;
+
+            } catch (RuntimeException e) {
+                String partId = part.getId();
+                String errorMessage = StringUtils.abbreviate(e.getMessage(), JobInfo.MAX_EXCEPTION_MESSAGE_LENGTH);
+                commandExecutor.execute(commandConfig, partCommandContext -> {
+                    markPartFailed(partId, errorMessage, partCommandContext);
+                    return null;
+                });
+            }
+        }
+
+        if (optimisticLockingException != null) {
+            throw optimisticLockingException;
+        }
+    }
+
+    protected void markPartFailed(String partId, String errorMessage, CommandContext commandContext) {
+        ProcessInstanceMigrationBatchPartEntity part = CommandContextUtil.getProcessInstanceMigrationBatchPartEntityManager(commandContext).findById(partId);
+        if (part != null && ProcessInstanceMigrationBatchPart.STATUS_WAITING.equals(part.getStatus())) {
+            part.setStatus(ProcessInstanceMigrationBatchPart.STATUS_FAILED);
+            part.setErrorMessage(errorMessage);
+            part.setCompleteTime(CommandContextUtil.getProcessEngineConfiguration(commandContext).getClock().getCurrentTime());
+        }
+    }
+
+    protected JsonNode readConfiguration(String configuration, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
+            return processEngineConfiguration.getObjectMapper().readTree(configuration);
+        } catch (IOException e) {
+            throw new FlowableException("Invalid process instance migration batch job configuration " + configuration, e);
+        }
+    }
+
+    public static void scheduleChunkJob(ProcessInstanceMigrationBatch batch, int chunk, CommandContext commandContext) {
+        ObjectNode configurationNode = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper().createObjectNode();
+        configurationNode.put(PROPERTY_BATCH_ID, batch.getId());
+        configurationNode.put(PROPERTY_CHUNK, chunk);
+        ProcessInstanceMigrationBatchPlanJobHandler.scheduleJob(TYPE, configurationNode.toString(), batch, commandContext);
+    }
+
+}
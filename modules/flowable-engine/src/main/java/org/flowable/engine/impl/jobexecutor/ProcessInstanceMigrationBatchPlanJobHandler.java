@@ -0,0 +1,112 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchPartEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchPartEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatchPart;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+/**
+ * Pages through the process instances of the source process definition of a batch migration, ordered by id, creates a waiting part
+ * for every process instance and a {@link ProcessInstanceMigrationBatchChunkJobHandler} job for every chunk of chunk size parts.
+ * When more process instances may follow, a new plan job is created that continues after the last planned process instance.
+ */
+public class ProcessInstanceMigrationBatchPlanJobHandler implements JobHandler {
+
+    public static final String TYPE = "process-migration-batch-plan";
+
+    /**
+     * The number of chunks that are created by one plan job.
+     */
+    protected static final int CHUNKS_PER_PAGE = 10;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ProcessInstanceMigrationBatchEntity batch = processEngineConfiguration.getProcessInstanceMigrationBatchEntityManager().findById(configuration);
+        if (batch == null || batch.isPlanned() || ProcessInstanceMigrationBatch.STATUS_PAUSED.equals(batch.getStatus())) {
+            // deleted, or paused in which case resuming the batch schedules a new plan job
+            return;
+        }
+
+        int chunkSize = batch.getChunkSize();
+        int pageSize = chunkSize * CHUNKS_PER_PAGE;
+        List<String> processInstanceIds = processEngineConfiguration.getExecutionEntityManager()
+                .findProcessInstanceIdsByProcessDefinitionId(batch.getSourceProcessDefinitionId(), batch.getLastPlannedId(), pageSize);
+
+        ProcessInstanceMigrationBatchPartEntityManager partEntityManager = processEngineConfiguration.getProcessInstanceMigrationBatchPartEntityManager();
+        Date createTime = processEngineConfiguration.getClock().getCurrentTime();
+        int chunk = batch.getChunkCount();
+        for (int i = 0; i < processInstanceIds.size(); i += chunkSize) {
+            int lastIndex = Math.min(i + chunkSize, processInstanceIds.size());
+            for (String processInstanceId : processInstanceIds.subList(i, lastIndex)) {
+                ProcessInstanceMigrationBatchPartEntity part = partEntityManager.create();
+                part.setBatchId(batch.getId());
+                part.setChunk(chunk);
+                part.setProcessInstanceId(processInstanceId);
+                part.setStatus(ProcessInstanceMigrationBatchPart.STATUS_WAITING);
+                part.setCreateTime(createTime);
+                partEntityManager.insert(part);
+            }
+
+            ProcessInstanceMigrationBatchChunkJobHandler.scheduleChunkJob(batch, chunk, commandContext);
+            chunk++;
+        }
+
+        batch.setChunkCount(chunk);
+        if (!processInstanceIds.isEmpty()) {
+            batch.setLastPlannedId(processInstanceIds.get(processInstanceIds.size() - 1));
+        }
+
+        if (processInstanceIds.size() == pageSize) {
+            schedulePlanJob(batch, commandContext);
+        } else {
+            batch.setPlanned(true);
+        }
+    }
+
+    public static void schedulePlanJob(ProcessInstanceMigrationBatch batch, CommandContext commandContext) {
+        scheduleJob(TYPE, batch.getId(), batch, commandContext);
+    }
+
+    public static void scheduleJob(String jobHandlerType, String jobHandlerConfiguration, ProcessInstanceMigrationBatch batch, CommandContext commandContext) {
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        job.setJobType(JobEntity.JOB_TYPE_MESSAGE);
+        job.setJobHandlerType(jobHandlerType);
+        job.setJobHandlerConfiguration(jobHandlerConfiguration);
+        job.setScopeId(batch.getId());
+        // chunks of the same batch migrate different process instances, so they can run in parallel
+        job.setExclusive(false);
+        job.setTenantId(batch.getTenantId());
+        jobService.scheduleAsyncJob(job);
+    }
+
+}
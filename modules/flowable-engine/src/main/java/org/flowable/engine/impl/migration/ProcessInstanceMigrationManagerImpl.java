@@ -122,6 +122,54 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
         return validationResult;
     }
 
+    @Override
+    public ProcessInstanceMigrationValidationResult validateMigrationDocument(String processDefinitionId, ProcessInstanceMigrationDocument document, CommandContext commandContext) {
+        ProcessInstanceMigrationValidationResult validationResult = new ProcessInstanceMigrationValidationResult();
+        ProcessDefinition sourceProcessDefinition = CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId);
+        if (sourceProcessDefinition == null) {
+            validationResult.addValidationMessage("Cannot find the process definition to migrate from, with id '" + processDefinitionId + "'");
+            return validationResult;
+        }
+
+        ProcessDefinition processDefinition = resolveProcessDefinition(document, commandContext);
+        if (processDefinition == null) {
+            validationResult.addValidationMessage("Cannot find the process definition to migrate to, with " + printProcessDefinitionIdentifierMessage(document));
+            return validationResult;
+        }
+
+        BpmnModel bpmnModel = ProcessDefinitionUtil.getBpmnModel(processDefinition.getId());
+        if (bpmnModel == null) {
+            validationResult.addValidationMessage("Cannot find the Bpmn model of the process definition to migrate to, with " + printProcessDefinitionIdentifierMessage(document));
+            return validationResult;
+        }
+
+        if (!isSameTenant(sourceProcessDefinition.getTenantId(), processDefinition.getTenantId())) {
+            validationResult.addValidationMessage("Tenant mismatch between Process Definition ('" + sourceProcessDefinition.getTenantId() + "') and Process Definition ('" + processDefinition.getTenantId() + "') to migrate to");
+            return validationResult;
+        }
+
+        // Mappings into call activities or parent processes depend on the called element of each instance and are validated per instance
+        for (ActivityMigrationMapping mapping : document.getActivityMigrationMappings()) {
+            if (mapping.isToCallActivity() || mapping.isToParentProcess()) {
+                continue;
+            }
+
+            for (String targetActivityId : mapping.getToActivityIds()) {
+                if (!isActivityIdInProcessDefinitionModel(targetActivityId, bpmnModel)) {
+                    validationResult.addValidationMessage("Invalid mapping to '" + targetActivityId + "', cannot be found in the process definition with id '" + bpmnModel.getMainProcess().getId() + "'");
+                    continue;
+                }
+
+                Optional<String> targetFlowElementMultiInstanceParentId = getFlowElementMultiInstanceParentId(bpmnModel.getFlowElement(targetActivityId));
+                if (targetFlowElementMultiInstanceParentId.isPresent()) {
+                    validationResult.addValidationMessage("Invalid mapping to '" + targetActivityId + "', cannot migrate arbitrarily inside a Multi Instance container '" + targetFlowElementMultiInstanceParentId.get() + "' inside process definition with id '" + bpmnModel.getMainProcess().getId() + "'");
+                }
+            }
+        }
+
+        return validationResult;
+    }
+
     protected void doValidateProcessInstanceMigration(String processInstanceId, String tenantId, BpmnModel newModel, ProcessInstanceMigrationDocument document, ProcessInstanceMigrationValidationResult validationResult, CommandContext commandContext) {
 
         ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
@@ -379,6 +427,9 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
         LOGGER.debug("Updating process definition reference in activity instances");
         CommandContextUtil.getActivityInstanceEntityManager().updateActivityInstancesProcessDefinitionId(procDefToMigrateTo.getId(), processInstance.getId());
 
+        LOGGER.debug("Synchronizing searchable variable projections");
+        CommandContextUtil.getVariableProjectionEntityManager(commandContext).synchronizeVariableProjections((ExecutionEntity) processInstance);
+
         LOGGER.debug("Updating Process definition reference in history");
         changeProcessDefinitionReferenceOfHistory(processInstance, procDefToMigrateTo, commandContext);
 
@@ -30,6 +30,7 @@ import org.flowable.engine.impl.ActivityInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.data.ActivityInstanceDataManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.RuntimePersistenceUtil;
 import org.flowable.engine.runtime.ActivityInstance;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 
@@ -92,6 +93,10 @@ public class ActivityInstanceEntityManagerImpl extends AbstractEntityManager<Act
 
     @Override
     public void recordActivityStart(ExecutionEntity executionEntity) {
+        if (isLightweightRuntimePersistence(executionEntity.getProcessDefinitionId())) {
+            return;
+        }
+
         ActivityInstance activityInstance = recordRuntimeActivityStart(executionEntity);
         if (activityInstance != null) {
             getHistoryManager().recordActivityStart(activityInstance);
@@ -100,6 +105,11 @@ public class ActivityInstanceEntityManagerImpl extends AbstractEntityManager<Act
 
     @Override
     public void recordActivityEnd(ExecutionEntity executionEntity, String deleteReason) {
+        if (isLightweightRuntimePersistence(executionEntity.getProcessDefinitionId())) {
+            getHistoryManager().recordActivityEnd(executionEntity, deleteReason);
+            return;
+        }
+
         ActivityInstance activityInstance = recordActivityInstanceEnd(executionEntity, deleteReason);
         if (activityInstance == null) {
             getHistoryManager().recordActivityEnd(executionEntity, deleteReason);
@@ -110,6 +120,10 @@ public class ActivityInstanceEntityManagerImpl extends AbstractEntityManager<Act
 
     @Override
     public void recordSequenceFlowTaken(ExecutionEntity executionEntity) {
+        if (isLightweightRuntimePersistence(executionEntity.getProcessDefinitionId())) {
+            return;
+        }
+
         ActivityInstanceEntity activityInstance = createActivityInstanceEntity(executionEntity);
         activityInstance.setDurationInMillis(0l);
         activityInstance.setEndTime(activityInstance.getStartTime());
@@ -118,10 +132,12 @@ public class ActivityInstanceEntityManagerImpl extends AbstractEntityManager<Act
 
     @Override
     public void recordSubProcessInstanceStart(ExecutionEntity parentExecution, ExecutionEntity subProcessInstance) {
-        ActivityInstanceEntity activityInstance = findUnfinishedActivityInstance(parentExecution);
-        if (activityInstance != null) {
-            activityInstance.setCalledProcessInstanceId(subProcessInstance.getProcessInstanceId());
-            getHistoryManager().updateHistoricActivityInstance(activityInstance);
+        if (!isLightweightRuntimePersistence(parentExecution.getProcessDefinitionId())) {
+            ActivityInstanceEntity activityInstance = findUnfinishedActivityInstance(parentExecution);
+            if (activityInstance != null) {
+                activityInstance.setCalledProcessInstanceId(subProcessInstance.getProcessInstanceId());
+                getHistoryManager().updateHistoricActivityInstance(activityInstance);
+            }
         }
 
         getHistoryManager().recordProcessInstanceStart(subProcessInstance);
@@ -134,7 +150,7 @@ public class ActivityInstanceEntityManagerImpl extends AbstractEntityManager<Act
     }
 
     protected void recordActivityTaskCreated(TaskEntity task, ExecutionEntity execution) {
-        if (execution != null) {
+        if (execution != null && !isLightweightRuntimePersistence(execution.getProcessDefinitionId())) {
             ActivityInstanceEntity activityInstance = findUnfinishedActivityInstance(execution);
             if (activityInstance != null) {
                 activityInstance.setTaskId(task.getId());
@@ -182,6 +198,10 @@ public class ActivityInstanceEntityManagerImpl extends AbstractEntityManager<Act
 
     protected ActivityInstanceEntity recordActivityTaskInfoChange(TaskEntity taskEntity) {
         ActivityInstanceEntity activityInstance = null;
+        if (isLightweightRuntimePersistence(taskEntity.getProcessDefinitionId())) {
+            return activityInstance;
+        }
+
         ExecutionEntity executionEntity = getExecutionEntityManager().findById(taskEntity.getExecutionId());
         if (executionEntity != null) {
             if (!Objects.equals(getOriginalAssignee(taskEntity), taskEntity.getAssignee())) {
@@ -256,6 +276,10 @@ public class ActivityInstanceEntityManagerImpl extends AbstractEntityManager<Act
         return activityInstance;
     }
 
+    protected boolean isLightweightRuntimePersistence(String processDefinitionId) {
+        return RuntimePersistenceUtil.isLightweightRuntimePersistence(getProcessEngineConfiguration(), processDefinitionId);
+    }
+
     public ActivityInstanceDataManager getActivityInstanceDataManager() {
         return activityInstanceDataManager;
     }
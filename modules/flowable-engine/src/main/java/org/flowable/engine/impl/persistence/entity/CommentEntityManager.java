@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -37,6 +38,8 @@ public interface CommentEntityManager extends EntityManager<CommentEntity> {
 
     void deleteCommentsByProcessInstanceId(String processInstanceId);
 
+    void deleteCommentsForProcessInstanceIds(Collection<String> processInstanceIds);
+
     List<Comment> findCommentsByProcessInstanceId(String processInstanceId);
 
     List<Comment> findCommentsByProcessInstanceId(String processInstanceId, String type);
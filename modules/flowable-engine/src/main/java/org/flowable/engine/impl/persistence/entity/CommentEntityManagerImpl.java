@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.api.FlowableException;
@@ -133,6 +134,12 @@ public class CommentEntityManagerImpl extends AbstractEntityManager<CommentEntit
         commentDataManager.deleteCommentsByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public void deleteCommentsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        checkHistoryEnabled();
+        commentDataManager.deleteCommentsForProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public List<Comment> findCommentsByProcessInstanceId(String processInstanceId) {
         checkHistoryEnabled();
@@ -26,6 +26,7 @@ import org.flowable.bpmn.model.StartEvent;
 import org.flowable.bpmn.model.TimerEventDefinition;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.repository.EngineResource;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.ProcessEngineConfiguration;
@@ -39,6 +40,7 @@ import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.persistence.entity.data.DeploymentDataManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
+import org.flowable.engine.impl.util.SearchableVariableUtil;
 import org.flowable.engine.impl.util.TimerUtil;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.repository.Model;
@@ -83,9 +85,15 @@ public class DeploymentEntityManagerImpl extends AbstractEntityManager<Deploymen
         if (cascade) {
             deleteProcessInstancesForProcessDefinitions(processDefinitions);
             deleteHistoricTaskEventLogEntriesForProcessDefinitions(processDefinitions);
+            deleteVariableProjectionsForProcessDefinitions(processDefinitions);
         }
 
+        LatestDefinitionCache latestDefinitionCache = getProcessEngineConfiguration().getLatestDefinitionCache();
         for (ProcessDefinition processDefinition : processDefinitions) {
+            if (latestDefinitionCache != null) {
+                latestDefinitionCache.evict(processDefinition.getKey(), processDefinition.getTenantId());
+            }
+
             deleteProcessDefinitionIdentityLinks(processDefinition);
             deleteEventSubscriptions(processDefinition);
             deleteProcessDefinitionInfo(processDefinition.getId());
@@ -144,6 +152,14 @@ public class DeploymentEntityManagerImpl extends AbstractEntityManager<Deploymen
         }
     }
 
+    protected void deleteVariableProjectionsForProcessDefinitions(List<ProcessDefinition> processDefinitions) {
+        for (ProcessDefinition processDefinition : processDefinitions) {
+            if (SearchableVariableUtil.hasSearchableVariables(processDefinition.getId())) {
+                CommandContextUtil.getVariableProjectionEntityManager().deleteVariableProjectionsByProcessDefinitionId(processDefinition.getId());
+            }
+        }
+    }
+
     protected void removeTimerStartJobs(ProcessDefinition processDefinition) {
         TimerJobService timerJobService = CommandContextUtil.getTimerJobService();
         List<TimerJobEntity> timerStartJobs = timerJobService.findJobsByTypeAndProcessDefinitionId(TimerStartEventJobHandler.TYPE, processDefinition.getId());
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.bpmn.model.Signal;
@@ -60,6 +61,20 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     List<EventSubscriptionEntity> findEventSubscriptionsByNameAndExecution(String type, String eventName, String executionId);
 
+    /**
+     * Returns at most maxResults subscriptions of the given type and name, ordered by id and with an id after the given one (if any).
+     * Only subscriptions of active executions created at or before the broadcast time (if any) are returned and, when a business key is given,
+     * only those of process instances with that business key.
+     */
+    List<EventSubscriptionEntity> findEventSubscriptionsForBroadcast(String type, String eventName, String businessKey, String tenantId, Date broadcastTime,
+            String afterId, int maxResults);
+
+    /**
+     * Same as {@link #findEventSubscriptionsForBroadcast(String, String, String, String, Date, String, int)}, but returns all subscriptions with an id between fromId and toId (both inclusive).
+     */
+    List<EventSubscriptionEntity> findEventSubscriptionsForBroadcastInRange(String type, String eventName, String businessKey, String tenantId, Date broadcastTime,
+            String fromId, String toId);
+
     List<EventSubscriptionEntity> findEventSubscriptionsByExecution(String executionId);
 
     List<EventSubscriptionEntity> findEventSubscriptionsByExecutionAndType(String executionId, String type);
@@ -14,6 +14,7 @@
 package org.flowable.engine.impl.persistence.entity;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.bpmn.model.Signal;
@@ -230,6 +231,18 @@ public class EventSubscriptionEntityManagerImpl extends AbstractEntityManager<Ev
         return eventSubscriptionDataManager.findEventSubscriptionsByName(type, eventName, tenantId);
     }
 
+    @Override
+    public List<EventSubscriptionEntity> findEventSubscriptionsForBroadcast(String type, String eventName, String businessKey, String tenantId, Date broadcastTime,
+            String afterId, int maxResults) {
+        return eventSubscriptionDataManager.findEventSubscriptionsForBroadcast(type, eventName, businessKey, tenantId, broadcastTime, afterId, maxResults);
+    }
+
+    @Override
+    public List<EventSubscriptionEntity> findEventSubscriptionsForBroadcastInRange(String type, String eventName, String businessKey, String tenantId, Date broadcastTime,
+            String fromId, String toId) {
+        return eventSubscriptionDataManager.findEventSubscriptionsForBroadcastInRange(type, eventName, businessKey, tenantId, broadcastTime, fromId, toId);
+    }
+
     @Override
     public List<EventSubscriptionEntity> findEventSubscriptionsByNameAndExecution(String type, String eventName, String executionId) {
         return eventSubscriptionDataManager.findEventSubscriptionsByNameAndExecution(type, eventName, executionId);
@@ -728,6 +728,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         CommandContextUtil.getHistoryManager().recordHistoricDetailVariableCreate(variableInstance, sourceExecution, true,
             getRelatedActivityInstanceId(sourceExecution));
 
+        if (isProcessInstanceType()) {
+            CommandContextUtil.getVariableProjectionEntityManager().projectVariable(this, variableInstance);
+        }
+
         return variableInstance;
     }
     
@@ -753,6 +757,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
             getRelatedActivityInstanceId(sourceExecution));
 
         CommandContextUtil.getHistoryManager().recordVariableUpdate(variableInstance);
+
+        if (isProcessInstanceType()) {
+            CommandContextUtil.getVariableProjectionEntityManager().projectVariable(this, variableInstance);
+        }
     }
 
     @Override
@@ -767,6 +775,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         // Record historic detail
         CommandContextUtil.getHistoryManager().recordHistoricDetailVariableCreate(variableInstance, this, true,
             getRelatedActivityInstanceId(this));
+
+        if (isProcessInstanceType()) {
+            CommandContextUtil.getVariableProjectionEntityManager().deleteVariableProjection(this, variableInstance);
+        }
     }
     
     @Override
@@ -49,6 +49,12 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     List<ExecutionEntity> findChildExecutionsByProcessInstanceId(String processInstanceId);
 
+    /**
+     * Returns at most maxResults process instance ids of the given process definition, ordered by id and starting
+     * after the given id (or from the first one when afterId is null).
+     */
+    List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterId, int maxResults);
+
     List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(String parentExecutionId, Collection<String> activityIds);
 
     long findExecutionCountByQueryCriteria(ExecutionQueryImpl executionQuery);
@@ -88,6 +94,14 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     void deleteProcessInstancesByProcessDefinition(String processDefinitionId, String deleteReason, boolean cascade);
 
+    /**
+     * Deletes at most maxResults process instances of the given process definition, ordered by id and starting after the given id
+     * (or from the first one when afterId is null), and returns the ids of the process instances that were selected for deletion.
+     * Contrary to {@link #deleteProcessInstancesByProcessDefinition(String, String, boolean)}, the historic process instances of the
+     * process definition are not bulk deleted.
+     */
+    List<String> deleteProcessInstancesByProcessDefinition(String processDefinitionId, String afterId, int maxResults, String deleteReason, boolean cascade);
+
     void deleteProcessInstance(String processInstanceId, String deleteReason, boolean cascade);
 
     void deleteProcessInstanceExecutionEntity(String processInstanceId, String currentFlowElementId,
@@ -49,6 +49,8 @@ import org.flowable.engine.impl.util.CountingEntityUtil;
 import org.flowable.engine.impl.util.EventUtil;
 import org.flowable.engine.impl.util.IdentityLinkUtil;
 import org.flowable.engine.impl.util.ProcessInstanceHelper;
+import org.flowable.engine.impl.util.RuntimePersistenceUtil;
+import org.flowable.engine.impl.util.SearchableVariableUtil;
 import org.flowable.engine.impl.util.TaskHelper;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.Execution;
@@ -118,6 +120,11 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         return executionDataManager.findChildExecutionsByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterId, int maxResults) {
+        return executionDataManager.findProcessInstanceIdsByProcessDefinitionId(processDefinitionId, afterId, maxResults);
+    }
+
     @Override
     public List<ExecutionEntity> findExecutionsByParentExecutionAndActivityIds(final String parentExecutionId, final Collection<String> activityIds) {
         return executionDataManager.findExecutionsByParentExecutionAndActivityIds(parentExecutionId, activityIds);
@@ -236,7 +243,8 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
 
         ExecutionEntity processInstanceExecution = executionDataManager.create();
 
-        if (CountingEntityUtil.isExecutionRelatedEntityCountEnabledGlobally()) {
+        if (CountingEntityUtil.isExecutionRelatedEntityCountEnabledGlobally()
+                && !RuntimePersistenceUtil.isLightweightRuntimePersistence(processEngineConfiguration, processDefinition.getId())) {
             ((CountingExecutionEntity) processInstanceExecution).setCountEnabled(true);
         }
         
@@ -333,6 +341,9 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
 
         ExecutionEntity subProcessInstance = executionDataManager.create();
         inheritCommonProperties(superExecutionEntity, subProcessInstance);
+        if (RuntimePersistenceUtil.isLightweightRuntimePersistence(processEngineConfiguration, processDefinition.getId())) {
+            ((CountingExecutionEntity) subProcessInstance).setCountEnabled(false);
+        }
         subProcessInstance.setProcessDefinitionId(processDefinition.getId());
         subProcessInstance.setProcessDefinitionKey(processDefinition.getKey());
         subProcessInstance.setProcessDefinitionName(processDefinition.getName());
@@ -409,6 +420,21 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         }
     }
 
+    @Override
+    public List<String> deleteProcessInstancesByProcessDefinition(String processDefinitionId, String afterId, int maxResults, String deleteReason, boolean cascade) {
+        List<String> processInstanceIds = executionDataManager.findProcessInstanceIdsByProcessDefinitionId(processDefinitionId, afterId, maxResults);
+
+        for (String processInstanceId : processInstanceIds) {
+            // a process instance started by a call activity could already be deleted together with its parent process instance
+            ExecutionEntity processInstanceExecution = findById(processInstanceId);
+            if (processInstanceExecution != null) {
+                deleteProcessInstanceCascade(processInstanceExecution, deleteReason, cascade);
+            }
+        }
+
+        return processInstanceIds;
+    }
+
     @Override
     public void deleteProcessInstance(String processInstanceId, String deleteReason, boolean cascade) {
         ExecutionEntity processInstanceExecution = findById(processInstanceId);
@@ -499,6 +525,9 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         deleteExecutionAndRelatedData(execution, deleteReason, deleteHistory);
 
         if (deleteHistory) {
+            if (SearchableVariableUtil.hasSearchableVariables(execution.getProcessDefinitionId())) {
+                CommandContextUtil.getVariableProjectionEntityManager().deleteVariableProjectionsByProcessInstanceId(execution.getId());
+            }
             getHistoryManager().recordProcessInstanceDeleted(execution.getId(), execution.getProcessDefinitionId());
         }
 
@@ -781,6 +810,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         deleteJobs(executionEntity, commandContext, enableExecutionRelationshipCounts, eventDispatcherEnabled);
         deleteEventSubScriptions(executionEntity, enableExecutionRelationshipCounts, eventDispatcherEnabled);
         deleteActivityInstances(executionEntity, commandContext);
+        deleteVariableProjections(executionEntity, commandContext);
     }
 
     protected void deleteActivityInstances(ExecutionEntity executionEntity, CommandContext commandContext) {
@@ -789,6 +819,14 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         }
     }
 
+    protected void deleteVariableProjections(ExecutionEntity executionEntity, CommandContext commandContext) {
+        // The projection outlives the process instance while its history is kept, as historic process instance queries use it
+        if (executionEntity.isProcessInstanceType() && !getHistoryManager().isHistoryEnabled(executionEntity.getProcessDefinitionId())
+                && SearchableVariableUtil.hasSearchableVariables(executionEntity.getProcessDefinitionId())) {
+            CommandContextUtil.getVariableProjectionEntityManager(commandContext).deleteVariableProjectionsByProcessInstanceId(executionEntity.getId());
+        }
+    }
+
     protected void deleteIdentityLinks(ExecutionEntity executionEntity, CommandContext commandContext, boolean eventDispatcherEnabled) {
         if (executionEntity.isProcessInstanceType()) {
             IdentityLinkService identityLinkService = CommandContextUtil.getIdentityLinkService(commandContext);
@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -62,6 +63,11 @@ public class HistoricActivityInstanceEntityManagerImpl extends AbstractEntityMan
             historicActivityInstanceDataManager.deleteHistoricActivityInstancesByProcessInstanceId(historicProcessInstanceId);
         }
     }
+    
+    @Override
+    public void deleteHistoricActivityInstancesForProcessInstanceIds(Collection<String> historicProcessInstanceIds) {
+        historicActivityInstanceDataManager.deleteHistoricActivityInstancesForProcessInstanceIds(historicProcessInstanceIds);
+    }
 
     @Override
     public long findHistoricActivityInstanceCountByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -40,5 +41,10 @@ public interface HistoricDetailEntityManager extends EntityManager<HistoricDetai
     long findHistoricDetailCountByNativeQuery(Map<String, Object> parameterMap);
 
     void deleteHistoricDetailsByProcessInstanceId(String historicProcessInstanceId);
+    
+    /**
+     * Deletes the historic details, including their byte arrays, of all the given process instances using set-based deletes.
+     */
+    void deleteHistoricDetailsForProcessInstanceIds(Collection<String> historicProcessInstanceIds);
 
 }
\ No newline at end of file
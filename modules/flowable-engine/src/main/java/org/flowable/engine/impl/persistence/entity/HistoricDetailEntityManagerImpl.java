@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -23,7 +24,9 @@ import org.flowable.engine.history.HistoricDetail;
 import org.flowable.engine.impl.HistoricDetailQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.data.HistoricDetailDataManager;
+import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.types.LargeObjectType;
 
 /**
  * @author Tom Baeyens
@@ -100,9 +103,25 @@ public class HistoricDetailEntityManagerImpl extends AbstractEntityManager<Histo
             if (historicDetailVariableInstanceUpdateEntity.getByteArrayRef() != null) {
                 historicDetailVariableInstanceUpdateEntity.getByteArrayRef().delete();
             }
+
+            LargeObjectType largeObjectType = getLargeObjectType();
+            if (largeObjectType != null && LargeObjectType.TYPE_NAME.equals(historicDetailVariableInstanceUpdateEntity.getVariableTypeName())) {
+                largeObjectType.releaseReference(historicDetailVariableInstanceUpdateEntity.getTextValue(), true);
+            }
         }
     }
 
+    @Override
+    public void deleteHistoricDetailsForProcessInstanceIds(Collection<String> historicProcessInstanceIds) {
+        LargeObjectType largeObjectType = getLargeObjectType();
+        if (largeObjectType != null) {
+            for (String reference : historicDetailDataManager.findLargeObjectReferencesForProcessInstanceIds(historicProcessInstanceIds)) {
+                largeObjectType.releaseReference(reference, true);
+            }
+        }
+        historicDetailDataManager.deleteHistoricDetailsForProcessInstanceIds(historicProcessInstanceIds);
+    }
+
     @Override
     public void deleteHistoricDetailsByProcessInstanceId(String historicProcessInstanceId) {
         if (getHistoryManager().isHistoryLevelAtLeast(HistoryLevel.AUDIT)) {
@@ -144,6 +163,11 @@ public class HistoricDetailEntityManagerImpl extends AbstractEntityManager<Histo
         return historicDetailDataManager.findHistoricDetailCountByNativeQuery(parameterMap);
     }
 
+    protected LargeObjectType getLargeObjectType() {
+        VariableType variableType = getProcessEngineConfiguration().getVariableTypes().getVariableType(LargeObjectType.TYPE_NAME);
+        return variableType instanceof LargeObjectType ? (LargeObjectType) variableType : null;
+    }
+
     public HistoricDetailDataManager getHistoricDetailDataManager() {
         return historicDetailDataManager;
     }
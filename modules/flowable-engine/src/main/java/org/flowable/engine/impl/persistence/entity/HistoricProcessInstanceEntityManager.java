@@ -12,9 +12,11 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.history.ExpiredHistoryCriteria;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -42,5 +44,16 @@ public interface HistoricProcessInstanceEntityManager extends EntityManager<Hist
     List<String> findHistoricProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
     
     long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap);
+    
+    List<String> findExpiredHistoricProcessInstanceIds(ExpiredHistoryCriteria expiredHistoryCriteria, int maxResults);
+    
+    /**
+     * @return at most maxResults historic process instances with an id after the given one, ordered by id. All instances are considered when the id is null.
+     */
+    List<HistoricProcessInstance> findHistoricProcessInstancesAfterId(String processInstanceId, int maxResults);
+    
+    List<String> findHistoricProcessInstanceIdsForSuperProcessInstanceIds(Collection<String> superProcessInstanceIds);
+    
+    void deleteHistoricProcessInstancesForIds(Collection<String> historicProcessInstanceIds);
 
 }
\ No newline at end of file
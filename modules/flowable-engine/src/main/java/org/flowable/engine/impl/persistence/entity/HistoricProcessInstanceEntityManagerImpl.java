@@ -13,10 +13,12 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.history.ExpiredHistoryCriteria;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -91,6 +93,26 @@ public class HistoricProcessInstanceEntityManagerImpl extends AbstractEntityMana
     public long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap) {
         return historicProcessInstanceDataManager.findHistoricProcessInstanceCountByNativeQuery(parameterMap);
     }
+    
+    @Override
+    public List<String> findExpiredHistoricProcessInstanceIds(ExpiredHistoryCriteria expiredHistoryCriteria, int maxResults) {
+        return historicProcessInstanceDataManager.findExpiredHistoricProcessInstanceIds(expiredHistoryCriteria, maxResults);
+    }
+    
+    @Override
+    public List<HistoricProcessInstance> findHistoricProcessInstancesAfterId(String processInstanceId, int maxResults) {
+        return historicProcessInstanceDataManager.findHistoricProcessInstancesAfterId(processInstanceId, maxResults);
+    }
+    
+    @Override
+    public List<String> findHistoricProcessInstanceIdsForSuperProcessInstanceIds(Collection<String> superProcessInstanceIds) {
+        return historicProcessInstanceDataManager.findHistoricProcessInstanceIdsForSuperProcessInstanceIds(superProcessInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricProcessInstancesForIds(Collection<String> historicProcessInstanceIds) {
+        historicProcessInstanceDataManager.deleteHistoricProcessInstancesForIds(historicProcessInstanceIds);
+    }
 
     public HistoricProcessInstanceDataManager getHistoricProcessInstanceDataManager() {
         return historicProcessInstanceDataManager;
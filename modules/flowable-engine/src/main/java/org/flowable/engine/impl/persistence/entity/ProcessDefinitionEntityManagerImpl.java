@@ -15,11 +15,14 @@ package org.flowable.engine.impl.persistence.entity;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
 import org.flowable.engine.impl.persistence.entity.data.ProcessDefinitionDataManager;
 import org.flowable.engine.repository.ProcessDefinition;
 
@@ -45,12 +48,42 @@ public class ProcessDefinitionEntityManagerImpl extends AbstractEntityManager<Pr
 
     @Override
     public ProcessDefinitionEntity findLatestProcessDefinitionByKey(String processDefinitionKey) {
-        return processDefinitionDataManager.findLatestProcessDefinitionByKey(processDefinitionKey);
+        return findLatestProcessDefinition(processDefinitionKey, null,
+                () -> processDefinitionDataManager.findLatestProcessDefinitionByKey(processDefinitionKey));
     }
 
     @Override
     public ProcessDefinitionEntity findLatestProcessDefinitionByKeyAndTenantId(String processDefinitionKey, String tenantId) {
-        return processDefinitionDataManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, tenantId);
+        return findLatestProcessDefinition(processDefinitionKey, tenantId,
+                () -> processDefinitionDataManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, tenantId));
+    }
+
+    protected ProcessDefinitionEntity findLatestProcessDefinition(String processDefinitionKey, String tenantId, Supplier<ProcessDefinitionEntity> query) {
+        LatestDefinitionCache latestDefinitionCache = getProcessEngineConfiguration().getLatestDefinitionCache();
+        if (latestDefinitionCache == null) {
+            return query.get();
+        }
+
+        String processDefinitionId = latestDefinitionCache.getDefinitionId(processDefinitionKey, tenantId);
+        if (processDefinitionId != null) {
+            ProcessDefinitionCacheEntry cacheEntry = getProcessEngineConfiguration().getProcessDefinitionCache().get(processDefinitionId);
+            if (cacheEntry != null) {
+                return (ProcessDefinitionEntity) cacheEntry.getProcessDefinition();
+            }
+
+            ProcessDefinitionEntity latestProcessDefinition = findById(processDefinitionId);
+            if (latestProcessDefinition != null) {
+                return latestProcessDefinition;
+            }
+
+            latestDefinitionCache.remove(processDefinitionKey, tenantId);
+        }
+
+        ProcessDefinitionEntity processDefinition = query.get();
+        if (processDefinition != null) {
+            latestDefinitionCache.put(processDefinitionKey, tenantId, processDefinition.getId(), processDefinition.getVersion());
+        }
+        return processDefinition;
     }
     
     @Override
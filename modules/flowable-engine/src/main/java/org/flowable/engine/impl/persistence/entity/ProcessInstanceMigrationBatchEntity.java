@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.Date;
+
+import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+
+public interface ProcessInstanceMigrationBatchEntity extends ProcessInstanceMigrationBatch, Entity, HasRevision {
+
+    void setStatus(String status);
+
+    void setSourceProcessDefinitionId(String sourceProcessDefinitionId);
+
+    void setTargetProcessDefinitionId(String targetProcessDefinitionId);
+
+    /**
+     * Id of the byte array holding the json of the migration document.
+     */
+    String getDocumentJsonId();
+
+    void setDocumentJsonId(String documentJsonId);
+
+    void setChunkSize(int chunkSize);
+
+    void setChunkCount(int chunkCount);
+
+    void setPlanned(boolean planned);
+
+    /**
+     * Id of the last process instance for which a part was created, planning continues after it.
+     */
+    String getLastPlannedId();
+
+    void setLastPlannedId(String lastPlannedId);
+
+    void setCreateTime(Date createTime);
+
+    void setTenantId(String tenantId);
+
+}
@@ -0,0 +1,157 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.ProcessEngineConfiguration;
+
+public class ProcessInstanceMigrationBatchEntityImpl extends AbstractBpmnEngineEntity implements ProcessInstanceMigrationBatchEntity, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String status;
+    protected String sourceProcessDefinitionId;
+    protected String targetProcessDefinitionId;
+    protected String documentJsonId;
+    protected int chunkSize;
+    protected int chunkCount;
+    protected boolean planned;
+    protected String lastPlannedId;
+    protected Date createTime;
+    protected String tenantId = ProcessEngineConfiguration.NO_TENANT_ID;
+
+    public ProcessInstanceMigrationBatchEntityImpl() {
+
+    }
+
+    @Override
+    public Object getPersistentState() {
+        Map<String, Object> persistentState = new HashMap<>();
+        persistentState.put("status", this.status);
+        persistentState.put("chunkCount", this.chunkCount);
+        persistentState.put("planned", this.planned);
+        persistentState.put("lastPlannedId", this.lastPlannedId);
+        return persistentState;
+    }
+
+    // getters and setters //////////////////////////////////////////////////////
+
+    @Override
+    public String getStatus() {
+        return status;
+    }
+
+    @Override
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    @Override
+    public String getSourceProcessDefinitionId() {
+        return sourceProcessDefinitionId;
+    }
+
+    @Override
+    public void setSourceProcessDefinitionId(String sourceProcessDefinitionId) {
+        this.sourceProcessDefinitionId = sourceProcessDefinitionId;
+    }
+
+    @Override
+    public String getTargetProcessDefinitionId() {
+        return targetProcessDefinitionId;
+    }
+
+    @Override
+    public void setTargetProcessDefinitionId(String targetProcessDefinitionId) {
+        this.targetProcessDefinitionId = targetProcessDefinitionId;
+    }
+
+    @Override
+    public String getDocumentJsonId() {
+        return documentJsonId;
+    }
+
+    @Override
+    public void setDocumentJsonId(String documentJsonId) {
+        this.documentJsonId = documentJsonId;
+    }
+
+    @Override
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    @Override
+    public void setChunkCount(int chunkCount) {
+        this.chunkCount = chunkCount;
+    }
+
+    @Override
+    public boolean isPlanned() {
+        return planned;
+    }
+
+    @Override
+    public void setPlanned(boolean planned) {
+        this.planned = planned;
+    }
+
+    @Override
+    public String getLastPlannedId() {
+        return lastPlannedId;
+    }
+
+    @Override
+    public void setLastPlannedId(String lastPlannedId) {
+        this.lastPlannedId = lastPlannedId;
+    }
+
+    @Override
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    @Override
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    @Override
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    @Override
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessInstanceMigrationBatchEntity[id=" + id + ", status=" + status + ", sourceProcessDefinitionId=" + sourceProcessDefinitionId + "]";
+    }
+}
@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import org.flowable.common.engine.impl.persistence.entity.EntityManager;
+
+public interface ProcessInstanceMigrationBatchEntityManager extends EntityManager<ProcessInstanceMigrationBatchEntity> {
+
+    /**
+     * Stores the json of the migration document of the batch as a byte array.
+     */
+    void setMigrationDocumentJson(ProcessInstanceMigrationBatchEntity batch, String migrationDocumentJson);
+
+    String getMigrationDocumentJson(ProcessInstanceMigrationBatchEntity batch);
+
+    /**
+     * Deletes the batch together with its parts and its migration document.
+     */
+    void deleteBatch(ProcessInstanceMigrationBatchEntity batch);
+
+}
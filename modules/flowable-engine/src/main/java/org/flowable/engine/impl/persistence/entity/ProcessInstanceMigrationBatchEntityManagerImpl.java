@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.nio.charset.StandardCharsets;
+
+import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.data.ProcessInstanceMigrationBatchDataManager;
+
+public class ProcessInstanceMigrationBatchEntityManagerImpl extends AbstractEntityManager<ProcessInstanceMigrationBatchEntity> implements ProcessInstanceMigrationBatchEntityManager {
+
+    protected ProcessInstanceMigrationBatchDataManager processInstanceMigrationBatchDataManager;
+
+    public ProcessInstanceMigrationBatchEntityManagerImpl(ProcessEngineConfigurationImpl processEngineConfiguration,
+            ProcessInstanceMigrationBatchDataManager processInstanceMigrationBatchDataManager) {
+        super(processEngineConfiguration);
+        this.processInstanceMigrationBatchDataManager = processInstanceMigrationBatchDataManager;
+    }
+
+    @Override
+    protected DataManager<ProcessInstanceMigrationBatchEntity> getDataManager() {
+        return processInstanceMigrationBatchDataManager;
+    }
+
+    @Override
+    public void setMigrationDocumentJson(ProcessInstanceMigrationBatchEntity batch, String migrationDocumentJson) {
+        ByteArrayRef ref = new ByteArrayRef(batch.getDocumentJsonId());
+        ref.setValue("migration-document", migrationDocumentJson.getBytes(StandardCharsets.UTF_8));
+
+        if (batch.getDocumentJsonId() == null) {
+            batch.setDocumentJsonId(ref.getId());
+        }
+    }
+
+    @Override
+    public String getMigrationDocumentJson(ProcessInstanceMigrationBatchEntity batch) {
+        if (batch.getDocumentJsonId() == null) {
+            return null;
+        }
+        ByteArrayRef ref = new ByteArrayRef(batch.getDocumentJsonId());
+        return new String(ref.getBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void deleteBatch(ProcessInstanceMigrationBatchEntity batch) {
+        getProcessEngineConfiguration().getProcessInstanceMigrationBatchPartEntityManager().deleteBatchPartsByBatchId(batch.getId());
+
+        if (batch.getDocumentJsonId() != null) {
+            ByteArrayRef ref = new ByteArrayRef(batch.getDocumentJsonId());
+            ref.delete();
+        }
+
+        delete(batch);
+    }
+
+}
@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ProcessInstanceMigrationBatchPartEntityImpl extends AbstractBpmnEngineEntity implements ProcessInstanceMigrationBatchPartEntity, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String batchId;
+    protected int chunk;
+    protected String processInstanceId;
+    protected String status;
+    protected String errorMessage;
+    protected Date createTime;
+    protected Date completeTime;
+
+    public ProcessInstanceMigrationBatchPartEntityImpl() {
+
+    }
+
+    @Override
+    public Object getPersistentState() {
+        Map<String, Object> persistentState = new HashMap<>();
+        persistentState.put("status", this.status);
+        persistentState.put("errorMessage", this.errorMessage);
+        persistentState.put("completeTime", this.completeTime);
+        return persistentState;
+    }
+
+    // getters and setters //////////////////////////////////////////////////////
+
+    @Override
+    public String getBatchId() {
+        return batchId;
+    }
+
+    @Override
+    public void setBatchId(String batchId) {
+        this.batchId = batchId;
+    }
+
+    @Override
+    public int getChunk() {
+        return chunk;
+    }
+
+    @Override
+    public void setChunk(int chunk) {
+        this.chunk = chunk;
+    }
+
+    @Override
+    public String getProcessInstanceId() {
+        return processInstanceId;
+    }
+
+    @Override
+    public void setProcessInstanceId(String processInstanceId) {
+        this.processInstanceId = processInstanceId;
+    }
+
+    @Override
+    public String getStatus() {
+        return status;
+    }
+
+    @Override
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    @Override
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @Override
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    @Override
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    @Override
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    @Override
+    public Date getCompleteTime() {
+        return completeTime;
+    }
+
+    @Override
+    public void setCompleteTime(Date completeTime) {
+        this.completeTime = completeTime;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessInstanceMigrationBatchPartEntity[id=" + id + ", batchId=" + batchId + ", processInstanceId=" + processInstanceId + ", status=" + status + "]";
+    }
+}
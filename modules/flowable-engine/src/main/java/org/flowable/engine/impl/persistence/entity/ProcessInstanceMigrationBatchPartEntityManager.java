@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.EntityManager;
+
+public interface ProcessInstanceMigrationBatchPartEntityManager extends EntityManager<ProcessInstanceMigrationBatchPartEntity> {
+
+    /**
+     * Returns the parts of a batch, restricted to the given status when it is not null.
+     */
+    List<ProcessInstanceMigrationBatchPartEntity> findBatchPartsByBatchIdAndStatus(String batchId, String status);
+
+    List<ProcessInstanceMigrationBatchPartEntity> findBatchPartsByBatchIdAndChunkAndStatus(String batchId, int chunk, String status);
+
+    long countBatchPartsByBatchIdAndStatus(String batchId, String status);
+
+    /**
+     * Returns the numbers of the chunks of a batch that have at least one part with the given status.
+     */
+    List<Integer> findChunksByBatchIdAndStatus(String batchId, String status);
+
+    void deleteBatchPartsByBatchId(String batchId);
+
+}
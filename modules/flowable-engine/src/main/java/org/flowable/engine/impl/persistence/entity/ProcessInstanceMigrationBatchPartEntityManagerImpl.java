@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.data.ProcessInstanceMigrationBatchPartDataManager;
+
+public class ProcessInstanceMigrationBatchPartEntityManagerImpl extends AbstractEntityManager<ProcessInstanceMigrationBatchPartEntity> implements ProcessInstanceMigrationBatchPartEntityManager {
+
+    protected ProcessInstanceMigrationBatchPartDataManager processInstanceMigrationBatchPartDataManager;
+
+    public ProcessInstanceMigrationBatchPartEntityManagerImpl(ProcessEngineConfigurationImpl processEngineConfiguration,
+            ProcessInstanceMigrationBatchPartDataManager processInstanceMigrationBatchPartDataManager) {
+        super(processEngineConfiguration);
+        this.processInstanceMigrationBatchPartDataManager = processInstanceMigrationBatchPartDataManager;
+    }
+
+    @Override
+    protected DataManager<ProcessInstanceMigrationBatchPartEntity> getDataManager() {
+        return processInstanceMigrationBatchPartDataManager;
+    }
+
+    @Override
+    public List<ProcessInstanceMigrationBatchPartEntity> findBatchPartsByBatchIdAndStatus(String batchId, String status) {
+        return processInstanceMigrationBatchPartDataManager.findBatchPartsByBatchIdAndStatus(batchId, status);
+    }
+
+    @Override
+    public List<ProcessInstanceMigrationBatchPartEntity> findBatchPartsByBatchIdAndChunkAndStatus(String batchId, int chunk, String status) {
+        return processInstanceMigrationBatchPartDataManager.findBatchPartsByBatchIdAndChunkAndStatus(batchId, chunk, status);
+    }
+
+    @Override
+    public long countBatchPartsByBatchIdAndStatus(String batchId, String status) {
+        return processInstanceMigrationBatchPartDataManager.countBatchPartsByBatchIdAndStatus(batchId, status);
+    }
+
+    @Override
+    public List<Integer> findChunksByBatchIdAndStatus(String batchId, String status) {
+        return processInstanceMigrationBatchPartDataManager.findChunksByBatchIdAndStatus(batchId, status);
+    }
+
+    @Override
+    public void deleteBatchPartsByBatchId(String batchId) {
+        processInstanceMigrationBatchPartDataManager.deleteBatchPartsByBatchId(batchId);
+    }
+
+}
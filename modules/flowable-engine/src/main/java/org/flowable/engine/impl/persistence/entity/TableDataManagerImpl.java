@@ -92,12 +92,15 @@ public class TableDataManagerImpl extends AbstractManager implements TableDataMa
         entityToTableNameMap.put(MessageEventSubscriptionEntity.class, "ACT_RU_EVENT_SUBSCR");
         entityToTableNameMap.put(SignalEventSubscriptionEntity.class, "ACT_RU_EVENT_SUBSCR");
         entityToTableNameMap.put(ActivityInstanceEntity.class, "ACT_RU_ACTINST");
+        entityToTableNameMap.put(ProcessInstanceMigrationBatchEntity.class, "ACT_RU_MIGR_BATCH");
+        entityToTableNameMap.put(ProcessInstanceMigrationBatchPartEntity.class, "ACT_RU_MIGR_BATCH_PART");
 
         // repository
         entityToTableNameMap.put(DeploymentEntity.class, "ACT_RE_DEPLOYMENT");
         entityToTableNameMap.put(ProcessDefinitionEntity.class, "ACT_RE_PROCDEF");
         entityToTableNameMap.put(ModelEntity.class, "ACT_RE_MODEL");
         entityToTableNameMap.put(ProcessDefinitionInfoEntity.class, "ACT_PROCDEF_INFO");
+        entityToTableNameMap.put(VariableProjectionEntity.class, "ACT_PROCVAR_PROJ");
 
         // history
         entityToTableNameMap.put(CommentEntity.class, "ACT_HI_COMMENT");
@@ -0,0 +1,52 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * Typed copy of a searchable process variable, stored in an indexed table so variable conditions of queries
+ * do not need to go through the generic variable table. The id is the id of the projected variable instance.
+ */
+public interface VariableProjectionEntity extends Entity, HasRevision {
+
+    String getProcessInstanceId();
+
+    void setProcessInstanceId(String processInstanceId);
+
+    String getProcessDefinitionId();
+
+    void setProcessDefinitionId(String processDefinitionId);
+
+    String getName();
+
+    void setName(String name);
+
+    String getTypeName();
+
+    void setTypeName(String typeName);
+
+    String getTextValue();
+
+    void setTextValue(String textValue);
+
+    Long getLongValue();
+
+    void setLongValue(Long longValue);
+
+    Double getDoubleValue();
+
+    void setDoubleValue(Double doubleValue);
+
+}
@@ -0,0 +1,122 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+public class VariableProjectionEntityImpl extends AbstractBpmnEngineEntity implements VariableProjectionEntity, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String processInstanceId;
+    protected String processDefinitionId;
+    protected String name;
+    protected String typeName;
+    protected String textValue;
+    protected Long longValue;
+    protected Double doubleValue;
+
+    public VariableProjectionEntityImpl() {
+
+    }
+
+    @Override
+    public Object getPersistentState() {
+        Map<String, Object> persistentState = new HashMap<>();
+        persistentState.put("processDefinitionId", this.processDefinitionId);
+        persistentState.put("typeName", this.typeName);
+        persistentState.put("textValue", this.textValue);
+        persistentState.put("longValue", this.longValue);
+        persistentState.put("doubleValue", this.doubleValue);
+        return persistentState;
+    }
+
+    // getters and setters //////////////////////////////////////////////////////
+
+    @Override
+    public String getProcessInstanceId() {
+        return processInstanceId;
+    }
+
+    @Override
+    public void setProcessInstanceId(String processInstanceId) {
+        this.processInstanceId = processInstanceId;
+    }
+
+    @Override
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    @Override
+    public void setProcessDefinitionId(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String getTypeName() {
+        return typeName;
+    }
+
+    @Override
+    public void setTypeName(String typeName) {
+        this.typeName = typeName;
+    }
+
+    @Override
+    public String getTextValue() {
+        return textValue;
+    }
+
+    @Override
+    public void setTextValue(String textValue) {
+        this.textValue = textValue;
+    }
+
+    @Override
+    public Long getLongValue() {
+        return longValue;
+    }
+
+    @Override
+    public void setLongValue(Long longValue) {
+        this.longValue = longValue;
+    }
+
+    @Override
+    public Double getDoubleValue() {
+        return doubleValue;
+    }
+
+    @Override
+    public void setDoubleValue(Double doubleValue) {
+        this.doubleValue = doubleValue;
+    }
+
+    @Override
+    public String toString() {
+        return "VariableProjectionEntity[id=" + id + ", name=" + name + ", type=" + typeName + ", processInstanceId=" + processInstanceId + "]";
+    }
+}
@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.EntityManager;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+public interface VariableProjectionEntityManager extends EntityManager<VariableProjectionEntity> {
+
+    /**
+     * Creates, updates or removes the projection of the given process instance variable,
+     * depending on whether the process definition declares it as a searchable variable of the variable's type.
+     */
+    void projectVariable(ExecutionEntity processInstance, VariableInstanceEntity variableInstance);
+
+    /**
+     * Removes the projection of the given process instance variable, if there is one.
+     */
+    void deleteVariableProjection(ExecutionEntity processInstance, VariableInstanceEntity variableInstance);
+
+    /**
+     * Brings the projections of a process instance in line with the searchable variables of its current process definition,
+     * for example after the process instance was migrated to another process definition.
+     */
+    void synchronizeVariableProjections(ExecutionEntity processInstance);
+
+    List<VariableProjectionEntity> findVariableProjectionsByProcessInstanceId(String processInstanceId);
+
+    void deleteVariableProjectionsByProcessInstanceId(String processInstanceId);
+
+    void deleteVariableProjectionsForProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteVariableProjectionsByProcessDefinitionId(String processDefinitionId);
+
+}
@@ -0,0 +1,154 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.data.VariableProjectionDataManager;
+import org.flowable.engine.impl.util.SearchableVariableUtil;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class VariableProjectionEntityManagerImpl extends AbstractEntityManager<VariableProjectionEntity> implements VariableProjectionEntityManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VariableProjectionEntityManagerImpl.class);
+
+    /**
+     * Maximum length of a projected text value, the text column of the projection is kept small enough to be indexed on all databases.
+     * Longer values are truncated, see {@link org.flowable.engine.impl.DefaultQueryVariableProjectionResolver} for the conditions that
+     * are still evaluated against the projection.
+     */
+    public static final int MAX_TEXT_LENGTH = 255;
+
+    protected VariableProjectionDataManager variableProjectionDataManager;
+
+    public VariableProjectionEntityManagerImpl(ProcessEngineConfigurationImpl processEngineConfiguration, VariableProjectionDataManager variableProjectionDataManager) {
+        super(processEngineConfiguration);
+        this.variableProjectionDataManager = variableProjectionDataManager;
+    }
+
+    @Override
+    protected DataManager<VariableProjectionEntity> getDataManager() {
+        return variableProjectionDataManager;
+    }
+
+    @Override
+    public void projectVariable(ExecutionEntity processInstance, VariableInstanceEntity variableInstance) {
+        String searchableType = SearchableVariableUtil.getSearchableVariableType(processInstance.getProcessDefinitionId(), variableInstance.getName());
+        if (searchableType != null) {
+            VariableProjectionEntity variableProjection = variableProjectionDataManager.findVariableProjectionByVariableInstance(variableInstance);
+            applyProjection(processInstance, variableInstance, searchableType, variableProjection);
+        }
+    }
+
+    @Override
+    public void deleteVariableProjection(ExecutionEntity processInstance, VariableInstanceEntity variableInstance) {
+        if (SearchableVariableUtil.getSearchableVariableType(processInstance.getProcessDefinitionId(), variableInstance.getName()) != null) {
+            VariableProjectionEntity variableProjection = variableProjectionDataManager.findVariableProjectionByVariableInstance(variableInstance);
+            if (variableProjection != null) {
+                delete(variableProjection, false);
+            }
+        }
+    }
+
+    @Override
+    public void synchronizeVariableProjections(ExecutionEntity processInstance) {
+        Map<String, String> searchableVariables = SearchableVariableUtil.getSearchableVariables(processInstance.getProcessDefinitionId());
+
+        Map<String, VariableProjectionEntity> existingProjections = new HashMap<>();
+        for (VariableProjectionEntity variableProjection : findVariableProjectionsByProcessInstanceId(processInstance.getId())) {
+            existingProjections.put(variableProjection.getId(), variableProjection);
+        }
+
+        if (searchableVariables.isEmpty() && existingProjections.isEmpty()) {
+            return;
+        }
+
+        for (VariableInstance variable : processInstance.getVariableInstancesLocal().values()) {
+            if (variable instanceof VariableInstanceEntity) {
+                VariableInstanceEntity variableInstance = (VariableInstanceEntity) variable;
+                VariableProjectionEntity variableProjection = existingProjections.remove(variableInstance.getId());
+                applyProjection(processInstance, variableInstance, searchableVariables.get(variableInstance.getName()), variableProjection);
+            }
+        }
+
+        // Projections of variables that no longer exist
+        for (VariableProjectionEntity variableProjection : existingProjections.values()) {
+            delete(variableProjection, false);
+        }
+    }
+
+    protected void applyProjection(ExecutionEntity processInstance, VariableInstanceEntity variableInstance, String searchableType, VariableProjectionEntity variableProjection) {
+        if (searchableType != null && searchableType.equals(variableInstance.getTypeName())) {
+            if (variableProjection == null) {
+                variableProjection = create();
+                variableProjection.setId(variableInstance.getId());
+                variableProjection.setProcessInstanceId(processInstance.getId());
+                copyValues(processInstance, variableInstance, variableProjection);
+                insert(variableProjection, false);
+
+            } else {
+                copyValues(processInstance, variableInstance, variableProjection);
+                update(variableProjection, false);
+            }
+
+        } else if (variableProjection != null) {
+            // The variable no longer holds a value of the declared type (e.g. it was set to null)
+            delete(variableProjection, false);
+        }
+    }
+
+    protected void copyValues(ExecutionEntity processInstance, VariableInstanceEntity variableInstance, VariableProjectionEntity variableProjection) {
+        String textValue = variableInstance.getTextValue();
+        if (textValue != null && textValue.length() > MAX_TEXT_LENGTH) {
+            LOGGER.debug("Value of searchable variable '{}' of process instance {} is longer than {} characters, the projected value is truncated",
+                    variableInstance.getName(), processInstance.getId(), MAX_TEXT_LENGTH);
+            textValue = textValue.substring(0, MAX_TEXT_LENGTH);
+        }
+
+        variableProjection.setProcessDefinitionId(processInstance.getProcessDefinitionId());
+        variableProjection.setName(variableInstance.getName());
+        variableProjection.setTypeName(variableInstance.getTypeName());
+        variableProjection.setTextValue(textValue);
+        variableProjection.setLongValue(variableInstance.getLongValue());
+        variableProjection.setDoubleValue(variableInstance.getDoubleValue());
+    }
+
+    @Override
+    public List<VariableProjectionEntity> findVariableProjectionsByProcessInstanceId(String processInstanceId) {
+        return variableProjectionDataManager.findVariableProjectionsByProcessInstanceId(processInstanceId);
+    }
+
+    @Override
+    public void deleteVariableProjectionsByProcessInstanceId(String processInstanceId) {
+        variableProjectionDataManager.deleteVariableProjectionsByProcessInstanceId(processInstanceId);
+    }
+
+    @Override
+    public void deleteVariableProjectionsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        variableProjectionDataManager.deleteVariableProjectionsForProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteVariableProjectionsByProcessDefinitionId(String processDefinitionId) {
+        variableProjectionDataManager.deleteVariableProjectionsByProcessDefinitionId(processDefinitionId);
+    }
+
+}
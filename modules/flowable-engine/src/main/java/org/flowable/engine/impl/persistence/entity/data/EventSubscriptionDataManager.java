@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -57,6 +58,12 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
 
     List<EventSubscriptionEntity> findEventSubscriptionsByNameAndExecution(String type, String eventName, String executionId);
 
+    List<EventSubscriptionEntity> findEventSubscriptionsForBroadcast(String type, String eventName, String businessKey, String tenantId, Date broadcastTime,
+            String afterId, int maxResults);
+
+    List<EventSubscriptionEntity> findEventSubscriptionsForBroadcastInRange(String type, String eventName, String businessKey, String tenantId, Date broadcastTime,
+            String fromId, String toId);
+
     MessageEventSubscriptionEntity findMessageStartEventSubscriptionByName(String messageName, String tenantId);
 
     void updateEventSubscriptionTenantId(String oldTenantId, String newTenantId);
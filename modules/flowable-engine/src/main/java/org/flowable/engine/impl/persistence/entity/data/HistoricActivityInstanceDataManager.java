@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +33,8 @@ public interface HistoricActivityInstanceDataManager extends DataManager<Histori
     List<HistoricActivityInstanceEntity> findUnfinishedHistoricActivityInstancesByProcessInstanceId(String processInstanceId);
 
     void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId);
+    
+    void deleteHistoricActivityInstancesForProcessInstanceIds(Collection<String> historicProcessInstanceIds);
 
     long findHistoricActivityInstanceCountByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
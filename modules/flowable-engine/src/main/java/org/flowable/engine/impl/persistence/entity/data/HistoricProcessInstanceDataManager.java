@@ -12,9 +12,11 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.history.ExpiredHistoryCriteria;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -41,5 +43,13 @@ public interface HistoricProcessInstanceDataManager extends DataManager<Historic
     List<HistoricProcessInstance> findHistoricProcessInstancesByNativeQuery(Map<String, Object> parameterMap);
 
     long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap);
+    
+    List<String> findExpiredHistoricProcessInstanceIds(ExpiredHistoryCriteria expiredHistoryCriteria, int maxResults);
+    
+    List<HistoricProcessInstance> findHistoricProcessInstancesAfterId(String processInstanceId, int maxResults);
+    
+    List<String> findHistoricProcessInstanceIdsForSuperProcessInstanceIds(Collection<String> superProcessInstanceIds);
+    
+    void deleteHistoricProcessInstancesForIds(Collection<String> historicProcessInstanceIds);
 
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -86,6 +87,11 @@ public class MybatisCommentDataManager extends AbstractProcessDataManager<Commen
         getDbSqlSession().delete("deleteCommentsByProcessInstanceId", processInstanceId, CommentEntityImpl.class);
     }
 
+    @Override
+    public void deleteCommentsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        bulkDeleteForIds("deleteCommentsForProcessInstanceIds", processInstanceIds, null);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<Comment> findCommentsByProcessInstanceId(String processInstanceId) {
@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -216,6 +217,37 @@ public class MybatisEventSubscriptionDataManager extends AbstractProcessDataMana
         return getList("selectEventSubscriptionsByName", params, eventSubscriptionsByNameMatcher, true);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventSubscriptionEntity> findEventSubscriptionsForBroadcast(String type, String eventName, String businessKey, String tenantId, Date broadcastTime,
+            String afterId, int maxResults) {
+        Map<String, Object> params = createBroadcastParameters(type, eventName, businessKey, tenantId, broadcastTime);
+        params.put("afterId", afterId);
+        return getDbSqlSession().selectList("selectEventSubscriptionsForBroadcast", params, 0, maxResults);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventSubscriptionEntity> findEventSubscriptionsForBroadcastInRange(String type, String eventName, String businessKey, String tenantId, Date broadcastTime,
+            String fromId, String toId) {
+        Map<String, Object> params = createBroadcastParameters(type, eventName, businessKey, tenantId, broadcastTime);
+        params.put("fromId", fromId);
+        params.put("toId", toId);
+        return getDbSqlSession().selectList("selectEventSubscriptionsForBroadcast", params);
+    }
+
+    protected Map<String, Object> createBroadcastParameters(String type, String eventName, String businessKey, String tenantId, Date broadcastTime) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("eventType", type);
+        params.put("eventName", eventName);
+        params.put("businessKey", businessKey);
+        params.put("broadcastTime", broadcastTime);
+        if (tenantId != null && !tenantId.equals(ProcessEngineConfiguration.NO_TENANT_ID)) {
+            params.put("tenantId", tenantId);
+        }
+        return params;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<EventSubscriptionEntity> findEventSubscriptionsByNameAndExecution(String type, String eventName, String executionId) {
@@ -243,7 +275,7 @@ public class MybatisEventSubscriptionDataManager extends AbstractProcessDataMana
         Map<String, String> params = new HashMap<>();
         params.put("oldTenantId", oldTenantId);
         params.put("newTenantId", newTenantId);
-        getDbSqlSession().update("updateTenantIdOfEventSubscriptions", params);
+        getDbSqlSession().update("updateTenantIdOfEventSubscriptions", params, getManagedEntityClass());
     }
 
     @Override
@@ -18,6 +18,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
@@ -74,6 +75,12 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
 
     protected CachedEntityMatcher<ExecutionEntity> processInstancesByProcessDefinitionMatcher = new ProcessInstancesByProcessDefinitionMatcher();
 
+    /**
+     * Whether the process of a process definition is straight-through, by process definition id.
+     * A process definition never changes once deployed, so the flag doesn't need to be evicted.
+     */
+    protected Map<String, Boolean> straightThroughProcessDefinitions = new ConcurrentHashMap<>();
+
     public MybatisExecutionDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
         super(processEngineConfiguration);
         this.performanceSettings = processEngineConfiguration.getPerformanceSettings();
@@ -102,6 +109,11 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
      * @return True if the tree has been fetched, false otherwise or if fetching is disabled.  
      */
     protected boolean isExecutionTreeFetched(final String executionId) {
+
+        // Straight-through process instances started in this command only exist in the cache
+        if (isStraightThroughExecutionInserted(executionId)) {
+            return true;
+        }
         
         // The setting needs to be globally enabled
         if (!performanceSettings.isEnableEagerExecutionTreeFetching()) {
@@ -130,6 +142,27 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         return true;
     }
 
+    /**
+     * When an execution of a straight-through process has been inserted in the current command, all executions
+     * related to it have been inserted in the same command too: there can't be any of them in the database.
+     */
+    protected boolean isStraightThroughExecutionInserted(String executionId) {
+        ExecutionEntity cachedExecutionEntity = getEntityCache().findInCache(getManagedEntityClass(), executionId);
+        if (cachedExecutionEntity == null || !cachedExecutionEntity.isInserted() || cachedExecutionEntity.getProcessDefinitionId() == null) {
+            return false;
+        }
+        return isStraightThroughProcessDefinition(cachedExecutionEntity.getProcessDefinitionId());
+    }
+
+    protected boolean isStraightThroughProcessDefinition(String processDefinitionId) {
+        Boolean straightThrough = straightThroughProcessDefinitions.get(processDefinitionId);
+        if (straightThrough == null) {
+            straightThrough = ProcessDefinitionUtil.getProcess(processDefinitionId).isStraightThrough();
+            straightThroughProcessDefinitions.put(processDefinitionId, straightThrough);
+        }
+        return straightThrough;
+    }
+
     @Override
     public ExecutionEntity findSubProcessInstanceBySuperExecutionId(final String superExecutionId) {
         boolean treeFetched = isExecutionTreeFetched(superExecutionId);
@@ -221,6 +254,15 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         return getDbSqlSession().selectListNoCacheCheck("selectProcessInstanceIdsByProcessDefinitionId", processDefinitionId);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterId, int maxResults) {
+        Map<String, String> params = new HashMap<>(2);
+        params.put("processDefinitionId", processDefinitionId);
+        params.put("afterId", afterId);
+        return getDbSqlSession().selectList("selectProcessInstanceIdPageByProcessDefinitionId", params, 0, maxResults);
+    }
+
     @Override
     public long findExecutionCountByQueryCriteria(ExecutionQueryImpl executionQuery) {
         return (Long) getDbSqlSession().selectOne("selectExecutionCountByQueryCriteria", executionQuery);
@@ -312,7 +354,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         HashMap<String, Object> params = new HashMap<>();
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
-        getDbSqlSession().update("updateExecutionTenantIdForDeployment", params);
+        getDbSqlSession().update("updateExecutionTenantIdForDeployment", params, getManagedEntityClass());
     }
 
     @Override
@@ -322,7 +364,7 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         params.put("lockTime", lockDate);
         params.put("expirationTime", expirationTime);
 
-        int result = getDbSqlSession().update("updateProcessInstanceLockTime", params);
+        int result = getDbSqlSession().update("updateProcessInstanceLockTime", params, getManagedEntityClass());
         if (result == 0) {
             throw new FlowableOptimisticLockingException("Could not lock process instance");
         }
@@ -330,14 +372,14 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
 
     @Override
     public void updateAllExecutionRelatedEntityCountFlags(boolean newValue) {
-        getDbSqlSession().update("updateExecutionRelatedEntityCountEnabled", newValue);
+        getDbSqlSession().update("updateExecutionRelatedEntityCountEnabled", newValue, getManagedEntityClass());
     }
 
     @Override
     public void clearProcessInstanceLockTime(String processInstanceId) {
         HashMap<String, Object> params = new HashMap<>();
         params.put("id", processInstanceId);
-        getDbSqlSession().update("clearProcessInstanceLockTime", params);
+        getDbSqlSession().update("clearProcessInstanceLockTime", params, getManagedEntityClass());
     }
     
 }
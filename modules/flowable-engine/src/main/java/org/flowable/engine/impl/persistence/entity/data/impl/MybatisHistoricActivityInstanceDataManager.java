@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -76,6 +77,11 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessD
     public void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId) {
         getDbSqlSession().delete("deleteHistoricActivityInstancesByProcessInstanceId", historicProcessInstanceId, HistoricActivityInstanceEntityImpl.class);
     }
+    
+    @Override
+    public void deleteHistoricActivityInstancesForProcessInstanceIds(Collection<String> historicProcessInstanceIds) {
+        bulkDeleteForIds("deleteHistoricActivityInstancesForProcessInstanceIds", historicProcessInstanceIds, null);
+    }
 
     @Override
     public long findHistoricActivityInstanceCountByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery) {
@@ -12,12 +12,14 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.history.HistoricDetail;
 import org.flowable.engine.impl.HistoricDetailQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ByteArrayEntityImpl;
 import org.flowable.engine.impl.persistence.entity.HistoricDetailAssignmentEntity;
 import org.flowable.engine.impl.persistence.entity.HistoricDetailAssignmentEntityImpl;
 import org.flowable.engine.impl.persistence.entity.HistoricDetailEntity;
@@ -98,4 +100,16 @@ public class MybatisHistoricDetailDataManager extends AbstractProcessDataManager
         return (Long) getDbSqlSession().selectOne("selectHistoricDetailCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    public void deleteHistoricDetailsForProcessInstanceIds(Collection<String> historicProcessInstanceIds) {
+        List<String> byteArrayIds = selectIdsForIds("selectHistoricDetailByteArrayIdsForProcessInstanceIds", historicProcessInstanceIds, null);
+        bulkDeleteForIds("deleteByteArraysForIds", byteArrayIds, null, ByteArrayEntityImpl.class);
+        bulkDeleteForIds("deleteHistoricDetailsForProcessInstanceIds", historicProcessInstanceIds, null);
+    }
+
+    @Override
+    public List<String> findLargeObjectReferencesForProcessInstanceIds(Collection<String> historicProcessInstanceIds) {
+        return selectIdsForIds("selectHistoricDetailLargeObjectReferencesForProcessInstanceIds", historicProcessInstanceIds, null);
+    }
+
 }
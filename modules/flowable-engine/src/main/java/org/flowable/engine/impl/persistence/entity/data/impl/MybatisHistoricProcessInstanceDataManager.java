@@ -12,10 +12,12 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.history.ExpiredHistoryCriteria;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -118,5 +120,27 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
     public long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap) {
         return (Long) getDbSqlSession().selectOne("selectHistoricProcessInstanceCountByNativeQuery", parameterMap);
     }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findExpiredHistoricProcessInstanceIds(ExpiredHistoryCriteria expiredHistoryCriteria, int maxResults) {
+        return getDbSqlSession().selectList("selectExpiredHistoricProcessInstanceIds", expiredHistoryCriteria, 0, maxResults);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoricProcessInstance> findHistoricProcessInstancesAfterId(String processInstanceId, int maxResults) {
+        return getDbSqlSession().selectList("selectHistoricProcessInstancesAfterId", processInstanceId, 0, maxResults);
+    }
+    
+    @Override
+    public List<String> findHistoricProcessInstanceIdsForSuperProcessInstanceIds(Collection<String> superProcessInstanceIds) {
+        return selectIdsForIds("selectHistoricProcessInstanceIdsForSuperProcessInstanceIds", superProcessInstanceIds, null);
+    }
+    
+    @Override
+    public void deleteHistoricProcessInstancesForIds(Collection<String> historicProcessInstanceIds) {
+        bulkDeleteForIds("deleteHistoricProcessInstancesForIds", historicProcessInstanceIds, null);
+    }
 
 }
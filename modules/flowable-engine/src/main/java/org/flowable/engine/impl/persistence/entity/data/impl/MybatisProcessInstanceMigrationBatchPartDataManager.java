@@ -0,0 +1,77 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity.data.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchPartEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchPartEntityImpl;
+import org.flowable.engine.impl.persistence.entity.data.AbstractProcessDataManager;
+import org.flowable.engine.impl.persistence.entity.data.ProcessInstanceMigrationBatchPartDataManager;
+
+public class MybatisProcessInstanceMigrationBatchPartDataManager extends AbstractProcessDataManager<ProcessInstanceMigrationBatchPartEntity> implements ProcessInstanceMigrationBatchPartDataManager {
+
+    public MybatisProcessInstanceMigrationBatchPartDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(processEngineConfiguration);
+    }
+
+    @Override
+    public Class<? extends ProcessInstanceMigrationBatchPartEntity> getManagedEntityClass() {
+        return ProcessInstanceMigrationBatchPartEntityImpl.class;
+    }
+
+    @Override
+    public ProcessInstanceMigrationBatchPartEntity create() {
+        return new ProcessInstanceMigrationBatchPartEntityImpl();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProcessInstanceMigrationBatchPartEntity> findBatchPartsByBatchIdAndStatus(String batchId, String status) {
+        return getDbSqlSession().selectList("selectProcessInstanceMigrationBatchParts", createParameters(batchId, null, status));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProcessInstanceMigrationBatchPartEntity> findBatchPartsByBatchIdAndChunkAndStatus(String batchId, int chunk, String status) {
+        return getDbSqlSession().selectList("selectProcessInstanceMigrationBatchParts", createParameters(batchId, chunk, status));
+    }
+
+    @Override
+    public long countBatchPartsByBatchIdAndStatus(String batchId, String status) {
+        return (Long) getDbSqlSession().selectOne("selectProcessInstanceMigrationBatchPartCount", createParameters(batchId, null, status));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Integer> findChunksByBatchIdAndStatus(String batchId, String status) {
+        return getDbSqlSession().selectListNoCacheCheck("selectProcessInstanceMigrationBatchChunks", createParameters(batchId, null, status));
+    }
+
+    @Override
+    public void deleteBatchPartsByBatchId(String batchId) {
+        getDbSqlSession().delete("deleteProcessInstanceMigrationBatchPartsByBatchId", batchId, ProcessInstanceMigrationBatchPartEntityImpl.class);
+    }
+
+    protected Map<String, Object> createParameters(String batchId, Integer chunk, String status) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("batchId", batchId);
+        params.put("chunk", chunk);
+        params.put("status", status);
+        return params;
+    }
+
+}
@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity.data.impl;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.VariableProjectionEntity;
+import org.flowable.engine.impl.persistence.entity.VariableProjectionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.data.AbstractProcessDataManager;
+import org.flowable.engine.impl.persistence.entity.data.VariableProjectionDataManager;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.VariableProjectionsByProcessDefinitionIdMatcher;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.VariableProjectionsByProcessInstanceIdMatcher;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+public class MybatisVariableProjectionDataManager extends AbstractProcessDataManager<VariableProjectionEntity> implements VariableProjectionDataManager {
+
+    protected CachedEntityMatcher<VariableProjectionEntity> variableProjectionsByProcessInstanceIdMatcher = new VariableProjectionsByProcessInstanceIdMatcher();
+
+    protected CachedEntityMatcher<VariableProjectionEntity> variableProjectionsByProcessDefinitionIdMatcher = new VariableProjectionsByProcessDefinitionIdMatcher();
+
+    public MybatisVariableProjectionDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(processEngineConfiguration);
+    }
+
+    @Override
+    public Class<? extends VariableProjectionEntity> getManagedEntityClass() {
+        return VariableProjectionEntityImpl.class;
+    }
+
+    @Override
+    public VariableProjectionEntity create() {
+        return new VariableProjectionEntityImpl();
+    }
+
+    @Override
+    public VariableProjectionEntity findVariableProjectionByVariableInstance(VariableInstanceEntity variableInstance) {
+        if (variableInstance.isInserted()) {
+            // The projection of a variable created in the current command can only be in the cache
+            return getEntityCache().findInCache(VariableProjectionEntityImpl.class, variableInstance.getId());
+        }
+        return findById(variableInstance.getId());
+    }
+
+    @Override
+    public List<VariableProjectionEntity> findVariableProjectionsByProcessInstanceId(String processInstanceId) {
+        return getList("selectVariableProjectionsByProcessInstanceId", processInstanceId, variableProjectionsByProcessInstanceIdMatcher, true);
+    }
+
+    @Override
+    public void deleteVariableProjectionsByProcessInstanceId(String processInstanceId) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        if (isEntityInserted(dbSqlSession, "execution", processInstanceId)) {
+            deleteCachedEntities(dbSqlSession, variableProjectionsByProcessInstanceIdMatcher, processInstanceId);
+        } else {
+            bulkDelete("deleteVariableProjectionsByProcessInstanceId", variableProjectionsByProcessInstanceIdMatcher, processInstanceId);
+        }
+    }
+
+    @Override
+    public void deleteVariableProjectionsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        bulkDeleteForIds("deleteVariableProjectionsForProcessInstanceIds", processInstanceIds, null);
+    }
+
+    @Override
+    public void deleteVariableProjectionsByProcessDefinitionId(String processDefinitionId) {
+        bulkDelete("deleteVariableProjectionsByProcessDefinitionId", variableProjectionsByProcessDefinitionIdMatcher, processDefinitionId);
+    }
+
+}
@@ -45,9 +45,12 @@ import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity
 import org.flowable.engine.impl.persistence.entity.ModelEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchEntityManager;
+import org.flowable.engine.impl.persistence.entity.ProcessInstanceMigrationBatchPartEntityManager;
 import org.flowable.engine.impl.persistence.entity.PropertyEntityManager;
 import org.flowable.engine.impl.persistence.entity.ResourceEntityManager;
 import org.flowable.engine.impl.persistence.entity.TableDataManager;
+import org.flowable.engine.impl.persistence.entity.VariableProjectionEntityManager;
 import org.flowable.entitylink.api.EntityLinkService;
 import org.flowable.entitylink.api.history.HistoricEntityLinkService;
 import org.flowable.entitylink.service.EntityLinkServiceConfiguration;
@@ -575,6 +578,30 @@ public class CommandContextUtil {
         return getProcessEngineConfiguration(commandContext).getActivityInstanceEntityManager();
     }
 
+    public static VariableProjectionEntityManager getVariableProjectionEntityManager() {
+        return getVariableProjectionEntityManager(getCommandContext());
+    }
+    
+    public static VariableProjectionEntityManager getVariableProjectionEntityManager(CommandContext commandContext) {
+        return getProcessEngineConfiguration(commandContext).getVariableProjectionEntityManager();
+    }
+
+    public static ProcessInstanceMigrationBatchEntityManager getProcessInstanceMigrationBatchEntityManager() {
+        return getProcessInstanceMigrationBatchEntityManager(getCommandContext());
+    }
+
+    public static ProcessInstanceMigrationBatchEntityManager getProcessInstanceMigrationBatchEntityManager(CommandContext commandContext) {
+        return getProcessEngineConfiguration(commandContext).getProcessInstanceMigrationBatchEntityManager();
+    }
+
+    public static ProcessInstanceMigrationBatchPartEntityManager getProcessInstanceMigrationBatchPartEntityManager() {
+        return getProcessInstanceMigrationBatchPartEntityManager(getCommandContext());
+    }
+
+    public static ProcessInstanceMigrationBatchPartEntityManager getProcessInstanceMigrationBatchPartEntityManager(CommandContext commandContext) {
+        return getProcessEngineConfiguration(commandContext).getProcessInstanceMigrationBatchPartEntityManager();
+    }
+
     public static HistoricActivityInstanceEntityManager getHistoricActivityInstanceEntityManager() {
         return getHistoricActivityInstanceEntityManager(getCommandContext());
     }
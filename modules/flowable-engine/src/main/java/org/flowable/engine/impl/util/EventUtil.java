@@ -12,8 +12,16 @@
  */
 package org.flowable.engine.impl.util;
 
+import java.util.List;
+
+import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.event.EventDispatchAction;
+import org.flowable.common.engine.impl.event.FlowableEventSupport;
+import org.flowable.engine.delegate.event.impl.BpmnModelEventDispatchAction;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.variable.api.event.FlowableVariableEvent;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
@@ -22,6 +30,45 @@ import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEnt
  * @author Joram Barrez
  */
 public class EventUtil {
+
+    /**
+     * Returns whether an event of the given type would reach any listener, so the caller can skip building the event when not.
+     * The listeners defined in the process definition with the given id are taken into account as well, so the id of the
+     * process definition the event belongs to must always be passed.
+     */
+    public static boolean hasEventListeners(FlowableEngineEventType type, String processDefinitionId) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
+        if (eventDispatcher == null) {
+            return false;
+        }
+
+        if (eventDispatcher.hasListeners(type)) {
+            return true;
+        }
+
+        boolean bpmnModelDispatch = false;
+        List<EventDispatchAction> eventDispatchActions = processEngineConfiguration.getAdditionalEventDispatchActions();
+        if (eventDispatchActions != null) {
+            for (EventDispatchAction eventDispatchAction : eventDispatchActions) {
+                if (eventDispatchAction instanceof BpmnModelEventDispatchAction) {
+                    bpmnModelDispatch = true;
+                } else {
+                    // Custom actions can't be inspected, so they always need the event
+                    return true;
+                }
+            }
+        }
+
+        if (bpmnModelDispatch && processDefinitionId != null) {
+            BpmnModel bpmnModel = ProcessDefinitionUtil.getBpmnModel(processDefinitionId);
+            if (bpmnModel != null && bpmnModel.getEventSupport() instanceof FlowableEventSupport) {
+                return ((FlowableEventSupport) bpmnModel.getEventSupport()).hasListeners(type);
+            }
+        }
+
+        return false;
+    }
     
     public static FlowableVariableEvent createVariableDeleteEvent(VariableInstanceEntity variableInstance) {
 
@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+
+/**
+ * Helper methods for the lightweight runtime persistence mode (see {@link org.flowable.engine.impl.cfg.PerformanceSettings#isEnableLightweightRuntimePersistence()}).
+ */
+public class RuntimePersistenceUtil {
+
+    /**
+     * Returns true if the runtime data of process instances of the given process definition should be persisted in the lightweight mode:
+     * the setting is enabled and the effective history level of the process definition is {@link HistoryLevel#NONE}.
+     * When the process definition id is null, the engine history level is used.
+     */
+    public static boolean isLightweightRuntimePersistence(ProcessEngineConfigurationImpl processEngineConfiguration, String processDefinitionId) {
+        return processEngineConfiguration.getPerformanceSettings().isEnableLightweightRuntimePersistence()
+                && !processEngineConfiguration.getHistoryManager().isHistoryEnabled(processDefinitionId);
+    }
+
+    /**
+     * Rejects an activity instance query that targets process instances that don't store runtime activity instances.
+     * <p>
+     * When the query isn't restricted to a process definition, the process definition is resolved from the process instance or execution id of the query.
+     * Queries without any of these (including all native queries) are checked against the engine history level only: they are rejected when the
+     * engine level is {@link HistoryLevel#NONE}, and otherwise simply don't return activity instances for the process instances of
+     * process definitions that have history level none set themselves.
+     */
+    public static void validateActivityInstanceQuerySupported(ProcessEngineConfigurationImpl processEngineConfiguration, String processDefinitionId,
+            String processInstanceId, String executionId) {
+
+        if (!processEngineConfiguration.getPerformanceSettings().isEnableLightweightRuntimePersistence()) {
+            return;
+        }
+
+        String queriedProcessDefinitionId = processDefinitionId;
+        if (queriedProcessDefinitionId == null) {
+            String queriedExecutionId = processInstanceId != null ? processInstanceId : executionId;
+            if (queriedExecutionId != null) {
+                ExecutionEntity execution = processEngineConfiguration.getExecutionEntityManager().findById(queriedExecutionId);
+                if (execution == null) {
+                    return; // nothing to query, the query returns no results anyway
+                }
+                queriedProcessDefinitionId = execution.getProcessDefinitionId();
+            }
+        }
+
+        if (isLightweightRuntimePersistence(processEngineConfiguration, queriedProcessDefinitionId)) {
+            throw new FlowableException("Activity instance queries are not supported for processes with history level none "
+                    + "when lightweight runtime persistence is enabled, as no runtime activity instances are stored for them");
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.bpmn.model.ExtensionElement;
+import org.flowable.bpmn.model.Process;
+
+/**
+ * Reads the searchable variables declared on a process definition. A searchable variable is declared as an extension element of the process:
+ * 
+ * <pre>
+ * &lt;extensionElements&gt;
+ *   &lt;flowable:searchableVariable name="customerId" type="string" /&gt;
+ * &lt;/extensionElements&gt;
+ * </pre>
+ * 
+ * Process level values of such a variable are kept in a typed, indexed projection table which is used by variable queries that are restricted to the
+ * process definition.
+ */
+public class SearchableVariableUtil {
+
+    public static final String ELEMENT_SEARCHABLE_VARIABLE = "searchableVariable";
+    public static final String ATTRIBUTE_NAME = "name";
+    public static final String ATTRIBUTE_TYPE = "type";
+
+    public static final Set<String> SUPPORTED_TYPES = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList("string", "long", "integer", "short", "double", "boolean", "date")));
+
+    /**
+     * @return the declared searchable variables of the process definition, mapped from variable name to variable type name
+     */
+    public static Map<String, String> getSearchableVariables(String processDefinitionId) {
+        if (processDefinitionId == null) {
+            return Collections.emptyMap();
+        }
+        return getSearchableVariables(ProcessDefinitionUtil.getProcess(processDefinitionId));
+    }
+
+    public static Map<String, String> getSearchableVariables(Process process) {
+        if (process == null) {
+            return Collections.emptyMap();
+        }
+
+        List<ExtensionElement> searchableVariableElements = process.getExtensionElements().get(ELEMENT_SEARCHABLE_VARIABLE);
+        if (searchableVariableElements == null || searchableVariableElements.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> searchableVariables = new LinkedHashMap<>();
+        for (ExtensionElement searchableVariableElement : searchableVariableElements) {
+            String name = searchableVariableElement.getAttributeValue(null, ATTRIBUTE_NAME);
+            String type = searchableVariableElement.getAttributeValue(null, ATTRIBUTE_TYPE);
+            if (StringUtils.isNotEmpty(name) && type != null && SUPPORTED_TYPES.contains(type)) {
+                searchableVariables.put(name, type);
+            }
+        }
+        return searchableVariables;
+    }
+
+    /**
+     * @return the declared type of the searchable variable, or null when the variable is not declared as searchable
+     */
+    public static String getSearchableVariableType(String processDefinitionId, String variableName) {
+        return getSearchableVariables(processDefinitionId).get(variableName);
+    }
+
+    public static boolean hasSearchableVariables(String processDefinitionId) {
+        return !getSearchableVariables(processDefinitionId).isEmpty();
+    }
+
+}
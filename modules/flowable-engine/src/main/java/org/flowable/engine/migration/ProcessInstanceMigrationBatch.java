@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.migration;
+
+import java.util.Date;
+
+/**
+ * A migration of all process instances of a process definition that is executed asynchronously, in chunks of process instances.
+ * The outcome for each process instance is kept as a {@link ProcessInstanceMigrationBatchPart}.
+ * The batch is done when it is planned and none of its parts is waiting anymore.
+ */
+public interface ProcessInstanceMigrationBatch {
+
+    String STATUS_EXECUTING = "executing";
+    String STATUS_PAUSED = "paused";
+
+    String getId();
+
+    /**
+     * Either {@link #STATUS_EXECUTING} or {@link #STATUS_PAUSED}.
+     */
+    String getStatus();
+
+    String getSourceProcessDefinitionId();
+
+    String getTargetProcessDefinitionId();
+
+    int getChunkSize();
+
+    /**
+     * The number of chunks that have been created so far.
+     */
+    int getChunkCount();
+
+    /**
+     * Whether a part has been created for every process instance of the source process definition.
+     */
+    boolean isPlanned();
+
+    Date getCreateTime();
+
+    String getTenantId();
+
+}
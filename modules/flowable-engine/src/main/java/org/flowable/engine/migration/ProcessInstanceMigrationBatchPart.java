@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.migration;
+
+import java.util.Date;
+
+/**
+ * The migration of a single process instance within a {@link ProcessInstanceMigrationBatch}.
+ */
+public interface ProcessInstanceMigrationBatchPart {
+
+    String STATUS_WAITING = "waiting";
+    String STATUS_SUCCESS = "success";
+    String STATUS_FAILED = "failed";
+
+    String getId();
+
+    String getBatchId();
+
+    /**
+     * The number of the chunk the part belongs to, all parts of a chunk are migrated by the same job.
+     */
+    int getChunk();
+
+    String getProcessInstanceId();
+
+    /**
+     * One of {@link #STATUS_WAITING}, {@link #STATUS_SUCCESS} or {@link #STATUS_FAILED}.
+     */
+    String getStatus();
+
+    /**
+     * The reason the migration of the process instance failed, if it did.
+     */
+    String getErrorMessage();
+
+    Date getCreateTime();
+
+    Date getCompleteTime();
+
+}
@@ -155,4 +155,24 @@ public interface ProcessInstanceMigrationBuilder {
      */
     ProcessInstanceMigrationValidationResult validateMigrationOfProcessInstances(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId);
 
+    /**
+     * Creates a batch that migrates all process instances of a given process definition identified by the process definition id asynchronously, in chunks.
+     *
+     * @param processDefinitionId
+     * @return the ProcessInstanceMigrationBatch that keeps track of the migration of each process instance
+     * @see ProcessInstanceMigrationBatch
+     */
+    ProcessInstanceMigrationBatch batchMigrateProcessInstances(String processDefinitionId);
+
+    /**
+     * Creates a batch that migrates all process instances of a given process definition identified by the process definition key and version (optional tenantId) asynchronously, in chunks.
+     *
+     * @param processDefinitionKey
+     * @param processDefinitionVersion
+     * @param processDefinitionTenantId
+     * @return the ProcessInstanceMigrationBatch that keeps track of the migration of each process instance
+     * @see ProcessInstanceMigrationBatch
+     */
+    ProcessInstanceMigrationBatch batchMigrateProcessInstances(String processDefinitionKey, int processDefinitionVersion, String processDefinitionTenantId);
+
 }
@@ -27,6 +27,12 @@ public interface ProcessInstanceMigrationManager {
 
     ProcessInstanceMigrationValidationResult validateMigrateProcessInstance(String processInstanceId, ProcessInstanceMigrationDocument processInstanceMigrationDocument, CommandContext commandContext);
 
+    /**
+     * Validates the parts of the migration document that do not depend on the state of a particular process instance,
+     * so that a batch migration of all instances of the given process definition can fail fast before any instance is touched.
+     */
+    ProcessInstanceMigrationValidationResult validateMigrationDocument(String processDefinitionId, ProcessInstanceMigrationDocument processInstanceMigrationDocument, CommandContext commandContext);
+
     void migrateProcessInstance(String processInstanceId, ProcessInstanceMigrationDocument document, CommandContext commandContext);
 
     void migrateProcessInstancesOfProcessDefinition(String procDefKey, int procDefVer, String procDefTenantId, ProcessInstanceMigrationDocument document, CommandContext commandContext);
@@ -127,6 +127,19 @@ create table ACT_PROCDEF_INFO (
     primary key (ID_)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
 
+create table ACT_PROCVAR_PROJ (
+    ID_ varchar(64) not null,
+    REV_ integer,
+    TYPE_ varchar(255) not null,
+    NAME_ varchar(255) not null,
+    PROC_INST_ID_ varchar(64) not null,
+    PROC_DEF_ID_ varchar(64),
+    DOUBLE_ double,
+    LONG_ bigint,
+    TEXT_ varchar(255),
+    primary key (ID_)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
+
 create table ACT_RU_ACTINST (
     ID_ varchar(64) not null,
     REV_ integer default 1,
@@ -154,6 +167,45 @@ create index ACT_IDX_VARIABLE_TASK_ID on ACT_RU_VARIABLE(TASK_ID_);
 create index ACT_IDX_ATHRZ_PROCEDEF on ACT_RU_IDENTITYLINK(PROC_DEF_ID_);
 create index ACT_IDX_INFO_PROCDEF on ACT_PROCDEF_INFO(PROC_DEF_ID_);
 
+create index ACT_IDX_PROJ_TEXT on ACT_PROCVAR_PROJ(NAME_, TEXT_, PROC_INST_ID_);
+create index ACT_IDX_PROJ_LONG on ACT_PROCVAR_PROJ(NAME_, LONG_, PROC_INST_ID_);
+create index ACT_IDX_PROJ_DOUBLE on ACT_PROCVAR_PROJ(NAME_, DOUBLE_, PROC_INST_ID_);
+create index ACT_IDX_PROJ_PROC_INST on ACT_PROCVAR_PROJ(PROC_INST_ID_);
+create index ACT_IDX_PROJ_PROC_DEF on ACT_PROCVAR_PROJ(PROC_DEF_ID_);
+
+create table ACT_RU_MIGR_BATCH (
+    ID_ varchar(64) not null,
+    REV_ integer,
+    STATUS_ varchar(255) not null,
+    SOURCE_PROC_DEF_ID_ varchar(64) not null,
+    TARGET_PROC_DEF_ID_ varchar(64),
+    DOC_JSON_ID_ varchar(64),
+    CHUNK_SIZE_ integer,
+    CHUNK_COUNT_ integer,
+    PLANNED_ TINYINT,
+    LAST_PLANNED_ID_ varchar(64),
+    CREATE_TIME_ timestamp(3) null,
+    TENANT_ID_ varchar(255) default '',
+    primary key (ID_)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
+
+create table ACT_RU_MIGR_BATCH_PART (
+    ID_ varchar(64) not null,
+    REV_ integer,
+    BATCH_ID_ varchar(64) not null,
+    CHUNK_ integer not null,
+    PROC_INST_ID_ varchar(64) not null,
+    STATUS_ varchar(255) not null,
+    ERROR_MSG_ varchar(4000),
+    CREATE_TIME_ timestamp(3) null,
+    COMPLETE_TIME_ timestamp(3) null,
+    primary key (ID_)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
+
+create index ACT_IDX_MIGR_PART_BATCH on ACT_RU_MIGR_BATCH_PART(BATCH_ID_, CHUNK_, STATUS_);
+create index ACT_IDX_MIGR_PART_PROC_INST on ACT_RU_MIGR_BATCH_PART(PROC_INST_ID_);
+
+
 create index ACT_IDX_RU_ACTI_START on ACT_RU_ACTINST(START_TIME_);
 create index ACT_IDX_RU_ACTI_END on ACT_RU_ACTINST(END_TIME_);
 create index ACT_IDX_RU_ACTI_PROC on ACT_RU_ACTINST(PROC_INST_ID_);
@@ -112,3 +112,15 @@ drop table ACT_RU_EXECUTION;
 drop table ACT_RU_EVENT_SUBSCR;
 drop table ACT_EVT_LOG;
 drop table ACT_PROCDEF_INFO;
+
+drop index ACT_IDX_PROJ_TEXT;
+drop index ACT_IDX_PROJ_LONG;
+drop index ACT_IDX_PROJ_DOUBLE;
+drop index ACT_IDX_PROJ_PROC_INST;
+drop index ACT_IDX_PROJ_PROC_DEF;
+drop table ACT_PROCVAR_PROJ;
+
+drop index ACT_IDX_MIGR_PART_BATCH;
+drop index ACT_IDX_MIGR_PART_PROC_INST;
+drop table ACT_RU_MIGR_BATCH_PART;
+drop table ACT_RU_MIGR_BATCH;
@@ -112,4 +112,7 @@ drop table if exists ACT_RE_PROCDEF;
 drop table if exists ACT_RU_EXECUTION;
 drop table if exists ACT_RU_EVENT_SUBSCR;
 drop table if exists ACT_EVT_LOG;
-drop table if exists ACT_PROCDEF_INFO;
\ No newline at end of file
+drop table if exists ACT_PROCDEF_INFO;
+drop table if exists ACT_PROCVAR_PROJ;
+drop table if exists ACT_RU_MIGR_BATCH_PART;
+drop table if exists ACT_RU_MIGR_BATCH;
\ No newline at end of file
@@ -0,0 +1,50 @@
+create table ACT_PROCVAR_PROJ (
+    ID_ nvarchar(64) not null,
+    REV_ int,
+    TYPE_ nvarchar(255) not null,
+    NAME_ nvarchar(255) not null,
+    PROC_INST_ID_ nvarchar(64) not null,
+    PROC_DEF_ID_ nvarchar(64),
+    DOUBLE_ double precision,
+    LONG_ numeric(19,0),
+    TEXT_ nvarchar(255),
+    primary key (ID_)
+);
+
+create index ACT_IDX_PROJ_TEXT on ACT_PROCVAR_PROJ(NAME_, TEXT_, PROC_INST_ID_);
+create index ACT_IDX_PROJ_LONG on ACT_PROCVAR_PROJ(NAME_, LONG_, PROC_INST_ID_);
+create index ACT_IDX_PROJ_DOUBLE on ACT_PROCVAR_PROJ(NAME_, DOUBLE_, PROC_INST_ID_);
+create index ACT_IDX_PROJ_PROC_INST on ACT_PROCVAR_PROJ(PROC_INST_ID_);
+create index ACT_IDX_PROJ_PROC_DEF on ACT_PROCVAR_PROJ(PROC_DEF_ID_);
+
+create table ACT_RU_MIGR_BATCH (
+    ID_ nvarchar(64) not null,
+    REV_ int,
+    STATUS_ nvarchar(255) not null,
+    SOURCE_PROC_DEF_ID_ nvarchar(64) not null,
+    TARGET_PROC_DEF_ID_ nvarchar(64),
+    DOC_JSON_ID_ nvarchar(64),
+    CHUNK_SIZE_ int,
+    CHUNK_COUNT_ int,
+    PLANNED_ tinyint,
+    LAST_PLANNED_ID_ nvarchar(64),
+    CREATE_TIME_ datetime,
+    TENANT_ID_ nvarchar(255) default '',
+    primary key (ID_)
+);
+
+create table ACT_RU_MIGR_BATCH_PART (
+    ID_ nvarchar(64) not null,
+    REV_ int,
+    BATCH_ID_ nvarchar(64) not null,
+    CHUNK_ int not null,
+    PROC_INST_ID_ nvarchar(64) not null,
+    STATUS_ nvarchar(255) not null,
+    ERROR_MSG_ nvarchar(4000),
+    CREATE_TIME_ datetime,
+    COMPLETE_TIME_ datetime,
+    primary key (ID_)
+);
+
+create index ACT_IDX_MIGR_PART_BATCH on ACT_RU_MIGR_BATCH_PART(BATCH_ID_, CHUNK_, STATUS_);
+create index ACT_IDX_MIGR_PART_PROC_INST on ACT_RU_MIGR_BATCH_PART(PROC_INST_ID_);
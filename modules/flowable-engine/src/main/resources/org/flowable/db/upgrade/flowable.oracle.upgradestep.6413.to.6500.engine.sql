@@ -0,0 +1,50 @@
+create table ACT_PROCVAR_PROJ (
+    ID_ NVARCHAR2(64) not null,
+    REV_ INTEGER,
+    TYPE_ NVARCHAR2(255) not null,
+    NAME_ NVARCHAR2(255) not null,
+    PROC_INST_ID_ NVARCHAR2(64) not null,
+    PROC_DEF_ID_ NVARCHAR2(64),
+    DOUBLE_ NUMBER(*,10),
+    LONG_ NUMBER(19,0),
+    TEXT_ NVARCHAR2(255),
+    primary key (ID_)
+);
+
+create index ACT_IDX_PROJ_TEXT on ACT_PROCVAR_PROJ(NAME_, TEXT_, PROC_INST_ID_);
+create index ACT_IDX_PROJ_LONG on ACT_PROCVAR_PROJ(NAME_, LONG_, PROC_INST_ID_);
+create index ACT_IDX_PROJ_DOUBLE on ACT_PROCVAR_PROJ(NAME_, DOUBLE_, PROC_INST_ID_);
+create index ACT_IDX_PROJ_PROC_INST on ACT_PROCVAR_PROJ(PROC_INST_ID_);
+create index ACT_IDX_PROJ_PROC_DEF on ACT_PROCVAR_PROJ(PROC_DEF_ID_);
+
+create table ACT_RU_MIGR_BATCH (
+    ID_ NVARCHAR2(64) not null,
+    REV_ INTEGER,
+    STATUS_ NVARCHAR2(255) not null,
+    SOURCE_PROC_DEF_ID_ NVARCHAR2(64) not null,
+    TARGET_PROC_DEF_ID_ NVARCHAR2(64),
+    DOC_JSON_ID_ NVARCHAR2(64),
+    CHUNK_SIZE_ INTEGER,
+    CHUNK_COUNT_ INTEGER,
+    PLANNED_ NUMBER(1,0) CHECK (PLANNED_ IN (1,0)),
+    LAST_PLANNED_ID_ NVARCHAR2(64),
+    CREATE_TIME_ TIMESTAMP(6),
+    TENANT_ID_ NVARCHAR2(255) DEFAULT '',
+    primary key (ID_)
+);
+
+create table ACT_RU_MIGR_BATCH_PART (
+    ID_ NVARCHAR2(64) not null,
+    REV_ INTEGER,
+    BATCH_ID_ NVARCHAR2(64) not null,
+    CHUNK_ INTEGER not null,
+    PROC_INST_ID_ NVARCHAR2(64) not null,
+    STATUS_ NVARCHAR2(255) not null,
+    ERROR_MSG_ NVARCHAR2(2000),
+    CREATE_TIME_ TIMESTAMP(6),
+    COMPLETE_TIME_ TIMESTAMP(6),
+    primary key (ID_)
+);
+
+create index ACT_IDX_MIGR_PART_BATCH on ACT_RU_MIGR_BATCH_PART(BATCH_ID_, CHUNK_, STATUS_);
+create index ACT_IDX_MIGR_PART_PROC_INST on ACT_RU_MIGR_BATCH_PART(PROC_INST_ID_);
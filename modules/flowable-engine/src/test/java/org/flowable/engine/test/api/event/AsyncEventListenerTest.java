@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableAsyncEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.engine.event.EventLogEntry;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncEventListenerTest extends CustomConfigurationFlowableTestCase {
+
+    protected static final ExecutorService ASYNC_EVENT_LISTENER_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "flowable-async-event-listener-test");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AsyncEventListenerTest() {
+        super("asyncEventListenerTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncEventListenerExecutor(ASYNC_EVENT_LISTENER_EXECUTOR);
+        processEngineConfiguration.setEnableDatabaseEventLogging(true);
+    }
+
+    @AfterEach
+    protected void deleteEventLogEntries() {
+        for (EventLogEntry eventLogEntry : managementService.getEventLogEntries(null, null)) {
+            managementService.deleteEventLogEntry(eventLogEntry.getLogNumber());
+        }
+    }
+
+    @Test
+    public void testAsyncListenerIsNotifiedOnExecutorAfterCommit() throws InterruptedException {
+        deployOneTaskTestProcess();
+
+        ProcessStartedListener asyncListener = new AsyncProcessStartedListener();
+        ProcessStartedListener syncListener = new ProcessStartedListener();
+        runtimeService.addEventListener(asyncListener, FlowableEngineEventType.PROCESS_STARTED);
+        runtimeService.addEventListener(syncListener, FlowableEngineEventType.PROCESS_STARTED);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+            // A regular listener is still notified within the transaction, on the thread of the command
+            assertThat(syncListener.notified.getCount()).isZero();
+            assertThat(syncListener.thread).isEqualTo(Thread.currentThread());
+            assertThat(syncListener.withinCommandContext).isTrue();
+            assertThat(syncListener.processInstanceCommitted).isFalse();
+
+            assertThat(asyncListener.notified.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(asyncListener.thread.getName()).isEqualTo("flowable-async-event-listener-test");
+            assertThat(asyncListener.withinCommandContext).isFalse();
+            assertThat(asyncListener.processInstanceCommitted).isTrue();
+            assertThat(asyncListener.processInstanceId).isEqualTo(processInstance.getId());
+
+        } finally {
+            runtimeService.removeEventListener(asyncListener);
+            runtimeService.removeEventListener(syncListener);
+        }
+    }
+
+    @Test
+    public void testEventLoggerStillWritesEventLogEntries() {
+        deployOneTaskTestProcess();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        // The event logger is not an async listener, so the entries are flushed with the transaction of the command
+        List<EventLogEntry> eventLogEntries = managementService.getEventLogEntriesByProcessInstanceId(processInstance.getId());
+        assertThat(eventLogEntries)
+                .extracting(EventLogEntry::getType)
+                .contains("PROCESSINSTANCE_START");
+    }
+
+    protected class ProcessStartedListener extends AbstractFlowableEventListener {
+
+        protected final CountDownLatch notified = new CountDownLatch(1);
+        protected volatile Thread thread;
+        protected volatile boolean withinCommandContext;
+        protected volatile boolean processInstanceCommitted;
+        protected volatile String processInstanceId;
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            thread = Thread.currentThread();
+            withinCommandContext = Context.getCommandContext() != null;
+            processInstanceId = ((FlowableEngineEvent) event).getProcessInstanceId();
+            if (!withinCommandContext) {
+                // Only visible from a new command once the starting transaction has been committed
+                processInstanceCommitted = runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).count() == 1;
+            }
+            notified.countDown();
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return false;
+        }
+    }
+
+    protected class AsyncProcessStartedListener extends ProcessStartedListener implements FlowableAsyncEventListener {
+
+    }
+}
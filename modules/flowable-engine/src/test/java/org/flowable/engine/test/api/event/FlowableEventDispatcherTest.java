@@ -284,4 +284,29 @@ public class FlowableEventDispatcherTest extends PluggableFlowableTestCase {
             assertEquals("Invalid event-type: WHOOPS", expected.getMessage());
         }
     }
+
+    @Test
+    public void testHasListeners() throws Exception {
+        assertThat(dispatcher.hasListeners(FlowableEngineEventType.ENTITY_CREATED)).isFalse();
+
+        TestFlowableEventListener typedListener = new TestFlowableEventListener();
+        dispatcher.addEventListener(typedListener, FlowableEngineEventType.ENTITY_CREATED);
+        assertThat(dispatcher.hasListeners(FlowableEngineEventType.ENTITY_CREATED)).isTrue();
+        assertThat(dispatcher.hasListeners(FlowableEngineEventType.ENTITY_DELETED)).isFalse();
+
+        TestFlowableEventListener globalListener = new TestFlowableEventListener();
+        dispatcher.addEventListener(globalListener);
+        assertThat(dispatcher.hasListeners(FlowableEngineEventType.ENTITY_DELETED)).isTrue();
+
+        dispatcher.setEnabled(false);
+        assertThat(dispatcher.hasListeners(FlowableEngineEventType.ENTITY_CREATED)).isFalse();
+        dispatcher.setEnabled(true);
+
+        dispatcher.removeEventListener(globalListener);
+        assertThat(dispatcher.hasListeners(FlowableEngineEventType.ENTITY_DELETED)).isFalse();
+        assertThat(dispatcher.hasListeners(FlowableEngineEventType.ENTITY_CREATED)).isTrue();
+
+        dispatcher.removeEventListener(typedListener);
+        assertThat(dispatcher.hasListeners(FlowableEngineEventType.ENTITY_CREATED)).isFalse();
+    }
 }
@@ -12,10 +12,16 @@
  */
 package org.flowable.engine.test.api.event;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.util.Map;
 
 import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.impl.event.FlowableEventSupport;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -64,4 +70,31 @@ public class ProcessDefinitionScopedEventListenerTest extends PluggableFlowableT
         assertNotNull(otherInstance);
         assertTrue(listener.getEventsReceived().isEmpty());
     }
+
+    /**
+     * Test to verify history events reach listeners on a process-definition when no engine-wide listener is registered for them.
+     */
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml" })
+    public void testProcessDefinitionScopedHistoricListener() {
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult();
+
+        TestFlowableEventListener listener = new TestFlowableEventListener();
+        BpmnModel bpmnModel = repositoryService.getBpmnModel(processDefinition.getId());
+        ((FlowableEventSupport) bpmnModel.getEventSupport()).addEventListener(listener, FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_CREATED,
+                FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_CREATED, FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED);
+
+        try {
+            runtimeService.startProcessInstanceById(processDefinition.getId());
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration) && !processEngineConfiguration.isAsyncHistoryEnabled()) {
+                assertThat(listener.getEventsReceived())
+                        .extracting(FlowableEvent::getType)
+                        .contains(FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_CREATED, FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_CREATED,
+                                FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED);
+            }
+        } finally {
+            ((FlowableEventSupport) bpmnModel.getEventSupport()).removeEventListener(listener);
+        }
+    }
 }
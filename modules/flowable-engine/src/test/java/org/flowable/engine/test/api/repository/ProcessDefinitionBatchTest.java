@@ -0,0 +1,156 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.engine.delegate.event.AbstractFlowableEngineEventListener;
+import org.flowable.engine.delegate.event.FlowableBatchEvent;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProcessDefinitionBatchTest extends PluggableFlowableTestCase {
+
+    protected int originalBatchSize;
+    protected BatchEventListener listener;
+
+    @BeforeEach
+    protected void setUp() {
+        originalBatchSize = processEngineConfiguration.getBatchSizeProcessInstances();
+        processEngineConfiguration.setBatchSizeProcessInstances(2);
+        listener = new BatchEventListener();
+        processEngineConfiguration.getEventDispatcher().addEventListener(listener);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.setBatchSizeProcessInstances(originalBatchSize);
+        processEngineConfiguration.getEventDispatcher().removeEventListener(listener);
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testBatchSuspendAndActivateProcessDefinition() {
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().singleResult();
+        for (int i = 0; i < 5; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+
+        String batchId = repositoryService.batchSuspendProcessDefinitionById(processDefinition.getId());
+
+        // the process definition is suspended immediately, its process instances by the batch
+        assertThat(repositoryService.createProcessDefinitionQuery().singleResult().isSuspended()).isTrue();
+        assertThat(runtimeService.createProcessInstanceQuery().suspended().count()).isZero();
+
+        // the process definition ids are kept in the custom values of the job, not in its handler configuration
+        Job batchJob = managementService.createJobQuery().scopeId(batchId).singleResult();
+        assertThat(batchJob.getJobHandlerConfiguration()).doesNotContain(processDefinition.getId());
+        assertThat(batchJob.getCustomValues()).contains(processDefinition.getId());
+        assertThat(batchJob.getScopeType()).isEqualTo(ScopeTypes.BPMN_BATCH);
+
+        assertThat(executeBatchJobs(batchId)).isEqualTo(3);
+        assertThat(runtimeService.createProcessInstanceQuery().suspended().count()).isEqualTo(5);
+        assertThat(taskService.createTaskQuery().suspended().count()).isEqualTo(5);
+        assertThat(listener.progressedCounts).containsExactly(2L, 4L, 5L);
+        assertThat(listener.completedEvents).extracting(FlowableBatchEvent::getBatchId).containsExactly(batchId);
+        assertThat(listener.completedEvents).extracting(FlowableBatchEvent::getBatchType)
+            .containsExactly(FlowableBatchEvent.BATCH_TYPE_SUSPEND_PROCESS_INSTANCES);
+
+        // a process instance activated in the meantime is skipped
+        String processInstanceId = runtimeService.createProcessInstanceQuery().list().get(0).getId();
+        runtimeService.activateProcessInstanceById(processInstanceId);
+
+        batchId = repositoryService.batchActivateProcessDefinitionByKey("oneTaskProcess");
+        assertThat(repositoryService.createProcessDefinitionQuery().singleResult().isSuspended()).isFalse();
+
+        executeBatchJobs(batchId);
+        assertThat(runtimeService.createProcessInstanceQuery().active().count()).isEqualTo(5);
+        assertThat(taskService.createTaskQuery().active().count()).isEqualTo(5);
+    }
+
+    @Test
+    public void testBatchDeleteDeployment() {
+        String deploymentId = repositoryService.createDeployment()
+            .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+            .deploy()
+            .getId();
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+
+        String batchId = repositoryService.batchDeleteDeployment(deploymentId);
+
+        // nothing is deleted until the jobs of the batch are executed, but no new process instances can be started anymore
+        assertThat(repositoryService.createDeploymentQuery().deploymentId(deploymentId).count()).isEqualTo(1);
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(3);
+        assertThat(repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult().isSuspended()).isTrue();
+        assertThatThrownBy(() -> runtimeService.startProcessInstanceByKey("oneTaskProcess"))
+            .isInstanceOf(FlowableException.class);
+        assertThat(managementService.createJobQuery().scopeId(batchId).singleResult().getScopeType()).isEqualTo(ScopeTypes.BPMN_BATCH);
+
+        assertThat(executeBatchJobs(batchId)).isEqualTo(2);
+        assertThat(listener.progressedCounts).containsExactly(2L, 3L);
+        assertThat(listener.completedEvents).extracting(FlowableBatchEvent::getProcessedCount).containsExactly(3L);
+
+        assertThat(repositoryService.createDeploymentQuery().deploymentId(deploymentId).count()).isZero();
+        assertThat(repositoryService.createProcessDefinitionQuery().count()).isZero();
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+        assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+    }
+
+    protected int executeBatchJobs(String batchId) {
+        int jobCount = 0;
+        List<Job> jobs = managementService.createJobQuery().scopeId(batchId).list();
+        while (!jobs.isEmpty()) {
+            for (Job job : jobs) {
+                managementService.executeJob(job.getId());
+                jobCount++;
+            }
+            jobs = managementService.createJobQuery().scopeId(batchId).list();
+        }
+        return jobCount;
+    }
+
+    protected static class BatchEventListener extends AbstractFlowableEngineEventListener {
+
+        protected List<Long> progressedCounts = new ArrayList<>();
+        protected List<FlowableBatchEvent> completedEvents = new ArrayList<>();
+
+        @Override
+        protected void batchProgressed(FlowableBatchEvent event) {
+            progressedCounts.add(event.getProcessedCount());
+        }
+
+        @Override
+        protected void batchCompleted(FlowableBatchEvent event) {
+            completedEvents.add(event);
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return true;
+        }
+    }
+
+}
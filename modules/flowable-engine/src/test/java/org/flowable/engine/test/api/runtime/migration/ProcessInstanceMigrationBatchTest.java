@@ -0,0 +1,190 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchChunkJobHandler;
+import org.flowable.engine.migration.ActivityMigrationMapping;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatch;
+import org.flowable.engine.migration.ProcessInstanceMigrationBatchPart;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProcessInstanceMigrationBatchTest extends AbstractProcessInstanceMigrationTest {
+
+    protected int originalChunkSize;
+
+    @BeforeEach
+    protected void setUp() {
+        originalChunkSize = processEngineConfiguration.getProcessInstanceMigrationBatchChunkSize();
+        processEngineConfiguration.setProcessInstanceMigrationBatchChunkSize(2);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.setProcessInstanceMigrationBatchChunkSize(originalChunkSize);
+        deleteDeployments();
+    }
+
+    @Test
+    public void testBatchMigration() {
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("MP").getId());
+        }
+        ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process-v2.bpmn20.xml");
+
+        ProcessInstanceMigrationBatch batch = runtimeService.createProcessInstanceMigrationBuilder()
+            .migrateToProcessDefinition(version2ProcessDef.getId())
+            .addActivityMigrationMapping(ActivityMigrationMapping.createMappingFor("userTask1Id", "theTask"))
+            .batchMigrateProcessInstances(version1ProcessDef.getId());
+
+        assertThat(batch.getStatus()).isEqualTo(ProcessInstanceMigrationBatch.STATUS_EXECUTING);
+        assertThat(batch.getSourceProcessDefinitionId()).isEqualTo(version1ProcessDef.getId());
+        assertThat(batch.getTargetProcessDefinitionId()).isEqualTo(version2ProcessDef.getId());
+
+        // Nothing is migrated until the jobs are executed
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(version1ProcessDef.getId()).count()).isEqualTo(5);
+
+        int chunkJobs = executeBatchJobs(batch.getId());
+        assertThat(chunkJobs).isEqualTo(3);
+
+        batch = runtimeService.getProcessInstanceMigrationBatch(batch.getId());
+        assertThat(batch.isPlanned()).isTrue();
+        assertThat(batch.getChunkCount()).isEqualTo(3);
+        assertThat(runtimeService.getProcessInstanceMigrationBatchParts(batch.getId(), null))
+            .extracting(ProcessInstanceMigrationBatchPart::getProcessInstanceId)
+            .containsExactlyInAnyOrderElementsOf(processInstanceIds);
+        assertThat(runtimeService.getProcessInstanceMigrationBatchPartCount(batch.getId(), ProcessInstanceMigrationBatchPart.STATUS_SUCCESS)).isEqualTo(5);
+
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(version2ProcessDef.getId()).count()).isEqualTo(5);
+        assertThat(taskService.createTaskQuery().list())
+            .extracting(Task::getTaskDefinitionKey)
+            .containsOnly("theTask");
+
+        runtimeService.deleteProcessInstanceMigrationBatch(batch.getId());
+        assertThat(runtimeService.getProcessInstanceMigrationBatch(batch.getId())).isNull();
+    }
+
+    @Test
+    public void testBatchMigrationWithInvalidDocument() {
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+        runtimeService.startProcessInstanceByKey("MP");
+        ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process-v2.bpmn20.xml");
+
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceMigrationBuilder()
+            .migrateToProcessDefinition(version2ProcessDef.getId())
+            .addActivityMigrationMapping(ActivityMigrationMapping.createMappingFor("userTask1Id", "unknownTask"))
+            .batchMigrateProcessInstances(version1ProcessDef.getId()))
+            .isInstanceOf(FlowableException.class)
+            .hasMessageContaining("unknownTask");
+
+        assertThat(managementService.createJobQuery().count()).isZero();
+    }
+
+    @Test
+    public void testPauseAndResumeBatchMigration() {
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("MP");
+        }
+        ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process-v2.bpmn20.xml");
+
+        ProcessInstanceMigrationBatch batch = runtimeService.createProcessInstanceMigrationBuilder()
+            .migrateToProcessDefinition(version2ProcessDef.getId())
+            .addActivityMigrationMapping(ActivityMigrationMapping.createMappingFor("userTask1Id", "theTask"))
+            .batchMigrateProcessInstances(version1ProcessDef.getId());
+
+        runtimeService.pauseProcessInstanceMigrationBatch(batch.getId());
+        executeBatchJobs(batch.getId());
+
+        assertThat(runtimeService.getProcessInstanceMigrationBatch(batch.getId()).isPlanned()).isFalse();
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(version1ProcessDef.getId()).count()).isEqualTo(3);
+
+        runtimeService.resumeProcessInstanceMigrationBatch(batch.getId());
+        executeBatchJobs(batch.getId());
+
+        assertThat(runtimeService.getProcessInstanceMigrationBatchPartCount(batch.getId(), ProcessInstanceMigrationBatchPart.STATUS_SUCCESS)).isEqualTo(3);
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(version2ProcessDef.getId()).count()).isEqualTo(3);
+
+        runtimeService.deleteProcessInstanceMigrationBatch(batch.getId());
+    }
+
+    @Test
+    public void testRetryFailedBatchMigrationParts() {
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("MP");
+        }
+        ProcessInstance movedProcessInstance = runtimeService.startProcessInstanceByKey("MP");
+        Task task = taskService.createTaskQuery().processInstanceId(movedProcessInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+        ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process-v2.bpmn20.xml");
+
+        ProcessInstanceMigrationBatch batch = runtimeService.createProcessInstanceMigrationBuilder()
+            .migrateToProcessDefinition(version2ProcessDef.getId())
+            .addActivityMigrationMapping(ActivityMigrationMapping.createMappingFor("userTask1Id", "theTask"))
+            .batchMigrateProcessInstances(version1ProcessDef.getId());
+        executeBatchJobs(batch.getId());
+
+        // userTask2Id is not mapped, so the process instance that already moved on cannot be migrated
+        assertThat(runtimeService.getProcessInstanceMigrationBatchPartCount(batch.getId(), ProcessInstanceMigrationBatchPart.STATUS_SUCCESS)).isEqualTo(3);
+        List<ProcessInstanceMigrationBatchPart> failedParts = runtimeService.getProcessInstanceMigrationBatchParts(batch.getId(), ProcessInstanceMigrationBatchPart.STATUS_FAILED);
+        assertThat(failedParts).hasSize(1);
+        assertThat(failedParts.get(0).getProcessInstanceId()).isEqualTo(movedProcessInstance.getId());
+        assertThat(failedParts.get(0).getErrorMessage()).contains("userTask2Id");
+        assertThat(failedParts.get(0).getCompleteTime()).isNotNull();
+
+        runtimeService.createChangeActivityStateBuilder()
+            .processInstanceId(movedProcessInstance.getId())
+            .moveActivityIdTo("userTask2Id", "userTask1Id")
+            .changeState();
+
+        runtimeService.retryFailedProcessInstanceMigrationBatchParts(batch.getId());
+        executeBatchJobs(batch.getId());
+
+        assertThat(runtimeService.getProcessInstanceMigrationBatchPartCount(batch.getId(), ProcessInstanceMigrationBatchPart.STATUS_FAILED)).isZero();
+        assertThat(runtimeService.getProcessInstanceMigrationBatchPartCount(batch.getId(), ProcessInstanceMigrationBatchPart.STATUS_SUCCESS)).isEqualTo(4);
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(version2ProcessDef.getId()).count()).isEqualTo(4);
+
+        runtimeService.deleteProcessInstanceMigrationBatch(batch.getId());
+    }
+
+    protected int executeBatchJobs(String batchId) {
+        int chunkJobs = 0;
+        List<Job> jobs = managementService.createJobQuery().scopeId(batchId).list();
+        while (!jobs.isEmpty()) {
+            for (Job job : jobs) {
+                if (ProcessInstanceMigrationBatchChunkJobHandler.TYPE.equals(job.getJobHandlerType())) {
+                    chunkJobs++;
+                }
+                managementService.executeJob(job.getId());
+            }
+            jobs = managementService.createJobQuery().scopeId(batchId).list();
+        }
+        return chunkJobs;
+    }
+
+}
@@ -0,0 +1,160 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.flowable.variable.api.types.LargeObjectValue;
+import org.flowable.variable.service.impl.types.FileSystemLargeObjectStore;
+import org.flowable.variable.service.impl.types.LargeObjectStore;
+import org.flowable.variable.service.impl.types.LargeObjectType;
+import org.junit.jupiter.api.Test;
+
+public class LargeObjectVariableTest extends ResourceFlowableTestCase {
+
+    public LargeObjectVariableTest() {
+        super("org/flowable/engine/test/api/variables/LargeObjectVariableTest.flowable.cfg.xml");
+    }
+
+    @Override
+    protected void additionalConfiguration(ProcessEngineConfiguration processEngineConfiguration) {
+        try {
+            Path directory = Files.createTempDirectory("flowable-large-objects");
+            ((ProcessEngineConfigurationImpl) processEngineConfiguration).setLargeObjectStore(new FileSystemLargeObjectStore(directory));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStoreAndReadLargeObject() throws IOException {
+        byte[] content = new byte[300 * 1024];
+        Arrays.fill(content, (byte) 7);
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        runtimeService.setVariable(processInstance.getId(), "document", new ByteArrayInputStream(content));
+
+        assertThat(runtimeService.getVariableInstance(processInstance.getId(), "document").getTypeName()).isEqualTo(LargeObjectType.TYPE_NAME);
+
+        LargeObjectValue value = (LargeObjectValue) runtimeService.getVariable(processInstance.getId(), "document");
+        assertThat(value.getLength()).isEqualTo(content.length);
+        try (InputStream inputStream = value.openStream()) {
+            assertThat(IoUtil.readInputStream(inputStream, "document")).isEqualTo(content);
+        }
+
+        try (ReadableByteChannel channel = value.openChannel()) {
+            ByteBuffer buffer = ByteBuffer.allocate(16);
+            assertThat(channel.read(buffer)).isEqualTo(16);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testUpdateRemovesReplacedContent() throws IOException {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        runtimeService.setVariable(processInstance.getId(), "document", new ByteArrayInputStream(new byte[] { 1, 2, 3 }));
+        LargeObjectValue firstValue = (LargeObjectValue) runtimeService.getVariable(processInstance.getId(), "document");
+
+        runtimeService.setVariable(processInstance.getId(), "document", new ByteArrayInputStream(new byte[] { 4, 5 }));
+        LargeObjectValue secondValue = (LargeObjectValue) runtimeService.getVariable(processInstance.getId(), "document");
+
+        assertThat(secondValue.getReference()).isNotEqualTo(firstValue.getReference());
+        assertThat(secondValue.getLength()).isEqualTo(2);
+        try (InputStream inputStream = secondValue.openStream()) {
+            assertThat(IoUtil.readInputStream(inputStream, "document")).containsExactly(4, 5);
+        }
+
+        // the replaced content is only kept when a historic detail still references it
+        assertThat(isStored(firstValue.getReference())).isEqualTo(HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.FULL, processEngineConfiguration));
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            HistoricVariableInstance historicVariable = historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId())
+                    .variableName("document")
+                    .singleResult();
+            assertThat(((LargeObjectValue) historicVariable.getValue()).getReference()).isEqualTo(secondValue.getReference());
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testRollbackRemovesStoredContent() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        List<String> references = new ArrayList<>();
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            runtimeService.setVariable(processInstance.getId(), "document", new ByteArrayInputStream(new byte[] { 1, 2, 3 }));
+            references.add(((LargeObjectValue) runtimeService.getVariable(processInstance.getId(), "document")).getReference());
+            throw new FlowableException("rollback");
+        })).isInstanceOf(FlowableException.class);
+
+        assertThat(references).hasSize(1);
+        assertThat(isStored(references.get(0))).isFalse();
+        assertThat(runtimeService.getVariable(processInstance.getId(), "document")).isNull();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testDeleteRemovesUnreferencedContent() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        runtimeService.setVariable(processInstance.getId(), "document", new ByteArrayInputStream(new byte[] { 1, 2, 3 }));
+        String reference = ((LargeObjectValue) runtimeService.getVariable(processInstance.getId(), "document")).getReference();
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            // the historic variable still references the content
+            assertThat(isStored(reference)).isTrue();
+            historyService.deleteHistoricProcessInstance(processInstance.getId());
+        }
+
+        assertThat(isStored(reference)).isFalse();
+    }
+
+    protected boolean isStored(String reference) {
+        LargeObjectStore largeObjectStore = processEngineConfiguration.getLargeObjectStore();
+        try (InputStream inputStream = largeObjectStore.openStream(reference)) {
+            return true;
+        } catch (FlowableObjectNotFoundException e) {
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
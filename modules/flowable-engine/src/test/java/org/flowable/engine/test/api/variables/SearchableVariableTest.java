@@ -0,0 +1,175 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.persistence.entity.VariableProjectionEntity;
+import org.flowable.engine.impl.persistence.entity.VariableProjectionEntityManagerImpl;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class SearchableVariableTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/variables/SearchableVariableTest.bpmn20.xml")
+    public void testQueryProjectedVariables() {
+        ProcessInstance processInstance1 = startProcessInstance("customer1", 100L);
+        ProcessInstance processInstance2 = startProcessInstance("customer2", 200L);
+
+        assertEquals(2, findVariableProjections(processInstance1.getId()).size());
+        assertEquals(2, findVariableProjections(processInstance2.getId()).size());
+
+        assertEquals(processInstance1.getId(), runtimeService.createProcessInstanceQuery().processDefinitionKey("searchableVariables")
+                .variableValueEquals("customerId", "customer1").singleResult().getId());
+        assertEquals(processInstance2.getId(), runtimeService.createProcessInstanceQuery().processDefinitionId(processInstance2.getProcessDefinitionId())
+                .variableValueGreaterThan("amount", 150L).singleResult().getId());
+        assertEquals(2, runtimeService.createProcessInstanceQuery().processDefinitionKey("searchableVariables")
+                .variableValueLikeIgnoreCase("customerId", "CUSTOMER%").count());
+
+        // Task queries always use the regular variable table
+        assertEquals(processInstance1.getId(), taskService.createTaskQuery().processDefinitionKey("searchableVariables")
+                .processVariableValueEquals("customerId", "customer1").singleResult().getProcessInstanceId());
+
+        // Queries without a process definition restriction use the regular variable table and must give the same results
+        assertEquals(processInstance1.getId(), runtimeService.createProcessInstanceQuery()
+                .variableValueEquals("customerId", "customer1").singleResult().getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/variables/SearchableVariableTest.bpmn20.xml")
+    public void testProjectionFollowsVariableUpdates() {
+        ProcessInstance processInstance = startProcessInstance("customer1", 100L);
+
+        runtimeService.setVariable(processInstance.getId(), "customerId", "customer3");
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processDefinitionKey("searchableVariables")
+                .variableValueEquals("customerId", "customer1").count());
+        assertEquals(1, runtimeService.createProcessInstanceQuery().processDefinitionKey("searchableVariables")
+                .variableValueEquals("customerId", "customer3").count());
+
+        // A value of another type than the declared one is not projected
+        runtimeService.setVariable(processInstance.getId(), "amount", 100);
+        assertEquals(1, findVariableProjections(processInstance.getId()).size());
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processDefinitionKey("searchableVariables")
+                .variableValueEquals("amount", 100L).count());
+        assertEquals(1, runtimeService.createProcessInstanceQuery().processDefinitionKey("searchableVariables")
+                .variableValueEquals("amount", 100).count());
+
+        runtimeService.removeVariable(processInstance.getId(), "customerId");
+        assertEquals(0, findVariableProjections(processInstance.getId()).size());
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processDefinitionKey("searchableVariables")
+                .variableValueEquals("customerId", "customer3").count());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/variables/SearchableVariableTest.bpmn20.xml")
+    public void testTaskQueryMatchesVariablesOfChildExecutions() {
+        ProcessInstance processInstance = startProcessInstance("customer1", 100L);
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        runtimeService.setVariableLocal(task.getExecutionId(), "amount", 500L);
+
+        // Only the variables of the process instance itself are projected
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processDefinitionKey("searchableVariables")
+                .variableValueEquals("amount", 500L).count());
+        assertEquals(task.getId(), taskService.createTaskQuery().processDefinitionKey("searchableVariables")
+                .processVariableValueEquals("amount", 500L).singleResult().getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/variables/SearchableVariableTest.bpmn20.xml")
+    public void testProjectionOfEndedProcessInstance() {
+        ProcessInstance processInstance = startProcessInstance("customer1", 100L);
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+            assertEquals(2, findVariableProjections(processInstance.getId()).size());
+            assertEquals(processInstance.getId(), historyService.createHistoricProcessInstanceQuery().processDefinitionKey("searchableVariables")
+                    .variableValueEquals("customerId", "customer1").singleResult().getId());
+
+            historyService.deleteHistoricProcessInstance(processInstance.getId());
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+        }
+
+        assertEquals(0, findVariableProjections(processInstance.getId()).size());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/variables/SearchableVariableTest.bpmn20.xml")
+    public void testDeleteProcessInstanceWithHistory() {
+        ProcessInstance processInstance = startProcessInstance("customer1", 100L);
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+            historyService.deleteHistoricProcessInstance(processInstance.getId());
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+        }
+
+        assertEquals(0, findVariableProjections(processInstance.getId()).size());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/variables/SearchableVariableTest.bpmn20.xml")
+    public void testLongTextValueIsTruncatedInProjection() {
+        StringBuilder longCustomerId = new StringBuilder("customer");
+        while (longCustomerId.length() < 300) {
+            longCustomerId.append('x');
+        }
+        ProcessInstance processInstance = startProcessInstance(longCustomerId.toString(), 100L);
+        startProcessInstance("customer2", 200L);
+
+        List<VariableProjectionEntity> variableProjections = findVariableProjections(processInstance.getId());
+        assertEquals(2, variableProjections.size());
+        for (VariableProjectionEntity variableProjection : variableProjections) {
+            if ("customerId".equals(variableProjection.getName())) {
+                assertEquals(longCustomerId.substring(0, VariableProjectionEntityManagerImpl.MAX_TEXT_LENGTH), variableProjection.getTextValue());
+            }
+        }
+
+        // Conditions that could match the truncated value fall back to the regular variable table
+        assertEquals(processInstance.getId(), runtimeService.createProcessInstanceQuery().processDefinitionKey("searchableVariables")
+                .variableValueEquals("customerId", longCustomerId.toString()).singleResult().getId());
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processDefinitionKey("searchableVariables")
+                .variableValueEquals("customerId", longCustomerId.substring(0, VariableProjectionEntityManagerImpl.MAX_TEXT_LENGTH)).count());
+        assertEquals(processInstance.getId(), runtimeService.createProcessInstanceQuery().processDefinitionKey("searchableVariables")
+                .variableValueLike("customerId", "%xxx").singleResult().getId());
+        assertEquals(2, runtimeService.createProcessInstanceQuery().processDefinitionKey("searchableVariables")
+                .variableValueLike("customerId", "customer%").count());
+        assertEquals(1, runtimeService.createProcessInstanceQuery().processDefinitionKey("searchableVariables")
+                .variableValueNotEquals("customerId", "customer2").count());
+    }
+
+    protected ProcessInstance startProcessInstance(String customerId, long amount) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("customerId", customerId);
+        variables.put("amount", amount);
+        return runtimeService.startProcessInstanceByKey("searchableVariables", variables);
+    }
+
+    protected List<VariableProjectionEntity> findVariableProjections(String processInstanceId) {
+        return managementService.executeCommand(commandContext -> CommandContextUtil.getVariableProjectionEntityManager(commandContext)
+                .findVariableProjectionsByProcessInstanceId(processInstanceId));
+    }
+
+}
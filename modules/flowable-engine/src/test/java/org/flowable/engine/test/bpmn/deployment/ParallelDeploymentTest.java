@@ -0,0 +1,136 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.flowable.bpmn.exceptions.XMLException;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelDeploymentTest extends PluggableFlowableTestCase {
+
+    protected ExecutorService originalDeploymentExecutorService;
+    protected ExecutorService originalParsedDeploymentExecutorService;
+    protected ExecutorService deploymentExecutorService;
+
+    @BeforeEach
+    protected void setUp() {
+        originalDeploymentExecutorService = processEngineConfiguration.getDeploymentExecutorService();
+        originalParsedDeploymentExecutorService = processEngineConfiguration.getParsedDeploymentBuilderFactory().getExecutorService();
+
+        deploymentExecutorService = Executors.newFixedThreadPool(4);
+        processEngineConfiguration.setDeploymentExecutorService(deploymentExecutorService);
+        processEngineConfiguration.getParsedDeploymentBuilderFactory().setExecutorService(deploymentExecutorService);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.setDeploymentExecutorService(originalDeploymentExecutorService);
+        processEngineConfiguration.getParsedDeploymentBuilderFactory().setExecutorService(originalParsedDeploymentExecutorService);
+        deploymentExecutorService.shutdownNow();
+    }
+
+    @Test
+    public void testDeployMultipleResourcesInParallel() {
+        Deployment deployment = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/multiInstanceParallel.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/parallelTask.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/bpmn/parse/BpmnParseTest.testParseDiagramInterchangeElements.bpmn20.xml")
+                .deploy();
+
+        try {
+            List<ProcessDefinition> processDefinitions = repositoryService.createProcessDefinitionQuery()
+                    .deploymentId(deployment.getId())
+                    .orderByProcessDefinitionKey().asc()
+                    .list();
+            assertThat(processDefinitions)
+                    .extracting(ProcessDefinition::getKey)
+                    .containsExactly("myProcess", "oneTaskProcess", "parallelMultiInstance", "startParallelProcess", "twoTasksProcess");
+            assertThat(processDefinitions)
+                    .extracting(ProcessDefinition::getVersion)
+                    .containsOnly(1);
+
+            // the diagram of the process with diagram interchange information is generated and stored with the deployment
+            ProcessDefinition processDefinitionWithDiagram = processDefinitions.get(0);
+            assertThat(processDefinitionWithDiagram.getDiagramResourceName()).isNotNull();
+            assertThat(repositoryService.getDeploymentResourceNames(deployment.getId()))
+                    .hasSize(6)
+                    .contains(processDefinitionWithDiagram.getDiagramResourceName());
+
+            assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess")).isNotNull();
+            assertThat(taskService.createTaskQuery().count()).isEqualTo(1);
+
+        } finally {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testInvalidResourceFailsParallelDeployment() {
+        assertThatThrownBy(() -> repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/repository/nonSchemaConformantXml.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+                .deploy())
+                .isInstanceOf(XMLException.class);
+
+        assertThat(repositoryService.createDeploymentQuery().count()).isZero();
+        assertThat(repositoryService.createProcessDefinitionQuery().count()).isZero();
+    }
+
+    @Test
+    public void testDeploymentExecutorServiceIsSharedAndShutDownWithTheEngine() {
+        ProcessEngineConfigurationImpl parallelEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        parallelEngineConfiguration.setEngineName("parallelDeploymentTest");
+        parallelEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-parallel-deployment;DB_CLOSE_DELAY=1000");
+        parallelEngineConfiguration.setDeploymentParallelism(2);
+
+        ProcessEngine parallelEngine = parallelEngineConfiguration.buildProcessEngine();
+        ExecutorService engineExecutorService = parallelEngineConfiguration.getDeploymentExecutorService();
+        try {
+            assertThat(engineExecutorService).isNotNull();
+            assertThat(parallelEngineConfiguration.getParsedDeploymentBuilderFactory().getExecutorService()).isSameAs(engineExecutorService);
+
+            for (int i = 0; i < 2; i++) {
+                parallelEngine.getRepositoryService().createDeployment()
+                        .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                        .addClasspathResource("org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+                        .deploy();
+            }
+            assertThat(parallelEngine.getRepositoryService().createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").count()).isEqualTo(2);
+            assertThat(parallelEngineConfiguration.getDeploymentExecutorService()).isSameAs(engineExecutorService);
+            assertThat(engineExecutorService.isShutdown()).isFalse();
+
+        } finally {
+            parallelEngine.close();
+        }
+
+        assertThat(engineExecutorService.isShutdown()).isTrue();
+    }
+
+}
@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.engine.impl.jobexecutor.EventBroadcastChunkJobHandler;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EventBroadcastTest extends PluggableFlowableTestCase {
+
+    protected int originalChunkSize;
+
+    @BeforeEach
+    protected void setUp() {
+        originalChunkSize = processEngineConfiguration.getEventBroadcastChunkSize();
+        processEngineConfiguration.setEventBroadcastChunkSize(2);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.setEventBroadcastChunkSize(originalChunkSize);
+        processEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml")
+    public void testSignalBroadcast() {
+        for (int i = 0; i < 5; i++) {
+            runtimeService.startProcessInstanceByKey("catchSignal");
+        }
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(5);
+
+        String broadcastId = runtimeService.signalEventReceivedBroadcast("alert");
+        assertThat(broadcastId).isNotNull();
+
+        // Nothing is delivered until the jobs are executed
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(5);
+        assertThat(managementService.createJobQuery().scopeId(broadcastId).count()).isEqualTo(1);
+        assertThat(managementService.createJobQuery().scopeId(broadcastId).scopeType(ScopeTypes.BPMN_EVENT_BROADCAST).count()).isEqualTo(1);
+
+        int chunkJobs = executeBroadcastJobs(broadcastId);
+        assertThat(chunkJobs).isEqualTo(3);
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/message/MessageIntermediateEventTest.testSingleIntermediateMessageEvent.bpmn20.xml")
+    public void testMessageBroadcastByBusinessKey() {
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("process", "order-1");
+        }
+        runtimeService.startProcessInstanceByKey("process", "order-2");
+
+        String broadcastId = runtimeService.messageEventReceivedBroadcast("newInvoiceMessage", "order-1");
+        executeBroadcastJobs(broadcastId);
+
+        assertThat(taskService.createTaskQuery().processInstanceBusinessKey("order-1").count()).isEqualTo(3);
+        assertThat(taskService.createTaskQuery().processInstanceBusinessKey("order-2").count()).isZero();
+        assertThat(runtimeService.createEventSubscriptionQuery().eventName("newInvoiceMessage").count()).isEqualTo(1);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml")
+    public void testSubscriptionsCreatedAfterBroadcastDontReceiveEvent() {
+        Date broadcastTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(broadcastTime);
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("catchSignal");
+        }
+
+        String broadcastId = runtimeService.signalEventReceivedBroadcast("alert");
+
+        // Subscribes after the broadcast has been started, but before its jobs are executed
+        processEngineConfiguration.getClock().setCurrentTime(new Date(broadcastTime.getTime() + 5000));
+        String lateProcessInstanceId = runtimeService.startProcessInstanceByKey("catchSignal").getId();
+
+        executeBroadcastJobs(broadcastId);
+
+        assertThat(runtimeService.createProcessInstanceQuery().list())
+                .extracting(ProcessInstance::getId)
+                .containsExactly(lateProcessInstanceId);
+    }
+
+    protected int executeBroadcastJobs(String broadcastId) {
+        int chunkJobs = 0;
+        List<Job> jobs = managementService.createJobQuery().scopeId(broadcastId).list();
+        while (!jobs.isEmpty()) {
+            for (Job job : jobs) {
+                if (EventBroadcastChunkJobHandler.TYPE.equals(job.getJobHandlerType())) {
+                    chunkJobs++;
+                }
+                managementService.executeJob(job.getId());
+            }
+            jobs = managementService.createJobQuery().scopeId(broadcastId).list();
+        }
+        return chunkJobs;
+    }
+
+}
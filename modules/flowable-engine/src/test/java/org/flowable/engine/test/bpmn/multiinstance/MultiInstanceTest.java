@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.DelegateExecution;
@@ -181,6 +182,48 @@ public class MultiInstanceTest extends PluggableFlowableTestCase {
         assertProcessEnded(procId);
     }
 
+    @Test
+    @Deployment
+    public void testPartitionedParallelUserTasks() {
+        String procId = runtimeService.startProcessInstanceByKey("miPartitionedParallelUserTasks",
+                Collections.singletonMap("assigneeList", (Object) Arrays.asList("a", "b", "c", "d", "e"))).getId();
+
+        // The instances are created by one job per partition
+        assertEquals(0, taskService.createTaskQuery().count());
+        List<Job> jobs = managementService.createJobQuery().list();
+        assertEquals(3, jobs.size());
+        Execution miRootExecution = runtimeService.createExecutionQuery().parentId(procId).singleResult();
+        for (Job job : jobs) {
+            assertEquals(procId, job.getProcessInstanceId());
+            assertEquals(miRootExecution.getId(), job.getExecutionId());
+            assertEquals(miRootExecution.getId(), job.getScopeId());
+            assertEquals(ScopeTypes.BPMN_MULTI_INSTANCE_PARTITION, job.getScopeType());
+            managementService.executeJob(job.getId());
+        }
+
+        List<org.flowable.task.api.Task> tasks = taskService.createTaskQuery().orderByTaskName().asc().list();
+        assertEquals(5, tasks.size());
+        assertEquals("My Task a", tasks.get(0).getName());
+        assertEquals("My Task e", tasks.get(4).getName());
+        assertEquals("c", tasks.get(2).getAssignee());
+
+        for (int i = 0; i < 4; i++) {
+            taskService.complete(tasks.get(i).getId());
+        }
+        assertEquals(0, taskService.createTaskQuery().taskName("After MI").count());
+
+        // The loop variables of the root execution are kept up to date like for a non partitioned activity
+        assertEquals(4, runtimeService.getVariableLocal(miRootExecution.getId(), "nrOfCompletedInstances"));
+        assertEquals(1, runtimeService.getVariableLocal(miRootExecution.getId(), "nrOfActiveInstances"));
+
+        taskService.complete(tasks.get(4).getId());
+        org.flowable.task.api.Task afterMiTask = taskService.createTaskQuery().singleResult();
+        assertEquals("After MI", afterMiTask.getName());
+
+        taskService.complete(afterMiTask.getId());
+        assertProcessEnded(procId);
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml" })
     public void testParallelUserTasksHistory() {
@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.junit.jupiter.api.Test;
+
+public class LatestDefinitionCacheTest extends CustomConfigurationFlowableTestCase {
+
+    public LatestDefinitionCacheTest() {
+        super("latestDefinitionCacheTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setEnableLatestDefinitionCache(true);
+    }
+
+    @Test
+    public void testLatestVersionIsResolvedThroughCache() {
+        LatestDefinitionCache latestDefinitionCache = processEngineConfiguration.getLatestDefinitionCache();
+        assertThat(latestDefinitionCache).isNotNull();
+
+        String firstProcessDefinitionId = deployOneTaskTestProcess();
+        assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId()).isEqualTo(firstProcessDefinitionId);
+        assertThat(latestDefinitionCache.getDefinitionId("oneTaskProcess", null)).isEqualTo(firstProcessDefinitionId);
+
+        // A new version replaces the cached one once the deployment has committed
+        String secondProcessDefinitionId = deployOneTaskTestProcess();
+        assertThat(latestDefinitionCache.getDefinitionId("oneTaskProcess", null)).isEqualTo(secondProcessDefinitionId);
+        assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId()).isEqualTo(secondProcessDefinitionId);
+
+        // Deleting the latest version falls back to the previous one
+        String secondDeploymentId = repositoryService.getProcessDefinition(secondProcessDefinitionId).getDeploymentId();
+        repositoryService.deleteDeployment(secondDeploymentId, true);
+        deploymentIdsForAutoCleanup.remove(secondDeploymentId);
+        assertThat(latestDefinitionCache.getDefinitionId("oneTaskProcess", null)).isNull();
+        assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId()).isEqualTo(firstProcessDefinitionId);
+    }
+
+    @Test
+    public void testLatestVersionIsServedFromDeploymentCache() {
+        String processDefinitionId = deployOneTaskTestProcess();
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertThat(processEngineConfiguration.getLatestDefinitionCache().getDefinitionId("oneTaskProcess", null)).isEqualTo(processDefinitionId);
+
+        ProcessDefinitionEntity deploymentCacheEntity = (ProcessDefinitionEntity) processEngineConfiguration.getProcessDefinitionCache()
+                .get(processDefinitionId).getProcessDefinition();
+        ProcessDefinitionEntity firstLookup = managementService.executeCommand(commandContext -> CommandContextUtil
+                .getProcessDefinitionEntityManager(commandContext).findLatestProcessDefinitionByKey("oneTaskProcess"));
+        ProcessDefinitionEntity secondLookup = managementService.executeCommand(commandContext -> CommandContextUtil
+                .getProcessDefinitionEntityManager(commandContext).findLatestProcessDefinitionByKey("oneTaskProcess"));
+
+        assertThat(firstLookup.getId()).isEqualTo(processDefinitionId);
+        assertThat(firstLookup).isSameAs(deploymentCacheEntity);
+        assertThat(secondLookup).isSameAs(deploymentCacheEntity);
+
+        // When it is no longer in the deployment cache, the definition is loaded by its id
+        processEngineConfiguration.getProcessDefinitionCache().remove(processDefinitionId);
+        ProcessDefinitionEntity reloaded = managementService.executeCommand(commandContext -> CommandContextUtil
+                .getProcessDefinitionEntityManager(commandContext).findLatestProcessDefinitionByKey("oneTaskProcess"));
+        assertThat(reloaded.getId()).isEqualTo(processDefinitionId);
+        assertThat(reloaded).isNotSameAs(deploymentCacheEntity);
+    }
+
+    @Test
+    public void testDefinitionDeletedWithoutEvictionIsQueriedAgain() {
+        String firstProcessDefinitionId = deployOneTaskTestProcess();
+        String secondProcessDefinitionId = deployOneTaskTestProcess();
+        LatestDefinitionCache latestDefinitionCache = processEngineConfiguration.getLatestDefinitionCache();
+        assertThat(latestDefinitionCache.getDefinitionId("oneTaskProcess", null)).isEqualTo(secondProcessDefinitionId);
+
+        // The definition is gone and no longer in the deployment cache, but still cached as the latest version
+        String secondDeploymentId = repositoryService.getProcessDefinition(secondProcessDefinitionId).getDeploymentId();
+        repositoryService.deleteDeployment(secondDeploymentId, true);
+        deploymentIdsForAutoCleanup.remove(secondDeploymentId);
+        latestDefinitionCache.put("oneTaskProcess", null, secondProcessDefinitionId, 2);
+
+        assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId()).isEqualTo(firstProcessDefinitionId);
+        assertThat(latestDefinitionCache.getDefinitionId("oneTaskProcess", null)).isEqualTo(firstProcessDefinitionId);
+    }
+
+    @Test
+    public void testDefaultTimeToLive() {
+        assertThat(processEngineConfiguration.getLatestDefinitionCacheTimeToLive()).isEqualTo(60000L);
+        assertThat(processEngineConfiguration.getLatestDefinitionCache().getTimeToLive()).isEqualTo(60000L);
+    }
+
+    @Test
+    public void testTenantsAreCachedSeparately() {
+        deploymentIdsForAutoCleanup.add(repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .tenantId("tenantA")
+                .deploy()
+                .getId());
+        deploymentIdsForAutoCleanup.add(repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .tenantId("tenantB")
+                .deploy()
+                .getId());
+
+        String tenantAProcessDefinitionId = runtimeService.startProcessInstanceByKeyAndTenantId("oneTaskProcess", "tenantA").getProcessDefinitionId();
+        String tenantBProcessDefinitionId = runtimeService.startProcessInstanceByKeyAndTenantId("oneTaskProcess", "tenantB").getProcessDefinitionId();
+        assertThat(tenantAProcessDefinitionId).isNotEqualTo(tenantBProcessDefinitionId);
+
+        LatestDefinitionCache latestDefinitionCache = processEngineConfiguration.getLatestDefinitionCache();
+        assertThat(latestDefinitionCache.getDefinitionId("oneTaskProcess", "tenantA")).isEqualTo(tenantAProcessDefinitionId);
+        assertThat(latestDefinitionCache.getDefinitionId("oneTaskProcess", "tenantB")).isEqualTo(tenantBProcessDefinitionId);
+    }
+
+}
@@ -0,0 +1,117 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.cache.SecondLevelEntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SecondLevelEntityCachePolicy;
+import org.flowable.common.engine.impl.persistence.cache.SecondLevelEntityCacheStatistics;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.junit.jupiter.api.Test;
+
+public class SecondLevelEntityCacheTest extends CustomConfigurationFlowableTestCase {
+
+    public SecondLevelEntityCacheTest() {
+        super("secondLevelEntityCacheTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.addSecondLevelEntityCachePolicy(ProcessDefinitionEntityImpl.class,
+                new SecondLevelEntityCachePolicy().addCacheableQuery("selectLatestProcessDefinitionByKey"));
+    }
+
+    @Test
+    public void testProcessDefinitionLookupsAreCached() {
+        SecondLevelEntityCache secondLevelEntityCache = processEngineConfiguration.getSecondLevelEntityCache();
+        assertThat(secondLevelEntityCache).isNotNull();
+        SecondLevelEntityCacheStatistics statistics = secondLevelEntityCache.getRegion(ProcessDefinitionEntityImpl.class).getStatistics();
+
+        deployOneTaskTestProcess();
+        String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult().getId();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId()).isEqualTo(processDefinitionId);
+        }
+        assertThat(statistics.getHitCount()).isGreaterThanOrEqualTo(3);
+        long hitCount = statistics.getHitCount();
+
+        // A new version invalidates the cached latest version
+        deployOneTaskTestProcess();
+        ProcessDefinition newProcessDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").latestVersion().singleResult();
+        assertThat(newProcessDefinition.getId()).isNotEqualTo(processDefinitionId);
+        assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId()).isEqualTo(newProcessDefinition.getId());
+        assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId()).isEqualTo(newProcessDefinition.getId());
+        assertThat(statistics.getHitCount()).isGreaterThan(hitCount);
+
+        // An update of the cached entity invalidates it
+        repositoryService.suspendProcessDefinitionById(newProcessDefinition.getId());
+        assertThatThrownBy(() -> runtimeService.startProcessInstanceByKey("oneTaskProcess"))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("suspended");
+
+        repositoryService.activateProcessDefinitionById(newProcessDefinition.getId());
+        assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess").getProcessDefinitionId()).isEqualTo(newProcessDefinition.getId());
+        assertThat(statistics.getInvalidationCount()).isPositive();
+    }
+
+    @Test
+    public void testUpdateStatementOnlyInvalidatesItsEntityType() {
+        SecondLevelEntityCacheStatistics statistics = processEngineConfiguration.getSecondLevelEntityCache()
+                .getRegion(ProcessDefinitionEntityImpl.class).getStatistics();
+        Map<String, String> params = new HashMap<>();
+        params.put("deploymentId", "unknown");
+        params.put("tenantId", "tenant");
+
+        long invalidationCount = statistics.getInvalidationCount();
+        managementService.executeCommand(commandContext -> CommandContextUtil.getDbSqlSession(commandContext)
+                .update("updateExecutionTenantIdForDeployment", params, ExecutionEntityImpl.class));
+        assertThat(statistics.getInvalidationCount()).isEqualTo(invalidationCount);
+
+        // Without the entity type, every cached type is invalidated
+        managementService.executeCommand(commandContext -> CommandContextUtil.getDbSqlSession(commandContext)
+                .update("updateExecutionTenantIdForDeployment", params));
+        assertThat(statistics.getInvalidationCount()).isGreaterThan(invalidationCount);
+    }
+
+    @Test
+    public void testSelectByIdWithoutCacheReadsDatabase() {
+        SecondLevelEntityCacheStatistics statistics = processEngineConfiguration.getSecondLevelEntityCache()
+                .getRegion(ProcessDefinitionEntityImpl.class).getStatistics();
+        String processDefinitionId = deployOneTaskTestProcess();
+
+        // The first lookup stores the definition in the second level cache, the second one is served from it
+        managementService.executeCommand(commandContext -> CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId));
+        long hitCount = statistics.getHitCount();
+        managementService.executeCommand(commandContext -> CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId));
+        assertThat(statistics.getHitCount()).isGreaterThan(hitCount);
+
+        hitCount = statistics.getHitCount();
+        ProcessDefinitionEntityImpl processDefinition = managementService.executeCommand(commandContext -> CommandContextUtil.getDbSqlSession(commandContext)
+                .selectById(ProcessDefinitionEntityImpl.class, processDefinitionId, false));
+        assertThat(processDefinition.getId()).isEqualTo(processDefinitionId);
+        assertThat(statistics.getHitCount()).isEqualTo(hitCount);
+    }
+
+}
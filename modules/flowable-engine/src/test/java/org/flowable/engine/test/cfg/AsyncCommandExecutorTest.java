@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.AsyncCommandExecutor;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncCommandExecutorTest extends PluggableFlowableTestCase {
+
+    protected AsyncCommandExecutor asyncCommandExecutor;
+
+    @BeforeEach
+    protected void createAsyncCommandExecutor() {
+        asyncCommandExecutor = new AsyncCommandExecutor(processEngineConfiguration.getCommandExecutor(), 1, 1, "test-async-command-%d");
+    }
+
+    @AfterEach
+    protected void shutdownAsyncCommandExecutor() {
+        asyncCommandExecutor.shutdown();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testServiceCallsAndQueryStreaming() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            ProcessInstance processInstance = asyncCommandExecutor.supply(() -> runtimeService.startProcessInstanceByKey("oneTaskProcess"))
+                    .get(10, TimeUnit.SECONDS);
+            assertThat(processInstance.getId()).isNotNull();
+        }
+
+        Long processInstanceCount = asyncCommandExecutor.execute(commandContext -> runtimeService.createProcessInstanceQuery().count())
+                .get(10, TimeUnit.SECONDS);
+        assertThat(processInstanceCount).isEqualTo(5);
+
+        // the results are paged on their id, so the ordering of the query is replaced
+        List<String> taskIds = new ArrayList<>();
+        long taskCount = asyncCommandExecutor.forEach(taskService.createTaskQuery().orderByTaskCreateTime().desc(), 2, (Task task) -> taskIds.add(task.getId()))
+                .get(10, TimeUnit.SECONDS);
+        assertThat(taskCount).isEqualTo(5);
+        assertThat(taskIds).hasSize(5).doesNotHaveDuplicates().isSorted();
+
+        List<String> processInstanceIds = new ArrayList<>();
+        processInstanceCount = asyncCommandExecutor.forEach(runtimeService.createProcessInstanceQuery().processDefinitionKey("oneTaskProcess"), 2,
+                (ProcessInstance processInstance) -> processInstanceIds.add(processInstance.getId()))
+                .get(10, TimeUnit.SECONDS);
+        assertThat(processInstanceCount).isEqualTo(5);
+        assertThat(processInstanceIds).hasSize(5).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    public void testQueryWithoutKeysetPagingCannotBeStreamed() {
+        assertThatThrownBy(() -> asyncCommandExecutor.forEach(managementService.createJobQuery(), 2, job -> {
+        }))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    @Test
+    public void testQueueFull() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        CompletableFuture<Void> running = asyncCommandExecutor.supply(() -> {
+            try {
+                latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        CompletableFuture<Void> queued = asyncCommandExecutor.supply(() -> null);
+        CompletableFuture<Void> rejected = asyncCommandExecutor.supply(() -> null);
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(FlowableException.class);
+
+        latch.countDown();
+        running.get(10, TimeUnit.SECONDS);
+        queued.get(10, TimeUnit.SECONDS);
+    }
+
+}
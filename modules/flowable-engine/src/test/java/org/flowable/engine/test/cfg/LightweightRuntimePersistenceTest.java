@@ -0,0 +1,123 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.impl.persistence.CountingExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LightweightRuntimePersistenceTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    protected void enableLightweightRuntimePersistence() {
+        processEngineConfiguration.getPerformanceSettings().setEnableLightweightRuntimePersistence(true);
+    }
+
+    @AfterEach
+    protected void resetLightweightRuntimePersistence() {
+        processEngineConfiguration.getPerformanceSettings().setEnableLightweightRuntimePersistence(false);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/history/oneTaskHistoryLevelNoneProcess.bpmn20.xml")
+    public void testHistoryLevelNoneProcess() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        List<Execution> executions = runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(executions).hasSize(2);
+        for (Execution execution : executions) {
+            assertThat(((CountingExecutionEntity) execution).isCountEnabled()).isFalse();
+        }
+
+        assertThatThrownBy(() -> runtimeService.createActivityInstanceQuery().processDefinitionId(processInstance.getProcessDefinitionId()).list())
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("lightweight runtime persistence");
+
+        // the process definition is resolved from the process instance or execution of the query
+        assertThatThrownBy(() -> runtimeService.createActivityInstanceQuery().processInstanceId(processInstance.getId()).count())
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("lightweight runtime persistence");
+        assertThatThrownBy(() -> runtimeService.createActivityInstanceQuery().executionId(executions.get(1).getId()).list())
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("lightweight runtime persistence");
+
+        // queries that can't be mapped to a process definition are only checked against the engine history level,
+        // they don't return activity instances for these process instances
+        assertThat(runtimeService.createActivityInstanceQuery().activityId("theTask").count()).isZero();
+        assertThat(runtimeService.createNativeActivityInstanceQuery()
+                .sql("SELECT count(*) FROM " + managementService.getTableName(ActivityInstanceEntity.class) + " WHERE PROC_INST_ID_ = #{processInstanceId}")
+                .parameter("processInstanceId", processInstance.getId())
+                .count()).isZero();
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.setAssignee(task.getId(), "kermit");
+        runtimeService.setVariable(processInstance.getId(), "var", "test");
+        taskService.complete(task.getId());
+
+        assertProcessEnded(processInstance.getId());
+        assertThat(runtimeService.createVariableInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/cfg/LightweightRuntimePersistenceTest.historyLevelInstance.bpmn20.xml")
+    public void testHistoryLevelInstanceProcess() {
+        // only history level none uses the lightweight mode, the runtime activity instances are still stored with history level instance
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        List<Execution> executions = runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(executions).hasSize(2);
+        for (Execution execution : executions) {
+            assertThat(((CountingExecutionEntity) execution).isCountEnabled()).isTrue();
+        }
+
+        assertThat(runtimeService.createActivityInstanceQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(3);
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/history/oneTaskHistoryLevelActivityProcess.bpmn20.xml")
+    public void testHistoryLevelActivityProcess() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        List<Execution> executions = runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(executions).hasSize(2);
+        for (Execution execution : executions) {
+            assertThat(((CountingExecutionEntity) execution).isCountEnabled()).isTrue();
+        }
+
+        assertThat(runtimeService.createActivityInstanceQuery().processDefinitionId(processInstance.getProcessDefinitionId()).count()).isEqualTo(3);
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        assertProcessEnded(processInstance.getId());
+    }
+
+}
@@ -250,6 +250,26 @@ public class VerifyDatabaseOperationsTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testStraightThroughProcess() {
+        if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
+            deployStartProcessInstanceAndProfile("process-straight-through.bpmn20.xml", "processStraightThrough");
+
+            assertDatabaseSelects("StartProcessInstanceCmd",
+                    "selectLatestProcessDefinitionByKey", 1L,
+                    "selectEntityLinksByScopeIdAndType", 1L);
+
+            // No activity history for straight-through processes
+            assertDatabaseInserts("StartProcessInstanceCmd",
+                    "HistoricProcessInstanceEntityImpl", 1L);
+            assertNoUpdatesAndDeletes("StartProcessInstanceCmd");
+
+            Assert.assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+            Assert.assertEquals(1, historyService.createHistoricProcessInstanceQuery().finished().count());
+            Assert.assertEquals(0, historyService.createHistoricActivityInstanceQuery().count());
+        }
+    }
+
     @Test
     public void testExclusiveGateway() {
         if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Date;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.util.DefaultClockImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.db.HistoryTablePartitionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HistoryTablePartitionManagerTest {
+
+    protected DefaultClockImpl clock;
+    protected HistoryTablePartitionManager historyTablePartitionManager;
+
+    @BeforeEach
+    void setUp() {
+        clock = new DefaultClockImpl();
+        clock.setCurrentTime(toDate(LocalDateTime.of(2024, 5, 15, 10, 0)));
+
+        StandaloneInMemProcessEngineConfiguration processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setClock(clock);
+        historyTablePartitionManager = new HistoryTablePartitionManager(processEngineConfiguration);
+    }
+
+    @Test
+    void monthIsParsedFromPartitionName() {
+        assertThat(historyTablePartitionManager.getPartitionMonth(AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES, "act_hi_actinst_p202403", null))
+                .isEqualTo(YearMonth.of(2024, 3));
+        assertThat(historyTablePartitionManager.getPartitionMonth(AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES, "ACT_HI_PROCINST_P202412", null))
+                .isEqualTo(YearMonth.of(2024, 12));
+        assertThat(historyTablePartitionManager.getPartitionMonth(AbstractEngineConfiguration.DATABASE_TYPE_MYSQL, "P202401", null))
+                .isEqualTo(YearMonth.of(2024, 1));
+
+        // the default and catch-all partitions don't hold a single month
+        assertThat(historyTablePartitionManager.getPartitionMonth(AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES, "act_hi_actinst_default", null)).isNull();
+        assertThat(historyTablePartitionManager.getPartitionMonth(AbstractEngineConfiguration.DATABASE_TYPE_MYSQL, "P_MAX", null)).isNull();
+        assertThat(historyTablePartitionManager.getPartitionMonth(AbstractEngineConfiguration.DATABASE_TYPE_MYSQL, "P202401_OLD", null)).isNull();
+    }
+
+    @Test
+    void monthIsParsedFromOracleHighValue() {
+        // the high value is the exclusive upper bound, so the partition holds the month before it
+        assertThat(historyTablePartitionManager.getPartitionMonth(AbstractEngineConfiguration.DATABASE_TYPE_ORACLE, "SYS_P1234",
+                "TIMESTAMP' 2024-04-01 00:00:00'")).isEqualTo(YearMonth.of(2024, 3));
+        assertThat(historyTablePartitionManager.getPartitionMonth(AbstractEngineConfiguration.DATABASE_TYPE_ORACLE, "SYS_P1235",
+                "TIMESTAMP' 2025-01-01 00:00:00'")).isEqualTo(YearMonth.of(2024, 12));
+
+        // the initial partition holds everything before the first interval
+        assertThat(historyTablePartitionManager.getPartitionMonth(AbstractEngineConfiguration.DATABASE_TYPE_ORACLE, "P_START",
+                "TIMESTAMP' 2020-01-01 00:00:00'")).isNull();
+        assertThat(historyTablePartitionManager.getPartitionMonth(AbstractEngineConfiguration.DATABASE_TYPE_ORACLE, "SYS_P1236", "MAXVALUE")).isNull();
+    }
+
+    @Test
+    void firstRetainedMonthIsMonthOfOldestProcessInstance() {
+        assertThat(historyTablePartitionManager.getFirstRetainedMonth(toDate(LocalDateTime.of(2024, 2, 29, 23, 59)))).isEqualTo(YearMonth.of(2024, 2));
+        assertThat(historyTablePartitionManager.getFirstRetainedMonth(toDate(LocalDateTime.of(2023, 11, 1, 0, 0)))).isEqualTo(YearMonth.of(2023, 11));
+    }
+
+    @Test
+    void firstRetainedMonthIsNeverAfterCurrentMonth() {
+        assertThat(historyTablePartitionManager.getFirstRetainedMonth(null)).isEqualTo(YearMonth.of(2024, 5));
+        assertThat(historyTablePartitionManager.getFirstRetainedMonth(toDate(LocalDateTime.of(2024, 5, 1, 0, 0)))).isEqualTo(YearMonth.of(2024, 5));
+
+        // a start time after the current time (e.g. a clock set back in a test) keeps the current month
+        assertThat(historyTablePartitionManager.getFirstRetainedMonth(toDate(LocalDateTime.of(2024, 8, 1, 0, 0)))).isEqualTo(YearMonth.of(2024, 5));
+    }
+
+    protected Date toDate(LocalDateTime localDateTime) {
+        return Date.from(localDateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+}
@@ -15,17 +15,24 @@ package org.flowable.engine.test.el;
 
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.CompiledExpression;
 import org.flowable.common.engine.impl.identity.Authentication;
+import org.flowable.engine.impl.delegate.invocation.ExpressionGetInvocation;
+import org.flowable.engine.impl.el.ProcessExpressionManager;
+import org.flowable.engine.impl.interceptor.DelegateInterceptor;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.variable.service.impl.el.NoExecutionVariableScope;
 import org.hamcrest.core.Is;
+import org.hamcrest.core.IsInstanceOf;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -129,4 +136,24 @@ public class ExpressionManagerTest extends PluggableFlowableTestCase {
             Authentication.setAuthenticatedUserId(null);
         }
     }
+
+    @Test
+    public void testCustomDelegateInterceptorSeesSimpleExpressions() {
+        List<String> interceptedExpressions = new ArrayList<>();
+        DelegateInterceptor delegateInterceptor = invocation -> {
+            if (invocation instanceof ExpressionGetInvocation) {
+                interceptedExpressions.add(invocation.getTarget().toString());
+            }
+            invocation.proceed();
+        };
+
+        ProcessExpressionManager expressionManager = new ProcessExpressionManager(delegateInterceptor, null);
+        Expression expression = expressionManager.createExpression("${1 == 1}");
+        assertThat(expression, IsInstanceOf.instanceOf(org.flowable.engine.impl.el.JuelExpression.class));
+        assertThat(expression.getValue(new NoExecutionVariableScope()), Is.<Object>is(true));
+        assertEquals(1, interceptedExpressions.size());
+
+        // With the default interceptor the same expression is compiled
+        assertThat(new ProcessExpressionManager().createExpression("${1 == 1}"), IsInstanceOf.instanceOf(CompiledExpression.class));
+    }
 }
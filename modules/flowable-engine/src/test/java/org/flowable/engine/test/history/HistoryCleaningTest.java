@@ -0,0 +1,220 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.history.HistoryCleaningManager;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.db.HistoryTablePartitionManager;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class HistoryCleaningTest extends CustomConfigurationFlowableTestCase {
+
+    public HistoryCleaningTest() {
+        super("historyCleaningTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setEnableHistoryCleaning(true);
+        processEngineConfiguration.setCleanInstancesEndedAfterNumberOfDays(30);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.setHistoryTimeToLiveByDefinitionKey(Collections.emptyMap());
+        processEngineConfiguration.setHistoryTablePartitionManager(null);
+        processEngineConfiguration.getClock().reset();
+
+        // the repeating cleanup timer is created when the engine is built
+        for (Job timerJob : managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).list()) {
+            managementService.deleteTimerJob(timerJob.getId());
+        }
+    }
+
+    @Test
+    public void testCleanupTimerJobIsCreated() {
+        assertThat(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testExpiredHistoryIsDeleted() {
+        deployOneTaskTestProcess();
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        String processInstanceId = completeOneTaskProcess();
+        String otherProcessInstanceId = completeOneTaskProcess();
+        assertThat(historyService.createHistoricProcessInstanceQuery().finished().count()).isEqualTo(2);
+
+        HistoryCleaningManager historyCleaningManager = processEngineConfiguration.getHistoryCleaningManager();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plus(29, ChronoUnit.DAYS)));
+        assertThat(historyCleaningManager.deleteExpiredHistory(10)).isZero();
+        assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(2);
+
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plus(31, ChronoUnit.DAYS)));
+        assertThat(historyCleaningManager.deleteExpiredHistory(1)).isEqualTo(1);
+        assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(1);
+        assertThat(historyCleaningManager.deleteExpiredHistory(10)).isEqualTo(1);
+        assertThat(historyCleaningManager.deleteExpiredHistory(10)).isZero();
+
+        for (String id : new String[] { processInstanceId, otherProcessInstanceId }) {
+            assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(id).count()).isZero();
+            assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(id).count()).isZero();
+            assertThat(historyService.createHistoricTaskInstanceQuery().processInstanceId(id).count()).isZero();
+            assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(id).count()).isZero();
+            assertThat(historyService.createHistoricDetailQuery().processInstanceId(id).count()).isZero();
+            assertThat(historyService.getHistoricIdentityLinksForProcessInstance(id)).isEmpty();
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/variables/SearchableVariableTest.bpmn20.xml")
+    public void testVariableProjectionsAreDeleted() {
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("customerId", "customer1");
+        variables.put("amount", 100L);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("searchableVariables", variables);
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+        assertThat(countVariableProjections(processInstance.getId())).isEqualTo(2);
+
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plus(31, ChronoUnit.DAYS)));
+        assertThat(processEngineConfiguration.getHistoryCleaningManager().deleteExpiredHistory(10)).isEqualTo(1);
+
+        assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        assertThat(countVariableProjections(processInstance.getId())).isZero();
+    }
+
+    @Test
+    public void testTimeToLivePerDefinitionKey() {
+        deployOneTaskTestProcess();
+        processEngineConfiguration.setHistoryTimeToLiveByDefinitionKey(Collections.singletonMap("oneTaskProcess", 60));
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        completeOneTaskProcess();
+
+        HistoryCleaningManager historyCleaningManager = processEngineConfiguration.getHistoryCleaningManager();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plus(31, ChronoUnit.DAYS)));
+        assertThat(historyCleaningManager.deleteExpiredHistory(10)).isZero();
+        assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(1);
+
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plus(61, ChronoUnit.DAYS)));
+        assertThat(historyCleaningManager.deleteExpiredHistory(10)).isEqualTo(1);
+        assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+    }
+
+    @Test
+    public void testPartitionsAreMaintainedAfterLastBatch() {
+        deployOneTaskTestProcess();
+        RecordingHistoryTablePartitionManager historyTablePartitionManager = new RecordingHistoryTablePartitionManager(processEngineConfiguration);
+        processEngineConfiguration.setHistoryTablePartitionManager(historyTablePartitionManager);
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        String processInstanceId = completeOneTaskProcess();
+        String otherProcessInstanceId = completeOneTaskProcess();
+
+        HistoryCleaningManager historyCleaningManager = processEngineConfiguration.getHistoryCleaningManager();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plus(31, ChronoUnit.DAYS)));
+        assertThat(historyCleaningManager.deleteExpiredHistory(1)).isEqualTo(1);
+        assertThat(historyTablePartitionManager.createPartitionsCount).isZero();
+        assertThat(historyTablePartitionManager.dropObsoletePartitionsCount).isZero();
+
+        assertThat(historyCleaningManager.deleteExpiredHistory(1)).isEqualTo(1);
+        assertThat(historyCleaningManager.deleteExpiredHistory(1)).isZero();
+        assertThat(historyTablePartitionManager.createPartitionsCount).isEqualTo(1);
+        assertThat(historyTablePartitionManager.dropObsoletePartitionsCount).isEqualTo(1);
+
+        // the rows of the partitioned tables are deleted as well, dropping the partitions only gives back their storage
+        for (String id : new String[] { processInstanceId, otherProcessInstanceId }) {
+            assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(id).count()).isZero();
+            assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(id).count()).isZero();
+            assertThat(historyService.createHistoricDetailQuery().processInstanceId(id).count()).isZero();
+        }
+    }
+
+    @Test
+    public void testRunningProcessInstanceIsNotDeleted() {
+        deployOneTaskTestProcess();
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plus(31, ChronoUnit.DAYS)));
+        assertThat(processEngineConfiguration.getHistoryCleaningManager().deleteExpiredHistory(10)).isZero();
+        assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), null);
+    }
+
+    protected String completeOneTaskProcess() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.singletonMap("var", "value"));
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.setAssignee(task.getId(), "kermit");
+        taskService.complete(task.getId());
+        return processInstance.getId();
+    }
+
+    protected int countVariableProjections(String processInstanceId) {
+        return managementService.executeCommand(commandContext -> CommandContextUtil.getVariableProjectionEntityManager(commandContext)
+                .findVariableProjectionsByProcessInstanceId(processInstanceId).size());
+    }
+
+    /**
+     * The test database doesn't support partitioned tables, so this only records when the partitions would be maintained.
+     */
+    protected static class RecordingHistoryTablePartitionManager extends HistoryTablePartitionManager {
+
+        protected int createPartitionsCount;
+        protected int dropObsoletePartitionsCount;
+
+        public RecordingHistoryTablePartitionManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+            super(processEngineConfiguration);
+        }
+
+        @Override
+        public void createPartitions(CommandContext commandContext) {
+            createPartitionsCount++;
+        }
+
+        @Override
+        public int dropObsoletePartitions(CommandContext commandContext) {
+            dropObsoletePartitionsCount++;
+            return 0;
+        }
+    }
+
+}
@@ -23,8 +23,11 @@ import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
 import org.flowable.engine.impl.test.JobTestHelper;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.asyncexecutor.AcquireAndExecuteAsyncJobsRunnable;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.persistence.entity.JobEntityImpl;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -212,13 +215,133 @@ public class AsyncExecutorTest {
         }
     }
 
+    @Test
+    public void testExclusiveJobsLockedInJobTransactionWithAffinity() {
+
+        ProcessEngine processEngine = null;
+
+        try {
+
+            // Deploy
+            processEngine = createProcessEngine(true, null, true);
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testExclusiveJobsLockedInJobTransactionWithAffinity.bpmn20.xml");
+
+            // Start process instances. The three exclusive jobs of each instance are executed one after the other
+            ProcessInstance processInstance1 = processEngine.getRuntimeService().startProcessInstanceByKey("exclusiveParallel");
+            ProcessInstance processInstance2 = processEngine.getRuntimeService().startProcessInstanceByKey("exclusiveParallel");
+            waitForAllJobsBeingExecuted(processEngine);
+
+            // Verify if all is as expected
+            Assert.assertEquals(0, processEngine.getManagementService().createJobQuery().count());
+            Assert.assertEquals(0, processEngine.getManagementService().createDeadLetterJobQuery().count());
+            Assert.assertEquals(1, processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance1.getId()).taskName("Task after join").count());
+            Assert.assertEquals(1, processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance2.getId()).taskName("Task after join").count());
+            Assert.assertEquals(3, processEngine.getRuntimeService().getVariables(processInstance1.getId()).size());
+            Assert.assertEquals(3, processEngine.getRuntimeService().getVariables(processInstance2.getId()).size());
+
+            Assert.assertEquals(6, getAsyncExecutorJobCount(processEngine));
+
+        } finally {
+
+            // Clean up
+            cleanup(processEngine);
+
+        }
+
+    }
+
+    @Test
+    public void testFusedJobAcquisition() {
+
+        ProcessEngine firstProcessEngine = null;
+        ProcessEngine secondProcessEngine = null;
+
+        try {
+
+            // Create the async jobs on an engine where the async executor is disabled
+            firstProcessEngine = createProcessEngine(false);
+            Date now = setClockToCurrentTime(firstProcessEngine);
+            deploy(firstProcessEngine, "AsyncExecutorTest.testAsyncScriptExecution.bpmn20.xml");
+            for (int i = 0; i < 5; i++) {
+                firstProcessEngine.getRuntimeService().startProcessInstanceByKey("asyncScript");
+            }
+            Assert.assertEquals(5, firstProcessEngine.getManagementService().createJobQuery().count());
+
+            // The worker threads of the second engine acquire and execute the jobs without the acquisition thread
+            secondProcessEngine = createProcessEngine(true, now, false, true);
+            waitForAllJobsBeingExecuted(secondProcessEngine);
+
+            Assert.assertEquals(0, firstProcessEngine.getManagementService().createJobQuery().count());
+            Assert.assertEquals(0, firstProcessEngine.getManagementService().createDeadLetterJobQuery().count());
+            Assert.assertEquals(5, firstProcessEngine.getTaskService().createTaskQuery().taskName("Task after script").count());
+
+            // Nothing was handed off to the thread pool
+            Assert.assertEquals(0, getAsyncExecutorJobCount(secondProcessEngine));
+
+        } finally {
+
+            // Clean up
+            cleanup(firstProcessEngine);
+            cleanup(secondProcessEngine);
+        }
+    }
+
+    @Test
+    public void testFusedJobAcquisitionPartitionsJobsBetweenWorkers() {
+        int workerCount = 3;
+        PartitionAwareRunnable[] runnables = new PartitionAwareRunnable[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            runnables[i] = new PartitionAwareRunnable(i, workerCount);
+        }
+
+        int[] jobsPerWorker = new int[workerCount];
+        for (int i = 0; i < 300; i++) {
+            JobEntityImpl job = new JobEntityImpl();
+            job.setId(String.valueOf(10000 + i));
+
+            int matchingWorkers = 0;
+            for (int worker = 0; worker < workerCount; worker++) {
+                if (runnables[worker].isInPartition(job)) {
+                    matchingWorkers++;
+                    jobsPerWorker[worker]++;
+                }
+            }
+            Assert.assertEquals(1, matchingWorkers);
+        }
+
+        for (int worker = 0; worker < workerCount; worker++) {
+            Assert.assertTrue(jobsPerWorker[worker] > 0);
+        }
+    }
+
     // Helpers ////////////////////////////////////////////////////////
 
+    static class PartitionAwareRunnable extends AcquireAndExecuteAsyncJobsRunnable {
+
+        PartitionAwareRunnable(int workerIndex, int workerCount) {
+            super("partition-" + workerIndex, workerIndex, workerCount, null, null, null);
+        }
+
+        @Override
+        protected boolean isInPartition(JobInfoEntity job) {
+            return super.isInPartition(job);
+        }
+    }
+
     private ProcessEngine createProcessEngine(boolean enableAsyncExecutor) {
         return createProcessEngine(enableAsyncExecutor, null);
     }
 
     private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time) {
+        return createProcessEngine(enableAsyncExecutor, time, false);
+    }
+
+    private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time, boolean exclusiveJobOptimizations) {
+        return createProcessEngine(enableAsyncExecutor, time, exclusiveJobOptimizations, false);
+    }
+
+    private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time, boolean exclusiveJobOptimizations, boolean fusedJobAcquisition) {
         ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
         processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:activiti-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
         processEngineConfiguration.setDatabaseSchemaUpdate("true");
@@ -229,6 +352,9 @@ public class AsyncExecutorTest {
             CountingAsyncExecutor countingAsyncExecutor = new CountingAsyncExecutor();
             countingAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(50); // To avoid waiting too long when a retry happens
             countingAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(50);
+            countingAsyncExecutor.setLockExclusiveJobsInJobTransaction(exclusiveJobOptimizations);
+            countingAsyncExecutor.setExclusiveJobAffinityEnabled(exclusiveJobOptimizations);
+            countingAsyncExecutor.setFusedJobAcquisitionEnabled(fusedJobAcquisition);
             processEngineConfiguration.setAsyncExecutor(countingAsyncExecutor);
         }
 
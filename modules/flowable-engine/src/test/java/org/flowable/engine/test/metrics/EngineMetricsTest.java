@@ -0,0 +1,143 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class EngineMetricsTest extends CustomConfigurationFlowableTestCase {
+
+    protected static final RecordingEngineMetrics ENGINE_METRICS = new RecordingEngineMetrics();
+
+    public EngineMetricsTest() {
+        super("engineMetricsTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setEngineMetrics(ENGINE_METRICS);
+    }
+
+    @Test
+    public void testMetricsAreRecorded() {
+        deployOneTaskTestProcess();
+        ENGINE_METRICS.reset();
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        Task task = taskService.createTaskQuery().singleResult();
+        taskService.complete(task.getId());
+
+        assertThat(ENGINE_METRICS.commands).containsKeys("StartProcessInstanceCmd", "CompleteTaskCmd");
+        assertThat(ENGINE_METRICS.commands.get("StartProcessInstanceCmd").get()).isEqualTo(1);
+        assertThat(ENGINE_METRICS.failedCommands.get()).isZero();
+        assertThat(ENGINE_METRICS.agendaOperations).containsKeys("ContinueProcessOperation", "TakeOutgoingSequenceFlowsOperation");
+        assertThat(ENGINE_METRICS.insertedEntities.get()).isPositive();
+        assertThat(ENGINE_METRICS.flushedStatements.get()).isPositive();
+        assertThat(ENGINE_METRICS.entityCacheLookups.get()).isPositive();
+        assertThat(ENGINE_METRICS.optimisticLockingFailures.get()).isZero();
+    }
+
+    @Test
+    public void testFailedCommandIsRecorded() {
+        ENGINE_METRICS.reset();
+
+        try {
+            taskService.complete("unexisting");
+        } catch (RuntimeException e) {
+            // expected
+        }
+
+        assertThat(ENGINE_METRICS.commands).containsKey("CompleteTaskCmd");
+        assertThat(ENGINE_METRICS.failedCommands.get()).isEqualTo(1);
+    }
+
+    protected static class RecordingEngineMetrics implements EngineMetrics {
+
+        protected final Map<String, AtomicInteger> commands = new ConcurrentHashMap<>();
+        protected final Map<String, AtomicInteger> agendaOperations = new ConcurrentHashMap<>();
+        protected final AtomicInteger failedCommands = new AtomicInteger();
+        protected final AtomicInteger insertedEntities = new AtomicInteger();
+        protected final AtomicInteger flushedStatements = new AtomicInteger();
+        protected final AtomicInteger entityCacheLookups = new AtomicInteger();
+        protected final AtomicInteger optimisticLockingFailures = new AtomicInteger();
+
+        public void reset() {
+            commands.clear();
+            agendaOperations.clear();
+            failedCommands.set(0);
+            insertedEntities.set(0);
+            flushedStatements.set(0);
+            entityCacheLookups.set(0);
+            optimisticLockingFailures.set(0);
+        }
+
+        @Override
+        public void recordCommandExecution(Class<?> commandClass, long durationInNanos, boolean failed) {
+            commands.computeIfAbsent(commandClass.getSimpleName(), key -> new AtomicInteger()).incrementAndGet();
+            if (failed) {
+                failedCommands.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void recordAgendaOperation(String operationType) {
+            agendaOperations.computeIfAbsent(operationType, key -> new AtomicInteger()).incrementAndGet();
+        }
+
+        @Override
+        public void recordFlush(int insertedEntities, int updatedEntities, int deletedEntities, int statements, long durationInNanos) {
+            this.insertedEntities.addAndGet(insertedEntities);
+            this.flushedStatements.addAndGet(statements);
+        }
+
+        @Override
+        public void recordEntityCacheLookup(Class<?> entityClass, boolean hit) {
+            entityCacheLookups.incrementAndGet();
+        }
+
+        @Override
+        public void recordOptimisticLockingFailure(Class<?> entityClass) {
+            optimisticLockingFailures.incrementAndGet();
+        }
+
+        @Override
+        public void recordJobAcquisition(String acquisitionName, int acquiredJobs) {
+        }
+
+        @Override
+        public void recordJobExecution(String jobHandlerType, long durationInNanos, boolean failed) {
+        }
+
+        @Override
+        public void recordAsyncHistoryLag(long lagInMillis) {
+        }
+
+        @Override
+        public void recordHistoryCleanup(String scopeType, int deletedInstances, long durationInNanos) {
+        }
+
+        @Override
+        public void registerJobQueueSize(String executorName, Supplier<Number> queueSizeSupplier) {
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.flowable.common.engine.impl.tracing.CommandTrace;
+import org.flowable.common.engine.impl.tracing.CommandTraceEntryType;
+import org.flowable.common.engine.impl.tracing.CommandTraceSink;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.StartProcessInstanceCmd;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.junit.jupiter.api.Test;
+
+public class CommandTracingTest extends CustomConfigurationFlowableTestCase {
+
+    protected static final RecordingCommandTraceSink TRACE_SINK = new RecordingCommandTraceSink();
+
+    public CommandTracingTest() {
+        super("commandTracingTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setEnableCommandTracing(true);
+        processEngineConfiguration.setCommandTracingThreshold(0L);
+        processEngineConfiguration.setCommandTraceSink(TRACE_SINK);
+    }
+
+    @Test
+    public void testSlowCommandIsTraced() {
+        deployOneTaskTestProcess();
+        TRACE_SINK.traces.clear();
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        RecordedTrace trace = TRACE_SINK.traces.stream()
+                .filter(recordedTrace -> StartProcessInstanceCmd.class.getName().equals(recordedTrace.commandName))
+                .findFirst()
+                .orElse(null);
+
+        assertThat(trace).isNotNull();
+        assertThat(trace.duration).isPositive();
+        assertThat(trace.entryTypes).contains(CommandTraceEntryType.OPERATION, CommandTraceEntryType.SQL);
+        assertThat(trace.entryNames).contains("ContinueProcessOperation");
+    }
+
+    protected static class RecordedTrace {
+
+        protected String commandName;
+        protected long duration;
+        protected List<CommandTraceEntryType> entryTypes = new CopyOnWriteArrayList<>();
+        protected List<String> entryNames = new CopyOnWriteArrayList<>();
+    }
+
+    protected static class RecordingCommandTraceSink implements CommandTraceSink {
+
+        protected final List<RecordedTrace> traces = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void slowCommand(CommandTrace commandTrace) {
+            // The trace buffer is reused for the next command, so the entries need to be copied
+            RecordedTrace recordedTrace = new RecordedTrace();
+            recordedTrace.commandName = commandTrace.getCommandName();
+            recordedTrace.duration = commandTrace.getDuration();
+            for (int i = 0; i < commandTrace.size(); i++) {
+                recordedTrace.entryTypes.add(commandTrace.getEntryType(i));
+                recordedTrace.entryNames.add(commandTrace.getEntryName(i));
+            }
+            traces.add(recordedTrace);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.impl.history.index.HistoryIndex;
+import org.flowable.engine.impl.history.index.IndexedVariable;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class HistoryIndexTest extends CustomConfigurationFlowableTestCase {
+
+    public HistoryIndexTest() {
+        super("historyIndexTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setEnableHistoryIndex(true);
+        processEngineConfiguration.setAsyncFailedJobWaitTime(100);
+        processEngineConfiguration.setDefaultFailedJobWaitTime(100);
+        processEngineConfiguration.setAsyncHistoryExecutorNumberOfRetries(10);
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+    }
+
+    @AfterEach
+    protected void tearDown() throws Exception {
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            repositoryService.deleteDeployment(autoDeletedDeploymentId, true);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000, 100);
+        for (Job job : managementService.createJobQuery().list()) {
+            if (job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY)
+                    || job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED)) {
+                managementService.deleteJob(job.getId());
+            }
+        }
+    }
+
+    @Test
+    public void testVariableQueriesUseIndex() {
+        deployOneTaskTestProcess();
+
+        String acmeId = startProcessInstance("order-1", "Acme Corp", 100);
+        String initechId = startProcessInstance("order-2", "Initech", 250);
+        String globexId = startProcessInstance("order-3", "Globex", 400);
+
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        HistoryIndex historyIndex = (HistoryIndex) processEngineConfiguration.getHistoryQueryBackend();
+        waitUntilReady(historyIndex);
+
+        assertThat(historyService.createHistoricProcessInstanceQuery().variableValueEquals("customer", "Acme Corp").singleResult().getId())
+                .isEqualTo(acmeId);
+        assertThat(historyService.createHistoricProcessInstanceQuery().variableValueEqualsIgnoreCase("customer", "initech").singleResult().getId())
+                .isEqualTo(initechId);
+        assertThat(historyService.createHistoricProcessInstanceQuery().variableValueLike("customer", "Glo%").singleResult().getId())
+                .isEqualTo(globexId);
+        assertThat(historyService.createHistoricProcessInstanceQuery().variableValueGreaterThan("amount", 200).count()).isEqualTo(2);
+        assertThat(historyService.createHistoricProcessInstanceQuery()
+                .variableValueGreaterThan("amount", 200)
+                .variableValueNotEquals("customer", "Globex")
+                .singleResult().getId()).isEqualTo(initechId);
+        assertThat(historyService.createHistoricProcessInstanceQuery()
+                .variableValueGreaterThan("amount", 200)
+                .processInstanceId(acmeId)
+                .count()).isZero();
+        assertThat(historyService.createHistoricTaskInstanceQuery().processVariableValueLessThan("amount", 200).singleResult().getProcessInstanceId())
+                .isEqualTo(acmeId);
+
+        // infix patterns are not answered by the index, but by the history tables
+        assertThat(historyService.createHistoricProcessInstanceQuery().variableValueLike("customer", "%e%").count()).isEqualTo(3);
+
+        assertThat(historyIndex.searchProcessInstanceIds("acme")).containsExactly(acmeId);
+        assertThat(historyIndex.searchProcessInstanceIds("ORDER 2")).containsExactly(initechId);
+        assertThat(historyIndex.getProcessInstanceFacetCounts(HistoryIndex.FACET_PROCESS_DEFINITION_KEY)).containsEntry("oneTaskProcess", 3L);
+        assertThat(historyIndex.getProcessInstanceFacetCounts(HistoryIndex.FACET_STATE)).containsEntry(HistoryIndex.STATE_ACTIVE, 3L);
+
+        runtimeService.setVariable(acmeId, "customer", "Umbrella");
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        assertThat(historyService.createHistoricProcessInstanceQuery().variableValueEquals("customer", "Acme Corp").count()).isZero();
+        assertThat(historyService.createHistoricProcessInstanceQuery().variableValueEquals("customer", "Umbrella").singleResult().getId())
+                .isEqualTo(acmeId);
+        assertThat(historyIndex.searchProcessInstanceIds("acme")).isEmpty();
+
+        historyIndex.rebuild(processEngineConfiguration.getCommandExecutor());
+        assertThat(historyIndex.getProcessInstanceFacetCounts(HistoryIndex.FACET_PROCESS_DEFINITION_KEY)).containsEntry("oneTaskProcess", 3L);
+        assertThat(historyIndex.searchProcessInstanceIds("umbrella")).containsExactly(acmeId);
+    }
+
+    @Test
+    public void testVariableConditionsAreStillEvaluatedOnHistoryTables() {
+        deployOneTaskTestProcess();
+
+        String acmeId = startProcessInstance("order-1", "Acme Corp", 100);
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        HistoryIndex historyIndex = (HistoryIndex) processEngineConfiguration.getHistoryQueryBackend();
+        waitUntilReady(historyIndex);
+
+        // A variable value the history tables don't have, e.g. an update this engine has seen before the database does
+        IndexedVariable staleVariable = new IndexedVariable("staleVariable", acmeId, null, "customer");
+        staleVariable.setTypeName("string");
+        staleVariable.setTextValue("Umbrella");
+        historyIndex.putVariable(staleVariable);
+        try {
+            assertThat(historyService.createHistoricProcessInstanceQuery().variableValueEquals("customer", "Umbrella").count()).isZero();
+            assertThat(historyService.createHistoricTaskInstanceQuery().processVariableValueEquals("customer", "Umbrella").count()).isZero();
+            assertThat(historyService.createHistoricProcessInstanceQuery().variableValueEquals("customer", "Acme Corp").singleResult().getId())
+                    .isEqualTo(acmeId);
+
+        } finally {
+            historyIndex.removeVariable(staleVariable.getId());
+        }
+    }
+
+    @Test
+    public void testUpdatesDuringRebuildAreReplayed() {
+        deployOneTaskTestProcess();
+
+        String acmeId = startProcessInstance("order-1", "Acme Corp", 100);
+        startProcessInstance("order-2", "Initech", 250);
+        startProcessInstance("order-3", "Globex", 400);
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        HistoryIndex historyIndex = new HistoryIndex() {
+
+            @Override
+            protected String indexProcessInstancePage(CommandContext commandContext, String afterProcessInstanceId) {
+                if (afterProcessInstanceId == null) {
+                    // Received while the rebuild runs, it must not be overwritten by the state the rebuild reads afterwards
+                    updateProcessInstanceBusinessKey(acmeId, "renamed-order");
+                }
+                return super.indexProcessInstancePage(commandContext, afterProcessInstanceId);
+            }
+        };
+        historyIndex.setRebuildPageSize(1);
+        historyIndex.rebuild(processEngineConfiguration.getCommandExecutor());
+
+        assertThat(historyIndex.isReady()).isTrue();
+        assertThat(historyIndex.getProcessInstanceFacetCounts(HistoryIndex.FACET_PROCESS_DEFINITION_KEY)).containsEntry("oneTaskProcess", 3L);
+        assertThat(historyIndex.searchProcessInstanceIds("renamed")).containsExactly(acmeId);
+        assertThat(historyIndex.searchProcessInstanceIds("order 1")).isEmpty();
+    }
+
+    @Test
+    public void testIndexIsDisabledWhenTooLarge() {
+        deployOneTaskTestProcess();
+
+        startProcessInstance("order-1", "Acme Corp", 100);
+        startProcessInstance("order-2", "Initech", 250);
+        waitForHistoryJobExecutorToProcessAllJobs(7000L, 100L);
+
+        HistoryIndex historyIndex = new HistoryIndex().setMaxProcessInstances(1);
+        historyIndex.rebuild(processEngineConfiguration.getCommandExecutor());
+
+        assertThat(historyIndex.isDisabled()).isTrue();
+        assertThat(historyIndex.isReady()).isFalse();
+        assertThatThrownBy(() -> historyIndex.searchProcessInstanceIds("acme"))
+                .isInstanceOf(FlowableException.class)
+                .hasMessage("The history index is disabled");
+
+        // A disabled index stays disabled
+        historyIndex.rebuild(processEngineConfiguration.getCommandExecutor());
+        assertThat(historyIndex.isReady()).isFalse();
+    }
+
+    @Test
+    public void testIndexIsDisabledWhenAnotherExecutorLocksHistoryJobs() {
+        deployOneTaskTestProcess();
+
+        HistoryIndex historyIndex = new HistoryIndex();
+        historyIndex.start(processEngineConfiguration.getCommandExecutor(), processEngineConfiguration.getAsyncHistoryExecutor().getLockOwner());
+        try {
+            waitUntilReady(historyIndex);
+
+            startProcessInstance("order-1", "Acme Corp", 100);
+            HistoryJob historyJob = managementService.createHistoryJobQuery().list().get(0);
+            managementService.executeCommand(commandContext -> {
+                HistoryJobEntity historyJobEntity = (HistoryJobEntity) managementService.createHistoryJobQuery().jobId(historyJob.getId()).singleResult();
+                historyJobEntity.setLockOwner("otherNode");
+                historyJobEntity.setLockExpirationTime(new Date(System.currentTimeMillis() + 60000L));
+                return null;
+            });
+
+            historyIndex.checkOtherExecutors(processEngineConfiguration.getCommandExecutor());
+            assertThat(historyIndex.isDisabled()).isTrue();
+            assertThat(historyIndex.isReady()).isFalse();
+
+        } finally {
+            historyIndex.shutdown();
+            managementService.executeCommand(commandContext -> {
+                for (HistoryJob historyJob : managementService.createHistoryJobQuery().list()) {
+                    ((HistoryJobEntity) historyJob).setLockOwner(null);
+                    ((HistoryJobEntity) historyJob).setLockExpirationTime(null);
+                }
+                return null;
+            });
+        }
+    }
+
+    protected void waitUntilReady(HistoryIndex historyIndex) {
+        long timeout = System.currentTimeMillis() + 10000L;
+        while (!historyIndex.isReady() && System.currentTimeMillis() < timeout) {
+            try {
+                Thread.sleep(50L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        assertThat(historyIndex.isReady()).isTrue();
+    }
+
+    protected String startProcessInstance(String businessKey, String customer, int amount) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("customer", customer);
+        variables.put("amount", amount);
+        return runtimeService.startProcessInstanceByKey("oneTaskProcess", businessKey, variables).getId();
+    }
+
+}
@@ -325,6 +325,22 @@ public class DefaultProcessValidatorTest {
         }
     }
 
+    @Test
+    public void testStraightThroughProcessWithWaitState() {
+        BpmnModel bpmnModel = new BpmnModel();
+        org.flowable.bpmn.model.Process process = TestProcessUtil.createOneTaskProcess();
+        process.setStraightThrough(true);
+        bpmnModel.addProcess(process);
+
+        List<ValidationError> errors = processValidator.validate(bpmnModel);
+        Assert.assertEquals(1, errors.size());
+        Assert.assertEquals(Problems.STRAIGHT_THROUGH_PROCESS_WAIT_STATE, errors.get(0).getProblem());
+        Assert.assertEquals("theTask", errors.get(0).getActivityId());
+
+        process.setStraightThrough(false);
+        Assert.assertEquals(0, processValidator.validate(bpmnModel).size());
+    }
+
     protected void assertCommonProblemFieldForActivity(ValidationError error) {
         assertProcessElementError(error);
 
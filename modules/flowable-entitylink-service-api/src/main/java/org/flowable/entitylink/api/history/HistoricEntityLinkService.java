@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.api.history;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -40,4 +41,6 @@ public interface HistoricEntityLinkService {
     void deleteHistoricEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
     
     void deleteHistoricEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType);
+    
+    void deleteHistoricEntityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
@@ -13,6 +13,7 @@
 
 package org.flowable.entitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -67,6 +68,11 @@ public class HistoricEntityLinkEntityManagerImpl extends AbstractEntityManager<H
     public void deleteHistoricEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType) {
         historicEntityLinkDataManager.deleteHistoricEntityLinksByScopeDefinitionIdAndType(scopeDefinitionId, scopeType);
     }
+    
+    @Override
+    public void deleteHistoricEntityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        historicEntityLinkDataManager.deleteHistoricEntityLinksForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 
     public HistoricEntityLinkDataManager getHistoricEntityLinkDataManager() {
         return historicEntityLinkDataManager;
@@ -40,6 +40,11 @@ public class FormEngineConfigurator extends AbstractEngineConfigurator {
         return EngineConfigurationConstants.PRIORITY_ENGINE_FORM;
     }
 
+    @Override
+    public boolean isParallelInitSupported() {
+        return true;
+    }
+
     @Override
     protected List<EngineDeployer> getCustomDeployers() {
         List<EngineDeployer> deployers = new ArrayList<>();
@@ -158,8 +158,14 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration
     // ///////////////////////////////////////////////////////
 
     public FormEngine buildFormEngine() {
-        init();
-        return new FormEngineImpl(this);
+        timeInitPhase("init", this::init);
+
+        long startTime = System.nanoTime();
+        FormEngine formEngine = new FormEngineImpl(this);
+        addInitPhaseDuration("engine creation", startTime);
+
+        logInitPhaseDurations();
+        return formEngine;
     }
 
     // init
@@ -197,6 +203,7 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration
         initDataManagers();
         initEntityManagers();
         initDeployers();
+        initLatestDefinitionCache();
         initClock();
     }
 
@@ -316,6 +323,7 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration
         initDefaultCommandConfig();
         initSchemaCommandConfig();
         initCommandInvoker();
+        initCommandTracer();
         initCommandInterceptors();
         initCommandExecutor();
     }
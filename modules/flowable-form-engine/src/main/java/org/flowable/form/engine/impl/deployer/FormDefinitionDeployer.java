@@ -16,6 +16,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.cfg.IdGenerator;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.flowable.form.engine.impl.persistence.deploy.Deployer;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntity;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntityManager;
@@ -108,9 +109,14 @@ public class FormDefinitionDeployer implements Deployer {
      */
     protected void persistFormDefinitions(ParsedDeployment parsedDeployment) {
         FormDefinitionEntityManager formDefinitionEntityManager = CommandContextUtil.getFormDefinitionEntityManager();
+        LatestDefinitionCache latestDefinitionCache = CommandContextUtil.getFormEngineConfiguration().getLatestDefinitionCache();
 
         for (FormDefinitionEntity formDefinition : parsedDeployment.getAllFormDefinitions()) {
             formDefinitionEntityManager.insert(formDefinition);
+
+            if (latestDefinitionCache != null) {
+                latestDefinitionCache.putOnCommit(formDefinition.getKey(), formDefinition.getTenantId(), formDefinition.getId(), formDefinition.getVersion());
+            }
         }
     }
 
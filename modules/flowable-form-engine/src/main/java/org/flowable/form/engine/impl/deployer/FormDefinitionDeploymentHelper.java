@@ -20,6 +20,7 @@ import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.flowable.form.engine.FormEngineConfiguration;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntity;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntityManager;
@@ -83,7 +84,14 @@ public class FormDefinitionDeploymentHelper {
     public FormDefinitionEntity getMostRecentVersionOfForm(FormDefinitionEntity formDefinition) {
         String key = formDefinition.getKey();
         String tenantId = formDefinition.getTenantId();
-        FormDefinitionEntityManager formDefinitionEntityManager = CommandContextUtil.getFormEngineConfiguration().getFormDefinitionEntityManager();
+        FormEngineConfiguration formEngineConfiguration = CommandContextUtil.getFormEngineConfiguration();
+        FormDefinitionEntityManager formDefinitionEntityManager = formEngineConfiguration.getFormDefinitionEntityManager();
+
+        // The version of the new form definition is always calculated from the database
+        LatestDefinitionCache latestDefinitionCache = formEngineConfiguration.getLatestDefinitionCache();
+        if (latestDefinitionCache != null) {
+            latestDefinitionCache.evict(key, tenantId);
+        }
 
         FormDefinitionEntity existingDefinition = null;
 
@@ -15,11 +15,14 @@ package org.flowable.form.engine.impl.persistence.entity;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.form.api.FormDefinition;
 import org.flowable.form.engine.FormEngineConfiguration;
 import org.flowable.form.engine.impl.FormDefinitionQueryImpl;
+import org.flowable.form.engine.impl.persistence.deploy.FormDefinitionCacheEntry;
 import org.flowable.form.engine.impl.persistence.entity.data.FormDefinitionDataManager;
 
 /**
@@ -42,12 +45,42 @@ public class FormDefinitionEntityManagerImpl extends AbstractEntityManager<FormD
 
     @Override
     public FormDefinitionEntity findLatestFormDefinitionByKey(String formDefinitionKey) {
-        return formDefinitionDataManager.findLatestFormDefinitionByKey(formDefinitionKey);
+        return findLatestFormDefinition(formDefinitionKey, null,
+                () -> formDefinitionDataManager.findLatestFormDefinitionByKey(formDefinitionKey));
     }
 
     @Override
     public FormDefinitionEntity findLatestFormDefinitionByKeyAndTenantId(String formDefinitionKey, String tenantId) {
-        return formDefinitionDataManager.findLatestFormDefinitionByKeyAndTenantId(formDefinitionKey, tenantId);
+        return findLatestFormDefinition(formDefinitionKey, tenantId,
+                () -> formDefinitionDataManager.findLatestFormDefinitionByKeyAndTenantId(formDefinitionKey, tenantId));
+    }
+
+    protected FormDefinitionEntity findLatestFormDefinition(String formDefinitionKey, String tenantId, Supplier<FormDefinitionEntity> query) {
+        LatestDefinitionCache latestDefinitionCache = getFormEngineConfiguration().getLatestDefinitionCache();
+        if (latestDefinitionCache == null) {
+            return query.get();
+        }
+
+        String formDefinitionId = latestDefinitionCache.getDefinitionId(formDefinitionKey, tenantId);
+        if (formDefinitionId != null) {
+            FormDefinitionCacheEntry cacheEntry = getFormEngineConfiguration().getFormDefinitionCache().get(formDefinitionId);
+            if (cacheEntry != null) {
+                return cacheEntry.getFormDefinitionEntity();
+            }
+
+            FormDefinitionEntity latestFormDefinition = findById(formDefinitionId);
+            if (latestFormDefinition != null) {
+                return latestFormDefinition;
+            }
+
+            latestDefinitionCache.remove(formDefinitionKey, tenantId);
+        }
+
+        FormDefinitionEntity formDefinition = query.get();
+        if (formDefinition != null) {
+            latestDefinitionCache.put(formDefinitionKey, tenantId, formDefinition.getId(), formDefinition.getVersion());
+        }
+        return formDefinition;
     }
 
     @Override
@@ -16,10 +16,12 @@ package org.flowable.form.engine.impl.persistence.entity;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.deploy.LatestDefinitionCache;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.form.api.FormDefinition;
 import org.flowable.form.api.FormDeployment;
 import org.flowable.form.engine.FormEngineConfiguration;
+import org.flowable.form.engine.impl.FormDefinitionQueryImpl;
 import org.flowable.form.engine.impl.FormDeploymentQueryImpl;
 import org.flowable.form.engine.impl.persistence.entity.data.FormDeploymentDataManager;
 
@@ -64,6 +66,14 @@ public class FormDeploymentEntityManagerImpl extends AbstractEntityManager<FormD
     }
 
     protected void deleteFormDefinitionsForDeployment(String deploymentId) {
+        LatestDefinitionCache latestDefinitionCache = getFormEngineConfiguration().getLatestDefinitionCache();
+        if (latestDefinitionCache != null) {
+            List<FormDefinition> formDefinitions = getFormDefinitionEntityManager().findFormDefinitionsByQueryCriteria(new FormDefinitionQueryImpl().deploymentId(deploymentId));
+            for (FormDefinition formDefinition : formDefinitions) {
+                latestDefinitionCache.evict(formDefinition.getKey(), formDefinition.getTenantId());
+            }
+        }
+
         getFormDefinitionEntityManager().deleteFormDefinitionsByDeploymentId(deploymentId);
     }
 
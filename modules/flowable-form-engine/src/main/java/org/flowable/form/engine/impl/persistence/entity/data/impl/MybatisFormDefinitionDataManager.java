@@ -153,7 +153,7 @@ public class MybatisFormDefinitionDataManager extends AbstractFormDataManager<Fo
         HashMap<String, Object> params = new HashMap<>();
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
-        getDbSqlSession().update("updateFormDefinitionTenantIdForDeploymentId", params);
+        getDbSqlSession().update("updateFormDefinitionTenantIdForDeploymentId", params, getManagedEntityClass());
     }
 
 }
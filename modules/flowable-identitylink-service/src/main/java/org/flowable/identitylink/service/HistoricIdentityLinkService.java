@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
@@ -44,4 +45,10 @@ public interface HistoricIdentityLinkService {
     void deleteHistoricIdentityLinksByTaskId(String taskId);
     
     void deleteHistoricIdentityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
+    
+    void deleteHistoricIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricIdentityLinksForTaskIds(Collection<String> taskIds);
+    
+    void deleteHistoricIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
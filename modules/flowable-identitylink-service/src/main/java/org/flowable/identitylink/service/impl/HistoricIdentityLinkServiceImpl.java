@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -84,6 +85,21 @@ public class HistoricIdentityLinkServiceImpl extends CommonServiceImpl<IdentityL
     public void deleteHistoricIdentityLinksByScopeIdAndScopeType(String scopeId, String scopeType) {
         getHistoricIdentityLinkEntityManager().deleteHistoricIdentityLinksByScopeIdAndScopeType(scopeId, scopeType);
     }
+    
+    @Override
+    public void deleteHistoricIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricIdentityLinkEntityManager().deleteHistoricIdentityLinksForProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricIdentityLinksForTaskIds(Collection<String> taskIds) {
+        getHistoricIdentityLinkEntityManager().deleteHistoricIdentityLinksForTaskIds(taskIds);
+    }
+    
+    @Override
+    public void deleteHistoricIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getHistoricIdentityLinkEntityManager().deleteHistoricIdentityLinksForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 
     public HistoricIdentityLinkEntityManager getHistoricIdentityLinkEntityManager() {
         return configuration.getHistoricIdentityLinkEntityManager();
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -34,5 +35,11 @@ public interface HistoricIdentityLinkEntityManager extends EntityManager<Histori
     void deleteHistoricIdentityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
     
     void deleteHistoricIdentityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType);
+    
+    void deleteHistoricIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricIdentityLinksForTaskIds(Collection<String> taskIds);
+    
+    void deleteHistoricIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 
 }
\ No newline at end of file
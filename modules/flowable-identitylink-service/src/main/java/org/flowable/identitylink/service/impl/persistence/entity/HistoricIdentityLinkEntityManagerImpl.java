@@ -13,6 +13,7 @@
 
 package org.flowable.identitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -86,6 +87,21 @@ public class HistoricIdentityLinkEntityManagerImpl extends AbstractEntityManager
     public void deleteHistoricIdentityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType) {
         historicIdentityLinkDataManager.deleteHistoricIdentityLinksByScopeDefinitionIdAndType(scopeDefinitionId, scopeType);
     }
+    
+    @Override
+    public void deleteHistoricIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicIdentityLinkDataManager.deleteHistoricIdentityLinksForProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricIdentityLinksForTaskIds(Collection<String> taskIds) {
+        historicIdentityLinkDataManager.deleteHistoricIdentityLinksForTaskIds(taskIds);
+    }
+    
+    @Override
+    public void deleteHistoricIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        historicIdentityLinkDataManager.deleteHistoricIdentityLinksForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 
     public HistoricIdentityLinkDataManager getHistoricIdentityLinkDataManager() {
         return historicIdentityLinkDataManager;
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -31,4 +32,10 @@ public interface HistoricIdentityLinkDataManager extends DataManager<HistoricIde
     void deleteHistoricIdentityLinksByScopeIdAndType(String scopeId, String scopeType);
     
     void deleteHistoricIdentityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType);
+    
+    void deleteHistoricIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricIdentityLinksForTaskIds(Collection<String> taskIds);
+    
+    void deleteHistoricIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 }
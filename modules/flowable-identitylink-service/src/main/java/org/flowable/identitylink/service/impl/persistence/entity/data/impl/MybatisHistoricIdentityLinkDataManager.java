@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -76,4 +77,19 @@ public class MybatisHistoricIdentityLinkDataManager extends AbstractDataManager<
         parameters.put("scopeType", scopeType);
         getDbSqlSession().delete("deleteHistoricIdentityLinksByScopeDefinitionIdAndScopeType", parameters, HistoricIdentityLinkEntityImpl.class);
     }
+    
+    @Override
+    public void deleteHistoricIdentityLinksForProcessInstanceIds(Collection<String> processInstanceIds) {
+        bulkDeleteForIds("deleteHistoricIdentityLinksForProcessInstanceIds", processInstanceIds, null);
+    }
+    
+    @Override
+    public void deleteHistoricIdentityLinksForTaskIds(Collection<String> taskIds) {
+        bulkDeleteForIds("deleteHistoricIdentityLinksForTaskIds", taskIds, null);
+    }
+    
+    @Override
+    public void deleteHistoricIdentityLinksForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        bulkDeleteForIds("deleteHistoricIdentityLinksForScopeIdsAndScopeType", scopeIds, scopeType);
+    }
 }
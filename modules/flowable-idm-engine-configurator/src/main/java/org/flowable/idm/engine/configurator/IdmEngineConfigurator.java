@@ -36,6 +36,11 @@ public class IdmEngineConfigurator extends AbstractEngineConfigurator {
         return EngineConfigurationConstants.PRIORITY_ENGINE_IDM;
     }
 
+    @Override
+    public boolean isParallelInitSupported() {
+        return true;
+    }
+
     @Override
     protected List<EngineDeployer> getCustomDeployers() {
         return null;
@@ -162,8 +162,14 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
     // ///////////////////////////////////////////////////////
 
     public IdmEngine buildIdmEngine() {
-        init();
-        return new IdmEngineImpl(this);
+        timeInitPhase("init", this::init);
+
+        long startTime = System.nanoTime();
+        IdmEngine idmEngine = new IdmEngineImpl(this);
+        addInitPhaseDuration("engine creation", startTime);
+
+        logInitPhaseDurations();
+        return idmEngine;
     }
 
     // init
@@ -335,6 +341,7 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
         initDefaultCommandConfig();
         initSchemaCommandConfig();
         initCommandInvoker();
+        initCommandTracer();
         initCommandInterceptors();
         initCommandExecutor();
     }
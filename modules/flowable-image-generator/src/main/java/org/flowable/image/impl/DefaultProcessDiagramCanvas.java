@@ -195,7 +195,36 @@ public class DefaultProcessDiagramCanvas {
         initialize(imageType);
     }
 
+    /**
+     * Creates a canvas that starts from a copy of an already rendered image, typically the cached static layer of a diagram.
+     * Only additional elements (like highlights) need to be drawn on top of it.
+     */
+    public DefaultProcessDiagramCanvas(BufferedImage baseImage, int minX, int minY, String imageType,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader) {
+
+        this.canvasWidth = baseImage.getWidth();
+        this.canvasHeight = baseImage.getHeight();
+        this.minX = minX;
+        this.minY = minY;
+        if (activityFontName != null) {
+            this.activityFontName = activityFontName;
+        }
+        if (labelFontName != null) {
+            this.labelFontName = labelFontName;
+        }
+        if (annotationFontName != null) {
+            this.annotationFontName = annotationFontName;
+        }
+        this.customClassLoader = customClassLoader;
+
+        initialize(imageType, baseImage);
+    }
+
     public void initialize(String imageType) {
+        initialize(imageType, null);
+    }
+
+    protected void initialize(String imageType, BufferedImage baseImage) {
         if ("png".equalsIgnoreCase(imageType)) {
             this.processDiagram = new BufferedImage(canvasWidth, canvasHeight, BufferedImage.TYPE_INT_ARGB);
         } else {
@@ -208,6 +237,10 @@ public class DefaultProcessDiagramCanvas {
             this.g.clearRect(0, 0, canvasWidth, canvasHeight);
         }
 
+        if (baseImage != null) {
+            g.drawImage(baseImage, 0, 0, null);
+        }
+
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g.setPaint(Color.black);
 
@@ -218,6 +251,11 @@ public class DefaultProcessDiagramCanvas {
         LABEL_FONT = new Font(labelFontName, Font.ITALIC, 10);
         ANNOTATION_FONT = new Font(annotationFontName, Font.PLAIN, FONT_SIZE);
 
+        if (baseImage != null) {
+            // the icons are already part of the base image
+            return;
+        }
+
         try {
             USERTASK_IMAGE = ImageIO.read(ReflectUtil.getResource("org/flowable/icons/userTask.png", customClassLoader));
             SCRIPTTASK_IMAGE = ImageIO.read(ReflectUtil.getResource("org/flowable/icons/scriptTask.png", customClassLoader));
@@ -292,6 +330,21 @@ public class DefaultProcessDiagramCanvas {
         return imageToSerialize;
     }
 
+    /**
+     * @return the image the canvas draws on, without any cropping applied.
+     */
+    public BufferedImage getProcessDiagram() {
+        return processDiagram;
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
     /**
      * Closes the canvas which disallows further drawing and releases graphical resources.
      */
@@ -14,12 +14,17 @@
 package org.flowable.image.impl;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
 
 import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.AdhocSubProcess;
@@ -78,9 +83,19 @@ import org.flowable.bpmn.model.Transaction;
  */
 public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
 
+    public static final String SVG_IMAGE_TYPE = "svg";
+
     protected Map<Class<? extends BaseElement>, ActivityDrawInstruction> activityDrawInstructions = new HashMap<>();
     protected Map<Class<? extends BaseElement>, ArtifactDrawInstruction> artifactDrawInstructions = new HashMap<>();
 
+    /**
+     * When enabled, the parts of a diagram that don't depend on highlighting are rendered only once per {@link BpmnModel} instance
+     * and rendering options. Highlights are drawn on top of a copy of that cached layer.
+     * The cache is keyed on the model instance, so the model must not be changed after it has been rendered.
+     */
+    protected boolean staticLayerCacheEnabled;
+    protected final Map<BpmnModel, Map<StaticLayerKey, StaticLayer>> staticLayerCache = new WeakHashMap<>();
+
     public DefaultProcessDiagramGenerator() {
         this(1.0);
     }
@@ -467,10 +482,27 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
     public InputStream generateDiagram(BpmnModel bpmnModel, String imageType, List<String> highLightedActivities, List<String> highLightedFlows,
             String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor,boolean drawSequenceFlowNameWithNoLabelDI) {
 
+        if (SVG_IMAGE_TYPE.equalsIgnoreCase(imageType)) {
+            // the InputStream contract needs a buffer, use writeSvgDiagram to stream the diagram to the caller instead
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writeSvgDiagram(bpmnModel, highLightedActivities, highLightedFlows, activityFontName, labelFontName, scaleFactor, out);
+            return new ByteArrayInputStream(out.toByteArray());
+        }
+
         return generateProcessDiagram(bpmnModel, imageType, highLightedActivities, highLightedFlows,
                 activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor,drawSequenceFlowNameWithNoLabelDI).generateImage(imageType);
     }
 
+    /**
+     * Streams the diagram as SVG to the given output stream, without creating a raster image.
+     */
+    public void writeSvgDiagram(BpmnModel bpmnModel, List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, double scaleFactor, OutputStream outputStream) {
+
+        prepareBpmnModel(bpmnModel);
+        new ProcessDiagramSvgWriter(activityFontName, labelFontName, scaleFactor).writeDiagram(bpmnModel, highLightedActivities, highLightedFlows, outputStream);
+    }
+
     @Override
     public InputStream generateDiagram(BpmnModel bpmnModel, String imageType, List<String> highLightedActivities, List<String> highLightedFlows,boolean drawSequenceFlowNameWithNoLabelDI) {
         return generateDiagram(bpmnModel, imageType, highLightedActivities, highLightedFlows, null, null, null, null, 1.0,drawSequenceFlowNameWithNoLabelDI);
@@ -552,6 +584,79 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
 
         prepareBpmnModel(bpmnModel);
 
+        if (staticLayerCacheEnabled) {
+            return generateProcessDiagramFromStaticLayer(bpmnModel, imageType, highLightedActivities, highLightedFlows,
+                    activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+        }
+
+        return drawProcessDiagram(bpmnModel, imageType, highLightedActivities, highLightedFlows,
+                activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+    }
+
+    protected DefaultProcessDiagramCanvas generateProcessDiagramFromStaticLayer(BpmnModel bpmnModel, String imageType,
+            List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
+        StaticLayerKey key = new StaticLayerKey(imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+        StaticLayer staticLayer = getStaticLayer(bpmnModel, key);
+        if (staticLayer == null) {
+            DefaultProcessDiagramCanvas staticCanvas = drawProcessDiagram(bpmnModel, imageType, Collections.<String>emptyList(), Collections.<String>emptyList(),
+                    activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+            staticLayer = new StaticLayer(staticCanvas.getProcessDiagram(), staticCanvas.getMinX(), staticCanvas.getMinY());
+            staticCanvas.close();
+            putStaticLayer(bpmnModel, key, staticLayer);
+        }
+
+        DefaultProcessDiagramCanvas processDiagramCanvas = new DefaultProcessDiagramCanvas(staticLayer.image, staticLayer.minX, staticLayer.minY,
+                imageType, activityFontName, labelFontName, annotationFontName, customClassLoader);
+        drawHighLights(processDiagramCanvas, bpmnModel, highLightedActivities, highLightedFlows, scaleFactor);
+        return processDiagramCanvas;
+    }
+
+    protected StaticLayer getStaticLayer(BpmnModel bpmnModel, StaticLayerKey key) {
+        synchronized (staticLayerCache) {
+            Map<StaticLayerKey, StaticLayer> staticLayers = staticLayerCache.get(bpmnModel);
+            return staticLayers != null ? staticLayers.get(key) : null;
+        }
+    }
+
+    protected void putStaticLayer(BpmnModel bpmnModel, StaticLayerKey key, StaticLayer staticLayer) {
+        synchronized (staticLayerCache) {
+            staticLayerCache.computeIfAbsent(bpmnModel, model -> new HashMap<>()).put(key, staticLayer);
+        }
+    }
+
+    /**
+     * Draws only the highlighted activities and sequence flows, on top of a canvas that already contains the rest of the diagram.
+     */
+    protected void drawHighLights(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel,
+            List<String> highLightedActivities, List<String> highLightedFlows, double scaleFactor) {
+
+        if (highLightedActivities.isEmpty() && highLightedFlows.isEmpty()) {
+            return;
+        }
+
+        for (FlowNode flowNode : gatherAllFlowNodes(bpmnModel)) {
+            if (isPartOfCollapsedSubProcess(flowNode, bpmnModel)) {
+                continue;
+            }
+
+            if (highLightedActivities.contains(flowNode.getId()) && activityDrawInstructions.containsKey(flowNode.getClass())) {
+                drawHighLight(processDiagramCanvas, bpmnModel.getGraphicInfo(flowNode.getId()));
+            }
+
+            for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
+                if (highLightedFlows.contains(sequenceFlow.getId())) {
+                    drawSequenceFlow(processDiagramCanvas, bpmnModel, flowNode, sequenceFlow, true, scaleFactor);
+                }
+            }
+        }
+    }
+
+    protected DefaultProcessDiagramCanvas drawProcessDiagram(BpmnModel bpmnModel, String imageType,
+            List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
         DefaultProcessDiagramCanvas processDiagramCanvas = initProcessDiagramCanvas(bpmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader);
 
         // Draw pool shape, if process is participant in collaboration
@@ -713,43 +818,8 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         // Outgoing transitions of activity
         for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
             boolean highLighted = (highLightedFlows.contains(sequenceFlow.getId()));
-            String defaultFlow = null;
-            if (flowNode instanceof Activity) {
-                defaultFlow = ((Activity) flowNode).getDefaultFlow();
-            } else if (flowNode instanceof Gateway) {
-                defaultFlow = ((Gateway) flowNode).getDefaultFlow();
-            }
-
-            boolean isDefault = false;
-            if (defaultFlow != null && defaultFlow.equalsIgnoreCase(sequenceFlow.getId())) {
-                isDefault = true;
-            }
-            boolean drawConditionalIndicator = sequenceFlow.getConditionExpression() != null && !(flowNode instanceof Gateway);
-
-            String sourceRef = sequenceFlow.getSourceRef();
-            String targetRef = sequenceFlow.getTargetRef();
-            FlowElement sourceElement = bpmnModel.getFlowElement(sourceRef);
-            FlowElement targetElement = bpmnModel.getFlowElement(targetRef);
-            List<GraphicInfo> graphicInfoList = bpmnModel.getFlowLocationGraphicInfo(sequenceFlow.getId());
-            if (graphicInfoList != null && graphicInfoList.size() > 0) {
-                graphicInfoList = connectionPerfectionizer(processDiagramCanvas, bpmnModel, sourceElement, targetElement, graphicInfoList);
-                int xPoints[] = new int[graphicInfoList.size()];
-                int yPoints[] = new int[graphicInfoList.size()];
-
-                for (int i = 1; i < graphicInfoList.size(); i++) {
-                    GraphicInfo graphicInfo = graphicInfoList.get(i);
-                    GraphicInfo previousGraphicInfo = graphicInfoList.get(i - 1);
-
-                    if (i == 1) {
-                        xPoints[0] = (int) previousGraphicInfo.getX();
-                        yPoints[0] = (int) previousGraphicInfo.getY();
-                    }
-                    xPoints[i] = (int) graphicInfo.getX();
-                    yPoints[i] = (int) graphicInfo.getY();
-
-                }
-
-                processDiagramCanvas.drawSequenceflow(xPoints, yPoints, drawConditionalIndicator, isDefault, highLighted, scaleFactor);
+            List<GraphicInfo> graphicInfoList = drawSequenceFlow(processDiagramCanvas, bpmnModel, flowNode, sequenceFlow, highLighted, scaleFactor);
+            if (graphicInfoList != null) {
 
                 // Draw sequenceflow label
                 GraphicInfo labelGraphicInfo = bpmnModel.getLabelGraphicInfo(sequenceFlow.getId());
@@ -776,6 +846,57 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         }
     }
 
+    /**
+     * Draws the line of the sequence flow.
+     * 
+     * @return the graphic info of the drawn line, or null when the sequence flow has no graphic info
+     */
+    protected List<GraphicInfo> drawSequenceFlow(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel,
+            FlowNode flowNode, SequenceFlow sequenceFlow, boolean highLighted, double scaleFactor) {
+
+        String defaultFlow = null;
+        if (flowNode instanceof Activity) {
+            defaultFlow = ((Activity) flowNode).getDefaultFlow();
+        } else if (flowNode instanceof Gateway) {
+            defaultFlow = ((Gateway) flowNode).getDefaultFlow();
+        }
+
+        boolean isDefault = false;
+        if (defaultFlow != null && defaultFlow.equalsIgnoreCase(sequenceFlow.getId())) {
+            isDefault = true;
+        }
+        boolean drawConditionalIndicator = sequenceFlow.getConditionExpression() != null && !(flowNode instanceof Gateway);
+
+        String sourceRef = sequenceFlow.getSourceRef();
+        String targetRef = sequenceFlow.getTargetRef();
+        FlowElement sourceElement = bpmnModel.getFlowElement(sourceRef);
+        FlowElement targetElement = bpmnModel.getFlowElement(targetRef);
+        List<GraphicInfo> graphicInfoList = bpmnModel.getFlowLocationGraphicInfo(sequenceFlow.getId());
+        if (graphicInfoList == null || graphicInfoList.isEmpty()) {
+            return null;
+        }
+
+        graphicInfoList = connectionPerfectionizer(processDiagramCanvas, bpmnModel, sourceElement, targetElement, graphicInfoList);
+        int xPoints[] = new int[graphicInfoList.size()];
+        int yPoints[] = new int[graphicInfoList.size()];
+
+        for (int i = 1; i < graphicInfoList.size(); i++) {
+            GraphicInfo graphicInfo = graphicInfoList.get(i);
+            GraphicInfo previousGraphicInfo = graphicInfoList.get(i - 1);
+
+            if (i == 1) {
+                xPoints[0] = (int) previousGraphicInfo.getX();
+                yPoints[0] = (int) previousGraphicInfo.getY();
+            }
+            xPoints[i] = (int) graphicInfo.getX();
+            yPoints[i] = (int) graphicInfo.getY();
+
+        }
+
+        processDiagramCanvas.drawSequenceflow(xPoints, yPoints, drawConditionalIndicator, isDefault, highLighted, scaleFactor);
+        return graphicInfoList;
+    }
+
     /**
      * This method makes coordinates of connection flow better.
      * 
@@ -1084,6 +1205,79 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         this.artifactDrawInstructions = artifactDrawInstructions;
     }
 
+    public boolean isStaticLayerCacheEnabled() {
+        return staticLayerCacheEnabled;
+    }
+
+    public DefaultProcessDiagramGenerator setStaticLayerCacheEnabled(boolean staticLayerCacheEnabled) {
+        this.staticLayerCacheEnabled = staticLayerCacheEnabled;
+        return this;
+    }
+
+    public void clearStaticLayerCache() {
+        synchronized (staticLayerCache) {
+            staticLayerCache.clear();
+        }
+    }
+
+    protected static class StaticLayer {
+
+        protected final BufferedImage image;
+        protected final int minX;
+        protected final int minY;
+
+        public StaticLayer(BufferedImage image, int minX, int minY) {
+            this.image = image;
+            this.minX = minX;
+            this.minY = minY;
+        }
+    }
+
+    protected static class StaticLayerKey {
+
+        protected final String imageType;
+        protected final String activityFontName;
+        protected final String labelFontName;
+        protected final String annotationFontName;
+        protected final ClassLoader customClassLoader;
+        protected final double scaleFactor;
+        protected final boolean drawSequenceFlowNameWithNoLabelDI;
+
+        public StaticLayerKey(String imageType, String activityFontName, String labelFontName, String annotationFontName,
+                ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+            this.imageType = imageType != null ? imageType.toLowerCase() : null;
+            this.activityFontName = activityFontName;
+            this.labelFontName = labelFontName;
+            this.annotationFontName = annotationFontName;
+            this.customClassLoader = customClassLoader;
+            this.scaleFactor = scaleFactor;
+            this.drawSequenceFlowNameWithNoLabelDI = drawSequenceFlowNameWithNoLabelDI;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            StaticLayerKey that = (StaticLayerKey) o;
+            return Double.compare(that.scaleFactor, scaleFactor) == 0
+                    && drawSequenceFlowNameWithNoLabelDI == that.drawSequenceFlowNameWithNoLabelDI
+                    && Objects.equals(imageType, that.imageType)
+                    && Objects.equals(activityFontName, that.activityFontName)
+                    && Objects.equals(labelFontName, that.labelFontName)
+                    && Objects.equals(annotationFontName, that.annotationFontName)
+                    && customClassLoader == that.customClassLoader;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(imageType, activityFontName, labelFontName, annotationFontName, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+        }
+    }
+
     protected interface ActivityDrawInstruction {
         void draw(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel, FlowNode flowNode);
     }
@@ -0,0 +1,448 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.image.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.Artifact;
+import org.flowable.bpmn.model.Association;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.CallActivity;
+import org.flowable.bpmn.model.EndEvent;
+import org.flowable.bpmn.model.Event;
+import org.flowable.bpmn.model.EventGateway;
+import org.flowable.bpmn.model.EventSubProcess;
+import org.flowable.bpmn.model.ExclusiveGateway;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowElementsContainer;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.Gateway;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.bpmn.model.InclusiveGateway;
+import org.flowable.bpmn.model.Lane;
+import org.flowable.bpmn.model.ParallelGateway;
+import org.flowable.bpmn.model.Pool;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.SubProcess;
+import org.flowable.bpmn.model.TextAnnotation;
+import org.flowable.image.exception.FlowableImageException;
+
+/**
+ * Writes a process diagram as SVG directly to a stream, without rendering it to a raster image first.
+ * 
+ * The output uses plain BPMN shapes (no task type icons) and marks highlighted activities and sequence flows with the
+ * <code>highlight</code> CSS class, so the same document structure can be styled by the client.
+ * 
+ * Like the raster image, the document is cropped to the diagram with a small margin, and its size is multiplied by the scale factor.
+ */
+public class ProcessDiagramSvgWriter {
+
+    protected static final int FONT_SIZE = 11;
+    protected static final int AVERAGE_CHARACTER_WIDTH = 6;
+    protected static final int MARGIN = 5;
+
+    protected String activityFontName = "Arial";
+    protected String labelFontName = "Arial";
+    protected double scaleFactor = 1.0;
+
+    public ProcessDiagramSvgWriter() {
+    }
+
+    public ProcessDiagramSvgWriter(String activityFontName, String labelFontName) {
+        this(activityFontName, labelFontName, 1.0);
+    }
+
+    public ProcessDiagramSvgWriter(String activityFontName, String labelFontName, double scaleFactor) {
+        if (activityFontName != null) {
+            this.activityFontName = activityFontName;
+        }
+        if (labelFontName != null) {
+            this.labelFontName = labelFontName;
+        }
+        if (scaleFactor > 0) {
+            this.scaleFactor = scaleFactor;
+        }
+    }
+
+    public void writeDiagram(BpmnModel bpmnModel, OutputStream outputStream) {
+        writeDiagram(bpmnModel, Collections.<String>emptyList(), Collections.<String>emptyList(), outputStream);
+    }
+
+    public void writeDiagram(BpmnModel bpmnModel, List<String> highLightedActivities, List<String> highLightedFlows, OutputStream outputStream) {
+        Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        writeDiagram(bpmnModel, highLightedActivities, highLightedFlows, writer);
+    }
+
+    public void writeDiagram(BpmnModel bpmnModel, List<String> highLightedActivities, List<String> highLightedFlows, Writer writer) {
+        try {
+            writeDocument(bpmnModel, highLightedActivities, highLightedFlows, writer);
+            writer.flush();
+        } catch (IOException e) {
+            throw new FlowableImageException("Error while writing process diagram as SVG", e);
+        }
+    }
+
+    protected void writeDocument(BpmnModel bpmnModel, List<String> highLightedActivities, List<String> highLightedFlows, Writer writer) throws IOException {
+        double[] bounds = calculateBounds(bpmnModel);
+        double originX = bounds[0] - MARGIN;
+        double originY = bounds[1] - MARGIN;
+        double viewWidth = bounds[2] - originX + 2 * MARGIN;
+        double viewHeight = bounds[3] - originY + 2 * MARGIN;
+
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        writer.write("<svg xmlns=\"http://www.w3.org/2000/svg\" version=\"1.1\" width=\"" + (int) Math.ceil(viewWidth * scaleFactor)
+                + "\" height=\"" + (int) Math.ceil(viewHeight * scaleFactor) + "\" viewBox=\"" + format(originX) + " " + format(originY) + " "
+                + format(viewWidth) + " " + format(viewHeight) + "\">\n");
+        writeDefinitions(writer);
+
+        for (Pool pool : bpmnModel.getPools()) {
+            writeContainer(pool.getName(), bpmnModel.getGraphicInfo(pool.getId()), "pool", writer);
+        }
+        for (Process process : bpmnModel.getProcesses()) {
+            for (Lane lane : process.getLanes()) {
+                writeContainer(lane.getName(), bpmnModel.getGraphicInfo(lane.getId()), "lane", writer);
+            }
+        }
+
+        for (Process process : bpmnModel.getProcesses()) {
+            writeFlowElements(bpmnModel, process, highLightedActivities, highLightedFlows, writer);
+        }
+
+        writer.write("</svg>\n");
+    }
+
+    protected void writeDefinitions(Writer writer) throws IOException {
+        writer.write("<defs>\n");
+        writer.write("<marker id=\"arrow\" markerWidth=\"10\" markerHeight=\"10\" refX=\"9\" refY=\"5\" orient=\"auto\">"
+                + "<path d=\"M0,0 L10,5 L0,10 z\" fill=\"#585858\"/></marker>\n");
+        writer.write("<marker id=\"arrow-highlight\" markerWidth=\"10\" markerHeight=\"10\" refX=\"9\" refY=\"5\" orient=\"auto\">"
+                + "<path d=\"M0,0 L10,5 L0,10 z\" fill=\"#ff0000\"/></marker>\n");
+        writer.write("<style type=\"text/css\"><![CDATA[\n");
+        writer.write("text { font-family: " + cssString(activityFontName) + "; font-size: " + FONT_SIZE + "px; fill: #000000; }\n");
+        writer.write("text.label { font-family: " + cssString(labelFontName) + "; font-style: italic; font-size: 10px; fill: #7092be; }\n");
+        writer.write(".pool, .lane { fill: none; stroke: #000000; stroke-width: 1; }\n");
+        writer.write(".task { fill: #f9f9f9; stroke: #bbbbbb; stroke-width: 1; }\n");
+        writer.write(".subprocess { fill: #ffffff; stroke: #000000; stroke-width: 1; }\n");
+        writer.write(".event-subprocess { fill: #ffffff; stroke: #000000; stroke-width: 1; stroke-dasharray: 1,1; }\n");
+        writer.write(".call-activity { fill: #f9f9f9; stroke: #bbbbbb; stroke-width: 3; }\n");
+        writer.write(".event { fill: #ffffff; stroke: #585858; stroke-width: 1; }\n");
+        writer.write(".end-event { fill: #ffffff; stroke: #585858; stroke-width: 3; }\n");
+        writer.write(".gateway { fill: #ffffff; stroke: #585858; stroke-width: 1; }\n");
+        writer.write(".gateway-marker { fill: none; stroke: #585858; stroke-width: 3; }\n");
+        writer.write(".flow { fill: none; stroke: #585858; stroke-width: 1; marker-end: url(#arrow); }\n");
+        writer.write(".flow.highlight { stroke: #ff0000; stroke-width: 1.3; marker-end: url(#arrow-highlight); }\n");
+        writer.write(".association { fill: none; stroke: #585858; stroke-width: 2; stroke-dasharray: 2,2; }\n");
+        writer.write(".annotation { fill: none; stroke: #585858; stroke-width: 2; }\n");
+        writer.write("rect.highlight { fill: none; stroke: #ff0000; stroke-width: 3; }\n");
+        writer.write("]]></style>\n");
+        writer.write("</defs>\n");
+    }
+
+    protected void writeFlowElements(BpmnModel bpmnModel, FlowElementsContainer container, Collection<String> highLightedActivities,
+            Collection<String> highLightedFlows, Writer writer) throws IOException {
+
+        for (FlowElement flowElement : container.getFlowElements()) {
+            if (flowElement instanceof FlowNode) {
+                FlowNode flowNode = (FlowNode) flowElement;
+                GraphicInfo graphicInfo = bpmnModel.getGraphicInfo(flowNode.getId());
+                if (graphicInfo == null) {
+                    continue;
+                }
+
+                writeFlowNode(flowNode, graphicInfo, writer);
+                if (highLightedActivities.contains(flowNode.getId())) {
+                    writer.write("<rect class=\"highlight\"" + bounds(graphicInfo) + " rx=\"10\" ry=\"10\"/>\n");
+                }
+
+                for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
+                    writeSequenceFlow(bpmnModel, sequenceFlow, highLightedFlows.contains(sequenceFlow.getId()), writer);
+                }
+
+                if (flowNode instanceof SubProcess && !isCollapsed(graphicInfo)) {
+                    writeFlowElements(bpmnModel, (SubProcess) flowNode, highLightedActivities, highLightedFlows, writer);
+                }
+            }
+        }
+
+        Collection<Artifact> artifacts = container instanceof Process ? ((Process) container).getArtifacts()
+                : container instanceof SubProcess ? ((SubProcess) container).getArtifacts() : Collections.<Artifact>emptyList();
+        for (Artifact artifact : artifacts) {
+            writeArtifact(bpmnModel, artifact, writer);
+        }
+    }
+
+    protected void writeFlowNode(FlowNode flowNode, GraphicInfo graphicInfo, Writer writer) throws IOException {
+        writer.write("<g id=\"" + escape(flowNode.getId()) + "\">");
+        if (flowNode instanceof Event) {
+            double radius = graphicInfo.getWidth() / 2;
+            double centerX = graphicInfo.getX() + radius;
+            double centerY = graphicInfo.getY() + radius;
+            String styleClass = flowNode instanceof EndEvent ? "end-event" : "event";
+            writer.write("<circle class=\"" + styleClass + "\" cx=\"" + format(centerX) + "\" cy=\"" + format(centerY) + "\" r=\"" + format(radius) + "\"/>");
+            if (!(flowNode instanceof StartEvent) && !(flowNode instanceof EndEvent)) {
+                // intermediate events have a double border
+                writer.write("<circle class=\"event\" cx=\"" + format(centerX) + "\" cy=\"" + format(centerY) + "\" r=\"" + format(radius - 3) + "\"/>");
+            }
+
+        } else if (flowNode instanceof Gateway) {
+            writeGateway((Gateway) flowNode, graphicInfo, writer);
+
+        } else if (flowNode instanceof Activity) {
+            String styleClass;
+            if (flowNode instanceof EventSubProcess) {
+                styleClass = "event-subprocess";
+            } else if (flowNode instanceof SubProcess) {
+                styleClass = "subprocess";
+            } else if (flowNode instanceof CallActivity) {
+                styleClass = "call-activity";
+            } else {
+                styleClass = "task";
+            }
+            writer.write("<rect class=\"" + styleClass + "\"" + bounds(graphicInfo) + " rx=\"10\" ry=\"10\"/>");
+            if (flowNode instanceof SubProcess && !isCollapsed(graphicInfo)) {
+                writeText(flowNode.getName(), graphicInfo.getX() + 5, graphicInfo.getY() + FONT_SIZE + 3, graphicInfo.getWidth() - 10, false, writer);
+            } else {
+                writeText(flowNode.getName(), graphicInfo.getX() + graphicInfo.getWidth() / 2, graphicInfo.getY() + graphicInfo.getHeight() / 2,
+                        graphicInfo.getWidth() - 6, true, writer);
+            }
+        }
+        writer.write("</g>\n");
+    }
+
+    protected void writeGateway(Gateway gateway, GraphicInfo graphicInfo, Writer writer) throws IOException {
+        double x = graphicInfo.getX();
+        double y = graphicInfo.getY();
+        double w = graphicInfo.getWidth();
+        double h = graphicInfo.getHeight();
+        writer.write("<polygon class=\"gateway\" points=\"" + format(x) + "," + format(y + h / 2) + " " + format(x + w / 2) + "," + format(y) + " "
+                + format(x + w) + "," + format(y + h / 2) + " " + format(x + w / 2) + "," + format(y + h) + "\"/>");
+
+        double quarterX = w / 4;
+        double quarterY = h / 4;
+        if (gateway instanceof ExclusiveGateway) {
+            writer.write("<path class=\"gateway-marker\" d=\"M" + format(x + 1.3 * quarterX) + "," + format(y + 1.3 * quarterY) + " L" + format(x + 2.7 * quarterX) + ","
+                    + format(y + 2.7 * quarterY) + " M" + format(x + 2.7 * quarterX) + "," + format(y + 1.3 * quarterY) + " L" + format(x + 1.3 * quarterX) + ","
+                    + format(y + 2.7 * quarterY) + "\"/>");
+        } else if (gateway instanceof ParallelGateway) {
+            writer.write("<path class=\"gateway-marker\" d=\"M" + format(x + w / 2) + "," + format(y + quarterY) + " L" + format(x + w / 2) + "," + format(y + 3 * quarterY)
+                    + " M" + format(x + quarterX) + "," + format(y + h / 2) + " L" + format(x + 3 * quarterX) + "," + format(y + h / 2) + "\"/>");
+        } else if (gateway instanceof InclusiveGateway) {
+            writer.write("<circle class=\"gateway-marker\" cx=\"" + format(x + w / 2) + "\" cy=\"" + format(y + h / 2) + "\" r=\"" + format(quarterX) + "\"/>");
+        } else if (gateway instanceof EventGateway) {
+            writer.write("<circle class=\"event\" cx=\"" + format(x + w / 2) + "\" cy=\"" + format(y + h / 2) + "\" r=\"" + format(quarterX) + "\"/>");
+        }
+    }
+
+    protected void writeSequenceFlow(BpmnModel bpmnModel, SequenceFlow sequenceFlow, boolean highLighted, Writer writer) throws IOException {
+        List<GraphicInfo> graphicInfoList = bpmnModel.getFlowLocationGraphicInfo(sequenceFlow.getId());
+        if (graphicInfoList == null || graphicInfoList.size() < 2) {
+            return;
+        }
+
+        writer.write("<polyline id=\"" + escape(sequenceFlow.getId()) + "\" class=\"" + (highLighted ? "flow highlight" : "flow") + "\" points=\"");
+        writePoints(graphicInfoList, writer);
+        writer.write("\"/>\n");
+
+        GraphicInfo labelGraphicInfo = bpmnModel.getLabelGraphicInfo(sequenceFlow.getId());
+        if (labelGraphicInfo != null && sequenceFlow.getName() != null) {
+            writer.write("<text class=\"label\" x=\"" + format(labelGraphicInfo.getX()) + "\" y=\"" + format(labelGraphicInfo.getY() + 10) + "\">"
+                    + escape(sequenceFlow.getName()) + "</text>\n");
+        }
+    }
+
+    protected void writeArtifact(BpmnModel bpmnModel, Artifact artifact, Writer writer) throws IOException {
+        if (artifact instanceof TextAnnotation) {
+            GraphicInfo graphicInfo = bpmnModel.getGraphicInfo(artifact.getId());
+            if (graphicInfo == null) {
+                return;
+            }
+            double x = graphicInfo.getX();
+            double y = graphicInfo.getY();
+            writer.write("<path class=\"annotation\" d=\"M" + format(x + 20) + "," + format(y) + " L" + format(x) + "," + format(y) + " L" + format(x) + ","
+                    + format(y + graphicInfo.getHeight()) + " L" + format(x + 20) + "," + format(y + graphicInfo.getHeight()) + "\"/>");
+            writeText(((TextAnnotation) artifact).getText(), x + 7, y + FONT_SIZE + 3, graphicInfo.getWidth() - 14, false, writer);
+            writer.write("\n");
+
+        } else if (artifact instanceof Association) {
+            List<GraphicInfo> graphicInfoList = bpmnModel.getFlowLocationGraphicInfo(artifact.getId());
+            if (graphicInfoList == null || graphicInfoList.size() < 2) {
+                return;
+            }
+            writer.write("<polyline class=\"association\" points=\"");
+            writePoints(graphicInfoList, writer);
+            writer.write("\"/>\n");
+        }
+    }
+
+    protected void writeContainer(String name, GraphicInfo graphicInfo, String styleClass, Writer writer) throws IOException {
+        if (graphicInfo == null) {
+            return;
+        }
+        writer.write("<rect class=\"" + styleClass + "\"" + bounds(graphicInfo) + "/>");
+        if (name != null) {
+            double x = graphicInfo.getX() + 15;
+            double y = graphicInfo.getY() + graphicInfo.getHeight() / 2;
+            writer.write("<text x=\"" + format(x) + "\" y=\"" + format(y) + "\" text-anchor=\"middle\" transform=\"rotate(-90 " + format(x) + " " + format(y) + ")\">"
+                    + escape(name) + "</text>");
+        }
+        writer.write("\n");
+    }
+
+    /**
+     * Writes the text, broken into lines that approximately fit the given width.
+     */
+    protected void writeText(String text, double x, double y, double maxWidth, boolean centered, Writer writer) throws IOException {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+
+        int maxCharacters = Math.max(1, (int) (maxWidth / AVERAGE_CHARACTER_WIDTH));
+        List<String> lines = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        for (String word : text.split("\\s+")) {
+            if (line.length() > 0 && line.length() + 1 + word.length() > maxCharacters) {
+                lines.add(line.toString());
+                line.setLength(0);
+            }
+            if (line.length() > 0) {
+                line.append(' ');
+            }
+            line.append(word);
+        }
+        if (line.length() > 0) {
+            lines.add(line.toString());
+        }
+
+        int lineHeight = FONT_SIZE + 2;
+        double startY = centered ? y - (lines.size() * lineHeight) / 2.0 + FONT_SIZE : y;
+        writer.write("<text x=\"" + format(x) + "\" y=\"" + format(startY) + "\"" + (centered ? " text-anchor=\"middle\"" : "") + ">");
+        for (int i = 0; i < lines.size(); i++) {
+            writer.write("<tspan x=\"" + format(x) + "\"" + (i > 0 ? " dy=\"" + lineHeight + "\"" : "") + ">" + escape(lines.get(i)) + "</tspan>");
+        }
+        writer.write("</text>");
+    }
+
+    protected void writePoints(List<GraphicInfo> graphicInfoList, Writer writer) throws IOException {
+        for (int i = 0; i < graphicInfoList.size(); i++) {
+            GraphicInfo graphicInfo = graphicInfoList.get(i);
+            if (i > 0) {
+                writer.write(' ');
+            }
+            writer.write(format(graphicInfo.getX()) + "," + format(graphicInfo.getY()));
+        }
+    }
+
+    /**
+     * @return minX, minY, maxX and maxY of all shapes and flows of the model
+     */
+    protected double[] calculateBounds(BpmnModel bpmnModel) {
+        double minX = Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE;
+        double maxY = -Double.MAX_VALUE;
+        for (GraphicInfo graphicInfo : bpmnModel.getLocationMap().values()) {
+            minX = Math.min(minX, graphicInfo.getX());
+            minY = Math.min(minY, graphicInfo.getY());
+            maxX = Math.max(maxX, graphicInfo.getX() + graphicInfo.getWidth());
+            maxY = Math.max(maxY, graphicInfo.getY() + graphicInfo.getHeight());
+        }
+        for (List<GraphicInfo> graphicInfoList : bpmnModel.getFlowLocationMap().values()) {
+            for (GraphicInfo graphicInfo : graphicInfoList) {
+                minX = Math.min(minX, graphicInfo.getX());
+                minY = Math.min(minY, graphicInfo.getY());
+                maxX = Math.max(maxX, graphicInfo.getX());
+                maxY = Math.max(maxY, graphicInfo.getY());
+            }
+        }
+        if (minX > maxX || minY > maxY) {
+            // nothing to show
+            return new double[] { 0, 0, 0, 0 };
+        }
+        return new double[] { minX, minY, maxX, maxY };
+    }
+
+    protected boolean isCollapsed(GraphicInfo graphicInfo) {
+        return graphicInfo.getExpanded() != null && !graphicInfo.getExpanded();
+    }
+
+    protected String bounds(GraphicInfo graphicInfo) {
+        return " x=\"" + format(graphicInfo.getX()) + "\" y=\"" + format(graphicInfo.getY()) + "\" width=\"" + format(graphicInfo.getWidth())
+                + "\" height=\"" + format(graphicInfo.getHeight()) + "\"";
+    }
+
+    protected String format(double value) {
+        if (value == Math.rint(value)) {
+            return Long.toString((long) value);
+        }
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    /**
+     * Quotes the value as a CSS string. Characters that could end the string or the surrounding CDATA section are written as CSS escapes.
+     */
+    protected String cssString(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\'' || c == '\\' || c == '<' || c == '>' || c == '&' || c < ' ') {
+                quoted.append('\\').append(Integer.toHexString(c)).append(' ');
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    protected String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '<':
+                escaped.append("&lt;");
+                break;
+            case '>':
+                escaped.append("&gt;");
+                break;
+            case '&':
+                escaped.append("&amp;");
+                break;
+            case '"':
+                escaped.append("&quot;");
+                break;
+            case '\'':
+                escaped.append("&#39;");
+                break;
+            default:
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+}
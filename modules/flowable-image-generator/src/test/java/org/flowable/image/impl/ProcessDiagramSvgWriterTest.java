@@ -0,0 +1,193 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.image.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.imageio.ImageIO;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.EndEvent;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.UserTask;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+public class ProcessDiagramSvgWriterTest {
+
+    @Test
+    public void testWriteDiagram() throws Exception {
+        Document document = writeDiagram(createModel(0, 0), new ProcessDiagramSvgWriter(), "task", "flow1");
+        Element svg = document.getDocumentElement();
+
+        assertEquals("svg", svg.getTagName());
+        assertEquals("195 45 345 95", svg.getAttribute("viewBox"));
+        assertEquals("345", svg.getAttribute("width"));
+        assertEquals("95", svg.getAttribute("height"));
+
+        assertNotNull(findElement(document, "g", "id", "task"));
+        assertNotNull(findElement(document, "rect", "class", "highlight"));
+        assertNotNull(findElement(document, "polyline", "class", "flow highlight"));
+        assertEquals("flow", findElement(document, "polyline", "id", "flow2").getAttribute("class"));
+    }
+
+    @Test
+    public void testWriteDiagramWithNegativeCoordinates() throws Exception {
+        Document document = writeDiagram(createModel(-300, -100), new ProcessDiagramSvgWriter());
+
+        assertEquals("-105 -55 345 95", document.getDocumentElement().getAttribute("viewBox"));
+    }
+
+    @Test
+    public void testWriteDiagramWithScaleFactor() throws Exception {
+        Document document = writeDiagram(createModel(0, 0), new ProcessDiagramSvgWriter(null, null, 2.0));
+        Element svg = document.getDocumentElement();
+
+        assertEquals("195 45 345 95", svg.getAttribute("viewBox"));
+        assertEquals("690", svg.getAttribute("width"));
+        assertEquals("190", svg.getAttribute("height"));
+    }
+
+    @Test
+    public void testWriteDiagramWithQuotesInFontName() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ProcessDiagramSvgWriter("Font's \"name\"", "]]>").writeDiagram(createModel(0, 0), out);
+        String svg = new String(out.toByteArray(), StandardCharsets.UTF_8);
+
+        assertFalse(svg.contains("&apos;"));
+        assertTrue(svg.contains("font-family: \"Font\\27 s \\22 name\\22 \";"));
+        assertTrue(svg.contains("font-family: \"]]\\3e \";"));
+        // the document must still be well-formed
+        parse(out.toByteArray());
+    }
+
+    @Test
+    public void testGenerateSvgDiagram() throws Exception {
+        InputStream diagram = new DefaultProcessDiagramGenerator().generateDiagram(createModel(0, 0), "svg", Collections.singletonList("task"),
+                Collections.<String>emptyList(), null, null, null, null, 1.5, false);
+
+        Element svg = parse(toByteArray(diagram)).getDocumentElement();
+        assertEquals("518", svg.getAttribute("width"));
+    }
+
+    @Test
+    public void testStaticLayerCache() throws Exception {
+        BpmnModel bpmnModel = createModel(0, 0);
+        DefaultProcessDiagramGenerator cachingGenerator = new DefaultProcessDiagramGenerator().setStaticLayerCacheEnabled(true);
+
+        BufferedImage uncached = ImageIO.read(new DefaultProcessDiagramGenerator().generateDiagram(bpmnModel, "png",
+                Collections.singletonList("task"), Collections.singletonList("flow1"), false));
+        BufferedImage first = ImageIO.read(cachingGenerator.generateDiagram(bpmnModel, "png",
+                Collections.singletonList("task"), Collections.singletonList("flow1"), false));
+        BufferedImage second = ImageIO.read(cachingGenerator.generateDiagram(bpmnModel, "png",
+                Collections.singletonList("end"), Collections.<String>emptyList(), false));
+
+        assertEquals(1, cachingGenerator.staticLayerCache.get(bpmnModel).size());
+        assertEquals(uncached.getWidth(), first.getWidth());
+        assertEquals(uncached.getHeight(), first.getHeight());
+        assertEquals(uncached.getWidth(), second.getWidth());
+        assertEquals(uncached.getHeight(), second.getHeight());
+
+        cachingGenerator.clearStaticLayerCache();
+        assertTrue(cachingGenerator.staticLayerCache.isEmpty());
+    }
+
+    protected BpmnModel createModel(double offsetX, double offsetY) {
+        BpmnModel bpmnModel = new BpmnModel();
+        Process process = new Process();
+        process.setId("process");
+        bpmnModel.addProcess(process);
+
+        StartEvent startEvent = new StartEvent();
+        startEvent.setId("start");
+        UserTask userTask = new UserTask();
+        userTask.setId("task");
+        userTask.setName("User's task");
+        EndEvent endEvent = new EndEvent();
+        endEvent.setId("end");
+
+        addFlowNode(bpmnModel, process, startEvent, new GraphicInfo(offsetX + 200, offsetY + 75, 30, 30));
+        addFlowNode(bpmnModel, process, userTask, new GraphicInfo(offsetX + 300, offsetY + 50, 80, 100));
+        addFlowNode(bpmnModel, process, endEvent, new GraphicInfo(offsetX + 500, offsetY + 75, 30, 30));
+
+        addSequenceFlow(bpmnModel, process, "flow1", startEvent, userTask, offsetX, offsetY, 230, 300);
+        addSequenceFlow(bpmnModel, process, "flow2", userTask, endEvent, offsetX, offsetY, 400, 500);
+        return bpmnModel;
+    }
+
+    protected void addFlowNode(BpmnModel bpmnModel, Process process, FlowNode flowNode, GraphicInfo graphicInfo) {
+        process.addFlowElement(flowNode);
+        bpmnModel.addGraphicInfo(flowNode.getId(), graphicInfo);
+    }
+
+    protected void addSequenceFlow(BpmnModel bpmnModel, Process process, String id, FlowNode source, FlowNode target,
+            double offsetX, double offsetY, double startX, double endX) {
+
+        SequenceFlow sequenceFlow = new SequenceFlow(source.getId(), target.getId());
+        sequenceFlow.setId(id);
+        sequenceFlow.setSourceFlowElement(source);
+        sequenceFlow.setTargetFlowElement(target);
+        source.getOutgoingFlows().add(sequenceFlow);
+        target.getIncomingFlows().add(sequenceFlow);
+        process.addFlowElement(sequenceFlow);
+        bpmnModel.addFlowGraphicInfoList(id, Arrays.asList(new GraphicInfo(offsetX + startX, offsetY + 90), new GraphicInfo(offsetX + endX, offsetY + 90)));
+    }
+
+    protected Document writeDiagram(BpmnModel bpmnModel, ProcessDiagramSvgWriter writer, String... highLightedElements) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeDiagram(bpmnModel, Arrays.asList(highLightedElements), Arrays.asList(highLightedElements), out);
+        return parse(out.toByteArray());
+    }
+
+    protected Document parse(byte[] svg) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(svg));
+    }
+
+    protected byte[] toByteArray(InputStream inputStream) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    protected Element findElement(Document document, String tagName, String attributeName, String attributeValue) {
+        for (int i = 0; i < document.getElementsByTagName(tagName).getLength(); i++) {
+            Element element = (Element) document.getElementsByTagName(tagName).item(i);
+            if (attributeValue.equals(element.getAttribute(attributeName))) {
+                return element;
+            }
+        }
+        return null;
+    }
+
+}
@@ -12,11 +12,13 @@
  */
 package org.flowable.job.service;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
@@ -70,6 +72,13 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     public static String JOB_EXECUTION_SCOPE_ALL = "all";
     public static String JOB_EXECUTION_SCOPE_CMMN = "cmmn";
 
+    /**
+     * The scope types of process engine jobs that are executed together with the jobs without a scope type
+     * when no job execution scope is set, like the process engine does.
+     */
+    public static List<String> PROCESS_JOB_SCOPE_TYPES = Collections.unmodifiableList(Arrays.asList(
+            ScopeTypes.BPMN_EVENT_BROADCAST, ScopeTypes.BPMN_MULTI_INSTANCE_PARTITION, ScopeTypes.BPMN_BATCH));
+
     // SERVICES
     // /////////////////////////////////////////////////////////////////
 
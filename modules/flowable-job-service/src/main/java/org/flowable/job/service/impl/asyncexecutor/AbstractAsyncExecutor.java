@@ -63,6 +63,14 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int resetExpiredJobsInterval = 60 * 1000;
     protected int resetExpiredJobsPageSize = 3;
 
+    /**
+     * If true, the process instance (or scope) lock of an exclusive job is taken in the transaction that executes the job,
+     * instead of in a separate transaction up front. This saves a transaction per exclusive job, but the database row lock
+     * of the process instance is then held until the job transaction commits, so concurrent updates of the process instance
+     * (including lock attempts of other nodes) wait for the whole job instead of failing fast. Only suited for short jobs.
+     */
+    protected boolean lockExclusiveJobsInJobTransaction;
+
     // Job queue used when async executor is not yet started and jobs are already added.
     // This is mainly used for testing purpose.
     protected LinkedList<JobInfo> temporaryJobQueue = new LinkedList<>();
@@ -96,7 +104,9 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
     protected Runnable createRunnableForJob(final JobInfo job) {
         if (executeAsyncRunnableFactory == null) {
-            return new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler);
+            ExecuteAsyncRunnable executeAsyncRunnable = new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler);
+            executeAsyncRunnable.setLockInJobTransaction(lockExclusiveJobsInJobTransaction);
+            return executeAsyncRunnable;
         } else {
             return executeAsyncRunnableFactory.createExecuteAsyncRunnable(job, jobServiceConfiguration);
         }
@@ -385,4 +395,12 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         return resetExpiredJobsRunnable;
     }
     
+    public boolean isLockExclusiveJobsInJobTransaction() {
+        return lockExclusiveJobsInJobTransaction;
+    }
+
+    public void setLockExclusiveJobsInJobTransaction(boolean lockExclusiveJobsInJobTransaction) {
+        this.lockExclusiveJobsInJobTransaction = lockExclusiveJobsInJobTransaction;
+    }
+
 }
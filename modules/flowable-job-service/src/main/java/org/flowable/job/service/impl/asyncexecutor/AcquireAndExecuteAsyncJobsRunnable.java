@@ -0,0 +1,196 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.common.engine.impl.Page;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Worker that acquires a small batch of executable jobs and executes them on its own thread.
+ * 
+ * The workers of one async executor read the same page of executable jobs, which is partitioned between them on the job id
+ * so that they never compete for the same rows. The jobs of the own partition are locked in one short transaction
+ * (a conditional update per job, which skips jobs that were locked in the meantime by another node) that is committed
+ * before any of the jobs is executed, so no row lock is held during job execution. The locked jobs are then executed one by one
+ * through a regular {@link ExecuteAsyncRunnable}, so each job still runs in its own transaction.
+ * 
+ * Compared to the {@link AcquireAsyncJobsDueRunnable}, this only saves the handoff to the thread pool.
+ * Acquisition and execution are not done in one transaction.
+ */
+public class AcquireAndExecuteAsyncJobsRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AcquireAndExecuteAsyncJobsRunnable.class);
+
+    protected String name;
+    protected final int workerIndex;
+    protected final int workerCount;
+    protected final AsyncExecutor asyncExecutor;
+    protected final JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    protected final AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler;
+
+    protected volatile boolean isInterrupted;
+    protected final Object MONITOR = new Object();
+    protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
+
+    public AcquireAndExecuteAsyncJobsRunnable(String name, AsyncExecutor asyncExecutor, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
+            AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler) {
+        this(name, 0, 1, asyncExecutor, jobEntityManager, asyncRunnableExecutionExceptionHandler);
+    }
+
+    public AcquireAndExecuteAsyncJobsRunnable(String name, int workerIndex, int workerCount, AsyncExecutor asyncExecutor,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager, AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler) {
+        this.name = name;
+        this.workerIndex = workerIndex;
+        this.workerCount = workerCount;
+        this.asyncExecutor = asyncExecutor;
+        this.jobEntityManager = jobEntityManager;
+        this.asyncRunnableExecutionExceptionHandler = asyncRunnableExecutionExceptionHandler;
+    }
+
+    @Override
+    public synchronized void run() {
+        LOGGER.info("starting to acquire and execute async jobs");
+        Thread.currentThread().setName(name);
+
+        CommandExecutor commandExecutor = asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
+
+        while (!isInterrupted) {
+            long millisToWait = acquireAndExecuteJobs(commandExecutor);
+            if (millisToWait > 0) {
+                sleep(millisToWait);
+            }
+        }
+        LOGGER.info("stopped acquiring and executing async jobs");
+    }
+
+    protected long acquireAndExecuteJobs(CommandExecutor commandExecutor) {
+        final int maxResults = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+        final int pageSize = maxResults * workerCount;
+        try {
+            final List<JobInfoEntity> lockedJobs = new ArrayList<>();
+            int foundJobs = commandExecutor.execute(new Command<Integer>() {
+                @Override
+                public Integer execute(CommandContext commandContext) {
+                    List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(new Page(0, pageSize));
+                    lockedJobs.addAll(lockJobsOfPartition(jobs, maxResults));
+                    return jobs.size();
+                }
+            });
+
+            EngineMetrics engineMetrics = asyncExecutor.getJobServiceConfiguration().getEngineMetrics();
+            if (engineMetrics != null) {
+                engineMetrics.recordJobAcquisition(name, lockedJobs.size());
+            }
+
+            for (JobInfoEntity job : lockedJobs) {
+                // Jobs that are locked but not executed because of the stop are picked up again once their lock has expired
+                if (isInterrupted) {
+                    break;
+                }
+                createRunnableForJob(job).run();
+            }
+
+            LOGGER.debug("Jobs acquired and executed: {}", lockedJobs.size());
+            if (foundJobs >= pageSize && !lockedJobs.isEmpty()) {
+                // the maximum amount of jobs were found, so we can expect more.
+                // When none of them could be locked (e.g. all locked by other nodes), wait as usual instead of spinning.
+                return 0L;
+            }
+
+        } catch (Throwable e) {
+            LOGGER.error("exception during async job acquisition and execution: {}", e.getMessage(), e);
+        }
+
+        return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+    }
+
+    /**
+     * Locks the jobs of this worker's partition, in id order to avoid deadlocks with other nodes.
+     * A job that is locked in the meantime by another node is skipped instead of waited for.
+     */
+    protected List<JobInfoEntity> lockJobsOfPartition(List<? extends JobInfoEntity> jobs, int maxResults) {
+        List<JobInfoEntity> partition = new ArrayList<>();
+        for (JobInfoEntity job : jobs) {
+            if (isInPartition(job)) {
+                partition.add(job);
+            }
+        }
+        partition.sort(Comparator.comparing(JobInfoEntity::getId));
+
+        Date lockExpirationTime = new Date(asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime()
+                + asyncExecutor.getAsyncJobLockTimeInMillis());
+        String lockOwner = asyncExecutor.getLockOwner();
+
+        List<JobInfoEntity> lockedJobs = new ArrayList<>();
+        for (JobInfoEntity job : partition) {
+            if (lockedJobs.size() >= maxResults) {
+                break;
+            }
+            if (jobEntityManager.lockJobIfUnlocked(job.getId(), lockOwner, lockExpirationTime)) {
+                job.setLockOwner(lockOwner);
+                job.setLockExpirationTime(lockExpirationTime);
+                lockedJobs.add(job);
+            }
+        }
+        return lockedJobs;
+    }
+
+    protected boolean isInPartition(JobInfoEntity job) {
+        return workerCount <= 1 || Math.floorMod(job.getId().hashCode(), workerCount) == workerIndex;
+    }
+
+    protected ExecuteAsyncRunnable createRunnableForJob(JobInfoEntity job) {
+        return new ExecuteAsyncRunnable(job, asyncExecutor.getJobServiceConfiguration(), jobEntityManager, asyncRunnableExecutionExceptionHandler);
+    }
+
+    public void stop() {
+        synchronized (MONITOR) {
+            isInterrupted = true;
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
+    protected void sleep(long millisToWait) {
+        try {
+            synchronized (MONITOR) {
+                if (!isInterrupted) {
+                    isWaiting.set(true);
+                    MONITOR.wait(millisToWait);
+                }
+            }
+
+        } catch (InterruptedException e) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("async job acquire and execute wait interrupted");
+            }
+        } finally {
+            isWaiting.set(false);
+        }
+    }
+
+}
@@ -18,6 +18,7 @@ import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.slf4j.Logger;
@@ -57,6 +58,11 @@ public class AcquireTimerJobsRunnable implements Runnable {
             try {
                 final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
 
+                EngineMetrics engineMetrics = asyncExecutor.getJobServiceConfiguration().getEngineMetrics();
+                if (engineMetrics != null) {
+                    engineMetrics.recordJobAcquisition("flowable-acquire-timer-jobs", acquiredJobs.size());
+                }
+
                 commandExecutor.execute(new Command<Void>() {
 
                     @Override
@@ -12,8 +12,11 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -23,7 +26,9 @@ import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
 import org.flowable.job.service.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -101,10 +106,42 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     
     protected String threadPoolNamingPattern = "flowable-async-job-executor-thread-%d";
 
+    /**
+     * If true, exclusive jobs are not handed to the thread pool directly, but to one of a fixed number of serial executors,
+     * picked by the hash of the process instance (or scope) id. Exclusive jobs of the same instance are then never executed
+     * concurrently on this node, so they don't contend for the instance lock.
+     */
+    protected boolean exclusiveJobAffinityEnabled;
+
+    /**
+     * The number of serial executors used for exclusive job affinity. When not set, the max pool size is used.
+     */
+    protected int exclusiveJobAffinitySlots = -1;
+
+    protected SerialExecutor[] exclusiveJobExecutors;
+
+    /**
+     * If true, no acquisition thread is started. Instead, a number of worker threads each lock a small batch of jobs
+     * (see {@link #getMaxAsyncJobsDuePerAcquisition()}) in a short transaction and then execute them one by one on the same thread,
+     * each job in its own transaction like with the thread pool.
+     * The page of executable jobs is partitioned between the worker threads, so they don't compete for the same job locks.
+     * Jobs that are handed to this executor when they are created still go through the thread pool.
+     */
+    protected boolean fusedJobAcquisitionEnabled;
+
+    /**
+     * The number of worker threads used when fused job acquisition is enabled. When not set, the core pool size is used.
+     */
+    protected int fusedJobAcquisitionThreads = -1;
+
+    protected List<AcquireAndExecuteAsyncJobsRunnable> fusedJobAcquisitionRunnables = new ArrayList<>();
+    protected List<Thread> fusedJobAcquisitionWorkerThreads = new ArrayList<>();
+
     @Override
     protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
         try {
-            executorService.execute(runnable);
+            Executor executor = getExecutorForJob(job);
+            executor.execute(runnable);
             return true;
         } catch (RejectedExecutionException e) {
             unacquireJobAfterRejection(job);
@@ -114,6 +151,17 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    protected Executor getExecutorForJob(JobInfo job) {
+        if (exclusiveJobExecutors != null && job instanceof AbstractRuntimeJobEntity && ((AbstractRuntimeJobEntity) job).isExclusive()) {
+            AbstractRuntimeJobEntity runtimeJob = (AbstractRuntimeJobEntity) job;
+            String instanceId = runtimeJob.getProcessInstanceId() != null ? runtimeJob.getProcessInstanceId() : runtimeJob.getScopeId();
+            if (instanceId != null) {
+                return exclusiveJobExecutors[Math.floorMod(instanceId.hashCode(), exclusiveJobExecutors.length)];
+            }
+        }
+        return executorService;
+    }
+
     protected void unacquireJobAfterRejection(final JobInfo job) {
         // When a RejectedExecutionException is caught, this means that the queue for holding the jobs
         // that are to be executed is full and can't store more.
@@ -177,6 +225,22 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
             BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern(threadPoolNamingPattern).build();
             executorService = new ThreadPoolExecutor(corePoolSize, maxPoolSize, keepAliveTime, TimeUnit.MILLISECONDS, threadPoolQueue, threadFactory);
         }
+
+        if (exclusiveJobAffinityEnabled && exclusiveJobExecutors == null) {
+            int slots = exclusiveJobAffinitySlots > 0 ? exclusiveJobAffinitySlots : maxPoolSize;
+            LOGGER.info("Creating {} serial executors for exclusive job affinity", slots);
+
+            exclusiveJobExecutors = new SerialExecutor[slots];
+            for (int i = 0; i < slots; i++) {
+                exclusiveJobExecutors[i] = new SerialExecutor(executorService, queueSize);
+            }
+        }
+
+        EngineMetrics engineMetrics = jobServiceConfiguration.getEngineMetrics();
+        if (engineMetrics != null) {
+            String executorName = acquireRunnableThreadName != null ? acquireRunnableThreadName : "flowable-acquire-async-jobs";
+            engineMetrics.registerJobQueueSize(executorName, () -> threadPoolQueue != null ? threadPoolQueue.size() : 0);
+        }
     }
 
     protected void stopExecutingAsyncJobs() {
@@ -195,12 +259,16 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
             }
 
             executorService = null;
+            exclusiveJobExecutors = null;
         }
     }
 
     /** Starts the acquisition thread */
     protected void startJobAcquisitionThread() {
-        if (isAsyncJobAcquisitionEnabled) {
+        if (isAsyncJobAcquisitionEnabled && fusedJobAcquisitionEnabled) {
+            startFusedJobAcquisitionThreads();
+
+        } else if (isAsyncJobAcquisitionEnabled) {
             if (asyncJobAcquisitionThread == null) {
                 asyncJobAcquisitionThread = new Thread(asyncJobsDueRunnable);
             }
@@ -208,6 +276,21 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    protected void startFusedJobAcquisitionThreads() {
+        int threads = fusedJobAcquisitionThreads > 0 ? fusedJobAcquisitionThreads : corePoolSize;
+        LOGGER.info("Starting {} threads to acquire and execute async jobs", threads);
+
+        String baseName = acquireRunnableThreadName != null ? acquireRunnableThreadName : "flowable-acquire-and-execute-async-jobs";
+        for (int i = 0; i < threads; i++) {
+            AcquireAndExecuteAsyncJobsRunnable runnable = new AcquireAndExecuteAsyncJobsRunnable(baseName + "-" + i, i, threads, this,
+                    jobEntityManager != null ? jobEntityManager : jobServiceConfiguration.getJobEntityManager(), asyncRunnableExecutionExceptionHandler);
+            Thread thread = new Thread(runnable);
+            fusedJobAcquisitionRunnables.add(runnable);
+            fusedJobAcquisitionWorkerThreads.add(thread);
+            thread.start();
+        }
+    }
+
     protected void startTimerAcquisitionThread() {
         if (isTimerJobAcquisitionEnabled) {
             if (timerJobAcquisitionThread == null) {
@@ -219,6 +302,19 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     /** Stops the acquisition thread */
     protected void stopJobAcquisitionThread() {
+        for (AcquireAndExecuteAsyncJobsRunnable runnable : fusedJobAcquisitionRunnables) {
+            runnable.stop();
+        }
+        for (Thread thread : fusedJobAcquisitionWorkerThreads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while waiting for an async job acquire and execute thread to terminate", e);
+            }
+        }
+        fusedJobAcquisitionRunnables.clear();
+        fusedJobAcquisitionWorkerThreads.clear();
+
         if (asyncJobAcquisitionThread != null) {
             try {
                 asyncJobAcquisitionThread.join();
@@ -393,4 +489,36 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         this.threadPoolNamingPattern = threadPoolNamingPattern;
     }
     
+    public boolean isExclusiveJobAffinityEnabled() {
+        return exclusiveJobAffinityEnabled;
+    }
+
+    public void setExclusiveJobAffinityEnabled(boolean exclusiveJobAffinityEnabled) {
+        this.exclusiveJobAffinityEnabled = exclusiveJobAffinityEnabled;
+    }
+
+    public int getExclusiveJobAffinitySlots() {
+        return exclusiveJobAffinitySlots;
+    }
+
+    public void setExclusiveJobAffinitySlots(int exclusiveJobAffinitySlots) {
+        this.exclusiveJobAffinitySlots = exclusiveJobAffinitySlots;
+    }
+
+    public boolean isFusedJobAcquisitionEnabled() {
+        return fusedJobAcquisitionEnabled;
+    }
+
+    public void setFusedJobAcquisitionEnabled(boolean fusedJobAcquisitionEnabled) {
+        this.fusedJobAcquisitionEnabled = fusedJobAcquisitionEnabled;
+    }
+
+    public int getFusedJobAcquisitionThreads() {
+        return fusedJobAcquisitionThreads;
+    }
+
+    public void setFusedJobAcquisitionThreads(int fusedJobAcquisitionThreads) {
+        this.fusedJobAcquisitionThreads = fusedJobAcquisitionThreads;
+    }
+
 }
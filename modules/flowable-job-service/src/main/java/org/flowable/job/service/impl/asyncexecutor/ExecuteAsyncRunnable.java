@@ -20,6 +20,7 @@ import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
@@ -48,6 +49,9 @@ public class ExecuteAsyncRunnable implements Runnable {
     protected JobServiceConfiguration jobServiceConfiguration;
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
     protected List<AsyncRunnableExecutionExceptionHandler> asyncRunnableExecutionExceptionHandlers;
+    protected boolean lockInJobTransaction;
+
+    protected boolean jobFailed;
 
     public ExecuteAsyncRunnable(String jobId, JobServiceConfiguration jobServiceConfiguration,
             JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
@@ -105,9 +109,39 @@ public class ExecuteAsyncRunnable implements Runnable {
             }
         }
 
+        EngineMetrics engineMetrics = jobServiceConfiguration.getEngineMetrics();
+        if (engineMetrics == null || job == null) {
+            runJob();
+            return;
+        }
+
+        if (job instanceof HistoryJob && ((HistoryJob) job).getCreateTime() != null) {
+            engineMetrics.recordAsyncHistoryLag(jobServiceConfiguration.getClock().getCurrentTime().getTime() - ((HistoryJob) job).getCreateTime().getTime());
+        }
+
+        jobFailed = false;
+        long startTime = System.nanoTime();
+        try {
+            runJob();
+
+        } catch (RuntimeException e) {
+            jobFailed = true;
+            throw e;
+
+        } finally {
+            engineMetrics.recordJobExecution(job.getJobHandlerType(), System.nanoTime() - startTime, jobFailed);
+        }
+    }
+
+    protected void runJob() {
         if (job instanceof AbstractRuntimeJobEntity) {
 
             boolean lockingNeeded = ((AbstractRuntimeJobEntity) job).isExclusive();
+            if (lockingNeeded && lockInJobTransaction) {
+                executeJobWithLock();
+                return;
+            }
+
             boolean executeJob = true;
             if (lockingNeeded) {
                 executeJob = lockJob();
@@ -159,6 +193,56 @@ public class ExecuteAsyncRunnable implements Runnable {
         }
     }
 
+    /**
+     * Locks the process instance (or scope), executes the job and unlocks again, all in one transaction.
+     * When the lock can't be taken, nothing is executed and the job is released so it can be acquired again.
+     * 
+     * Compared to the default of {@link #lockJob()} in its own short transaction, this saves a transaction per exclusive job,
+     * but the database row lock taken by the lock update is only released when the job transaction commits. Until then,
+     * any other transaction that updates the process instance row waits on the database instead of failing fast:
+     * another node trying to lock the same process instance, but also e.g. a user completing a task of it.
+     * This only pays off for short jobs, ideally together with exclusive job affinity so threads of the same node
+     * don't compete for the same process instance.
+     */
+    protected void executeJobWithLock() {
+        boolean executed;
+        try {
+            executed = jobServiceConfiguration.getCommandExecutor().execute(new Command<Boolean>() {
+                @Override
+                public Boolean execute(CommandContext commandContext) {
+                    try {
+                        new LockExclusiveJobCmd((Job) job).execute(commandContext);
+                    } catch (FlowableOptimisticLockingException e) {
+                        LOGGER.debug("Could not lock exclusive job {}: {}", jobId, e.getMessage());
+                        return false;
+                    }
+
+                    new ExecuteAsyncJobCmd(jobId, jobEntityManager).execute(commandContext);
+                    new UnlockExclusiveJobCmd((Job) job).execute(commandContext);
+                    return true;
+                }
+            });
+
+        } catch (final FlowableOptimisticLockingException e) {
+            try {
+                handleFailedJob(e);
+            } catch (Exception fe) {
+                // no additional handling is needed
+            }
+            LOGGER.debug("Optimistic locking exception during job execution: {}", e.getMessage());
+            return;
+
+        } catch (Throwable exception) {
+            handleFailedJob(exception);
+            return;
+        }
+
+        if (!executed) {
+            // Release the job again so it can be acquired later or by another node
+            unacquireJob();
+        }
+    }
+
     protected void unlockJobIfNeeded() {
         if (this.job instanceof HistoryJob) {
             return;
@@ -219,6 +303,7 @@ public class ExecuteAsyncRunnable implements Runnable {
     }
 
     protected void handleFailedJob(final Throwable exception) {
+        jobFailed = true;
         for (AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler : asyncRunnableExecutionExceptionHandlers) {
             if (asyncRunnableExecutionExceptionHandler.handleException(this.jobServiceConfiguration, this.job, exception)) {
                 
@@ -233,4 +318,12 @@ public class ExecuteAsyncRunnable implements Runnable {
         throw new FlowableException("Unable to handle exception " + exception.getMessage() + " for job " + job.getId() + ".", exception);
     }
 
+    public boolean isLockInJobTransaction() {
+        return lockInJobTransaction;
+    }
+
+    public void setLockInJobTransaction(boolean lockInJobTransaction) {
+        this.lockInJobTransaction = lockInJobTransaction;
+    }
+
 }
@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link Executor} that runs the submitted runnables one after the other, in submission order, on a thread of the wrapped executor.
+ * While it has work, the serial executor keeps the thread it was given, so no resubmission to the wrapped executor can fail halfway.
+ */
+public class SerialExecutor implements Executor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SerialExecutor.class);
+
+    protected final Executor executor;
+    protected final int maxQueueSize;
+    protected final Queue<Runnable> runnables = new ArrayDeque<>();
+    protected boolean running;
+
+    public SerialExecutor(Executor executor, int maxQueueSize) {
+        this.executor = executor;
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    /**
+     * @throws RejectedExecutionException when the queue of this serial executor is full, or the wrapped executor doesn't accept it.
+     */
+    @Override
+    public synchronized void execute(Runnable runnable) {
+        if (runnables.size() >= maxQueueSize) {
+            throw new RejectedExecutionException("Serial executor queue is full");
+        }
+
+        if (!running) {
+            // Done while holding the lock: the drain can't see an empty queue before the runnable is added
+            executor.execute(this::drain);
+            running = true;
+        }
+        runnables.add(runnable);
+    }
+
+    protected void drain() {
+        Runnable runnable = next();
+        while (runnable != null) {
+            try {
+                runnable.run();
+            } catch (Throwable t) {
+                LOGGER.error("Exception while executing serially scheduled runnable", t);
+            }
+            runnable = next();
+        }
+    }
+
+    protected synchronized Runnable next() {
+        Runnable runnable = runnables.poll();
+        if (runnable == null) {
+            running = false;
+        }
+        return runnable;
+    }
+
+    public synchronized int getQueueSize() {
+        return runnables.size();
+    }
+
+}
@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.calendar.BusinessCalendar;
+import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.TimerJobQueryImpl;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+
+/**
+ * Makes sure there is exactly one repeating history cleanup timer job of the given handler type when history cleaning is enabled,
+ * following the given time cycle, and none when it is disabled (time cycle null). Executed when an engine is built.
+ */
+public class HandleHistoryCleanupTimerJobCmd implements Command<Void> {
+
+    protected String jobHandlerType;
+    protected String scopeType;
+    protected String timeCycleConfig;
+
+    public HandleHistoryCleanupTimerJobCmd(String jobHandlerType, String scopeType, String timeCycleConfig) {
+        this.jobHandlerType = jobHandlerType;
+        this.scopeType = scopeType;
+        this.timeCycleConfig = timeCycleConfig;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getJobServiceConfiguration(commandContext);
+        TimerJobService timerJobService = jobServiceConfiguration.getTimerJobService();
+
+        boolean timerJobFound = false;
+        List<Job> timerJobs = new TimerJobQueryImpl(commandContext).handlerType(jobHandlerType).list();
+        for (Job timerJob : timerJobs) {
+            if (!timerJobFound && timeCycleConfig != null && timeCycleConfig.equals(((TimerJobEntity) timerJob).getRepeat())) {
+                timerJobFound = true;
+            } else {
+                // history cleaning was disabled, or the time cycle has changed
+                timerJobService.deleteTimerJob((TimerJobEntity) timerJob);
+            }
+        }
+
+        if (!timerJobFound && timeCycleConfig != null) {
+            BusinessCalendar businessCalendar = jobServiceConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+
+            TimerJobEntity timerJob = timerJobService.createTimerJob();
+            timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+            timerJob.setRevision(1);
+            timerJob.setJobHandlerType(jobHandlerType);
+            timerJob.setScopeType(scopeType);
+            timerJob.setRepeat(timeCycleConfig);
+            timerJob.setRetries(jobServiceConfiguration.getAsyncExecutorNumberOfRetries());
+            timerJob.setDuedate(businessCalendar.resolveDuedate(timeCycleConfig));
+            timerJobService.scheduleTimerJob(timerJob);
+        }
+
+        return null;
+    }
+
+}
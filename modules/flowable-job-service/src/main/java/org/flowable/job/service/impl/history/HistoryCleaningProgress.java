@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.flowable.common.engine.api.FlowableException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * The progress of a history cleanup run, which is passed from one chunk job to the next as job configuration.
+ */
+public class HistoryCleaningProgress {
+
+    protected static final String PROPERTY_START_TIME = "startTime";
+    protected static final String PROPERTY_WINDOW_END_TIME = "windowEndTime";
+    protected static final String PROPERTY_CHUNKS = "chunks";
+    protected static final String PROPERTY_DELETED_INSTANCES = "deletedInstances";
+
+    protected long startTime;
+    protected long windowEndTime;
+    protected int chunks;
+    protected Map<String, Long> deletedInstances = new TreeMap<>();
+
+    protected HistoryCleaningProgress() {
+    }
+
+    public HistoryCleaningProgress(Date startTime, int windowInMinutes) {
+        this.startTime = startTime.getTime();
+        this.windowEndTime = this.startTime + windowInMinutes * 60_000L;
+    }
+
+    public boolean isWindowEnded(Date now) {
+        return now.getTime() >= windowEndTime;
+    }
+
+    public void addDeletedInstances(String scopeType, int instances) {
+        deletedInstances.merge(scopeType, (long) instances, Long::sum);
+    }
+
+    public void chunkFinished() {
+        chunks++;
+    }
+
+    public long getTotalDeletedInstances() {
+        long total = 0L;
+        for (Long instances : deletedInstances.values()) {
+            total += instances;
+        }
+        return total;
+    }
+
+    public String getSummary(Date now) {
+        long durationInMillis = Math.max(now.getTime() - startTime, 1L);
+        return "deleted the history of " + deletedInstances + " root instances in " + chunks + " chunks and " + (durationInMillis / 1000L)
+                + " s (" + (getTotalDeletedInstances() * 1000L / durationInMillis) + " instances/s)";
+    }
+
+    public String toJson(ObjectMapper objectMapper) {
+        ObjectNode jsonNode = objectMapper.createObjectNode();
+        jsonNode.put(PROPERTY_START_TIME, startTime);
+        jsonNode.put(PROPERTY_WINDOW_END_TIME, windowEndTime);
+        jsonNode.put(PROPERTY_CHUNKS, chunks);
+        ObjectNode deletedInstancesNode = jsonNode.putObject(PROPERTY_DELETED_INSTANCES);
+        for (Map.Entry<String, Long> entry : deletedInstances.entrySet()) {
+            deletedInstancesNode.put(entry.getKey(), entry.getValue());
+        }
+        return jsonNode.toString();
+    }
+
+    public static HistoryCleaningProgress fromJson(String configuration, ObjectMapper objectMapper) {
+        JsonNode jsonNode;
+        try {
+            jsonNode = objectMapper.readTree(configuration);
+        } catch (IOException e) {
+            throw new FlowableException("Invalid history cleanup job configuration " + configuration, e);
+        }
+
+        HistoryCleaningProgress progress = new HistoryCleaningProgress();
+        progress.startTime = jsonNode.path(PROPERTY_START_TIME).asLong();
+        progress.windowEndTime = jsonNode.path(PROPERTY_WINDOW_END_TIME).asLong();
+        progress.chunks = jsonNode.path(PROPERTY_CHUNKS).asInt();
+        Iterator<Map.Entry<String, JsonNode>> deletedInstancesFields = jsonNode.path(PROPERTY_DELETED_INSTANCES).fields();
+        while (deletedInstancesFields.hasNext()) {
+            Map.Entry<String, JsonNode> field = deletedInstancesFields.next();
+            progress.deletedInstances.put(field.getKey(), field.getValue().asLong());
+        }
+        return progress;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public Map<String, Long> getDeletedInstances() {
+        return deletedInstances;
+    }
+
+}
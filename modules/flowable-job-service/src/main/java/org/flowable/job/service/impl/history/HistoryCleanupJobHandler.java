@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.history.HistoryCleaningManager;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base class for the job handlers that delete expired history in chunks.
+ *
+ * The repeating timer job of an engine starts a cleanup run. Every chunk of the run deletes the history of at most batch size
+ * expired root instances per {@link HistoryCleaningManager}, and is executed as a separate job and so in its own transaction.
+ * As long as expired instances are left and the maintenance window of the run has not ended, a job is created for the next chunk,
+ * carrying the {@link HistoryCleaningProgress} of the run in its configuration.
+ */
+public abstract class HistoryCleanupJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistoryCleanupJobHandler.class);
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        AbstractEngineConfiguration engineConfiguration = commandContext.getCurrentEngineConfiguration();
+        JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getJobServiceConfiguration(commandContext);
+        Date now = jobServiceConfiguration.getClock().getCurrentTime();
+
+        HistoryCleaningProgress progress;
+        if (configuration == null) {
+            // executed by the repeating timer job, which starts a new run
+            progress = new HistoryCleaningProgress(now, engineConfiguration.getHistoryCleaningWindowInMinutes());
+        } else {
+            progress = HistoryCleaningProgress.fromJson(configuration, jobServiceConfiguration.getObjectMapper());
+        }
+
+        if (progress.isWindowEnded(now)) {
+            LOGGER.info("History cleanup reached the end of its maintenance window and {}, the remaining expired history is deleted in the next run",
+                    progress.getSummary(now));
+            return;
+        }
+
+        int batchSize = engineConfiguration.getHistoryCleaningBatchSize();
+        boolean expiredHistoryLeft = false;
+        EngineMetrics engineMetrics = jobServiceConfiguration.getEngineMetrics();
+        for (HistoryCleaningManager historyCleaningManager : getHistoryCleaningManagers(commandContext)) {
+            long startTime = System.nanoTime();
+            int deletedInstances = historyCleaningManager.deleteExpiredHistory(batchSize);
+            if (engineMetrics != null) {
+                engineMetrics.recordHistoryCleanup(historyCleaningManager.getScopeType(), deletedInstances, System.nanoTime() - startTime);
+            }
+
+            progress.addDeletedInstances(historyCleaningManager.getScopeType(), deletedInstances);
+            if (deletedInstances >= batchSize) {
+                expiredHistoryLeft = true;
+            }
+        }
+        progress.chunkFinished();
+
+        if (expiredHistoryLeft) {
+            scheduleNextChunk(progress, jobServiceConfiguration);
+        } else {
+            LOGGER.info("History cleanup finished and {}", progress.getSummary(jobServiceConfiguration.getClock().getCurrentTime()));
+        }
+    }
+
+    protected void scheduleNextChunk(HistoryCleaningProgress progress, JobServiceConfiguration jobServiceConfiguration) {
+        JobService jobService = jobServiceConfiguration.getJobService();
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(getType());
+        job.setJobHandlerConfiguration(progress.toJson(jobServiceConfiguration.getObjectMapper()));
+        job.setScopeType(getJobScopeType());
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
+
+    /**
+     * @return the managers of which the expired history is deleted, in every chunk.
+     */
+    protected abstract List<HistoryCleaningManager> getHistoryCleaningManagers(CommandContext commandContext);
+
+    /**
+     * @return the scope type of the chunk jobs, so they are executed by the async executor of the engine.
+     */
+    protected abstract String getJobScopeType();
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -46,6 +47,14 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
      */
     void resetExpiredJob(String jobId);
 
+    /**
+     * Locks the job with the given id directly in the database, if it isn't locked yet.
+     * The update is executed immediately, so the row lock is held until the current transaction ends.
+     * 
+     * @return true if the job was locked, false if it was already locked or doesn't exist anymore
+     */
+    boolean lockJobIfUnlocked(String jobId, String lockOwner, Date lockExpirationTime);
+
     /**
      * Changes the tenantId for all jobs related to a given DeploymentEntity.
      */
@@ -13,6 +13,7 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -64,6 +65,11 @@ public abstract class JobInfoEntityManagerImpl<T extends JobInfoEntity> extends
         jobDataManager.resetExpiredJob(jobId);
     }
 
+    @Override
+    public boolean lockJobIfUnlocked(String jobId, String lockOwner, Date lockExpirationTime) {
+        return jobDataManager.lockJobIfUnlocked(jobId, lockOwner, lockExpirationTime);
+    }
+
     @Override
     public void updateJobTenantIdForDeployment(String deploymentId, String newTenantId) {
         jobDataManager.updateJobTenantIdForDeployment(deploymentId, newTenantId);
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -32,4 +33,6 @@ public interface JobInfoDataManager<T extends JobInfoEntity> extends DataManager
 
     void resetExpiredJob(String jobId);
 
+    boolean lockJobIfUnlocked(String jobId, String lockOwner, Date lockExpirationTime);
+
 }
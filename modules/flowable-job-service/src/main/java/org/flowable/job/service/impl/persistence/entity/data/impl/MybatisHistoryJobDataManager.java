@@ -106,14 +106,23 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         HashMap<String, Object> params = new HashMap<>();
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
-        getDbSqlSession().update("updateHistoryJobTenantIdForDeployment", params);
+        getDbSqlSession().update("updateHistoryJobTenantIdForDeployment", params, getManagedEntityClass());
     }
 
     @Override
     public void resetExpiredJob(String jobId) {
         Map<String, Object> params = new HashMap<>(2);
         params.put("id", jobId);
-        getDbSqlSession().update("resetExpiredHistoryJob", params);
+        getDbSqlSession().update("resetExpiredHistoryJob", params, getManagedEntityClass());
+    }
+
+    @Override
+    public boolean lockJobIfUnlocked(String jobId, String lockOwner, Date lockExpirationTime) {
+        Map<String, Object> params = new HashMap<>(3);
+        params.put("id", jobId);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        return getDbSqlSession().update("lockHistoryJobIfUnlocked", params, getManagedEntityClass()) == 1;
     }
 
 }
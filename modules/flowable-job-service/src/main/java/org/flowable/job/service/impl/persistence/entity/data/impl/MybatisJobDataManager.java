@@ -62,6 +62,7 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
     public List<JobEntity> findJobsToExecute(Page page) {
         HashMap<String, Object> params = new HashMap<>();
         params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+        params.put("processJobScopeTypes", JobServiceConfiguration.PROCESS_JOB_SCOPE_TYPES);
         
         return getDbSqlSession().selectList("selectJobsToExecute", params, page);
     }
@@ -89,6 +90,7 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
     public List<JobEntity> findExpiredJobs(Page page) {
         Map<String, Object> params = new HashMap<>();
         params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+        params.put("processJobScopeTypes", JobServiceConfiguration.PROCESS_JOB_SCOPE_TYPES);
         Date now = jobServiceConfiguration.getClock().getCurrentTime();
         params.put("now", now);
         Date maxTimeout = new Date(now.getTime() - jobServiceConfiguration.getAsyncExecutorResetExpiredJobsMaxTimeout());
@@ -113,7 +115,7 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         HashMap<String, Object> params = new HashMap<>();
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
-        getDbSqlSession().update("updateJobTenantIdForDeployment", params);
+        getDbSqlSession().update("updateJobTenantIdForDeployment", params, getManagedEntityClass());
     }
 
     @Override
@@ -121,7 +123,16 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         Map<String, Object> params = new HashMap<>(2);
         params.put("id", jobId);
         params.put("now", jobServiceConfiguration.getClock().getCurrentTime());
-        getDbSqlSession().update("resetExpiredJob", params);
+        getDbSqlSession().update("resetExpiredJob", params, getManagedEntityClass());
+    }
+
+    @Override
+    public boolean lockJobIfUnlocked(String jobId, String lockOwner, Date lockExpirationTime) {
+        Map<String, Object> params = new HashMap<>(3);
+        params.put("id", jobId);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        return getDbSqlSession().update("lockJobIfUnlocked", params, getManagedEntityClass()) == 1;
     }
     
     @Override
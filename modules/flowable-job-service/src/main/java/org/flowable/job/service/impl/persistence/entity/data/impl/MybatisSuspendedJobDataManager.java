@@ -77,7 +77,7 @@ public class MybatisSuspendedJobDataManager extends AbstractDataManager<Suspende
         HashMap<String, Object> params = new HashMap<>();
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
-        getDbSqlSession().update("updateSuspendedJobTenantIdForDeployment", params);
+        getDbSqlSession().update("updateSuspendedJobTenantIdForDeployment", params, getManagedEntityClass());
     }
     
 }
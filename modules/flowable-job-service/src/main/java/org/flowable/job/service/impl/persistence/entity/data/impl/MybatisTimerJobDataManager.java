@@ -75,6 +75,7 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         Map<String, Object> params = new HashMap<>(2);
         String jobExecutionScope = jobServiceConfiguration.getJobExecutionScope();
         params.put("jobExecutionScope", jobExecutionScope);
+        params.put("processJobScopeTypes", JobServiceConfiguration.PROCESS_JOB_SCOPE_TYPES);
         
         Date now = jobServiceConfiguration.getClock().getCurrentTime();
         params.put("now", now);
@@ -142,7 +143,7 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         HashMap<String, Object> params = new HashMap<>();
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
-        getDbSqlSession().update("updateTimerJobTenantIdForDeployment", params);
+        getDbSqlSession().update("updateTimerJobTenantIdForDeployment", params, getManagedEntityClass());
     }
     
 }
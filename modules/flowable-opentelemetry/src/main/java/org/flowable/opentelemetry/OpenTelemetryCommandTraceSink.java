@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.opentelemetry;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.tracing.CommandTrace;
+import org.flowable.common.engine.impl.tracing.CommandTraceSink;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+
+/**
+ * {@link CommandTraceSink} exporting the trace of a slow command as an OpenTelemetry span, with a child span per recorded entry.
+ * The command span is a child of the span that is current when the command ends, if any.
+ */
+public class OpenTelemetryCommandTraceSink implements CommandTraceSink {
+
+    public static final String INSTRUMENTATION_NAME = "org.flowable";
+
+    protected final Tracer tracer;
+
+    public OpenTelemetryCommandTraceSink(OpenTelemetry openTelemetry) {
+        this(openTelemetry.getTracer(INSTRUMENTATION_NAME));
+    }
+
+    public OpenTelemetryCommandTraceSink(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public void slowCommand(CommandTrace commandTrace) {
+        // The trace is recorded with System.nanoTime(), which only has a meaning relative to the start of the command
+        long commandEndTime = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+        long commandStartTime = commandEndTime - commandTrace.getDuration();
+
+        Span commandSpan = tracer.spanBuilder(getSimpleName(commandTrace.getCommandName()))
+            .setStartTimestamp(commandStartTime, TimeUnit.NANOSECONDS)
+            .setAttribute("flowable.command", commandTrace.getCommandName())
+            .setAttribute("flowable.trace.dropped-entries", commandTrace.getDroppedEntries())
+            .startSpan();
+
+        Context commandContext = Context.current().with(commandSpan);
+        for (int i = 0; i < commandTrace.size(); i++) {
+            long entryStartTime = commandStartTime + commandTrace.getEntryOffset(i);
+            String entryName = commandTrace.getEntryName(i);
+
+            Span entrySpan = tracer.spanBuilder(commandTrace.getEntryType(i).name().toLowerCase(Locale.ROOT) + (entryName != null ? " " + entryName : ""))
+                .setParent(commandContext)
+                .setStartTimestamp(entryStartTime, TimeUnit.NANOSECONDS)
+                .startSpan();
+            entrySpan.end(entryStartTime + commandTrace.getEntryDuration(i), TimeUnit.NANOSECONDS);
+        }
+
+        commandSpan.end(commandEndTime, TimeUnit.NANOSECONDS);
+    }
+
+    protected String getSimpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    public Tracer getTracer() {
+        return tracer;
+    }
+
+}
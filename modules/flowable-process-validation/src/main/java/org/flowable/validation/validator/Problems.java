@@ -79,6 +79,13 @@ public interface Problems {
 
     String FLOW_ELEMENT_ID_TOO_LONG = "flowable-flow-element-id-too-long";
 
+    String STRAIGHT_THROUGH_PROCESS_WAIT_STATE = "flowable-straight-through-process-wait-state";
+    String STRAIGHT_THROUGH_PROCESS_ASYNC_ACTIVITY = "flowable-straight-through-process-async-activity";
+
+    String SEARCHABLE_VARIABLE_MISSING_NAME = "flowable-searchable-variable-missing-name";
+    String SEARCHABLE_VARIABLE_DUPLICATE_NAME = "flowable-searchable-variable-duplicate-name";
+    String SEARCHABLE_VARIABLE_INVALID_TYPE = "flowable-searchable-variable-invalid-type";
+
     String SUBPROCESS_MULTIPLE_START_EVENTS = "flowable-subprocess-multiple-start-event";
 
     String SUBPROCESS_START_EVENT_EVENT_DEFINITION_NOT_ALLOWED = "flowable-subprocess-start-event-event-definition-not-allowed";
@@ -31,11 +31,13 @@ import org.flowable.validation.validator.impl.IntermediateThrowEventValidator;
 import org.flowable.validation.validator.impl.MessageValidator;
 import org.flowable.validation.validator.impl.OperationValidator;
 import org.flowable.validation.validator.impl.ScriptTaskValidator;
+import org.flowable.validation.validator.impl.SearchableVariableValidator;
 import org.flowable.validation.validator.impl.SendTaskValidator;
 import org.flowable.validation.validator.impl.SequenceflowValidator;
 import org.flowable.validation.validator.impl.ServiceTaskValidator;
 import org.flowable.validation.validator.impl.SignalValidator;
 import org.flowable.validation.validator.impl.StartEventValidator;
+import org.flowable.validation.validator.impl.StraightThroughProcessValidator;
 import org.flowable.validation.validator.impl.SubprocessValidator;
 import org.flowable.validation.validator.impl.UserTaskValidator;
 
@@ -72,6 +74,8 @@ public class ValidatorSetFactory {
         validatorSet.addValidator(new MessageValidator());
         validatorSet.addValidator(new EventValidator());
         validatorSet.addValidator(new EndEventValidator());
+        validatorSet.addValidator(new StraightThroughProcessValidator());
+        validatorSet.addValidator(new SearchableVariableValidator());
 
         validatorSet.addValidator(new ExecutionListenerValidator());
         validatorSet.addValidator(new FlowableEventListenerValidator());
@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.validation.validator.impl;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.ExtensionElement;
+import org.flowable.bpmn.model.Process;
+import org.flowable.validation.ValidationError;
+import org.flowable.validation.validator.Problems;
+import org.flowable.validation.validator.ProcessLevelValidator;
+
+/**
+ * Verifies that the searchable variables declared on a process have a name and a type that can be projected.
+ */
+public class SearchableVariableValidator extends ProcessLevelValidator {
+
+    protected static final Set<String> SUPPORTED_TYPES = new HashSet<>(Arrays.asList("string", "long", "integer", "short", "double", "boolean", "date"));
+
+    @Override
+    protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
+        List<ExtensionElement> searchableVariableElements = process.getExtensionElements().get("searchableVariable");
+        if (searchableVariableElements == null) {
+            return;
+        }
+
+        Set<String> names = new HashSet<>();
+        for (ExtensionElement searchableVariableElement : searchableVariableElements) {
+            String name = searchableVariableElement.getAttributeValue(null, "name");
+            String type = searchableVariableElement.getAttributeValue(null, "type");
+            if (StringUtils.isEmpty(name)) {
+                addError(errors, Problems.SEARCHABLE_VARIABLE_MISSING_NAME, process, process, "A searchable variable must have a name");
+
+            } else if (!names.add(name)) {
+                addError(errors, Problems.SEARCHABLE_VARIABLE_DUPLICATE_NAME, process, process, "Searchable variable '" + name + "' is declared more than once");
+
+            } else if (type == null || !SUPPORTED_TYPES.contains(type)) {
+                addError(errors, Problems.SEARCHABLE_VARIABLE_INVALID_TYPE, process, process,
+                        "Searchable variable '" + name + "' must have one of the types " + SUPPORTED_TYPES);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.validation.validator.impl;
+
+import java.util.List;
+
+import org.flowable.bpmn.model.Activity;
+import org.flowable.bpmn.model.AdhocSubProcess;
+import org.flowable.bpmn.model.BoundaryEvent;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.CallActivity;
+import org.flowable.bpmn.model.CaseServiceTask;
+import org.flowable.bpmn.model.ErrorEventDefinition;
+import org.flowable.bpmn.model.Event;
+import org.flowable.bpmn.model.EventGateway;
+import org.flowable.bpmn.model.EventSubProcess;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.IntermediateCatchEvent;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.ReceiveTask;
+import org.flowable.bpmn.model.ServiceTask;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.validation.ValidationError;
+import org.flowable.validation.validator.Problems;
+import org.flowable.validation.validator.ProcessLevelValidator;
+
+/**
+ * Verifies that a process marked as straight-through can run from start to end within one transaction:
+ * it can't contain any wait state or asynchronous continuation.
+ */
+public class StraightThroughProcessValidator extends ProcessLevelValidator {
+
+    @Override
+    protected void executeValidation(BpmnModel bpmnModel, Process process, List<ValidationError> errors) {
+        if (!process.isStraightThrough()) {
+            return;
+        }
+
+        for (FlowElement flowElement : process.findFlowElementsOfType(FlowElement.class)) {
+            if (!(flowElement instanceof FlowNode)) {
+                continue;
+            }
+
+            FlowNode flowNode = (FlowNode) flowElement;
+            if (flowNode.isAsynchronous() || isPartitionedMultiInstance(flowNode)) {
+                addError(errors, Problems.STRAIGHT_THROUGH_PROCESS_ASYNC_ACTIVITY, process, flowNode,
+                        "Asynchronous continuations are not allowed in a straight-through process");
+
+            } else if (isWaitState(flowNode)) {
+                addError(errors, Problems.STRAIGHT_THROUGH_PROCESS_WAIT_STATE, process, flowNode,
+                        "Wait states are not allowed in a straight-through process");
+            }
+        }
+    }
+
+    protected boolean isWaitState(FlowNode flowNode) {
+        if (flowNode instanceof UserTask || flowNode instanceof ReceiveTask || flowNode instanceof CallActivity
+                || flowNode instanceof CaseServiceTask || flowNode instanceof AdhocSubProcess
+                || flowNode instanceof IntermediateCatchEvent || flowNode instanceof EventGateway) {
+            return true;
+
+        } else if (flowNode instanceof ServiceTask) {
+            return ((ServiceTask) flowNode).isTriggerable();
+
+        } else if (flowNode instanceof BoundaryEvent) {
+            // Only error boundary events are caught without waiting for something to happen
+            return !isErrorEvent((BoundaryEvent) flowNode);
+
+        } else if (flowNode instanceof StartEvent && flowNode.getSubProcess() instanceof EventSubProcess) {
+            return !isErrorEvent((StartEvent) flowNode);
+
+        }
+        return false;
+    }
+
+    protected boolean isPartitionedMultiInstance(FlowNode flowNode) {
+        return flowNode instanceof Activity && ((Activity) flowNode).getLoopCharacteristics() != null
+                && ((Activity) flowNode).getLoopCharacteristics().getPartitionSize() > 0;
+    }
+
+    protected boolean isErrorEvent(Event event) {
+        return event.getEventDefinitions().size() == 1 && event.getEventDefinitions().get(0) instanceof ErrorEventDefinition;
+    }
+
+}
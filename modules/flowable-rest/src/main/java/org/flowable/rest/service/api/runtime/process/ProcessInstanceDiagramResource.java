@@ -27,17 +27,20 @@ import org.flowable.engine.RepositoryService;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.image.ProcessDiagramGenerator;
+import org.flowable.image.impl.DefaultProcessDiagramGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.InputStream;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * @author Frederik Heremans
@@ -59,7 +62,9 @@ public class ProcessInstanceDiagramResource extends BaseProcessInstanceResource
             @ApiResponse(code = 404, message = "Indicates the requested process instance was not found.")
     })
     @GetMapping(value = "/runtime/process-instances/{processInstanceId}/diagram")
-    public ResponseEntity<byte[]> getProcessInstanceDiagram(@ApiParam(name = "processInstanceId") @PathVariable String processInstanceId, HttpServletResponse response) {
+    public ResponseEntity<byte[]> getProcessInstanceDiagram(@ApiParam(name = "processInstanceId") @PathVariable String processInstanceId,
+            @ApiParam(name = "format", value = "The image format: png (default) or svg.") @RequestParam(value = "format", required = false) String format,
+            HttpServletResponse response) {
         ProcessInstance processInstance = getProcessInstanceFromRequest(processInstanceId);
 
         ProcessDefinition pde = repositoryService.getProcessDefinition(processInstance.getProcessDefinitionId());
@@ -67,7 +72,27 @@ public class ProcessInstanceDiagramResource extends BaseProcessInstanceResource
         if (pde != null && pde.hasGraphicalNotation()) {
             BpmnModel bpmnModel = repositoryService.getBpmnModel(pde.getId());
             ProcessDiagramGenerator diagramGenerator = processEngineConfiguration.getProcessDiagramGenerator();
-            InputStream resource = diagramGenerator.generateDiagram(bpmnModel, "png", runtimeService.getActiveActivityIds(processInstance.getId()), Collections.<String>emptyList(),
+            List<String> activeActivityIds = runtimeService.getActiveActivityIds(processInstance.getId());
+
+            if (DefaultProcessDiagramGenerator.SVG_IMAGE_TYPE.equalsIgnoreCase(format)) {
+                response.setContentType("image/svg+xml");
+                try {
+                    if (diagramGenerator instanceof DefaultProcessDiagramGenerator) {
+                        ((DefaultProcessDiagramGenerator) diagramGenerator).writeSvgDiagram(bpmnModel, activeActivityIds, Collections.<String>emptyList(),
+                                processEngineConfiguration.getActivityFontName(), processEngineConfiguration.getLabelFontName(), 1.0, response.getOutputStream());
+                    } else {
+                        IOUtils.copy(diagramGenerator.generateDiagram(bpmnModel, DefaultProcessDiagramGenerator.SVG_IMAGE_TYPE, activeActivityIds, Collections.<String>emptyList(),
+                                processEngineConfiguration.isDrawSequenceFlowNameWithNoLabelDI()), response.getOutputStream());
+                    }
+                    response.flushBuffer();
+                } catch (Exception e) {
+                    throw new FlowableIllegalArgumentException("Error exporting diagram", e);
+                }
+                // the diagram is already written to the response
+                return null;
+            }
+
+            InputStream resource = diagramGenerator.generateDiagram(bpmnModel, "png", activeActivityIds, Collections.<String>emptyList(),
                     processEngineConfiguration.getActivityFontName(), processEngineConfiguration.getLabelFontName(),
                     processEngineConfiguration.getAnnotationFontName(), processEngineConfiguration.getClassLoader(), 1.0,processEngineConfiguration.isDrawSequenceFlowNameWithNoLabelDI());
 
@@ -15,7 +15,11 @@ package org.flowable.rest.service.api.runtime;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -42,6 +46,20 @@ public class ProcessInstanceDiagramResourceTest extends BaseSpringRestTestCase {
         closeResponse(response);
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/rest/service/api/runtime/ProcessInstanceDiagramResourceTest.testGetProcessDiagram.bpmn20.xml")
+    public void testGetProcessDiagramAsSvg() throws Exception {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+
+        CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX
+                + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_DIAGRAM, processInstance.getId()) + "?format=svg"), HttpStatus.SC_OK);
+        assertTrue(response.getEntity().getContentType().getValue().startsWith("image/svg+xml"));
+        String svg = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
+        assertTrue(svg.contains("<svg "));
+        assertTrue(svg.contains("class=\"highlight\""));
+        closeResponse(response);
+    }
+
     @Test
     @Deployment
     public void testGetProcessDiagramWithoutDiagram() throws Exception {
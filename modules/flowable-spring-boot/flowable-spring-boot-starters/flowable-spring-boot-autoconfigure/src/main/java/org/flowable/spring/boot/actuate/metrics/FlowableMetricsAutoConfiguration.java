@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import org.flowable.cmmn.spring.SpringCmmnEngineConfiguration;
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+import org.flowable.spring.SpringProcessEngineConfiguration;
+import org.flowable.spring.boot.EngineConfigurationConfigurer;
+import org.flowable.spring.boot.ProcessEngineAutoConfiguration;
+import org.flowable.spring.boot.cmmn.CmmnEngineAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Binds the {@link EngineMetrics} of the process and CMMN engines to the Micrometer {@link MeterRegistry} of the application.
+ * Can be switched off with {@code flowable.metrics.enabled=false}.
+ */
+@Configuration
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "flowable.metrics", name = "enabled", matchIfMissing = true)
+@AutoConfigureAfter({
+    MetricsAutoConfiguration.class,
+    CompositeMeterRegistryAutoConfiguration.class
+})
+@AutoConfigureBefore({
+    ProcessEngineAutoConfiguration.class,
+    CmmnEngineAutoConfiguration.class
+})
+public class FlowableMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public EngineMetrics flowableEngineMetrics(MeterRegistry meterRegistry) {
+        return new MicrometerEngineMetrics(meterRegistry);
+    }
+
+    @Configuration
+    @ConditionalOnClass(SpringProcessEngineConfiguration.class)
+    public static class ProcessEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsProcessEngineConfigurer")
+        public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> metricsProcessEngineConfigurer(EngineMetrics engineMetrics) {
+            return processEngineConfiguration -> processEngineConfiguration.setEngineMetrics(engineMetrics);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(SpringCmmnEngineConfiguration.class)
+    public static class CmmnEngineMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "metricsCmmnEngineConfigurer")
+        public EngineConfigurationConfigurer<SpringCmmnEngineConfiguration> metricsCmmnEngineConfigurer(EngineMetrics engineMetrics) {
+            return cmmnEngineConfiguration -> cmmnEngineConfiguration.setEngineMetrics(engineMetrics);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link EngineMetrics} binding to a Micrometer {@link MeterRegistry}.
+ * The meters are cached per tag combination, as most of them are updated for every command.
+ */
+public class MicrometerEngineMetrics implements EngineMetrics {
+
+    protected final MeterRegistry registry;
+
+    protected final Map<String, Timer> commandTimers = new ConcurrentHashMap<>();
+    protected final Map<String, Counter> agendaOperationCounters = new ConcurrentHashMap<>();
+    protected final Map<String, Counter> entityCacheCounters = new ConcurrentHashMap<>();
+    protected final Map<String, Counter> optimisticLockingFailureCounters = new ConcurrentHashMap<>();
+    protected final Map<String, DistributionSummary> jobAcquisitionSummaries = new ConcurrentHashMap<>();
+    protected final Map<String, Timer> jobExecutionTimers = new ConcurrentHashMap<>();
+    protected final Map<String, Timer> historyCleanupTimers = new ConcurrentHashMap<>();
+    protected final Map<String, Counter> historyCleanupCounters = new ConcurrentHashMap<>();
+
+    protected final Timer flushTimer;
+    protected final DistributionSummary flushInsertedEntities;
+    protected final DistributionSummary flushUpdatedEntities;
+    protected final DistributionSummary flushDeletedEntities;
+    protected final DistributionSummary flushStatements;
+    protected final Timer asyncHistoryLagTimer;
+
+    public MicrometerEngineMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.flushTimer = Timer.builder("flowable.db.flush")
+            .description("Time taken to flush the changes of a command to the database")
+            .register(registry);
+        this.flushInsertedEntities = flushEntitiesSummary("insert");
+        this.flushUpdatedEntities = flushEntitiesSummary("update");
+        this.flushDeletedEntities = flushEntitiesSummary("delete");
+        this.flushStatements = DistributionSummary.builder("flowable.db.flush.statements")
+            .description("Number of sql statements executed per flush")
+            .register(registry);
+        this.asyncHistoryLagTimer = Timer.builder("flowable.history.async.lag")
+            .description("Time between the creation and the execution of an async history job")
+            .register(registry);
+    }
+
+    protected DistributionSummary flushEntitiesSummary(String operation) {
+        return DistributionSummary.builder("flowable.db.flush.entities")
+            .description("Number of entities written per flush")
+            .tag("operation", operation)
+            .register(registry);
+    }
+
+    @Override
+    public void recordCommandExecution(Class<?> commandClass, long durationInNanos, boolean failed) {
+        String command = commandClass.getSimpleName();
+        String outcome = outcome(failed);
+        commandTimers.computeIfAbsent(command + '|' + outcome, key -> Timer.builder("flowable.command")
+            .description("Execution time of engine commands")
+            .tag("command", command)
+            .tag("outcome", outcome)
+            .register(registry))
+            .record(durationInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordAgendaOperation(String operationType) {
+        agendaOperationCounters.computeIfAbsent(operationType, key -> Counter.builder("flowable.agenda.operations")
+            .description("Number of operations planned on the agenda")
+            .tag("operation", operationType)
+            .register(registry))
+            .increment();
+    }
+
+    @Override
+    public void recordFlush(int insertedEntities, int updatedEntities, int deletedEntities, int statements, long durationInNanos) {
+        flushInsertedEntities.record(insertedEntities);
+        flushUpdatedEntities.record(updatedEntities);
+        flushDeletedEntities.record(deletedEntities);
+        flushStatements.record(statements);
+        flushTimer.record(durationInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordEntityCacheLookup(Class<?> entityClass, boolean hit) {
+        String entity = entityClass.getSimpleName();
+        String result = hit ? "hit" : "miss";
+        entityCacheCounters.computeIfAbsent(entity + '|' + result, key -> Counter.builder("flowable.entity.cache.lookups")
+            .description("Number of entity lookups by id in the entity cache of a command")
+            .tag("entity", entity)
+            .tag("result", result)
+            .register(registry))
+            .increment();
+    }
+
+    @Override
+    public void recordOptimisticLockingFailure(Class<?> entityClass) {
+        String entity = entityClass.getSimpleName();
+        optimisticLockingFailureCounters.computeIfAbsent(entity, key -> Counter.builder("flowable.optimistic.locking.failures")
+            .description("Number of optimistic locking exceptions thrown when flushing an entity")
+            .tag("entity", entity)
+            .register(registry))
+            .increment();
+    }
+
+    @Override
+    public void recordJobAcquisition(String acquisitionName, int acquiredJobs) {
+        jobAcquisitionSummaries.computeIfAbsent(acquisitionName, key -> DistributionSummary.builder("flowable.job.acquisition")
+            .description("Number of jobs acquired per acquisition cycle")
+            .tag("acquisition", acquisitionName)
+            .register(registry))
+            .record(acquiredJobs);
+    }
+
+    @Override
+    public void recordJobExecution(String jobHandlerType, long durationInNanos, boolean failed) {
+        String handlerType = jobHandlerType != null ? jobHandlerType : "unknown";
+        String outcome = outcome(failed);
+        jobExecutionTimers.computeIfAbsent(handlerType + '|' + outcome, key -> Timer.builder("flowable.job.execution")
+            .description("Execution time of jobs by the async executor")
+            .tag("handler", handlerType)
+            .tag("outcome", outcome)
+            .register(registry))
+            .record(durationInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordAsyncHistoryLag(long lagInMillis) {
+        asyncHistoryLagTimer.record(lagInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordHistoryCleanup(String scopeType, int deletedInstances, long durationInNanos) {
+        historyCleanupTimers.computeIfAbsent(scopeType, key -> Timer.builder("flowable.history.cleanup")
+            .description("Execution time of a chunk of the history cleanup")
+            .tag("scope", scopeType)
+            .register(registry))
+            .record(durationInNanos, TimeUnit.NANOSECONDS);
+        historyCleanupCounters.computeIfAbsent(scopeType, key -> Counter.builder("flowable.history.cleanup.instances")
+            .description("Number of root instances of which the history was deleted by the history cleanup")
+            .tag("scope", scopeType)
+            .register(registry))
+            .increment(deletedInstances);
+    }
+
+    @Override
+    public void registerJobQueueSize(String executorName, Supplier<Number> queueSizeSupplier) {
+        Gauge.builder("flowable.job.queue.size", queueSizeSupplier, supplier -> supplier.get().doubleValue())
+            .description("Number of jobs waiting for a thread of the async executor")
+            .tag("executor", executorName)
+            .strongReference(true)
+            .register(registry);
+    }
+
+    protected String outcome(boolean failed) {
+        return failed ? "failure" : "success";
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+}
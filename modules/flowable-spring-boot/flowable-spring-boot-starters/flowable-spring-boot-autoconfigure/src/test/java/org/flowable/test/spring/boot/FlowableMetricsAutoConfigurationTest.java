@@ -0,0 +1,112 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.spring.boot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.common.engine.impl.metrics.EngineMetrics;
+import org.flowable.engine.impl.cmd.GetPropertiesCmd;
+import org.flowable.spring.SpringProcessEngineConfiguration;
+import org.flowable.spring.boot.EngineConfigurationConfigurer;
+import org.flowable.spring.boot.actuate.metrics.FlowableMetricsAutoConfiguration;
+import org.flowable.spring.boot.actuate.metrics.MicrometerEngineMetrics;
+import org.junit.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class FlowableMetricsAutoConfigurationTest {
+
+    private ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            FlowableMetricsAutoConfiguration.class
+        ));
+
+    @Test
+    public void withoutMeterRegistry() {
+        contextRunner
+            .run(context -> {
+                assertThat(context)
+                    .doesNotHaveBean(FlowableMetricsAutoConfiguration.class)
+                    .doesNotHaveBean(EngineMetrics.class);
+            });
+    }
+
+    @Test
+    public void withMeterRegistryAndMetricsDisabled() {
+        contextRunner
+            .withUserConfiguration(MeterRegistryConfiguration.class)
+            .withPropertyValues("flowable.metrics.enabled=false")
+            .run(context -> {
+                assertThat(context)
+                    .doesNotHaveBean(EngineMetrics.class);
+            });
+    }
+
+    @Test
+    public void withMeterRegistry() {
+        contextRunner
+            .withUserConfiguration(MeterRegistryConfiguration.class)
+            .run(context -> {
+                assertThat(context)
+                    .hasSingleBean(MicrometerEngineMetrics.class)
+                    .hasBean("metricsProcessEngineConfigurer")
+                    .hasBean("metricsCmmnEngineConfigurer");
+
+                EngineMetrics engineMetrics = context.getBean(EngineMetrics.class);
+                @SuppressWarnings("unchecked")
+                EngineConfigurationConfigurer<SpringProcessEngineConfiguration> metricsProcessEngineConfigurer =
+                    (EngineConfigurationConfigurer<SpringProcessEngineConfiguration>) context
+                        .getBean("metricsProcessEngineConfigurer", EngineConfigurationConfigurer.class);
+
+                SpringProcessEngineConfiguration configuration = new SpringProcessEngineConfiguration();
+                assertThat(configuration.getEngineMetrics()).isNull();
+
+                metricsProcessEngineConfigurer.configure(configuration);
+
+                assertThat(configuration.getEngineMetrics()).isSameAs(engineMetrics);
+            });
+    }
+
+    @Test
+    public void micrometerEngineMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerEngineMetrics engineMetrics = new MicrometerEngineMetrics(registry);
+
+        engineMetrics.recordCommandExecution(GetPropertiesCmd.class, 1000L, false);
+        engineMetrics.recordCommandExecution(GetPropertiesCmd.class, 1000L, false);
+        engineMetrics.recordCommandExecution(GetPropertiesCmd.class, 1000L, true);
+        engineMetrics.recordEntityCacheLookup(String.class, true);
+        engineMetrics.recordJobExecution(null, 1000L, true);
+        engineMetrics.registerJobQueueSize("test-executor", () -> 3);
+
+        assertThat(registry.get("flowable.command").tag("command", "GetPropertiesCmd").tag("outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(registry.get("flowable.command").tag("command", "GetPropertiesCmd").tag("outcome", "failure").timer().count()).isEqualTo(1);
+        assertThat(registry.get("flowable.entity.cache.lookups").tag("entity", "String").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("flowable.job.execution").tag("handler", "unknown").tag("outcome", "failure").timer().count()).isEqualTo(1);
+        assertThat(registry.get("flowable.job.queue.size").tag("executor", "test-executor").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Configuration
+    static class MeterRegistryConfiguration {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
@@ -38,6 +39,10 @@ public interface HistoricTaskService {
     
     List<HistoricTaskInstanceEntity> findHistoricTasksByProcessInstanceId(String processInstanceId);
     
+    List<String> findHistoricTaskIdsForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    List<String> findHistoricTaskIdsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+    
     List<HistoricTaskInstance> findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
     
     HistoricTaskInstanceEntity createHistoricTask();
@@ -50,6 +55,10 @@ public interface HistoricTaskService {
     
     void deleteHistoricTask(HistoricTaskInstanceEntity HistoricTaskInstance);
     
+    void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricTaskInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+    
     HistoricTaskInstanceEntity recordTaskCreated(TaskEntity task);
     
     HistoricTaskInstanceEntity recordTaskEnd(TaskEntity task, String deleteReason);
@@ -78,5 +87,7 @@ public interface HistoricTaskService {
     void deleteHistoricTaskLogEntriesForScopeDefinition(String scopeType, String scopeDefinitionId);
 
     void deleteHistoricTaskLogEntriesForTaskId(String taskId);
+    
+    void deleteHistoricTaskLogEntriesForTaskIds(Collection<String> taskIds);
 
 }
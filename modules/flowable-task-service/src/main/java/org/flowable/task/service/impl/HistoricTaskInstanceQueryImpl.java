@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -138,11 +139,26 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         this.databaseType = databaseType;
     }
 
+    @Override
+    public boolean isKeysetPagingSupported() {
+        return true;
+    }
+
     @Override
     public long executeCount(CommandContext commandContext) {
         ensureVariablesInitialized();
         checkQueryOk();
-        
+
+        List<String> restrictedProcessInstanceIds = findRestrictedProcessInstanceIds();
+        if (restrictedProcessInstanceIds == null) {
+            return doExecuteCount(commandContext);
+        } else if (restrictedProcessInstanceIds.isEmpty()) {
+            return 0L;
+        }
+        return executeRestrictedToProcessInstances(restrictedProcessInstanceIds, () -> doExecuteCount(commandContext));
+    }
+
+    protected long doExecuteCount(CommandContext commandContext) {
         TaskServiceConfiguration taskServiceConfiguration = CommandContextUtil.getTaskServiceConfiguration(commandContext);
         if (taskServiceConfiguration.getHistoricTaskQueryInterceptor() != null) {
             taskServiceConfiguration.getHistoricTaskQueryInterceptor().beforeHistoricTaskQueryExecute(this);
@@ -155,6 +171,17 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     public List<HistoricTaskInstance> executeList(CommandContext commandContext) {
         ensureVariablesInitialized();
         checkQueryOk();
+
+        List<String> restrictedProcessInstanceIds = findRestrictedProcessInstanceIds();
+        if (restrictedProcessInstanceIds == null) {
+            return doExecuteList(commandContext);
+        } else if (restrictedProcessInstanceIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return executeRestrictedToProcessInstances(restrictedProcessInstanceIds, () -> doExecuteList(commandContext));
+    }
+
+    protected List<HistoricTaskInstance> doExecuteList(CommandContext commandContext) {
         List<HistoricTaskInstance> tasks = null;
         
         TaskServiceConfiguration taskServiceConfiguration = CommandContextUtil.getTaskServiceConfiguration(commandContext);
@@ -181,6 +208,42 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return tasks;
     }
 
+    /**
+     * Lets the configured history query backend prefilter the process instances on the process variable conditions of this query.
+     * 
+     * @return the candidate process instance ids the query is restricted to, next to its variable conditions,
+     *         or null when the query must be executed unchanged
+     */
+    protected List<String> findRestrictedProcessInstanceIds() {
+        for (HistoricTaskInstanceQueryImpl orQueryObject : orQueryObjects) {
+            if (!orQueryObject.getQueryVariableValues().isEmpty()) {
+                return null;
+            }
+        }
+
+        Set<String> backendProcessInstanceIds = findProcessInstanceIdsInHistoryQueryBackend(true);
+        if (backendProcessInstanceIds == null) {
+            return null;
+        }
+
+        List<String> restrictedProcessInstanceIds = new ArrayList<>(backendProcessInstanceIds);
+        if (processInstanceIds != null && !processInstanceIds.isEmpty()) {
+            restrictedProcessInstanceIds.retainAll(processInstanceIds);
+        }
+        return restrictedProcessInstanceIds;
+    }
+
+    protected <T> T executeRestrictedToProcessInstances(List<String> restrictedProcessInstanceIds, Supplier<T> execution) {
+        // The variable conditions stay part of the query, the index of this engine may not have seen the latest history yet
+        List<String> originalProcessInstanceIds = processInstanceIds;
+        processInstanceIds = restrictedProcessInstanceIds;
+        try {
+            return execution.get();
+        } finally {
+            processInstanceIds = originalProcessInstanceIds;
+        }
+    }
+
     @Override
     public HistoricTaskInstanceQueryImpl processInstanceId(String processInstanceId) {
         if (inOrStatement) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -59,6 +60,16 @@ public class HistoricTaskServiceImpl extends CommonServiceImpl<TaskServiceConfig
     public List<HistoricTaskInstanceEntity> findHistoricTasksByProcessInstanceId(String processInstanceId) {
         return getHistoricTaskInstanceEntityManager().findHistoricTasksByProcessInstanceId(processInstanceId);
     }
+    
+    @Override
+    public List<String> findHistoricTaskIdsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getHistoricTaskInstanceEntityManager().findHistoricTaskIdsForProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public List<String> findHistoricTaskIdsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        return getHistoricTaskInstanceEntityManager().findHistoricTaskIdsForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 
     @Override
     public List<HistoricTaskInstance> findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
@@ -89,6 +100,16 @@ public class HistoricTaskServiceImpl extends CommonServiceImpl<TaskServiceConfig
     public void deleteHistoricTask(HistoricTaskInstanceEntity HistoricTaskInstance) {
         getHistoricTaskInstanceEntityManager().delete(HistoricTaskInstance);
     }
+    
+    @Override
+    public void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstancesForProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricTaskInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstancesForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 
     @Override
     public HistoricTaskInstanceEntity recordTaskCreated(TaskEntity task) {
@@ -194,6 +215,13 @@ public class HistoricTaskServiceImpl extends CommonServiceImpl<TaskServiceConfig
         }
     }
 
+    @Override
+    public void deleteHistoricTaskLogEntriesForTaskIds(Collection<String> taskIds) {
+        if (this.configuration.isEnableHistoricTaskLogging()) {
+            getHistoricTaskLogEntryEntityManager().deleteHistoricTaskLogEntriesForTaskIds(taskIds);
+        }
+    }
+
     @Override
     public NativeHistoricTaskLogEntryQuery createNativeHistoricTaskLogEntryQuery(CommandExecutor commandExecutor) {
         return new NativeHistoricTaskLogEntryQueryImpl(commandExecutor);
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -39,5 +40,13 @@ public interface HistoricTaskInstanceEntityManager extends EntityManager<Histori
     List<HistoricTaskInstance> findHistoricTaskInstancesByNativeQuery(Map<String, Object> parameterMap);
 
     long findHistoricTaskInstanceCountByNativeQuery(Map<String, Object> parameterMap);
+    
+    List<String> findHistoricTaskIdsForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    List<String> findHistoricTaskIdsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+    
+    void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricTaskInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -91,6 +92,26 @@ public class HistoricTaskInstanceEntityManagerImpl extends AbstractEntityManager
     public long findHistoricTaskInstanceCountByNativeQuery(Map<String, Object> parameterMap) {
         return historicTaskInstanceDataManager.findHistoricTaskInstanceCountByNativeQuery(parameterMap);
     }
+    
+    @Override
+    public List<String> findHistoricTaskIdsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        return historicTaskInstanceDataManager.findHistoricTaskIdsForProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public List<String> findHistoricTaskIdsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        return historicTaskInstanceDataManager.findHistoricTaskIdsForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+    
+    @Override
+    public void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicTaskInstanceDataManager.deleteHistoricTaskInstancesForProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricTaskInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        historicTaskInstanceDataManager.deleteHistoricTaskInstancesForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 
     public HistoricTaskInstanceDataManager getHistoricTaskInstanceDataManager() {
         return historicTaskInstanceDataManager;
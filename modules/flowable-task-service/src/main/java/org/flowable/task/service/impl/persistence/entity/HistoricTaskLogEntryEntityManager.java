@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -42,4 +43,6 @@ public interface HistoricTaskLogEntryEntityManager extends EntityManager<Histori
     void deleteHistoricTaskLogEntriesForScopeDefinition(String scopeType, String scopeDefinitionId);
 
     void deleteHistoricTaskLogEntriesForTaskId(String taskId);
+
+    void deleteHistoricTaskLogEntriesForTaskIds(Collection<String> taskIds);
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -82,6 +83,11 @@ public class HistoricTaskLogEntryEntityManagerImpl extends AbstractEntityManager
         getDataManager().deleteHistoricTaskLogEntriesByTaskId(taskId);
     }
 
+    @Override
+    public void deleteHistoricTaskLogEntriesForTaskIds(Collection<String> taskIds) {
+        getDataManager().deleteHistoricTaskLogEntriesByTaskIds(taskIds);
+    }
+
     @Override
     public void createHistoricTaskLogEntry(HistoricTaskLogEntryBuilder historicTaskLogEntryBuilder) {
         HistoricTaskLogEntryEntity historicTaskLogEntryEntity = getDataManager().create();
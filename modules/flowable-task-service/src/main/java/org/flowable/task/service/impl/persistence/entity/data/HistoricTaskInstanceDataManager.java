@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -41,5 +42,13 @@ public interface HistoricTaskInstanceDataManager extends DataManager<HistoricTas
     List<HistoricTaskInstance> findHistoricTaskInstancesByNativeQuery(Map<String, Object> parameterMap);
 
     long findHistoricTaskInstanceCountByNativeQuery(Map<String, Object> parameterMap);
+    
+    List<String> findHistoricTaskIdsForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    List<String> findHistoricTaskIdsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+    
+    void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricTaskInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 
 }
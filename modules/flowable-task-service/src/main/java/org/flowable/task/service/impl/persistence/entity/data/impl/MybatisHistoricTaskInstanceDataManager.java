@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -114,5 +115,25 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
     public long findHistoricTaskInstanceCountByNativeQuery(Map<String, Object> parameterMap) {
         return (Long) getDbSqlSession().selectOne("selectHistoricTaskInstanceCountByNativeQuery", parameterMap);
     }
+    
+    @Override
+    public List<String> findHistoricTaskIdsForProcessInstanceIds(Collection<String> processInstanceIds) {
+        return selectIdsForIds("selectHistoricTaskIdsForProcessInstanceIds", processInstanceIds, null);
+    }
+    
+    @Override
+    public List<String> findHistoricTaskIdsForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        return selectIdsForIds("selectHistoricTaskIdsForScopeIdsAndScopeType", scopeIds, scopeType);
+    }
+    
+    @Override
+    public void deleteHistoricTaskInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        bulkDeleteForIds("deleteHistoricTaskInstancesForProcessInstanceIds", processInstanceIds, null);
+    }
+    
+    @Override
+    public void deleteHistoricTaskInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        bulkDeleteForIds("deleteHistoricTaskInstancesForScopeIdsAndScopeType", scopeIds, scopeType);
+    }
 
 }
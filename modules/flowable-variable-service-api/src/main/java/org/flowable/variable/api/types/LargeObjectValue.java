@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.api.types;
+
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Handle to a variable value that is stored outside of the variable table and is only read when one of the open methods is called.
+ * 
+ * The content behind a reference is never modified: setting a new value always results in a new reference,
+ * which makes it safe for historic variables to point to the same content as the runtime variable they were copied from.
+ */
+public interface LargeObjectValue {
+
+    /**
+     * @return the reference under which the content is kept in the large object store.
+     */
+    String getReference();
+
+    /**
+     * @return the length of the content in bytes, or -1 if unknown.
+     */
+    long getLength();
+
+    /**
+     * Opens a new stream on the content. The caller is responsible for closing it.
+     */
+    InputStream openStream();
+
+    /**
+     * Opens a new channel on the content. The caller is responsible for closing it.
+     */
+    ReadableByteChannel openChannel();
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.variable.api.history.HistoricVariableInstance;
@@ -47,4 +48,8 @@ public interface HistoricVariableService {
     
     void deleteHistoricVariableInstancesByTaskId(String taskId);
     
+    void deleteHistoricVariableInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricVariableInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+    
 }
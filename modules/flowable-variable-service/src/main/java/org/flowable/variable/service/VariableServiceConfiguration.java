@@ -14,8 +14,10 @@ package org.flowable.variable.service;
 
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
 import org.flowable.variable.api.types.VariableTypes;
+import org.flowable.variable.service.history.HistoryQueryBackend;
 import org.flowable.variable.service.history.InternalHistoryVariableManager;
 import org.flowable.variable.service.impl.HistoricVariableServiceImpl;
+import org.flowable.variable.service.impl.QueryVariableProjectionResolver;
 import org.flowable.variable.service.impl.VariableServiceImpl;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntityManager;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntityManagerImpl;
@@ -59,6 +61,10 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration {
     protected VariableTypes variableTypes;
     
     protected InternalHistoryVariableManager internalHistoryVariableManager;
+
+    protected QueryVariableProjectionResolver queryVariableProjectionResolver;
+
+    protected HistoryQueryBackend historyQueryBackend;
     
     protected int maxLengthString;
     
@@ -205,6 +211,24 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public QueryVariableProjectionResolver getQueryVariableProjectionResolver() {
+        return queryVariableProjectionResolver;
+    }
+
+    public VariableServiceConfiguration setQueryVariableProjectionResolver(QueryVariableProjectionResolver queryVariableProjectionResolver) {
+        this.queryVariableProjectionResolver = queryVariableProjectionResolver;
+        return this;
+    }
+
+    public HistoryQueryBackend getHistoryQueryBackend() {
+        return historyQueryBackend;
+    }
+
+    public VariableServiceConfiguration setHistoryQueryBackend(HistoryQueryBackend historyQueryBackend) {
+        this.historyQueryBackend = historyQueryBackend;
+        return this;
+    }
+
     public int getMaxLengthString() {
         return maxLengthString;
     }
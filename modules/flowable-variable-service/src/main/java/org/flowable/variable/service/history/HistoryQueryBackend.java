@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.history;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.variable.service.impl.QueryVariableValue;
+
+/**
+ * Evaluates history queries outside of the relational history tables, e.g. against a search index.
+ * <p>
+ * The relational tables stay the source of truth: a backend only narrows a query down to a set of candidate process instance ids,
+ * after which the query, including its variable conditions, is executed against the history tables restricted to those ids.
+ */
+public interface HistoryQueryBackend {
+
+    /**
+     * Finds the process instances having historic variables that match all given conditions.
+     * 
+     * @param queryVariableValues
+     *            the initialized variable conditions of a history query
+     * @param excludeTaskVariables
+     *            whether variables that belong to a task must be ignored
+     * @return the ids of the matching process instances, or null when this backend can't evaluate one of the conditions, in which case the
+     *         query is executed against the history tables
+     */
+    Set<String> findProcessInstanceIds(List<QueryVariableValue> queryVariableValues, boolean excludeTaskVariables);
+
+    /**
+     * Full text search on the names, business keys and text variable values of historic process instances.
+     * 
+     * @return the ids of the process instances matching all words of the given text
+     * @throws org.flowable.common.engine.api.FlowableException
+     *             when the backend can't currently give a complete answer
+     */
+    Set<String> searchProcessInstanceIds(String text);
+
+    /**
+     * @param field
+     *            the process instance field to count the values of, e.g. the process definition key
+     * @return the number of historic process instances per value of the field
+     * @throws org.flowable.common.engine.api.FlowableException
+     *             when the backend can't currently give a complete answer
+     */
+    Map<String, Long> getProcessInstanceFacetCounts(String field);
+
+}
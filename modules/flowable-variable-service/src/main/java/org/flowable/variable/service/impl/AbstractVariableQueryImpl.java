@@ -15,6 +15,7 @@ package org.flowable.variable.service.impl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.Query;
@@ -22,6 +23,7 @@ import org.flowable.common.engine.impl.AbstractQuery;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.variable.api.types.VariableTypes;
+import org.flowable.variable.service.history.HistoryQueryBackend;
 import org.flowable.variable.service.impl.util.CommandContextUtil;
 
 /**
@@ -236,6 +238,41 @@ public abstract class AbstractVariableQueryImpl<T extends Query<?, ?>, U> extend
         }
     }
 
+    /**
+     * Marks the variable conditions that can be evaluated against the searchable variable projection of the given definition.
+     */
+    protected void resolveProjectedVariables(String definitionId, String definitionKey) {
+        if (!queryVariableValues.isEmpty()) {
+            QueryVariableProjectionResolver projectionResolver = CommandContextUtil.getVariableServiceConfiguration().getQueryVariableProjectionResolver();
+            if (projectionResolver != null) {
+                projectionResolver.resolveProjectedVariables(definitionId, definitionKey, queryVariableValues);
+            }
+        }
+    }
+
+    /**
+     * Asks the configured {@link HistoryQueryBackend} for the process instances matching the variable conditions of this query.
+     * 
+     * @return null when no backend is configured or when the conditions can't be evaluated by it
+     */
+    protected Set<String> findProcessInstanceIdsInHistoryQueryBackend(boolean excludeTaskVariables) {
+        if (queryVariableValues.isEmpty()) {
+            return null;
+        }
+
+        HistoryQueryBackend historyQueryBackend = CommandContextUtil.getVariableServiceConfiguration().getHistoryQueryBackend();
+        if (historyQueryBackend == null) {
+            return null;
+        }
+
+        for (QueryVariableValue queryVariableValue : queryVariableValues) {
+            if (queryVariableValue.isLocal()) {
+                return null;
+            }
+        }
+        return historyQueryBackend.findProcessInstanceIds(queryVariableValues, excludeTaskVariables);
+    }
+
     public List<QueryVariableValue> getQueryVariableValues() {
         return queryVariableValues;
     }
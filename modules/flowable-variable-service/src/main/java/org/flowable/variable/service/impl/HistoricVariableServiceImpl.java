@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.context.Context;
@@ -105,6 +106,16 @@ public class HistoricVariableServiceImpl extends CommonServiceImpl<VariableServi
     public void deleteHistoricVariableInstancesByTaskId(String taskId) {
         getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesByTaskId(taskId);
     }
+    
+    @Override
+    public void deleteHistoricVariableInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesForProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public void deleteHistoricVariableInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
 
     public HistoricVariableInstanceEntityManager getHistoricVariableInstanceEntityManager() {
         return configuration.getHistoricVariableInstanceEntityManager();
@@ -0,0 +1,30 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl;
+
+import java.util.List;
+
+/**
+ * Decides which variable conditions of a query can be evaluated against a typed, indexed projection of the variables
+ * instead of the generic variable table. Implementations mark those conditions through {@link QueryVariableValue#setProjected(boolean)}.
+ */
+public interface QueryVariableProjectionResolver {
+
+    /**
+     * @param definitionId the definition id the query is restricted to, or null
+     * @param definitionKey the definition key the query is restricted to, or null
+     * @param queryVariableValues the initialized variable conditions of the query
+     */
+    void resolveProjectedVariables(String definitionId, String definitionKey, List<QueryVariableValue> queryVariableValues);
+
+}
@@ -37,6 +37,7 @@ public class QueryVariableValue implements Serializable {
 
     private VariableInstanceEntity variableInstanceEntity;
     private boolean local;
+    private boolean projected;
 
     public QueryVariableValue(String name, Object value, QueryOperator operator, boolean local) {
         this.name = name;
@@ -110,4 +111,15 @@ public class QueryVariableValue implements Serializable {
     public boolean isLocal() {
         return local;
     }
+
+    /**
+     * Whether this condition can be evaluated against the searchable variable projection instead of the generic variable table.
+     */
+    public boolean isProjected() {
+        return projected;
+    }
+
+    public void setProjected(boolean projected) {
+        this.projected = projected;
+    }
 }
\ No newline at end of file
@@ -17,9 +17,12 @@ import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.api.types.VariableTypes;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.event.impl.FlowableVariableEventBuilder;
 import org.flowable.variable.service.impl.persistence.AbstractManager;
+import org.flowable.variable.service.impl.types.LargeObjectType;
 
 /**
  * @author Joram Barrez
@@ -105,5 +108,19 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
         }
     }
 
+    /**
+     * @return the registered large object variable type, or null if large objects aren't used.
+     */
+    protected LargeObjectType getLargeObjectType() {
+        VariableTypes variableTypes = getVariableServiceConfiguration().getVariableTypes();
+        if (variableTypes != null) {
+            VariableType variableType = variableTypes.getVariableType(LargeObjectType.TYPE_NAME);
+            if (variableType instanceof LargeObjectType) {
+                return (LargeObjectType) variableType;
+            }
+        }
+        return null;
+    }
+
     protected abstract DataManager<EntityImpl> getDataManager();
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -45,5 +46,15 @@ public interface HistoricVariableInstanceEntityManager extends EntityManager<His
     void deleteHistoricVariableInstancesByTaskId(String taskId);
 
     void deleteHistoricVariableInstanceByProcessInstanceId(String historicProcessInstanceId);
+    
+    /**
+     * Deletes the historic variables, including their byte arrays, of all the given process instances using set-based deletes.
+     */
+    void deleteHistoricVariableInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    /**
+     * Deletes the historic variables, including their byte arrays, of all the given scopes using set-based deletes.
+     */
+    void deleteHistoricVariableInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 
 }
\ No newline at end of file
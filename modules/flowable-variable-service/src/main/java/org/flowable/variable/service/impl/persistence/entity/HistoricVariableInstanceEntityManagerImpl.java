@@ -13,6 +13,7 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +24,7 @@ import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
 import org.flowable.variable.service.impl.persistence.entity.data.HistoricVariableInstanceDataManager;
+import org.flowable.variable.service.impl.types.LargeObjectType;
 
 /**
  * @author Christian Lipphardt (camunda)
@@ -89,6 +91,11 @@ public class HistoricVariableInstanceEntityManagerImpl extends AbstractEntityMan
         if (entity.getByteArrayRef() != null) {
             entity.getByteArrayRef().delete();
         }
+
+        LargeObjectType largeObjectType = getLargeObjectType();
+        if (largeObjectType != null && LargeObjectType.TYPE_NAME.equals(entity.getVariableTypeName())) {
+            largeObjectType.releaseReference(entity.getTextValue(), true);
+        }
     }
 
     @Override
@@ -136,6 +143,30 @@ public class HistoricVariableInstanceEntityManagerImpl extends AbstractEntityMan
         }
     }
 
+    @Override
+    public void deleteHistoricVariableInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        LargeObjectType largeObjectType = getLargeObjectType();
+        if (largeObjectType != null) {
+            releaseLargeObjectReferences(historicVariableInstanceDataManager.findLargeObjectReferencesForProcessInstanceIds(processInstanceIds), largeObjectType);
+        }
+        historicVariableInstanceDataManager.deleteHistoricVariableInstancesForProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteHistoricVariableInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        LargeObjectType largeObjectType = getLargeObjectType();
+        if (largeObjectType != null) {
+            releaseLargeObjectReferences(historicVariableInstanceDataManager.findLargeObjectReferencesForScopeIdsAndScopeType(scopeIds, scopeType), largeObjectType);
+        }
+        historicVariableInstanceDataManager.deleteHistoricVariableInstancesForScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+
+    protected void releaseLargeObjectReferences(List<String> references, LargeObjectType largeObjectType) {
+        for (String reference : references) {
+            largeObjectType.releaseReference(reference, true);
+        }
+    }
+
     @Override
     public List<HistoricVariableInstance> findHistoricVariableInstancesByNativeQuery(Map<String, Object> parameterMap) {
         return historicVariableInstanceDataManager.findHistoricVariableInstancesByNativeQuery(parameterMap);
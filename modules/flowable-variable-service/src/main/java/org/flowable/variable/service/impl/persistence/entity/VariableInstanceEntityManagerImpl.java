@@ -21,6 +21,7 @@ import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.persistence.entity.data.VariableInstanceDataManager;
+import org.flowable.variable.service.impl.types.LargeObjectType;
 
 /**
  * @author Tom Baeyens
@@ -128,24 +129,49 @@ public class VariableInstanceEntityManagerImpl extends AbstractEntityManager<Var
         if (byteArrayRef != null) {
             byteArrayRef.delete();
         }
+        releaseLargeObjectReference(entity, getLargeObjectType());
         entity.setDeleted(true);
     }
 
     @Override
     public void deleteVariablesByTaskId(String taskId) {
+        LargeObjectType largeObjectType = getLargeObjectType();
+        if (largeObjectType != null) {
+            releaseLargeObjectReferences(variableInstanceDataManager.findVariableInstancesByTaskId(taskId), largeObjectType);
+        }
         variableInstanceDataManager.deleteVariablesByTaskId(taskId);
     }
     
     @Override
     public void deleteVariablesByExecutionId(String executionId) {
+        LargeObjectType largeObjectType = getLargeObjectType();
+        if (largeObjectType != null) {
+            releaseLargeObjectReferences(variableInstanceDataManager.findVariableInstancesByExecutionId(executionId), largeObjectType);
+        }
         variableInstanceDataManager.deleteVariablesByExecutionId(executionId);
     }
     
     @Override
     public void deleteByScopeIdAndScopeType(String scopeId, String scopeType) {
+        LargeObjectType largeObjectType = getLargeObjectType();
+        if (largeObjectType != null) {
+            releaseLargeObjectReferences(variableInstanceDataManager.findVariableInstanceByScopeIdAndScopeType(scopeId, scopeType), largeObjectType);
+        }
         variableInstanceDataManager.deleteByScopeIdAndScopeType(scopeId, scopeType);
     }
 
+    protected void releaseLargeObjectReferences(List<VariableInstanceEntity> variableInstances, LargeObjectType largeObjectType) {
+        for (VariableInstanceEntity variableInstance : variableInstances) {
+            releaseLargeObjectReference(variableInstance, largeObjectType);
+        }
+    }
+
+    protected void releaseLargeObjectReference(VariableInstanceEntity variableInstance, LargeObjectType largeObjectType) {
+        if (largeObjectType != null && LargeObjectType.TYPE_NAME.equals(variableInstance.getTypeName())) {
+            largeObjectType.releaseReference(variableInstance.getTextValue(), false);
+        }
+    }
+
     public VariableInstanceDataManager getVariableInstanceDataManager() {
         return variableInstanceDataManager;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -42,5 +43,13 @@ public interface HistoricVariableInstanceDataManager extends DataManager<Histori
     List<HistoricVariableInstance> findHistoricVariableInstancesByNativeQuery(Map<String, Object> parameterMap);
 
     long findHistoricVariableInstanceCountByNativeQuery(Map<String, Object> parameterMap);
+    
+    void deleteHistoricVariableInstancesForProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteHistoricVariableInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+
+    List<String> findLargeObjectReferencesForProcessInstanceIds(Collection<String> processInstanceIds);
+
+    List<String> findLargeObjectReferencesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
 
 }
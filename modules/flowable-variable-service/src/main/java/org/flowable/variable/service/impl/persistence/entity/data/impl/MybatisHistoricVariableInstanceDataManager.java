@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +23,7 @@ import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntityImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayEntityImpl;
 import org.flowable.variable.service.impl.persistence.entity.data.HistoricVariableInstanceDataManager;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.HistoricVariableInstanceByProcInstMatcher;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.HistoricVariableInstanceByScopeIdAndScopeTypeMatcher;
@@ -112,5 +114,29 @@ public class MybatisHistoricVariableInstanceDataManager extends AbstractDataMana
     public long findHistoricVariableInstanceCountByNativeQuery(Map<String, Object> parameterMap) {
         return (Long) getDbSqlSession().selectOne("selectHistoricVariableInstanceCountByNativeQuery", parameterMap);
     }
+    
+    @Override
+    public void deleteHistoricVariableInstancesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        List<String> byteArrayIds = selectIdsForIds("selectHistoricVariableByteArrayIdsForProcessInstanceIds", processInstanceIds, null);
+        bulkDeleteForIds("deleteVariableByteArraysForIds", byteArrayIds, null, VariableByteArrayEntityImpl.class);
+        bulkDeleteForIds("deleteHistoricVariableInstancesForProcessInstanceIds", processInstanceIds, null);
+    }
+    
+    @Override
+    public void deleteHistoricVariableInstancesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        List<String> byteArrayIds = selectIdsForIds("selectHistoricVariableByteArrayIdsForScopeIdsAndScopeType", scopeIds, scopeType);
+        bulkDeleteForIds("deleteVariableByteArraysForIds", byteArrayIds, null, VariableByteArrayEntityImpl.class);
+        bulkDeleteForIds("deleteHistoricVariableInstancesForScopeIdsAndScopeType", scopeIds, scopeType);
+    }
+
+    @Override
+    public List<String> findLargeObjectReferencesForProcessInstanceIds(Collection<String> processInstanceIds) {
+        return selectIdsForIds("selectHistoricVariableLargeObjectReferencesForProcessInstanceIds", processInstanceIds, null);
+    }
+
+    @Override
+    public List<String> findLargeObjectReferencesForScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        return selectIdsForIds("selectHistoricVariableLargeObjectReferencesForScopeIdsAndScopeType", scopeIds, scopeType);
+    }
 
 }
@@ -0,0 +1,143 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+
+/**
+ * {@link LargeObjectStore} that keeps every value in its own file below a base directory.
+ * Content is copied in chunks of {@link #getChunkSize()} bytes, so a value is never held in memory as a whole.
+ */
+public class FileSystemLargeObjectStore implements LargeObjectStore {
+
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    protected final Path baseDirectory;
+    protected int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    public FileSystemLargeObjectStore(Path baseDirectory) {
+        if (baseDirectory == null) {
+            throw new FlowableIllegalArgumentException("baseDirectory is null");
+        }
+        this.baseDirectory = baseDirectory;
+    }
+
+    @Override
+    public String store(InputStream inputStream) {
+        String reference = UUID.randomUUID().toString();
+        Path target = resolve(reference);
+        Path temporary = target.resolveSibling(reference + ".tmp");
+        try {
+            Files.createDirectories(target.getParent());
+            try (OutputStream outputStream = Files.newOutputStream(temporary, StandardOpenOption.CREATE_NEW)) {
+                byte[] buffer = new byte[chunkSize];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, read);
+                }
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+            return reference;
+
+        } catch (IOException e) {
+            deleteSilently(temporary);
+            throw new FlowableException("Could not store large object " + reference, e);
+        }
+    }
+
+    @Override
+    public InputStream openStream(String reference) {
+        try {
+            return Files.newInputStream(existing(reference));
+        } catch (IOException e) {
+            throw new FlowableException("Could not open large object " + reference, e);
+        }
+    }
+
+    @Override
+    public ReadableByteChannel openChannel(String reference) {
+        try {
+            return FileChannel.open(existing(reference), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new FlowableException("Could not open large object " + reference, e);
+        }
+    }
+
+    @Override
+    public long getLength(String reference) {
+        try {
+            return Files.size(existing(reference));
+        } catch (IOException e) {
+            throw new FlowableException("Could not determine length of large object " + reference, e);
+        }
+    }
+
+    @Override
+    public void delete(String reference) {
+        try {
+            Files.deleteIfExists(resolve(reference));
+        } catch (IOException e) {
+            throw new FlowableException("Could not delete large object " + reference, e);
+        }
+    }
+
+    protected Path existing(String reference) {
+        Path path = resolve(reference);
+        if (!Files.exists(path)) {
+            throw new FlowableObjectNotFoundException("No large object found for reference " + reference);
+        }
+        return path;
+    }
+
+    protected Path resolve(String reference) {
+        if (reference == null || reference.length() < 2 || reference.contains("/") || reference.contains("\\") || reference.contains("..")) {
+            throw new FlowableIllegalArgumentException("Invalid large object reference " + reference);
+        }
+        // spread the files over sub directories to keep directory sizes reasonable
+        return baseDirectory.resolve(reference.substring(0, 2)).resolve(reference);
+    }
+
+    protected void deleteSilently(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // ignore, the original exception is more relevant
+        }
+    }
+
+    public Path getBaseDirectory() {
+        return baseDirectory;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+}
@@ -0,0 +1,128 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track, for one transaction, of the content that was written to a {@link LargeObjectStore} and of the references
+ * that are no longer used by a variable, and removes the content from the store when it isn't needed anymore:
+ * 
+ * <ul>
+ * <li>when the transaction is rolled back, all content written in the transaction is removed;</li>
+ * <li>when the transaction commits, content that was written or released in the transaction and that is not referenced anymore
+ * by any row (checked with the {@link LargeObjectType#getReferenceInUseStatements()}) is removed after the commit.</li>
+ * </ul>
+ */
+public class LargeObjectReferenceTracker {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LargeObjectReferenceTracker.class);
+
+    protected static final String ATTRIBUTE_PREFIX = LargeObjectReferenceTracker.class.getName() + ".";
+
+    protected final LargeObjectType largeObjectType;
+    protected final Set<String> storedReferences = new LinkedHashSet<>();
+    protected final Set<String> releasedReferences = new LinkedHashSet<>();
+    protected final List<String> unreferencedReferences = new ArrayList<>();
+
+    public LargeObjectReferenceTracker(LargeObjectType largeObjectType) {
+        this.largeObjectType = largeObjectType;
+    }
+
+    /**
+     * @return the tracker for the given type in the current transaction, or null when there is no transaction context.
+     */
+    public static LargeObjectReferenceTracker getCurrent(LargeObjectType largeObjectType) {
+        CommandContext commandContext = Context.getCommandContext();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (commandContext == null || transactionContext == null) {
+            return null;
+        }
+
+        String attributeName = ATTRIBUTE_PREFIX + System.identityHashCode(largeObjectType);
+        LargeObjectReferenceTracker tracker = (LargeObjectReferenceTracker) commandContext.getAttribute(attributeName);
+        if (tracker == null) {
+            tracker = new LargeObjectReferenceTracker(largeObjectType);
+            commandContext.addAttribute(attributeName, tracker);
+
+            LargeObjectReferenceTracker transactionTracker = tracker;
+            transactionContext.addTransactionListener(TransactionState.COMMITTING, transactionTracker::collectUnreferencedReferences);
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, context -> transactionTracker.deleteFromStore(transactionTracker.unreferencedReferences));
+            transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, context -> transactionTracker.deleteFromStore(transactionTracker.storedReferences));
+        }
+        return tracker;
+    }
+
+    public void stored(String reference) {
+        storedReferences.add(reference);
+    }
+
+    public void released(String reference) {
+        releasedReferences.add(reference);
+    }
+
+    protected void collectUnreferencedReferences(CommandContext commandContext) {
+        Set<String> candidates = new LinkedHashSet<>(storedReferences);
+        candidates.addAll(releasedReferences);
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        DbSqlSession dbSqlSession = commandContext.getSession(DbSqlSession.class);
+        for (String statement : largeObjectType.getReferenceInUseStatements()) {
+            candidates.removeAll(selectReferencesInUse(dbSqlSession, statement, candidates));
+            if (candidates.isEmpty()) {
+                return;
+            }
+        }
+        unreferencedReferences.addAll(candidates);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<String> selectReferencesInUse(DbSqlSession dbSqlSession, String statement, Collection<String> references) {
+        List<String> referencesInUse = new ArrayList<>();
+        for (List<String> partition : CollectionUtil.partition(references, 500)) {
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put("ids", partition);
+            parameters.put("typeName", LargeObjectType.TYPE_NAME);
+            referencesInUse.addAll(dbSqlSession.selectListWithRawParameterNoCacheCheck(statement, parameters));
+        }
+        return referencesInUse;
+    }
+
+    protected void deleteFromStore(Collection<String> references) {
+        for (String reference : references) {
+            try {
+                largeObjectType.getLargeObjectStore().delete(reference);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Could not delete large object {} from the store", reference, e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Storage for the content of {@link LargeObjectType} variables.
+ * 
+ * Implementations must treat stored content as immutable: {@link #store(InputStream)} always returns a new reference.
+ */
+public interface LargeObjectStore {
+
+    /**
+     * Reads the given stream until its end and stores the content.
+     * 
+     * @return the reference of the newly stored content
+     */
+    String store(InputStream inputStream);
+
+    InputStream openStream(String reference);
+
+    ReadableByteChannel openChannel(String reference);
+
+    /**
+     * @return the length in bytes of the content behind the reference, or -1 if unknown.
+     */
+    long getLength(String reference);
+
+    void delete(String reference);
+
+}
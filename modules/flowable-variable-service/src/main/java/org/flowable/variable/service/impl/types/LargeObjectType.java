@@ -0,0 +1,145 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.flowable.variable.api.types.LargeObjectValue;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+
+/**
+ * Variable type for large binary content. Only the reference to the content in the {@link LargeObjectStore} is kept
+ * in the variable (text value) together with its length (long value), so the content never ends up in the entity cache.
+ * 
+ * Values can be set as an {@link InputStream}, which is read and stored immediately, or as an existing {@link LargeObjectValue},
+ * in which case the reference is shared. Reading the variable returns a {@link LargeObjectValue} that opens the content lazily.
+ * 
+ * Content that is written in a transaction that is rolled back, or that is not referenced by any row anymore once the variable
+ * or its history is updated or deleted, is removed from the store (see {@link LargeObjectReferenceTracker}).
+ */
+public class LargeObjectType implements VariableType {
+
+    public static final String TYPE_NAME = "largeObject";
+
+    protected LargeObjectStore largeObjectStore;
+
+    /**
+     * The statements that return which of the given references (parameter 'ids') are still used by a row.
+     */
+    protected List<String> referenceInUseStatements = new ArrayList<>(Arrays.asList(
+            "selectVariableInstanceLargeObjectReferencesInUse", "selectHistoricVariableInstanceLargeObjectReferencesInUse"));
+
+    /**
+     * When the history is written asynchronously, the historic rows don't exist yet when the runtime variable releases its reference.
+     * Content released by runtime variables is then kept, and only removed when the historic variable is deleted.
+     */
+    protected boolean keepReleasedRuntimeReferences;
+
+    public LargeObjectType(LargeObjectStore largeObjectStore) {
+        this.largeObjectStore = largeObjectStore;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public boolean isCachable() {
+        return false;
+    }
+
+    @Override
+    public boolean isAbleToStore(Object value) {
+        return value instanceof InputStream || value instanceof LargeObjectValue;
+    }
+
+    @Override
+    public void setValue(Object value, ValueFields valueFields) {
+        String previousReference = valueFields.getTextValue();
+        String reference = null;
+        Long length = null;
+        if (value instanceof LargeObjectValue) {
+            // stored content is immutable, so the reference can be shared
+            LargeObjectValue largeObjectValue = (LargeObjectValue) value;
+            reference = largeObjectValue.getReference();
+            length = largeObjectValue.getLength();
+
+        } else if (value != null) {
+            reference = largeObjectStore.store((InputStream) value);
+            length = largeObjectStore.getLength(reference);
+
+            LargeObjectReferenceTracker tracker = LargeObjectReferenceTracker.getCurrent(this);
+            if (tracker != null) {
+                tracker.stored(reference);
+            }
+        }
+
+        if (previousReference != null && !previousReference.equals(reference)) {
+            releaseReference(previousReference, false);
+        }
+
+        valueFields.setTextValue(reference);
+        valueFields.setLongValue(length);
+    }
+
+    /**
+     * Signals that a row no longer uses the given reference, because it is updated or deleted.
+     * The content is removed from the store after the transaction commits, if no other row uses it anymore.
+     */
+    public void releaseReference(String reference, boolean historic) {
+        if (reference == null || (!historic && keepReleasedRuntimeReferences)) {
+            return;
+        }
+
+        LargeObjectReferenceTracker tracker = LargeObjectReferenceTracker.getCurrent(this);
+        if (tracker != null) {
+            tracker.released(reference);
+        }
+    }
+
+    @Override
+    public Object getValue(ValueFields valueFields) {
+        String reference = valueFields.getTextValue();
+        if (reference == null) {
+            return null;
+        }
+        Long length = valueFields.getLongValue();
+        return new LargeObjectValueImpl(largeObjectStore, reference, length != null ? length : -1L);
+    }
+
+    public LargeObjectStore getLargeObjectStore() {
+        return largeObjectStore;
+    }
+
+    public List<String> getReferenceInUseStatements() {
+        return referenceInUseStatements;
+    }
+
+    public void setReferenceInUseStatements(List<String> referenceInUseStatements) {
+        this.referenceInUseStatements = referenceInUseStatements;
+    }
+
+    public boolean isKeepReleasedRuntimeReferences() {
+        return keepReleasedRuntimeReferences;
+    }
+
+    public void setKeepReleasedRuntimeReferences(boolean keepReleasedRuntimeReferences) {
+        this.keepReleasedRuntimeReferences = keepReleasedRuntimeReferences;
+    }
+
+}
@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+
+import org.flowable.variable.api.types.LargeObjectValue;
+
+public class LargeObjectValueImpl implements LargeObjectValue {
+
+    protected final LargeObjectStore largeObjectStore;
+    protected final String reference;
+    protected final long length;
+
+    public LargeObjectValueImpl(LargeObjectStore largeObjectStore, String reference, long length) {
+        this.largeObjectStore = largeObjectStore;
+        this.reference = reference;
+        this.length = length;
+    }
+
+    @Override
+    public String getReference() {
+        return reference;
+    }
+
+    @Override
+    public long getLength() {
+        return length;
+    }
+
+    @Override
+    public InputStream openStream() {
+        return largeObjectStore.openStream(reference);
+    }
+
+    @Override
+    public ReadableByteChannel openChannel() {
+        return largeObjectStore.openChannel(reference);
+    }
+
+    @Override
+    public String toString() {
+        return "LargeObjectValue[reference=" + reference + ", length=" + length + "]";
+    }
+}